@@ -0,0 +1,47 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger.benchmarks;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**************************************************************
+ * Runs the benchmarks with the GC profiler so that the allocation rate
+ * (gc.alloc.rate.norm) is reported next to ops/s.
+ * With no arguments only the end to end benchmark of Utils.runChemicalTagger is run,
+ * otherwise the arguments are regular expressions selecting the benchmarks, e.g.
+ * "PipelineStageBenchmarks.postProcessTags" or ".*" for all of them.
+ * For the full set of JMH options use java -jar benchmarks.jar instead.
+ ***************************************************************/
+public final class BenchmarkRunner {
+
+	private BenchmarkRunner() {
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		ChainedOptionsBuilder options = new OptionsBuilder().addProfiler(GCProfiler.class);
+		if (args.length == 0) {
+			options.include(EndToEndBenchmark.class.getName());
+		}
+		for (String include : args) {
+			options.include(include);
+		}
+		new Runner(options.build()).run();
+	}
+}
@@ -0,0 +1,48 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.ac.cam.ch.wwmm.chemicaltagger.Utils;
+
+/**************************************************************
+ * Benchmarks Utils.runChemicalTagger, i.e. the whole pipeline from text to XML.
+ * One operation processes all of the fullParseTest paragraphs.
+ ***************************************************************/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx1024m"})
+public class EndToEndBenchmark {
+
+	@Benchmark
+	public void runChemicalTagger(PipelineState state, Blackhole blackhole) {
+		for (String paragraph : state.paragraphs) {
+			blackhole.consume(Utils.runChemicalTagger(paragraph));
+		}
+	}
+}
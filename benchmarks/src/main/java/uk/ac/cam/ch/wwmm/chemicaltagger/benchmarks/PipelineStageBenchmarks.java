@@ -0,0 +1,145 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import nu.xom.Document;
+import nu.xom.Element;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import uk.ac.cam.ch.wwmm.chemicaltagger.ASTtoXML;
+import uk.ac.cam.ch.wwmm.chemicaltagger.ChemistrySentenceParser;
+import uk.ac.cam.ch.wwmm.chemicaltagger.Formatter;
+import uk.ac.cam.ch.wwmm.chemicaltagger.OscarTokeniser;
+import uk.ac.cam.ch.wwmm.chemicaltagger.POSContainer;
+import uk.ac.cam.ch.wwmm.chemicaltagger.PostProcessTags;
+import uk.ac.cam.ch.wwmm.chemicaltagger.PostProcessTrees;
+import uk.ac.cam.ch.wwmm.chemicaltagger.RecombineTokens;
+import uk.ac.cam.ch.wwmm.oscar.document.Token;
+
+/**************************************************************
+ * Benchmarks each stage of the pipeline apart from the taggers,
+ * which are in {@link TaggerBenchmarks}.
+ * One operation runs the stage over all of the fullParseTest paragraphs.
+ ***************************************************************/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx1024m"})
+public class PipelineStageBenchmarks {
+
+	/**************************************************************
+	 * Fresh copies of the inputs of the stages that modify their input.
+	 * Invocation level setup is only acceptable because an operation takes milliseconds.
+	 ***************************************************************/
+	@State(Scope.Thread)
+	public static class MutableInputs {
+		List<POSContainer> combinedContainers = new ArrayList<POSContainer>();
+		List<POSContainer> recombinedContainers = new ArrayList<POSContainer>();
+		List<Document> unprocessedDocuments = new ArrayList<Document>();
+
+		@Setup(Level.Invocation)
+		public void setUp(PipelineState state) {
+			combinedContainers.clear();
+			recombinedContainers.clear();
+			unprocessedDocuments.clear();
+			for (int i = 0; i < PipelineState.PARAGRAPH_COUNT; i++) {
+				combinedContainers.add(state.createCombinedContainer(i));
+				recombinedContainers.add(state.createRecombinedContainer(i));
+				unprocessedDocuments.add((Document) state.unprocessedDocuments.get(i).copy());
+			}
+		}
+	}
+
+	private final OscarTokeniser tokeniser = new OscarTokeniser();
+	private final ASTtoXML astToXML = new ASTtoXML();
+
+	@Benchmark
+	public void normaliseText(PipelineState state, Blackhole blackhole) {
+		for (String paragraph : state.paragraphs) {
+			blackhole.consume(Formatter.normaliseText(paragraph));
+		}
+	}
+
+	@Benchmark
+	public void tokenise(PipelineState state, Blackhole blackhole) {
+		for (String paragraph : state.normalisedParagraphs) {
+			blackhole.consume(tokeniser.tokenise(paragraph));
+		}
+	}
+
+	@Benchmark
+	public void subTokeniseTokens(PipelineState state, Blackhole blackhole) {
+		for (List<Token> tokens : state.tokenLists) {
+			//subTokeniseTokens returns a new list and does not modify the tokens
+			blackhole.consume(Formatter.subTokeniseTokens(tokens));
+		}
+	}
+
+	@Benchmark
+	public void recombineTokens(MutableInputs inputs, Blackhole blackhole) {
+		for (POSContainer posContainer : inputs.combinedContainers) {
+			blackhole.consume(RecombineTokens.recombineTokens(posContainer));
+		}
+	}
+
+	@Benchmark
+	public void postProcessTags(MutableInputs inputs, Blackhole blackhole) {
+		for (POSContainer posContainer : inputs.recombinedContainers) {
+			new PostProcessTags(posContainer).correctCombinedTagsList();
+			blackhole.consume(posContainer.getCombinedTagsList());
+		}
+	}
+
+	@Benchmark
+	public void parseTags(PipelineState state, Blackhole blackhole) {
+		for (POSContainer posContainer : state.taggedContainers) {
+			ChemistrySentenceParser parser = new ChemistrySentenceParser(posContainer);
+			parser.parseTags();
+			blackhole.consume(parser.getParseTree());
+		}
+	}
+
+	@Benchmark
+	public void getNodes(PipelineState state, Blackhole blackhole) {
+		for (int i = 0; i < state.parseTrees.size(); i++) {
+			blackhole.consume(astToXML.getNodes(state.parseTrees.get(i), new Element("Document")));
+		}
+	}
+
+	@Benchmark
+	public void postProcessTrees(MutableInputs inputs, Blackhole blackhole) {
+		for (Document document : inputs.unprocessedDocuments) {
+			blackhole.consume(new PostProcessTrees().process(document));
+		}
+	}
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nu.xom.Document;
+
+import org.antlr.v4.runtime.tree.Tree;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import uk.ac.cam.ch.wwmm.chemicaltagger.ChemistryPOSTagger;
+import uk.ac.cam.ch.wwmm.chemicaltagger.ChemistrySentenceParser;
+import uk.ac.cam.ch.wwmm.chemicaltagger.Formatter;
+import uk.ac.cam.ch.wwmm.chemicaltagger.POSContainer;
+import uk.ac.cam.ch.wwmm.chemicaltagger.RecombineTokens;
+import uk.ac.cam.ch.wwmm.chemicaltagger.TagList;
+import uk.ac.cam.ch.wwmm.chemicaltagger.Tagger;
+import uk.ac.cam.ch.wwmm.chemicaltagger.Utils;
+import uk.ac.cam.ch.wwmm.oscar.document.Token;
+
+/**************************************************************
+ * The fixtures for the benchmarks: the paragraphs in fullParseTest
+ * together with the input each stage of the pipeline receives for them.
+ * Every benchmark processes all of the paragraphs in one operation.
+ ***************************************************************/
+@State(Scope.Benchmark)
+public class PipelineState {
+
+	static final int PARAGRAPH_COUNT = 16;
+
+	ChemistryPOSTagger posTagger;
+	List<String> paragraphs = new ArrayList<String>();
+	List<String> normalisedParagraphs = new ArrayList<String>();
+	List<List<Token>> tokenLists = new ArrayList<List<Token>>();
+	List<List<Token>> subTokenisedTokenLists = new ArrayList<List<Token>>();
+	List<TagList> combinedTagLists = new ArrayList<TagList>();
+	List<POSContainer> recombinedContainers = new ArrayList<POSContainer>();
+	List<POSContainer> taggedContainers = new ArrayList<POSContainer>();
+	List<Tree> parseTrees = new ArrayList<Tree>();
+	List<Document> unprocessedDocuments = new ArrayList<Document>();
+
+	@Setup
+	public void setUp() {
+		posTagger = ChemistryPOSTagger.getDefaultInstance();
+		for (int i = 1; i <= PARAGRAPH_COUNT; i++) {
+			String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph" + i + ".txt");
+			paragraphs.add(paragraph);
+			String normalised = Formatter.normaliseText(paragraph);
+			normalisedParagraphs.add(normalised);
+			List<Token> tokens = posTagger.getCTTokeniser().tokenise(normalised);
+			tokenLists.add(tokens);
+			List<Token> subTokenised = Formatter.subTokeniseTokens(tokens);
+			subTokenisedTokenLists.add(subTokenised);
+
+			POSContainer combined = new POSContainer();
+			combined.setInputText(normalised);
+			combined.setWordTokenList(copyTokens(subTokenised));
+			for (Tagger tagger : posTagger.getTaggersOrderedInDescendingPriority()) {
+				combined.registerTagList(tagger.runTagger(subTokenised, normalised));
+			}
+			combined.combineTaggers();
+			combinedTagLists.add(new TagList(combined.getCombinedTagsList()));
+			recombinedContainers.add(RecombineTokens.recombineTokens(combined));
+
+			POSContainer tagged = posTagger.runTaggers(paragraph);
+			taggedContainers.add(tagged);
+			ChemistrySentenceParser parser = new ChemistrySentenceParser(tagged);
+			parser.parseTags();
+			parseTrees.add(parser.getParseTree());
+			unprocessedDocuments.add(parser.makeXMLDocument(false));
+		}
+	}
+
+	/**************************************
+	 * Returns a new POSContainer holding the combined output of the taggers
+	 * for a paragraph, i.e. the input of RecombineTokens.
+	 * @param index (int)
+	 * @return posContainer (POSContainer)
+	 ***************************************/
+	POSContainer createCombinedContainer(int index) {
+		POSContainer posContainer = new POSContainer();
+		posContainer.setInputText(normalisedParagraphs.get(index));
+		posContainer.setWordTokenList(copyTokens(subTokenisedTokenLists.get(index)));
+		posContainer.setCombinedTagsList(new TagList(combinedTagLists.get(index)));
+		return posContainer;
+	}
+
+	/**************************************
+	 * Returns a new POSContainer holding the recombined tokens for a paragraph,
+	 * i.e. the input of PostProcessTags.
+	 * @param index (int)
+	 * @return posContainer (POSContainer)
+	 ***************************************/
+	POSContainer createRecombinedContainer(int index) {
+		POSContainer recombined = recombinedContainers.get(index);
+		POSContainer posContainer = new POSContainer();
+		posContainer.setInputText(recombined.getInputText());
+		posContainer.setWordTokenList(copyTokens(recombined.getWordTokenList()));
+		posContainer.setCombinedTagsList(new TagList(recombined.getCombinedTagsList()));
+		return posContainer;
+	}
+
+	/**************************************
+	 * Copies the tokens as well as the list, as PostProcessTags
+	 * changes the surface of tokens in place.
+	 * @param tokens (List<Token>)
+	 * @return copies (List<Token>)
+	 ***************************************/
+	static List<Token> copyTokens(List<Token> tokens) {
+		List<Token> copies = new ArrayList<Token>(tokens.size());
+		for (Token token : tokens) {
+			Token copy = new Token(token.getSurface(), token.getStart(), token.getEnd(), token.getDoc(), token.getBioType(), token.getNeElem());
+			copy.setIndex(token.getIndex());
+			copies.add(copy);
+		}
+		return copies;
+	}
+}
@@ -0,0 +1,73 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import uk.ac.cam.ch.wwmm.chemicaltagger.Tagger;
+
+/**************************************************************
+ * Benchmarks Tagger.runTagger for each of the default taggers.
+ * One operation tags all of the fullParseTest paragraphs.
+ ***************************************************************/
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms512m", "-Xmx1024m"})
+@State(Scope.Benchmark)
+public class TaggerBenchmarks {
+
+	@Param({"OscarTagger", "RegexTagger", "OpenNLPTagger"})
+	public String taggerName;
+
+	private Tagger tagger;
+
+	@Setup
+	public void setUp(PipelineState state) {
+		for (Tagger candidate : state.posTagger.getTaggersOrderedInDescendingPriority()) {
+			if (candidate.getClass().getSimpleName().equals(taggerName)) {
+				tagger = candidate;
+			}
+		}
+		if (tagger == null) {
+			throw new RuntimeException("No default tagger called " + taggerName);
+		}
+	}
+
+	@Benchmark
+	public int runTagger(PipelineState state) {
+		int tagCount = 0;
+		for (int i = 0; i < state.subTokenisedTokenLists.size(); i++) {
+			List<String> tags = tagger.runTagger(state.subTokenisedTokenLists.get(i), state.normalisedParagraphs.get(i));
+			tagCount += tags.size();
+		}
+		return tagCount;
+	}
+}
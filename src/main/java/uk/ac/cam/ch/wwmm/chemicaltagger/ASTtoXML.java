@@ -27,7 +27,8 @@ import org.antlr.v4.runtime.tree.Tree;
 import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser;
 
 /*****************************
- * Converts ANTLR ASTTrees into XML Documents.
+ * Converts ANTLR ASTTrees into phrase trees ({@link PhraseNode})
+ * and XML Documents.
  * 
  * @author lh359
  *****************************/
@@ -83,8 +84,16 @@ public class ASTtoXML {
 		defaultNestingTagNames[ChemicalChunkerParser.RULE_captionLabel] = "CaptionLabel";
 	}
 	
+	private static final TagRegistry REGISTRY = TagRegistry.getInstance();
+	private static final int DOCUMENT = REGISTRY.getId("Document");
+	private static final int UNMATCHED_PHRASE = REGISTRY.getId("UnmatchedPhrase");
+
 	private final String[] tokenNames;
-	private final String[] nestingTagNames;
+	private final int[] nestingKinds;
+	//the tags of the literal token types that are already NCNames, and their kinds
+	private final String[] terminalTags;
+	private final int[] terminalKinds;
+	private int tokenCount = 0;
 
 	/********************************************
 	 * Default constructor method.
@@ -95,7 +104,23 @@ public class ASTtoXML {
 
 	public ASTtoXML(String[] tokenNames, String[] nestingTagNames) {
 		this.tokenNames = tokenNames;
-		this.nestingTagNames = nestingTagNames;
+		nestingKinds = new int[nestingTagNames.length];
+		for (int i = 0; i < nestingTagNames.length; i++) {
+			nestingKinds[i] = REGISTRY.getId(nestingTagNames[i]);
+		}
+		terminalTags = new String[tokenNames.length];
+		terminalKinds = new int[tokenNames.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			String tokenName = tokenNames[i];
+			//literal token names are quoted, e.g. 'NN'
+			if (tokenName != null && tokenName.length() > 2 && tokenName.startsWith("'") && tokenName.endsWith("'")) {
+				String tag = tokenName.substring(1, tokenName.length() - 1);
+				if (tag.equals(Utils.makeNCName(tag))) {
+					terminalTags[i] = tag;
+					terminalKinds[i] = REGISTRY.getId(tag);
+				}
+			}
+		}
 	}
 
   /********************************************
@@ -122,19 +147,12 @@ public class ASTtoXML {
 	 * @return doc (Document)
 	 *******************************************/
 	public Document convert(Tree astTree, boolean annotateActionPhrases) {
-		Element root = new Element("Document");
-		Document doc;
-
-		if (astTree.getChildCount() > 0) {
-			doc = new Document(getNodes(astTree, root));
-		} else {
-			doc = new Document(root);
-		}
+		PhraseNode root = toPhraseTree(astTree);
 		if (annotateActionPhrases) {
 			PostProcessTrees procTree = new PostProcessTrees();
-			doc = procTree.process(doc);
+			root = procTree.process(root);
 		}
-		return doc;
+		return new Document(root.toXML());
 	}
 
 	/********************************************
@@ -151,22 +169,27 @@ public class ASTtoXML {
 	 *******************************************/
 	public Document convert(Tree astTree, boolean annotateActionPhrases,
 			HashMap<String, String> actionPhraseDictionary) {
-
-		Element root = new Element("Document");
-		Document doc;
-
-		if (astTree.getChildCount() > 0) {
-			doc = new Document(getNodes(astTree, root));
-		} else {
-			doc = new Document(root);
-		}
+		PhraseNode root = toPhraseTree(astTree);
 		if (annotateActionPhrases) {
 			PostProcessTrees procTree = new PostProcessTrees();
 			procTree.setActionMap(actionPhraseDictionary);
 
-			doc = procTree.process(doc);
+			root = procTree.process(root);
 		}
-		return doc;
+		return new Document(root.toXML());
+	}
+
+	/********************************************
+	 * Converts astTree to a phrase tree whose root is a Document node.
+	 * The terminals are numbered from 0.
+	 * 
+	 * @param astTree
+	 *            (Tree)
+	 * @return root (PhraseNode)
+	 *******************************************/
+	public PhraseNode toPhraseTree(Tree astTree) {
+		tokenCount = 0;
+		return getPhraseNodes(astTree, new PhraseNode(DOCUMENT));
 	}
 
 	/**********************************************
@@ -180,9 +203,27 @@ public class ASTtoXML {
 	 * @return node (Element)
 	 **********************************************/
 	public Element getNodes(Tree astTree, Element node) {
+		PhraseNode holder = getPhraseNodes(astTree, new PhraseNode(DOCUMENT));
+		for (int i = 0; i < holder.getChildCount(); i++) {
+			node.appendChild(holder.getChild(i).toXML());
+		}
+		return node;
+	}
+
+	/**********************************************
+	 * A recursive function that goes through the leaves of the tree to create
+	 * phrase nodes. The terminals are numbered on from those
+	 * created by earlier calls.
+	 * 
+	 * @param astTree
+	 *            (Tree)
+	 * @param node
+	 *            (PhraseNode)
+	 * @return node (PhraseNode)
+	 **********************************************/
+	public PhraseNode getPhraseNodes(Tree astTree, PhraseNode node) {
 	    int nodeCount = astTree.getChildCount();
-	    
-	    Element lastTerminalNode = null;
+	    boolean lastWasTerminal = false;
 
 		for (int i = 0; i < nodeCount; i++) {
 			Tree astChild = astTree.getChild(i);
@@ -193,21 +234,25 @@ public class ASTtoXML {
 				int type = token.getType();
 				if (type != Token.INVALID_TYPE) {
 					if (tokenNames[type].equals("TOKEN")) {
-						if (nodeCount !=2 || lastTerminalNode == null){
+						//the TOKEN is the text of the terminal created for the tag before it
+						if (nodeCount !=2 || !lastWasTerminal){
 							throw new RuntimeException("Bug in ChemicalTagger grammar: Terminal token rules expected to have 2 nodes of the form: 'TokenType' TOKEN");
 						}
-						lastTerminalNode.appendChild(text);
 					} else {
-						text = Utils.makeNCName(text);
-						Element newNode = new Element(text);
-						node.appendChild(newNode);
-						lastTerminalNode = newNode;
+						String terminalText = null;
+						if (i + 1 < nodeCount) {
+							Object nextPayload = astTree.getChild(i + 1).getPayload();
+							if (nextPayload instanceof Token && ((Token) nextPayload).getType() != Token.INVALID_TYPE
+									&& tokenNames[((Token) nextPayload).getType()].equals("TOKEN")) {
+								terminalText = ((Token) nextPayload).getText();
+							}
+						}
+						node.appendChild(new PhraseNode(getKind(type, text), tokenCount++, terminalText));
+						lastWasTerminal = true;
 					}
 				}
 				else{
-					Element unmatched = new Element("UnmatchedPhrase");
-					unmatched.appendChild(text);
-					node.appendChild(unmatched);
+					node.appendChild(new PhraseNode(UNMATCHED_PHRASE, tokenCount++, text));
 				}
 			}
 			else if (payload instanceof RuleContext) {
@@ -217,14 +262,17 @@ public class ASTtoXML {
 				 * If this occurs current behaviour is to ignore that it matched to avoid the case of a rule element having no child tokens
 				 */
 				if (astChild.getChildCount() > 0) { 
-					String nestingElementName = nestingTagNames[ruleContext.getRuleIndex()];
-					if (nestingElementName != null){
-						Element newNode = new Element(nestingElementName);
+					int nestingKind = nestingKinds[ruleContext.getRuleIndex()];
+					if (nestingKind != TagRegistry.NULL){
+						PhraseNode newNode = new PhraseNode(nestingKind);
+						if (ruleContext instanceof UnparsedSentenceContext) {
+							newNode.addAttribute("unparsed", ((UnparsedSentenceContext) ruleContext).getReason());
+						}
 						node.appendChild(newNode);
-						getNodes(astChild, newNode);
+						getPhraseNodes(astChild, newNode);
 					}
 					else{
-						getNodes(astChild, node);
+						getPhraseNodes(astChild, node);
 					}
 				}
 			}
@@ -234,4 +282,14 @@ public class ASTtoXML {
 		}
 		return node;
 	}
+
+	/**
+	 * Returns the kind of the terminal for a tag token, the ID of its text made into an NCName.
+	 */
+	private int getKind(int type, String text) {
+		if (type < terminalTags.length && text.equals(terminalTags[type])) {
+			return terminalKinds[type];
+		}
+		return REGISTRY.getId(Utils.makeNCName(text));
+	}
 }
@@ -0,0 +1,78 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**************************************************************
+ * An ActionPhrase found by the parser, e.g. a Dissolve or a Stir,
+ * with the molecules, times and temperatures that belong to it.
+ * These do not include those of any action phrase nested inside it.
+ ***************************************************************/
+public class ActionPhrase {
+
+	private final String type;
+	private final String text;
+	private final List<Molecule> molecules = new ArrayList<Molecule>();
+	private final List<TimePhrase> timePhrases = new ArrayList<TimePhrase>();
+	private final List<TempPhrase> tempPhrases = new ArrayList<TempPhrase>();
+
+	ActionPhrase(String type, String text) {
+		this.type = type;
+		this.text = text;
+	}
+
+	/**************************************
+	 * @return type (String) e.g. Add, Dissolve or Stir
+	 ***************************************/
+	public String getType() {
+		return type;
+	}
+
+	/**************************************
+	 * @return text (String) the words of the action phrase separated by spaces
+	 ***************************************/
+	public String getText() {
+		return text;
+	}
+
+	/**************************************
+	 * @return molecules (List<Molecule>)
+	 ***************************************/
+	public List<Molecule> getMolecules() {
+		return molecules;
+	}
+
+	/**************************************
+	 * @return timePhrases (List<TimePhrase>)
+	 ***************************************/
+	public List<TimePhrase> getTimePhrases() {
+		return timePhrases;
+	}
+
+	/**************************************
+	 * @return tempPhrases (List<TempPhrase>)
+	 ***************************************/
+	public List<TempPhrase> getTempPhrases() {
+		return tempPhrases;
+	}
+
+	@Override
+	public String toString() {
+		return type + ": " + text;
+	}
+}
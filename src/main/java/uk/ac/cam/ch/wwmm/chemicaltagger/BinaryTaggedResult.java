@@ -0,0 +1,212 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+
+/**************************************************************
+ * A {@link TaggedResult} read directly from a record written by
+ * {@link BinaryTaggedResultWriter}.
+ *
+ * Nothing is copied out of the buffer when the record is opened:
+ * ints are read from it when they are asked for and each String is
+ * only decoded the first time it is asked for.
+ ***************************************************************/
+public class BinaryTaggedResult implements TaggedResult {
+
+	private static final Charset UTF8 = Charset.forName("UTF-8");
+
+	private final ByteBuffer record;
+	private final int stringCount;
+	private final int stringEndsStart;
+	private final int stringDataStart;
+	private final int tokenCount;
+	private final int tokensStart;
+	private final int nodeCount;
+	private final int nodesStart;
+	private final int attributeCount;
+	private final int attributesStart;
+	private final String[] strings;
+
+	/**************************************
+	 * Opens the record that begins at the start of the buffer,
+	 * not including its length. The size of each section is checked
+	 * against the record, the values in it are not.
+	 * @param record (ByteBuffer)
+	 * @throws IOException if the record is not a tagged result or is truncated
+	 ***************************************/
+	public BinaryTaggedResult(ByteBuffer record) throws IOException {
+		this.record = record;
+		if (record.limit() < 4 || record.getInt(0) != BinaryTaggedResultWriter.MAGIC) {
+			throw new IOException("Not a tagged result record");
+		}
+		stringCount = readCount(4);
+		stringEndsStart = 8;
+		int position = skipSection(stringEndsStart, stringCount, 4);
+		int stringDataLength = readCount(position);
+		stringDataStart = position + 4;
+		position = skipSection(stringDataStart, stringDataLength, 1);
+		tokenCount = readCount(position);
+		tokensStart = position + 4;
+		position = skipSection(tokensStart, tokenCount, 4 * BinaryTaggedResultWriter.TOKEN_INTS);
+		nodeCount = readCount(position);
+		nodesStart = position + 4;
+		position = skipSection(nodesStart, nodeCount, 4 * BinaryTaggedResultWriter.NODE_INTS);
+		attributeCount = readCount(position);
+		attributesStart = position + 4;
+		skipSection(attributesStart, attributeCount, 4 * BinaryTaggedResultWriter.ATTRIBUTE_INTS);
+		strings = new String[stringCount];
+	}
+
+	/**
+	 * Reads the count at the start of a section.
+	 */
+	private int readCount(int position) throws IOException {
+		if (position > record.limit() - 4) {
+			throw new IOException("Tagged result record is truncated");
+		}
+		int count = record.getInt(position);
+		if (count < 0) {
+			throw new IOException("Tagged result record has a negative count");
+		}
+		return count;
+	}
+
+	/**
+	 * Returns the position after a section of count items, checking that it is within the record.
+	 */
+	private int skipSection(int start, int count, int itemLength) throws IOException {
+		long end = start + (long) count * itemLength;
+		if (end > record.limit()) {
+			throw new IOException("Tagged result record is truncated");
+		}
+		return (int) end;
+	}
+
+	/**************************************
+	 * Reads the next record from the buffer, advancing its position past it.
+	 * The record shares the buffer's content.
+	 * @param buffer (ByteBuffer)
+	 * @return result (BinaryTaggedResult) or null if the buffer has no more records
+	 * @throws IOException if the buffer ends part way through a record or the record is corrupt
+	 ***************************************/
+	public static BinaryTaggedResult read(ByteBuffer buffer) throws IOException {
+		if (!buffer.hasRemaining()) {
+			return null;
+		}
+		if (buffer.remaining() < 4) {
+			throw new IOException("Tagged result record length is truncated");
+		}
+		int length = buffer.getInt();
+		if (length < 0 || length > buffer.remaining()) {
+			throw new IOException("Tagged result record is truncated");
+		}
+		ByteBuffer record = buffer.slice();
+		record.limit(length);
+		buffer.position(buffer.position() + length);
+		return new BinaryTaggedResult(record);
+	}
+
+	public int getTokenCount() {
+		return tokenCount;
+	}
+
+	public String getTokenSurface(int token) {
+		return getString(getTokenInt(token, 0));
+	}
+
+	public int getTokenStart(int token) {
+		return getTokenInt(token, 1);
+	}
+
+	public int getTokenEnd(int token) {
+		return getTokenInt(token, 2);
+	}
+
+	public String getTokenTag(int token) {
+		return getString(getTokenInt(token, 3));
+	}
+
+	public int getNodeCount() {
+		return nodeCount;
+	}
+
+	public String getNodeName(int node) {
+		return getString(getNodeInt(node, 0));
+	}
+
+	public int getNodeParent(int node) {
+		return getNodeInt(node, 1);
+	}
+
+	public String getNodeText(int node) {
+		return getString(getNodeInt(node, 2));
+	}
+
+	public int getNodeAttributeCount(int node) {
+		int end = node + 1 < nodeCount ? getNodeInt(node + 1, 3) : attributeCount;
+		return end - getNodeInt(node, 3);
+	}
+
+	public String getNodeAttributeName(int node, int attribute) {
+		return getString(getAttributeInt(node, attribute, 0));
+	}
+
+	public String getNodeAttributeValue(int node, int attribute) {
+		return getString(getAttributeInt(node, attribute, 1));
+	}
+
+	private int getTokenInt(int token, int field) {
+		checkIndex(token, tokenCount);
+		return record.getInt(tokensStart + 4 * (BinaryTaggedResultWriter.TOKEN_INTS * token + field));
+	}
+
+	private int getNodeInt(int node, int field) {
+		checkIndex(node, nodeCount);
+		return record.getInt(nodesStart + 4 * (BinaryTaggedResultWriter.NODE_INTS * node + field));
+	}
+
+	private int getAttributeInt(int node, int attribute, int field) {
+		checkIndex(attribute, getNodeAttributeCount(node));
+		int index = getNodeInt(node, 3) + attribute;
+		return record.getInt(attributesStart + 4 * (BinaryTaggedResultWriter.ATTRIBUTE_INTS * index + field));
+	}
+
+	private String getString(int id) {
+		if (id == -1) {
+			return null;
+		}
+		String string = strings[id];
+		if (string == null) {
+			int start = id == 0 ? 0 : record.getInt(stringEndsStart + 4 * (id - 1));
+			int end = record.getInt(stringEndsStart + 4 * id);
+			ByteBuffer bytes = record.duplicate();
+			bytes.limit(stringDataStart + end);
+			bytes.position(stringDataStart + start);
+			string = UTF8.decode(bytes).toString();
+			strings[id] = string;
+		}
+		return string;
+	}
+
+	private static void checkIndex(int index, int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+}
@@ -0,0 +1,151 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**************************************************************
+ * Writes {@link TaggedResult}s in a compact binary format that
+ * {@link BinaryTaggedResult} reads without copying.
+ *
+ * Each result is one record: an int giving the length of the rest of the
+ * record, then {@link #MAGIC}, the string table, the tokens, the nodes and
+ * the attributes. Every String (surfaces, tags, names, text and values) is
+ * stored once in the string table and referred to by its index, or -1 for null.
+ * All ints are big-endian.
+ * <pre>
+ * int MAGIC
+ * int stringCount, int[stringCount] end of each string in the UTF-8 data
+ * int byteCount, byte[byteCount] UTF-8 data
+ * int tokenCount, tokenCount * (int surface, int start, int end, int tag)
+ * int nodeCount, nodeCount * (int name, int parent, int text, int firstAttribute)
+ * int attributeCount, attributeCount * (int name, int value)
+ * </pre>
+ ***************************************************************/
+public class BinaryTaggedResultWriter {
+
+	/** First int of every record, "CTR" and the format version */
+	public static final int MAGIC = 0x43545201;
+
+	static final int TOKEN_INTS = 4;
+	static final int NODE_INTS = 4;
+	static final int ATTRIBUTE_INTS = 2;
+
+	private final DataOutputStream out;
+	private final ByteArrayOutputStream recordBytes = new ByteArrayOutputStream();
+	private final ByteArrayOutputStream stringBytes = new ByteArrayOutputStream();
+	private final List<Integer> stringEnds = new ArrayList<Integer>();
+	private final Map<String, Integer> stringIds = new HashMap<String, Integer>();
+
+	/**************************************
+	 * @param out (OutputStream)
+	 ***************************************/
+	public BinaryTaggedResultWriter(OutputStream out) {
+		this.out = new DataOutputStream(out);
+	}
+
+	/**************************************
+	 * Writes the result as one record.
+	 * @param result (TaggedResult)
+	 * @throws IOException
+	 ***************************************/
+	public void write(TaggedResult result) throws IOException {
+		stringBytes.reset();
+		stringEnds.clear();
+		stringIds.clear();
+		int tokenCount = result.getTokenCount();
+		int[] tokens = new int[tokenCount * TOKEN_INTS];
+		for (int i = 0; i < tokenCount; i++) {
+			int offset = i * TOKEN_INTS;
+			tokens[offset] = getStringId(result.getTokenSurface(i));
+			tokens[offset + 1] = result.getTokenStart(i);
+			tokens[offset + 2] = result.getTokenEnd(i);
+			tokens[offset + 3] = getStringId(result.getTokenTag(i));
+		}
+		int nodeCount = result.getNodeCount();
+		int[] nodes = new int[nodeCount * NODE_INTS];
+		List<Integer> attributes = new ArrayList<Integer>();
+		for (int i = 0; i < nodeCount; i++) {
+			int offset = i * NODE_INTS;
+			nodes[offset] = getStringId(result.getNodeName(i));
+			nodes[offset + 1] = result.getNodeParent(i);
+			nodes[offset + 2] = getStringId(result.getNodeText(i));
+			nodes[offset + 3] = attributes.size() / ATTRIBUTE_INTS;
+			for (int j = 0; j < result.getNodeAttributeCount(i); j++) {
+				attributes.add(getStringId(result.getNodeAttributeName(i, j)));
+				attributes.add(getStringId(result.getNodeAttributeValue(i, j)));
+			}
+		}
+
+		recordBytes.reset();
+		DataOutputStream record = new DataOutputStream(recordBytes);
+		record.writeInt(MAGIC);
+		record.writeInt(stringEnds.size());
+		for (Integer end : stringEnds) {
+			record.writeInt(end);
+		}
+		record.writeInt(stringBytes.size());
+		stringBytes.writeTo(record);
+		record.writeInt(tokenCount);
+		writeInts(record, tokens);
+		record.writeInt(nodeCount);
+		writeInts(record, nodes);
+		record.writeInt(attributes.size() / ATTRIBUTE_INTS);
+		for (Integer id : attributes) {
+			record.writeInt(id);
+		}
+		record.flush();
+		out.writeInt(recordBytes.size());
+		recordBytes.writeTo(out);
+	}
+
+	/**************************************
+	 * Flushes the underlying stream.
+	 * @throws IOException
+	 ***************************************/
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	private int getStringId(String string) throws UnsupportedEncodingException {
+		if (string == null) {
+			return -1;
+		}
+		Integer id = stringIds.get(string);
+		if (id == null) {
+			id = stringEnds.size();
+			byte[] bytes = string.getBytes("UTF-8");
+			stringBytes.write(bytes, 0, bytes.length);
+			stringEnds.add(stringBytes.size());
+			stringIds.put(string, id);
+		}
+		return id;
+	}
+
+	private static void writeInts(DataOutputStream record, int[] ints) throws IOException {
+		for (int i : ints) {
+			record.writeInt(i);
+		}
+	}
+}
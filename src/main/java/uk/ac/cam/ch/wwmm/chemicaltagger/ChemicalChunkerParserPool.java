@@ -0,0 +1,237 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.dfa.DFA;
+
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerLexer;
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser;
+
+/*****************************************************
+ * Reuses ChemicalChunkerParser instances and controls the DFA they share.
+ *
+ * The ATN, the DFA built up while predicting and the prediction context cache
+ * are held statically by the generated parser and lexer so every parser already
+ * shares them. They grow with the variety of the input, {@link #clearDFA()}
+ * throws them away to cap their memory; they are rebuilt as sentences are parsed.
+ * Parsers are not thread safe so idle ones are kept in a pool and each parse
+ * borrows one, which is pointed at the new tokens using setInputStream.
+ * How often sentences need full LL prediction is also counted here.
+ *****************************************************/
+public final class ChemicalChunkerParserPool {
+
+	/**************************************
+	 * Private Singleton holder.
+	 ***************************************/
+	private static class INSTANCE_HOLDER {
+		private static ChemicalChunkerParserPool myInstance = new ChemicalChunkerParserPool();
+	}
+
+	private final Queue<ChemicalChunkerParser> parserPool = new ConcurrentLinkedQueue<ChemicalChunkerParser>();
+	//parses hold the read lock, clearing the DFA while a parse is using it is not safe
+	private final ReadWriteLock dfaLock = new ReentrantReadWriteLock();
+	private final AtomicLong sllSentenceCount = new AtomicLong();
+	private final AtomicLong llSentenceCount = new AtomicLong();
+	private final AtomicLong llDocumentCount = new AtomicLong();
+	private final AtomicLong unparsedSentenceCount = new AtomicLong();
+
+	private ChemicalChunkerParserPool() {
+	}
+
+	/**************************************
+	 * Returns the ChemicalChunkerParserPool singleton.
+	 * @return chemicalChunkerParserPool (ChemicalChunkerParserPool)
+	 ***************************************/
+	public static ChemicalChunkerParserPool getInstance() {
+		return INSTANCE_HOLDER.myInstance;
+	}
+
+	/**************************************
+	 * Borrows a parser reading from the given tokens, in SLL prediction mode.
+	 * Every parser that is acquired must be given back to {@link #releaseParser(ChemicalChunkerParser)}
+	 * by the same thread.
+	 * @param tokens (TokenStream)
+	 * @return parser (ChemicalChunkerParser)
+	 ***************************************/
+	ChemicalChunkerParser acquireParser(TokenStream tokens) {
+		dfaLock.readLock().lock();
+		boolean acquired = false;
+		try {
+			ChemicalChunkerParser parser = parserPool.poll();
+			if (parser == null) {
+				parser = new ChemicalChunkerParser(tokens);
+			}
+			else {
+				parser.setInputStream(tokens);
+			}
+			parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+			acquired = true;
+			return parser;
+		} finally {
+			//no parser is handed out so releaseParser will not be called, don't leave clearDFA waiting
+			if (!acquired) {
+				dfaLock.readLock().unlock();
+			}
+		}
+	}
+
+	/**************************************
+	 * Returns a parser to the pool.
+	 * @param parser (ChemicalChunkerParser)
+	 ***************************************/
+	void releaseParser(ChemicalChunkerParser parser) {
+		try {
+			//don't keep the last sentence's tokens alive
+			parser.setInputStream(null);
+			parserPool.offer(parser);
+		} finally {
+			dfaLock.readLock().unlock();
+		}
+	}
+
+	/**************************************
+	 * Returns the number of idle parsers in the pool.
+	 * @return pooledParserCount (int)
+	 ***************************************/
+	public int getPooledParserCount() {
+		return parserPool.size();
+	}
+
+	/**************************************
+	 * Discards the idle parsers in the pool. Parsers are recreated as needed.
+	 ***************************************/
+	public void clearParserPool() {
+		parserPool.clear();
+	}
+
+	/**************************************
+	 * Discards the DFA and prediction context cache of the parser and lexer.
+	 * Waits for parses in progress to finish and must not be called
+	 * from within a parse.
+	 ***************************************/
+	public void clearDFA() {
+		dfaLock.writeLock().lock();
+		try {
+			ChemicalChunkerParser._ATN.clearDFA();
+			ChemicalChunkerLexer._ATN.clearDFA();
+		} finally {
+			dfaLock.writeLock().unlock();
+		}
+	}
+
+	/**************************************
+	 * Returns the number of DFA states the parser has built up across all its decisions.
+	 * @return parserDFAStateCount (int)
+	 ***************************************/
+	public int getParserDFAStateCount() {
+		return countStates(ChemicalChunkerParser._ATN.decisionToDFA);
+	}
+
+	/**************************************
+	 * Returns the number of DFA states the lexer has built up.
+	 * @return lexerDFAStateCount (int)
+	 ***************************************/
+	public int getLexerDFAStateCount() {
+		return countStates(ChemicalChunkerLexer._ATN.modeToDFA);
+	}
+
+	/**************************************
+	 * Returns the number of entries in the parser's prediction context cache.
+	 * @return predictionContextCacheSize (int)
+	 ***************************************/
+	public int getPredictionContextCacheSize() {
+		return ChemicalChunkerParser._ATN.getContextCacheSize();
+	}
+
+	/**************************************
+	 * Returns the number of sentences parsed using SLL prediction.
+	 * @return sllSentenceCount (long)
+	 ***************************************/
+	public long getSLLSentenceCount() {
+		return sllSentenceCount.get();
+	}
+
+	/**************************************
+	 * Returns the number of sentences that failed with SLL prediction
+	 * and were parsed again using full LL prediction.
+	 * @return llSentenceCount (long)
+	 ***************************************/
+	public long getLLSentenceCount() {
+		return llSentenceCount.get();
+	}
+
+	/**************************************
+	 * Returns the number of documents that could not be parsed a sentence at a time
+	 * and were parsed again as a whole using full LL prediction.
+	 * @return llDocumentCount (long)
+	 ***************************************/
+	public long getLLDocumentCount() {
+		return llDocumentCount.get();
+	}
+
+	/**************************************
+	 * Returns the number of sentences that were not parsed because they were
+	 * over the token budget or their parse ran past the sentence timeout.
+	 * @return unparsedSentenceCount (long)
+	 ***************************************/
+	public long getUnparsedSentenceCount() {
+		return unparsedSentenceCount.get();
+	}
+
+	/**************************************
+	 * Sets the prediction mode and unparsed sentence counts back to zero.
+	 ***************************************/
+	public void resetPredictionModeCounts() {
+		sllSentenceCount.set(0);
+		llSentenceCount.set(0);
+		llDocumentCount.set(0);
+		unparsedSentenceCount.set(0);
+	}
+
+	void countSLLSentence() {
+		sllSentenceCount.incrementAndGet();
+	}
+
+	void countLLSentence() {
+		llSentenceCount.incrementAndGet();
+	}
+
+	void countLLDocument() {
+		llDocumentCount.incrementAndGet();
+	}
+
+	void countUnparsedSentence() {
+		unparsedSentenceCount.incrementAndGet();
+	}
+
+	private static int countStates(DFA[] dfas) {
+		int count = 0;
+		for (DFA dfa : dfas) {
+			if (dfa != null) {
+				count += dfa.states.size();
+			}
+		}
+		return count;
+	}
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.xml.stream.XMLStreamWriter;
+
+import nu.xom.Document;
+
+/*****************************************************
+ * Runs the full ChemicalTagger pipeline over batches of texts.
+ * 
+ * Each text is normalised, tokenised, tagged, recombined, post-processed,
+ * parsed and annotated with action phrases (as in
+ * {@link Utils#runChemicalTagger(String, boolean)}) as a single task on
+ * the executor. Results are returned in input order.
+ * 
+ * The pipeline shares one ChemistryPOSTagger between all tasks; see that
+ * class for its thread safety contract.
+ *****************************************************/
+public class ChemicalTaggerPipeline {
+
+	private final ChemistryPOSTagger posTagger;
+	private final ExecutorService executor;
+	private final boolean ownsExecutor;
+	private boolean useSpectraTagger = false;
+	private int maxSentenceTokens = ChemistrySentenceParser.NO_LIMIT;
+	private long sentenceTimeout = ChemistrySentenceParser.NO_LIMIT;
+
+	/**************************************
+	 * Creates a pipeline around the default ChemistryPOSTagger with
+	 * one worker thread per available processor.
+	 * The pool is released by {@link #shutdown()}.
+	 ***************************************/
+	public ChemicalTaggerPipeline() {
+		this(Runtime.getRuntime().availableProcessors());
+	}
+
+	/**************************************
+	 * Creates a pipeline around the default ChemistryPOSTagger with
+	 * the given number of worker threads.
+	 * The pool is released by {@link #shutdown()}.
+	 * @param threads (int)
+	 ***************************************/
+	public ChemicalTaggerPipeline(int threads) {
+		this.posTagger = ChemistryPOSTagger.getDefaultInstance();
+		this.executor = Executors.newFixedThreadPool(threads);
+		this.ownsExecutor = true;
+	}
+
+	/**************************************
+	 * Creates a pipeline that runs its tasks on a caller supplied executor.
+	 * The executor is not shut down by {@link #shutdown()}.
+	 * @param posTagger (ChemistryPOSTagger)
+	 * @param executor (ExecutorService)
+	 ***************************************/
+	public ChemicalTaggerPipeline(ChemistryPOSTagger posTagger, ExecutorService executor) {
+		this.posTagger = posTagger;
+		this.executor = executor;
+		this.ownsExecutor = false;
+	}
+
+	/**************************************
+	 * Setter method for useSpectraTagger.
+	 * @param useSpectraTagger (boolean)
+	 ***************************************/
+	public void setUseSpectraTagger(boolean useSpectraTagger) {
+		this.useSpectraTagger = useSpectraTagger;
+	}
+
+	/**************************************
+	 * Getter method for useSpectraTagger.
+	 * @return useSpectraTagger (boolean)
+	 ***************************************/
+	public boolean getUseSpectraTagger() {
+		return useSpectraTagger;
+	}
+
+	/**************************************
+	 * Setter method for maxSentenceTokens.
+	 * @see ChemistrySentenceParser#setMaxSentenceTokens(int)
+	 * @param maxSentenceTokens (int)
+	 ***************************************/
+	public void setMaxSentenceTokens(int maxSentenceTokens) {
+		this.maxSentenceTokens = maxSentenceTokens;
+	}
+
+	/**************************************
+	 * Getter method for maxSentenceTokens.
+	 * @return maxSentenceTokens (int)
+	 ***************************************/
+	public int getMaxSentenceTokens() {
+		return maxSentenceTokens;
+	}
+
+	/**************************************
+	 * Setter method for sentenceTimeout.
+	 * @see ChemistrySentenceParser#setSentenceTimeout(long)
+	 * @param sentenceTimeout (long) in milliseconds
+	 ***************************************/
+	public void setSentenceTimeout(long sentenceTimeout) {
+		this.sentenceTimeout = sentenceTimeout;
+	}
+
+	/**************************************
+	 * Getter method for sentenceTimeout.
+	 * @return sentenceTimeout (long) in milliseconds
+	 ***************************************/
+	public long getSentenceTimeout() {
+		return sentenceTimeout;
+	}
+
+	/*****************************************************
+	 * Processes a single text on the calling thread.
+	 * @param text (String)
+	 * @return doc (Document)
+	 *****************************************************/
+	public Document process(String text) {
+		POSContainer posContainer = posTagger.runTaggers(text, useSpectraTagger);
+		ChemistrySentenceParser chemistrySentenceParser = new ChemistrySentenceParser(posContainer);
+		chemistrySentenceParser.setMaxSentenceTokens(maxSentenceTokens);
+		chemistrySentenceParser.setSentenceTimeout(sentenceTimeout);
+		chemistrySentenceParser.parseTags();
+		return chemistrySentenceParser.makeXMLDocument();
+	}
+
+	/*****************************************************
+	 * Processes a single text on the calling thread, writing its Document
+	 * element to the writer as each sentence is parsed.
+	 * Several texts can be written to the same writer.
+	 * @param text (String)
+	 * @param writer (XMLStreamWriter)
+	 *****************************************************/
+	public void process(String text, XMLStreamWriter writer) {
+		POSContainer posContainer = posTagger.runTaggers(text, useSpectraTagger);
+		ChemistrySentenceParser chemistrySentenceParser = new ChemistrySentenceParser(posContainer);
+		chemistrySentenceParser.setMaxSentenceTokens(maxSentenceTokens);
+		chemistrySentenceParser.setSentenceTimeout(sentenceTimeout);
+		chemistrySentenceParser.writeXML(writer, true);
+	}
+
+	/*****************************************************
+	 * Processes the texts on the executor and waits for all of them.
+	 * If any text fails the remaining tasks are cancelled and the failure is rethrown.
+	 * @param texts (List<String>)
+	 * @return docs (List<Document>) in input order
+	 *****************************************************/
+	public List<Document> processAll(List<String> texts) {
+		List<Future<Document>> futures = new ArrayList<Future<Document>>(texts.size());
+		for (final String text : texts) {
+			futures.add(executor.submit(new Callable<Document>() {
+				public Document call() {
+					return process(text);
+				}
+			}));
+		}
+		return Utils.getAll(futures);
+	}
+
+	/*****************************************************
+	 * Releases the worker threads if they were created by this pipeline.
+	 *****************************************************/
+	public void shutdown() {
+		if (ownsExecutor) {
+			executor.shutdown();
+		}
+	}
+}
@@ -17,8 +17,13 @@ package uk.ac.cam.ch.wwmm.chemicaltagger;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
 
-import uk.ac.cam.ch.wwmm.oscar.Oscar;
 import uk.ac.cam.ch.wwmm.oscar.document.Token;
 
 
@@ -34,6 +39,19 @@ import uk.ac.cam.ch.wwmm.oscar.document.Token;
  * It then combines the output of Regex, OSCAR and OpenNLP
  * taggers and then performs postprocessing on tags
  * 
+ * Thread safety: a ChemistryPOSTagger, and the default tokeniser and
+ * taggers it holds, may be shared between threads. The OscarTagger,
+ * RegexTagger and OpenNLPTagger only read their models and rules once
+ * constructed, so concurrent calls to runTaggers are safe; each call
+ * works on its own POSContainer and token list. Custom Tagger or
+ * ChemicalTaggerTokeniser implementations passed to the public
+ * constructors must give the same guarantee if the instance is to be
+ * used from {@link #runTaggers(List, ExecutorService)} or a
+ * {@link ChemicalTaggerPipeline}.
+ * 
+ * Optionally the taggers can be run at the same time as each other for
+ * each input, see {@link #setTaggerExecutor(ExecutorService)}.
+ * 
  * @author lh359, dmj30, dl387
  ***************************************************************/
 public class ChemistryPOSTagger {
@@ -44,10 +62,14 @@ public class ChemistryPOSTagger {
 	private RegexTagger regexTagger;
 	private OpenNLPTagger openNLPTagger;
 	private List<Tagger> taggersOrderedInDescendingPriority;
+	private volatile ExecutorService taggerExecutor;
 
 
 
   private ChemicalTaggerTokeniser ctTokeniser;
+	//the registry the default instance takes its tokeniser and taggers from, null otherwise
+	private final ModelRegistry models;
+	private volatile boolean modelsLoaded;
 	
 	/**************************************
 	 * Private Singleton holder.
@@ -78,6 +100,7 @@ public class ChemistryPOSTagger {
 	@Deprecated
 	public ChemistryPOSTagger (ChemicalTaggerTokeniser ctTokeniser, OscarTagger oscarTagger, RegexTagger regexTagger, OpenNLPTagger openNLPTagger) {
 		
+		this.models = null;
 		this.ctTokeniser = ctTokeniser;
 		this.oscarTagger = oscarTagger;
 		this.regexTagger = regexTagger;
@@ -97,26 +120,44 @@ public class ChemistryPOSTagger {
 	 */
 	public ChemistryPOSTagger (ChemicalTaggerTokeniser ctTokeniser, List<Tagger> taggers) {
 		
+		this.models = null;
 		this.ctTokeniser = ctTokeniser;
 		taggersOrderedInDescendingPriority = taggers;
 
 	}
 	/**************************
 	 * Default constructor. 
-	 * Initialises all the fields.
+	 * Starts loading the models of the {@link ModelRegistry} in the background
+	 * without waiting for them; the fields are set from the registry when they are first needed.
 	 */
 	private ChemistryPOSTagger() {
-		Oscar oscar = new Oscar();
-		ctTokeniser = new OscarTokeniser();
+		models = ModelRegistry.getInstance();
+		models.warmUp();
+	}
+
+	/**************************
+	 * Sets the tokeniser and taggers of the default instance from the ModelRegistry,
+	 * waiting for any model that is still being loaded.
+	 */
+	private void loadModels() {
+		if (models == null || modelsLoaded) {
+			return;
+		}
+		synchronized (this) {
+			if (!modelsLoaded) {
+				ctTokeniser = new OscarTokeniser();
 
-		regexTagger = new RegexTagger();
-		oscarTagger = new OscarTagger(oscar);
-		openNLPTagger = OpenNLPTagger.getInstance();
+				regexTagger = models.getRegexTagger();
+				oscarTagger = models.getOscarTagger();
+				openNLPTagger = models.getOpenNLPTagger();
 
-		taggersOrderedInDescendingPriority = new ArrayList<Tagger>();
-		taggersOrderedInDescendingPriority.add(regexTagger);
-		taggersOrderedInDescendingPriority.add(oscarTagger);
-		taggersOrderedInDescendingPriority.add(OpenNLPTagger.getInstance());
+				taggersOrderedInDescendingPriority = new ArrayList<Tagger>();
+				taggersOrderedInDescendingPriority.add(regexTagger);
+				taggersOrderedInDescendingPriority.add(oscarTagger);
+				taggersOrderedInDescendingPriority.add(openNLPTagger);
+				modelsLoaded = true;
+			}
+		}
 	}
 
 
@@ -125,6 +166,7 @@ public class ChemistryPOSTagger {
 	 * @return ctTokeniser (ChemicalTaggerTokeniser)
 	 ***************************************/
 	public ChemicalTaggerTokeniser getCTTokeniser() {
+		loadModels();
 		return ctTokeniser;
 	}
 	
@@ -133,6 +175,7 @@ public class ChemistryPOSTagger {
 	 * @return regexTagger (RegexTagger)
 	 ***************************************/
 	public RegexTagger getRegexTagger() {
+		loadModels();
 		return regexTagger;
 	}
 	
@@ -141,6 +184,7 @@ public class ChemistryPOSTagger {
 	 * @return oscarTagger (OscarTagger)
 	 ***************************************/
 	public OscarTagger getOscarTagger() {
+		loadModels();
 		return oscarTagger;
 	}
 	
@@ -149,6 +193,7 @@ public class ChemistryPOSTagger {
 	 * @return openNLPTagger (OpenNLPTagger)
 	 ***************************************/
 	public OpenNLPTagger getOpenNLPTagger() {
+		loadModels();
 		return openNLPTagger;
 	}
 	
@@ -157,9 +202,32 @@ public class ChemistryPOSTagger {
    * @return taggersOrderedInDescendingPriority (List<Tagger>)
    ***************************************/
 	public List<Tagger> getTaggersOrderedInDescendingPriority() {
+		loadModels();
 	    return taggersOrderedInDescendingPriority;
 	}
 	
+	/**************************************
+	 * Getter method for taggerExecutor.
+	 * @return taggerExecutor (ExecutorService) or null if the taggers are run one after another
+	 ***************************************/
+	public ExecutorService getTaggerExecutor() {
+		return taggerExecutor;
+	}
+
+	/**************************************
+	 * Sets an executor on which the taggers are run concurrently for each input.
+	 * The tags are the same as when the taggers are run one after another.
+	 * This reduces the time taken for a single input to roughly that of the slowest tagger
+	 * but gives no gain in throughput when many inputs are already being tagged concurrently.
+	 * Taggers that have not been started by the executor by the time the calling thread
+	 * needs them are run on the calling thread, so the executor may be shared with the caller.
+	 * The executor is not shut down by this class.
+	 * @param taggerExecutor (ExecutorService) or null to run the taggers one after another (the default)
+	 ***************************************/
+	public void setTaggerExecutor(ExecutorService taggerExecutor) {
+		this.taggerExecutor = taggerExecutor;
+	}
+
 	/*****************************************************
 	 * Overloading method for runTaggers passing the default 
 	 * flag for useSpectraTagger to {@link ChemistryPOSTagger#runTaggers(String, boolean)} .
@@ -182,14 +250,20 @@ public class ChemistryPOSTagger {
 	 * @return posContainer (POSContainer)
 	 *****************************************************/
 	public POSContainer runTaggers(String inputSentence, boolean useSpectraTagger) {
-		
+		loadModels();
 		POSContainer posContainer = new POSContainer();
 		List<String> ignoredTags = new ArrayList<String>();
 		List<Token> wordTokenList = normaliseAndTokeniseInput(inputSentence, posContainer, useSpectraTagger);
 		posContainer.setWordTokenList(wordTokenList);
 		
-		for (Tagger tagger : taggersOrderedInDescendingPriority){
-			List<String> tagList = tagger.runTagger(wordTokenList, posContainer.getInputText());
+		ExecutorService executor = taggerExecutor;
+		List<List<String>> tagLists = null;
+		if (executor != null && taggersOrderedInDescendingPriority.size() > 1) {
+			tagLists = runTaggersConcurrently(wordTokenList, posContainer.getInputText(), executor);
+		}
+		for (int i = 0; i < taggersOrderedInDescendingPriority.size(); i++) {
+			Tagger tagger = taggersOrderedInDescendingPriority.get(i);
+			List<String> tagList = tagLists != null ? tagLists.get(i) : tagger.runTagger(wordTokenList, posContainer.getInputText());
 			posContainer.registerTagList(tagList);
 
 			if (tagger.getIgnoredTags() != null){
@@ -204,6 +278,78 @@ public class ChemistryPOSTagger {
 	}
 	
 	
+	/*****************************************************
+	 * Runs each tagger over the same tokens on the executor and waits for them all.
+	 * The calling thread runs the first tagger and any others the executor has not started yet.
+	 * 
+	 * @param wordTokenList (List<Token>)
+	 * @param inputText (String)
+	 * @param executor (ExecutorService)
+	 * @return tagLists (List<List<String>>) in the order of the taggers
+	 *****************************************************/
+	private List<List<String>> runTaggersConcurrently(final List<Token> wordTokenList, final String inputText, ExecutorService executor) {
+		List<FutureTask<List<String>>> tasks = new ArrayList<FutureTask<List<String>>>();
+		List<Future<List<String>>> futures = new ArrayList<Future<List<String>>>();
+		for (final Tagger tagger : taggersOrderedInDescendingPriority) {
+			FutureTask<List<String>> task = new FutureTask<List<String>>(new Callable<List<String>>() {
+				public List<String> call() {
+					return tagger.runTagger(wordTokenList, inputText);
+				}
+			});
+			tasks.add(task);
+			futures.add(task);
+		}
+		try {
+			for (int i = 1; i < tasks.size(); i++) {
+				executor.execute(tasks.get(i));
+			}
+		}
+		catch (RejectedExecutionException e) {
+			//the remaining taggers are run below on this thread
+		}
+		for (FutureTask<List<String>> task : tasks) {
+			task.run();//does nothing if the task has already been started
+		}
+		return Utils.getAll(futures);
+	}
+
+	/*****************************************************
+	 * Overloading method for running the taggers over a batch of inputs.
+	 * Uses a temporary pool with one thread per available processor.
+	 * 
+	 * @param inputSentences (List<String>)
+	 * @return posContainers (List<POSContainer>) in input order
+	 *****************************************************/
+	public List<POSContainer> runTaggers(List<String> inputSentences) {
+		ExecutorService executor = Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors());
+		try {
+			return runTaggers(inputSentences, executor);
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	/*****************************************************
+	 * Runs the taggers over a batch of inputs, one task per input,
+	 * on the given executor. The executor is not shut down.
+	 * 
+	 * @param inputSentences (List<String>)
+	 * @param executor (ExecutorService)
+	 * @return posContainers (List<POSContainer>) in input order
+	 *****************************************************/
+	public List<POSContainer> runTaggers(List<String> inputSentences, ExecutorService executor) {
+		List<Future<POSContainer>> futures = new ArrayList<Future<POSContainer>>(inputSentences.size());
+		for (final String inputSentence : inputSentences) {
+			futures.add(executor.submit(new Callable<POSContainer>() {
+				public POSContainer call() {
+					return runTaggers(inputSentence);
+				}
+			}));
+		}
+		return Utils.getAll(futures);
+	}
+	
 	/*******************************************
 	 * Normalises the inputText, extracts the spectra if required and then passes it to the relevant tokeniser.
 	 * @param inputSentence (String)
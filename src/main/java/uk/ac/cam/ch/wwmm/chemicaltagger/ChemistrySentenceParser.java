@@ -18,17 +18,40 @@ package uk.ac.cam.ch.wwmm.chemicaltagger;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import nu.xom.Document;
 import nu.xom.Serializer;
 
+import org.antlr.v4.runtime.ANTLRErrorStrategy;
 import org.antlr.v4.runtime.ANTLRInputStream;
 import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.RecognitionException;
+import org.antlr.v4.runtime.RuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.atn.ATN;
+import org.antlr.v4.runtime.atn.ATNState;
+import org.antlr.v4.runtime.atn.PlusBlockStartState;
+import org.antlr.v4.runtime.atn.PlusLoopbackState;
 import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.atn.RuleStartState;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
 
 import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerLexer;
 import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser;
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser.DocumentContext;
 
 /***********************************************
  * Passes tagged sentences to the ANTLR grammar. 
@@ -38,7 +61,21 @@ import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser;
  **********************************************/
 public class ChemistrySentenceParser extends SentenceParser {
 		
-	Document doc = null;
+	/** Value of maxSentenceTokens and sentenceTimeout for no limit */
+	public static final int NO_LIMIT = 0;
+
+	private static final int STOP = TagRegistry.getInstance().getId("STOP");
+
+	private PhraseNode phraseTree = null;
+	private boolean annotated = false;
+	private int maxSentenceTokens = NO_LIMIT;
+	private long sentenceTimeout = NO_LIMIT;
+
+	//the states of the grammar's document rule: sentence+
+	private static final RuleStartState DOCUMENT_START = ChemicalChunkerParser._ATN.ruleToStartState[ChemicalChunkerParser.RULE_document];
+	private static final PlusBlockStartState SENTENCE_BLOCK_START = (PlusBlockStartState) DOCUMENT_START.transition(0).target;
+	private static final ATNState SENTENCE_INVOCATION = SENTENCE_BLOCK_START.transition(0).target;
+	private static final PlusLoopbackState SENTENCE_LOOP_BACK = SENTENCE_BLOCK_START.loopBackState;
 
 	/**********************************************
 	 * Constructor method for inputStream objects.
@@ -68,6 +105,65 @@ public class ChemistrySentenceParser extends SentenceParser {
 		super(posContainer);
 	}
 
+	/************************************************
+	 * Parses the POSContainer using the executor.
+	 * To give up on a parse, e.g. after waiting for it using
+	 * {@link Future#get(long, java.util.concurrent.TimeUnit)}, call
+	 * cancel(true) on the future: the parsing thread is interrupted
+	 * and the parse stops at the next token it reads.
+	 * 
+	 * @param posContainer (POSContainer)
+	 * @param executor (Executor)
+	 * @return document (Future<Document>)
+	 *******************************************/
+	public static Future<Document> parseAsync(POSContainer posContainer, Executor executor) {
+		FutureTask<Document> task = new FutureTask<Document>(new ChemistrySentenceParser(posContainer));
+		executor.execute(task);
+		return task;
+	}
+
+	/************************************************
+	 * Setter method for maxSentenceTokens.
+	 * Sentences with more tagged tokens than this before their STOP are not
+	 * parsed; their tokens are output as Unmatched phrases in a Sentence
+	 * with the attribute unparsed="tokenBudget".
+	 * 
+	 * @param maxSentenceTokens (int) or {@link #NO_LIMIT}
+	 *******************************************/
+	public void setMaxSentenceTokens(int maxSentenceTokens) {
+		this.maxSentenceTokens = maxSentenceTokens;
+	}
+
+	/************************************************
+	 * Getter method for maxSentenceTokens.
+	 * @return maxSentenceTokens (int)
+	 *******************************************/
+	public int getMaxSentenceTokens() {
+		return maxSentenceTokens;
+	}
+
+	/************************************************
+	 * Setter method for sentenceTimeout.
+	 * A sentence whose parse takes longer than this is abandoned; its
+	 * tokens are output as Unmatched phrases in a Sentence with the
+	 * attribute unparsed="deadline". If a document has to be parsed
+	 * again as a whole the re-parse is given the same time, if it runs
+	 * out every sentence of the document is output in this way.
+	 * 
+	 * @param sentenceTimeout (long) in milliseconds or {@link #NO_LIMIT}
+	 *******************************************/
+	public void setSentenceTimeout(long sentenceTimeout) {
+		this.sentenceTimeout = sentenceTimeout;
+	}
+
+	/************************************************
+	 * Getter method for sentenceTimeout.
+	 * @return sentenceTimeout (long) in milliseconds
+	 *******************************************/
+	public long getSentenceTimeout() {
+		return sentenceTimeout;
+	}
+
 	@Override
 	/********************************************
 	 * Passes an inputstream to ANTLR and produces
@@ -75,11 +171,58 @@ public class ChemistrySentenceParser extends SentenceParser {
 	 * 
 	 *******************************************/
 	public void parseTags() {
-		ChemicalChunkerLexer lexer = null;
+		parse(null);
+	}
 
-		if (getTaggedTokenInStream() == null) {
-			setParseTree(null);
-		} else {
+	/********************************************
+	 * Parses the tags and writes the XML document, with action phrases,
+	 * to the stream as each sentence is parsed.
+	 * The output is the same as {@link #makeXMLDocument()} but
+	 * the parse tree and XML document are not kept.
+	 * 
+	 * @param outputStream (OutputStream) is not closed
+	 *******************************************/
+	public void writeXML(OutputStream outputStream) {
+		try {
+			XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(outputStream, "UTF-8");
+			writer.writeStartDocument("UTF-8", "1.0");
+			writeXML(writer, true);
+			writer.writeEndDocument();
+			writer.close();
+		} catch (XMLStreamException e) {
+			throw new RuntimeException("Could not write XML", e);
+		}
+	}
+
+	/********************************************
+	 * Parses the tags and writes the Document element
+	 * to the writer as each sentence is parsed.
+	 * Several documents can be written to the same writer.
+	 * 
+	 * @param writer (XMLStreamWriter)
+	 * @param annotateActionPhrases (boolean)
+	 *******************************************/
+	public void writeXML(XMLStreamWriter writer, boolean annotateActionPhrases) {
+		StreamingXMLWriter xmlWriter = new StreamingXMLWriter(writer, annotateActionPhrases);
+		xmlWriter.writeStartDocument();
+		parse(xmlWriter);
+		xmlWriter.writeEndDocument();
+	}
+
+	/********************************************
+	 * Parses the tags, keeping the parse tree and XML document
+	 * unless the sentences are given to the xmlWriter.
+	 * 
+	 * @param xmlWriter (StreamingXMLWriter) or null
+	 *******************************************/
+	private void parse(StreamingXMLWriter xmlWriter) {
+		TokenSource tokenSource = null;
+
+		if (getPOSContainer() != null) {
+			//skips building the tuple string and lexing it again
+			tokenSource = new POSContainerTokenSource(getPOSContainer());
+		}
+		else if (getTaggedTokenInStream() != null) {
 			ANTLRInputStream input;
 			try {
 				input = new ANTLRInputStream(new InputStreamReader(
@@ -89,33 +232,343 @@ public class ChemistrySentenceParser extends SentenceParser {
 						+ ioexception.getMessage());
 			}
 
-			lexer = new ChemicalChunkerLexer(input);
-			CommonTokenStream tokens = new CommonTokenStream(lexer);
+			tokenSource = new ChemicalChunkerLexer(input);
+		}
 
-			ChemicalChunkerParser parser = new ChemicalChunkerParser(tokens);
-			parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+		if (tokenSource == null) {
+			setParseTree(null);
+		} else {
+			CommonTokenStream tokens = new CancellableTokenStream(tokenSource);
+
+			ChemicalChunkerParserPool parserPool = ChemicalChunkerParserPool.getInstance();
+			ChemicalChunkerParser parser = parserPool.acquireParser(tokens);
 						
 			ParseTree documentContext = null;
 
 			try {
-				documentContext = parser.document(); // STAGE 1
+				documentContext = parseDocument(parser, maxSentenceTokens, sentenceTimeout, xmlWriter); // STAGE 1
+			} catch (ParseCancellationException ex) {
+				throw ex;
+			} catch (StreamingXMLWriter.WriteException ex) {
+				//only a failure to parse is worth parsing again
+				throw ex;
 			} catch (Exception ex) {
-				tokens.reset(); // rewind input stream
-				parser.reset();
-				parser.getInterpreter().setPredictionMode(PredictionMode.LL);
-				documentContext = parser.document(); // STAGE 2
+				documentContext = parseDocumentLL(parser, sentenceTimeout); // STAGE 2
+				if (xmlWriter != null) {
+					//the nodes already written are not written again
+					writeChildren((DocumentContext) documentContext, xmlWriter.getNodeCount(), xmlWriter);
+				}
+			} finally {
+				parserPool.releaseParser(parser);
 			}
 			
-			doc = new ASTtoXML().convert(documentContext, false);
+			annotated = false;
+			if (xmlWriter == null) {
+				phraseTree = new ASTtoXML().toPhraseTree(documentContext);
+				setParseTree(documentContext);
+			}
+			else {
+				phraseTree = null;
+				setParseTree(null);
+			}
 
-			setParseTree(documentContext);
+		}
+
+	}
+
+	/********************************************
+	 * Parses a document one sentence at a time using SLL prediction, without limits.
+	 * 
+	 * @param parser (ChemicalChunkerParser)
+	 * @return documentContext (DocumentContext)
+	 *******************************************/
+	static DocumentContext parseDocument(ChemicalChunkerParser parser) {
+		return parseDocument(parser, NO_LIMIT, NO_LIMIT, null);
+	}
 
+	/********************************************
+	 * Parses a document one sentence at a time using SLL prediction.
+	 * This follows the document rule of the grammar, a sentence ends after
+	 * its STOP tokens, but if a sentence throws an exception only that
+	 * sentence is rewound and parsed again using full LL prediction.
+	 * The parser's prediction mode is left as SLL.
+	 * 
+	 * A sentence with more than maxSentenceTokens tagged tokens before its STOP,
+	 * or whose parse takes longer than sentenceTimeout milliseconds, is not parsed
+	 * and becomes an {@link UnparsedSentenceContext}. The timeout is only enforced
+	 * if the parser reads from a stream created by parseTags.
+	 * 
+	 * If there is an xmlWriter each sentence is written and then removed
+	 * from the document as soon as it has been parsed.
+	 * 
+	 * @param parser (ChemicalChunkerParser)
+	 * @param maxSentenceTokens (int) or {@link #NO_LIMIT}
+	 * @param sentenceTimeout (long) or {@link #NO_LIMIT}
+	 * @param xmlWriter (StreamingXMLWriter) or null
+	 * @return documentContext (DocumentContext)
+	 *******************************************/
+	static DocumentContext parseDocument(ChemicalChunkerParser parser, int maxSentenceTokens, long sentenceTimeout, StreamingXMLWriter xmlWriter) {
+		ChemicalChunkerParserPool parserPool = ChemicalChunkerParserPool.getInstance();
+		TokenStream tokens = parser.getInputStream();
+		CancellableTokenStream cancellableTokens = tokens instanceof CancellableTokenStream ? (CancellableTokenStream) tokens : null;
+		ANTLRErrorStrategy errorHandler = parser.getErrorHandler();
+		DocumentContext documentContext = new DocumentContext(parser.getContext(), parser.getState());
+		parser.enterRule(documentContext, DOCUMENT_START.stateNumber, ChemicalChunkerParser.RULE_document);
+		try {
+			parser.enterOuterAlt(documentContext, 1);
+			parser.setState(SENTENCE_BLOCK_START.stateNumber);
+			errorHandler.sync(parser);
+			int alt;
+			do {
+				int sentenceStart = tokens.index();
+				int childCount = documentContext.getChildCount();
+				if (maxSentenceTokens != NO_LIMIT && countTokensBeforeStop(tokens, maxSentenceTokens) > maxSentenceTokens) {
+					addUnparsedSentence(documentContext, tokens, UnparsedSentenceContext.TOKEN_BUDGET);
+					parserPool.countUnparsedSentence();
+				}
+				else {
+					if (cancellableTokens != null && sentenceTimeout != NO_LIMIT) {
+						cancellableTokens.setDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sentenceTimeout));
+					}
+					DeadlineExceededException deadlineExceeded = null;
+					try {
+						parseSentence(parser, documentContext, sentenceStart, childCount);
+					} catch (DeadlineExceededException ex) {
+						deadlineExceeded = ex;
+					} finally {
+						if (cancellableTokens != null) {
+							cancellableTokens.clearDeadline();
+						}
+					}
+					if (deadlineExceeded != null) {
+						discardPartialSentence(parser, documentContext, childCount, deadlineExceeded);
+						tokens.seek(sentenceStart);
+						errorHandler.reset(parser);
+						addUnparsedSentence(documentContext, tokens, UnparsedSentenceContext.DEADLINE);
+						parserPool.countUnparsedSentence();
+					}
+				}
+				if (xmlWriter != null) {
+					writeChildren(documentContext, 0, xmlWriter);
+				}
+				parser.setState(SENTENCE_LOOP_BACK.stateNumber);
+				errorHandler.sync(parser);
+				alt = parser.getInterpreter().adaptivePredict(tokens, SENTENCE_LOOP_BACK.decision, parser.getContext());
+			} while (alt != 2 && alt != ATN.INVALID_ALT_NUMBER);
+		} catch (RecognitionException re) {
+			documentContext.exception = re;
+			errorHandler.reportError(parser, re);
+			errorHandler.recover(parser, re);
+		} finally {
+			parser.exitRule();
+		}
+		if (xmlWriter != null) {
+			writeChildren(documentContext, 0, xmlWriter);
 		}
+		return documentContext;
+	}
 
+	/********************************************
+	 * Parses the whole document again from the start using full LL prediction.
+	 * The parse is given sentenceTimeout milliseconds, if it takes longer the
+	 * document is rewound and every sentence becomes an {@link UnparsedSentenceContext}.
+	 * As with parseDocument the timeout is only enforced if the parser reads
+	 * from a stream created by parseTags.
+	 * 
+	 * @param parser (ChemicalChunkerParser)
+	 * @param sentenceTimeout (long) or {@link #NO_LIMIT}
+	 * @return documentContext (DocumentContext)
+	 *******************************************/
+	static DocumentContext parseDocumentLL(ChemicalChunkerParser parser, long sentenceTimeout) {
+		ChemicalChunkerParserPool parserPool = ChemicalChunkerParserPool.getInstance();
+		TokenStream tokens = parser.getInputStream();
+		CancellableTokenStream cancellableTokens = tokens instanceof CancellableTokenStream ? (CancellableTokenStream) tokens : null;
+		parser.reset(); // rewinds the input stream
+		parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+		if (cancellableTokens != null && sentenceTimeout != NO_LIMIT) {
+			cancellableTokens.setDeadline(System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(sentenceTimeout));
+		}
+		DeadlineExceededException deadlineExceeded = null;
+		DocumentContext documentContext = null;
+		try {
+			documentContext = parser.document();
+		} catch (DeadlineExceededException ex) {
+			deadlineExceeded = ex;
+		} finally {
+			if (cancellableTokens != null) {
+				cancellableTokens.clearDeadline();
+			}
+		}
+		if (deadlineExceeded != null) {
+			parser.reset();
+			documentContext = new DocumentContext(parser.getContext(), parser.getState());
+			while (tokens.LA(1) != Token.EOF) {
+				addUnparsedSentence(documentContext, tokens, UnparsedSentenceContext.DEADLINE);
+				parserPool.countUnparsedSentence();
+			}
+		}
+		else {
+			parserPool.countLLDocument();
+		}
+		return documentContext;
 	}
-	
-	
-	
+
+	/********************************************
+	 * Writes the children of the document from the given index then removes all of them.
+	 *******************************************/
+	private static void writeChildren(DocumentContext documentContext, int fromIndex, StreamingXMLWriter xmlWriter) {
+		DocumentContext nodes = new DocumentContext(null, ATNState.INVALID_STATE_NUMBER);
+		for (int i = fromIndex; i < documentContext.getChildCount(); i++) {
+			ParseTree child = documentContext.getChild(i);
+			if (child instanceof TerminalNode) {
+				nodes.addChild((TerminalNode) child);
+			}
+			else {
+				nodes.addChild((RuleContext) child);
+			}
+		}
+		if (nodes.getChildCount() > 0) {
+			xmlWriter.writeNodes(nodes);
+		}
+		while (documentContext.getChildCount() > 0) {
+			documentContext.removeLastChild();
+		}
+	}
+
+	private static void parseSentence(ChemicalChunkerParser parser, DocumentContext documentContext, int sentenceStart, int childCount) {
+		ChemicalChunkerParserPool parserPool = ChemicalChunkerParserPool.getInstance();
+		try {
+			parser.setState(SENTENCE_INVOCATION.stateNumber);
+			parser.sentence();
+			parserPool.countSLLSentence();
+		} catch (ParseCancellationException ex) {
+			throw ex;
+		} catch (RuntimeException ex) {
+			discardPartialSentence(parser, documentContext, childCount, ex);
+			parser.getInputStream().seek(sentenceStart);
+			parser.getErrorHandler().reset(parser);
+			parser.getInterpreter().setPredictionMode(PredictionMode.LL);
+			try {
+				parser.setState(SENTENCE_INVOCATION.stateNumber);
+				parser.sentence();
+			} finally {
+				parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+			}
+			parserPool.countLLSentence();
+		}
+	}
+
+	/********************************************
+	 * Leaves any rules the exception escaped from, then discards the partial sentence.
+	 *******************************************/
+	private static void discardPartialSentence(ChemicalChunkerParser parser, DocumentContext documentContext, int childCount, RuntimeException ex) {
+		while (parser.getContext() != documentContext) {
+			if (parser.getContext() == null) {
+				throw ex;
+			}
+			parser.exitRule();
+		}
+		while (documentContext.getChildCount() > childCount) {
+			documentContext.removeLastChild();
+		}
+	}
+
+	/********************************************
+	 * Counts the tagged tokens before the next STOP, giving up once there are more than max.
+	 *******************************************/
+	private static int countTokensBeforeStop(TokenStream tokens, int max) {
+		int count = 0;
+		//tags and their tokens alternate, only the tags are checked
+		while (count <= max) {
+			int type = tokens.LA(2 * count + 1);
+			if (type == STOP || type == Token.EOF) {
+				break;
+			}
+			count++;
+		}
+		return count;
+	}
+
+	/********************************************
+	 * Consumes the tagged tokens up to the next STOP, and the STOPs, as an unparsed sentence.
+	 *******************************************/
+	private static void addUnparsedSentence(DocumentContext documentContext, TokenStream tokens, String reason) {
+		UnparsedSentenceContext sentence = new UnparsedSentenceContext(documentContext, reason);
+		boolean inStops = false;
+		while (tokens.LA(1) != Token.EOF && tokens.LA(2) != Token.EOF) {
+			boolean isStop = tokens.LA(1) == STOP;
+			if (inStops && !isStop) {
+				break;
+			}
+			Token tag = tokens.LT(1);
+			Token token = tokens.LT(2);
+			tokens.consume();
+			tokens.consume();
+			if (isStop) {
+				inStops = true;
+				sentence.addStop(tag, token);
+			}
+			else {
+				sentence.addUnmatched(tag, token);
+			}
+		}
+		if (!inStops && tokens.LA(1) != Token.EOF) {
+			//a tag without a token at the end of the input
+			tokens.consume();
+		}
+		documentContext.addChild(sentence);
+	}
+
+	/********************************************
+	 * A token stream that throws a ParseCancellationException
+	 * when the thread reading it has been interrupted, or a
+	 * DeadlineExceededException once its deadline has passed.
+	 * Prediction also reads ahead using consume so long
+	 * predictions are stopped too.
+	 *******************************************/
+	private static class CancellableTokenStream extends CommonTokenStream {
+
+		private boolean hasDeadline = false;
+		private long deadline;
+		private int consumeCount = 0;
+
+		CancellableTokenStream(TokenSource tokenSource) {
+			super(tokenSource);
+		}
+
+		void setDeadline(long deadline) {
+			this.deadline = deadline;
+			hasDeadline = true;
+		}
+
+		void clearDeadline() {
+			hasDeadline = false;
+		}
+
+		@Override
+		public void consume() {
+			if (Thread.currentThread().isInterrupted()) {
+				throw new ParseCancellationException("Parsing was interrupted");
+			}
+			//System.nanoTime is only checked every 64 tokens
+			if (hasDeadline && (++consumeCount & 63) == 0 && System.nanoTime() - deadline > 0) {
+				throw new DeadlineExceededException();
+			}
+			super.consume();
+		}
+	}
+
+	/********************************************
+	 * Thrown when a sentence takes longer than the sentence timeout to parse.
+	 *******************************************/
+	private static class DeadlineExceededException extends ParseCancellationException {
+		private static final long serialVersionUID = 1L;
+
+		DeadlineExceededException() {
+			super("Sentence timeout exceeded");
+		}
+	}
+
 	@Override
 	/*********************************************
 	 * Creates an XML document from the parseTree.
@@ -127,15 +580,46 @@ public class ChemistrySentenceParser extends SentenceParser {
 
 	}
 
+	/*********************************************
+	 * Creates an XML document from the phrase tree.
+	 * @param annotateActionPhrases (boolean)
+	 * @return document (Document)
+	 *******************************************/
 	public Document makeXMLDocument(boolean annotateActionPhrases) {
+		PhraseNode root = getPhraseTree(annotateActionPhrases);
+		if (root == null) {
+			return null;
+		}
+		return new Document(root.toXML());
+	}
 
-		if (annotateActionPhrases) {
+	/*********************************************
+	 * Returns the phrase tree of the parsed document, for callers that
+	 * want the phrases without creating XML. The action phrases and roles
+	 * are added to the tree the first time they are asked for.
+	 * @param annotateActionPhrases (boolean)
+	 * @return root (PhraseNode) the Document node, or null if nothing has been parsed
+	 *******************************************/
+	public PhraseNode getPhraseTree(boolean annotateActionPhrases) {
+		if (annotateActionPhrases && !annotated && phraseTree != null) {
 			PostProcessTrees procTree = new PostProcessTrees();
-			doc = procTree.process(doc);
+			phraseTree = procTree.process(phraseTree);
+			annotated = true;
 		}
+		return phraseTree;
+	}
 
-		return doc;
-
+	/*********************************************
+	 * Returns the action phrases, molecules and their quantities of the
+	 * parsed document as Java objects, without creating XML.
+	 * @return result (ReactionResult) or null if nothing has been parsed
+	 *******************************************/
+	public ReactionResult makeReactionResult() {
+		PhraseNode root = getPhraseTree(true);
+		if (root == null) {
+			return null;
+		}
+		return ReactionResult.fromPhraseTree(root);
 	}
 	
 	public void printPrettyXML(Document doc) {
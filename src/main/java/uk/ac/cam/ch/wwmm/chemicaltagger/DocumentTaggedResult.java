@@ -0,0 +1,179 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nu.xom.Attribute;
+import nu.xom.Document;
+import nu.xom.Element;
+import nu.xom.Node;
+import nu.xom.Text;
+
+import uk.ac.cam.ch.wwmm.oscar.document.Token;
+
+/**************************************************************
+ * A {@link TaggedResult} holding the tokens and tags of a POSContainer
+ * and the phrase tree, or XML document, produced by parsing it.
+ * Results can be written with {@link BinaryTaggedResultWriter}
+ * or {@link JsonLinesTaggedResultWriter}.
+ ***************************************************************/
+public class DocumentTaggedResult implements TaggedResult {
+
+	private final String[] tokenSurfaces;
+	private final int[] tokenStarts;
+	private final int[] tokenEnds;
+	private final String[] tokenTags;
+
+	private final List<String> nodeNames = new ArrayList<String>();
+	private final List<Integer> nodeParents = new ArrayList<Integer>();
+	private final List<String> nodeTexts = new ArrayList<String>();
+	//index of each node's first attribute, with one extra entry for the end
+	private final List<Integer> nodeFirstAttributes = new ArrayList<Integer>();
+	private final List<String> attributeNames = new ArrayList<String>();
+	private final List<String> attributeValues = new ArrayList<String>();
+
+	/**************************************
+	 * @param posContainer (POSContainer)
+	 * @param doc (Document) e.g. from {@link ChemistrySentenceParser#makeXMLDocument()}
+	 ***************************************/
+	public DocumentTaggedResult(POSContainer posContainer, Document doc) {
+		this(posContainer);
+		addNode(doc.getRootElement(), -1);
+		nodeFirstAttributes.add(attributeNames.size());
+	}
+
+	/**************************************
+	 * Creates the result straight from the phrase tree, without creating XML.
+	 * @param posContainer (POSContainer)
+	 * @param root (PhraseNode) e.g. from {@link ChemistrySentenceParser#getPhraseTree(boolean)}
+	 ***************************************/
+	public DocumentTaggedResult(POSContainer posContainer, PhraseNode root) {
+		this(posContainer);
+		addNode(root, -1);
+		nodeFirstAttributes.add(attributeNames.size());
+	}
+
+	private DocumentTaggedResult(POSContainer posContainer) {
+		List<Token> tokens = posContainer.getWordTokenList();
+		List<String> tags = posContainer.getCombinedTagsList();
+		int tokenCount = tokens.size();
+		tokenSurfaces = new String[tokenCount];
+		tokenStarts = new int[tokenCount];
+		tokenEnds = new int[tokenCount];
+		tokenTags = new String[tokenCount];
+		for (int i = 0; i < tokenCount; i++) {
+			Token token = tokens.get(i);
+			tokenSurfaces[i] = token.getSurface();
+			tokenStarts[i] = token.getStart();
+			tokenEnds[i] = token.getEnd();
+			tokenTags[i] = i < tags.size() ? tags.get(i) : null;
+		}
+	}
+
+	private void addNode(Element element, int parent) {
+		int node = nodeNames.size();
+		nodeNames.add(element.getLocalName());
+		nodeParents.add(parent);
+		nodeFirstAttributes.add(attributeNames.size());
+		for (int i = 0; i < element.getAttributeCount(); i++) {
+			Attribute attribute = element.getAttribute(i);
+			attributeNames.add(attribute.getLocalName());
+			attributeValues.add(attribute.getValue());
+		}
+		StringBuilder text = null;
+		nodeTexts.add(null);
+		for (int i = 0; i < element.getChildCount(); i++) {
+			Node child = element.getChild(i);
+			if (child instanceof Element) {
+				addNode((Element) child, node);
+			}
+			else if (child instanceof Text) {
+				if (text == null) {
+					text = new StringBuilder();
+				}
+				text.append(child.getValue());
+			}
+		}
+		if (text != null) {
+			nodeTexts.set(node, text.toString());
+		}
+	}
+
+	private void addNode(PhraseNode phraseNode, int parent) {
+		int node = nodeNames.size();
+		nodeNames.add(phraseNode.getName());
+		nodeParents.add(parent);
+		nodeFirstAttributes.add(attributeNames.size());
+		for (int i = 0; i < phraseNode.getAttributeCount(); i++) {
+			attributeNames.add(phraseNode.getAttributeName(i));
+			attributeValues.add(phraseNode.getAttributeValue(i));
+		}
+		nodeTexts.add(phraseNode.getText());
+		for (int i = 0; i < phraseNode.getChildCount(); i++) {
+			addNode(phraseNode.getChild(i), node);
+		}
+	}
+
+	public int getTokenCount() {
+		return tokenSurfaces.length;
+	}
+
+	public String getTokenSurface(int token) {
+		return tokenSurfaces[token];
+	}
+
+	public int getTokenStart(int token) {
+		return tokenStarts[token];
+	}
+
+	public int getTokenEnd(int token) {
+		return tokenEnds[token];
+	}
+
+	public String getTokenTag(int token) {
+		return tokenTags[token];
+	}
+
+	public int getNodeCount() {
+		return nodeNames.size();
+	}
+
+	public String getNodeName(int node) {
+		return nodeNames.get(node);
+	}
+
+	public int getNodeParent(int node) {
+		return nodeParents.get(node);
+	}
+
+	public String getNodeText(int node) {
+		return nodeTexts.get(node);
+	}
+
+	public int getNodeAttributeCount(int node) {
+		return nodeFirstAttributes.get(node + 1) - nodeFirstAttributes.get(node);
+	}
+
+	public String getNodeAttributeName(int node, int attribute) {
+		return attributeNames.get(nodeFirstAttributes.get(node) + attribute);
+	}
+
+	public String getNodeAttributeValue(int node, int attribute) {
+		return attributeValues.get(nodeFirstAttributes.get(node) + attribute);
+	}
+}
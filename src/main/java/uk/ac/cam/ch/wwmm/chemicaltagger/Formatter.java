@@ -22,7 +22,6 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import uk.ac.cam.ch.wwmm.oscar.document.Token;
-import uk.ac.cam.ch.wwmm.oscar.tools.StringTools;
 
 /*********************************************
  * Preprocesses text before it gets passed to tokenisation and tagging classes.
@@ -31,11 +30,19 @@ import uk.ac.cam.ch.wwmm.oscar.tools.StringTools;
  */
 public class Formatter {
 
-	private static Pattern MATCH_SULPH = Pattern.compile("sulph", Pattern.CASE_INSENSITIVE);
-	private static Pattern MATCH_DEGREES_WHITESPACE = Pattern.compile("([\u00b0\u00ba])(\\s+)([cCfF]([.,;:()\\[\\]{}\\s]|$))");
-	private static Pattern WHITESPACE_PATTERN = Pattern.compile("\\s+");
-	private final static Pattern matchSpaceChargeOrOxidationSpecifier = Pattern.compile(" \\((\\d[+\\-]|[+\\-]\\d|0|I{1,3}|IV|VI{1,3}|IX)\\)", Pattern.CASE_INSENSITIVE);
+	private static final char[] CHARACTER_SUBSTITUTIONS = new char['\u2212' + 1];
+	static {
+		for (int i = 0; i < CHARACTER_SUBSTITUTIONS.length; i++) {
+			CHARACTER_SUBSTITUTIONS[i] = (char) i;
+		}
+		for (char hyphen : new char[]{'\u2010', '\u2011', '\u2012', '\u2013', '\u2014', '\u2015', '\u2212'}) {
+			CHARACTER_SUBSTITUTIONS[hyphen] = '-';//normalise hyphens
+		}
+		CHARACTER_SUBSTITUTIONS['\u03BC'] = '\u00B5';//normalise mu to micro
+	}
 	private final static List<String> elements = Arrays.asList("hydrogen", "lithium", "sodium", "natrium", "potassium", "kalium", "rubidium", "caesium", "cesium", "francium", "beryllium", "magnesium", "calcium", "strontium", "barium", "radium", "aluminium", "aluminum", "gallium", "indium", "thallium", "tin", "stannum", "lead", "plumbum", "bismuth", "polonium", "scandium", "titanium", "vanadium", "chromium", "manganese", "iron", "cobalt", "nickel", "copper", "zinc", "yttrium", "zirconium", "niobium", "molybdenum", "technetium", "ruthenium", "rhodium", "palladium", "silver", "cadmium", "lanthanum", "cerium", "praseodymium", "neodymium", "promethium", "samarium", "europium", "gadolinium", "terbium", "dysprosium", "holmium", "erbium", "thulium", "ytterbium", "lutetium", "hafnium", "tantalum", "tungsten", "wolfram", "rhenium", "osmium", "iridium", "platinum", "gold", "mercury", "hydrargyrum", "actinium", "thorium", "protactinium", "uranium", "neptunium", "plutonium", "americium", "curium", "berkelium", "californium", "einsteinium", "fermium", "mendelevium", "nobelium", "lawrencium", "rutherfordium", "boron", "carbon", "silicon", "germanium", "nitrogen", "phosphorus", "arsenic", "antimony", "stibium", "oxygen", "sulfur", "selenium", "tellurium", "polonium", "fluorine", "chlorine", "bromine", "iodine", "astatine", "helium", "neon", "argon", "krypton", "xenon", "radon");
+	private final static ReversedElementTrie elementsTrie = new ReversedElementTrie(elements);
+	private final static List<String> oxidationStates = Arrays.asList("0", "i", "ii", "iii", "iv", "vi", "vii", "viii", "ix");
 	
 	private static Pattern CONCAT_AMOUNT_PATTERN = Pattern.compile("[~]?\\d*\\.?(\\d(\\d+|\\.\\d+|\\d*[mk\u00b5u])(g|l|hPa)[s]?|(\\d+[mnk\u00b5u]?([LMN]|[eE][qQ][\\.]?|[cCdD][mM]3|[gG][rR][aA][mM][mM]?[eE]?|[mM][oO][lL][eE]?|[mM][oO][lL][aA][rR])[sS]?))$");
 	private static Pattern CONCAT_PH_PATTERN = Pattern.compile("^pH-?\\d+");
@@ -56,90 +63,268 @@ public class Formatter {
 	 * @return newSentence (String)
 	 *************************************/
 	public static String normaliseText(String sentence){
-		sentence = sentence.replace("\u2010", "-").replace("\u2011", "-").replace("\u2012", "-").replace("\u2013", "-").replace("\u2014", "-").replace("\u2015", "-").replace("\u002d", "-").replace("\u2212", "-");//normalise hyphens
-  	    sentence = sentence.replace("\u03BC", "\u00B5");//normalise mu to micro
-  	    sentence = MATCH_SULPH.matcher(sentence).replaceAll("sulf");//correct British spelling to the IUPAC spelling to assist OSCAR
-  	    sentence = MATCH_DEGREES_WHITESPACE.matcher(sentence).replaceAll("$2$1$3");//correct [degree symbol, space, temperature unit] to [space, degree symbol, temperature unit]
-  	    sentence = WHITESPACE_PATTERN.matcher(sentence).replaceAll(" ");
-  	    sentence = removeSpaceBetweenElementsAndChargeOrOxidationStateSpecifier(sentence);
-		return sentence;
+		int length = sentence.length();
+		StringBuilder newSentence = new StringBuilder(length);
+		int i = 0;
+		while (i < length) {
+			char ch = substitute(sentence.charAt(i));
+			if (isWhitespace(ch)) {
+				int next = skipWhitespace(sentence, i);
+				appendSpace(newSentence, sentence, next);
+				i = next;
+			}
+			else if ((ch == '\u00b0' || ch == '\u00ba') && isWhitespaceThenTemperatureUnit(sentence, i + 1)) {
+				//correct [degree symbol, space, temperature unit] to [space, degree symbol, temperature unit]
+				int unit = skipWhitespace(sentence, i + 1);
+				appendSpace(newSentence, sentence, i);
+				newSentence.append(ch).append(sentence.charAt(unit));
+				i = unit + 1;
+			}
+			else if (startsWithSulph(sentence, i)) {
+				newSentence.append("sulf");//correct British spelling to the IUPAC spelling to assist OSCAR
+				i += 5;
+			}
+			else {
+				newSentence.append(ch);
+				i++;
+			}
+		}
+		return newSentence.toString();
 	}
-	
+
+	/**
+	 * Appends a single space for a run of whitespace, unless it is the space in e.g. palladium (II),
+	 * which is removed to give palladium(II)
+	 * @param newSentence
+	 * @param sentence
+	 * @param next the index in the sentence of the character after the whitespace
+	 */
+	private static void appendSpace(StringBuilder newSentence, String sentence, int next) {
+		int length = newSentence.length();
+		if (length > 0 && newSentence.charAt(length - 1) == ' ') {
+			return;
+		}
+		if (isChargeOrOxidationStateSpecifier(sentence, next) && elementsTrie.isSuffixOf(newSentence)) {
+			return;
+		}
+		newSentence.append(' ');
+	}
+
 	/**
-	 * e.g. palladium (II) --> palladium(II)
+	 * Does the sentence have e.g. (II) or (2+) at the index
 	 * @param sentence
+	 * @param index
 	 * @return
 	 */
-	private static String removeSpaceBetweenElementsAndChargeOrOxidationStateSpecifier(String sentence) {
-		StringBuffer sb = new StringBuffer();
-		Matcher m = matchSpaceChargeOrOxidationSpecifier.matcher(sentence);
-		while (m.find()){
-			String beforeSpecifier = sentence.substring(0, m.start());
-			for (String chemicalElement : elements) {
-				if (StringTools.endsWithCaseInsensitive(beforeSpecifier, chemicalElement)){
-					m.appendReplacement(sb, m.group().substring(1));
-					break;
+	private static boolean isChargeOrOxidationStateSpecifier(String sentence, int index) {
+		if (index >= sentence.length() || sentence.charAt(index) != '(') {
+			return false;
+		}
+		int close = sentence.indexOf(')', index + 1);
+		if (close < 0 || close - index > 5) {
+			return false;
+		}
+		if (close - index == 3) {
+			char first = substitute(sentence.charAt(index + 1));
+			char second = substitute(sentence.charAt(index + 2));
+			if ((isDigit(first) && isSign(second)) || (isSign(first) && isDigit(second))) {
+				return true;
+			}
+		}
+		StringBuilder specifier = new StringBuilder(4);
+		for (int i = index + 1; i < close; i++) {
+			specifier.append(toLowerCaseAscii(sentence.charAt(i)));
+		}
+		return oxidationStates.contains(specifier.toString());
+	}
+
+	private static boolean isWhitespaceThenTemperatureUnit(String sentence, int index) {
+		int length = sentence.length();
+		if (index >= length || !isWhitespace(sentence.charAt(index))) {
+			return false;
+		}
+		int unit = skipWhitespace(sentence, index);
+		if (unit >= length || "cCfF".indexOf(sentence.charAt(unit)) < 0) {
+			return false;
+		}
+		int next = unit + 1;
+		if (next == length) {
+			return true;
+		}
+		char ch = sentence.charAt(next);
+		if (isWhitespace(ch) || ".,;:()[]{}".indexOf(ch) >= 0) {
+			return true;
+		}
+		//as with a regular expression $, a line terminator may end the sentence
+		return next == length - 1 && (ch == '\u0085' || ch == '\u2028' || ch == '\u2029');
+	}
+
+	private static boolean startsWithSulph(String sentence, int index) {
+		if (index + 5 > sentence.length()) {
+			return false;
+		}
+		String sulph = "sulph";
+		for (int i = 0; i < 5; i++) {
+			if (toLowerCaseAscii(sentence.charAt(index + i)) != sulph.charAt(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static int skipWhitespace(String sentence, int index) {
+		while (index < sentence.length() && isWhitespace(sentence.charAt(index))) {
+			index++;
+		}
+		return index;
+	}
+
+	private static char substitute(char ch) {
+		return ch < CHARACTER_SUBSTITUTIONS.length ? CHARACTER_SUBSTITUTIONS[ch] : ch;
+	}
+
+	/**
+	 * Whitespace as matched by \s in a regular expression
+	 */
+	private static boolean isWhitespace(char ch) {
+		return ch == ' ' || ch == '\t' || ch == '\n' || ch == '\u000B' || ch == '\f' || ch == '\r';
+	}
+
+	private static boolean isDigit(char ch) {
+		return ch >= '0' && ch <= '9';
+	}
+
+	private static boolean isSign(char ch) {
+		return ch == '+' || ch == '-';
+	}
+
+	private static char toLowerCaseAscii(char ch) {
+		return ch >= 'A' && ch <= 'Z' ? (char) (ch + ('a' - 'A')) : ch;
+	}
+
+	/**
+	 * The element names stored backwards, so that whether a sentence ends
+	 * with one of them can be found by walking back from its end
+	 */
+	private static class ReversedElementTrie {
+		private final ReversedElementTrie[] children = new ReversedElementTrie[26];
+		private boolean isElement;
+
+		ReversedElementTrie(List<String> names) {
+			for (String name : names) {
+				ReversedElementTrie node = this;
+				for (int i = name.length() - 1; i >= 0; i--) {
+					int letter = name.charAt(i) - 'a';
+					if (node.children[letter] == null) {
+						node.children[letter] = new ReversedElementTrie();
+					}
+					node = node.children[letter];
 				}
+				node.isElement = true;
 			}
 		}
-		m.appendTail(sb);
-		return sb.toString();
+
+		private ReversedElementTrie() {
+		}
+
+		/**
+		 * Does the text end with one of the element names, ignoring case
+		 * in the same way as {@link String#regionMatches(boolean, int, String, int, int)}
+		 */
+		boolean isSuffixOf(CharSequence text) {
+			ReversedElementTrie node = this;
+			for (int i = text.length() - 1; i >= 0; i--) {
+				char ch = Character.toLowerCase(Character.toUpperCase(text.charAt(i)));
+				if (ch < 'a' || ch > 'z') {
+					return false;
+				}
+				node = node.children[ch - 'a'];
+				if (node == null) {
+					return false;
+				}
+				if (node.isElement) {
+					return true;
+				}
+			}
+			return false;
+		}
 	}
 
 	/************************************
 	 * Returns the list of tokens with tokens divided into further tokens in cases where this improves tagging
 	 * e.g. ['4.5kg'] --> ['4.5', 'kg']
+	 * The tokens are returned in a new list, the given list is not modified.
 	 * 
 	 * @param tokens (List<Token>)
 	 * @return tokens (List<Token>)
 	 *************************************/
 	public static List<Token> subTokeniseTokens(List<Token> tokens){
-		int i = 0;
-		while (i < tokens.size()) {
-			Token token = tokens.get(i);
-			String[] subTokens = subTokenize(token.getSurface());
-			if (subTokens!=null){
-				int start = token.getStart();
-				List<Token> newTokens = new ArrayList<Token>();
-				for (String newTokenSurface : subTokens) {
-					int end = start + newTokenSurface.length();
-					newTokens.add(new Token(newTokenSurface, start, end, token.getDoc(), token.getBioType(), token.getNeElem()));
-					start = end;
-				}
-				tokens.remove(i);
-				tokens.addAll(i, newTokens);
-			}
-			else{
-				i++;
-			}
+		List<Token> newTokens = new ArrayList<Token>(tokens.size() + tokens.size() / 4);
+		for (Token token : tokens) {
+			addSubTokens(token, newTokens);
 		}
 		int id =0;
-		for (Token token : tokens) {
+		for (Token token : newTokens) {
 			token.setIndex(id++);
 		}
-		return tokens;
+		return newTokens;
+	}
+
+	/**
+	 * Adds the token, or the tokens it is divided into, to the list.
+	 * The new tokens may themselves be divided further e.g. ['(4.5kg)'] --> ['(', '4.5', 'kg', ')']
+	 * @param token
+	 * @param newTokens
+	 */
+	private static void addSubTokens(Token token, List<Token> newTokens) {
+		String[] subTokens = subTokenize(token.getSurface());
+		if (subTokens == null) {
+			newTokens.add(token);
+			return;
+		}
+		int start = token.getStart();
+		for (String newTokenSurface : subTokens) {
+			int end = start + newTokenSurface.length();
+			addSubTokens(new Token(newTokenSurface, start, end, token.getDoc(), token.getBioType(), token.getNeElem()), newTokens);
+			start = end;
+		}
 	}
 
 	private static String[] subTokenize(String tokenSurface) {
-		if (tokenSurface.length() >1 ){
-			Matcher concatAmountMatcher = CONCAT_AMOUNT_PATTERN.matcher(tokenSurface);//split values from units e.g. 4.5g --> 4.5 g
-			if (concatAmountMatcher.matches()) {
-				return splitAmounts(tokenSurface);
-			}
-			Matcher concatPhMatcher = CONCAT_PH_PATTERN.matcher(tokenSurface);//e.g. pH7 --> pH 7
-			if (concatPhMatcher.find()) {
-				return new String[]{tokenSurface.substring(0, 2), tokenSurface.substring(2)};
+		int length = tokenSurface.length();
+		if (length > 1 ){
+			//only tokens with a digit, a percentage sign or an opening bracket can be divided
+			boolean hasDigit = false;
+			boolean hasPercentageSign = false;
+			for (int i = 0; i < length; i++) {
+				char ch = tokenSurface.charAt(i);
+				if (ch >= '0' && ch <= '9') {
+					hasDigit = true;
+				}
+				else if (ch == '%') {
+					hasPercentageSign = true;
+				}
 			}
-			Matcher concatTempMatcher = CONCAT_TEMP_PATTERN.matcher(tokenSurface);//e.g. 50oC --> 50 oC
-			if (concatTempMatcher.find()) {
-				int startOfDegreesSign = concatTempMatcher.start(1);
-				return new String[]{tokenSurface.substring(0, startOfDegreesSign), tokenSurface.substring(startOfDegreesSign)};
+			if (hasDigit) {
+				Matcher concatAmountMatcher = CONCAT_AMOUNT_PATTERN.matcher(tokenSurface);//split values from units e.g. 4.5g --> 4.5 g
+				if (concatAmountMatcher.matches()) {
+					return splitAmounts(tokenSurface);
+				}
+				Matcher concatPhMatcher = CONCAT_PH_PATTERN.matcher(tokenSurface);//e.g. pH7 --> pH 7
+				if (concatPhMatcher.find()) {
+					return new String[]{tokenSurface.substring(0, 2), tokenSurface.substring(2)};
+				}
+				Matcher concatTempMatcher = CONCAT_TEMP_PATTERN.matcher(tokenSurface);//e.g. 50oC --> 50 oC
+				if (concatTempMatcher.find()) {
+					int startOfDegreesSign = concatTempMatcher.start(1);
+					return new String[]{tokenSurface.substring(0, startOfDegreesSign), tokenSurface.substring(startOfDegreesSign)};
+				}
 			}
-			if (tokenSurface.contains("%")){
+			if (hasPercentageSign){
 				return splitPercentageSign(tokenSurface);
 			}
-			if (tokenSurface.length() >2 && tokenSurface.startsWith("(") && tokenSurface.endsWith(")")) {// splits brackets off a word enclosed by brackets. Needed to fix OSCAR not tokenising oxidation states
-				return new String[]{tokenSurface.substring(0,1), tokenSurface.substring(1, tokenSurface.length()-1), tokenSurface.substring(tokenSurface.length()-1)};
+			if (length >2 && tokenSurface.charAt(0) == '(' && tokenSurface.charAt(length - 1) == ')') {// splits brackets off a word enclosed by brackets. Needed to fix OSCAR not tokenising oxidation states
+				return new String[]{tokenSurface.substring(0,1), tokenSurface.substring(1, length-1), tokenSurface.substring(length-1)};
 			}
 		}
 		return null;
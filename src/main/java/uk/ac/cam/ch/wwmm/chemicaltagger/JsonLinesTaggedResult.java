@@ -0,0 +1,393 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.BitSet;
+
+/**************************************************************
+ * A {@link TaggedResult} read from a line written by
+ * {@link JsonLinesTaggedResultWriter}.
+ *
+ * The line is scanned once when it is opened, recording where each
+ * String starts and ends in it. A String is only cut out of the line,
+ * and unescaped if it needs to be, the first time it is asked for.
+ ***************************************************************/
+public class JsonLinesTaggedResult implements TaggedResult {
+
+	private final String line;
+	private int position;
+
+	//start and end of each string in the line, inside its quotes
+	private final IntList stringBounds = new IntList();
+	//the strings that contain an escape
+	private final BitSet escapedStrings = new BitSet();
+	//surface, start, end, tag per token; strings are indexes into stringBounds or -1 for null
+	private final IntList tokens = new IntList();
+	//name, parent, text, first attribute per node
+	private final IntList nodes = new IntList();
+	//name, value per attribute
+	private final IntList attributes = new IntList();
+	private String[] strings;
+
+	/**************************************
+	 * @param line (String) one line of JSON Lines, with or without its line terminator
+	 ***************************************/
+	public JsonLinesTaggedResult(String line) {
+		this.line = line;
+		expect('{');
+		do {
+			String key = readKey();
+			expect(':');
+			if ("tokens".equals(key)) {
+				readTokens();
+			}
+			else if ("nodes".equals(key)) {
+				readNodes();
+			}
+			else {
+				throw error("Unknown key " + key);
+			}
+		} while (readSeparator('}'));
+		skipWhitespace();
+		if (position != line.length()) {
+			throw error("Unexpected content after the result");
+		}
+		strings = new String[stringBounds.size() / 2];
+	}
+
+	/**************************************
+	 * Reads the next non-empty line from the reader.
+	 * @param reader (BufferedReader)
+	 * @return result (JsonLinesTaggedResult) or null at the end of the reader
+	 * @throws IOException
+	 ***************************************/
+	public static JsonLinesTaggedResult read(BufferedReader reader) throws IOException {
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.trim().length() > 0) {
+				return new JsonLinesTaggedResult(line);
+			}
+		}
+		return null;
+	}
+
+	public int getTokenCount() {
+		return tokens.size() / 4;
+	}
+
+	public String getTokenSurface(int token) {
+		return getString(getTokenInt(token, 0));
+	}
+
+	public int getTokenStart(int token) {
+		return getTokenInt(token, 1);
+	}
+
+	public int getTokenEnd(int token) {
+		return getTokenInt(token, 2);
+	}
+
+	public String getTokenTag(int token) {
+		return getString(getTokenInt(token, 3));
+	}
+
+	public int getNodeCount() {
+		return nodes.size() / 4;
+	}
+
+	public String getNodeName(int node) {
+		return getString(getNodeInt(node, 0));
+	}
+
+	public int getNodeParent(int node) {
+		return getNodeInt(node, 1);
+	}
+
+	public String getNodeText(int node) {
+		return getString(getNodeInt(node, 2));
+	}
+
+	public int getNodeAttributeCount(int node) {
+		int end = node + 1 < getNodeCount() ? getNodeInt(node + 1, 3) : attributes.size() / 2;
+		return end - getNodeInt(node, 3);
+	}
+
+	public String getNodeAttributeName(int node, int attribute) {
+		return getString(getAttributeInt(node, attribute, 0));
+	}
+
+	public String getNodeAttributeValue(int node, int attribute) {
+		return getString(getAttributeInt(node, attribute, 1));
+	}
+
+	private int getTokenInt(int token, int field) {
+		checkIndex(token, getTokenCount());
+		return tokens.get(4 * token + field);
+	}
+
+	private int getNodeInt(int node, int field) {
+		checkIndex(node, getNodeCount());
+		return nodes.get(4 * node + field);
+	}
+
+	private int getAttributeInt(int node, int attribute, int field) {
+		checkIndex(attribute, getNodeAttributeCount(node));
+		return attributes.get(2 * (getNodeInt(node, 3) + attribute) + field);
+	}
+
+	private static void checkIndex(int index, int size) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+	}
+
+	private String getString(int id) {
+		if (id == -1) {
+			return null;
+		}
+		String string = strings[id];
+		if (string == null) {
+			int start = stringBounds.get(2 * id);
+			int end = stringBounds.get(2 * id + 1);
+			if (escapedStrings.get(id)) {
+				string = unescape(start, end);
+			}
+			else {
+				string = line.substring(start, end);
+			}
+			strings[id] = string;
+		}
+		return string;
+	}
+
+	private String unescape(int start, int end) {
+		StringBuilder sb = new StringBuilder(end - start);
+		for (int i = start; i < end; i++) {
+			char c = line.charAt(i);
+			if (c != '\\') {
+				sb.append(c);
+				continue;
+			}
+			c = line.charAt(++i);
+			switch (c) {
+			case 'b':
+				sb.append('\b');
+				break;
+			case 'f':
+				sb.append('\f');
+				break;
+			case 'n':
+				sb.append('\n');
+				break;
+			case 'r':
+				sb.append('\r');
+				break;
+			case 't':
+				sb.append('\t');
+				break;
+			case 'u':
+				sb.append((char) Integer.parseInt(line.substring(i + 1, i + 5), 16));
+				i += 4;
+				break;
+			default:
+				//quote, backslash and solidus stand for themselves
+				sb.append(c);
+			}
+		}
+		return sb.toString();
+	}
+
+	private void readTokens() {
+		expect('[');
+		if (readEmpty(']')) {
+			return;
+		}
+		do {
+			expect('[');
+			tokens.add(readString());
+			expect(',');
+			tokens.add(readInt());
+			expect(',');
+			tokens.add(readInt());
+			expect(',');
+			tokens.add(readString());
+			expect(']');
+		} while (readSeparator(']'));
+	}
+
+	private void readNodes() {
+		expect('[');
+		if (readEmpty(']')) {
+			return;
+		}
+		do {
+			expect('[');
+			nodes.add(readString());
+			expect(',');
+			nodes.add(readInt());
+			expect(',');
+			nodes.add(readString());
+			expect(',');
+			nodes.add(attributes.size() / 2);
+			expect('{');
+			if (!readEmpty('}')) {
+				do {
+					attributes.add(readString());
+					expect(':');
+					attributes.add(readString());
+				} while (readSeparator('}'));
+			}
+			expect(']');
+		} while (readSeparator(']'));
+	}
+
+	private String readKey() {
+		int id = readString();
+		if (id == -1) {
+			throw error("Expected a key");
+		}
+		int start = stringBounds.get(2 * id);
+		int end = stringBounds.get(2 * id + 1);
+		//keys are not kept as strings of the result
+		stringBounds.removeLast(2);
+		escapedStrings.clear(id);
+		return line.substring(start, end);
+	}
+
+	/**
+	 * Records the bounds of the string starting at the current position.
+	 * Returns its index or -1 for null.
+	 */
+	private int readString() {
+		skipWhitespace();
+		if (line.startsWith("null", position)) {
+			position += 4;
+			return -1;
+		}
+		expect('"');
+		int start = position;
+		boolean escaped = false;
+		while (position < line.length()) {
+			char c = line.charAt(position);
+			if (c == '"') {
+				int id = stringBounds.size() / 2;
+				stringBounds.add(start);
+				stringBounds.add(position);
+				if (escaped) {
+					escapedStrings.set(id);
+				}
+				position++;
+				return id;
+			}
+			if (c == '\\') {
+				escaped = true;
+				position += 2;
+			}
+			else {
+				position++;
+			}
+		}
+		throw error("Unterminated string");
+	}
+
+	private int readInt() {
+		skipWhitespace();
+		int start = position;
+		if (position < line.length() && line.charAt(position) == '-') {
+			position++;
+		}
+		while (position < line.length() && Character.isDigit(line.charAt(position))) {
+			position++;
+		}
+		try {
+			return Integer.parseInt(line.substring(start, position));
+		} catch (NumberFormatException e) {
+			throw error("Expected an int");
+		}
+	}
+
+	/**
+	 * Reads either a comma, returning true, or the closing character, returning false.
+	 */
+	private boolean readSeparator(char close) {
+		skipWhitespace();
+		if (position < line.length()) {
+			char c = line.charAt(position++);
+			if (c == ',') {
+				return true;
+			}
+			if (c == close) {
+				return false;
+			}
+		}
+		throw error("Expected ',' or '" + close + "'");
+	}
+
+	private boolean readEmpty(char close) {
+		skipWhitespace();
+		if (position < line.length() && line.charAt(position) == close) {
+			position++;
+			return true;
+		}
+		return false;
+	}
+
+	private void expect(char expected) {
+		skipWhitespace();
+		if (position >= line.length() || line.charAt(position) != expected) {
+			throw error("Expected '" + expected + "'");
+		}
+		position++;
+	}
+
+	private void skipWhitespace() {
+		while (position < line.length() && Character.isWhitespace(line.charAt(position))) {
+			position++;
+		}
+	}
+
+	private RuntimeException error(String message) {
+		return new RuntimeException(message + " at character " + position + " of tagged result");
+	}
+
+	private static class IntList {
+		private int[] ints = new int[64];
+		private int size;
+
+		void add(int i) {
+			if (size == ints.length) {
+				int[] larger = new int[size * 2];
+				System.arraycopy(ints, 0, larger, 0, size);
+				ints = larger;
+			}
+			ints[size++] = i;
+		}
+
+		int get(int index) {
+			return ints[index];
+		}
+
+		void removeLast(int count) {
+			size -= count;
+		}
+
+		int size() {
+			return size;
+		}
+	}
+}
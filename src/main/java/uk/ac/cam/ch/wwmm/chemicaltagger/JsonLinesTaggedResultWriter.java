@@ -0,0 +1,137 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**************************************************************
+ * Writes {@link TaggedResult}s as JSON Lines, one JSON object per line,
+ * which {@link JsonLinesTaggedResult} reads back.
+ * <pre>
+ * {"tokens":[[surface,start,end,tag],...],
+ *  "nodes":[[name,parent,text,{attributeName:value,...}],...]}
+ * </pre>
+ * Nodes are in document order and parent is the index of the parent node,
+ * or -1 for the Document node. A missing tag or text is null.
+ ***************************************************************/
+public class JsonLinesTaggedResultWriter {
+
+	private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+	private final Writer out;
+
+	/**************************************
+	 * @param out (Writer)
+	 ***************************************/
+	public JsonLinesTaggedResultWriter(Writer out) {
+		this.out = out;
+	}
+
+	/**************************************
+	 * Writes the result as one line.
+	 * @param result (TaggedResult)
+	 * @throws IOException
+	 ***************************************/
+	public void write(TaggedResult result) throws IOException {
+		out.write("{\"tokens\":[");
+		for (int i = 0; i < result.getTokenCount(); i++) {
+			if (i > 0) {
+				out.write(',');
+			}
+			out.write('[');
+			writeString(result.getTokenSurface(i));
+			out.write(',');
+			out.write(Integer.toString(result.getTokenStart(i)));
+			out.write(',');
+			out.write(Integer.toString(result.getTokenEnd(i)));
+			out.write(',');
+			writeString(result.getTokenTag(i));
+			out.write(']');
+		}
+		out.write("],\"nodes\":[");
+		for (int i = 0; i < result.getNodeCount(); i++) {
+			if (i > 0) {
+				out.write(',');
+			}
+			out.write('[');
+			writeString(result.getNodeName(i));
+			out.write(',');
+			out.write(Integer.toString(result.getNodeParent(i)));
+			out.write(',');
+			writeString(result.getNodeText(i));
+			out.write(",{");
+			for (int j = 0; j < result.getNodeAttributeCount(i); j++) {
+				if (j > 0) {
+					out.write(',');
+				}
+				writeString(result.getNodeAttributeName(i, j));
+				out.write(':');
+				writeString(result.getNodeAttributeValue(i, j));
+			}
+			out.write("}]");
+		}
+		out.write("]}\n");
+	}
+
+	/**************************************
+	 * Flushes the underlying writer.
+	 * @throws IOException
+	 ***************************************/
+	public void flush() throws IOException {
+		out.flush();
+	}
+
+	private void writeString(String string) throws IOException {
+		if (string == null) {
+			out.write("null");
+			return;
+		}
+		out.write('"');
+		int start = 0;
+		for (int i = 0; i < string.length(); i++) {
+			char c = string.charAt(i);
+			if (c == '"' || c == '\\' || c < 0x20 || c == 0x2028 || c == 0x2029) {
+				out.write(string, start, i - start);
+				start = i + 1;
+				out.write('\\');
+				switch (c) {
+				case '"':
+				case '\\':
+					out.write(c);
+					break;
+				case '\n':
+					out.write('n');
+					break;
+				case '\r':
+					out.write('r');
+					break;
+				case '\t':
+					out.write('t');
+					break;
+				default:
+					out.write('u');
+					out.write(HEX_DIGITS[(c >> 12) & 0xF]);
+					out.write(HEX_DIGITS[(c >> 8) & 0xF]);
+					out.write(HEX_DIGITS[(c >> 4) & 0xF]);
+					out.write(HEX_DIGITS[c & 0xF]);
+				}
+			}
+		}
+		out.write(string, start, string.length() - start);
+		out.write('"');
+	}
+}
@@ -0,0 +1,207 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**************************************************************
+ * A bounded, thread-safe map that evicts the least recently used entries
+ * once it holds more than its capacity. Hits and misses are counted.
+ * 
+ * Reads and writes do not lock: the entries are held in a ConcurrentHashMap
+ * and each records when it was last used. When the cache grows beyond its
+ * capacity one thread evicts the least recently used entries, down to
+ * a little below the capacity so that the cost of finding them is shared
+ * between many puts. Other threads carry on while it does so.
+ * 
+ * Only puts advance the clock. A hit stamps its entry as used after the
+ * latest put, and only writes the stamp if it has changed, so hits do not
+ * all contend on one shared counter. Entries hit between the same two puts
+ * count as equally recently used. The hit and miss counts are striped
+ * by thread for the same reason.
+ ***************************************************************/
+class LRUCache<K, V> {
+
+	private final int capacity;
+	private final int evictionTarget;
+	private final ConcurrentHashMap<K, Entry<V>> map;
+	private final AtomicInteger entryCount = new AtomicInteger();
+	private final AtomicLong clock = new AtomicLong();
+	private final ReentrantLock evictionLock = new ReentrantLock();
+	private final StripedCounter hits = new StripedCounter();
+	private final StripedCounter misses = new StripedCounter();
+
+	/**************************************
+	 * Creates an empty cache.
+	 * @param capacity (int) the maximum number of entries
+	 ***************************************/
+	LRUCache(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Cache capacity must be at least 1: " + capacity);
+		}
+		this.capacity = capacity;
+		this.evictionTarget = capacity - capacity / 16;
+		this.map = new ConcurrentHashMap<K, Entry<V>>(Math.min(capacity, 1024) * 4 / 3 + 1);
+	}
+
+	/**************************************
+	 * Returns the value for the key or null, counting a hit or a miss.
+	 * @param key (K)
+	 * @return value (V)
+	 ***************************************/
+	V get(K key) {
+		Entry<V> entry = map.get(key);
+		if (entry != null) {
+			//puts have even stamps, a hit ranks after the latest put
+			long stamp = 2 * clock.get() + 1;
+			if (entry.lastUsed != stamp) {
+				entry.lastUsed = stamp;
+			}
+			hits.increment();
+			return entry.value;
+		}
+		misses.increment();
+		return null;
+	}
+
+	/**************************************
+	 * Adds a value, evicting the least recently used entries if the cache is full.
+	 * @param key (K)
+	 * @param value (V) must not be null
+	 ***************************************/
+	void put(K key, V value) {
+		if (value == null) {
+			throw new NullPointerException("Cannot cache a null value");
+		}
+		if (map.put(key, new Entry<V>(value, 2 * clock.incrementAndGet())) == null
+				&& entryCount.incrementAndGet() > capacity) {
+			evict();
+		}
+	}
+
+	/**************************************
+	 * Removes every entry. The hit and miss counts are kept.
+	 ***************************************/
+	void clear() {
+		for (K key : map.keySet()) {
+			if (map.remove(key) != null) {
+				entryCount.decrementAndGet();
+			}
+		}
+	}
+
+	int size() {
+		return map.size();
+	}
+
+	int getCapacity() {
+		return capacity;
+	}
+
+	long getHits() {
+		return hits.get();
+	}
+
+	long getMisses() {
+		return misses.get();
+	}
+
+	/**************************************
+	 * Removes the least recently used entries until there are no more than the eviction target.
+	 * Does nothing if another thread is already evicting: that thread checks
+	 * again once it has finished, so entries added meanwhile are not missed.
+	 ***************************************/
+	private void evict() {
+		while (entryCount.get() > capacity && evictionLock.tryLock()) {
+			try {
+				evictLeastRecentlyUsed();
+			} finally {
+				evictionLock.unlock();
+			}
+		}
+	}
+
+	private void evictLeastRecentlyUsed() {
+		List<Map.Entry<K, Entry<V>>> entries = new ArrayList<Map.Entry<K, Entry<V>>>(map.entrySet());
+		int excess = entries.size() - evictionTarget;
+		if (excess <= 0) {
+			return;
+		}
+		long[] lastUsed = new long[entries.size()];
+		for (int i = 0; i < lastUsed.length; i++) {
+			lastUsed[i] = entries.get(i).getValue().lastUsed;
+		}
+		Arrays.sort(lastUsed);
+		long threshold = lastUsed[excess - 1];
+		//entries used as recently as the threshold can tie, only remove as many of them as needed
+		int atThreshold = excess;
+		while (atThreshold > 0 && lastUsed[excess - atThreshold] < threshold) {
+			atThreshold--;
+		}
+		for (Map.Entry<K, Entry<V>> entry : entries) {
+			//entries used since they were listed are kept
+			long used = entry.getValue().lastUsed;
+			boolean evict = used < threshold || (used == threshold && atThreshold > 0);
+			if (evict && map.remove(entry.getKey(), entry.getValue())) {
+				entryCount.decrementAndGet();
+				if (used == threshold) {
+					atThreshold--;
+				}
+			}
+		}
+	}
+
+	/**************************************
+	 * A count that threads add to in different cells, summed when it is read.
+	 ***************************************/
+	private static final class StripedCounter {
+		private static final int STRIPES = 16;
+		//cells are a cache line apart
+		private static final int PADDING = 8;
+		private final AtomicLongArray cells = new AtomicLongArray(STRIPES * PADDING);
+
+		void increment() {
+			int stripe = (int) (Thread.currentThread().getId() & (STRIPES - 1));
+			cells.incrementAndGet(stripe * PADDING);
+		}
+
+		long get() {
+			long sum = 0;
+			for (int i = 0; i < STRIPES; i++) {
+				sum += cells.get(i * PADDING);
+			}
+			return sum;
+		}
+	}
+
+	private static final class Entry<V> {
+		private final V value;
+		private volatile long lastUsed;
+
+		private Entry(V value, long lastUsed) {
+			this.value = value;
+			this.lastUsed = lastUsed;
+		}
+	}
+}
@@ -0,0 +1,315 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+
+import uk.ac.cam.ch.wwmm.oscar.Oscar;
+import uk.ac.cam.ch.wwmm.oscartokeniser.Tokeniser;
+
+/**************************************************************
+ * Loads the models used by the default taggers once, when they are first needed.
+ * 
+ * Each model is a {@link Component} that is loaded on the first call to its get method,
+ * or in the background by {@link #warmUp()} so that a server can start loading
+ * them all at the same time as soon as it starts. A caller that needs a component
+ * that is already being loaded waits for it rather than loading it again.
+ * 
+ * The time taken to load each component and the heap it used can be read back,
+ * see {@link #getLoadReport()}, and {@link #isReady()} can be used as a readiness probe.
+ ***************************************************************/
+public final class ModelRegistry {
+
+	private static class INSTANCE_HOLDER {
+		private static ModelRegistry myInstance = new ModelRegistry();
+	}
+
+	private final Component<Tokeniser> oscarTokeniser = new Component<Tokeniser>("OSCAR tokeniser", new Callable<Tokeniser>() {
+		public Tokeniser call() {
+			return Tokeniser.getDefaultInstance();
+		}
+	});
+	private final Component<OscarTagger> oscarTagger = new Component<OscarTagger>("OSCAR tagger", new Callable<OscarTagger>() {
+		public OscarTagger call() {
+			return new OscarTagger(new Oscar());
+		}
+	});
+	private final Component<RegexTagger> regexTagger = new Component<RegexTagger>("Regex tagger", new Callable<RegexTagger>() {
+		public RegexTagger call() {
+			return new RegexTagger();
+		}
+	});
+	private final Component<OpenNLPTagger> openNLPTagger = new Component<OpenNLPTagger>("OpenNLP tagger", new Callable<OpenNLPTagger>() {
+		public OpenNLPTagger call() {
+			return OpenNLPTagger.getInstance();
+		}
+	});
+	private final List<Component<?>> components = Collections.unmodifiableList(Arrays.<Component<?>>asList(oscarTokeniser, oscarTagger, regexTagger, openNLPTagger));
+
+	private ModelRegistry() {
+	}
+
+	/**************************************
+	 * Returns the ModelRegistry singleton.
+	 * @return modelRegistry (ModelRegistry)
+	 ***************************************/
+	public static ModelRegistry getInstance() {
+		return INSTANCE_HOLDER.myInstance;
+	}
+
+	/**************************************
+	 * Returns the OSCAR tokeniser, loading it if need be.
+	 * @return tokeniser (Tokeniser)
+	 ***************************************/
+	public Tokeniser getOscarTokeniser() {
+		return oscarTokeniser.get();
+	}
+
+	/**************************************
+	 * Returns the shared OscarTagger, loading OSCAR and its MEMM recogniser if need be.
+	 * @return oscarTagger (OscarTagger)
+	 ***************************************/
+	public OscarTagger getOscarTagger() {
+		return oscarTagger.get();
+	}
+
+	/**************************************
+	 * Returns the shared RegexTagger, loading its rules if need be.
+	 * @return regexTagger (RegexTagger)
+	 ***************************************/
+	public RegexTagger getRegexTagger() {
+		return regexTagger.get();
+	}
+
+	/**************************************
+	 * Returns the OpenNLPTagger, loading its model if need be.
+	 * @return openNLPTagger (OpenNLPTagger)
+	 ***************************************/
+	public OpenNLPTagger getOpenNLPTagger() {
+		return openNLPTagger.get();
+	}
+
+	/**************************************
+	 * Returns the components in the order they are started by {@link #warmUp()}.
+	 * @return components (List<Component<?>>)
+	 ***************************************/
+	public List<Component<?>> getComponents() {
+		return components;
+	}
+
+	/**************************************
+	 * Starts loading every component that has not been started,
+	 * each on its own daemon thread, and returns straight away.
+	 ***************************************/
+	public void warmUp() {
+		for (Component<?> component : components) {
+			if (!component.isStarted()) {
+				Thread thread = new Thread(component.task, "ChemicalTagger warm up: " + component.getName());
+				thread.setDaemon(true);
+				thread.start();
+			}
+		}
+	}
+
+	/**************************************
+	 * Starts loading every component that has not been started on the given executor
+	 * and returns straight away. A component the executor does not accept is loaded
+	 * when it is first needed. The executor is not shut down.
+	 * @param executor (Executor)
+	 ***************************************/
+	public void warmUp(Executor executor) {
+		for (Component<?> component : components) {
+			if (!component.isStarted()) {
+				try {
+					executor.execute(component.task);
+				}
+				catch (RejectedExecutionException e) {
+					return;
+				}
+			}
+		}
+	}
+
+	/**************************************
+	 * Have all the components been loaded.
+	 * A component that failed to load is tried again when it is next
+	 * needed or by calling {@link #warmUp()} again.
+	 * @return isReady (boolean)
+	 ***************************************/
+	public boolean isReady() {
+		for (Component<?> component : components) {
+			if (!component.isLoaded()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**************************************
+	 * Describes each component: how long it took to load and roughly
+	 * how much heap it used, or whether it is still to be loaded.
+	 * @return loadReport (String) one line per component
+	 ***************************************/
+	public String getLoadReport() {
+		StringBuilder report = new StringBuilder();
+		for (Component<?> component : components) {
+			report.append(component).append('\n');
+		}
+		return report.toString();
+	}
+
+	/**************************************************************
+	 * A model that is loaded once, by the first thread to need it.
+	 * If loading fails the threads waiting for it are given the error
+	 * and the next request for the model tries to load it again.
+	 ***************************************************************/
+	public static final class Component<T> {
+
+		private final String name;
+		private final Callable<T> loader;
+		private volatile FutureTask<T> task;
+		private volatile boolean started;
+		private volatile boolean failed;
+		private volatile long loadTimeMillis = -1;
+		private volatile long heapUsedBytes;
+
+		Component(String name, Callable<T> loader) {
+			this.name = name;
+			this.loader = loader;
+			task = newTask();
+		}
+
+		private FutureTask<T> newTask() {
+			return new FutureTask<T>(new Callable<T>() {
+				public T call() throws Exception {
+					started = true;
+					boolean loaded = false;
+					try {
+						Runtime runtime = Runtime.getRuntime();
+						long heapBefore = runtime.totalMemory() - runtime.freeMemory();
+						long startTime = System.nanoTime();
+						T model = loader.call();
+						loadTimeMillis = (System.nanoTime() - startTime) / 1000000;
+						heapUsedBytes = Math.max(0, runtime.totalMemory() - runtime.freeMemory() - heapBefore);
+						loaded = true;
+						return model;
+					} finally {
+						failed = !loaded;
+						if (!loaded) {
+							//the threads waiting for this attempt get its error, later requests try again
+							started = false;
+							task = newTask();
+						}
+					}
+				}
+			});
+		}
+
+		/**************************************
+		 * Returns the model, loading it on this thread if no other thread has started to.
+		 * @return model (T)
+		 ***************************************/
+		public T get() {
+			FutureTask<T> task = this.task;
+			task.run();//does nothing if the task has already been started
+			boolean interrupted = false;
+			try {
+				while (true) {
+					try {
+						return task.get();
+					} catch (InterruptedException e) {
+						interrupted = true;
+					}
+				}
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof RuntimeException) {
+					throw (RuntimeException) cause;
+				}
+				if (cause instanceof Error) {
+					throw (Error) cause;
+				}
+				throw new RuntimeException("Could not load " + name, cause);
+			} finally {
+				if (interrupted) {
+					Thread.currentThread().interrupt();
+				}
+			}
+		}
+
+		/**************************************
+		 * Getter method for name.
+		 * @return name (String)
+		 ***************************************/
+		public String getName() {
+			return name;
+		}
+
+		/**************************************
+		 * Has loading the component been started, and not failed.
+		 * @return isStarted (boolean)
+		 ***************************************/
+		public boolean isStarted() {
+			return started;
+		}
+
+		/**************************************
+		 * Has the component been loaded successfully.
+		 * @return isLoaded (boolean)
+		 ***************************************/
+		public boolean isLoaded() {
+			FutureTask<T> task = this.task;
+			return task.isDone() && !task.isCancelled() && loadTimeMillis >= 0;
+		}
+
+		/**************************************
+		 * Getter method for loadTimeMillis.
+		 * @return loadTimeMillis (long) or -1 if the component has not been loaded
+		 ***************************************/
+		public long getLoadTimeMillis() {
+			return loadTimeMillis;
+		}
+
+		/**************************************
+		 * Returns the growth in used heap whilst the component was loaded.
+		 * This is only an estimate: it includes garbage not yet collected and
+		 * anything else allocated at the same time, e.g. by other components
+		 * being loaded in parallel.
+		 * @return heapUsedBytes (long)
+		 ***************************************/
+		public long getHeapUsedBytes() {
+			return heapUsedBytes;
+		}
+
+		@Override
+		public String toString() {
+			if (isLoaded()) {
+				return name + ": loaded in " + loadTimeMillis + " ms, heap used ~" + (heapUsedBytes / (1024 * 1024)) + " MB";
+			}
+			if (started) {
+				return name + ": loading";
+			}
+			return name + (failed ? ": failed to load, will be retried" : ": not loaded");
+		}
+	}
+}
@@ -0,0 +1,110 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**************************************************************
+ * A MOLECULE or UNNAMEDMOLECULE found by the parser with its role,
+ * e.g. Solvent, and its quantities.
+ ***************************************************************/
+public class Molecule {
+
+	private final boolean named;
+	private final String name;
+	private final String role;
+	private final String text;
+	private final List<Quantity> quantities = new ArrayList<Quantity>();
+
+	Molecule(boolean named, String name, String role, String text) {
+		this.named = named;
+		this.name = name;
+		this.role = role;
+		this.text = text;
+	}
+
+	/**************************************
+	 * Is the molecule a MOLECULE rather than an UNNAMEDMOLECULE,
+	 * e.g. "the title compound".
+	 * @return named (boolean)
+	 ***************************************/
+	public boolean isNamed() {
+		return named;
+	}
+
+	/**************************************
+	 * Returns the name of the molecule. For a MOLECULE this is the chemical name,
+	 * for an UNNAMEDMOLECULE the words describing it without its quantities.
+	 * @return name (String)
+	 ***************************************/
+	public String getName() {
+		return name;
+	}
+
+	/**************************************
+	 * @return role (String) e.g. Solvent, or null if the molecule has no role
+	 ***************************************/
+	public String getRole() {
+		return role;
+	}
+
+	/**************************************
+	 * @return text (String) the words of the molecule separated by spaces
+	 ***************************************/
+	public String getText() {
+		return text;
+	}
+
+	/**************************************
+	 * Returns the quantities of the molecule, including its yield.
+	 * @return quantities (List<Quantity>)
+	 ***************************************/
+	public List<Quantity> getQuantities() {
+		return quantities;
+	}
+
+	/**************************************
+	 * Returns the first quantity of the given type, e.g. MASS.
+	 * @param type (String)
+	 * @return quantity (Quantity) or null
+	 ***************************************/
+	public Quantity getQuantity(String type) {
+		for (Quantity quantity : quantities) {
+			if (quantity.getType().equals(type)) {
+				return quantity;
+			}
+		}
+		return null;
+	}
+
+	/**************************************
+	 * @return yield (Yield) or null if no yield is given
+	 ***************************************/
+	public Yield getYield() {
+		for (Quantity quantity : quantities) {
+			if (quantity instanceof Yield) {
+				return (Yield) quantity;
+			}
+		}
+		return null;
+	}
+
+	@Override
+	public String toString() {
+		return role == null ? name : name + " (" + role + ")";
+	}
+}
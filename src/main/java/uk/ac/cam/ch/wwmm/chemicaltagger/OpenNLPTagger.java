@@ -16,8 +16,9 @@
 package uk.ac.cam.ch.wwmm.chemicaltagger;
 
 import java.io.InputStream;
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 import org.apache.commons.lang.StringUtils;
 
@@ -28,6 +29,9 @@ import uk.ac.cam.ch.wwmm.oscar.document.Token;
 
 /*****************************************************
  * Runs the OpenNLP tagger .
+ * The model is loaded once. POSTaggerME instances are not thread safe and
+ * are expensive to create, so idle instances are kept in a pool and each
+ * call to tag borrows one for the duration of the call.
  * 
  * @author lh359, dmj30,jat45,dl387
  *****************************************************/
@@ -40,6 +44,7 @@ public class OpenNLPTagger implements Tagger{
 	}
 
 	private final POSModel posModel;
+	private final Queue<POSTaggerME> taggerPool = new ConcurrentLinkedQueue<POSTaggerME>();
 
 	/**************************************
 	 * Private Constructor Class.
@@ -63,6 +68,7 @@ public class OpenNLPTagger implements Tagger{
 
 	/**************************************
 	 * Getter method for posTagger.
+	 * Returns a new tagger which the caller may keep; it is not thread safe.
 	 * 
 	 * @return posTagger(PosTagger).
 	 ***************************************/
@@ -87,9 +93,36 @@ public class OpenNLPTagger implements Tagger{
 		return tagList;
 	}
 	
+	/**************************************
+	 * Tags the tokens of a sentence using a pooled tagger.
+	 * @param sentenceTokens (String[])
+	 * @return tags (String[])
+	 ***************************************/
 	public String[] tag(String[] sentenceTokens){
-		POSTaggerME posTagger = new POSTaggerME(posModel);
-		return posTagger.tag(sentenceTokens);
+		POSTaggerME posTagger = taggerPool.poll();
+		if (posTagger == null) {
+			posTagger = new POSTaggerME(posModel);
+		}
+		//POSTaggerME caches contexts against the identity of the array, so always give it a new one
+		String[] tags = posTagger.tag(sentenceTokens.clone());
+		taggerPool.offer(posTagger);
+		return tags;
+	}
+
+	/**************************************
+	 * Returns the number of idle taggers in the pool.
+	 * @return pooledTaggerCount (int)
+	 ***************************************/
+	public int getPooledTaggerCount() {
+		return taggerPool.size();
+	}
+
+	/**************************************
+	 * Discards the idle taggers in the pool e.g. when the application is being undeployed.
+	 * Taggers are recreated as needed.
+	 ***************************************/
+	public void clearTaggerPool() {
+		taggerPool.clear();
 	}
 
 
@@ -99,7 +132,7 @@ public class OpenNLPTagger implements Tagger{
 	 * @param posTags (String[])
 	 ***************************************/
 	public List<String> createPosTagListFromStringArray(String[] posTags) {
-		List<String> posTagList = new ArrayList<String>();
+		List<String> posTagList = new TagList(posTags.length);
 		for (String posTag : posTags) {
 			if (StringUtils.isEmpty(posTag)) {
 				posTagList.add("NN");
@@ -17,7 +17,9 @@ package uk.ac.cam.ch.wwmm.chemicaltagger;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 
 import uk.ac.cam.ch.wwmm.oscar.Oscar;
 import uk.ac.cam.ch.wwmm.oscar.document.NamedEntity;
@@ -34,6 +36,7 @@ import uk.ac.cam.ch.wwmm.oscarMEMM.MEMMRecogniser;
 public class OscarTagger implements Tagger {
 
 	protected Oscar oscar;
+	private static final List<String> IGNORED_OSCAR_TYPES = Arrays.asList("cpr", "ont");
 
 	/*****************************
 	 * Default constructor method.
@@ -56,22 +59,71 @@ public class OscarTagger implements Tagger {
 	public List<String> runTagger(List<Token> tokenList, String inputSentence) {
 		List<TokenSequence> tokenSequences = Arrays.asList(generateOscarTokenSequence(tokenList, inputSentence));
 		List<NamedEntity> neList = oscar.recogniseNamedEntities(tokenSequences);
-        List<String> ignoreOscarList = Arrays.asList("cpr", "ont");
-		List<String> tagList = new ArrayList<String>();
-		String nilTag = "nil";
-		for (int i = 0; i < tokenList.size(); i++) {
-			tagList.add(nilTag);
-		}
+		List<String> tagList = createNilTagList(tokenList.size());
 		for (NamedEntity ne : neList) {
-			if (!ignoreOscarList.contains(ne.getType().getName().toLowerCase())) {
+			addNamedEntityTags(ne, tagList);
+		}
+		return tagList;
+	}
+
+	/***********************************************
+	 * Runs OSCAR once over a batch of sentences and returns a list of tags for each sentence.
+	 * The tags are the same as calling {@link #runTagger(List, String)} on each sentence in turn
+	 * but the fixed cost of a call to OSCAR is only paid once.
+	 * The tokens passed in are not modified.
+	 * @param tokenLists (List<List<Token>>)
+	 * @param inputSentences (List<String>)
+	 * @return tagLists (List<List<String>>) in input order
+	 ***********************************************/
+	public List<List<String>> runTagger(List<List<Token>> tokenLists, List<String> inputSentences) {
+		if (tokenLists.size() != inputSentences.size()) {
+			throw new IllegalArgumentException("Expected one list of tokens per sentence but found " + tokenLists.size() + " token lists and " + inputSentences.size() + " sentences");
+		}
+		StringBuilder batchText = new StringBuilder();
+		List<Integer> offsets = new ArrayList<Integer>(tokenLists.size());
+		for (int i = 0; i < tokenLists.size(); i++) {
+			offsets.add(batchText.length());
+			batchText.append(inputSentences.get(i));
+			for (Token token : tokenLists.get(i)) {
+				while (batchText.length() < offsets.get(i) + token.getEnd()) {
+					batchText.append(' ');
+				}
+			}
+			batchText.append(' ');
+		}
+		String text = batchText.toString();
+		List<TokenSequence> tokenSequences = new ArrayList<TokenSequence>(tokenLists.size());
+		Map<TokenSequence, List<String>> tagListBySequence = new IdentityHashMap<TokenSequence, List<String>>();
+		List<List<String>> tagLists = new ArrayList<List<String>>(tokenLists.size());
+		for (int i = 0; i < tokenLists.size(); i++) {
+			List<Token> tokenList = tokenLists.get(i);
+			TokenSequence tokSeq = generateOscarTokenSequence(tokenList, text, offsets.get(i));
+			List<String> tagList = createNilTagList(tokenList.size());
+			tokenSequences.add(tokSeq);
+			tagListBySequence.put(tokSeq, tagList);
+			tagLists.add(tagList);
+		}
+		if (!tokenSequences.isEmpty()) {
+			for (NamedEntity ne : oscar.recogniseNamedEntities(tokenSequences)) {
 				List<Token> tokens = ne.getTokens();
-                 
-				for (Token token : tokens) {
-					tagList.set(token.getIndex(), "OSCAR-"+ne.getType().getName());
+				if (!tokens.isEmpty()) {
+					addNamedEntityTags(ne, tagListBySequence.get(tokens.get(0).getTokenSequence()));
 				}
 			}
 		}
-		return tagList;
+		return tagLists;
+	}
+
+	private List<String> createNilTagList(int size) {
+		return TagList.createNilTagList(size);
+	}
+
+	private void addNamedEntityTags(NamedEntity ne, List<String> tagList) {
+		if (!IGNORED_OSCAR_TYPES.contains(ne.getType().getName().toLowerCase())) {
+			for (Token token : ne.getTokens()) {
+				tagList.set(token.getIndex(), "OSCAR-" + ne.getType().getName());
+			}
+		}
 	}
 
 	public List<String> getIgnoredTags() {
@@ -93,4 +145,29 @@ public class OscarTagger implements Tagger {
 		}
 		return tokSeq;
 	}
+
+	/*********************************************
+	 * Generates an OSCAR TokenSequence from copies of a list of tokens moved along by the given offset.
+	 * Sentences sent to OSCAR together must not overlap as OSCAR merges and resolves named entities by their offsets.
+	 * Parts of OSCAR index the text of a TokenSequence with token offsets, so every sequence in a batch
+	 * shares the text of the whole batch, in which the sentence starts at the offset.
+	 * @param oscarTokens (List<Token>)
+	 * @param batchText (String)
+	 * @param offset (int)
+	 * @return tokenSequence (TokenSequence)
+	 ********************************************/
+	private TokenSequence generateOscarTokenSequence(List<Token> oscarTokens, String batchText, int offset) {
+		List<Token> shiftedTokens = new ArrayList<Token>(oscarTokens.size());
+		for (Token token : oscarTokens) {
+			Token shiftedToken = new Token(token.getSurface(), token.getStart() + offset, token.getEnd() + offset, null, token.getBioType(), token.getNeElem());
+			shiftedTokens.add(shiftedToken);
+		}
+		TokenSequence tokSeq = new TokenSequence(batchText, 0, null, shiftedTokens);
+		int id = 0;
+		for (Token token : tokSeq.getTokens()) {
+			token.setTokenSequence(tokSeq);
+			token.setIndex(id++);
+		}
+		return tokSeq;
+	}
 }
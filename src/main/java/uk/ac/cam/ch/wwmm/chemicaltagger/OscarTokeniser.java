@@ -26,9 +26,10 @@ public class OscarTokeniser implements ChemicalTaggerTokeniser {
 
 	/*********************
 	 * Public Constructor method.
+	 * Uses the OSCAR tokeniser shared through the {@link ModelRegistry}.
 	 */
 	public OscarTokeniser() {
-		this.oscarTokeniser = Tokeniser.getDefaultInstance();
+		this.oscarTokeniser = ModelRegistry.getInstance().getOscarTokeniser();
 	}
 
 	/*****************************************************
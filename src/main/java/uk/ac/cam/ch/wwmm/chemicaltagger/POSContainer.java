@@ -36,7 +36,7 @@ public class POSContainer {
 	private String inputText;
 	private boolean prioritiseOscar = true;
 	private List<Token> wordTokenList = new ArrayList<Token>();
-	private List<String> combinedTagsList = new ArrayList<String>();
+	private TagList combinedTagsList = new TagList();
 	private List<List<String>> tagListContainer = new ArrayList<List<String>>();
 	public List<List<String>> getTagListContainer() {
 		return tagListContainer;
@@ -129,11 +129,12 @@ public class POSContainer {
 
 	/**************************************
 	 * Setter method for CombinedTagsList.
+	 * The tags are copied into a {@link TagList} unless they already are one.
 	 * 
 	 * @param combinedTagsList (List<String>)
 	 ***************************************/
 	public void setCombinedTagsList(List<String> combinedTagsList) {
-		this.combinedTagsList = combinedTagsList;
+		this.combinedTagsList = TagList.asTagList(combinedTagsList);
 	}
 
 	/**************************************
@@ -145,6 +146,15 @@ public class POSContainer {
 		return combinedTagsList;
 	}
 
+	/**************************************
+	 * Getter method for the CombinedTagsList as tag IDs.
+	 * 
+	 * @return combinedTags (TagList)
+	 ***************************************/
+	public TagList getCombinedTags() {
+		return combinedTagsList;
+	}
+
 	/**************************************
 	 * Adds token to wordTokenList.
 	 * 
@@ -159,13 +169,18 @@ public class POSContainer {
 	 ***************************************/
 	public void combineTaggers() {
 		int size = tagListContainer.get(0).size();
+		TagList[] tagLists = new TagList[tagListContainer.size()];
+		for (int j = 0; j < tagLists.length; j++) {
+			tagLists[j] = TagList.asTagList(tagListContainer.get(j));
+		}
 		for (int i = 0; i < size; i++) {
-			for (List<String> tagList : tagListContainer) {
-				if (tagList.get(i).equals("nil")) {
+			for (TagList tagList : tagLists) {
+				int id = tagList.getId(i);
+				if (id == TagRegistry.NIL) {
 					continue;
 				}
 				else {
-					combinedTagsList.add(tagList.get(i));
+					combinedTagsList.addId(id);
 					break;
 				}
 			}
@@ -181,9 +196,10 @@ public class POSContainer {
 		StringBuilder tokenTagTupleString = new StringBuilder();
 
 		for (int i = 0; i < wordTokenList.size(); i++) {
-			if (StringUtils.isNotEmpty(combinedTagsList.get(i))
+			String tag = combinedTagsList.get(i);
+			if (StringUtils.isNotEmpty(tag)
 					&& StringUtils.isNotEmpty(wordTokenList.get(i).getSurface())) {
-				tokenTagTupleString.append(combinedTagsList.get(i));
+				tokenTagTupleString.append(tag);
 				tokenTagTupleString.append(SPACE);
 				tokenTagTupleString.append(wordTokenList.get(i).getSurface());
 				tokenTagTupleString.append(SPACE);
@@ -193,12 +209,12 @@ public class POSContainer {
 	}
 
 	/********************************************
-	 * Adds tagLists to the tagListContainer
+	 * Adds tagLists to the tagListContainer.
+	 * The tags are copied into a {@link TagList} unless they already are one.
 	 * @param tagList
 	 */
 	public void registerTagList(List<String> tagList) {
-		tagListContainer.add(tagList);
-		
+		tagListContainer.add(TagList.asTagList(tagList));
 	}
 
 }
@@ -0,0 +1,277 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonTokenFactory;
+import org.antlr.v4.runtime.IntStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.Vocabulary;
+import org.antlr.v4.runtime.misc.Tuple;
+import org.antlr.v4.runtime.misc.Tuple2;
+import org.apache.commons.lang.StringUtils;
+
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerLexer;
+
+/**************************************************************
+ * Feeds the tags and tokens of a POSContainer straight to the ChemicalChunkerParser.
+ *
+ * Gives the same tokens as running the ChemicalChunkerLexer over
+ * {@link POSContainer#getTokenTagTupleAsString()} without building that string:
+ * the text is split on spaces, [\r\t\n] following a space is skipped as WS,
+ * a piece that is exactly one of the tags of the grammar gets the type of that tag
+ * and anything else is a TOKEN. Start and stop indexes, lines and positions in the line
+ * are those the lexer would give, as if the string had been built.
+ ***************************************************************/
+class POSContainerTokenSource implements TokenSource {
+
+	private static final Map<String, Integer> LITERAL_TYPES = createLiteralTypes();
+	private static final char SPACE = ' ';
+
+	private final Tuple2<? extends TokenSource, CharStream> source;
+	private TokenFactory factory = CommonTokenFactory.DEFAULT;
+
+	private final List<String> texts = new ArrayList<String>();
+	private int[] types;
+	private int[] starts;
+	private int[] lines;
+	private int[] charPositions;
+	private int size;
+	private int index;
+	private int endIndex;
+	private int endLine = 1;
+	private int endCharPosition;
+
+	/**************************************
+	 * Creates the tokens for the tags and tokens currently in the container.
+	 * @param posContainer (POSContainer)
+	 ***************************************/
+	POSContainerTokenSource(POSContainer posContainer) {
+		source = Tuple.create(this, (CharStream) null);
+		List<String> segments = getSegments(posContainer);
+		int capacity = segments.size() + 1;
+		types = new int[capacity];
+		starts = new int[capacity];
+		lines = new int[capacity];
+		charPositions = new int[capacity];
+		tokenise(segments);
+	}
+
+	/**************************************
+	 * Returns the tags and surfaces in the order they appear in the tuple string.
+	 ***************************************/
+	private static List<String> getSegments(POSContainer posContainer) {
+		List<uk.ac.cam.ch.wwmm.oscar.document.Token> wordTokens = posContainer.getWordTokenList();
+		List<String> tags = posContainer.getCombinedTagsList();
+		List<String> segments = new ArrayList<String>(wordTokens.size() * 2);
+		for (int i = 0; i < wordTokens.size(); i++) {
+			String tag = tags.get(i);
+			String surface = wordTokens.get(i).getSurface();
+			if (StringUtils.isNotEmpty(tag) && StringUtils.isNotEmpty(surface)) {
+				segments.add(tag);
+				segments.add(surface);
+			}
+		}
+		return segments;
+	}
+
+	/**************************************
+	 * Lexes the segments joined by single spaces and trimmed.
+	 ***************************************/
+	private void tokenise(List<String> segments) {
+		int length = segments.size() - 1;
+		for (String segment : segments) {
+			length += segment.length();
+		}
+		int trimStart = findTrimStart(segments);
+		int trimEnd = findTrimEnd(segments, length);
+		if (trimStart >= trimEnd) {
+			return;
+		}
+		int line = 1;
+		int charPosition = 0;
+		int segmentStart = 0;
+		for (String segment : segments) {
+			int segmentEnd = segmentStart + segment.length();
+			int pieceStart = segmentStart;
+			while (pieceStart <= segmentEnd) {
+				int spaceIndex = segment.indexOf(SPACE, pieceStart - segmentStart);
+				int pieceEnd = spaceIndex == -1 ? segmentEnd : segmentStart + spaceIndex;
+				int start = Math.max(pieceStart, trimStart);
+				int end = Math.min(pieceEnd, trimEnd);
+				if (start < end) {
+					//after a space the WS rule also takes any of \r\t\n
+					int tokenStart = start;
+					if (start > trimStart) {
+						while (tokenStart < end && isSkippedAfterSpace(segment.charAt(tokenStart - segmentStart))) {
+							if (segment.charAt(tokenStart - segmentStart) == '\n') {
+								line++;
+								charPosition = 0;
+							}
+							else {
+								charPosition++;
+							}
+							tokenStart++;
+						}
+					}
+					if (tokenStart < end) {
+						String text = tokenStart == segmentStart && end == segmentEnd ? segment : segment.substring(tokenStart - segmentStart, end - segmentStart);
+						Integer literalType = LITERAL_TYPES.get(text);
+						add(text, literalType != null ? literalType : ChemicalChunkerLexer.TOKEN, tokenStart - trimStart, line, charPosition);
+						for (int i = 0; i < text.length(); i++) {
+							if (text.charAt(i) == '\n') {
+								line++;
+								charPosition = 0;
+							}
+							else {
+								charPosition++;
+							}
+						}
+					}
+				}
+				if (pieceEnd >= trimStart && pieceEnd < trimEnd) {
+					charPosition++;
+				}
+				pieceStart = pieceEnd + 1;
+			}
+			segmentStart = segmentEnd + 1;
+		}
+		endIndex = trimEnd - trimStart;
+		endLine = line;
+		endCharPosition = charPosition;
+	}
+
+	/**************************************
+	 * Returns the index of the first character that String.trim() would keep.
+	 ***************************************/
+	private static int findTrimStart(List<String> segments) {
+		int offset = 0;
+		for (String segment : segments) {
+			for (int i = 0; i < segment.length(); i++) {
+				if (segment.charAt(i) > SPACE) {
+					return offset + i;
+				}
+			}
+			offset += segment.length() + 1;
+		}
+		return offset;
+	}
+
+	/**************************************
+	 * Returns the index after the last character that String.trim() would keep.
+	 ***************************************/
+	private static int findTrimEnd(List<String> segments, int length) {
+		int offset = length;
+		for (int s = segments.size() - 1; s >= 0; s--) {
+			String segment = segments.get(s);
+			offset -= segment.length();
+			for (int i = segment.length() - 1; i >= 0; i--) {
+				if (segment.charAt(i) > SPACE) {
+					return offset + i + 1;
+				}
+			}
+			offset--;
+		}
+		return 0;
+	}
+
+	private static boolean isSkippedAfterSpace(char c) {
+		return c == '\r' || c == '\t' || c == '\n';
+	}
+
+	private void add(String text, int type, int start, int line, int charPosition) {
+		if (size == types.length) {
+			int newCapacity = size * 2;
+			types = copyOf(types, newCapacity);
+			starts = copyOf(starts, newCapacity);
+			lines = copyOf(lines, newCapacity);
+			charPositions = copyOf(charPositions, newCapacity);
+		}
+		texts.add(text);
+		types[size] = type;
+		starts[size] = start;
+		lines[size] = line;
+		charPositions[size] = charPosition;
+		size++;
+	}
+
+	private static int[] copyOf(int[] array, int length) {
+		int[] copy = new int[length];
+		System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+		return copy;
+	}
+
+	private static Map<String, Integer> createLiteralTypes() {
+		Vocabulary vocabulary = ChemicalChunkerLexer.VOCABULARY;
+		Map<String, Integer> literalTypes = new HashMap<String, Integer>();
+		for (int type = 1; type <= vocabulary.getMaxTokenType(); type++) {
+			String literalName = vocabulary.getLiteralName(type);
+			if (literalName != null && literalName.length() > 2 && literalName.startsWith("'") && literalName.endsWith("'")) {
+				literalTypes.put(literalName.substring(1, literalName.length() - 1), type);
+			}
+		}
+		return literalTypes;
+	}
+
+	@Override
+	public Token nextToken() {
+		if (index < size) {
+			String text = texts.get(index);
+			int start = starts[index];
+			Token token = factory.create(source, types[index], text, Token.DEFAULT_CHANNEL, start, start + text.length() - 1, lines[index], charPositions[index]);
+			index++;
+			return token;
+		}
+		return factory.create(source, Token.EOF, "<EOF>", Token.DEFAULT_CHANNEL, endIndex, endIndex - 1, endLine, endCharPosition);
+	}
+
+	@Override
+	public int getLine() {
+		return index < size ? lines[index] : endLine;
+	}
+
+	@Override
+	public int getCharPositionInLine() {
+		return index < size ? charPositions[index] : endCharPosition;
+	}
+
+	@Override
+	public CharStream getInputStream() {
+		return null;
+	}
+
+	@Override
+	public String getSourceName() {
+		return IntStream.UNKNOWN_SOURCE_NAME;
+	}
+
+	@Override
+	public void setTokenFactory(TokenFactory factory) {
+		this.factory = factory;
+	}
+
+	@Override
+	public TokenFactory getTokenFactory() {
+		return factory;
+	}
+}
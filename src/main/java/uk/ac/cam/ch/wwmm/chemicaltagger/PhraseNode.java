@@ -0,0 +1,549 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nu.xom.Attribute;
+import nu.xom.Element;
+import nu.xom.Node;
+import nu.xom.Text;
+
+/**************************************************************
+ * A node of the phrase tree of a parsed document.
+ *
+ * The tree has the same shape as the XML document made from it:
+ * each node has a kind, the {@link TagRegistry} ID of its element name
+ * or {@link TagRegistry#NULL} for a name the registry does not know,
+ * its children and any attributes, e.g. the type of an ActionPhrase or the
+ * role of a MOLECULE. A terminal node holds one token: its index among the
+ * terminals of the document and its text. Action phrases and roles are added
+ * to the tree by {@link PostProcessTrees} and XML is only made from it when
+ * {@link #toXML()} is called.
+ ***************************************************************/
+public class PhraseNode {
+
+	/** Token index of a node that is not a terminal */
+	public static final int NO_TOKEN = -1;
+
+	private static final TagRegistry REGISTRY = TagRegistry.getInstance();
+	private static final PhraseNode[] NO_CHILDREN = new PhraseNode[0];
+
+	private int kind;
+	//the element name when kind is TagRegistry.NULL
+	private String name;
+	private final int token;
+	private final String text;
+	private PhraseNode parent;
+	private PhraseNode[] children = NO_CHILDREN;
+	private int childCount;
+	//name and value pairs
+	private String[] attributes;
+	private int attributeCount;
+
+	/**************************************
+	 * Creates a node that is not a terminal.
+	 * @param kind (int) the TagRegistry ID of the element name
+	 ***************************************/
+	public PhraseNode(int kind) {
+		this(kind, NO_TOKEN, null);
+	}
+
+	/**************************************
+	 * Creates a node that is not a terminal.
+	 * A name that is not already in the TagRegistry is not added to it,
+	 * the node has the kind {@link TagRegistry#NULL} instead.
+	 * @param name (String) the element name
+	 ***************************************/
+	public PhraseNode(String name) {
+		this(name, NO_TOKEN, null);
+	}
+
+	private PhraseNode(String name, int token, String text) {
+		this(REGISTRY.lookupId(name), token, text);
+		if (kind == TagRegistry.NULL) {
+			this.name = name;
+		}
+	}
+
+	/**************************************
+	 * Creates a terminal node.
+	 * @param kind (int) the TagRegistry ID of the element name
+	 * @param token (int) the index of the token among the terminals of the document
+	 * @param text (String) the text of the token
+	 ***************************************/
+	public PhraseNode(int kind, int token, String text) {
+		this.kind = kind;
+		this.token = token;
+		this.text = text;
+	}
+
+	/**************************************
+	 * @return kind (int) the TagRegistry ID of the element name
+	 ***************************************/
+	public int getKind() {
+		return kind;
+	}
+
+	/**************************************
+	 * Renames the node.
+	 * @param kind (int) the TagRegistry ID of the element name
+	 ***************************************/
+	public void setKind(int kind) {
+		this.kind = kind;
+		name = null;
+	}
+
+	/**************************************
+	 * @return name (String) the element name
+	 ***************************************/
+	public String getName() {
+		return kind != TagRegistry.NULL ? REGISTRY.getTag(kind) : name;
+	}
+
+	/**************************************
+	 * @return lowerCaseName (String) the element name in lower case
+	 ***************************************/
+	public String getLowerCaseName() {
+		if (kind != TagRegistry.NULL) {
+			return REGISTRY.getLowerCaseTag(kind);
+		}
+		return name != null ? name.toLowerCase() : null;
+	}
+
+	/**************************************
+	 * @return isTerminal (boolean)
+	 ***************************************/
+	public boolean isTerminal() {
+		return token != NO_TOKEN;
+	}
+
+	/**************************************
+	 * Returns the index of the token of a terminal among the terminals of the document.
+	 * For a document parsed from a POSContainer this is normally the index
+	 * of the word token, unless the tagged text was split on a space within a token.
+	 * @return token (int) or {@link #NO_TOKEN}
+	 ***************************************/
+	public int getToken() {
+		return token;
+	}
+
+	/**************************************
+	 * @return text (String) the text of a terminal or null
+	 ***************************************/
+	public String getText() {
+		return text;
+	}
+
+	/**************************************
+	 * Returns the index of the first token under the node.
+	 * @return start (int) or {@link #NO_TOKEN} if there are no tokens under the node
+	 ***************************************/
+	public int getStart() {
+		if (isTerminal()) {
+			return token;
+		}
+		for (int i = 0; i < childCount; i++) {
+			int start = children[i].getStart();
+			if (start != NO_TOKEN) {
+				return start;
+			}
+		}
+		return NO_TOKEN;
+	}
+
+	/**************************************
+	 * Returns one more than the index of the last token under the node.
+	 * @return end (int) or {@link #NO_TOKEN} if there are no tokens under the node
+	 ***************************************/
+	public int getEnd() {
+		if (isTerminal()) {
+			return token + 1;
+		}
+		for (int i = childCount - 1; i >= 0; i--) {
+			int end = children[i].getEnd();
+			if (end != NO_TOKEN) {
+				return end;
+			}
+		}
+		return NO_TOKEN;
+	}
+
+	/**************************************
+	 * Returns the text of all the terminals under the node, like XOM's getValue().
+	 * @return value (String)
+	 ***************************************/
+	public String getValue() {
+		if (isTerminal()) {
+			return text == null ? "" : text;
+		}
+		StringBuilder value = new StringBuilder();
+		appendValue(value);
+		return value.toString();
+	}
+
+	private void appendValue(StringBuilder value) {
+		if (isTerminal()) {
+			if (text != null) {
+				value.append(text);
+			}
+		}
+		else {
+			for (int i = 0; i < childCount; i++) {
+				children[i].appendValue(value);
+			}
+		}
+	}
+
+	/**************************************
+	 * @return parent (PhraseNode) or null
+	 ***************************************/
+	public PhraseNode getParent() {
+		return parent;
+	}
+
+	/**************************************
+	 * @return childCount (int)
+	 ***************************************/
+	public int getChildCount() {
+		return childCount;
+	}
+
+	/**************************************
+	 * @param index (int)
+	 * @return child (PhraseNode)
+	 ***************************************/
+	public PhraseNode getChild(int index) {
+		if (index >= childCount) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + childCount);
+		}
+		return children[index];
+	}
+
+	/**************************************
+	 * @param child (PhraseNode)
+	 * @return index (int) or -1 if it is not a child of this node
+	 ***************************************/
+	public int indexOf(PhraseNode child) {
+		for (int i = 0; i < childCount; i++) {
+			if (children[i] == child) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	/**************************************
+	 * Appends the child, first removing it from its current parent.
+	 * @param child (PhraseNode)
+	 ***************************************/
+	public void appendChild(PhraseNode child) {
+		if (isTerminal()) {
+			throw new IllegalStateException("A terminal cannot have children");
+		}
+		if (child.parent != null) {
+			child.parent.removeChild(child.parent.indexOf(child));
+		}
+		if (childCount == children.length) {
+			PhraseNode[] larger = new PhraseNode[Math.max(4, childCount * 2)];
+			System.arraycopy(children, 0, larger, 0, childCount);
+			children = larger;
+		}
+		children[childCount++] = child;
+		child.parent = this;
+	}
+
+	/**************************************
+	 * Puts the new child in the place of an existing child,
+	 * first removing the new child from its current parent.
+	 * @param oldChild (PhraseNode)
+	 * @param newChild (PhraseNode)
+	 ***************************************/
+	public void replaceChild(PhraseNode oldChild, PhraseNode newChild) {
+		int index = indexOf(oldChild);
+		if (index == -1) {
+			throw new IllegalArgumentException("Not a child of this node");
+		}
+		if (newChild.parent != null) {
+			newChild.parent.removeChild(newChild.parent.indexOf(newChild));
+			index = indexOf(oldChild);
+		}
+		children[index] = newChild;
+		newChild.parent = this;
+		oldChild.parent = null;
+	}
+
+	/**************************************
+	 * @param index (int)
+	 * @return child (PhraseNode) the removed child
+	 ***************************************/
+	public PhraseNode removeChild(int index) {
+		PhraseNode child = getChild(index);
+		System.arraycopy(children, index + 1, children, index, childCount - index - 1);
+		children[--childCount] = null;
+		child.parent = null;
+		return child;
+	}
+
+	/**************************************
+	 * Removes all the children.
+	 * @return children (PhraseNode[]) the removed children
+	 ***************************************/
+	public PhraseNode[] removeChildren() {
+		PhraseNode[] removed = new PhraseNode[childCount];
+		System.arraycopy(children, 0, removed, 0, childCount);
+		for (PhraseNode child : removed) {
+			child.parent = null;
+		}
+		children = NO_CHILDREN;
+		childCount = 0;
+		return removed;
+	}
+
+	/**************************************
+	 * @return attributeCount (int)
+	 ***************************************/
+	public int getAttributeCount() {
+		return attributeCount;
+	}
+
+	/**************************************
+	 * @param index (int)
+	 * @return name (String)
+	 ***************************************/
+	public String getAttributeName(int index) {
+		checkAttributeIndex(index);
+		return attributes[2 * index];
+	}
+
+	/**************************************
+	 * @param index (int)
+	 * @return value (String)
+	 ***************************************/
+	public String getAttributeValue(int index) {
+		checkAttributeIndex(index);
+		return attributes[2 * index + 1];
+	}
+
+	/**************************************
+	 * @param name (String)
+	 * @return value (String) or null if the node has no such attribute
+	 ***************************************/
+	public String getAttributeValue(String name) {
+		int index = indexOfAttribute(name);
+		return index == -1 ? null : attributes[2 * index + 1];
+	}
+
+	/**************************************
+	 * Adds an attribute. As with XOM an existing attribute
+	 * with the same name is removed and the new one added last.
+	 * @param name (String)
+	 * @param value (String)
+	 ***************************************/
+	public void addAttribute(String name, String value) {
+		int index = indexOfAttribute(name);
+		if (index != -1) {
+			System.arraycopy(attributes, 2 * index + 2, attributes, 2 * index, 2 * (attributeCount - index - 1));
+			attributeCount--;
+		}
+		if (attributes == null) {
+			attributes = new String[2];
+		}
+		else if (2 * attributeCount == attributes.length) {
+			String[] larger = new String[attributes.length * 2];
+			System.arraycopy(attributes, 0, larger, 0, attributes.length);
+			attributes = larger;
+		}
+		attributes[2 * attributeCount] = name;
+		attributes[2 * attributeCount + 1] = value;
+		attributeCount++;
+	}
+
+	private int indexOfAttribute(String name) {
+		for (int i = 0; i < attributeCount; i++) {
+			if (attributes[2 * i].equals(name)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private void checkAttributeIndex(int index) {
+		if (index < 0 || index >= attributeCount) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + attributeCount);
+		}
+	}
+
+	/**************************************
+	 * Returns the descendants of the given kind in document order, not including this node.
+	 * @param kind (int)
+	 * @return descendants (List<PhraseNode>)
+	 ***************************************/
+	public List<PhraseNode> getDescendants(int kind) {
+		List<PhraseNode> descendants = new ArrayList<PhraseNode>();
+		addDescendants(kind, descendants);
+		return descendants;
+	}
+
+	private void addDescendants(int kind, List<PhraseNode> descendants) {
+		for (int i = 0; i < childCount; i++) {
+			PhraseNode child = children[i];
+			if (child.kind == kind) {
+				descendants.add(child);
+			}
+			child.addDescendants(kind, descendants);
+		}
+	}
+
+	/**************************************
+	 * Returns the first descendant of the given kind in document order.
+	 * @param kind (int)
+	 * @return descendant (PhraseNode) or null
+	 ***************************************/
+	public PhraseNode getFirstDescendant(int kind) {
+		for (int i = 0; i < childCount; i++) {
+			PhraseNode child = children[i];
+			if (child.kind == kind) {
+				return child;
+			}
+			PhraseNode descendant = child.getFirstDescendant(kind);
+			if (descendant != null) {
+				return descendant;
+			}
+		}
+		return null;
+	}
+
+	/**************************************
+	 * @param kind (int)
+	 * @return hasDescendant (boolean)
+	 ***************************************/
+	public boolean hasDescendant(int kind) {
+		return getFirstDescendant(kind) != null;
+	}
+
+	/**************************************
+	 * Gets the next terminal, which need not be a sibling,
+	 * as {@link Utils#getNextTerminalElement(Element)} does.
+	 * @return next (PhraseNode) or null
+	 ***************************************/
+	PhraseNode getNextTerminal() {
+		if (parent == null) {
+			return null;
+		}
+		int index = parent.indexOf(this);
+		if (index + 1 >= parent.childCount) {
+			return parent.getNextTerminal();
+		}
+		PhraseNode next = parent.children[index + 1];
+		while (next.childCount != 0) {
+			next = next.children[0];
+		}
+		return next;
+	}
+
+	/**************************************
+	 * Gets the previous sibling or, for a first child, the previous sibling
+	 * of the nearest ancestor that has one, as {@link Utils#getPreviousSiblingOrParentsSibling(Element)} does.
+	 * @return previous (PhraseNode) or null
+	 ***************************************/
+	PhraseNode getPreviousSiblingOrParentsSibling() {
+		if (parent == null) {
+			return null;
+		}
+		int index = parent.indexOf(this);
+		if (index == 0) {
+			return parent.getPreviousSiblingOrParentsSibling();
+		}
+		return parent.children[index - 1];
+	}
+
+	/**************************************
+	 * Creates the XML element for this node and the nodes under it.
+	 * @return element (Element)
+	 ***************************************/
+	public Element toXML() {
+		Element element = new Element(getName());
+		for (int i = 0; i < attributeCount; i++) {
+			element.addAttribute(new Attribute(attributes[2 * i], attributes[2 * i + 1]));
+		}
+		if (isTerminal()) {
+			if (text != null) {
+				element.appendChild(text);
+			}
+		}
+		else {
+			for (int i = 0; i < childCount; i++) {
+				element.appendChild(children[i].toXML());
+			}
+		}
+		return element;
+	}
+
+	/**************************************
+	 * Creates a phrase tree from XML such as that made by {@link #toXML()}.
+	 * Element names are not added to the TagRegistry, see {@link #PhraseNode(String)}.
+	 * An element with text and no child elements becomes a terminal;
+	 * text alongside child elements is not kept.
+	 * @param element (Element)
+	 * @return node (PhraseNode)
+	 ***************************************/
+	public static PhraseNode fromXML(Element element) {
+		return fromXML(element, new int[1]);
+	}
+
+	private static PhraseNode fromXML(Element element, int[] tokenCount) {
+		boolean hasChildElements = false;
+		StringBuilder text = null;
+		for (int i = 0; i < element.getChildCount(); i++) {
+			Node child = element.getChild(i);
+			if (child instanceof Element) {
+				hasChildElements = true;
+			}
+			else if (child instanceof Text) {
+				if (text == null) {
+					text = new StringBuilder();
+				}
+				text.append(child.getValue());
+			}
+		}
+		String name = element.getLocalName();
+		PhraseNode node;
+		if (!hasChildElements && text != null) {
+			node = new PhraseNode(name, tokenCount[0]++, text.toString());
+		}
+		else {
+			node = new PhraseNode(name);
+			for (int i = 0; i < element.getChildCount(); i++) {
+				Node child = element.getChild(i);
+				if (child instanceof Element) {
+					node.appendChild(fromXML((Element) child, tokenCount));
+				}
+			}
+		}
+		for (int i = 0; i < element.getAttributeCount(); i++) {
+			Attribute attribute = element.getAttribute(i);
+			node.addAttribute(attribute.getLocalName(), attribute.getValue());
+		}
+		return node;
+	}
+
+	@Override
+	public String toString() {
+		return toXML().toXML();
+	}
+}
@@ -15,13 +15,15 @@
  */
 package uk.ac.cam.ch.wwmm.chemicaltagger;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.apache.commons.lang.StringUtils;
 
+import uk.ac.cam.ch.wwmm.chemicaltagger.TagCategories.Category;
 import uk.ac.cam.ch.wwmm.oscar.document.Token;
 
 /**************************************************
@@ -32,10 +34,63 @@ import uk.ac.cam.ch.wwmm.oscar.document.Token;
 public class PostProcessTags {
 
 	private static HashSet<String> tagSet = Utils.loadsTagsFromFile(PostProcessTags.class);
+	private static final TagRegistry TAG_REGISTRY = TagRegistry.getInstance();
+
+	/*
+	 * The tags the correction rules look for either side of the current token, in lower case.
+	 * They are tested by the tag ID so checking a neighbouring tag is a bit lookup.
+	 */
+	private static final Category ADJECTIVE_AFTER = TagCategories.of("jj", "nn-chementity", "nn-mixture", "nn-apparatus", "nn", "jj-chem");
+	private static final Category ALPHANUM_BEFORE = TagCategories.of("in-of", "jj", "nn-chementity", "comma");
+	private static final Category CD = TagCategories.of("cd");
+	private static final Category CD_OR_IDENTIFIER = TagCategories.of("cd", "cd-alphanum", "nn-identifier");
+	private static final Category CHEMICALS = TagCategories.of("oscar-cm", "nn-chementity", "oscar-cj", "jj-chem");
+	private static final Category CHEMICAL_ADJECTIVES = TagCategories.of("jj", "oscar-cj", "jj-chem");
+	private static final Category DETERMINERS = TagCategories.of("dt", "dt-the");
+	private static final Category DETERMINERS_OR_ADJECTIVES = TagCategories.of("dt", "jj", "jj-chem", "dt-the");
+	private static final Category GERUND_BEFORE = TagCategories.of("dt", "dt-the", "cd", "oscar-cm");
+	private static final Category IDENTIFIER_BEFORE = TagCategories.of("nn-example", "nn-method", "nn-chementity", "in-of");
+	private static final Category IN_FROM = TagCategories.of("in-from");
+	private static final Category IN_IN = TagCategories.of("in-in");
+	private static final Category IN_OF = TagCategories.of("in-of");
+	private static final Category IN_OF_OR_COLON = TagCategories.of("in-of", "colon");
+	private static final Category LRB = TagCategories.of("-lrb-");
+	private static final Category LRB_STOP_OR_COMMA = TagCategories.of("-lrb-", "stop", "comma");
+	private static final Category NNP = TagCategories.of("nnp");
+	private static final Category NN_APPARATUS = TagCategories.of("nn-apparatus");
+	private static final Category NN_CAMPAIGN = TagCategories.of("nn-campaign");
+	private static final Category NN_CHEMENTITY = TagCategories.of("nn-chementity");
+	private static final Category NN_MASS = TagCategories.of("nn-mass");
+	private static final Category NN_PERCENT = TagCategories.of("nn-percent");
+	private static final Category NN_STATE = TagCategories.of("nn-state");
+	private static final Category NN_TEMP = TagCategories.of("nn-temp");
+	private static final Category NN_TIME = TagCategories.of("nn-time");
+	private static final Category NN_VOL = TagCategories.of("nn-vol");
+	private static final Category NN_VOL_OR_MASS = TagCategories.of("nn-vol", "nn-mass");
+	private static final Category NOUN_PHRASE_AFTER = TagCategories.of("nn", "oscar-cm", "nns", "nn-chementity", "oscar-cj", "jj-chem", "jj", "nnp", "nn-state", "nn-apparatus");
+	private static final Category OSCAR_CJ_OR_JJ_CHEM = TagCategories.of("oscar-cj", "jj-chem");
+	private static final Category OSCAR_CM = TagCategories.of("oscar-cm");
+	private static final Category OSCAR_CM_OR_CHEMENTITY = TagCategories.of("oscar-cm", "nn-chementity");
+	private static final Category PARTICIPLE_AS_ADJECTIVE_AFTER = TagCategories.of("oscar-cm", "nns", "nn-chementity", "oscar-cj", "jj-chem", "nnp");
+	private static final Category PARTICIPLE_AS_ADJECTIVE_BEFORE = TagCategories.of("dt", "rb", "rb-conj", "dt-the", "stop", "in-with", "in-of", "in-under");
+	private static final Category RRB = TagCategories.of("-rrb-");
+	private static final Category STOP = TagCategories.of("stop");
+	private static final Category STOP_COMMA_OR_COLON = TagCategories.of("stop", "comma", "colon");
+	private static final Category STOP_OR_COLON = TagCategories.of("stop", "colon");
+	private static final Category STOP_OR_COMMA = TagCategories.of("stop", "comma");
+	private static final Category SYM = TagCategories.of("sym");
+	private static final Category SYNTHESIZE_AS_ADJECTIVE_BEFORE = TagCategories.of("dt", "nn-apparatus", "rb-conj", "dt-the");
+	private static final Category TO = TagCategories.of("to");
+	private static final Category VBD = TagCategories.of("vbd");
+	private static final Category VB_HEAT = TagCategories.of("vb-heat");
+	private static final Category VERB_AS_ADJECTIVE_BEFORE = TagCategories.of("dt", "dt-the", "in-in", "in-of", "rb");
+
+	private static final Set<String> FULL_STOP_OR_COLON = tagsOf(".", ":");
+	private static final String[] COLOURS = {"amber", "bronze", "cream", "fawn", "gold", "ivory", "lavender", "tan"};
 	
 	private final POSContainer posContainer;
 	private final List<Token> tokenList;
-	private final List<String> combinedTags;
+	private final TagList combinedTags;
 	
 	/**
 	 * Corrects Mistagged tokens within the given POSContainer
@@ -44,14 +99,14 @@ public class PostProcessTags {
 	public PostProcessTags(POSContainer posContainer) {
 		this.posContainer = posContainer;
 		tokenList = posContainer.getWordTokenList();
-		combinedTags = posContainer.getCombinedTagsList();
+		combinedTags = posContainer.getCombinedTags();
 	}
 	
 	/********************************************
 	 * Corrects known tagging problems in the tags in combinedtagsList.
 	 *******************************************/
     public void correctCombinedTagsList() {
-    	correctCombinedTagsList( new ArrayList<String>());
+    	correctCombinedTagsList(Collections.<String>emptyList());
     }
     
 	/***********************************************
@@ -61,12 +116,11 @@ public class PostProcessTags {
 	 * @param ignoredTags (List)
 	 **********************************************/
 	public void correctCombinedTagsList(List<String> ignoredTags) {
-		List<String> newTokenList = new ArrayList<String>();
-		List<String> newCombinedTagsList = new ArrayList<String>();
+		TagList newCombinedTagsList = new TagList(combinedTags.size());
 		for (int i = 0; i < combinedTags.size(); i++) {
 			String currentTag = combinedTags.get(i);
 			Token currentToken = tokenList.get(i);
-			String newTag = combinedTags.get(i);
+			String newTag;
 			String currentTokenStr = currentToken.getSurface();
 			newTag = correctMisTaggedNouns(i, currentTag, currentTokenStr);
 			if (newTag.equals(currentTag)){
@@ -85,13 +139,15 @@ public class PostProcessTags {
 				currentToken.setSurface(currentTokenStr.toLowerCase());
 			}
 			
-			if (!ignoredTags.contains(newTag)) {
+			if (newTag == currentTag) {
+				newCombinedTagsList.addId(combinedTags.getId(i));
+			}
+			else if (!ignoredTags.contains(newTag)) {
 				newCombinedTagsList.add(newTag);
 			}
 			else {
 				newCombinedTagsList.add(currentTag);
 			}
-			newTokenList.add(currentTokenStr);
 		}
 		posContainer.setCombinedTagsList(newCombinedTagsList);
 	}
@@ -104,10 +160,10 @@ public class PostProcessTags {
 	 * @return
 	 */
 	private String correctMisTaggedNouns(int i, String currentTag, String currentTokenStr) {
-		String currentTagLC = currentTag.toLowerCase();
+		String currentTagLC = lowerCaseTag(combinedTags, i);
 		if (currentTagLC.startsWith("nn-mixture")) {
 			
-			List<String> afterList = Arrays.asList("in-of");
+			Category afterList = IN_OF;
 	
 			if (!stringAfter(afterList, i, combinedTags)) {
 				return "NN-CHEMENTITY";
@@ -120,15 +176,14 @@ public class PostProcessTags {
 		}
 		
 		if (currentTokenStr.equalsIgnoreCase("formula")){
-			List<String> afterList = Arrays.asList("cd", "cd-alphanum", "nn-identifier");
+			Category afterList = CD_OR_IDENTIFIER;
 			if (stringAfter(afterList, i, combinedTags)){
 				return "NN-CHEMENTITY";
 			}
 		}
 		
-		List<String> colours = Arrays.asList("amber", "bronze", "cream", "fawn", "gold", "ivory", "lavender", "tan");
-		if (colours.contains(currentTokenStr.toLowerCase())){
-			if (stringAfter(Arrays.asList("nn-state"), i, combinedTags)){
+		if (isColour(currentTokenStr)){
+			if (stringAfter(NN_STATE, i, combinedTags)){
 				return "JJ";
 			}
 		}
@@ -145,18 +200,18 @@ public class PostProcessTags {
 	 * @return
 	 *************************************/
 	private String correctMisTaggedVerbs(int i, String currentTag, String currentTokenStr) {
-		String currentTagLC = currentTag.toLowerCase();
+		String currentTagLC = lowerCaseTag(combinedTags, i);
 		
 		if (currentTokenStr.equalsIgnoreCase("yield") ) {
 			//Disambiguates between yield as a verb and the yield of a product compound
-			List<String> beforeList = Arrays.asList("nn-percent");//e.g. 30% yield
-			List<String> afterList = Arrays.asList("in-of", "colon");//e.g. yield of 30% /yield :30%
+			Category beforeList = NN_PERCENT;//e.g. 30% yield
+			Category afterList = IN_OF_OR_COLON;//e.g. yield of 30% /yield :30%
 			if (stringBefore(beforeList, i, combinedTags) || ( stringAfter(afterList, i, combinedTags))) {
 				return "NN-YIELD";
 			}
 
-			afterList = Arrays.asList("nn-chementity");
-			beforeList = Arrays.asList("dt", "dt-the");
+			afterList = NN_CHEMENTITY;
+			beforeList = DETERMINERS;
 			if (stringAfter(afterList, i, combinedTags) && stringBefore(beforeList, i, combinedTags)){
 				return "JJ-COMPOUND";
 			}
@@ -168,7 +223,7 @@ public class PostProcessTags {
 		
 		if (currentTagLC.startsWith("vb-filter")) {
 			
-			List<String> beforeList = Arrays.asList("oscar-cj", "jj-chem");
+			Category beforeList = OSCAR_CJ_OR_JJ_CHEM;
 			if (stringBefore(beforeList, i, combinedTags)) {
 				return "NN";
 			}
@@ -179,14 +234,14 @@ public class PostProcessTags {
 				|| endsWithCaseInsensitive(currentTokenStr, "concentrated")
 				|| endsWithCaseInsensitive(currentTokenStr, "dry")
 				|| endsWithCaseInsensitive(currentTokenStr, "dried")){
-			List<String> afterList = Arrays.asList("oscar-cm", "nn-chementity", "oscar-cj", "jj-chem");
+			Category afterList = CHEMICALS;
 	
 			if (stringAfter(afterList, i, combinedTags)) {
 				return "JJ-CHEM";
 			}
 		}
 		
-		if (currentTagLC.startsWith("vb-") || //TODO what does this actually do other than correcting reaction mixture?
+		if (TagCategories.isVerbAction(combinedTags.getId(i)) || //TODO what does this actually do other than correcting reaction mixture?
 				(currentTagLC.startsWith("nn") && !currentTagLC.startsWith("nn-state")
 					&& !currentTagLC.startsWith("nn-apparatus")
 					&& !currentTagLC.startsWith("nn-cycle")
@@ -196,10 +251,10 @@ public class PostProcessTags {
 					&& !currentTagLC.startsWith("nn-molar")
 					&& !currentTagLC.startsWith("nn-vacuum")
 				    && !currentTagLC.startsWith("nnp")))  {
-			List<String> beforeList = Arrays.asList("dt", "jj", "jj-chem", "dt-the");
-			List<String> afterListJJ = Arrays.asList("jj", "nn-chementity", "nn-mixture", "nn-apparatus", "nn", "jj-chem");
+			Category beforeList = DETERMINERS_OR_ADJECTIVES;
+			Category afterListJJ = ADJECTIVE_AFTER;
 	
-			List<String> afterListNN = Arrays.asList("stop", "comma");
+			Category afterListNN = STOP_OR_COMMA;
 	
 			if (stringBefore(beforeList, i, combinedTags)
 					&& (i == combinedTags.size() || stringAfter(
@@ -215,13 +270,13 @@ public class PostProcessTags {
 		}
 	
 	
-		if (currentTagLC.startsWith("vb-")
+		if (TagCategories.isVerbAction(combinedTags.getId(i))
 				|| currentTagLC.startsWith("nn-synthesize")) {
-			List<String> beforeList = Arrays.asList("dt-the", "dt");
-			List<String> afterList = Arrays.asList("vb");
+			Category beforeList = DETERMINERS;
+			String afterPrefix = "vb";
 	
 			if (stringBefore(beforeList, i, combinedTags)
-					&& (stringAfterStartsWith(afterList, i, combinedTags))) {
+					&& (stringAfterStartsWith(afterPrefix, i, combinedTags))) {
 				return "NN-CHEMENTITY";
 			}
 		}
@@ -233,10 +288,10 @@ public class PostProcessTags {
 		
 		if (currentTagLC.startsWith("vbn")
 				|| currentTagLC.startsWith("vbg")
-				|| currentTagLC.startsWith("vb-")){
+				|| TagCategories.isVerbAction(combinedTags.getId(i))){
 	
-			List<String> afterList = Arrays.asList("oscar-cm", "nns", "nn-chementity", "oscar-cj", "jj-chem", "nnp");
-			List<String> beforeList = Arrays.asList("dt", "rb", "rb-conj", "dt-the", "stop", "in-with", "in-of", "in-under");
+			Category afterList = PARTICIPLE_AS_ADJECTIVE_AFTER;
+			Category beforeList = PARTICIPLE_AS_ADJECTIVE_BEFORE;
 			if (stringAfter(afterList, i, combinedTags)
 					&& stringBefore(beforeList, i, combinedTags)) {
 				return "JJ-CHEM";
@@ -245,9 +300,9 @@ public class PostProcessTags {
 	
 		if (currentTagLC.startsWith("vb")) {
 	
-			List<String> beforeList = Arrays.asList("to");
-			List<String> beforebeforeList = Arrays.asList("vb-heat");
-			List<String> afterList = Arrays.asList("stop");
+			Category beforeList = TO;
+			Category beforebeforeList = VB_HEAT;
+			Category afterList = STOP;
 			if (stringBefore(beforeList, i, combinedTags)
 					&& stringBefore(beforebeforeList, i - 1, combinedTags)
 					&& stringAfter(afterList, i, combinedTags)) {
@@ -260,31 +315,30 @@ public class PostProcessTags {
 		 * Gerunds
 		 */
 		if (currentTagLC.startsWith("vb")
-				&& (currentTokenStr.toLowerCase().endsWith("ing") || currentTokenStr
-						.toLowerCase().endsWith("ed"))) {
+				&& (endsWithCaseInsensitive(currentTokenStr, "ing") || endsWithCaseInsensitive(currentTokenStr, "ed"))) {
 	
-			List<String> afterList = Arrays.asList("nn", "oscar-cm", "nns", "nn-chementity", "oscar-cj", "jj-chem", "jj", "nnp", "nn-state", "nn-apparatus");
-			List<String> beforeList = Arrays.asList("dt", "dt-the", "cd", "oscar-cm");
+			Category afterList = NOUN_PHRASE_AFTER;
+			Category beforeList = GERUND_BEFORE;
 	
-			List<String> notList = Arrays.asList("in-of");
-			if(stringAfter(Arrays.asList("oscar-cm"), i, combinedTags) 
-					&& stringBefore(Arrays.asList("oscar-cm", "nn-chementity"), i, combinedTags)){
+			Category notList = IN_OF;
+			if(stringAfter(OSCAR_CM, i, combinedTags) 
+					&& stringBefore(OSCAR_CM_OR_CHEMENTITY, i, combinedTags)){
 				//special case to avoid a few known mistags. This function should probably be reduced in scope
 			}
 			else if (stringAfter(afterList, i, combinedTags) && stringBefore(beforeList, i, combinedTags)) {
 				return "JJ";
 			}
-			else if (currentTokenStr.toLowerCase().endsWith("ing") && stringBefore(beforeList, i, combinedTags) && !stringAfter(notList, i, combinedTags)) {
+			else if (endsWithCaseInsensitive(currentTokenStr, "ing") && stringBefore(beforeList, i, combinedTags) && !stringAfter(notList, i, combinedTags)) {
 				return "JJ-CHEM";
 			}
 	
 		}
 	
-		if (currentTagLC.startsWith("vb") && !currentTokenStr.toLowerCase().endsWith("ing")) {
+		if (currentTagLC.startsWith("vb") && !endsWithCaseInsensitive(currentTokenStr, "ing")) {
 	
-			List<String> beforeList = Arrays.asList("dt", "dt-the", "in-in", "in-of", "rb");
-			List<String> afterList = Arrays.asList("nn", "oscar-cm", "nns", "nn-chementity", "oscar-cj", "jj-chem", "jj", "nnp", "nn-state", "nn-apparatus");
-			List<String> chemafterList = Arrays.asList("oscar-cm", "nn-chementity", "oscar-cj", "jj-chem");
+			Category beforeList = VERB_AS_ADJECTIVE_BEFORE;
+			Category afterList = NOUN_PHRASE_AFTER;
+			Category chemafterList = CHEMICALS;
 	
 			if (i != 0) {
 				if (!tokenList.get(i - 1).getSurface().equals("that")) {
@@ -297,7 +351,7 @@ public class PostProcessTags {
 							&& stringAfter(afterList, i, combinedTags)) {
 						return "JJ";
 					} else if (stringBefore(beforeList, i, combinedTags)
-							&& (i +1) < combinedTags.size() && combinedTags.get(i + 1).toLowerCase()
+							&& (i +1) < combinedTags.size() && lowerCaseTag(combinedTags, i + 1)
 									.startsWith("nn")) {
 						return "JJ";
 					}
@@ -317,7 +371,7 @@ public class PostProcessTags {
 	 * @return
 	 */
 	private String correctMisTaggedUnits(int i, String currentTag, String currentTokenStr) {
-		List<String> afterList = Arrays.asList("sym");
+		Category afterList = SYM;
 
 		if ((currentTokenStr.length() == 1) && Character.isLowerCase(currentTokenStr.charAt(0)) && stringAfter(afterList, i, combinedTags)){
 			return "NN";
@@ -334,11 +388,11 @@ public class PostProcessTags {
 	 * @return
 	 *************************************/
 	private String correctMisTaggedDigits(int i, String currentTag, String currentTokenStr) {
-		String currentTagLC = currentTag.toLowerCase();
+		String currentTagLC = lowerCaseTag(combinedTags, i);
 		if ((currentTagLC.startsWith("nn-") && Utils
 						.containsNumber(currentTokenStr))) {
-			List<String> beforeList = Arrays.asList("in-of", "jj", "nn-chementity", "comma");
-			List<String> afterList = Arrays.asList("-lrb-", "stop", "comma");
+			Category beforeList = ALPHANUM_BEFORE;
+			Category afterList = LRB_STOP_OR_COMMA;
 			if (stringBefore(beforeList, i, combinedTags)
 					&& (stringAfter(afterList, i, combinedTags) || i == combinedTags
 							.size())) {
@@ -348,7 +402,7 @@ public class PostProcessTags {
 	
 		if (currentTagLC.equals("cd-alphanum")) {
 	
-			List<String> afterList = Arrays.asList("nn-vol", "nn-mass");
+			Category afterList = NN_VOL_OR_MASS;
 	
 			if (stringAfter(afterList, i, combinedTags)
 					|| currentTokenStr.contains(".") || currentTokenStr.length() > 4) {
@@ -367,14 +421,14 @@ public class PostProcessTags {
 	 * @return
 	 *************************************/
 	private String correctMisTaggedMisc(int i, String currentTag, String currentTokenStr) {
-		String currentTagLC = currentTag.toLowerCase();
+		String currentTagLC = lowerCaseTag(combinedTags, i);
 		if (currentTagLC.equals("nnp")
 				&& StringUtils.equalsIgnoreCase(currentTokenStr, "M")) {
 			return "NN-MOLAR";
 		}
 		if (i != 0 && currentTagLC.equals("nns")) {
 
-			List<String> beforeList = Arrays.asList("stop");
+			Category beforeList = STOP;
 			if (currentTokenStr.endsWith("s")
 					&& Character.isUpperCase(currentTokenStr.charAt(0))) {
 				if (!stringBefore(beforeList, i, combinedTags)){
@@ -396,7 +450,7 @@ public class PostProcessTags {
 
 		if (currentTokenStr.equals("M")) {
 
-			List<String> beforeList = Arrays.asList("cd");
+			Category beforeList = CD;
 
 			if (stringBefore(beforeList, i, combinedTags)) {
 				return "NN-MOLAR";
@@ -405,7 +459,7 @@ public class PostProcessTags {
 
 		if (currentTokenStr.equals("K")) {
 
-			List<String> beforeList = Arrays.asList("cd");
+			Category beforeList = CD;
 
 			if (stringBefore(beforeList, i, combinedTags)) {
 				return "NN-TEMP";
@@ -417,7 +471,7 @@ public class PostProcessTags {
 
 		if (currentTagLC.equals("nn-mixture")) {
 
-			List<String> afterList = Arrays.asList("vbd");
+			Category afterList = VBD;
 
 			if (stringAfter(afterList, i, combinedTags)) {
 				return "NN-CHEMENTITY";
@@ -425,8 +479,8 @@ public class PostProcessTags {
 		}
 
 		if (currentTagLC.startsWith("nn-concentrate")) {
-			List<String> beforeList = Arrays.asList("jj", "oscar-cj", "jj-chem");
-			List<String> afterList = Arrays.asList("in-of");
+			Category beforeList = CHEMICAL_ADJECTIVES;
+			Category afterList = IN_OF;
 
 			if (!stringBefore(beforeList, i, combinedTags)
 					&& (stringAfter(afterList, i, combinedTags))) {
@@ -435,7 +489,7 @@ public class PostProcessTags {
 		}
 
 		if (i != 0 && currentTagLC.startsWith("nn-add")) {
-			List<String> beforeList = Arrays.asList("stop", "comma", "colon");
+			Category beforeList = STOP_COMMA_OR_COLON;
 			if (!stringBefore(beforeList, i, combinedTags)&& Character.isUpperCase(currentTokenStr.charAt(0))) {
 				return "NNP";
 			}
@@ -444,16 +498,16 @@ public class PostProcessTags {
 
 		if (currentTagLC.startsWith("jj")
 				|| currentTagLC.startsWith("nnp")) {
-			List<String> afterList = Arrays.asList("nn-campaign");
+			Category afterList = NN_CAMPAIGN;
 			if ((stringAfter(afterList, i, combinedTags) || string2After(
 					afterList, i, combinedTags))
 					&& Character.isUpperCase(currentTokenStr.charAt(0))) {
 				return "NNP";
 			}
 		}
-		if (currentTokenStr.toLowerCase().equals("addition")) {
-			List<String> beforeList = Arrays.asList("in-in");
-			List<String> afterList = Arrays.asList("comma", "stop");
+		if (currentTokenStr.equalsIgnoreCase("addition")) {
+			Category beforeList = IN_IN;
+			Category afterList = STOP_OR_COMMA;
 
 			if (stringBefore(beforeList, i, combinedTags)
 					&& (stringAfter(afterList, i, combinedTags))) {
@@ -461,11 +515,11 @@ public class PostProcessTags {
 			}
 		}
 
-		if (currentTokenStr.toLowerCase().startsWith("obtain")) {
+		if (currentTokenStr.regionMatches(true, 0, "obtain", 0, 6)) {
 
-			List<String> afterList = Arrays.asList("in-from");
+			Category afterList = IN_FROM;
 
-			List<String> after2List = Arrays.asList("nnp");
+			Category after2List = NNP;
 			if (stringAfter(afterList, i, combinedTags)
 					&& (string2After(after2List, i, combinedTags))) {
 				return "VB";
@@ -473,8 +527,8 @@ public class PostProcessTags {
 		}
 		if (currentTagLC.startsWith("nn-synthesize")) {
 
-			List<String> afterList = Arrays.asList("nn-apparatus");
-			List<String> beforeList = Arrays.asList("dt", "nn-apparatus", "rb-conj", "dt-the");
+			Category afterList = NN_APPARATUS;
+			Category beforeList = SYNTHESIZE_AS_ADJECTIVE_BEFORE;
 			if (stringAfter(afterList, i, combinedTags)
 					&& stringBefore(beforeList, i, combinedTags)) {
 				return "JJ-CHEM";
@@ -484,7 +538,7 @@ public class PostProcessTags {
 		if (currentTokenStr.equals("D")
 				&& currentTagLC.equals("nn-time")) {
 
-			List<String> beforeList = Arrays.asList("in-in");
+			Category beforeList = IN_IN;
 			if (stringBefore(beforeList, i, combinedTags)) {
 				return "NN";
 			}
@@ -493,31 +547,31 @@ public class PostProcessTags {
 		//Identifies a capital letter or single character roman number that is likely to be an identifier
 		if (currentTokenStr.length()==1 && Character.isLetter(currentTokenStr.charAt(0))){
 			char charac = currentTokenStr.charAt(0);
-			List<String> beforeBracket = Arrays.asList("-lrb-");
-			List<String> afterBracket = Arrays.asList("-rrb-");
+			Category beforeBracket = LRB;
+			Category afterBracket = RRB;
 			if ((stringBefore(beforeBracket, i, combinedTags) || i==0) && stringAfter(afterBracket, i, combinedTags)
-					|| (i==0 && tokenAfter(Arrays.asList(".", ":"), i))){
+					|| (i==0 && tokenAfter(FULL_STOP_OR_COLON, i))){
 				//could be an abbreviation
-				if ((charac =='d' || charac =='D' || charac =='h' || charac =='s') && string2Before(Arrays.asList("nn-time"), i, combinedTags)){
+				if ((charac =='d' || charac =='D' || charac =='h' || charac =='s') && string2Before(NN_TIME, i, combinedTags)){
 					return "NN-TIME";
 				}
-				else if (charac =='g' && string2Before(Arrays.asList("nn-mass"), i, combinedTags)){
+				else if (charac =='g' && string2Before(NN_MASS, i, combinedTags)){
 					return "NN-MASS";
 				}
-				else if (charac =='K' && string2Before(Arrays.asList("nn-temp"), i, combinedTags)){
+				else if (charac =='K' && string2Before(NN_TEMP, i, combinedTags)){
 					return "NN-TEMP";
 				}
-				else if ((charac =='l' || charac =='L') && string2Before(Arrays.asList("nn-vol"), i, combinedTags)){
+				else if ((charac =='l' || charac =='L') && string2Before(NN_VOL, i, combinedTags)){
 					return "NN-VOL";
 				}
-				else if ((charac =='g' || charac =='l' || charac =='s') && string2Before(Arrays.asList("oscar-cm"), i, combinedTags)){
+				else if ((charac =='g' || charac =='l' || charac =='s') && string2Before(OSCAR_CM, i, combinedTags)){
 					return "NN-STATE";//state symbol i.e. gas/liquid/solid
 				}
 				else{
 					return "NN-IDENTIFIER";
 				}
 			}
-			List<String> beforeList = Arrays.asList("nn-example", "nn-method", "nn-chementity", "in-of" );
+			Category beforeList = IDENTIFIER_BEFORE;
 			if (stringBefore(beforeList, i, combinedTags) && !isEnglishUseOfAorI(charac, i) ){
 				return "NN-IDENTIFIER";
 			}
@@ -534,8 +588,8 @@ public class PostProcessTags {
 		}
 		
 		if (i != 0 && currentTagLC.equals("nn")) {
-			List<String> beforeList = Arrays.asList("stop");
-			if ((Character.isUpperCase(currentTokenStr.charAt(0)) && !stringBefore(beforeList, i, combinedTags)) ||  (!currentTokenStr.toLowerCase().equals(currentTokenStr))){
+			Category beforeList = STOP;
+			if ((Character.isUpperCase(currentTokenStr.charAt(0)) && !stringBefore(beforeList, i, combinedTags)) ||  !isLowerCase(currentTokenStr)){
 				return "NNP";
 			}
 		}
@@ -551,7 +605,7 @@ public class PostProcessTags {
 	 * @return
 	 */
 	private boolean isEnglishUseOfAorI(char charac, int i) {
-		List<String> stopOrColon = Arrays.asList("stop", "colon");
+		Category stopOrColon = STOP_OR_COLON;
 		if (charac =='A' || charac =='I'){
 			if (i==0 || stringBefore(stopOrColon, i, combinedTags)){
 				return true;
@@ -574,10 +628,11 @@ public class PostProcessTags {
 	private boolean adjObjectExists(int index) {
 	
 		for (int i = index+1; i < combinedTags.size(); i++) {
-			if (combinedTags.get(i).toLowerCase().startsWith("to") || combinedTags.get(i).toLowerCase().startsWith("in")){
+			String tagLC = lowerCaseTag(combinedTags, i);
+			if (tagLC.startsWith("to") || tagLC.startsWith("in")){
 				return false;
 			}
-			else if (combinedTags.get(i).toLowerCase().startsWith("nn")){
+			else if (tagLC.startsWith("nn")){
 				return true;
 			}
 		}
@@ -588,14 +643,14 @@ public class PostProcessTags {
 	/**********************************
 	 * A boolean function that checks for the token after the current token.
 	 * 
-	 * @param afterList (List<String>)
+	 * @param afterList (Set<String>)
 	 * @param index (Integer)
 	 * @return boolean
 	 **********************************/
-	private boolean tokenAfter(List<String> afterList, int index) {
+	private boolean tokenAfter(Set<String> afterList, int index) {
 		int afterIndex = index + 1;
 		if (afterIndex < tokenList.size()) {
-			if (afterList.contains(tokenList.get(afterIndex).getSurface().toLowerCase())) {
+			if (afterList.contains(tokenList.get(afterIndex).getSurface())) {
 				return true;
 			}
 		}
@@ -605,17 +660,17 @@ public class PostProcessTags {
 	/***********************************
 	 * A boolean function that checks for the token before the current token.
 	 * 
-	 * @param beforeList (List<String>)
+	 * @param beforeList (Category)
 	 * @param index (Integer)
-	 * @param combinedTags (List<String>)
+	 * @param combinedTags (TagList)
 	 * @return boolean
 	 ***********************************/
-	private boolean stringBefore(List<String> beforeList, int index,
-			List<String> combinedTags) {
+	private boolean stringBefore(Category beforeList, int index,
+			TagList combinedTags) {
 		
 		if (index != 0) {
 			int beforeIndex = index - 1;
-			if (beforeList.contains(combinedTags.get(beforeIndex).toLowerCase())) {
+			if (beforeList.contains(combinedTags.getId(beforeIndex))) {
 				return true;
 			}
 		}
@@ -625,17 +680,17 @@ public class PostProcessTags {
 	/***********************************
 	 * A boolean function that checks for the token two before the current token.
 	 * 
-	 * @param beforeList (List<String>)
+	 * @param beforeList (Category)
 	 * @param index (Integer)
-	 * @param combinedTags (List<String>)
+	 * @param combinedTags (TagList)
 	 * @return boolean
 	 ***********************************/
-	private boolean string2Before(List<String> beforeList, int index,
-			List<String> combinedTags) {
+	private boolean string2Before(Category beforeList, int index,
+			TagList combinedTags) {
 		
 		if (index > 1) {
 			int before2Index = index - 2;
-			if (beforeList.contains(combinedTags.get(before2Index).toLowerCase())) {
+			if (beforeList.contains(combinedTags.getId(before2Index))) {
 				return true;
 			}
 		}
@@ -645,17 +700,17 @@ public class PostProcessTags {
 	/**********************************
 	 * A boolean function that checks for the token after the current token.
 	 * 
-	 * @param afterList (List<String>)
+	 * @param afterList (Category)
 	 * @param index (Integer)
-	 * @param combinedTags (List<String>)
+	 * @param combinedTags (TagList)
 	 * @return boolean
 	 **********************************/
-	private boolean stringAfter(List<String> afterList, int index,
-			List<String> combinedTags) {
+	private boolean stringAfter(Category afterList, int index,
+			TagList combinedTags) {
 
 		int afterIndex = index + 1;
 		if (afterIndex < combinedTags.size()) {
-			if (afterList.contains(combinedTags.get(afterIndex).toLowerCase())) {
+			if (afterList.contains(combinedTags.getId(afterIndex))) {
 				return true;
 			}
 		}
@@ -666,20 +721,18 @@ public class PostProcessTags {
 	 * A boolean function that checks for what the token after the current
 	 * token starts with.
 	 * 
-	 * @param afterList (List<String>)
+	 * @param prefix (String)
 	 * @param index (Integer)
-	 * @param combinedTags (List<String>)
+	 * @param combinedTags (TagList)
 	 * @return boolean
 	 **********************************/
-	private boolean stringAfterStartsWith(List<String> afterList, int index,
-			List<String> combinedTags) {
+	private boolean stringAfterStartsWith(String prefix, int index,
+			TagList combinedTags) {
 		
 		int afterIndex = index + 1;
 		if (afterIndex < combinedTags.size()) {
-			for (String nextWord : afterList) {
-				if (combinedTags.get(afterIndex).toLowerCase().startsWith(nextWord)) {
-					return true;
-				}
+			if (lowerCaseTag(combinedTags, afterIndex).startsWith(prefix)) {
+				return true;
 			}
 		}
 		return false;
@@ -688,17 +741,17 @@ public class PostProcessTags {
 	/**********************************
 	 * A boolean function that checks for the token two after the current token.
 	 * 
-	 * @param afterList (List<String>)
+	 * @param afterList (Category)
 	 * @param index (Integer)
-	 * @param combinedTags (List<String>)
+	 * @param combinedTags (TagList)
 	 * @return boolean
 	 **********************************/
-	private boolean string2After(List<String> afterList, int index,
-			List<String> combinedTags) {
+	private boolean string2After(Category afterList, int index,
+			TagList combinedTags) {
 
 		int after2Index = index + 2;
 		if (after2Index < combinedTags.size()) {
-			if (afterList.contains(combinedTags.get(after2Index).toLowerCase())) {
+			if (afterList.contains(combinedTags.getId(after2Index))) {
 				return true;
 			}
 		}
@@ -720,4 +773,46 @@ public class PostProcessTags {
 		return str.regionMatches(true, strOffset, suffix, 0, suffix.length());
 	}
 
-}
\ No newline at end of file
+	/**
+	 * Returns the lower case form of the tag at the given index.
+	 * @param combinedTags
+	 * @param index
+	 * @return
+	 */
+	private static String lowerCaseTag(TagList combinedTags, int index) {
+		return TAG_REGISTRY.getLowerCaseTag(combinedTags.getId(index));
+	}
+
+	/**
+	 * Is the string one of the COLOURS, ignoring case.
+	 * @param str
+	 * @return
+	 */
+	private static boolean isColour(String str) {
+		for (String colour : COLOURS) {
+			if (colour.equalsIgnoreCase(str)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Tests if lower casing the string would leave it unchanged.
+	 * @param str
+	 * @return
+	 */
+	private static boolean isLowerCase(String str) {
+		for (int i = 0; i < str.length(); i++) {
+			char c = str.charAt(i);
+			if (Character.toLowerCase(c) != c) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static Set<String> tagsOf(String... tags) {
+		return Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(tags)));
+	}
+}
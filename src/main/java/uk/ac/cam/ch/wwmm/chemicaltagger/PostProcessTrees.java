@@ -16,27 +16,43 @@
 package uk.ac.cam.ch.wwmm.chemicaltagger;
 
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.HashMap;
 import java.util.LinkedList;
 import java.util.List;
 
-import nu.xom.Attribute;
 import nu.xom.Document;
-import nu.xom.Element;
-import nu.xom.Elements;
-import nu.xom.Node;
-import nu.xom.Nodes;
+import uk.ac.cam.ch.wwmm.chemicaltagger.TagCategories.Category;
 
 /***********************************************
- * Passes tagged sentences to the ANTLR grammar. And converts the output to an
- * XML document.
+ * Adds action phrases and roles to the phrase tree ({@link PhraseNode})
+ * of a parsed document, or to XML made from one.
  * 
  * @author lh359, dl387
  *****************************************/
 public class PostProcessTrees {
+	private static final TagRegistry REGISTRY = TagRegistry.getInstance();
+	private static final int DOCUMENT = REGISTRY.getId("Document");
+	private static final int SENTENCE = REGISTRY.getId("Sentence");
+	private static final int ACTION_PHRASE = REGISTRY.getId("ActionPhrase");
+	private static final int DISSOLVE_PHRASE = REGISTRY.getId("DissolvePhrase");
+	private static final int ROLE_PREP_PHRASE = REGISTRY.getId("RolePrepPhrase");
+	private static final int VERB_PHRASE = REGISTRY.getId("VerbPhrase");
+	private static final int TIME_PHRASE = REGISTRY.getId("TimePhrase");
+	private static final int MULTIPLE_APPARATUS = REGISTRY.getId("MultipleApparatus");
+	private static final int OSCARCM = REGISTRY.getId("OSCARCM");
+	private static final int MOLECULE = REGISTRY.getId("MOLECULE");
+	private static final int UNNAMEDMOLECULE = REGISTRY.getId("UNNAMEDMOLECULE");
+	private static final int MIXTURE = REGISTRY.getId("MIXTURE");
+	private static final int MASS = REGISTRY.getId("MASS");
+	private static final int AMOUNT = REGISTRY.getId("AMOUNT");
+	private static final int PROCEDURE = REGISTRY.getId("PROCEDURE");
+	private static final int NN_EXAMPLE = REGISTRY.getId("NN-EXAMPLE");
+	private static final int NN_CHEMENTITY = REGISTRY.getId("NN-CHEMENTITY");
+	private static final int NN_CHROMATOGRAPHY = REGISTRY.getId("NN-CHROMATOGRAPHY");
+	private static final int VB_DILUTE = REGISTRY.getId("VB-DILUTE");
+	private static final Category ELEMENTS_BEFORE_VERBS = TagCategories.of("vbd", "vbn", "vbz", "comma");
+
 	private HashMap<String, String> actionMap = new HashMap<String, String>();
-	private static List<String> splitList = Arrays.asList("comma", "cc", "stop", "colon", "rb-conj");
 	private boolean includeWaitPhrase = true;
 
 	/********************************
@@ -149,46 +165,109 @@ public class PostProcessTrees {
 	 * @return processedDoc (Document)
 	 ********************************************/
 	public Document process(Document doc) {
-		if (actionMap.size() == 0) {
-			loadDefaultActionMap();
+		PhraseNode root = process(PhraseNode.fromXML(doc.getRootElement()));
+		Document processedDoc = new Document(root.toXML());
+		return processedDoc;
+
+	}
+
+	/**********************************************
+	 * Adds action phrases and roles to a phrase tree.
+	 * The nodes of the given tree are moved into the new tree rather than copied.
+	 * 
+	 * @param document
+	 *            (PhraseNode)
+	 * @return root (PhraseNode) a new Document node holding the processed sentences
+	 ********************************************/
+	public PhraseNode process(PhraseNode document) {
+		PhraseNode root = new PhraseNode(DOCUMENT);
+		List<PhraseNode> sentences = new ArrayList<PhraseNode>();
+		if (document.getKind() == SENTENCE) {
+			sentences.add(document);
 		}
-		Element root = new Element("Document");
-		Nodes nodes = doc.query("//Sentence");
-		for (int i = 0; i < nodes.size(); i++) {
-			Element sentenceNode = (Element) nodes.get(i);
-			Element newSentenceNode = processActionPhrases(sentenceNode);
+		sentences.addAll(document.getDescendants(SENTENCE));
+		List<PhraseNode> oscarcms = new ArrayList<PhraseNode>();
+		for (PhraseNode sentenceNode : sentences) {
+			PhraseNode newSentenceNode = processSentence(sentenceNode, oscarcms);
 
 			root.appendChild(newSentenceNode);
 		}
 
-		processDissolve(root);
-		assignRolesByFollowingWord(root);
+		assignRolesByFollowingWord(oscarcms);
 
-		Document processedDoc = new Document(root);
-		return processedDoc;
+		return root;
+	}
+
+	/**********************************************
+	 * Adds action phrases and the roles found within dissolve phrases to a sentence.
+	 * Roles that depend on the word following a compound are added by
+	 * {@link #assignRolesByFollowingWord(PhraseNode)} as the word may be in the next sentence.
+	 * The children of the given sentence are moved into the new sentence.
+	 * 
+	 * @param sentenceNode
+	 *            (PhraseNode)
+	 * @return newSentenceNode (PhraseNode)
+	 ********************************************/
+	public PhraseNode processSentence(PhraseNode sentenceNode) {
+		return processSentence(sentenceNode, new ArrayList<PhraseNode>());
+	}
 
+	/**********************************************
+	 * Adds action phrases and the roles found within dissolve phrases to a sentence.
+	 * The RolePrepPhrases, DissolvePhrases and OSCARCMs of the new sentence
+	 * are found in one walk over it; the OSCARCMs are added to the given list
+	 * so that roles can be assigned by the following word once the next sentence is known.
+	 * 
+	 * @param sentenceNode
+	 *            (PhraseNode)
+	 * @param oscarcms
+	 *            (List<PhraseNode>)
+	 * @return newSentenceNode (PhraseNode)
+	 ********************************************/
+	private PhraseNode processSentence(PhraseNode sentenceNode, List<PhraseNode> oscarcms) {
+		if (actionMap.size() == 0) {
+			loadDefaultActionMap();
+		}
+		PhraseNode newSentenceNode = processActionPhrases(sentenceNode);
+		List<PhraseNode> rolePrepPhrases = new ArrayList<PhraseNode>();
+		List<PhraseNode> dissolvePhrases = new ArrayList<PhraseNode>();
+		findPhrasesAndCompounds(newSentenceNode, rolePrepPhrases, dissolvePhrases, oscarcms);
+		checkForRolePrepPhrase(rolePrepPhrases);
+		processDissolve(dissolvePhrases);
+		return newSentenceNode;
+	}
+
+	private static void findPhrasesAndCompounds(PhraseNode node, List<PhraseNode> rolePrepPhrases,
+			List<PhraseNode> dissolvePhrases, List<PhraseNode> oscarcms) {
+		int kind = node.getKind();
+		if (kind == ROLE_PREP_PHRASE) {
+			rolePrepPhrases.add(node);
+		}
+		else if (kind == DISSOLVE_PHRASE) {
+			dissolvePhrases.add(node);
+		}
+		else if (kind == OSCARCM) {
+			oscarcms.add(node);
+		}
+		for (int i = 0; i < node.getChildCount(); i++) {
+			findPhrasesAndCompounds(node.getChild(i), rolePrepPhrases, dissolvePhrases, oscarcms);
+		}
 	}
 
 	/******************************************
 	 * Converts DissolvePhrases (as they are recognised by the ANTLR grammar),
 	 * and converts them into "ActionPhrase type='Dissolve'".
 	 * 
-	 * @param dissolveElement
-	 *            (Element)
-	 * @return dissolveElement (Element)
+	 * @param dissolvePhrases
+	 *            (List<PhraseNode>)
 	 ********************************/
-	private Element processDissolve(Element dissolveElement) {
-		Nodes nodes = dissolveElement.query("//DissolvePhrase");
-		for (int i = 0; i < nodes.size(); i++) {
-			Element newDissolveElement = (Element) nodes.get(i);
-			newDissolveElement.setLocalName("ActionPhrase");
-			Attribute attribute = new Attribute("type", "Dissolve");
-
-			newDissolveElement.addAttribute(attribute);
+	private void processDissolve(List<PhraseNode> dissolvePhrases) {
+		for (PhraseNode newDissolveElement : dissolvePhrases) {
+			newDissolveElement.setKind(ACTION_PHRASE);
+			newDissolveElement.addAttribute("type", "Dissolve");
 			processSolvent(newDissolveElement);
 
 		}
-		return dissolveElement;
 	}
 	
 
@@ -196,49 +275,71 @@ public class PostProcessTrees {
 	 * Looks for the pattern OSCARCM followed by NN-CHEMENTITY
 	 * to assign things like "ethanol solvent" as solvents
 	 * or "palladium catalyst" as catalysts
-	 * @param root
+	 * @param node any node of the tree
 	 */
-	private void assignRolesByFollowingWord(Element root) {
-		Nodes oscarcms = root.query("//OSCARCM");
-		for (int i = 0; i < oscarcms.size(); i++) {
-			Element oscarcm = (Element) oscarcms.get(i);
-			Element nextEl = Utils.getNextTerminalElement(oscarcm);
-			if (nextEl!=null && nextEl.getLocalName().equals("NN-CHEMENTITY")){
-				Element molecule = (Element) oscarcm.getParent();
-				if (molecule !=null && molecule.getLocalName().equals("MOLECULE")){
-					String nnChementity = nextEl.getValue().toLowerCase();
-					if (nnChementity.contains("solvent")){
-						molecule.addAttribute(new Attribute("role", "Solvent"));
-					}
-					else if (nnChementity.contains("catalyst") || nnChementity.contains("accelerant")){
-						molecule.addAttribute(new Attribute("role", "Catalyst"));
+	public void assignRolesByFollowingWord(PhraseNode node) {
+		PhraseNode root = node;
+		while (root.getParent() != null) {
+			root = root.getParent();
+		}
+		List<PhraseNode> oscarcms = new ArrayList<PhraseNode>();
+		if (root.getKind() == OSCARCM) {
+			oscarcms.add(root);
+		}
+		oscarcms.addAll(root.getDescendants(OSCARCM));
+		assignRolesByFollowingWord(oscarcms);
+	}
+
+	private void assignRolesByFollowingWord(List<PhraseNode> oscarcms) {
+		for (PhraseNode oscarcm : oscarcms) {
+			PhraseNode nextEl = oscarcm.getNextTerminal();
+			if (nextEl!=null && nextEl.getKind() == NN_CHEMENTITY){
+				PhraseNode molecule = oscarcm.getParent();
+				if (molecule !=null && molecule.getKind() == MOLECULE){
+					String role = getRoleFromFollowingWord(nextEl.getValue());
+					if (role != null){
+						molecule.addAttribute("role", role);
 					}
 				}
 			}
 		}
 	}
 
+	private static String getRoleFromFollowingWord(String word) {
+		String nnChementity = word.toLowerCase();
+		if (nnChementity.contains("solvent")){
+			return "Solvent";
+		}
+		else if (nnChementity.contains("catalyst") || nnChementity.contains("accelerant")){
+			return "Catalyst";
+		}
+		return null;
+	}
+
 	/******************************************
 	 * Adds action phrases to the documents.
+	 * The children of the sentence are moved into the new sentence.
 	 * 
 	 * @param sentenceNode
-	 *            (Element)
-	 * @return newSentence (Element)
+	 *            (PhraseNode)
+	 * @return newSentence (PhraseNode)
 	 ********************************/
-	private Element processActionPhrases(Element sentenceNode) {
-		Element newSentence = new Element("Sentence");
-		List<Element> elementList = new ArrayList<Element>();
+	private PhraseNode processActionPhrases(PhraseNode sentenceNode) {
+		PhraseNode newSentence = new PhraseNode(SENTENCE);
+		for (int i = 0; i < sentenceNode.getAttributeCount(); i++) {
+			newSentence.addAttribute(sentenceNode.getAttributeName(i), sentenceNode.getAttributeValue(i));
+		}
+		List<PhraseNode> elementList = new ArrayList<PhraseNode>();
 
 		boolean seenVerbOrAtionNoun = false;// a verb or a noun like
 											// purification
-		Element actionPhrase = null;
-		Elements sentenceChildren = sentenceNode.getChildElements();
-		for (int i = 0; i < sentenceChildren.size(); i++) {
-			Element phraseElement = sentenceChildren.get(i);
+		PhraseNode actionPhrase = null;
+		PhraseNode[] sentenceChildren = sentenceNode.removeChildren();
+		for (PhraseNode phraseElement : sentenceChildren) {
 
 			String actionElementName = findFirstActionElementNameOutsideOfAMolecule(phraseElement);
 			if (actionElementName != null
-					|| phraseElement.getLocalName().equals("VerbPhrase")) {
+					|| phraseElement.getKind() == VERB_PHRASE) {
 				if (seenVerbOrAtionNoun) {
 					if (actionPhrase != null) {// This the start of a new
 												// phrase, so add all seen
@@ -250,7 +351,7 @@ public class PostProcessTrees {
 					} else {
 						addListToParentNode(newSentence, elementList);
 					}
-					elementList = new ArrayList<Element>();
+					elementList = new ArrayList<PhraseNode>();
 				}
 				seenVerbOrAtionNoun = true;
 
@@ -258,64 +359,52 @@ public class PostProcessTrees {
 				//TODO is this condition a good idea?
 				if (!hasNNExampleOutsideOfProcedure(elementList)) {//not something like "example of synthesis"
 					if (actionElementName != null) {
-						actionPhrase = new Element("ActionPhrase");
-						Attribute attribute = new Attribute("type",
-								actionMap.get(actionElementName));
-						actionPhrase.addAttribute(attribute);
+						actionPhrase = new PhraseNode(ACTION_PHRASE);
+						actionPhrase.addAttribute("type", actionMap.get(actionElementName));
 					}
 					else{
-						List<String> elementNames = elementListToSelfAndDescendentElementNames(elementList);
-						if (elementNames.contains("TimePhrase")
+						if (hasSelfOrDescendant(elementList, TIME_PHRASE)
 								&& includeWaitPhrase) {
-							Attribute attribute = new Attribute("type", "Wait");
-							actionPhrase = createActionPhrase(elementList,
-									attribute);
+							actionPhrase = createActionPhrase(elementList, "Wait");
 							appendActionPhrase(newSentence, actionPhrase);
 							actionPhrase = null;
 	
-							elementList = new ArrayList<Element>();
+							elementList = new ArrayList<PhraseNode>();
 							seenVerbOrAtionNoun = false;
-						} else if (elementNames.contains("MultipleApparatus")) {
-							Attribute attribute = new Attribute("type",
-									"ApparatusAction");
-							actionPhrase = createActionPhrase(elementList,
-									attribute);
+						} else if (hasSelfOrDescendant(elementList, MULTIPLE_APPARATUS)) {
+							actionPhrase = createActionPhrase(elementList, "ApparatusAction");
 							appendActionPhrase(newSentence, actionPhrase);
 							actionPhrase = null;
-							elementList = new ArrayList<Element>();
+							elementList = new ArrayList<PhraseNode>();
 							seenVerbOrAtionNoun = false;
 						}
 					}
 				}
-			} else if (splitList.contains(phraseElement.getLocalName()
-					.toLowerCase())) {
+			} else if (TagCategories.isClauseSeparator(phraseElement.getKind())) {
 				if (actionPhrase != null) {
 					addListToParentNode(actionPhrase, elementList);
 					appendActionPhrase(newSentence, actionPhrase);
-					elementList = new ArrayList<Element>();
+					elementList = new ArrayList<PhraseNode>();
 					actionPhrase = null;
 				} else {
 					// add nodes to sentence if a verbOrAtionNoun has been seen,
 					// otherwise keep waiting for an action term
 					if (seenVerbOrAtionNoun) {
 						addListToParentNode(newSentence, elementList);
-						elementList = new ArrayList<Element>();
+						elementList = new ArrayList<PhraseNode>();
 					} else {
-						List<String> elementNames = elementListToSelfAndDescendentElementNames(elementList);
-						if (elementNames.contains("TimePhrase")
+						if (hasSelfOrDescendant(elementList, TIME_PHRASE)
 								&& includeWaitPhrase) {
-							Attribute attribute = new Attribute("type", "Wait");
-							actionPhrase = createActionPhrase(elementList,
-									attribute);
+							actionPhrase = createActionPhrase(elementList, "Wait");
 							appendActionPhrase(newSentence, actionPhrase);
 							actionPhrase = null;
-							elementList = new ArrayList<Element>();
+							elementList = new ArrayList<PhraseNode>();
 						}
 					}
 				}
 				if (elementList.isEmpty()) {// append the punctuation directly
 											// if they are not within a phrase
-					newSentence.appendChild(new Element(phraseElement));
+					newSentence.appendChild(phraseElement);
 				} else {
 					elementList.add(phraseElement);
 				}
@@ -334,8 +423,6 @@ public class PostProcessTrees {
 				addListToParentNode(newSentence, elementList);
 			}
 		}
-		newSentence = checkForRolePrepPhrase(newSentence);
-
 		return newSentence;
 	}
 
@@ -344,12 +431,10 @@ public class PostProcessTrees {
 	 * @param elementList
 	 * @return
 	 */
-	private boolean hasNNExampleOutsideOfProcedure(List<Element> elementList) {
-		for (Element element : elementList) {
-			Nodes exampleNodes = element.query(".//NN-EXAMPLE");
-			for (int i = 0; i < exampleNodes.size(); i++) {
-				Element exampleEl = (Element) exampleNodes.get(i);
-				if (!((Element)exampleEl.getParent()).getLocalName().equals("PROCEDURE")){
+	private boolean hasNNExampleOutsideOfProcedure(List<PhraseNode> elementList) {
+		for (PhraseNode element : elementList) {
+			for (PhraseNode exampleEl : element.getDescendants(NN_EXAMPLE)) {
+				if (exampleEl.getParent().getKind() != PROCEDURE){
 					return true;
 				}
 			}
@@ -362,41 +447,36 @@ public class PostProcessTrees {
 	 * dissolve,wash and extract phrases.
 	 * 
 	 * @param actionElement
-	 *            (Element)
-	 * @return actionElement (Element)
+	 *            (PhraseNode)
+	 * @return actionElement (PhraseNode)
 	 ****************************************/
-	private Element processSolvent(Element actionElement) {
+	private PhraseNode processSolvent(PhraseNode actionElement) {
 
-		if (!actionElement.getLocalName().toLowerCase()
-				.contains("actionphrase")) {
-			Nodes actionNodes = actionElement.query(".//ActionPhrase");
-			if (actionNodes.size() == 0) {
-				actionElement = null;
-			} else {
-				actionElement = (Element) actionNodes.get(0);
-			}
+		if (!actionElement.getLowerCaseName().contains("actionphrase")) {
+			actionElement = actionElement.getFirstDescendant(ACTION_PHRASE);
 		}
 		if (actionElement != null) {
-			if (actionElement.getAttributeValue("type").equals("Dissolve")) {
+			String type = actionElement.getAttributeValue("type");
+			if (type.equals("Dissolve")) {
 				addSolventRole(actionElement, "IN-IN");
 			}
-			if (actionElement.getAttributeValue("type").equals("Wash")) {
+			if (type.equals("Wash")) {
 				addSolventRole(actionElement, "IN-WITH");
 			}
-			if (actionElement.getAttributeValue("type").equals("Extract")) {
+			if (type.equals("Extract")) {
 
 				addSolventRole(actionElement, "IN-WITH");
 			}
 
-			if (actionElement.getAttributeValue("type").equals("Add")) {
-				if (actionElement.query(".//VB-DILUTE").size() > 0) {
+			if (type.equals("Add")) {
+				if (actionElement.hasDescendant(VB_DILUTE)) {
 					addSolventRole(actionElement, "IN-WITH");
 				}
 			}
 
-			if (actionElement.getAttributeValue("type").equals("Purify")) {
-				if ((actionElement.query(".//NN-CHROMATOGRAPHY").size() > 0)
-						&& (actionElement.query(".//MIXTURE").size() > 0)) {
+			if (type.equals("Purify")) {
+				if (actionElement.hasDescendant(NN_CHROMATOGRAPHY)
+						&& actionElement.hasDescendant(MIXTURE)) {
 					findMixtureSolvents(actionElement);
 
 				}
@@ -413,11 +493,11 @@ public class PostProcessTrees {
 	 * Adds ActionPhrase tags to the document.
 	 * 
 	 * @param newSentence
-	 *            (Element)
+	 *            (PhraseNode)
 	 * @param actionElement
-	 *            (Element)
+	 *            (PhraseNode)
 	 **********************************/
-	private void appendActionPhrase(Element newSentence, Element actionElement) {
+	private void appendActionPhrase(PhraseNode newSentence, PhraseNode actionElement) {
 
 		actionElement = processSolvent(actionElement);
 		newSentence.appendChild(actionElement);
@@ -428,39 +508,28 @@ public class PostProcessTrees {
 	 * Checks for role in preparation phrases that have the format 'Using hexane
 	 * as an eluent/solvent'.
 	 * 
-	 * @param newSentence
-	 *            (Element)
-	 * @return newSentence (Element)
+	 * @param rolePrepPhrases
+	 *            (List<PhraseNode>)
 	 **************************************************************************/
-	private Element checkForRolePrepPhrase(Element newSentence) {
-		Nodes nodes = newSentence.query(".//RolePrepPhrase");
-		if (nodes.size() == 0) {
-			return newSentence;
-		} else {
-			for (int i = 0; i < nodes.size(); i++) {
-				Node roleNode = nodes.get(i);
-
-				Element rolePhrase = (Element) roleNode;
-
-				String role = getRole(rolePhrase);
-				if (role != null) {
-					Element previousElement = getPreviousElementOrElementBeforeVerbs(rolePhrase);
-					if (previousElement !=null && 
-							(previousElement.getLocalName().equalsIgnoreCase("nounphrase")
-							|| previousElement.getLocalName().equalsIgnoreCase("prepphrase"))) {
+	private void checkForRolePrepPhrase(List<PhraseNode> rolePrepPhrases) {
+		for (PhraseNode rolePhrase : rolePrepPhrases) {
+			String role = getRole(rolePhrase);
+			if (role != null) {
+				PhraseNode previousElement = getPreviousElementOrElementBeforeVerbs(rolePhrase);
+				if (previousElement !=null) {
+					String previousName = previousElement.getLowerCaseName();
+					if (previousName.equals("nounphrase") || previousName.equals("prepphrase")) {
 						setRole(previousElement, role);
 					}
 				}
 			}
 		}
-		return newSentence;
 	}
 
-	private Element getPreviousElementOrElementBeforeVerbs(Element rolePhrase) {
-		Element previousElement = Utils.getPreviousSiblingOrParentsSibling(rolePhrase);
-		List<String> elementsToIgnore = Arrays.asList("vbd", "vbn", "vbz", "comma");
-		while (previousElement !=null && elementsToIgnore.contains(previousElement.getLocalName().toLowerCase())){
-			previousElement = Utils.getPreviousSiblingOrParentsSibling(previousElement);
+	private PhraseNode getPreviousElementOrElementBeforeVerbs(PhraseNode rolePhrase) {
+		PhraseNode previousElement = rolePhrase.getPreviousSiblingOrParentsSibling();
+		while (previousElement !=null && ELEMENTS_BEFORE_VERBS.contains(previousElement.getKind())){
+			previousElement = previousElement.getPreviousSiblingOrParentsSibling();
 		}
 		return previousElement;
 	}
@@ -469,16 +538,14 @@ public class PostProcessTrees {
 	 * Adds a role attribute to Molecule Nodes.
 	 * 
 	 * @param previousElement
-	 *            (Element)
+	 *            (PhraseNode)
 	 * @param role
 	 *            (String)
 	 ******************************************/
 
-	private void setRole(Element previousElement, String role) {
-		Nodes moleculeNodes = previousElement.query(".//MOLECULE");
-		for (int i = 0; i < moleculeNodes.size(); i++) {
-			Element moleculeElement = (Element) moleculeNodes.get(i);
-			moleculeElement.addAttribute(new Attribute("role", role));
+	private void setRole(PhraseNode previousElement, String role) {
+		for (PhraseNode moleculeElement : previousElement.getDescendants(MOLECULE)) {
+			moleculeElement.addAttribute("role", role);
 		}
 	}
 
@@ -487,17 +554,16 @@ public class PostProcessTrees {
 	 * a solvent/ as an eluent .
 	 * 
 	 * @param rolePhrase
-	 *            (Element)
+	 *            (PhraseNode)
 	 * @return role (String) /
 	 *****************************************************************/
-	private String getRole(Element rolePhrase) {
+	private String getRole(PhraseNode rolePhrase) {
 		String role = null;
-		Nodes roleNameNodes = rolePhrase.query(".//NN-CHEMENTITY");
+		List<PhraseNode> roleNameNodes = rolePhrase.getDescendants(NN_CHEMENTITY);
 		if (roleNameNodes.size() != 1) {
 			return null;
 		} else {
-			Node roleNameNode = roleNameNodes.get(0);
-			role = roleNameNode.getValue();
+			role = roleNameNodes.get(0).getValue();
 		}
 		if (role.toLowerCase().contains("eluent")
 				|| role.toLowerCase().contains("solvent")) {
@@ -511,82 +577,52 @@ public class PostProcessTrees {
 	}
 
 	/*************************************************************************
-	 * Takes a list of elements and returns a list of their localnames.
+	 * Are any of the given nodes, or their descendants, of the given kind.
 	 * 
 	 * @param elementList
-	 *            (List<Element>)
-	 * @return elementNames (List<String>)
+	 *            (List<PhraseNode>)
+	 * @param kind
+	 *            (int)
+	 * @return hasSelfOrDescendant (boolean)
 	 **************************************************************************/
-	private List<String> elementListToSelfAndDescendentElementNames(
-			List<Element> elementList) {
-		List<String> elementNames = new ArrayList<String>();
-		for (Element element : elementList) {
-			elementNames
-					.addAll(getElementAndDescendantElementNameList(element));
-		}
-		return elementNames;
-	}
-
-	/*************************************************************************
-	 * Given an element returns in document order the element's descendants
-	 * localnames. The startingElement's localname will be the first in the list
-	 * 
-	 * @param startingElement
-	 *            (Element)
-	 * @return elementNames (List<String>)
-	 ************************************************************************/
-	private List<String> getElementAndDescendantElementNameList(
-			Element startingElement) {
-		List<String> elementNames = new ArrayList<String>();
-		elementNames.add(startingElement.getLocalName());
-		LinkedList<Element> stack = new LinkedList<Element>();
-		Elements children = startingElement.getChildElements();
-		for (int i = children.size() - 1; i >= 0; i--) {
-			stack.add(children.get(i));
-		}
-		while (stack.size() > 0) {
-			Element currentElement = stack.removeLast();
-			elementNames.add(currentElement.getLocalName());
-			children = currentElement.getChildElements();
-			for (int i = children.size() - 1; i >= 0; i--) {
-				Element child = children.get(i);
-				stack.add(child);
+	private boolean hasSelfOrDescendant(List<PhraseNode> elementList, int kind) {
+		for (PhraseNode element : elementList) {
+			if (element.getKind() == kind || element.hasDescendant(kind)) {
+				return true;
 			}
 		}
-		return elementNames;
+		return false;
 	}
 
 	/****************************************************
-	 * Adds a list of Elements to a parent node.
+	 * Moves a list of nodes to a parent node.
 	 * 
 	 * @param parentNode
-	 *            (Element)
+	 *            (PhraseNode)
 	 * @param elementList
-	 *            (List<Element>)
+	 *            (List<PhraseNode>)
 	 ****************************************************/
-	private void addListToParentNode(Element parentNode,
-			List<Element> elementList) {
-		for (Element element : elementList) {
-			Element newElement = (Element) element.copy();
-
-			parentNode.appendChild(newElement);
+	private void addListToParentNode(PhraseNode parentNode,
+			List<PhraseNode> elementList) {
+		for (PhraseNode element : elementList) {
+			parentNode.appendChild(element);
 		}
 
 	}
 
 	/*******************************************************************************
-	 * Creates an actionPhrase element with the given children and attribute.
+	 * Creates an actionPhrase node with the given children and type.
 	 * 
 	 * @param children
-	 *            (List<Element>)
-	 * @param attribute
-	 *            (Attribute)
-	 * @return actionPhrase (Element)
+	 *            (List<PhraseNode>)
+	 * @param type
+	 *            (String)
+	 * @return actionPhrase (PhraseNode)
 	 ********************************************************************************/
-	private Element createActionPhrase(List<Element> children,
-			Attribute attribute) {
-		Element actionPhrase = new Element("ActionPhrase");
-		actionPhrase.addAttribute(attribute);
+	private PhraseNode createActionPhrase(List<PhraseNode> children,
+			String type) {
+		PhraseNode actionPhrase = new PhraseNode(ACTION_PHRASE);
+		actionPhrase.addAttribute("type", type);
 		addListToParentNode(actionPhrase, children);
 		return actionPhrase;
 	}
@@ -595,27 +631,25 @@ public class PostProcessTrees {
 	 * Searches for solvents in mixture phrases.
 	 * 
 	 * @param actionElement
-	 *            (Element)
+	 *            (PhraseNode)
 	 **********************************************/
-	private void findMixtureSolvents(Element actionElement) {
-		Element mixtureElement = (Element) actionElement.query(".//MIXTURE")
-				.get(0);
-		Nodes oscarCMNodes = mixtureElement.query(".//OSCARCM");
-		for (int i = 0; i < oscarCMNodes.size(); i++) {
-
-			Element oscarCMElement = (Element) oscarCMNodes.get(i);
-			Element moleculeElement;
-			if (((Element)oscarCMElement.getParent()).getLocalName().equals("MOLECULE")){
-				moleculeElement = (Element) oscarCMElement.getParent();
+	private void findMixtureSolvents(PhraseNode actionElement) {
+		PhraseNode mixtureElement = actionElement.getFirstDescendant(MIXTURE);
+		for (PhraseNode oscarCMElement : mixtureElement.getDescendants(OSCARCM)) {
+			PhraseNode parent = oscarCMElement.getParent();
+			PhraseNode moleculeElement;
+			if (parent.getKind() == MOLECULE){
+				moleculeElement = parent;
 			}
 			else{
-				Element newElement = (Element) oscarCMElement.copy();
-				oscarCMElement.setLocalName("MOLECULE");
-				oscarCMElement.removeChildren();
-				oscarCMElement.appendChild(newElement);
-				moleculeElement = oscarCMElement;
+				moleculeElement = new PhraseNode(MOLECULE);
+				for (int i = 0; i < oscarCMElement.getAttributeCount(); i++) {
+					moleculeElement.addAttribute(oscarCMElement.getAttributeName(i), oscarCMElement.getAttributeValue(i));
+				}
+				parent.replaceChild(oscarCMElement, moleculeElement);
+				moleculeElement.appendChild(oscarCMElement);
 			}
-			moleculeElement.addAttribute(new Attribute("role", "Solvent"));
+			moleculeElement.addAttribute("role", "Solvent");
 		}
 	}
 
@@ -624,38 +658,36 @@ public class PostProcessTrees {
 	 * are after the given preposition and adds a role="Solvent" attribute.
 	 * 
 	 * @param solventElement
-	 *            (Element)
+	 *            (PhraseNode)
 	 * @param preposition
 	 *            (String)
 	 ***********************************************************************/
-	private void addSolventRole(Element solventElement, String preposition) {
-		if (solventElement.getLocalName().contains("Unmatched")) {
+	private void addSolventRole(PhraseNode solventElement, String preposition) {
+		if (solventElement.getName().contains("Unmatched")) {
 			return;
 		}
 		boolean seenPreposition = false;
 		boolean foundAtleastOneSolvent = false;
-		LinkedList<Element> elementsToInvestigate = new LinkedList<Element>();
-		Elements children = solventElement.getChildElements();
-		for (int i = 0; i < children.size(); i++) {
-			elementsToInvestigate.add(children.get(i));
+		LinkedList<PhraseNode> elementsToInvestigate = new LinkedList<PhraseNode>();
+		for (int i = 0; i < solventElement.getChildCount(); i++) {
+			elementsToInvestigate.add(solventElement.getChild(i));
 		}
 		while (!elementsToInvestigate.isEmpty()) {
-			Element elementToInvestigate = elementsToInvestigate.removeFirst();
-			String localNameLC = elementToInvestigate.getLocalName().toLowerCase();
+			PhraseNode elementToInvestigate = elementsToInvestigate.removeFirst();
+			String localNameLC = elementToInvestigate.getLowerCaseName();
 			if (localNameLC.contains("phrase") || localNameLC.contains("ratio")) {//children of phrases will be recursively investigated
-				Elements elChildren = elementToInvestigate.getChildElements();
-				for (int i = elChildren.size() -1; i >=0 ; i--) {
-					elementsToInvestigate.add(0, elChildren.get(i));
+				for (int i = elementToInvestigate.getChildCount() -1; i >=0 ; i--) {
+					elementsToInvestigate.add(0, elementToInvestigate.getChild(i));
 				}
 			}
 			else if (localNameLC.contains("molecule") && seenPreposition) {
 				if (foundAtleastOneSolvent && moleculeDoesNotLookLikeASolvent(elementToInvestigate)){
 					return;
 				}
-				elementToInvestigate.addAttribute(new Attribute("role", "Solvent"));
+				elementToInvestigate.addAttribute("role", "Solvent");
 				foundAtleastOneSolvent = true;
 			}
-			else if (elementToInvestigate.getLocalName().equals(preposition)) {
+			else if (elementToInvestigate.getName().equals(preposition)) {
 				seenPreposition = true;
 			}
 		}
@@ -667,42 +699,37 @@ public class PostProcessTrees {
 	 * @param elementToInvestigate
 	 * @return
 	 */
-	private boolean moleculeDoesNotLookLikeASolvent(Element molecule) {
-		return molecule.query(".//MASS").size() >0 || molecule.query(".//AMOUNT").size() >0;
+	private boolean moleculeDoesNotLookLikeASolvent(PhraseNode molecule) {
+		return molecule.hasDescendant(MASS) || molecule.hasDescendant(AMOUNT);
 	}
 
 	/**********************************************************************
-	 * Given an element searches through its descendants in document order and
-	 * returns the first element with a localname corresponding to an entry in
+	 * Given a node searches through its descendants in document order and
+	 * returns the name of the first node with a name corresponding to an entry in
 	 * the actionMap or null if none of their names are present in the
 	 * actionMap.
 	 * 
-	 * Molecule and UnnamedMolecule elements are not recursively investigated to prevent
+	 * Molecule and UnnamedMolecule nodes are not recursively investigated to prevent
 	 * mistakes such as "Compound obtained from example 4" which is not a yield
 	 * 
 	 * @param startingElement
-	 *            (Element)
+	 *            (PhraseNode)
 	 * @return elementName (String)
 	 **********************************************************************/
-	private String findFirstActionElementNameOutsideOfAMolecule(Element startingElement) {
-		LinkedList<Element> stack = new LinkedList<Element>();
-		Elements children = startingElement.getChildElements();
-		for (int i = children.size() - 1; i >= 0; i--) {
-			stack.add(children.get(i));
-		}
-		while (stack.size() > 0) {
-			Element currentElement = stack.removeLast();
-			String elementName = currentElement.getLocalName();
+	private String findFirstActionElementNameOutsideOfAMolecule(PhraseNode startingElement) {
+		for (int i = 0; i < startingElement.getChildCount(); i++) {
+			PhraseNode currentElement = startingElement.getChild(i);
+			String elementName = currentElement.getName();
 			if (actionMap.containsKey(elementName)) {
 				return elementName;
 			}
-			if (elementName.equals("UNNAMEDMOLECULE")|| elementName.equals("MOLECULE")){
+			int kind = currentElement.getKind();
+			if (kind == UNNAMEDMOLECULE || kind == MOLECULE){
 				continue;
 			}
-			children = currentElement.getChildElements();
-			for (int i = children.size() - 1; i >= 0; i--) {
-				Element child = children.get(i);
-				stack.add(child);
+			String descendantName = findFirstActionElementNameOutsideOfAMolecule(currentElement);
+			if (descendantName != null) {
+				return descendantName;
 			}
 		}
 		return null;
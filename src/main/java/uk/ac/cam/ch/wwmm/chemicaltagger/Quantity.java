@@ -0,0 +1,87 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+/**************************************************************
+ * A measurement found by the parser, e.g. the MASS "2.0 g" of a molecule.
+ *
+ * The value is the number as written, with the numbers of a range joined
+ * by a dash, and the unit is the text of the unit words, e.g. "g" or "mmol".
+ ***************************************************************/
+public class Quantity {
+
+	private final String type;
+	private final String text;
+	private final String value;
+	private final String unit;
+
+	Quantity(String type, String text, String value, String unit) {
+		this.type = type;
+		this.text = text;
+		this.value = value;
+		this.unit = unit;
+	}
+
+	/**************************************
+	 * Returns the element name of the measurement, e.g. MASS, AMOUNT, VOLUME,
+	 * MOLAR, EQUIVALENT, PH, PERCENT or YIELD.
+	 * @return type (String)
+	 ***************************************/
+	public String getType() {
+		return type;
+	}
+
+	/**************************************
+	 * @return text (String) the words of the measurement separated by spaces
+	 ***************************************/
+	public String getText() {
+		return text;
+	}
+
+	/**************************************
+	 * @return value (String) the number as written, or null if there is none
+	 ***************************************/
+	public String getValue() {
+		return value;
+	}
+
+	/**************************************
+	 * Returns the value as a number.
+	 * @return value (double) or NaN if the value is missing or is not a single number
+	 ***************************************/
+	public double getNumericValue() {
+		if (value == null) {
+			return Double.NaN;
+		}
+		try {
+			return Double.parseDouble(value);
+		} catch (NumberFormatException e) {
+			return Double.NaN;
+		}
+	}
+
+	/**************************************
+	 * @return unit (String) or null if there is none
+	 ***************************************/
+	public String getUnit() {
+		return unit;
+	}
+
+	@Override
+	public String toString() {
+		return type + ": " + text;
+	}
+}
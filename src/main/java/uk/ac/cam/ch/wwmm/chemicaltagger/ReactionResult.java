@@ -0,0 +1,250 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import nu.xom.Document;
+
+/**************************************************************
+ * The action phrases, molecules, quantities, times and temperatures
+ * of a parsed document as Java objects.
+ *
+ * It is made in one walk of the phrase tree, so no XML document needs
+ * to be made or queried with XPath to get at them:
+ * <pre>
+ * ReactionResult result = ReactionResult.fromPhraseTree(parser.getPhraseTree(true));
+ * </pre>
+ ***************************************************************/
+public class ReactionResult {
+
+	private static final TagRegistry REGISTRY = TagRegistry.getInstance();
+	private static final int ACTION_PHRASE = REGISTRY.getId("ActionPhrase");
+	private static final int MOLECULE = REGISTRY.getId("MOLECULE");
+	private static final int UNNAMEDMOLECULE = REGISTRY.getId("UNNAMEDMOLECULE");
+	private static final int OSCARCM = REGISTRY.getId("OSCARCM");
+	private static final int QUANTITY = REGISTRY.getId("QUANTITY");
+	private static final int MIXTURE = REGISTRY.getId("MIXTURE");
+	private static final int TIME_PHRASE = REGISTRY.getId("TimePhrase");
+	private static final int TEMP_PHRASE = REGISTRY.getId("TempPhrase");
+	private static final int YIELD = REGISTRY.getId("YIELD");
+	private static final int PERCENT = REGISTRY.getId("PERCENT");
+	private static final int CD = REGISTRY.getId("CD");
+	private static final int[] MEASUREMENTS = {
+		REGISTRY.getId("MASS"), REGISTRY.getId("AMOUNT"), REGISTRY.getId("VOLUME"), REGISTRY.getId("MOLAR"),
+		REGISTRY.getId("EQUIVALENT"), REGISTRY.getId("PH"), PERCENT, YIELD
+	};
+	private static final int[] UNITS = {
+		REGISTRY.getId("NN-MASS"), REGISTRY.getId("NN-AMOUNT"), REGISTRY.getId("NN-VOL"), REGISTRY.getId("NN-MOLAR"),
+		REGISTRY.getId("NN-EQ"), REGISTRY.getId("NN-PH"), REGISTRY.getId("NN-PERCENT"),
+		REGISTRY.getId("NN-TIME"), REGISTRY.getId("NN-TEMP")
+	};
+
+	private final List<ActionPhrase> actionPhrases = new ArrayList<ActionPhrase>();
+	private final List<Molecule> molecules = new ArrayList<Molecule>();
+
+	private ReactionResult() {
+	}
+
+	/**************************************
+	 * Makes the result from an annotated phrase tree,
+	 * e.g. {@link ChemistrySentenceParser#getPhraseTree(boolean)} with action phrases.
+	 * @param root (PhraseNode)
+	 * @return result (ReactionResult)
+	 ***************************************/
+	public static ReactionResult fromPhraseTree(PhraseNode root) {
+		ReactionResult result = new ReactionResult();
+		result.walk(root, null, null);
+		return result;
+	}
+
+	/**************************************
+	 * Makes the result from an annotated document, e.g. from {@link Utils#runChemicalTagger(String)}.
+	 * @param doc (Document)
+	 * @return result (ReactionResult)
+	 ***************************************/
+	public static ReactionResult fromDocument(Document doc) {
+		return fromPhraseTree(PhraseNode.fromXML(doc.getRootElement()));
+	}
+
+	/**************************************
+	 * Returns the action phrases in document order. Nested action phrases
+	 * follow the action phrase they are nested in.
+	 * @return actionPhrases (List<ActionPhrase>)
+	 ***************************************/
+	public List<ActionPhrase> getActionPhrases() {
+		return actionPhrases;
+	}
+
+	/**************************************
+	 * Returns every molecule in document order,
+	 * including those that are not in an action phrase.
+	 * @return molecules (List<Molecule>)
+	 ***************************************/
+	public List<Molecule> getMolecules() {
+		return molecules;
+	}
+
+	private void walk(PhraseNode node, ActionPhrase actionPhrase, Molecule molecule) {
+		int kind = node.getKind();
+		if (kind == ACTION_PHRASE) {
+			actionPhrase = new ActionPhrase(node.getAttributeValue("type"), getText(node));
+			actionPhrases.add(actionPhrase);
+		}
+		else if (kind == MOLECULE || kind == UNNAMEDMOLECULE) {
+			boolean named = kind == MOLECULE;
+			StringBuilder name = new StringBuilder();
+			appendName(node, named, name);
+			molecule = new Molecule(named, name.toString(), node.getAttributeValue("role"), getText(node));
+			molecules.add(molecule);
+			if (actionPhrase != null) {
+				actionPhrase.getMolecules().add(molecule);
+			}
+		}
+		else if (kind == TIME_PHRASE) {
+			if (actionPhrase != null) {
+				actionPhrase.getTimePhrases().add(new TimePhrase(getText(node), getValue(node), getUnit(node)));
+			}
+			return;
+		}
+		else if (kind == TEMP_PHRASE) {
+			if (actionPhrase != null) {
+				actionPhrase.getTempPhrases().add(new TempPhrase(getText(node), getValue(node), getUnit(node)));
+			}
+			return;
+		}
+		else if (isMeasurement(kind)) {
+			if (molecule != null) {
+				molecule.getQuantities().add(makeQuantity(node));
+			}
+			return;
+		}
+		for (int i = 0; i < node.getChildCount(); i++) {
+			walk(node.getChild(i), actionPhrase, molecule);
+		}
+	}
+
+	private static Quantity makeQuantity(PhraseNode node) {
+		if (node.getKind() == YIELD) {
+			PhraseNode percent = node.getFirstDescendant(PERCENT);
+			PhraseNode measured = percent != null ? percent : node;
+			return new Yield(getText(node), getValue(measured), getUnit(measured));
+		}
+		return new Quantity(node.getName(), getText(node), getValue(node), getUnit(node));
+	}
+
+	/**************************************
+	 * The name of a MOLECULE is the text of its OSCARCMs,
+	 * that of an UNNAMEDMOLECULE all its text.
+	 * Quantities, mixtures and other molecules inside it are left out.
+	 ***************************************/
+	private static void appendName(PhraseNode node, boolean named, StringBuilder name) {
+		for (int i = 0; i < node.getChildCount(); i++) {
+			PhraseNode child = node.getChild(i);
+			int kind = child.getKind();
+			if (kind == QUANTITY || kind == MIXTURE || kind == MOLECULE || kind == UNNAMEDMOLECULE) {
+				continue;
+			}
+			if (!named || kind == OSCARCM) {
+				appendText(child, name);
+			}
+			else {
+				appendName(child, named, name);
+			}
+		}
+	}
+
+	private static String getText(PhraseNode node) {
+		StringBuilder text = new StringBuilder();
+		appendText(node, text);
+		return text.toString();
+	}
+
+	private static void appendText(PhraseNode node, StringBuilder text) {
+		if (node.isTerminal()) {
+			if (text.length() > 0) {
+				text.append(' ');
+			}
+			text.append(node.getText());
+		}
+		for (int i = 0; i < node.getChildCount(); i++) {
+			appendText(node.getChild(i), text);
+		}
+	}
+
+	/**************************************
+	 * Returns the numbers under the node joined by dashes, or null if there are none.
+	 ***************************************/
+	private static String getValue(PhraseNode node) {
+		StringBuilder value = new StringBuilder();
+		for (PhraseNode number : node.getDescendants(CD)) {
+			if (value.length() > 0) {
+				value.append('-');
+			}
+			value.append(number.getText());
+		}
+		return value.length() > 0 ? value.toString() : null;
+	}
+
+	/**************************************
+	 * Returns the unit words under the node, without repeating the unit of a range,
+	 * or null if there are none.
+	 ***************************************/
+	private static String getUnit(PhraseNode node) {
+		List<PhraseNode> terminals = new ArrayList<PhraseNode>();
+		addTerminals(node, terminals);
+		StringBuilder unit = new StringBuilder();
+		String previous = null;
+		for (PhraseNode terminal : terminals) {
+			if (isUnit(terminal.getKind()) && !terminal.getText().equals(previous)) {
+				if (unit.length() > 0) {
+					unit.append(' ');
+				}
+				unit.append(terminal.getText());
+				previous = terminal.getText();
+			}
+		}
+		return unit.length() > 0 ? unit.toString() : null;
+	}
+
+	private static void addTerminals(PhraseNode node, List<PhraseNode> terminals) {
+		if (node.isTerminal()) {
+			terminals.add(node);
+		}
+		for (int i = 0; i < node.getChildCount(); i++) {
+			addTerminals(node.getChild(i), terminals);
+		}
+	}
+
+	private static boolean isUnit(int kind) {
+		for (int unit : UNITS) {
+			if (kind == unit) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static boolean isMeasurement(int kind) {
+		for (int measurement : MEASUREMENTS) {
+			if (kind == measurement) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -17,11 +17,9 @@ package uk.ac.cam.ch.wwmm.chemicaltagger;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Set;
 
+import uk.ac.cam.ch.wwmm.chemicaltagger.TagCategories.Category;
 import uk.ac.cam.ch.wwmm.oscar.document.Token;
 
 /******************************************
@@ -30,8 +28,12 @@ import uk.ac.cam.ch.wwmm.oscar.document.Token;
  *******************************************/
 public class RecombineTokens {
 	
-	private static Set<String> nonHyphenTags = new HashSet<String>(Arrays.asList("dash", "comma", "cc", "stop"));
-	private static Set<String> quantityUnitTags = new HashSet<String>(Arrays.asList("nn-vol", "nn-area", "nn-perarea", "nn-pressure", "nn-parts", "nn-moles", "nn-persecond", "nn-timeunit", "nn-mass", "nn-pertimeunit", "nn-vol", "nn-amount", "nn-units"));
+	private static final TagRegistry REGISTRY = TagRegistry.getInstance();
+	private static final int NN_MOLAR = REGISTRY.getId("NN-MOLAR");
+	private static final int JJ_CHEM = REGISTRY.getId("JJ-CHEM");
+	private static final int NO_TAG = -2;
+	private static final Category NON_HYPHEN_TAGS = TagCategories.of("dash", "comma", "cc", "stop");
+	private static final Category JJ_CHEM_TAGS = TagCategories.of("jj", "vbn", "jj-chem");
 
 	/****************************
 	 * Hides Utility Class Constructor.
@@ -46,146 +48,134 @@ public class RecombineTokens {
 	 * @return posContainer (POSContainer) .
 	 *********************************************/
 	public static POSContainer recombineTokens(POSContainer posContainer) {
-		List<Integer> previousIndexList = new ArrayList<Integer>();
 		List<Token> wordTokenList = posContainer.getWordTokenList();
-		List<String> combinedTagList = posContainer.getCombinedTagsList();
-		LinkedHashMap<Integer, List<Integer>> indexMap = new LinkedHashMap<Integer, List<Integer>>();
-		for (int currentIndex = 0; currentIndex < wordTokenList.size(); currentIndex++) {
-			List<Integer> indexList = new ArrayList<Integer>();
-
-			String currentTagLc = combinedTagList.get(currentIndex).toLowerCase();
+		TagList combinedTags = posContainer.getCombinedTags();
+		int size = wordTokenList.size();
+		IndexLists indexLists = new IndexLists(size);
+		for (int currentIndex = 0; currentIndex < size; currentIndex++) {
+			String currentTagLc = REGISTRY.getLowerCaseTag(combinedTags.getId(currentIndex));
 			if (currentTagLc.equals("dash")) {
 				if (currentIndex == 0
-						&& currentIndex + 1 < wordTokenList.size()) {
-					indexList.add(currentIndex);
-					indexList.add(currentIndex + 1);
-					indexMap.put(indexList.get(0), indexList);
-				} else if (currentIndex + 1 == wordTokenList.size()) {
-					indexList.add(currentIndex - 1);
-					indexList.add(currentIndex);
-					indexMap.put(indexList.get(0), indexList);
+						&& currentIndex + 1 < size) {
+					indexLists.add(currentIndex, currentIndex + 1);
+				} else if (currentIndex + 1 == size) {
+					indexLists.add(currentIndex - 1, currentIndex);
 				} else {
 
-					String previousTag = combinedTagList.get(currentIndex - 1);
-					String nextTag = combinedTagList.get(currentIndex + 1);
+					int previousTagId = combinedTags.getId(currentIndex - 1);
+					int nextTagId = combinedTags.getId(currentIndex + 1);
+					String previousTag = REGISTRY.getTag(previousTagId);
+					String nextTag = REGISTRY.getTag(nextTagId);
 
 					if (!(previousTag.startsWith("OSCAR-CM")
 							&& nextTag.startsWith("OSCAR-CM") && !wordTokenList.get(currentIndex + 1).getSurface().startsWith("-")) 
-							&& !(nextTag.startsWith("CD") && previousTag.startsWith("NN")) &&  !isAHyphenedUnit(previousTag,nextTag)) {
+							&& !(nextTag.startsWith("CD") && previousTag.startsWith("NN")) &&  !isAHyphenedUnit(previousTagId, nextTagId)) {
 						
-						if (previousIndexList.contains(currentIndex - 1)) {
+						if (indexLists.previousContains(currentIndex - 1)) {
 							//previous token was involved in a recombination, hence need to append to its indexList
-							indexList = previousIndexList;
-							indexList.add(currentIndex);
-							indexList.add(currentIndex + 1);
-							indexMap.put(indexList.get(0), indexList);
-						} else if (nonHyphenTags.contains(previousTag.toLowerCase())) {
-							indexList.add(currentIndex);
-							indexList.add(currentIndex + 1);
-							indexMap.put(indexList.get(0), indexList);
-						} else if (nonHyphenTags.contains(nextTag.toLowerCase())) {
-							indexList.add(currentIndex - 1);
-							indexList.add(currentIndex);
-							indexMap.put(indexList.get(0), indexList);
+							indexLists.appendToPrevious(currentIndex, currentIndex + 1);
+						} else if (NON_HYPHEN_TAGS.contains(previousTagId)) {
+							indexLists.add(currentIndex, currentIndex + 1);
+						} else if (NON_HYPHEN_TAGS.contains(nextTagId)) {
+							indexLists.add(currentIndex - 1, currentIndex);
 						} else {
-							indexList.add(currentIndex - 1);
-							indexList.add(currentIndex);
-							indexList.add(currentIndex + 1);
-							indexMap.put(indexList.get(0), indexList);
+							indexLists.add(currentIndex - 1, currentIndex, currentIndex + 1);
 						}
 					}
 					else if (wordTokenList.get(currentIndex).getSurface().equals("/")
 							&& previousTag.equals("NN-AMOUNT") && nextTag.equals("NN-VOL")){
-						indexList.add(currentIndex - 1);
-						indexList.add(currentIndex);
-						indexList.add(currentIndex + 1);
-						indexMap.put(indexList.get(0), indexList);
-						combinedTagList.set(currentIndex - 1, "NN-MOLAR");
-						combinedTagList.set(currentIndex + 1, "NN-MOLAR");
+						indexLists.add(currentIndex - 1, currentIndex, currentIndex + 1);
+						combinedTags.setId(currentIndex - 1, NN_MOLAR);
+						combinedTags.setId(currentIndex + 1, NN_MOLAR);
 					}
 				}
 			}
 			else if (currentTagLc.equals("nn-temp")) {//Identifies cases such as "50C . was" and corrects them to "50C. was"
-				if (wordTokenList.get(currentIndex).getSurface().toLowerCase().endsWith("c") && currentIndex >0 && currentIndex + 2 < wordTokenList.size()){
-					String nextTag = combinedTagList.get(currentIndex + 1);
-					if (nextTag.equalsIgnoreCase("stop")){
+				if (endsWithC(wordTokenList.get(currentIndex).getSurface()) && currentIndex >0 && currentIndex + 2 < size){
+					if (REGISTRY.getLowerCaseTag(combinedTags.getId(currentIndex + 1)).equals("stop")){
 						String previousWord = wordTokenList.get(currentIndex - 1).getSurface();
 						if (Character.isDigit(previousWord.charAt(previousWord.length()-1))){
 							String wordAfterStop = wordTokenList.get(currentIndex + 2).getSurface();
 							//if appears to be the start of a new sentence
 							if (!Character.isUpperCase(wordAfterStop.charAt(0)) && !Character.isDigit(wordAfterStop.charAt(0))){
-								indexList = new ArrayList<Integer>();
-								indexList.add(currentIndex);
-								indexList.add(currentIndex + 1);
-								indexMap.put(indexList.get(0), indexList);
+								indexLists.add(currentIndex, currentIndex + 1);
 							}
 						}
 					}
 				}
 			}
 			else if (currentTagLc.equals("nn-time")) {//Identifies cases such as "min . and" and corrects them to "min. and"
-				if (wordTokenList.get(currentIndex).getSurface().equalsIgnoreCase("min") && currentIndex >0 && currentIndex + 2 < wordTokenList.size()){
-					String nextTag = combinedTagList.get(currentIndex + 1);
-					if (nextTag.equalsIgnoreCase("stop")){
+				if (wordTokenList.get(currentIndex).getSurface().equalsIgnoreCase("min") && currentIndex >0 && currentIndex + 2 < size){
+					if (REGISTRY.getLowerCaseTag(combinedTags.getId(currentIndex + 1)).equals("stop")){
 						String wordAfterStop = wordTokenList.get(currentIndex + 2).getSurface();
 						if (!Character.isUpperCase(wordAfterStop.charAt(0))){
-							indexList = new ArrayList<Integer>();
-							indexList.add(currentIndex);
-							indexList.add(currentIndex + 1);
-							indexMap.put(indexList.get(0), indexList);
+							indexLists.add(currentIndex, currentIndex + 1);
 						}
 					}
 				}
 			}
-			if (!indexList.isEmpty()){
-				previousIndexList = indexList;
-			}
 		}
 
-		return combineTokens(posContainer, indexMap);
+		return combineTokens(posContainer, indexLists);
+
+	}
 
+	/***********************************
+	 * Does the surface end with c or C, as toLowerCase().endsWith("c") would.
+	 * @param surface
+	 * @return boolean
+	 */
+	private static boolean endsWithC(String surface) {
+		if (surface.length() == 0) {
+			return false;
+		}
+		char last = surface.charAt(surface.length() - 1);
+		return last == 'c' || last == 'C';
 	}
 
 	/***********************************
 	 * Checks if both tags are units separated by slashes
-	 * @param previousTag
-	 * @param nextTag
+	 * @param previousTagId
+	 * @param nextTagId
 	 * @return boolean
 	 */
-	private static boolean isAHyphenedUnit(String previousTag, String nextTag) {
-		return quantityUnitTags.contains(previousTag.toLowerCase()) && quantityUnitTags.contains(nextTag.toLowerCase());
+	private static boolean isAHyphenedUnit(int previousTagId, int nextTagId) {
+		return TagCategories.isQuantityUnit(previousTagId) && TagCategories.isQuantityUnit(nextTagId);
 	}
 
 	/*****************************************
-	 * Combines the tokens based on the indices in indexMap.
+	 * Combines the tokens based on the index lists.
 	 * @param posContainer (POSContainer)
-	 * @param indexMap (LinkedHashMap)
+	 * @param indexLists (IndexLists)
 	 * @return posContainer (POSContainer)
 	*****************************************/
-	private static POSContainer combineTokens(POSContainer posContainer, LinkedHashMap<Integer, List<Integer>> indexMap) {
-		if (indexMap.size() > 0) {
-
-			List<Token> newWordTokenList = new ArrayList<Token>();
-			List<String> newCombinedTagsList = new ArrayList<String>();
+	private static POSContainer combineTokens(POSContainer posContainer, IndexLists indexLists) {
+		if (!indexLists.isEmpty()) {
+			List<Token> wordTokenList = posContainer.getWordTokenList();
+			TagList combinedTags = posContainer.getCombinedTags();
+			int size = wordTokenList.size();
+			List<Token> newWordTokenList = new ArrayList<Token>(size);
+			TagList newCombinedTagsList = new TagList(size);
+			int[] indices = indexLists.indices;
 
 			int tokenIndex = 0;
-			for (int i = 0; i < posContainer.getWordTokenList().size(); i++) {
+			for (int i = 0; i < size; i++) {
 				Token newToken;
-				if (!indexMap.keySet().contains(i)) {
-					newToken = posContainer.getWordTokenList().get(i);
-					newCombinedTagsList.add(posContainer.getCombinedTagsList().get(i));
+				int listStart = indexLists.starts[i];
+				if (listStart < 0) {
+					newToken = wordTokenList.get(i);
+					newCombinedTagsList.addId(combinedTags.getId(i));
 				} else {
-					List<Integer> indexList = indexMap.get(i);
-					String tagName = getTagName(posContainer,indexList);
+					int listEnd = indexLists.ends[i];
 					StringBuilder multiTokenWord = new StringBuilder();
-					for (Integer integer : indexList) {
-						multiTokenWord.append(posContainer.getWordTokenList().get(integer).getSurface());
+					for (int j = listStart; j < listEnd; j++) {
+						multiTokenWord.append(wordTokenList.get(indices[j]).getSurface());
 					}
-					int start = posContainer.getWordTokenList().get(indexList.get(0)).getStart();
-					int end = posContainer.getWordTokenList().get(indexList.get(indexList.size()-1)).getEnd();
-					newToken = new Token(multiTokenWord.toString(), start, end, null, posContainer.getWordTokenList().get(indexList.get(indexList.size()-1)).getBioType(), null);
-					newCombinedTagsList.add(tagName);
-					i = i + indexList.size() - 1;
+					Token lastToken = wordTokenList.get(indices[listEnd - 1]);
+					int start = wordTokenList.get(indices[listStart]).getStart();
+					newToken = new Token(multiTokenWord.toString(), start, lastToken.getEnd(), null, lastToken.getBioType(), null);
+					newCombinedTagsList.addId(getTagId(combinedTags, indices, listStart, listEnd));
+					i = i + listEnd - listStart - 1;
 				}
 				newToken.setIndex(tokenIndex++);
 				newWordTokenList.add(newToken);
@@ -198,31 +188,110 @@ public class RecombineTokens {
 	}
 
 	/*****************************************
-	 * Creates a new tagname for the combined tokens.
+	 * Creates a new tag for the combined tokens.
 	 * Sets the tag to JJ-CHEM if one of the tags are an 
 	 * adjective or verb in the past tense.
-	 * @param posContainer (POSContainer)
-	 * @param indexList (List<Integer>)
-	 * @return tagName (String)
+	 * @param combinedTags (TagList)
+	 * @param indices (int[])
+	 * @param listStart (int)
+	 * @param listEnd (int)
+	 * @return tagId (int)
 	*****************************************/
-	private static String getTagName(POSContainer posContainer,List<Integer> indexList) {
-		String tagName = "";
-		List<String> jjChemList = Arrays.asList("jj", "vbn", "jj-chem");
-		for (Integer integer : indexList) {
-			String tag = posContainer.getCombinedTagsList().get(integer);
-			if (!tagName.toLowerCase().startsWith("oscar") & tag.contains("-")){
-				tagName = tag;
+	private static int getTagId(TagList combinedTags, int[] indices, int listStart, int listEnd) {
+		int tagNameId = NO_TAG;
+		for (int j = listStart; j < listEnd; j++) {
+			int tagId = combinedTags.getId(indices[j]);
+			String tag = REGISTRY.getTag(tagId);
+			String tagLc = REGISTRY.getLowerCaseTag(tagId);
+			if (!(tagNameId != NO_TAG && REGISTRY.getLowerCaseTag(tagNameId).startsWith("oscar")) & tag.indexOf('-') >= 0){
+				tagNameId = tagId;
 			}
-			if (tagName.equals("") & !tag.toLowerCase().equals("dash")){
-				tagName = tag;
+			if ((tagNameId == NO_TAG || REGISTRY.getTag(tagNameId).equals("")) & !tagLc.equals("dash")){
+				tagNameId = tagId;
 			}
-			if (jjChemList.contains(tag.toLowerCase())){
-				tagName = "JJ-CHEM";
+			if (JJ_CHEM_TAGS.contains(tagId)){
+				tagNameId = JJ_CHEM;
 			}
 		}
-		return tagName;
+		return tagNameId == NO_TAG ? REGISTRY.getId("") : tagNameId;
 	}
 
+	/*****************************************
+	 * The lists of token indices to combine, keyed by their first index.
+	 * The indices of every list are stored one after another in one int[]
+	 * and only the most recent list can be extended, so each list is
+	 * a start and end in that array. A list may repeat an index when
+	 * dashes follow each other; combineTokens then skips by the length of
+	 * the list, as it always has.
+	*****************************************/
+	private static class IndexLists {
+		private final int[] starts;
+		private final int[] ends;
+		private int[] indices = new int[8];
+		private int size;
+		private int previousStart = -1;
+		private boolean isEmpty = true;
+
+		IndexLists(int tokenCount) {
+			starts = new int[tokenCount];
+			ends = new int[tokenCount];
+			Arrays.fill(starts, -1);
+		}
+
+		boolean isEmpty() {
+			return isEmpty;
+		}
+
+		void add(int first, int second) {
+			previousStart = size;
+			append(first);
+			append(second);
+			updateSpan();
+		}
+
+		void add(int first, int second, int third) {
+			previousStart = size;
+			append(first);
+			append(second);
+			append(third);
+			updateSpan();
+		}
+
+		void appendToPrevious(int first, int second) {
+			append(first);
+			append(second);
+			updateSpan();
+		}
+
+		private void append(int index) {
+			if (size == indices.length) {
+				int[] larger = new int[size * 2];
+				System.arraycopy(indices, 0, larger, 0, size);
+				indices = larger;
+			}
+			indices[size++] = index;
+		}
 
+		private void updateSpan() {
+			isEmpty = false;
+			int key = indices[previousStart];
+			//a sentence that is only a dash gives the list [-1, 0], which is never combined
+			if (key >= 0) {
+				starts[key] = previousStart;
+				ends[key] = size;
+			}
+		}
 
+		boolean previousContains(int index) {
+			if (previousStart < 0) {
+				return false;
+			}
+			for (int i = previousStart; i < size; i++) {
+				if (indices[i] == index) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
 }
@@ -20,6 +20,7 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.nio.charset.Charset;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.regex.Matcher;
@@ -32,15 +33,27 @@ import uk.ac.cam.ch.wwmm.oscar.document.Token;
 
 /*****************************************************
  * Runs the regular expression tagger .
+ * Each token is given the name of the first rule whose pattern matches
+ * the start of the token. By default only the rules that could match a
+ * token starting with the token's first character are tried and rules that
+ * only match a fixed set of words are looked up in a map (see RuleIndex).
+ * The tags of recently seen surfaces are cached. The index and the cache
+ * are discarded whenever the rules are changed.
  * 
  * @author lh359, dl387, pm286
  *****************************************************/
 public class RegexTagger implements Tagger{
 
-	private List<Rule> rules;
+	private volatile RuleList rules;
     private String tagFilePath = "/uk/ac/cam/ch/wwmm/chemicaltagger/regexTagger/regexTags.txt";
 	private static Logger LOG = Logger.getLogger(RegexTagger.class);
    private List<String> ignoredTags = new ArrayList<String>();
+	private volatile RuleIndex ruleIndex;
+	//the version of the rules that the index and tag cache were made from
+	private volatile int indexedRulesVersion;
+	private boolean useRuleIndex = true;
+	public static final int DEFAULT_TAG_CACHE_SIZE = 10000;
+	private volatile LRUCache<String, String> tagCache = new LRUCache<String, String>(DEFAULT_TAG_CACHE_SIZE);
 
 	/****************************
 	 * Public Constructor.
@@ -67,6 +80,7 @@ public class RegexTagger implements Tagger{
 
 	/**************************************
 	 * Getter method for rules.
+	 * The list may be modified in place.
 	 * @return rules (List<Rule>)
 	 ***************************************/
 	public List<Rule> getRules() {
@@ -75,10 +89,104 @@ public class RegexTagger implements Tagger{
 
 	/**************************************
 	 * Setter method for rules.
+	 * The rules are copied, later changes should be made through {@link #getRules()}.
 	 * @param rules (List<Rule>)
 	 ***************************************/
 	public void setRules(List<Rule> rules) {
-		this.rules = rules;
+		RuleList ruleList = rules != null ? new RuleList(rules) : null;
+		this.rules = ruleList;
+		indexedRulesVersion = ruleList != null ? ruleList.getVersion() : 0;
+		ruleIndex = null;
+		clearTagCache();
+	}
+
+	/**************************************
+	 * Getter method for useRuleIndex.
+	 * @return useRuleIndex (boolean)
+	 ***************************************/
+	public boolean getUseRuleIndex() {
+		return useRuleIndex;
+	}
+
+	/**************************************
+	 * Sets whether rules are pre-selected by the first character of the token.
+	 * Disabling this tries every rule in order for every token; the tags produced are the same.
+	 * @param useRuleIndex (boolean)
+	 ***************************************/
+	public void setUseRuleIndex(boolean useRuleIndex) {
+		this.useRuleIndex = useRuleIndex;
+	}
+
+	/**************************************
+	 * Sets the maximum number of token surfaces whose tags are cached.
+	 * The least recently used surface is dropped when the cache is full.
+	 * @param size (int) 0 disables the cache
+	 ***************************************/
+	public void setTagCacheSize(int size) {
+		tagCache = size > 0 ? new LRUCache<String, String>(size) : null;
+	}
+
+	/**************************************
+	 * Getter method for the tag cache size.
+	 * @return size (int) 0 if the cache is disabled
+	 ***************************************/
+	public int getTagCacheSize() {
+		LRUCache<String, String> cache = tagCache;
+		return cache != null ? cache.getCapacity() : 0;
+	}
+
+	/**************************************
+	 * Returns the number of tokens whose tag was found in the cache.
+	 * @return hits (long)
+	 ***************************************/
+	public long getTagCacheHits() {
+		LRUCache<String, String> cache = tagCache;
+		return cache != null ? cache.getHits() : 0;
+	}
+
+	/**************************************
+	 * Returns the number of tokens whose tag had to be worked out from the rules.
+	 * @return misses (long)
+	 ***************************************/
+	public long getTagCacheMisses() {
+		LRUCache<String, String> cache = tagCache;
+		return cache != null ? cache.getMisses() : 0;
+	}
+
+	/**************************************
+	 * Empties the tag cache. This is done automatically when the rules are changed.
+	 ***************************************/
+	public void clearTagCache() {
+		LRUCache<String, String> cache = tagCache;
+		if (cache != null) {
+			cache.clear();
+		}
+	}
+
+	/**************************************
+	 * Returns the index over the current rules, rebuilding it if the rules have been changed.
+	 * @return ruleIndex (RuleIndex)
+	 ***************************************/
+	RuleIndex getRuleIndex() {
+		checkRulesVersion();
+		RuleIndex index = ruleIndex;
+		if (index == null) {
+			index = new RuleIndex(rules);
+			ruleIndex = index;
+		}
+		return index;
+	}
+
+	/**************************************
+	 * Discards the index and the tag cache if the rules have been changed since they were made.
+	 ***************************************/
+	private void checkRulesVersion() {
+		RuleList current = rules;
+		if (current != null && current.getVersion() != indexedRulesVersion) {
+			indexedRulesVersion = current.getVersion();
+			ruleIndex = null;
+			clearTagCache();
+		}
 	}
 
 	
@@ -86,7 +194,7 @@ public class RegexTagger implements Tagger{
 	 * Initialises the rules for the regular expression tagger.
 	 ***************************************************************/
 	protected void initializeRules() {
-		rules = new ArrayList<Rule>();
+		setRules(new ArrayList<Rule>());
 		String line;
 		try {
 
@@ -123,16 +231,19 @@ public class RegexTagger implements Tagger{
 	/*********************************************************/
 	public List<String> runTagger(List<Token> tokenList, String inputSentence) {
     Pattern p = Pattern.compile("");
+		checkRulesVersion();
+		RuleIndex index = useRuleIndex && rules != null ? getRuleIndex() : null;
 
-		List<String> tagList = new ArrayList<String>();
+		List<String> tagList = new TagList(tokenList.size());
+		LRUCache<String, String> cache = tagCache;
 		for (Token token : tokenList) {
 			try {
-			  Matcher m = p.matcher(token.getSurface());
-				String tag = "nil";
-				for (Rule r : rules) {
-					if (m.usePattern(r.getPattern()).lookingAt()) {
-						tag = r.getName();
-						break;
+				String surface = token.getSurface();
+				String tag = cache != null ? cache.get(surface) : null;
+				if (tag == null) {
+					tag = findTag(surface, p.matcher(surface), index);
+					if (cache != null) {
+						cache.put(surface, tag);
 					}
 				}
 				tagList.add(tag);
@@ -145,9 +256,71 @@ public class RegexTagger implements Tagger{
 		return tagList;
 	}
 
+	private String findTag(String surface, Matcher m, RuleIndex index) {
+		if (index != null) {
+			String match = index.findFirstMatch(surface, m);
+			return match != null ? match : "nil";
+		}
+		for (Rule r : rules) {
+			if (m.usePattern(r.getPattern()).lookingAt()) {
+				return r.getName();
+			}
+		}
+		return "nil";
+	}
+
 	public List<String> getIgnoredTags() {
         return ignoredTags;      
 	}
 
+	/**************************************
+	 * The rules, counting the changes made to them so that
+	 * the index and tag cache made from them can be discarded.
+	 ***************************************/
+	private static final class RuleList extends AbstractList<Rule> {
+		private final List<Rule> rules;
+		private volatile int version;
+
+		RuleList(List<Rule> rules) {
+			this.rules = new ArrayList<Rule>(rules);
+		}
+
+		int getVersion() {
+			return version;
+		}
+
+		@Override
+		public Rule get(int index) {
+			return rules.get(index);
+		}
+
+		@Override
+		public int size() {
+			return rules.size();
+		}
+
+		@Override
+		public Rule set(int index, Rule rule) {
+			Rule previous = rules.set(index, rule);
+			version++;
+			return previous;
+		}
+
+		@Override
+		public void add(int index, Rule rule) {
+			rules.add(index, rule);
+			modCount++;
+			version++;
+		}
+
+		@Override
+		public Rule remove(int index) {
+			Rule removed = rules.remove(index);
+			modCount++;
+			version++;
+			return removed;
+		}
+	}
+
 
 }
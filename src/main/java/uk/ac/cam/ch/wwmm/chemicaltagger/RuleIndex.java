@@ -0,0 +1,733 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**************************************************************
+ * Indexes a list of rules by the characters their patterns can start with.
+ *
+ * The regex tagger uses the first rule whose pattern matches at the start of
+ * the token (lookingAt). Most patterns can only match a token starting with
+ * one of a handful of characters e.g. ^in$ needs an 'i' or 'I', so for each
+ * possible first character the index keeps, in rule order, only the rules
+ * that could match. Patterns whose first character cannot be worked out
+ * (e.g. they start with '.', an optional element or an inline flag) are
+ * kept in every bucket.
+ *
+ * Rules such as ^in$ or ^drop[s]?$ only match a fixed, small set of whole
+ * tokens. These are expanded into a case-insensitive map from the token to the
+ * first such rule, so only the remaining rules with a higher priority than the
+ * literal rule need to be tried as regular expressions. The first matching rule
+ * is therefore always the same as that found by trying every rule in order.
+ ***************************************************************/
+class RuleIndex {
+
+	private static final int ASCII_SIZE = 128;
+	private static final int[] NO_RULES = new int[0];
+	private static final int MAX_LITERALS_PER_RULE = 256;
+
+	private final List<Rule> rules;
+	private final int[][] asciiBuckets = new int[ASCII_SIZE][];
+	private final Map<Character, int[]> nonAsciiBuckets = new HashMap<Character, int[]>();
+	private final int[] unindexedRules;
+	private final int[] allRules;
+	private final Map<String, Integer> literalRules = new HashMap<String, Integer>();
+	private int literalRuleCount;
+
+	/**************************************
+	 * Builds the index for the given rules.
+	 * @param rules (List<Rule>)
+	 ***************************************/
+	RuleIndex(List<Rule> rules) {
+		this.rules = new ArrayList<Rule>(rules);
+		int ruleCount = this.rules.size();
+		List<Set<Character>> firstCharSets = new ArrayList<Set<Character>>(ruleCount);
+		Set<Character> nonAsciiChars = new HashSet<Character>();
+		for (int i = 0; i < ruleCount; i++) {
+			Pattern pattern = this.rules.get(i).getPattern();
+			Set<String> literals = findLiterals(pattern);
+			if (literals != null) {
+				for (String literal : literals) {
+					String key = asciiLowerCase(literal);
+					if (!literalRules.containsKey(key)) {
+						literalRules.put(key, i);
+					}
+				}
+				literalRuleCount++;
+				firstCharSets.add(new HashSet<Character>());//never needs to be tried as a regex
+				continue;
+			}
+			Set<Character> firstChars = findFirstChars(pattern);
+			firstCharSets.add(firstChars);
+			if (firstChars != null) {
+				for (Character c : firstChars) {
+					if (c >= ASCII_SIZE) {
+						nonAsciiChars.add(c);
+					}
+				}
+			}
+		}
+		for (char c = 0; c < ASCII_SIZE; c++) {
+			asciiBuckets[c] = makeBucket(firstCharSets, c);
+		}
+		for (Character c : nonAsciiChars) {
+			nonAsciiBuckets.put(c, makeBucket(firstCharSets, c));
+		}
+		unindexedRules = makeBucket(firstCharSets, null);
+		allRules = new int[ruleCount];
+		for (int i = 0; i < ruleCount; i++) {
+			allRules[i] = i;
+		}
+	}
+
+	/**************************************
+	 * Returns the rules, other than those in the literal map, that could match a token
+	 * with the given surface, in priority order.
+	 * @param surface (String)
+	 * @return ruleIndices (int[])
+	 ***************************************/
+	int[] getCandidateRules(String surface) {
+		if (!canUseIndex(surface)) {
+			return allRules;
+		}
+		char c = surface.charAt(0);
+		if (c < ASCII_SIZE) {
+			return asciiBuckets[c];
+		}
+		int[] bucket = nonAsciiBuckets.get(c);
+		return bucket != null ? bucket : unindexedRules;
+	}
+
+	/**************************************
+	 * Returns the name of the first rule that matches the start of the surface or null.
+	 * @param surface (String)
+	 * @param matcher (Matcher) reusable matcher, reset to the surface
+	 * @return tag (String)
+	 ***************************************/
+	String findFirstMatch(String surface, Matcher matcher) {
+		Integer literalRule = canUseIndex(surface) ? literalRules.get(asciiLowerCase(surface)) : null;
+		int limit = literalRule != null ? literalRule : Integer.MAX_VALUE;
+		for (int ruleIndex : getCandidateRules(surface)) {
+			if (ruleIndex >= limit) {
+				break;
+			}
+			Rule rule = rules.get(ruleIndex);
+			if (matcher.usePattern(rule.getPattern()).lookingAt()) {
+				return rule.getName();
+			}
+		}
+		return literalRule != null ? rules.get(literalRule).getName() : null;
+	}
+
+	/**************************************
+	 * Returns the number of rules that are matched by looking the token up in the literal map.
+	 * @return literalRuleCount (int)
+	 ***************************************/
+	int getLiteralRuleCount() {
+		return literalRuleCount;
+	}
+
+	/**
+	 * An empty token could match any pattern and '$' also matches before a final line terminator,
+	 * so such tokens are matched against every rule
+	 */
+	private boolean canUseIndex(String surface) {
+		int length = surface.length();
+		if (length == 0) {
+			return false;
+		}
+		char last = surface.charAt(length - 1);
+		return !(last == '\n' || last == '\r' || last == '\u0085' || last == '\u2028' || last == '\u2029');
+	}
+
+	/**************************************
+	 * Lower cases ASCII letters only, matching the case folding of CASE_INSENSITIVE without UNICODE_CASE.
+	 * @param text (String)
+	 * @return lowerCased (String)
+	 ***************************************/
+	static String asciiLowerCase(String text) {
+		int length = text.length();
+		int i = 0;
+		while (i < length && !isAsciiUpperCase(text.charAt(i))) {
+			i++;
+		}
+		if (i == length) {
+			return text;
+		}
+		char[] chars = text.toCharArray();
+		for (; i < length; i++) {
+			if (isAsciiUpperCase(chars[i])) {
+				chars[i] = (char) (chars[i] + ('a' - 'A'));
+			}
+		}
+		return new String(chars);
+	}
+
+	private static boolean isAsciiUpperCase(char c) {
+		return c >= 'A' && c <= 'Z';
+	}
+
+	private static int[] makeBucket(List<Set<Character>> firstCharSets, Character c) {
+		List<Integer> bucket = new ArrayList<Integer>();
+		for (int i = 0; i < firstCharSets.size(); i++) {
+			Set<Character> firstChars = firstCharSets.get(i);
+			if (firstChars == null || (c != null && firstChars.contains(c))) {
+				bucket.add(i);
+			}
+		}
+		if (bucket.isEmpty()) {
+			return NO_RULES;
+		}
+		int[] result = new int[bucket.size()];
+		for (int i = 0; i < result.length; i++) {
+			result[i] = bucket.get(i);
+		}
+		return result;
+	}
+
+	/**************************************
+	 * Works out the set of characters a match of the pattern could start with.
+	 * @param pattern (Pattern)
+	 * @return firstChars (Set<Character>) or null if any character is possible
+	 ***************************************/
+	static Set<Character> findFirstChars(Pattern pattern) {
+		int unsupportedFlags = Pattern.UNICODE_CASE | Pattern.COMMENTS | Pattern.LITERAL | Pattern.CANON_EQ;
+		if ((pattern.flags() & unsupportedFlags) != 0) {
+			return null;
+		}
+		String regex = pattern.pattern();
+		Set<Character> firstChars = new PatternScanner(regex).alternatives(0, regex.length());
+		if (firstChars == null) {
+			return null;
+		}
+		if ((pattern.flags() & Pattern.CASE_INSENSITIVE) != 0) {
+			firstChars = foldAsciiCase(firstChars);
+		}
+		return firstChars;
+	}
+
+	/**************************************
+	 * Works out every token matched by a case-insensitive pattern made up only of alternatives of the form ^...$
+	 * with a finite number of matches e.g. ^(re)?filled?$
+	 * @param pattern (Pattern)
+	 * @return literals (Set<String>) or null if the pattern is not of this form
+	 ***************************************/
+	static Set<String> findLiterals(Pattern pattern) {
+		if (pattern.flags() != Pattern.CASE_INSENSITIVE) {
+			return null;
+		}
+		String regex = pattern.pattern();
+		PatternScanner scanner = new PatternScanner(regex);
+		Set<String> literals = new HashSet<String>();
+		int altStart = 0;
+		int i = 0;
+		while (i <= regex.length()) {
+			if (i == regex.length() || regex.charAt(i) == '|') {
+				if (i - altStart < 2 || regex.charAt(altStart) != '^' || regex.charAt(i - 1) != '$' || scanner.isEscaped(i - 1)) {
+					return null;
+				}
+				Set<String> altLiterals = scanner.expandSequence(altStart + 1, i - 1);
+				if (altLiterals == null) {
+					return null;
+				}
+				literals.addAll(altLiterals);
+				if (literals.size() > MAX_LITERALS_PER_RULE) {
+					return null;
+				}
+				altStart = i + 1;
+				i++;
+			}
+			else {
+				int next = scanner.skipElement(i, regex.length());
+				if (next < 0) {
+					return null;
+				}
+				i = next;
+			}
+		}
+		return literals;
+	}
+
+	/**************************************
+	 * Adds the other case of each ASCII letter, as CASE_INSENSITIVE without UNICODE_CASE only folds ASCII.
+	 * @param chars (Set<Character>)
+	 * @return caseFolded (Set<Character>)
+	 ***************************************/
+	private static Set<Character> foldAsciiCase(Set<Character> chars) {
+		Set<Character> caseFolded = new HashSet<Character>();
+		for (Character c : chars) {
+			caseFolded.add(c);
+			if (c >= 'a' && c <= 'z') {
+				caseFolded.add(Character.toUpperCase(c));
+			}
+			else if (c >= 'A' && c <= 'Z') {
+				caseFolded.add(Character.toLowerCase(c));
+			}
+		}
+		return caseFolded;
+	}
+
+	/**************************************
+	 * A conservative scanner for the subset of regex syntax used by the tag files.
+	 * Anything it does not understand gives null i.e. "could start with anything"
+	 * or "not a fixed set of literals".
+	 ***************************************/
+	private static class PatternScanner {
+
+		private final String regex;
+
+		PatternScanner(String regex) {
+			this.regex = regex;
+		}
+
+		/**
+		 * Every string matched by the | separated alternatives in regex[start, end), which may not contain anchors
+		 */
+		Set<String> expandAlternatives(int start, int end) {
+			Set<String> literals = new HashSet<String>();
+			int altStart = start;
+			int i = start;
+			while (i <= end) {
+				if (i == end || regex.charAt(i) == '|') {
+					Set<String> altLiterals = expandSequence(altStart, i);
+					if (altLiterals == null) {
+						return null;
+					}
+					literals.addAll(altLiterals);
+					altStart = i + 1;
+					i++;
+				}
+				else {
+					int next = skipElement(i, end);
+					if (next < 0) {
+						return null;
+					}
+					i = next;
+				}
+			}
+			return literals.size() <= MAX_LITERALS_PER_RULE ? literals : null;
+		}
+
+		/**
+		 * Every string matched by the sequence of elements in regex[start, end)
+		 */
+		Set<String> expandSequence(int start, int end) {
+			Set<String> literals = new HashSet<String>();
+			literals.add("");
+			int i = start;
+			while (i < end) {
+				char c = regex.charAt(i);
+				Set<String> atomLiterals;
+				int atomEnd;
+				if (c == '(') {
+					atomEnd = skipElement(i, end);
+					if (atomEnd < 0 || regex.charAt(i + 1) == '?' && !regex.startsWith("?:", i + 1)) {
+						return null;//inline flags would change the case sensitivity
+					}
+					atomLiterals = expandAlternatives(regex.charAt(i + 1) == '?' ? i + 3 : i + 1, atomEnd - 1);
+				}
+				else {
+					Set<Character> chars;
+					if (c == '[') {
+						atomEnd = skipElement(i, end);
+						chars = atomEnd < 0 ? null : characterClass(i + 1, atomEnd - 1);
+					}
+					else if (c == '\\') {
+						atomEnd = i + 2;
+						chars = atomEnd <= end ? escape(regex.charAt(i + 1)) : null;
+					}
+					else if (c == '.' || c == '^' || c == '$' || c == '*' || c == '+' || c == '?' || c == '{' || c == ')' || isSurrogate(c)) {
+						return null;
+					}
+					else {
+						atomEnd = i + 1;
+						chars = new HashSet<Character>();
+						chars.add(c);
+					}
+					if (chars == null) {
+						return null;
+					}
+					atomLiterals = new HashSet<String>();
+					for (Character ch : chars) {
+						atomLiterals.add(String.valueOf(ch));
+					}
+				}
+				if (atomLiterals == null) {
+					return null;
+				}
+				int min = 1;
+				int max = 1;
+				if (atomEnd < end && regex.charAt(atomEnd) == '?') {
+					min = 0;
+					atomEnd++;
+				}
+				else if (atomEnd < end && regex.charAt(atomEnd) == '{') {
+					int close = regex.indexOf('}', atomEnd);
+					if (close < 0 || close >= end) {
+						return null;
+					}
+					String[] bounds = regex.substring(atomEnd + 1, close).split(",", -1);
+					try {
+						min = Integer.parseInt(bounds[0]);
+						max = bounds.length == 1 ? min : Integer.parseInt(bounds[1]);
+					}
+					catch (NumberFormatException e) {
+						return null;//unbounded
+					}
+					if (bounds.length > 2 || max < min) {
+						return null;
+					}
+					atomEnd = close + 1;
+				}
+				if (atomEnd < end && (regex.charAt(atomEnd) == '?' || regex.charAt(atomEnd) == '+' || regex.charAt(atomEnd) == '*' || regex.charAt(atomEnd) == '{')) {
+					return null;//lazy, possessive or unbounded
+				}
+				literals = repeat(literals, atomLiterals, min, max);
+				if (literals == null) {
+					return null;
+				}
+				i = atomEnd;
+			}
+			return literals;
+		}
+
+		/**
+		 * Appends between min and max repetitions of the atom's strings to each prefix
+		 */
+		private Set<String> repeat(Set<String> prefixes, Set<String> atomLiterals, int min, int max) {
+			Set<String> result = new HashSet<String>();
+			Set<String> current = prefixes;
+			for (int count = 0; count <= max; count++) {
+				if (count >= min) {
+					result.addAll(current);
+				}
+				if (count == max) {
+					break;
+				}
+				Set<String> next = new HashSet<String>();
+				for (String prefix : current) {
+					for (String atom : atomLiterals) {
+						next.add(prefix + atom);
+					}
+				}
+				if (next.size() > MAX_LITERALS_PER_RULE || result.size() > MAX_LITERALS_PER_RULE) {
+					return null;
+				}
+				current = next;
+			}
+			return result.size() <= MAX_LITERALS_PER_RULE ? result : null;
+		}
+
+		/**
+		 * Is the character at index escaped by an odd number of preceding backslashes
+		 */
+		boolean isEscaped(int index) {
+			int backslashes = 0;
+			for (int i = index - 1; i >= 0 && regex.charAt(i) == '\\'; i--) {
+				backslashes++;
+			}
+			return backslashes % 2 == 1;
+		}
+
+		/**
+		 * First characters of a | separated list of alternatives in regex[start, end)
+		 */
+		Set<Character> alternatives(int start, int end) {
+			Set<Character> firstChars = new HashSet<Character>();
+			int altStart = start;
+			int i = start;
+			while (i <= end) {
+				if (i == end || regex.charAt(i) == '|') {
+					Set<Character> altChars = sequence(altStart, i);
+					if (altChars == null) {
+						return null;
+					}
+					firstChars.addAll(altChars);
+					altStart = i + 1;
+					i++;
+				}
+				else {
+					int next = skipElement(i, end);
+					if (next < 0) {
+						return null;
+					}
+					i = next;
+				}
+			}
+			return firstChars;
+		}
+
+		/**
+		 * First characters of a single alternative in regex[start, end).
+		 * Optional leading elements contribute their characters and scanning moves on to the next element
+		 */
+		private Set<Character> sequence(int start, int end) {
+			Set<Character> firstChars = new HashSet<Character>();
+			int i = start;
+			while (i < end) {
+				char c = regex.charAt(i);
+				if (c == '^') {
+					i++;
+					continue;
+				}
+				Set<Character> atomChars;
+				int atomEnd;
+				if (c == '(') {
+					atomEnd = skipElement(i, end);
+					int contentStart = groupContentStart(i, atomEnd);
+					if (contentStart < 0) {
+						return null;//lookaround or flags applying to the rest of the pattern
+					}
+					atomChars = alternatives(contentStart, atomEnd - 1);
+					String enabledFlags = regex.substring(i + 1, contentStart).split("-")[0];
+					if (enabledFlags.contains("u") || enabledFlags.contains("x")) {
+						return null;
+					}
+					if (atomChars != null && enabledFlags.contains("i")) {
+						atomChars = foldAsciiCase(atomChars);
+					}
+				}
+				else if (c == '[') {
+					atomEnd = skipElement(i, end);
+					if (atomEnd < 0) {
+						return null;
+					}
+					atomChars = characterClass(i + 1, atomEnd - 1);
+				}
+				else if (c == '\\') {
+					if (i + 1 >= end) {
+						return null;
+					}
+					atomChars = escape(regex.charAt(i + 1));
+					atomEnd = i + 2;
+				}
+				else if (c == '.' || c == '$' || c == '*' || c == '+' || c == '?' || c == '{' || c == ')' || isSurrogate(c)) {
+					return null;
+				}
+				else {
+					atomChars = new HashSet<Character>();
+					atomChars.add(c);
+					atomEnd = i + 1;
+				}
+				if (atomChars == null) {
+					return null;
+				}
+				firstChars.addAll(atomChars);
+				if (!isOptional(atomEnd, end)) {
+					return firstChars;
+				}
+				i = skipQuantifier(atomEnd, end);
+			}
+			return null;//can match the empty string
+		}
+
+		/**
+		 * Index of the first character inside the group regex[open, close) or -1 if the group is
+		 * not a plain capturing group, non-capturing group or group with local flags e.g. (?-i:M)
+		 */
+		private int groupContentStart(int open, int close) {
+			if (close < 0) {
+				return -1;
+			}
+			if (regex.charAt(open + 1) != '?') {
+				return open + 1;
+			}
+			for (int i = open + 2; i < close; i++) {
+				char c = regex.charAt(i);
+				if (c == ':') {
+					return i + 1;
+				}
+				if (!(c == '-' || c >= 'a' && c <= 'z' || c >= 'A' && c <= 'Z')) {
+					return -1;
+				}
+			}
+			return -1;
+		}
+
+		/**
+		 * Returns the index after the quantifier starting at index, including any lazy or possessive suffix
+		 */
+		private int skipQuantifier(int index, int end) {
+			int i = index;
+			if (regex.charAt(i) == '{') {
+				while (i < end && regex.charAt(i) != '}') {
+					i++;
+				}
+			}
+			i++;
+			if (i < end && (regex.charAt(i) == '?' || regex.charAt(i) == '+')) {
+				i++;
+			}
+			return i;
+		}
+
+		/**
+		 * Is the element ending at index followed by a quantifier that allows zero repetitions
+		 */
+		private boolean isOptional(int index, int end) {
+			if (index >= end) {
+				return false;
+			}
+			char c = regex.charAt(index);
+			if (c == '?' || c == '*') {
+				return true;
+			}
+			if (c == '{') {
+				int i = index + 1;
+				int min = 0;
+				boolean seenDigit = false;
+				while (i < end && Character.isDigit(regex.charAt(i))) {
+					min = min * 10 + (regex.charAt(i) - '0');
+					seenDigit = true;
+					i++;
+				}
+				return !seenDigit || min == 0;
+			}
+			return false;
+		}
+
+		/**
+		 * Characters matched by a simple escape sequence or null if unsupported
+		 */
+		private Set<Character> escape(char escaped) {
+			Set<Character> chars = new HashSet<Character>();
+			if (escaped == 'd') {
+				for (char d = '0'; d <= '9'; d++) {
+					chars.add(d);
+				}
+				return chars;
+			}
+			if (Character.isLetterOrDigit(escaped) || escaped >= ASCII_SIZE) {
+				return null;//character classes, anchors, hex and unicode escapes, quoting, backreferences
+			}
+			chars.add(escaped);
+			return chars;
+		}
+
+		/**
+		 * Characters matched by the content of a non-negated character class, regex[start, end)
+		 */
+		private Set<Character> characterClass(int start, int end) {
+			if (start >= end || regex.charAt(start) == '^') {
+				return null;
+			}
+			Set<Character> chars = new HashSet<Character>();
+			int i = start;
+			while (i < end) {
+				char c = regex.charAt(i);
+				if (c == '[' || c == '&' || isSurrogate(c)) {
+					return null;//unions and intersections
+				}
+				if (c == '\\') {
+					if (i + 1 >= end) {
+						return null;
+					}
+					Set<Character> escaped = escape(regex.charAt(i + 1));
+					if (escaped == null || i + 3 < end && regex.charAt(i + 2) == '-') {
+						return null;//escaped range bounds
+					}
+					chars.addAll(escaped);
+					i += 2;
+				}
+				else if (i + 2 < end && regex.charAt(i + 1) == '-' && regex.charAt(i + 2) != '\\' && regex.charAt(i + 2) != '[') {
+					char rangeEnd = regex.charAt(i + 2);
+					if (rangeEnd < c || isSurrogate(rangeEnd)) {
+						return null;
+					}
+					for (char r = c; r <= rangeEnd; r++) {
+						chars.add(r);
+						if (r == Character.MAX_VALUE) {
+							break;
+						}
+					}
+					i += 3;
+				}
+				else {
+					chars.add(c);
+					i++;
+				}
+			}
+			return chars;
+		}
+
+		/**
+		 * Returns the index after the element starting at i (a group, character class, escape or single character)
+		 * or -1 if the element is not terminated before end
+		 */
+		int skipElement(int i, int end) {
+			char c = regex.charAt(i);
+			if (c == '\\') {
+				return i + 2 <= end ? i + 2 : -1;
+			}
+			if (c == '[') {
+				int j = i + 1;
+				if (j < end && regex.charAt(j) == '^') {
+					j++;
+				}
+				if (j < end && regex.charAt(j) == ']') {
+					j++;
+				}
+				int depth = 1;
+				while (j < end) {
+					char d = regex.charAt(j);
+					if (d == '\\') {
+						j += 2;
+						continue;
+					}
+					if (d == '[') {
+						depth++;
+					}
+					else if (d == ']') {
+						depth--;
+						if (depth == 0) {
+							return j + 1;
+						}
+					}
+					j++;
+				}
+				return -1;
+			}
+			if (c == '(') {
+				int j = i + 1;
+				while (j < end) {
+					char d = regex.charAt(j);
+					if (d == ')') {
+						return j + 1;
+					}
+					int next = skipElement(j, end);
+					if (next < 0) {
+						return -1;
+					}
+					j = next;
+				}
+				return -1;
+			}
+			return i + 1;
+		}
+
+		private boolean isSurrogate(char c) {
+			return c >= Character.MIN_SURROGATE && c <= Character.MAX_SURROGATE;
+		}
+	}
+}
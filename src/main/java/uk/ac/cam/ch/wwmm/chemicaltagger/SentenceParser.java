@@ -17,6 +17,7 @@ package uk.ac.cam.ch.wwmm.chemicaltagger;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.util.concurrent.Callable;
 
 import nu.xom.Document;
 
@@ -27,12 +28,15 @@ import org.apache.commons.io.IOUtils;
 /***********************************************
  * Passes tagged sentences to the ANTLR grammar. 
  * And converts the output to an XML document.
+ * As a Callable the parser can be given to an Executor;
+ * interrupting the thread that is parsing cancels the parse.
  * 
  * @author pm286, dl387, lh359
  **********************************************/
-public abstract class SentenceParser extends Thread {
+public abstract class SentenceParser implements Runnable, Callable<Document> {
 
 	private InputStream taggedTokenInStream = null;
+	private POSContainer posContainer = null;
 	private Tree parseTree = null;
 
 	/**********************************************
@@ -61,33 +65,49 @@ public abstract class SentenceParser extends Thread {
 
 	/************************************************
 	 * Constructor method for POSContainer objects.
+	 * The tags and tokens are read from the container when they are parsed.
 	 * 
 	 * @param posContainer  (POSContainer)
 	 *******************************************/
 	public SentenceParser(POSContainer posContainer) {
-		try {
-			this.taggedTokenInStream = IOUtils.toInputStream(
-					posContainer.getTokenTagTupleAsString(), "UTF-8");
-		} catch (IOException e) {
-			e.printStackTrace();
-		}
+		this.posContainer = posContainer;
 	}
 
 	/********************************************
 	 * Getter method for taggedTokenInputStream.
+	 * For a parser created from a POSContainer the stream
+	 * is created from {@link POSContainer#getTokenTagTupleAsString()}.
 	 * @return taggedTokenInStream (InputStream)
 	 ******************************************/
 	public InputStream getTaggedTokenInStream() {
+		if (taggedTokenInStream == null && posContainer != null) {
+			try {
+				taggedTokenInStream = IOUtils.toInputStream(
+						posContainer.getTokenTagTupleAsString(), "UTF-8");
+			} catch (IOException e) {
+				e.printStackTrace();
+			}
+		}
 		return taggedTokenInStream;
 	}
 
 	/*******************************************
 	 * Setter method for taggedTokenInputStream.
+	 * The stream is parsed instead of any POSContainer given to the constructor.
 	 * 
 	 * @param taggedTokenInStream (InputStream)
 	 ***********************************/
 	public void setTaggedTokenInStream(InputStream taggedTokenInStream) {
 		this.taggedTokenInStream = taggedTokenInStream;
+		this.posContainer = null;
+	}
+
+	/********************************************
+	 * Getter method for the POSContainer to be parsed.
+	 * @return posContainer (POSContainer) or null if the parser reads a stream
+	 ******************************************/
+	public POSContainer getPOSContainer() {
+		return posContainer;
 	}
 
 	/**************************************
@@ -107,12 +127,21 @@ public abstract class SentenceParser extends Thread {
 	}
 
 	/******************
-	 * Runs the thread.
+	 * Parses the tags.
 	 */
 	public void run() {
 		parseTags();
 	}
 
+	/********************************************
+	 * Parses the tags and creates the XML document.
+	 * @return document (Document)
+	 ******************************************/
+	public Document call() {
+		parseTags();
+		return makeXMLDocument();
+	}
+
 	/********************************************
 	 * Passes an inputstream to ANTLR and produces
 	 * a parse tree.
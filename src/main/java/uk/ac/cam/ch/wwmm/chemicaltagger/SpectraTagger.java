@@ -33,6 +33,8 @@ import uk.ac.cam.ch.wwmm.oscartokeniser.Tokeniser;
  *****************************************************/
 public class SpectraTagger {
 
+	private static final List<String> SPECTRA_KEYWORDS = Arrays.asList("spectrum", "hrms", "rf");
+
 	/**************************
 	 * Hides Utility Class Constructor.
 	 */
@@ -45,7 +47,7 @@ public class SpectraTagger {
 	 * @return posContainer (POSContainer)
 	 *******************************************************/
 	public static POSContainer runTagger(POSContainer posContainer) {
-		Tokeniser tokeniser = Tokeniser.getDefaultInstance();
+		Tokeniser tokeniser = ModelRegistry.getInstance().getOscarTokeniser();
 		ProcessingDocument procDoc = ProcessingDocumentFactory.getInstance().makeTokenisedDocument(tokeniser, posContainer.getInputText());
 
 		List<DataAnnotation> annotations = DataParser.findData(procDoc);
@@ -53,10 +55,9 @@ public class SpectraTagger {
 		StringBuilder newInputText = new StringBuilder();
 		String sentence = posContainer.getInputText();
 		int offset = 0;
-        List<String> spectraKeywords = Arrays.asList("spectrum", "hrms", "rf");
 		List<Element> spectraList = new ArrayList<Element>();
 		for (DataAnnotation dataAnnotation : annotations) {
-			if (spectraKeywords.contains(dataAnnotation.getAnnotatedElement().getLocalName()) || (dataAnnotation.getAnnotatedElement().getLocalName().equals("property") && spectraKeywords.contains(dataAnnotation.getAnnotatedElement().getAttribute("type"))))  {
+			if (SPECTRA_KEYWORDS.contains(dataAnnotation.getAnnotatedElement().getLocalName()) || (dataAnnotation.getAnnotatedElement().getLocalName().equals("property") && SPECTRA_KEYWORDS.contains(dataAnnotation.getAnnotatedElement().getAttribute("type"))))  {
 				spectraList.add(dataAnnotation.getAnnotatedElement());
 				newInputText.append(sentence.substring(offset, dataAnnotation
 						.getStart()));
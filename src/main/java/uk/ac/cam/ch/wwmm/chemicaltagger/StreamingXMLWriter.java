@@ -0,0 +1,148 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
+
+import org.antlr.v4.runtime.tree.Tree;
+
+/**************************************************************
+ * Writes the XML for a document a few sentences at a time, as they are parsed,
+ * so only the sentences being written are ever held in memory.
+ *
+ * The output is the same as serialising {@link ChemistrySentenceParser#makeXMLDocument(boolean)}.
+ * With action phrases, each sentence is held back until the next one has been
+ * processed, as a compound's role can depend on the first word of the next sentence.
+ ***************************************************************/
+class StreamingXMLWriter {
+
+	private static final int DOCUMENT = TagRegistry.getInstance().getId("Document");
+	private static final int SENTENCE = TagRegistry.getInstance().getId("Sentence");
+
+	private final XMLStreamWriter writer;
+	private final boolean annotateActionPhrases;
+	private final ASTtoXML astToXML = new ASTtoXML();
+	private final PostProcessTrees postProcessTrees = new PostProcessTrees();
+	private PhraseNode pendingSentence = null;
+	private int nodeCount = 0;
+
+	/**************************************
+	 * @param writer (XMLStreamWriter)
+	 * @param annotateActionPhrases (boolean)
+	 ***************************************/
+	StreamingXMLWriter(XMLStreamWriter writer, boolean annotateActionPhrases) {
+		this.writer = writer;
+		this.annotateActionPhrases = annotateActionPhrases;
+	}
+
+	/**************************************
+	 * Writes the start tag of the Document element.
+	 ***************************************/
+	void writeStartDocument() {
+		try {
+			writer.writeStartElement("Document");
+		} catch (XMLStreamException e) {
+			throw new WriteException(e);
+		}
+	}
+
+	/**************************************
+	 * Converts the children of the tree, usually one sentence, and writes them.
+	 * @param nodes (Tree) a tree whose children are children of the document
+	 ***************************************/
+	void writeNodes(Tree nodes) {
+		nodeCount += nodes.getChildCount();
+		PhraseNode holder = astToXML.getPhraseNodes(nodes, new PhraseNode(DOCUMENT));
+		try {
+			if (annotateActionPhrases) {
+				for (PhraseNode sentenceNode : holder.getDescendants(SENTENCE)) {
+					PhraseNode sentence = postProcessTrees.processSentence(sentenceNode);
+					if (pendingSentence != null) {
+						PhraseNode pair = new PhraseNode(DOCUMENT);
+						pair.appendChild(pendingSentence);
+						pair.appendChild(sentence);
+						postProcessTrees.assignRolesByFollowingWord(pair);
+						pair.removeChildren();
+						writeNode(pendingSentence);
+					}
+					pendingSentence = sentence;
+				}
+			}
+			else {
+				for (int i = 0; i < holder.getChildCount(); i++) {
+					writeNode(holder.getChild(i));
+				}
+			}
+		} catch (XMLStreamException e) {
+			throw new WriteException(e);
+		}
+	}
+
+	/**************************************
+	 * Returns the number of children of the document given to {@link #writeNodes(Tree)} so far.
+	 * @return nodeCount (int)
+	 ***************************************/
+	int getNodeCount() {
+		return nodeCount;
+	}
+
+	/**************************************
+	 * Writes any sentence being held back and the end tag of the Document element.
+	 ***************************************/
+	void writeEndDocument() {
+		try {
+			if (pendingSentence != null) {
+				postProcessTrees.assignRolesByFollowingWord(pendingSentence);
+				writeNode(pendingSentence);
+				pendingSentence = null;
+			}
+			writer.writeEndElement();
+			writer.flush();
+		} catch (XMLStreamException e) {
+			throw new WriteException(e);
+		}
+	}
+
+	/**************************************
+	 * Thrown when the XML could not be written, as opposed to a failure to parse.
+	 ***************************************/
+	static class WriteException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		WriteException(XMLStreamException cause) {
+			super("Could not write XML", cause);
+		}
+	}
+
+	private void writeNode(PhraseNode node) throws XMLStreamException {
+		writer.writeStartElement(node.getName());
+		for (int i = 0; i < node.getAttributeCount(); i++) {
+			writer.writeAttribute(node.getAttributeName(i), node.getAttributeValue(i));
+		}
+		if (node.isTerminal()) {
+			if (node.getText() != null) {
+				writer.writeCharacters(node.getText());
+			}
+		}
+		else {
+			for (int i = 0; i < node.getChildCount(); i++) {
+				writeNode(node.getChild(i));
+			}
+		}
+		writer.writeEndElement();
+	}
+}
@@ -0,0 +1,187 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**************************************************************
+ * Categories of tags, e.g. the quantity units, that can be tested
+ * with a {@link TagRegistry} ID.
+ *
+ * The named categories are tags of the ChemicalChunker grammar; the
+ * tests check that each of them is still in the grammar's vocabulary.
+ *
+ * Each {@link Category} is given by lower case tag names or a lower case
+ * prefix, so a tag is in it whatever its case. Membership is held as a
+ * bitset over the tag IDs. It is worked out when the category is created
+ * for every tag known to the registry, which includes every tag of the
+ * grammar, and for any tag registered later the first time it is asked about.
+ ***************************************************************/
+public final class TagCategories {
+
+	private static final TagRegistry REGISTRY = TagRegistry.getInstance();
+
+	/** Units that may be separated by a slash e.g. mmol/mL */
+	public static final Category QUANTITY_UNITS = of("nn-vol", "nn-pressure", "nn-mass", "nn-amount");
+	/** The verbs of the grammar that describe an action e.g. VB-ADD, VB-STIR */
+	public static final Category ACTION_VERBS = withPrefix("vb-");
+	/** Tags at which a sentence is split into action phrases */
+	public static final Category CLAUSE_SEPARATORS = of("comma", "cc", "stop", "colon", "rb-conj");
+
+	/****************************
+	 * Hides Utility Class Constructor.
+	 ***************************/
+	private TagCategories() {
+	}
+
+	/**************************************
+	 * Is the tag a unit that may be separated by a slash.
+	 * @param tagId (int)
+	 * @return isQuantityUnit (boolean)
+	 ***************************************/
+	public static boolean isQuantityUnit(int tagId) {
+		return QUANTITY_UNITS.contains(tagId);
+	}
+
+	/**************************************
+	 * Is the tag a verb describing an action e.g. VB-ADD.
+	 * @param tagId (int)
+	 * @return isVerbAction (boolean)
+	 ***************************************/
+	public static boolean isVerbAction(int tagId) {
+		return ACTION_VERBS.contains(tagId);
+	}
+
+	/**************************************
+	 * Is the tag one at which a sentence is split into action phrases.
+	 * @param tagId (int)
+	 * @return isClauseSeparator (boolean)
+	 ***************************************/
+	public static boolean isClauseSeparator(int tagId) {
+		return CLAUSE_SEPARATORS.contains(tagId);
+	}
+
+	/**************************************
+	 * Creates a category of the given tags.
+	 * @param lowerCaseTags (String...)
+	 * @return category (Category)
+	 ***************************************/
+	public static Category of(String... lowerCaseTags) {
+		return new Category(Collections.unmodifiableSet(new HashSet<String>(Arrays.asList(lowerCaseTags))), null);
+	}
+
+	/**************************************
+	 * Creates a category of the tags starting with the given prefix.
+	 * @param lowerCasePrefix (String)
+	 * @return category (Category)
+	 ***************************************/
+	public static Category withPrefix(String lowerCasePrefix) {
+		return new Category(null, lowerCasePrefix);
+	}
+
+	/**************************************************************
+	 * An immutable set of tags tested by ID.
+	 ***************************************************************/
+	public static final class Category {
+
+		private final Set<String> lowerCaseTags;
+		private final String lowerCasePrefix;
+		private volatile Bits bits;
+
+		private Category(Set<String> lowerCaseTags, String lowerCasePrefix) {
+			this.lowerCaseTags = lowerCaseTags;
+			this.lowerCasePrefix = lowerCasePrefix;
+			bits = computeBits();
+		}
+
+		/**************************************
+		 * Is the tag with the given ID in the category.
+		 * @param tagId (int)
+		 * @return contains (boolean) false for {@link TagRegistry#NULL}
+		 ***************************************/
+		public boolean contains(int tagId) {
+			if (tagId < 0) {
+				return false;
+			}
+			Bits current = bits;
+			if (tagId >= current.size) {
+				//a tag registered since the bits were computed
+				current = computeBits();
+				bits = current;
+				if (tagId >= current.size) {
+					return false;
+				}
+			}
+			return (current.words[tagId >>> 6] & (1L << tagId)) != 0;
+		}
+
+		/**************************************
+		 * Is the tag in the category.
+		 * @param tag (String)
+		 * @return contains (boolean)
+		 ***************************************/
+		public boolean contains(String tag) {
+			if (tag == null) {
+				return false;
+			}
+			int tagId = REGISTRY.lookupId(tag);
+			//an unknown tag is not registered just to test it
+			return tagId != TagRegistry.NULL ? contains(tagId) : matches(tag.toLowerCase());
+		}
+
+		/**************************************
+		 * Returns the lower case tags of a category given by its tags.
+		 * @return lowerCaseTags (Set<String>) or null for a category given by a prefix
+		 ***************************************/
+		Set<String> getLowerCaseTags() {
+			return lowerCaseTags;
+		}
+
+		private boolean matches(String lowerCaseTag) {
+			if (lowerCaseTag == null) {
+				return false;
+			}
+			if (lowerCaseTags != null) {
+				return lowerCaseTags.contains(lowerCaseTag);
+			}
+			return lowerCaseTag.startsWith(lowerCasePrefix);
+		}
+
+		private Bits computeBits() {
+			int size = REGISTRY.size();
+			long[] words = new long[(size + 63) >>> 6];
+			for (int id = 0; id < size; id++) {
+				if (matches(REGISTRY.getLowerCaseTag(id))) {
+					words[id >>> 6] |= 1L << id;
+				}
+			}
+			return new Bits(words, size);
+		}
+	}
+
+	private static final class Bits {
+		private final long[] words;
+		private final int size;
+
+		private Bits(long[] words, int size) {
+			this.words = words;
+			this.size = size;
+		}
+	}
+}
@@ -0,0 +1,205 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.AbstractList;
+import java.util.Collection;
+import java.util.List;
+import java.util.RandomAccess;
+
+/**************************************************************
+ * A list of tags stored as an int[] of {@link TagRegistry} IDs.
+ * The String methods of {@link java.util.List} convert to and from the IDs
+ * so the list can be used wherever a List&lt;String&gt; of tags is expected.
+ ***************************************************************/
+public class TagList extends AbstractList<String> implements RandomAccess {
+
+	private static final TagRegistry REGISTRY = TagRegistry.getInstance();
+
+	private int[] ids;
+	private int size;
+
+	/******************************
+	 * Creates an empty TagList.
+	 ******************************/
+	public TagList() {
+		this(10);
+	}
+
+	/******************************
+	 * Creates an empty TagList.
+	 * @param initialCapacity (int)
+	 ******************************/
+	public TagList(int initialCapacity) {
+		ids = new int[initialCapacity];
+	}
+
+	/******************************
+	 * Creates a TagList holding the given tags.
+	 * @param tags (Collection<String>)
+	 ******************************/
+	public TagList(Collection<String> tags) {
+		if (tags instanceof TagList) {
+			TagList tagList = (TagList) tags;
+			ids = tagList.toIdArray();
+			size = ids.length;
+		}
+		else {
+			ids = new int[tags.size()];
+			for (String tag : tags) {
+				ids[size++] = REGISTRY.getId(tag);
+			}
+		}
+	}
+
+	/******************************
+	 * Creates a TagList holding the given tags.
+	 * @param tags (String[])
+	 ******************************/
+	public TagList(String[] tags) {
+		ids = new int[tags.length];
+		for (String tag : tags) {
+			ids[size++] = REGISTRY.getId(tag);
+		}
+	}
+
+	/**************************************
+	 * Returns the tags as a TagList, only copying if they are not already a TagList.
+	 * @param tags (List<String>)
+	 * @return tagList (TagList)
+	 ***************************************/
+	public static TagList asTagList(List<String> tags) {
+		if (tags instanceof TagList) {
+			return (TagList) tags;
+		}
+		return new TagList(tags);
+	}
+
+	/**************************************
+	 * Creates a TagList of the given size with every tag "nil".
+	 * @param size (int)
+	 * @return tagList (TagList)
+	 ***************************************/
+	public static TagList createNilTagList(int size) {
+		TagList tagList = new TagList(size);
+		//the ids are already all TagRegistry.NIL
+		tagList.size = size;
+		return tagList;
+	}
+
+	@Override
+	public String get(int index) {
+		return REGISTRY.getTag(getId(index));
+	}
+
+	@Override
+	public String set(int index, String tag) {
+		String previous = get(index);
+		ids[index] = REGISTRY.getId(tag);
+		return previous;
+	}
+
+	@Override
+	public boolean add(String tag) {
+		addId(REGISTRY.getId(tag));
+		return true;
+	}
+
+	@Override
+	public void add(int index, String tag) {
+		if (index < 0 || index > size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		ensureCapacity(size + 1);
+		System.arraycopy(ids, index, ids, index + 1, size - index);
+		ids[index] = REGISTRY.getId(tag);
+		size++;
+		modCount++;
+	}
+
+	@Override
+	public String remove(int index) {
+		String previous = get(index);
+		System.arraycopy(ids, index + 1, ids, index, size - index - 1);
+		size--;
+		modCount++;
+		return previous;
+	}
+
+	@Override
+	public void clear() {
+		size = 0;
+		modCount++;
+	}
+
+	@Override
+	public int size() {
+		return size;
+	}
+
+	/**************************************
+	 * Returns the ID of the tag at the index.
+	 * @param index (int)
+	 * @return id (int)
+	 ***************************************/
+	public int getId(int index) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		return ids[index];
+	}
+
+	/**************************************
+	 * Replaces the ID of the tag at the index.
+	 * @param index (int)
+	 * @param id (int)
+	 ***************************************/
+	public void setId(int index, int id) {
+		if (index >= size) {
+			throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+		}
+		ids[index] = id;
+	}
+
+	/**************************************
+	 * Appends a tag ID.
+	 * @param id (int)
+	 ***************************************/
+	public void addId(int id) {
+		ensureCapacity(size + 1);
+		ids[size++] = id;
+		modCount++;
+	}
+
+	/**************************************
+	 * Returns a copy of the tag IDs.
+	 * @return ids (int[])
+	 ***************************************/
+	public int[] toIdArray() {
+		int[] copy = new int[size];
+		System.arraycopy(ids, 0, copy, 0, size);
+		return copy;
+	}
+
+	private void ensureCapacity(int minCapacity) {
+		if (minCapacity > ids.length) {
+			int newCapacity = Math.max(minCapacity, ids.length * 3 / 2 + 1);
+			int[] larger = new int[newCapacity];
+			System.arraycopy(ids, 0, larger, 0, size);
+			ids = larger;
+		}
+	}
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.commons.io.IOUtils;
+
+/**************************************************************
+ * Assigns an int ID to every tag.
+ *
+ * The tags known to the grammar have the token type given to them by
+ * ANTLR in ChemicalChunker.tokens. "nil" has the ID {@link #NIL}.
+ * Any other tag, e.g. an OpenNLP tag that the grammar does not use,
+ * is given a new ID above those of the grammar the first time it is seen.
+ * IDs are only meaningful within the running JVM.
+ ***************************************************************/
+public final class TagRegistry {
+
+	/** ID of the "nil" tag used by taggers for tokens they do not recognise */
+	public static final int NIL = 0;
+	/** ID used for a null tag */
+	public static final int NULL = -1;
+	public static final String NIL_TAG = "nil";
+
+	private static class INSTANCE_HOLDER {
+		private static TagRegistry myInstance = new TagRegistry();
+	}
+
+	private final ConcurrentHashMap<String, Integer> idsByTag = new ConcurrentHashMap<String, Integer>();
+	private volatile String[] tagsById;
+	private volatile String[] lowerCaseTagsById;
+	private final int grammarTagCount;
+	private int nextId;
+
+	private TagRegistry() {
+		String pathName = "ChemicalChunker.tokens";
+		InputStream inStream = TagRegistry.class.getClassLoader().getResourceAsStream(pathName);
+		if (inStream == null) {
+			throw new RuntimeException("Could not find tokens file: " + pathName);
+		}
+		List<String> readlines;
+		try {
+			readlines = IOUtils.readLines(inStream, "UTF-8");
+		} catch (IOException e) {
+			throw new RuntimeException("Could not load tokens file", e);
+		} finally {
+			IOUtils.closeQuietly(inStream);
+		}
+		int maxId = NIL;
+		String[] tags = new String[256];
+		for (String line : readlines) {
+			int equals = line.lastIndexOf('=');
+			if (line.startsWith("'") && equals > 1 && line.charAt(equals - 1) == '\'') {
+				String tag = line.substring(1, equals - 1);
+				int id = Integer.parseInt(line.substring(equals + 1).trim());
+				while (id >= tags.length) {
+					tags = copyOf(tags, tags.length * 2);
+				}
+				tags[id] = tag;
+				idsByTag.put(tag, id);
+				maxId = Math.max(maxId, id);
+			}
+		}
+		tags[NIL] = NIL_TAG;
+		idsByTag.put(NIL_TAG, NIL);
+		grammarTagCount = maxId;
+		nextId = maxId + 1;
+		lowerCaseTagsById = toLowerCase(tags);
+		tagsById = tags;
+	}
+
+	/**************************************
+	 * Returns the TagRegistry singleton.
+	 * @return tagRegistry (TagRegistry)
+	 ***************************************/
+	public static TagRegistry getInstance() {
+		return INSTANCE_HOLDER.myInstance;
+	}
+
+	/**************************************
+	 * Returns the ID of a tag, giving it a new ID if it has not been seen before.
+	 * @param tag (String)
+	 * @return id (int) or {@link #NULL} for a null tag
+	 ***************************************/
+	public int getId(String tag) {
+		if (tag == null) {
+			return NULL;
+		}
+		Integer id = idsByTag.get(tag);
+		if (id != null) {
+			return id;
+		}
+		return register(tag);
+	}
+
+	/**************************************
+	 * Returns the ID of a tag without giving it one if it has not been seen before.
+	 * Use this rather than {@link #getId(String)} for names read from outside input,
+	 * e.g. the elements of an XML document, so that they cannot grow the registry.
+	 * @param tag (String)
+	 * @return id (int) or {@link #NULL} for a null or unknown tag
+	 ***************************************/
+	public int lookupId(String tag) {
+		if (tag == null) {
+			return NULL;
+		}
+		Integer id = idsByTag.get(tag);
+		return id != null ? id : NULL;
+	}
+
+	/**************************************
+	 * Returns the tag with the given ID.
+	 * @param id (int)
+	 * @return tag (String) or null for {@link #NULL}
+	 ***************************************/
+	public String getTag(int id) {
+		if (id == NULL) {
+			return null;
+		}
+		return tagsById[id];
+	}
+
+	/**************************************
+	 * Returns the lower case form of the tag with the given ID.
+	 * The lower case forms are only created once so no String is allocated.
+	 * @param id (int)
+	 * @return lowerCaseTag (String) or null for {@link #NULL}
+	 ***************************************/
+	public String getLowerCaseTag(int id) {
+		if (id == NULL) {
+			return null;
+		}
+		return lowerCaseTagsById[id];
+	}
+
+	/**************************************
+	 * Is the tag one of the tags of the ChemicalChunker grammar.
+	 * @param id (int)
+	 * @return isGrammarTag (boolean)
+	 ***************************************/
+	public boolean isGrammarTag(int id) {
+		return id > NIL && id <= grammarTagCount;
+	}
+
+	/**************************************
+	 * Returns one more than the highest ID given out so far.
+	 * @return size (int)
+	 ***************************************/
+	public synchronized int size() {
+		return nextId;
+	}
+
+	private synchronized int register(String tag) {
+		Integer existing = idsByTag.get(tag);
+		if (existing != null) {
+			return existing;
+		}
+		int id = nextId++;
+		String[] tags = tagsById;
+		String[] lowerCaseTags = lowerCaseTagsById;
+		if (id >= tags.length) {
+			tags = copyOf(tags, tags.length * 2);
+			lowerCaseTags = copyOf(lowerCaseTags, lowerCaseTags.length * 2);
+		}
+		tags[id] = tag;
+		lowerCaseTags[id] = tag.toLowerCase();
+		//publish the tag before its ID can be looked up
+		lowerCaseTagsById = lowerCaseTags;
+		tagsById = tags;
+		idsByTag.put(tag, id);
+		return id;
+	}
+
+	private static String[] copyOf(String[] array, int length) {
+		String[] copy = new String[length];
+		System.arraycopy(array, 0, copy, 0, Math.min(array.length, length));
+		return copy;
+	}
+
+	private static String[] toLowerCase(String[] tags) {
+		String[] lowerCaseTags = new String[tags.length];
+		for (int i = 0; i < tags.length; i++) {
+			if (tags[i] != null) {
+				lowerCaseTags[i] = tags[i].toLowerCase();
+			}
+		}
+		return lowerCaseTags;
+	}
+}
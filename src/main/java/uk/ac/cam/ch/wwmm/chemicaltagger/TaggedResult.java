@@ -0,0 +1,105 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+/**************************************************************
+ * Read access to the result of tagging and parsing a text:
+ * its tokens with their offsets and tags, and the annotated phrase tree.
+ *
+ * The tree holds the same elements, attributes and text as the XML from
+ * {@link ChemistrySentenceParser#makeXMLDocument()}. Its nodes are numbered
+ * in document order so node 0 is the Document element and every node comes
+ * after its parent. Action phrases are the nodes named ActionPhrase with their
+ * "type" attribute; roles are the "role" attributes of MOLECULE nodes.
+ ***************************************************************/
+public interface TaggedResult {
+
+	/**************************************
+	 * @return tokenCount (int)
+	 ***************************************/
+	int getTokenCount();
+
+	/**************************************
+	 * @param token (int)
+	 * @return surface (String)
+	 ***************************************/
+	String getTokenSurface(int token);
+
+	/**************************************
+	 * Returns the offset of the start of the token in the normalised text.
+	 * @param token (int)
+	 * @return start (int)
+	 ***************************************/
+	int getTokenStart(int token);
+
+	/**************************************
+	 * Returns the offset of the end of the token in the normalised text.
+	 * @param token (int)
+	 * @return end (int)
+	 ***************************************/
+	int getTokenEnd(int token);
+
+	/**************************************
+	 * Returns the combined tag of the token.
+	 * @param token (int)
+	 * @return tag (String)
+	 ***************************************/
+	String getTokenTag(int token);
+
+	/**************************************
+	 * @return nodeCount (int)
+	 ***************************************/
+	int getNodeCount();
+
+	/**************************************
+	 * @param node (int)
+	 * @return name (String) the element name
+	 ***************************************/
+	String getNodeName(int node);
+
+	/**************************************
+	 * @param node (int)
+	 * @return parent (int) or -1 for the Document node
+	 ***************************************/
+	int getNodeParent(int node);
+
+	/**************************************
+	 * Returns the text of a terminal node e.g. the word tagged by an NN node.
+	 * @param node (int)
+	 * @return text (String) or null if the node has no text
+	 ***************************************/
+	String getNodeText(int node);
+
+	/**************************************
+	 * @param node (int)
+	 * @return attributeCount (int)
+	 ***************************************/
+	int getNodeAttributeCount(int node);
+
+	/**************************************
+	 * @param node (int)
+	 * @param attribute (int)
+	 * @return name (String)
+	 ***************************************/
+	String getNodeAttributeName(int node, int attribute);
+
+	/**************************************
+	 * @param node (int)
+	 * @param attribute (int)
+	 * @return value (String)
+	 ***************************************/
+	String getNodeAttributeValue(int node, int attribute);
+}
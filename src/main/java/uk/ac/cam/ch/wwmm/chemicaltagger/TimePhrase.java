@@ -0,0 +1,27 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+/**************************************************************
+ * A time phrase, e.g. "for 2 h" or "overnight".
+ * The value and unit are those of the time, so "overnight" has no value.
+ ***************************************************************/
+public class TimePhrase extends Quantity {
+
+	TimePhrase(String text, String value, String unit) {
+		super("TimePhrase", text, value, unit);
+	}
+}
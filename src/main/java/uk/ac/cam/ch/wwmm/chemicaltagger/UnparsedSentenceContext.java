@@ -0,0 +1,89 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.atn.ATNState;
+
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser.SentenceContext;
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser.StopContext;
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser.UnmatchedPhraseContext;
+
+/**************************************************************
+ * A sentence that was not parsed because it was over the token budget
+ * or its parse ran past the deadline.
+ * Each tag and its token become an unmatched phrase, apart from the
+ * trailing STOPs, so the sentence converts to the same XML as a sentence
+ * the grammar could not match. {@link ASTtoXML} marks it with an
+ * "unparsed" attribute giving the reason.
+ ***************************************************************/
+class UnparsedSentenceContext extends SentenceContext {
+
+	static final String TOKEN_BUDGET = "tokenBudget";
+	static final String DEADLINE = "deadline";
+
+	private final String reason;
+
+	/**************************************
+	 * @param parent (ParserRuleContext)
+	 * @param reason (String) {@link #TOKEN_BUDGET} or {@link #DEADLINE}
+	 ***************************************/
+	UnparsedSentenceContext(ParserRuleContext parent, String reason) {
+		super(parent, ATNState.INVALID_STATE_NUMBER);
+		this.reason = reason;
+	}
+
+	/**************************************
+	 * Returns why the sentence was not parsed.
+	 * @return reason (String)
+	 ***************************************/
+	String getReason() {
+		return reason;
+	}
+
+	/**************************************
+	 * Adds a tag and its token as an unmatched phrase.
+	 * @param tag (Token)
+	 * @param token (Token)
+	 ***************************************/
+	void addUnmatched(Token tag, Token token) {
+		ParserRuleContext unmatchedPhrase = new UnmatchedPhraseContext(this, ATNState.INVALID_STATE_NUMBER);
+		addPair(unmatchedPhrase, tag, token);
+	}
+
+	/**************************************
+	 * Adds a STOP tag and its token.
+	 * @param tag (Token)
+	 * @param token (Token)
+	 ***************************************/
+	void addStop(Token tag, Token token) {
+		ParserRuleContext stop = new StopContext(this, ATNState.INVALID_STATE_NUMBER);
+		addPair(stop, tag, token);
+	}
+
+	private void addPair(ParserRuleContext context, Token tag, Token token) {
+		context.addChild(tag);
+		context.addChild(token);
+		context.start = tag;
+		context.stop = token;
+		addChild(context);
+		if (start == null) {
+			start = tag;
+		}
+		stop = token;
+	}
+}
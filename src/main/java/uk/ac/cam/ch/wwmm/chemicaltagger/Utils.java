@@ -23,8 +23,11 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.OutputStream;
+import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -239,6 +242,57 @@ public class Utils {
 		Document doc = chemistrySentenceParser.makeXMLDocument();
 		return doc;
 	}
+
+	/*******************************************
+	 * Convenience method for running chemicalTagger
+	 * that returns the action phrases and molecules as Java objects
+	 * instead of an XML document.
+	 * @param text (String)
+	 * @return result (ReactionResult)
+	 *****************************************/
+	public static ReactionResult runChemicalTaggerForReactions(String text) {
+		POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(text);
+		ChemistrySentenceParser chemistrySentenceParser = new ChemistrySentenceParser(posContainer);
+		chemistrySentenceParser.parseTags();
+		return chemistrySentenceParser.makeReactionResult();
+	}
+
+	/*******************************************
+	 * Waits for each of the futures in turn and returns their results
+	 * in the same order. Failures are rethrown as RuntimeExceptions.
+	 * @param futures (List<Future<T>>)
+	 * @return results (List<T>)
+	 *****************************************/
+	static <T> List<T> getAll(List<Future<T>> futures) {
+		List<T> results = new ArrayList<T>(futures.size());
+		try {
+			for (Future<T> future : futures) {
+				results.add(future.get());
+			}
+		} catch (InterruptedException e) {
+			cancelAll(futures);
+			Thread.currentThread().interrupt();
+			throw new RuntimeException("Interrupted whilst waiting for ChemicalTagger results", e);
+		} catch (ExecutionException e) {
+			cancelAll(futures);
+			Throwable cause = e.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+			throw new RuntimeException(cause);
+		}
+		return results;
+	}
+
+	private static void cancelAll(List<? extends Future<?>> futures) {
+		for (Future<?> future : futures) {
+			future.cancel(true);
+		}
+	}
+
 	/**************************************
 	 * Loads the tags from the .tokens file generated by Antlr.
 	 * @param contextClass 
@@ -0,0 +1,634 @@
+// Generated from uk/ac/cam/ch/wwmm/chemicaltagger/pregenerated/ChemicalChunker.g4 by ANTLR 4.5.3
+package uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated;
+import org.antlr.v4.runtime.Lexer;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenStream;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.misc.*;
+
+public class ChemicalChunkerLexer extends Lexer {
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
+		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
+		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
+		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
+		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, T__43=44, T__44=45, 
+		T__45=46, T__46=47, T__47=48, T__48=49, T__49=50, T__50=51, T__51=52, 
+		T__52=53, T__53=54, T__54=55, T__55=56, T__56=57, T__57=58, T__58=59, 
+		T__59=60, T__60=61, T__61=62, T__62=63, T__63=64, T__64=65, T__65=66, 
+		T__66=67, T__67=68, T__68=69, T__69=70, T__70=71, T__71=72, T__72=73, 
+		T__73=74, T__74=75, T__75=76, T__76=77, T__77=78, T__78=79, T__79=80, 
+		T__80=81, T__81=82, T__82=83, T__83=84, T__84=85, T__85=86, T__86=87, 
+		T__87=88, T__88=89, T__89=90, T__90=91, T__91=92, T__92=93, T__93=94, 
+		T__94=95, T__95=96, T__96=97, T__97=98, T__98=99, T__99=100, T__100=101, 
+		T__101=102, T__102=103, T__103=104, T__104=105, T__105=106, T__106=107, 
+		T__107=108, T__108=109, T__109=110, T__110=111, T__111=112, T__112=113, 
+		T__113=114, T__114=115, T__115=116, T__116=117, T__117=118, T__118=119, 
+		T__119=120, T__120=121, T__121=122, T__122=123, T__123=124, T__124=125, 
+		T__125=126, T__126=127, T__127=128, T__128=129, T__129=130, T__130=131, 
+		T__131=132, T__132=133, T__133=134, T__134=135, T__135=136, T__136=137, 
+		T__137=138, T__138=139, T__139=140, T__140=141, T__141=142, T__142=143, 
+		WS=144, TOKEN=145;
+	public static String[] modeNames = {
+		"DEFAULT_MODE"
+	};
+
+	public static final String[] ruleNames = {
+		"T__0", "T__1", "T__2", "T__3", "T__4", "T__5", "T__6", "T__7", "T__8", 
+		"T__9", "T__10", "T__11", "T__12", "T__13", "T__14", "T__15", "T__16", 
+		"T__17", "T__18", "T__19", "T__20", "T__21", "T__22", "T__23", "T__24", 
+		"T__25", "T__26", "T__27", "T__28", "T__29", "T__30", "T__31", "T__32", 
+		"T__33", "T__34", "T__35", "T__36", "T__37", "T__38", "T__39", "T__40", 
+		"T__41", "T__42", "T__43", "T__44", "T__45", "T__46", "T__47", "T__48", 
+		"T__49", "T__50", "T__51", "T__52", "T__53", "T__54", "T__55", "T__56", 
+		"T__57", "T__58", "T__59", "T__60", "T__61", "T__62", "T__63", "T__64", 
+		"T__65", "T__66", "T__67", "T__68", "T__69", "T__70", "T__71", "T__72", 
+		"T__73", "T__74", "T__75", "T__76", "T__77", "T__78", "T__79", "T__80", 
+		"T__81", "T__82", "T__83", "T__84", "T__85", "T__86", "T__87", "T__88", 
+		"T__89", "T__90", "T__91", "T__92", "T__93", "T__94", "T__95", "T__96", 
+		"T__97", "T__98", "T__99", "T__100", "T__101", "T__102", "T__103", "T__104", 
+		"T__105", "T__106", "T__107", "T__108", "T__109", "T__110", "T__111", 
+		"T__112", "T__113", "T__114", "T__115", "T__116", "T__117", "T__118", 
+		"T__119", "T__120", "T__121", "T__122", "T__123", "T__124", "T__125", 
+		"T__126", "T__127", "T__128", "T__129", "T__130", "T__131", "T__132", 
+		"T__133", "T__134", "T__135", "T__136", "T__137", "T__138", "T__139", 
+		"T__140", "T__141", "T__142", "WS", "TOKEN"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'NNP-LABEL'", "'CD-ALPHANUM'", "'OSCAR-CJ'", "'OSCAR-RN'", "'OSCAR-ASE'", 
+		"'TM-UNICODE'", "'CD-UNICODE'", "'JJ-CHEM'", "'JJ-COMPOUND'", "'IN-AS'", 
+		"'IN-BEFORE'", "'IN-AFTER'", "'IN-IN'", "'IN-INTO'", "'IN-WITH'", "'IN-WITHOUT'", 
+		"'IN-BY'", "'IN-VIA'", "'IN-OF'", "'IN-ON'", "'IN-FOR'", "'IN-FROM'", 
+		"'IN-UNDER'", "'IN-OVER'", "'IN-OFF'", "'NN-STATE'", "'NN-TIME'", "'NN-MASS'", 
+		"'NN-AMOUNT'", "'NN-MOLAR'", "'NN-ATMOSPHERE'", "'NN-EQ'", "'NN-VOL'", 
+		"'NN-CHEMENTITY'", "'NN-TEMP'", "'NN-PH'", "'NN-FLASH'", "'NN-GENERAL'", 
+		"'NN-METHOD'", "'NN-PRESSURE'", "'NN-COLUMN'", "'NN-CHROMATOGRAPHY'", 
+		"'NN-VACUUM'", "'NN-CYCLE'", "'NN-TIMES'", "'NN-EXAMPLE'", "'OSCAR-CM'", 
+		"'VB-USE'", "'VB-CHANGE'", "'VB-SUBMERGE'", "'VB-SUBJECT'", "'NN-ADD'", 
+		"'NN-MIXTURE'", "'VB-DILUTE'", "'VB-ADD'", "'VB-CHARGE'", "'VB-CONTAIN'", 
+		"'VB-DROP'", "'VB-FILL'", "'VB-SUSPEND'", "'VB-TREAT'", "'VB-APPARATUS'", 
+		"'NN-APPARATUS'", "'VB-CONCENTRATE'", "'NN-CONCENTRATE'", "'VB-COOL'", 
+		"'VB-DEGASS'", "'VB-DISSOLVE'", "'VB-DRY'", "'NN-DRY'", "'VB-EXTRACT'", 
+		"'NN-EXTRACT'", "'VB-FILTER'", "'NN-FILTER'", "'VB-HEAT'", "'VB-INCREASE'", 
+		"'VB-IMMERSE'", "'VB-PARTITION'", "'VB-PRECIPITATE'", "'NN-PRECIPITATE'", 
+		"'VB-PURIFY'", "'NN-PURIFY'", "'VB-QUENCH'", "'VB-RECOVER'", "'VB-REMOVE'", 
+		"'NN-REMOVE'", "'VB-STIR'", "'VB-SYNTHESIZE'", "'NN-SYNTHESIZE'", "'VB-WAIT'", 
+		"'VB-WASH'", "'VB-YIELD'", "'NN-YIELD'", "'RB-CONJ'", "'COLON'", "'COMMA'", 
+		"'APOST'", "'NEG'", "'DASH'", "'STOP'", "'NN-PERCENT'", "'LSQB'", "'RSQB'", 
+		"'NN-IDENTIFIER'", "'DT-THE'", "'-LRB-'", "'-RRB-'", "'CC'", "'CD'", "'DT'", 
+		"'EX'", "'FW'", "'IN'", "'JJ'", "'JJR'", "'JJS'", "'LS'", "'MD'", "'NN'", 
+		"'NNS'", "'NNP'", "'NNPS'", "'PDT'", "'POS'", "'PRP'", "'PRP$'", "'RB'", 
+		"'RBR'", "'RBS'", "'RP'", "'SYM'", "'TO'", "'UH'", "'VB'", "'VBD'", "'VBG'", 
+		"'VBN'", "'VBP'", "'VBZ'", "'WDT'", "'WP'", "'WP$'", "'WRB'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		"WS", "TOKEN"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+	@NotNull
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+
+	public ChemicalChunkerLexer(CharStream input) {
+		super(input);
+		_interp = new LexerATNSimulator(this,_ATN);
+	}
+
+	@Override
+	public String getGrammarFileName() { return "ChemicalChunker.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+	@Override
+	public String[] getModeNames() { return modeNames; }
+
+	public static final String _serializedATN =
+		"\3\uaf6f\u8320\u479d\ub75c\u4880\u1605\u191c\uab37\2\u0093\u059f\b\1\4"+
+		"\2\t\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n"+
+		"\4\13\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22"+
+		"\t\22\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31"+
+		"\t\31\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t"+
+		" \4!\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t"+
+		"+\4,\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64"+
+		"\t\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t"+
+		"=\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4"+
+		"I\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\t"+
+		"T\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_"+
+		"\4`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\4i\ti\4j\tj\4k"+
+		"\tk\4l\tl\4m\tm\4n\tn\4o\to\4p\tp\4q\tq\4r\tr\4s\ts\4t\tt\4u\tu\4v\tv"+
+		"\4w\tw\4x\tx\4y\ty\4z\tz\4{\t{\4|\t|\4}\t}\4~\t~\4\177\t\177\4\u0080\t"+
+		"\u0080\4\u0081\t\u0081\4\u0082\t\u0082\4\u0083\t\u0083\4\u0084\t\u0084"+
+		"\4\u0085\t\u0085\4\u0086\t\u0086\4\u0087\t\u0087\4\u0088\t\u0088\4\u0089"+
+		"\t\u0089\4\u008a\t\u008a\4\u008b\t\u008b\4\u008c\t\u008c\4\u008d\t\u008d"+
+		"\4\u008e\t\u008e\4\u008f\t\u008f\4\u0090\t\u0090\4\u0091\t\u0091\4\u0092"+
+		"\t\u0092\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\2\3\3\3\3\3\3\3\3\3\3\3"+
+		"\3\3\3\3\3\3\3\3\3\3\3\3\3\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\4\3\5\3\5"+
+		"\3\5\3\5\3\5\3\5\3\5\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3"+
+		"\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\7\3\b\3\b\3\b\3\b\3\b\3\b\3\b"+
+		"\3\b\3\b\3\b\3\b\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\t\3\n\3\n\3\n\3\n\3\n\3"+
+		"\n\3\n\3\n\3\n\3\n\3\n\3\n\3\13\3\13\3\13\3\13\3\13\3\13\3\f\3\f\3\f\3"+
+		"\f\3\f\3\f\3\f\3\f\3\f\3\f\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\r\3\16\3"+
+		"\16\3\16\3\16\3\16\3\16\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\17\3\20\3"+
+		"\20\3\20\3\20\3\20\3\20\3\20\3\20\3\21\3\21\3\21\3\21\3\21\3\21\3\21\3"+
+		"\21\3\21\3\21\3\21\3\22\3\22\3\22\3\22\3\22\3\22\3\23\3\23\3\23\3\23\3"+
+		"\23\3\23\3\23\3\24\3\24\3\24\3\24\3\24\3\24\3\25\3\25\3\25\3\25\3\25\3"+
+		"\25\3\26\3\26\3\26\3\26\3\26\3\26\3\26\3\27\3\27\3\27\3\27\3\27\3\27\3"+
+		"\27\3\27\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\30\3\31\3\31\3\31\3"+
+		"\31\3\31\3\31\3\31\3\31\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\33\3\33\3"+
+		"\33\3\33\3\33\3\33\3\33\3\33\3\33\3\34\3\34\3\34\3\34\3\34\3\34\3\34\3"+
+		"\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\36\3\36\3\36\3\36\3\36\3"+
+		"\36\3\36\3\36\3\36\3\36\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3\37\3"+
+		" \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3 \3!\3!\3!\3!\3!\3!\3\"\3\"\3\""+
+		"\3\"\3\"\3\"\3\"\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\3#\3$\3$\3$\3"+
+		"$\3$\3$\3$\3$\3%\3%\3%\3%\3%\3%\3&\3&\3&\3&\3&\3&\3&\3&\3&\3\'\3\'\3\'"+
+		"\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3\'\3(\3(\3(\3(\3(\3(\3(\3(\3(\3(\3)\3)\3"+
+		")\3)\3)\3)\3)\3)\3)\3)\3)\3)\3*\3*\3*\3*\3*\3*\3*\3*\3*\3*\3+\3+\3+\3"+
+		"+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3+\3,\3,\3,\3,\3,\3,\3,\3,\3"+
+		",\3,\3-\3-\3-\3-\3-\3-\3-\3-\3-\3.\3.\3.\3.\3.\3.\3.\3.\3.\3/\3/\3/\3"+
+		"/\3/\3/\3/\3/\3/\3/\3/\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3\60\3"+
+		"\61\3\61\3\61\3\61\3\61\3\61\3\61\3\62\3\62\3\62\3\62\3\62\3\62\3\62\3"+
+		"\62\3\62\3\62\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3\63\3"+
+		"\63\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\64\3\65\3\65\3"+
+		"\65\3\65\3\65\3\65\3\65\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3\66\3"+
+		"\66\3\66\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\3\67\38\38\38\3"+
+		"8\38\38\38\39\39\39\39\39\39\39\39\39\39\3:\3:\3:\3:\3:\3:\3:\3:\3:\3"+
+		":\3:\3;\3;\3;\3;\3;\3;\3;\3;\3<\3<\3<\3<\3<\3<\3<\3<\3=\3=\3=\3=\3=\3"+
+		"=\3=\3=\3=\3=\3=\3>\3>\3>\3>\3>\3>\3>\3>\3>\3?\3?\3?\3?\3?\3?\3?\3?\3"+
+		"?\3?\3?\3?\3?\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\3@\3A\3A\3A\3A\3A\3"+
+		"A\3A\3A\3A\3A\3A\3A\3A\3A\3A\3B\3B\3B\3B\3B\3B\3B\3B\3B\3B\3B\3B\3B\3"+
+		"B\3B\3C\3C\3C\3C\3C\3C\3C\3C\3D\3D\3D\3D\3D\3D\3D\3D\3D\3D\3E\3E\3E\3"+
+		"E\3E\3E\3E\3E\3E\3E\3E\3E\3F\3F\3F\3F\3F\3F\3F\3G\3G\3G\3G\3G\3G\3G\3"+
+		"H\3H\3H\3H\3H\3H\3H\3H\3H\3H\3H\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3I\3J\3"+
+		"J\3J\3J\3J\3J\3J\3J\3J\3J\3K\3K\3K\3K\3K\3K\3K\3K\3K\3K\3L\3L\3L\3L\3"+
+		"L\3L\3L\3L\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3M\3N\3N\3N\3N\3N\3N\3N\3"+
+		"N\3N\3N\3N\3O\3O\3O\3O\3O\3O\3O\3O\3O\3O\3O\3O\3O\3P\3P\3P\3P\3P\3P\3"+
+		"P\3P\3P\3P\3P\3P\3P\3P\3P\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3Q\3"+
+		"Q\3R\3R\3R\3R\3R\3R\3R\3R\3R\3R\3S\3S\3S\3S\3S\3S\3S\3S\3S\3S\3T\3T\3"+
+		"T\3T\3T\3T\3T\3T\3T\3T\3U\3U\3U\3U\3U\3U\3U\3U\3U\3U\3U\3V\3V\3V\3V\3"+
+		"V\3V\3V\3V\3V\3V\3W\3W\3W\3W\3W\3W\3W\3W\3W\3W\3X\3X\3X\3X\3X\3X\3X\3"+
+		"X\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Y\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3Z\3"+
+		"Z\3Z\3Z\3Z\3Z\3Z\3[\3[\3[\3[\3[\3[\3[\3[\3\\\3\\\3\\\3\\\3\\\3\\\3\\\3"+
+		"\\\3]\3]\3]\3]\3]\3]\3]\3]\3]\3^\3^\3^\3^\3^\3^\3^\3^\3^\3_\3_\3_\3_\3"+
+		"_\3_\3_\3_\3`\3`\3`\3`\3`\3`\3a\3a\3a\3a\3a\3a\3b\3b\3b\3b\3b\3b\3c\3"+
+		"c\3c\3c\3d\3d\3d\3d\3d\3e\3e\3e\3e\3e\3f\3f\3f\3f\3f\3f\3f\3f\3f\3f\3"+
+		"f\3g\3g\3g\3g\3g\3h\3h\3h\3h\3h\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3i\3"+
+		"i\3i\3j\3j\3j\3j\3j\3j\3j\3k\3k\3k\3k\3k\3k\3l\3l\3l\3l\3l\3l\3m\3m\3"+
+		"m\3n\3n\3n\3o\3o\3o\3p\3p\3p\3q\3q\3q\3r\3r\3r\3s\3s\3s\3t\3t\3t\3t\3"+
+		"u\3u\3u\3u\3v\3v\3v\3w\3w\3w\3x\3x\3x\3y\3y\3y\3y\3z\3z\3z\3z\3{\3{\3"+
+		"{\3{\3{\3|\3|\3|\3|\3}\3}\3}\3}\3~\3~\3~\3~\3\177\3\177\3\177\3\177\3"+
+		"\177\3\u0080\3\u0080\3\u0080\3\u0081\3\u0081\3\u0081\3\u0081\3\u0082\3"+
+		"\u0082\3\u0082\3\u0082\3\u0083\3\u0083\3\u0083\3\u0084\3\u0084\3\u0084"+
+		"\3\u0084\3\u0085\3\u0085\3\u0085\3\u0086\3\u0086\3\u0086\3\u0087\3\u0087"+
+		"\3\u0087\3\u0088\3\u0088\3\u0088\3\u0088\3\u0089\3\u0089\3\u0089\3\u0089"+
+		"\3\u008a\3\u008a\3\u008a\3\u008a\3\u008b\3\u008b\3\u008b\3\u008b\3\u008c"+
+		"\3\u008c\3\u008c\3\u008c\3\u008d\3\u008d\3\u008d\3\u008d\3\u008e\3\u008e"+
+		"\3\u008e\3\u008f\3\u008f\3\u008f\3\u008f\3\u0090\3\u0090\3\u0090\3\u0090"+
+		"\3\u0091\6\u0091\u0595\n\u0091\r\u0091\16\u0091\u0596\3\u0091\3\u0091"+
+		"\3\u0092\6\u0092\u059c\n\u0092\r\u0092\16\u0092\u059d\2\2\2\u0093\3\2"+
+		"\3\5\2\4\7\2\5\t\2\6\13\2\7\r\2\b\17\2\t\21\2\n\23\2\13\25\2\f\27\2\r"+
+		"\31\2\16\33\2\17\35\2\20\37\2\21!\2\22#\2\23%\2\24\'\2\25)\2\26+\2\27"+
+		"-\2\30/\2\31\61\2\32\63\2\33\65\2\34\67\2\359\2\36;\2\37=\2 ?\2!A\2\""+
+		"C\2#E\2$G\2%I\2&K\2\'M\2(O\2)Q\2*S\2+U\2,W\2-Y\2.[\2/]\2\60_\2\61a\2\62"+
+		"c\2\63e\2\64g\2\65i\2\66k\2\67m\28o\29q\2:s\2;u\2<w\2=y\2>{\2?}\2@\177"+
+		"\2A\u0081\2B\u0083\2C\u0085\2D\u0087\2E\u0089\2F\u008b\2G\u008d\2H\u008f"+
+		"\2I\u0091\2J\u0093\2K\u0095\2L\u0097\2M\u0099\2N\u009b\2O\u009d\2P\u009f"+
+		"\2Q\u00a1\2R\u00a3\2S\u00a5\2T\u00a7\2U\u00a9\2V\u00ab\2W\u00ad\2X\u00af"+
+		"\2Y\u00b1\2Z\u00b3\2[\u00b5\2\\\u00b7\2]\u00b9\2^\u00bb\2_\u00bd\2`\u00bf"+
+		"\2a\u00c1\2b\u00c3\2c\u00c5\2d\u00c7\2e\u00c9\2f\u00cb\2g\u00cd\2h\u00cf"+
+		"\2i\u00d1\2j\u00d3\2k\u00d5\2l\u00d7\2m\u00d9\2n\u00db\2o\u00dd\2p\u00df"+
+		"\2q\u00e1\2r\u00e3\2s\u00e5\2t\u00e7\2u\u00e9\2v\u00eb\2w\u00ed\2x\u00ef"+
+		"\2y\u00f1\2z\u00f3\2{\u00f5\2|\u00f7\2}\u00f9\2~\u00fb\2\177\u00fd\2\u0080"+
+		"\u00ff\2\u0081\u0101\2\u0082\u0103\2\u0083\u0105\2\u0084\u0107\2\u0085"+
+		"\u0109\2\u0086\u010b\2\u0087\u010d\2\u0088\u010f\2\u0089\u0111\2\u008a"+
+		"\u0113\2\u008b\u0115\2\u008c\u0117\2\u008d\u0119\2\u008e\u011b\2\u008f"+
+		"\u011d\2\u0090\u011f\2\u0091\u0121\2\u0092\u0123\2\u0093\3\2\4\5\2\13"+
+		"\f\17\17\"\"\3\2\"\"\u05a0\2\3\3\2\2\2\2\5\3\2\2\2\2\7\3\2\2\2\2\t\3\2"+
+		"\2\2\2\13\3\2\2\2\2\r\3\2\2\2\2\17\3\2\2\2\2\21\3\2\2\2\2\23\3\2\2\2\2"+
+		"\25\3\2\2\2\2\27\3\2\2\2\2\31\3\2\2\2\2\33\3\2\2\2\2\35\3\2\2\2\2\37\3"+
+		"\2\2\2\2!\3\2\2\2\2#\3\2\2\2\2%\3\2\2\2\2\'\3\2\2\2\2)\3\2\2\2\2+\3\2"+
+		"\2\2\2-\3\2\2\2\2/\3\2\2\2\2\61\3\2\2\2\2\63\3\2\2\2\2\65\3\2\2\2\2\67"+
+		"\3\2\2\2\29\3\2\2\2\2;\3\2\2\2\2=\3\2\2\2\2?\3\2\2\2\2A\3\2\2\2\2C\3\2"+
+		"\2\2\2E\3\2\2\2\2G\3\2\2\2\2I\3\2\2\2\2K\3\2\2\2\2M\3\2\2\2\2O\3\2\2\2"+
+		"\2Q\3\2\2\2\2S\3\2\2\2\2U\3\2\2\2\2W\3\2\2\2\2Y\3\2\2\2\2[\3\2\2\2\2]"+
+		"\3\2\2\2\2_\3\2\2\2\2a\3\2\2\2\2c\3\2\2\2\2e\3\2\2\2\2g\3\2\2\2\2i\3\2"+
+		"\2\2\2k\3\2\2\2\2m\3\2\2\2\2o\3\2\2\2\2q\3\2\2\2\2s\3\2\2\2\2u\3\2\2\2"+
+		"\2w\3\2\2\2\2y\3\2\2\2\2{\3\2\2\2\2}\3\2\2\2\2\177\3\2\2\2\2\u0081\3\2"+
+		"\2\2\2\u0083\3\2\2\2\2\u0085\3\2\2\2\2\u0087\3\2\2\2\2\u0089\3\2\2\2\2"+
+		"\u008b\3\2\2\2\2\u008d\3\2\2\2\2\u008f\3\2\2\2\2\u0091\3\2\2\2\2\u0093"+
+		"\3\2\2\2\2\u0095\3\2\2\2\2\u0097\3\2\2\2\2\u0099\3\2\2\2\2\u009b\3\2\2"+
+		"\2\2\u009d\3\2\2\2\2\u009f\3\2\2\2\2\u00a1\3\2\2\2\2\u00a3\3\2\2\2\2\u00a5"+
+		"\3\2\2\2\2\u00a7\3\2\2\2\2\u00a9\3\2\2\2\2\u00ab\3\2\2\2\2\u00ad\3\2\2"+
+		"\2\2\u00af\3\2\2\2\2\u00b1\3\2\2\2\2\u00b3\3\2\2\2\2\u00b5\3\2\2\2\2\u00b7"+
+		"\3\2\2\2\2\u00b9\3\2\2\2\2\u00bb\3\2\2\2\2\u00bd\3\2\2\2\2\u00bf\3\2\2"+
+		"\2\2\u00c1\3\2\2\2\2\u00c3\3\2\2\2\2\u00c5\3\2\2\2\2\u00c7\3\2\2\2\2\u00c9"+
+		"\3\2\2\2\2\u00cb\3\2\2\2\2\u00cd\3\2\2\2\2\u00cf\3\2\2\2\2\u00d1\3\2\2"+
+		"\2\2\u00d3\3\2\2\2\2\u00d5\3\2\2\2\2\u00d7\3\2\2\2\2\u00d9\3\2\2\2\2\u00db"+
+		"\3\2\2\2\2\u00dd\3\2\2\2\2\u00df\3\2\2\2\2\u00e1\3\2\2\2\2\u00e3\3\2\2"+
+		"\2\2\u00e5\3\2\2\2\2\u00e7\3\2\2\2\2\u00e9\3\2\2\2\2\u00eb\3\2\2\2\2\u00ed"+
+		"\3\2\2\2\2\u00ef\3\2\2\2\2\u00f1\3\2\2\2\2\u00f3\3\2\2\2\2\u00f5\3\2\2"+
+		"\2\2\u00f7\3\2\2\2\2\u00f9\3\2\2\2\2\u00fb\3\2\2\2\2\u00fd\3\2\2\2\2\u00ff"+
+		"\3\2\2\2\2\u0101\3\2\2\2\2\u0103\3\2\2\2\2\u0105\3\2\2\2\2\u0107\3\2\2"+
+		"\2\2\u0109\3\2\2\2\2\u010b\3\2\2\2\2\u010d\3\2\2\2\2\u010f\3\2\2\2\2\u0111"+
+		"\3\2\2\2\2\u0113\3\2\2\2\2\u0115\3\2\2\2\2\u0117\3\2\2\2\2\u0119\3\2\2"+
+		"\2\2\u011b\3\2\2\2\2\u011d\3\2\2\2\2\u011f\3\2\2\2\2\u0121\3\2\2\2\2\u0123"+
+		"\3\2\2\2\3\u0125\3\2\2\2\5\u012f\3\2\2\2\7\u013b\3\2\2\2\t\u0144\3\2\2"+
+		"\2\13\u014d\3\2\2\2\r\u0157\3\2\2\2\17\u0162\3\2\2\2\21\u016d\3\2\2\2"+
+		"\23\u0175\3\2\2\2\25\u0181\3\2\2\2\27\u0187\3\2\2\2\31\u0191\3\2\2\2\33"+
+		"\u019a\3\2\2\2\35\u01a0\3\2\2\2\37\u01a8\3\2\2\2!\u01b0\3\2\2\2#\u01bb"+
+		"\3\2\2\2%\u01c1\3\2\2\2\'\u01c8\3\2\2\2)\u01ce\3\2\2\2+\u01d4\3\2\2\2"+
+		"-\u01db\3\2\2\2/\u01e3\3\2\2\2\61\u01ec\3\2\2\2\63\u01f4\3\2\2\2\65\u01fb"+
+		"\3\2\2\2\67\u0204\3\2\2\29\u020c\3\2\2\2;\u0214\3\2\2\2=\u021e\3\2\2\2"+
+		"?\u0227\3\2\2\2A\u0235\3\2\2\2C\u023b\3\2\2\2E\u0242\3\2\2\2G\u0250\3"+
+		"\2\2\2I\u0258\3\2\2\2K\u025e\3\2\2\2M\u0267\3\2\2\2O\u0272\3\2\2\2Q\u027c"+
+		"\3\2\2\2S\u0288\3\2\2\2U\u0292\3\2\2\2W\u02a4\3\2\2\2Y\u02ae\3\2\2\2["+
+		"\u02b7\3\2\2\2]\u02c0\3\2\2\2_\u02cb\3\2\2\2a\u02d4\3\2\2\2c\u02db\3\2"+
+		"\2\2e\u02e5\3\2\2\2g\u02f1\3\2\2\2i\u02fc\3\2\2\2k\u0303\3\2\2\2m\u030e"+
+		"\3\2\2\2o\u0318\3\2\2\2q\u031f\3\2\2\2s\u0329\3\2\2\2u\u0334\3\2\2\2w"+
+		"\u033c\3\2\2\2y\u0344\3\2\2\2{\u034f\3\2\2\2}\u0358\3\2\2\2\177\u0365"+
+		"\3\2\2\2\u0081\u0372\3\2\2\2\u0083\u0381\3\2\2\2\u0085\u0390\3\2\2\2\u0087"+
+		"\u0398\3\2\2\2\u0089\u03a2\3\2\2\2\u008b\u03ae\3\2\2\2\u008d\u03b5\3\2"+
+		"\2\2\u008f\u03bc\3\2\2\2\u0091\u03c7\3\2\2\2\u0093\u03d2\3\2\2\2\u0095"+
+		"\u03dc\3\2\2\2\u0097\u03e6\3\2\2\2\u0099\u03ee\3\2\2\2\u009b\u03fa\3\2"+
+		"\2\2\u009d\u0405\3\2\2\2\u009f\u0412\3\2\2\2\u00a1\u0421\3\2\2\2\u00a3"+
+		"\u0430\3\2\2\2\u00a5\u043a\3\2\2\2\u00a7\u0444\3\2\2\2\u00a9\u044e\3\2"+
+		"\2\2\u00ab\u0459\3\2\2\2\u00ad\u0463\3\2\2\2\u00af\u046d\3\2\2\2\u00b1"+
+		"\u0475\3\2\2\2\u00b3\u0483\3\2\2\2\u00b5\u0491\3\2\2\2\u00b7\u0499\3\2"+
+		"\2\2\u00b9\u04a1\3\2\2\2\u00bb\u04aa\3\2\2\2\u00bd\u04b3\3\2\2\2\u00bf"+
+		"\u04bb\3\2\2\2\u00c1\u04c1\3\2\2\2\u00c3\u04c7\3\2\2\2\u00c5\u04cd\3\2"+
+		"\2\2\u00c7\u04d1\3\2\2\2\u00c9\u04d6\3\2\2\2\u00cb\u04db\3\2\2\2\u00cd"+
+		"\u04e6\3\2\2\2\u00cf\u04eb\3\2\2\2\u00d1\u04f0\3\2\2\2\u00d3\u04fe\3\2"+
+		"\2\2\u00d5\u0505\3\2\2\2\u00d7\u050b\3\2\2\2\u00d9\u0511\3\2\2\2\u00db"+
+		"\u0514\3\2\2\2\u00dd\u0517\3\2\2\2\u00df\u051a\3\2\2\2\u00e1\u051d\3\2"+
+		"\2\2\u00e3\u0520\3\2\2\2\u00e5\u0523\3\2\2\2\u00e7\u0526\3\2\2\2\u00e9"+
+		"\u052a\3\2\2\2\u00eb\u052e\3\2\2\2\u00ed\u0531\3\2\2\2\u00ef\u0534\3\2"+
+		"\2\2\u00f1\u0537\3\2\2\2\u00f3\u053b\3\2\2\2\u00f5\u053f\3\2\2\2\u00f7"+
+		"\u0544\3\2\2\2\u00f9\u0548\3\2\2\2\u00fb\u054c\3\2\2\2\u00fd\u0550\3\2"+
+		"\2\2\u00ff\u0555\3\2\2\2\u0101\u0558\3\2\2\2\u0103\u055c\3\2\2\2\u0105"+
+		"\u0560\3\2\2\2\u0107\u0563\3\2\2\2\u0109\u0567\3\2\2\2\u010b\u056a\3\2"+
+		"\2\2\u010d\u056d\3\2\2\2\u010f\u0570\3\2\2\2\u0111\u0574\3\2\2\2\u0113"+
+		"\u0578\3\2\2\2\u0115\u057c\3\2\2\2\u0117\u0580\3\2\2\2\u0119\u0584\3\2"+
+		"\2\2\u011b\u0588\3\2\2\2\u011d\u058b\3\2\2\2\u011f\u058f\3\2\2\2\u0121"+
+		"\u0594\3\2\2\2\u0123\u059b\3\2\2\2\u0125\u0126\7P\2\2\u0126\u0127\7P\2"+
+		"\2\u0127\u0128\7R\2\2\u0128\u0129\7/\2\2\u0129\u012a\7N\2\2\u012a\u012b"+
+		"\7C\2\2\u012b\u012c\7D\2\2\u012c\u012d\7G\2\2\u012d\u012e\7N\2\2\u012e"+
+		"\4\3\2\2\2\u012f\u0130\7E\2\2\u0130\u0131\7F\2\2\u0131\u0132\7/\2\2\u0132"+
+		"\u0133\7C\2\2\u0133\u0134\7N\2\2\u0134\u0135\7R\2\2\u0135\u0136\7J\2\2"+
+		"\u0136\u0137\7C\2\2\u0137\u0138\7P\2\2\u0138\u0139\7W\2\2\u0139\u013a"+
+		"\7O\2\2\u013a\6\3\2\2\2\u013b\u013c\7Q\2\2\u013c\u013d\7U\2\2\u013d\u013e"+
+		"\7E\2\2\u013e\u013f\7C\2\2\u013f\u0140\7T\2\2\u0140\u0141\7/\2\2\u0141"+
+		"\u0142\7E\2\2\u0142\u0143\7L\2\2\u0143\b\3\2\2\2\u0144\u0145\7Q\2\2\u0145"+
+		"\u0146\7U\2\2\u0146\u0147\7E\2\2\u0147\u0148\7C\2\2\u0148\u0149\7T\2\2"+
+		"\u0149\u014a\7/\2\2\u014a\u014b\7T\2\2\u014b\u014c\7P\2\2\u014c\n\3\2"+
+		"\2\2\u014d\u014e\7Q\2\2\u014e\u014f\7U\2\2\u014f\u0150\7E\2\2\u0150\u0151"+
+		"\7C\2\2\u0151\u0152\7T\2\2\u0152\u0153\7/\2\2\u0153\u0154\7C\2\2\u0154"+
+		"\u0155\7U\2\2\u0155\u0156\7G\2\2\u0156\f\3\2\2\2\u0157\u0158\7V\2\2\u0158"+
+		"\u0159\7O\2\2\u0159\u015a\7/\2\2\u015a\u015b\7W\2\2\u015b\u015c\7P\2\2"+
+		"\u015c\u015d\7K\2\2\u015d\u015e\7E\2\2\u015e\u015f\7Q\2\2\u015f\u0160"+
+		"\7F\2\2\u0160\u0161\7G\2\2\u0161\16\3\2\2\2\u0162\u0163\7E\2\2\u0163\u0164"+
+		"\7F\2\2\u0164\u0165\7/\2\2\u0165\u0166\7W\2\2\u0166\u0167\7P\2\2\u0167"+
+		"\u0168\7K\2\2\u0168\u0169\7E\2\2\u0169\u016a\7Q\2\2\u016a\u016b\7F\2\2"+
+		"\u016b\u016c\7G\2\2\u016c\20\3\2\2\2\u016d\u016e\7L\2\2\u016e\u016f\7"+
+		"L\2\2\u016f\u0170\7/\2\2\u0170\u0171\7E\2\2\u0171\u0172\7J\2\2\u0172\u0173"+
+		"\7G\2\2\u0173\u0174\7O\2\2\u0174\22\3\2\2\2\u0175\u0176\7L\2\2\u0176\u0177"+
+		"\7L\2\2\u0177\u0178\7/\2\2\u0178\u0179\7E\2\2\u0179\u017a\7Q\2\2\u017a"+
+		"\u017b\7O\2\2\u017b\u017c\7R\2\2\u017c\u017d\7Q\2\2\u017d\u017e\7W\2\2"+
+		"\u017e\u017f\7P\2\2\u017f\u0180\7F\2\2\u0180\24\3\2\2\2\u0181\u0182\7"+
+		"K\2\2\u0182\u0183\7P\2\2\u0183\u0184\7/\2\2\u0184\u0185\7C\2\2\u0185\u0186"+
+		"\7U\2\2\u0186\26\3\2\2\2\u0187\u0188\7K\2\2\u0188\u0189\7P\2\2\u0189\u018a"+
+		"\7/\2\2\u018a\u018b\7D\2\2\u018b\u018c\7G\2\2\u018c\u018d\7H\2\2\u018d"+
+		"\u018e\7Q\2\2\u018e\u018f\7T\2\2\u018f\u0190\7G\2\2\u0190\30\3\2\2\2\u0191"+
+		"\u0192\7K\2\2\u0192\u0193\7P\2\2\u0193\u0194\7/\2\2\u0194\u0195\7C\2\2"+
+		"\u0195\u0196\7H\2\2\u0196\u0197\7V\2\2\u0197\u0198\7G\2\2\u0198\u0199"+
+		"\7T\2\2\u0199\32\3\2\2\2\u019a\u019b\7K\2\2\u019b\u019c\7P\2\2\u019c\u019d"+
+		"\7/\2\2\u019d\u019e\7K\2\2\u019e\u019f\7P\2\2\u019f\34\3\2\2\2\u01a0\u01a1"+
+		"\7K\2\2\u01a1\u01a2\7P\2\2\u01a2\u01a3\7/\2\2\u01a3\u01a4\7K\2\2\u01a4"+
+		"\u01a5\7P\2\2\u01a5\u01a6\7V\2\2\u01a6\u01a7\7Q\2\2\u01a7\36\3\2\2\2\u01a8"+
+		"\u01a9\7K\2\2\u01a9\u01aa\7P\2\2\u01aa\u01ab\7/\2\2\u01ab\u01ac\7Y\2\2"+
+		"\u01ac\u01ad\7K\2\2\u01ad\u01ae\7V\2\2\u01ae\u01af\7J\2\2\u01af \3\2\2"+
+		"\2\u01b0\u01b1\7K\2\2\u01b1\u01b2\7P\2\2\u01b2\u01b3\7/\2\2\u01b3\u01b4"+
+		"\7Y\2\2\u01b4\u01b5\7K\2\2\u01b5\u01b6\7V\2\2\u01b6\u01b7\7J\2\2\u01b7"+
+		"\u01b8\7Q\2\2\u01b8\u01b9\7W\2\2\u01b9\u01ba\7V\2\2\u01ba\"\3\2\2\2\u01bb"+
+		"\u01bc\7K\2\2\u01bc\u01bd\7P\2\2\u01bd\u01be\7/\2\2\u01be\u01bf\7D\2\2"+
+		"\u01bf\u01c0\7[\2\2\u01c0$\3\2\2\2\u01c1\u01c2\7K\2\2\u01c2\u01c3\7P\2"+
+		"\2\u01c3\u01c4\7/\2\2\u01c4\u01c5\7X\2\2\u01c5\u01c6\7K\2\2\u01c6\u01c7"+
+		"\7C\2\2\u01c7&\3\2\2\2\u01c8\u01c9\7K\2\2\u01c9\u01ca\7P\2\2\u01ca\u01cb"+
+		"\7/\2\2\u01cb\u01cc\7Q\2\2\u01cc\u01cd\7H\2\2\u01cd(\3\2\2\2\u01ce\u01cf"+
+		"\7K\2\2\u01cf\u01d0\7P\2\2\u01d0\u01d1\7/\2\2\u01d1\u01d2\7Q\2\2\u01d2"+
+		"\u01d3\7P\2\2\u01d3*\3\2\2\2\u01d4\u01d5\7K\2\2\u01d5\u01d6\7P\2\2\u01d6"+
+		"\u01d7\7/\2\2\u01d7\u01d8\7H\2\2\u01d8\u01d9\7Q\2\2\u01d9\u01da\7T\2\2"+
+		"\u01da,\3\2\2\2\u01db\u01dc\7K\2\2\u01dc\u01dd\7P\2\2\u01dd\u01de\7/\2"+
+		"\2\u01de\u01df\7H\2\2\u01df\u01e0\7T\2\2\u01e0\u01e1\7Q\2\2\u01e1\u01e2"+
+		"\7O\2\2\u01e2.\3\2\2\2\u01e3\u01e4\7K\2\2\u01e4\u01e5\7P\2\2\u01e5\u01e6"+
+		"\7/\2\2\u01e6\u01e7\7W\2\2\u01e7\u01e8\7P\2\2\u01e8\u01e9\7F\2\2\u01e9"+
+		"\u01ea\7G\2\2\u01ea\u01eb\7T\2\2\u01eb\60\3\2\2\2\u01ec\u01ed\7K\2\2\u01ed"+
+		"\u01ee\7P\2\2\u01ee\u01ef\7/\2\2\u01ef\u01f0\7Q\2\2\u01f0\u01f1\7X\2\2"+
+		"\u01f1\u01f2\7G\2\2\u01f2\u01f3\7T\2\2\u01f3\62\3\2\2\2\u01f4\u01f5\7"+
+		"K\2\2\u01f5\u01f6\7P\2\2\u01f6\u01f7\7/\2\2\u01f7\u01f8\7Q\2\2\u01f8\u01f9"+
+		"\7H\2\2\u01f9\u01fa\7H\2\2\u01fa\64\3\2\2\2\u01fb\u01fc\7P\2\2\u01fc\u01fd"+
+		"\7P\2\2\u01fd\u01fe\7/\2\2\u01fe\u01ff\7U\2\2\u01ff\u0200\7V\2\2\u0200"+
+		"\u0201\7C\2\2\u0201\u0202\7V\2\2\u0202\u0203\7G\2\2\u0203\66\3\2\2\2\u0204"+
+		"\u0205\7P\2\2\u0205\u0206\7P\2\2\u0206\u0207\7/\2\2\u0207\u0208\7V\2\2"+
+		"\u0208\u0209\7K\2\2\u0209\u020a\7O\2\2\u020a\u020b\7G\2\2\u020b8\3\2\2"+
+		"\2\u020c\u020d\7P\2\2\u020d\u020e\7P\2\2\u020e\u020f\7/\2\2\u020f\u0210"+
+		"\7O\2\2\u0210\u0211\7C\2\2\u0211\u0212\7U\2\2\u0212\u0213\7U\2\2\u0213"+
+		":\3\2\2\2\u0214\u0215\7P\2\2\u0215\u0216\7P\2\2\u0216\u0217\7/\2\2\u0217"+
+		"\u0218\7C\2\2\u0218\u0219\7O\2\2\u0219\u021a\7Q\2\2\u021a\u021b\7W\2\2"+
+		"\u021b\u021c\7P\2\2\u021c\u021d\7V\2\2\u021d<\3\2\2\2\u021e\u021f\7P\2"+
+		"\2\u021f\u0220\7P\2\2\u0220\u0221\7/\2\2\u0221\u0222\7O\2\2\u0222\u0223"+
+		"\7Q\2\2\u0223\u0224\7N\2\2\u0224\u0225\7C\2\2\u0225\u0226\7T\2\2\u0226"+
+		">\3\2\2\2\u0227\u0228\7P\2\2\u0228\u0229\7P\2\2\u0229\u022a\7/\2\2\u022a"+
+		"\u022b\7C\2\2\u022b\u022c\7V\2\2\u022c\u022d\7O\2\2\u022d\u022e\7Q\2\2"+
+		"\u022e\u022f\7U\2\2\u022f\u0230\7R\2\2\u0230\u0231\7J\2\2\u0231\u0232"+
+		"\7G\2\2\u0232\u0233\7T\2\2\u0233\u0234\7G\2\2\u0234@\3\2\2\2\u0235\u0236"+
+		"\7P\2\2\u0236\u0237\7P\2\2\u0237\u0238\7/\2\2\u0238\u0239\7G\2\2\u0239"+
+		"\u023a\7S\2\2\u023aB\3\2\2\2\u023b\u023c\7P\2\2\u023c\u023d\7P\2\2\u023d"+
+		"\u023e\7/\2\2\u023e\u023f\7X\2\2\u023f\u0240\7Q\2\2\u0240\u0241\7N\2\2"+
+		"\u0241D\3\2\2\2\u0242\u0243\7P\2\2\u0243\u0244\7P\2\2\u0244\u0245\7/\2"+
+		"\2\u0245\u0246\7E\2\2\u0246\u0247\7J\2\2\u0247\u0248\7G\2\2\u0248\u0249"+
+		"\7O\2\2\u0249\u024a\7G\2\2\u024a\u024b\7P\2\2\u024b\u024c\7V\2\2\u024c"+
+		"\u024d\7K\2\2\u024d\u024e\7V\2\2\u024e\u024f\7[\2\2\u024fF\3\2\2\2\u0250"+
+		"\u0251\7P\2\2\u0251\u0252\7P\2\2\u0252\u0253\7/\2\2\u0253\u0254\7V\2\2"+
+		"\u0254\u0255\7G\2\2\u0255\u0256\7O\2\2\u0256\u0257\7R\2\2\u0257H\3\2\2"+
+		"\2\u0258\u0259\7P\2\2\u0259\u025a\7P\2\2\u025a\u025b\7/\2\2\u025b\u025c"+
+		"\7R\2\2\u025c\u025d\7J\2\2\u025dJ\3\2\2\2\u025e\u025f\7P\2\2\u025f\u0260"+
+		"\7P\2\2\u0260\u0261\7/\2\2\u0261\u0262\7H\2\2\u0262\u0263\7N\2\2\u0263"+
+		"\u0264\7C\2\2\u0264\u0265\7U\2\2\u0265\u0266\7J\2\2\u0266L\3\2\2\2\u0267"+
+		"\u0268\7P\2\2\u0268\u0269\7P\2\2\u0269\u026a\7/\2\2\u026a\u026b\7I\2\2"+
+		"\u026b\u026c\7G\2\2\u026c\u026d\7P\2\2\u026d\u026e\7G\2\2\u026e\u026f"+
+		"\7T\2\2\u026f\u0270\7C\2\2\u0270\u0271\7N\2\2\u0271N\3\2\2\2\u0272\u0273"+
+		"\7P\2\2\u0273\u0274\7P\2\2\u0274\u0275\7/\2\2\u0275\u0276\7O\2\2\u0276"+
+		"\u0277\7G\2\2\u0277\u0278\7V\2\2\u0278\u0279\7J\2\2\u0279\u027a\7Q\2\2"+
+		"\u027a\u027b\7F\2\2\u027bP\3\2\2\2\u027c\u027d\7P\2\2\u027d\u027e\7P\2"+
+		"\2\u027e\u027f\7/\2\2\u027f\u0280\7R\2\2\u0280\u0281\7T\2\2\u0281\u0282"+
+		"\7G\2\2\u0282\u0283\7U\2\2\u0283\u0284\7U\2\2\u0284\u0285\7W\2\2\u0285"+
+		"\u0286\7T\2\2\u0286\u0287\7G\2\2\u0287R\3\2\2\2\u0288\u0289\7P\2\2\u0289"+
+		"\u028a\7P\2\2\u028a\u028b\7/\2\2\u028b\u028c\7E\2\2\u028c\u028d\7Q\2\2"+
+		"\u028d\u028e\7N\2\2\u028e\u028f\7W\2\2\u028f\u0290\7O\2\2\u0290\u0291"+
+		"\7P\2\2\u0291T\3\2\2\2\u0292\u0293\7P\2\2\u0293\u0294\7P\2\2\u0294\u0295"+
+		"\7/\2\2\u0295\u0296\7E\2\2\u0296\u0297\7J\2\2\u0297\u0298\7T\2\2\u0298"+
+		"\u0299\7Q\2\2\u0299\u029a\7O\2\2\u029a\u029b\7C\2\2\u029b\u029c\7V\2\2"+
+		"\u029c\u029d\7Q\2\2\u029d\u029e\7I\2\2\u029e\u029f\7T\2\2\u029f\u02a0"+
+		"\7C\2\2\u02a0\u02a1\7R\2\2\u02a1\u02a2\7J\2\2\u02a2\u02a3\7[\2\2\u02a3"+
+		"V\3\2\2\2\u02a4\u02a5\7P\2\2\u02a5\u02a6\7P\2\2\u02a6\u02a7\7/\2\2\u02a7"+
+		"\u02a8\7X\2\2\u02a8\u02a9\7C\2\2\u02a9\u02aa\7E\2\2\u02aa\u02ab\7W\2\2"+
+		"\u02ab\u02ac\7W\2\2\u02ac\u02ad\7O\2\2\u02adX\3\2\2\2\u02ae\u02af\7P\2"+
+		"\2\u02af\u02b0\7P\2\2\u02b0\u02b1\7/\2\2\u02b1\u02b2\7E\2\2\u02b2\u02b3"+
+		"\7[\2\2\u02b3\u02b4\7E\2\2\u02b4\u02b5\7N\2\2\u02b5\u02b6\7G\2\2\u02b6"+
+		"Z\3\2\2\2\u02b7\u02b8\7P\2\2\u02b8\u02b9\7P\2\2\u02b9\u02ba\7/\2\2\u02ba"+
+		"\u02bb\7V\2\2\u02bb\u02bc\7K\2\2\u02bc\u02bd\7O\2\2\u02bd\u02be\7G\2\2"+
+		"\u02be\u02bf\7U\2\2\u02bf\\\3\2\2\2\u02c0\u02c1\7P\2\2\u02c1\u02c2\7P"+
+		"\2\2\u02c2\u02c3\7/\2\2\u02c3\u02c4\7G\2\2\u02c4\u02c5\7Z\2\2\u02c5\u02c6"+
+		"\7C\2\2\u02c6\u02c7\7O\2\2\u02c7\u02c8\7R\2\2\u02c8\u02c9\7N\2\2\u02c9"+
+		"\u02ca\7G\2\2\u02ca^\3\2\2\2\u02cb\u02cc\7Q\2\2\u02cc\u02cd\7U\2\2\u02cd"+
+		"\u02ce\7E\2\2\u02ce\u02cf\7C\2\2\u02cf\u02d0\7T\2\2\u02d0\u02d1\7/\2\2"+
+		"\u02d1\u02d2\7E\2\2\u02d2\u02d3\7O\2\2\u02d3`\3\2\2\2\u02d4\u02d5\7X\2"+
+		"\2\u02d5\u02d6\7D\2\2\u02d6\u02d7\7/\2\2\u02d7\u02d8\7W\2\2\u02d8\u02d9"+
+		"\7U\2\2\u02d9\u02da\7G\2\2\u02dab\3\2\2\2\u02db\u02dc\7X\2\2\u02dc\u02dd"+
+		"\7D\2\2\u02dd\u02de\7/\2\2\u02de\u02df\7E\2\2\u02df\u02e0\7J\2\2\u02e0"+
+		"\u02e1\7C\2\2\u02e1\u02e2\7P\2\2\u02e2\u02e3\7I\2\2\u02e3\u02e4\7G\2\2"+
+		"\u02e4d\3\2\2\2\u02e5\u02e6\7X\2\2\u02e6\u02e7\7D\2\2\u02e7\u02e8\7/\2"+
+		"\2\u02e8\u02e9\7U\2\2\u02e9\u02ea\7W\2\2\u02ea\u02eb\7D\2\2\u02eb\u02ec"+
+		"\7O\2\2\u02ec\u02ed\7G\2\2\u02ed\u02ee\7T\2\2\u02ee\u02ef\7I\2\2\u02ef"+
+		"\u02f0\7G\2\2\u02f0f\3\2\2\2\u02f1\u02f2\7X\2\2\u02f2\u02f3\7D\2\2\u02f3"+
+		"\u02f4\7/\2\2\u02f4\u02f5\7U\2\2\u02f5\u02f6\7W\2\2\u02f6\u02f7\7D\2\2"+
+		"\u02f7\u02f8\7L\2\2\u02f8\u02f9\7G\2\2\u02f9\u02fa\7E\2\2\u02fa\u02fb"+
+		"\7V\2\2\u02fbh\3\2\2\2\u02fc\u02fd\7P\2\2\u02fd\u02fe\7P\2\2\u02fe\u02ff"+
+		"\7/\2\2\u02ff\u0300\7C\2\2\u0300\u0301\7F\2\2\u0301\u0302\7F\2\2\u0302"+
+		"j\3\2\2\2\u0303\u0304\7P\2\2\u0304\u0305\7P\2\2\u0305\u0306\7/\2\2\u0306"+
+		"\u0307\7O\2\2\u0307\u0308\7K\2\2\u0308\u0309\7Z\2\2\u0309\u030a\7V\2\2"+
+		"\u030a\u030b\7W\2\2\u030b\u030c\7T\2\2\u030c\u030d\7G\2\2\u030dl\3\2\2"+
+		"\2\u030e\u030f\7X\2\2\u030f\u0310\7D\2\2\u0310\u0311\7/\2\2\u0311\u0312"+
+		"\7F\2\2\u0312\u0313\7K\2\2\u0313\u0314\7N\2\2\u0314\u0315\7W\2\2\u0315"+
+		"\u0316\7V\2\2\u0316\u0317\7G\2\2\u0317n\3\2\2\2\u0318\u0319\7X\2\2\u0319"+
+		"\u031a\7D\2\2\u031a\u031b\7/\2\2\u031b\u031c\7C\2\2\u031c\u031d\7F\2\2"+
+		"\u031d\u031e\7F\2\2\u031ep\3\2\2\2\u031f\u0320\7X\2\2\u0320\u0321\7D\2"+
+		"\2\u0321\u0322\7/\2\2\u0322\u0323\7E\2\2\u0323\u0324\7J\2\2\u0324\u0325"+
+		"\7C\2\2\u0325\u0326\7T\2\2\u0326\u0327\7I\2\2\u0327\u0328\7G\2\2\u0328"+
+		"r\3\2\2\2\u0329\u032a\7X\2\2\u032a\u032b\7D\2\2\u032b\u032c\7/\2\2\u032c"+
+		"\u032d\7E\2\2\u032d\u032e\7Q\2\2\u032e\u032f\7P\2\2\u032f\u0330\7V\2\2"+
+		"\u0330\u0331\7C\2\2\u0331\u0332\7K\2\2\u0332\u0333\7P\2\2\u0333t\3\2\2"+
+		"\2\u0334\u0335\7X\2\2\u0335\u0336\7D\2\2\u0336\u0337\7/\2\2\u0337\u0338"+
+		"\7F\2\2\u0338\u0339\7T\2\2\u0339\u033a\7Q\2\2\u033a\u033b\7R\2\2\u033b"+
+		"v\3\2\2\2\u033c\u033d\7X\2\2\u033d\u033e\7D\2\2\u033e\u033f\7/\2\2\u033f"+
+		"\u0340\7H\2\2\u0340\u0341\7K\2\2\u0341\u0342\7N\2\2\u0342\u0343\7N\2\2"+
+		"\u0343x\3\2\2\2\u0344\u0345\7X\2\2\u0345\u0346\7D\2\2\u0346\u0347\7/\2"+
+		"\2\u0347\u0348\7U\2\2\u0348\u0349\7W\2\2\u0349\u034a\7U\2\2\u034a\u034b"+
+		"\7R\2\2\u034b\u034c\7G\2\2\u034c\u034d\7P\2\2\u034d\u034e\7F\2\2\u034e"+
+		"z\3\2\2\2\u034f\u0350\7X\2\2\u0350\u0351\7D\2\2\u0351\u0352\7/\2\2\u0352"+
+		"\u0353\7V\2\2\u0353\u0354\7T\2\2\u0354\u0355\7G\2\2\u0355\u0356\7C\2\2"+
+		"\u0356\u0357\7V\2\2\u0357|\3\2\2\2\u0358\u0359\7X\2\2\u0359\u035a\7D\2"+
+		"\2\u035a\u035b\7/\2\2\u035b\u035c\7C\2\2\u035c\u035d\7R\2\2\u035d\u035e"+
+		"\7R\2\2\u035e\u035f\7C\2\2\u035f\u0360\7T\2\2\u0360\u0361\7C\2\2\u0361"+
+		"\u0362\7V\2\2\u0362\u0363\7W\2\2\u0363\u0364\7U\2\2\u0364~\3\2\2\2\u0365"+
+		"\u0366\7P\2\2\u0366\u0367\7P\2\2\u0367\u0368\7/\2\2\u0368\u0369\7C\2\2"+
+		"\u0369\u036a\7R\2\2\u036a\u036b\7R\2\2\u036b\u036c\7C\2\2\u036c\u036d"+
+		"\7T\2\2\u036d\u036e\7C\2\2\u036e\u036f\7V\2\2\u036f\u0370\7W\2\2\u0370"+
+		"\u0371\7U\2\2\u0371\u0080\3\2\2\2\u0372\u0373\7X\2\2\u0373\u0374\7D\2"+
+		"\2\u0374\u0375\7/\2\2\u0375\u0376\7E\2\2\u0376\u0377\7Q\2\2\u0377\u0378"+
+		"\7P\2\2\u0378\u0379\7E\2\2\u0379\u037a\7G\2\2\u037a\u037b\7P\2\2\u037b"+
+		"\u037c\7V\2\2\u037c\u037d\7T\2\2\u037d\u037e\7C\2\2\u037e\u037f\7V\2\2"+
+		"\u037f\u0380\7G\2\2\u0380\u0082\3\2\2\2\u0381\u0382\7P\2\2\u0382\u0383"+
+		"\7P\2\2\u0383\u0384\7/\2\2\u0384\u0385\7E\2\2\u0385\u0386\7Q\2\2\u0386"+
+		"\u0387\7P\2\2\u0387\u0388\7E\2\2\u0388\u0389\7G\2\2\u0389\u038a\7P\2\2"+
+		"\u038a\u038b\7V\2\2\u038b\u038c\7T\2\2\u038c\u038d\7C\2\2\u038d\u038e"+
+		"\7V\2\2\u038e\u038f\7G\2\2\u038f\u0084\3\2\2\2\u0390\u0391\7X\2\2\u0391"+
+		"\u0392\7D\2\2\u0392\u0393\7/\2\2\u0393\u0394\7E\2\2\u0394\u0395\7Q\2\2"+
+		"\u0395\u0396\7Q\2\2\u0396\u0397\7N\2\2\u0397\u0086\3\2\2\2\u0398\u0399"+
+		"\7X\2\2\u0399\u039a\7D\2\2\u039a\u039b\7/\2\2\u039b\u039c\7F\2\2\u039c"+
+		"\u039d\7G\2\2\u039d\u039e\7I\2\2\u039e\u039f\7C\2\2\u039f\u03a0\7U\2\2"+
+		"\u03a0\u03a1\7U\2\2\u03a1\u0088\3\2\2\2\u03a2\u03a3\7X\2\2\u03a3\u03a4"+
+		"\7D\2\2\u03a4\u03a5\7/\2\2\u03a5\u03a6\7F\2\2\u03a6\u03a7\7K\2\2\u03a7"+
+		"\u03a8\7U\2\2\u03a8\u03a9\7U\2\2\u03a9\u03aa\7Q\2\2\u03aa\u03ab\7N\2\2"+
+		"\u03ab\u03ac\7X\2\2\u03ac\u03ad\7G\2\2\u03ad\u008a\3\2\2\2\u03ae\u03af"+
+		"\7X\2\2\u03af\u03b0\7D\2\2\u03b0\u03b1\7/\2\2\u03b1\u03b2\7F\2\2\u03b2"+
+		"\u03b3\7T\2\2\u03b3\u03b4\7[\2\2\u03b4\u008c\3\2\2\2\u03b5\u03b6\7P\2"+
+		"\2\u03b6\u03b7\7P\2\2\u03b7\u03b8\7/\2\2\u03b8\u03b9\7F\2\2\u03b9\u03ba"+
+		"\7T\2\2\u03ba\u03bb\7[\2\2\u03bb\u008e\3\2\2\2\u03bc\u03bd\7X\2\2\u03bd"+
+		"\u03be\7D\2\2\u03be\u03bf\7/\2\2\u03bf\u03c0\7G\2\2\u03c0\u03c1\7Z\2\2"+
+		"\u03c1\u03c2\7V\2\2\u03c2\u03c3\7T\2\2\u03c3\u03c4\7C\2\2\u03c4\u03c5"+
+		"\7E\2\2\u03c5\u03c6\7V\2\2\u03c6\u0090\3\2\2\2\u03c7\u03c8\7P\2\2\u03c8"+
+		"\u03c9\7P\2\2\u03c9\u03ca\7/\2\2\u03ca\u03cb\7G\2\2\u03cb\u03cc\7Z\2\2"+
+		"\u03cc\u03cd\7V\2\2\u03cd\u03ce\7T\2\2\u03ce\u03cf\7C\2\2\u03cf\u03d0"+
+		"\7E\2\2\u03d0\u03d1\7V\2\2\u03d1\u0092\3\2\2\2\u03d2\u03d3\7X\2\2\u03d3"+
+		"\u03d4\7D\2\2\u03d4\u03d5\7/\2\2\u03d5\u03d6\7H\2\2\u03d6\u03d7\7K\2\2"+
+		"\u03d7\u03d8\7N\2\2\u03d8\u03d9\7V\2\2\u03d9\u03da\7G\2\2\u03da\u03db"+
+		"\7T\2\2\u03db\u0094\3\2\2\2\u03dc\u03dd\7P\2\2\u03dd\u03de\7P\2\2\u03de"+
+		"\u03df\7/\2\2\u03df\u03e0\7H\2\2\u03e0\u03e1\7K\2\2\u03e1\u03e2\7N\2\2"+
+		"\u03e2\u03e3\7V\2\2\u03e3\u03e4\7G\2\2\u03e4\u03e5\7T\2\2\u03e5\u0096"+
+		"\3\2\2\2\u03e6\u03e7\7X\2\2\u03e7\u03e8\7D\2\2\u03e8\u03e9\7/\2\2\u03e9"+
+		"\u03ea\7J\2\2\u03ea\u03eb\7G\2\2\u03eb\u03ec\7C\2\2\u03ec\u03ed\7V\2\2"+
+		"\u03ed\u0098\3\2\2\2\u03ee\u03ef\7X\2\2\u03ef\u03f0\7D\2\2\u03f0\u03f1"+
+		"\7/\2\2\u03f1\u03f2\7K\2\2\u03f2\u03f3\7P\2\2\u03f3\u03f4\7E\2\2\u03f4"+
+		"\u03f5\7T\2\2\u03f5\u03f6\7G\2\2\u03f6\u03f7\7C\2\2\u03f7\u03f8\7U\2\2"+
+		"\u03f8\u03f9\7G\2\2\u03f9\u009a\3\2\2\2\u03fa\u03fb\7X\2\2\u03fb\u03fc"+
+		"\7D\2\2\u03fc\u03fd\7/\2\2\u03fd\u03fe\7K\2\2\u03fe\u03ff\7O\2\2\u03ff"+
+		"\u0400\7O\2\2\u0400\u0401\7G\2\2\u0401\u0402\7T\2\2\u0402\u0403\7U\2\2"+
+		"\u0403\u0404\7G\2\2\u0404\u009c\3\2\2\2\u0405\u0406\7X\2\2\u0406\u0407"+
+		"\7D\2\2\u0407\u0408\7/\2\2\u0408\u0409\7R\2\2\u0409\u040a\7C\2\2\u040a"+
+		"\u040b\7T\2\2\u040b\u040c\7V\2\2\u040c\u040d\7K\2\2\u040d\u040e\7V\2\2"+
+		"\u040e\u040f\7K\2\2\u040f\u0410\7Q\2\2\u0410\u0411\7P\2\2\u0411\u009e"+
+		"\3\2\2\2\u0412\u0413\7X\2\2\u0413\u0414\7D\2\2\u0414\u0415\7/\2\2\u0415"+
+		"\u0416\7R\2\2\u0416\u0417\7T\2\2\u0417\u0418\7G\2\2\u0418\u0419\7E\2\2"+
+		"\u0419\u041a\7K\2\2\u041a\u041b\7R\2\2\u041b\u041c\7K\2\2\u041c\u041d"+
+		"\7V\2\2\u041d\u041e\7C\2\2\u041e\u041f\7V\2\2\u041f\u0420\7G\2\2\u0420"+
+		"\u00a0\3\2\2\2\u0421\u0422\7P\2\2\u0422\u0423\7P\2\2\u0423\u0424\7/\2"+
+		"\2\u0424\u0425\7R\2\2\u0425\u0426\7T\2\2\u0426\u0427\7G\2\2\u0427\u0428"+
+		"\7E\2\2\u0428\u0429\7K\2\2\u0429\u042a\7R\2\2\u042a\u042b\7K\2\2\u042b"+
+		"\u042c\7V\2\2\u042c\u042d\7C\2\2\u042d\u042e\7V\2\2\u042e\u042f\7G\2\2"+
+		"\u042f\u00a2\3\2\2\2\u0430\u0431\7X\2\2\u0431\u0432\7D\2\2\u0432\u0433"+
+		"\7/\2\2\u0433\u0434\7R\2\2\u0434\u0435\7W\2\2\u0435\u0436\7T\2\2\u0436"+
+		"\u0437\7K\2\2\u0437\u0438\7H\2\2\u0438\u0439\7[\2\2\u0439\u00a4\3\2\2"+
+		"\2\u043a\u043b\7P\2\2\u043b\u043c\7P\2\2\u043c\u043d\7/\2\2\u043d\u043e"+
+		"\7R\2\2\u043e\u043f\7W\2\2\u043f\u0440\7T\2\2\u0440\u0441\7K\2\2\u0441"+
+		"\u0442\7H\2\2\u0442\u0443\7[\2\2\u0443\u00a6\3\2\2\2\u0444\u0445\7X\2"+
+		"\2\u0445\u0446\7D\2\2\u0446\u0447\7/\2\2\u0447\u0448\7S\2\2\u0448\u0449"+
+		"\7W\2\2\u0449\u044a\7G\2\2\u044a\u044b\7P\2\2\u044b\u044c\7E\2\2\u044c"+
+		"\u044d\7J\2\2\u044d\u00a8\3\2\2\2\u044e\u044f\7X\2\2\u044f\u0450\7D\2"+
+		"\2\u0450\u0451\7/\2\2\u0451\u0452\7T\2\2\u0452\u0453\7G\2\2\u0453\u0454"+
+		"\7E\2\2\u0454\u0455\7Q\2\2\u0455\u0456\7X\2\2\u0456\u0457\7G\2\2\u0457"+
+		"\u0458\7T\2\2\u0458\u00aa\3\2\2\2\u0459\u045a\7X\2\2\u045a\u045b\7D\2"+
+		"\2\u045b\u045c\7/\2\2\u045c\u045d\7T\2\2\u045d\u045e\7G\2\2\u045e\u045f"+
+		"\7O\2\2\u045f\u0460\7Q\2\2\u0460\u0461\7X\2\2\u0461\u0462\7G\2\2\u0462"+
+		"\u00ac\3\2\2\2\u0463\u0464\7P\2\2\u0464\u0465\7P\2\2\u0465\u0466\7/\2"+
+		"\2\u0466\u0467\7T\2\2\u0467\u0468\7G\2\2\u0468\u0469\7O\2\2\u0469\u046a"+
+		"\7Q\2\2\u046a\u046b\7X\2\2\u046b\u046c\7G\2\2\u046c\u00ae\3\2\2\2\u046d"+
+		"\u046e\7X\2\2\u046e\u046f\7D\2\2\u046f\u0470\7/\2\2\u0470\u0471\7U\2\2"+
+		"\u0471\u0472\7V\2\2\u0472\u0473\7K\2\2\u0473\u0474\7T\2\2\u0474\u00b0"+
+		"\3\2\2\2\u0475\u0476\7X\2\2\u0476\u0477\7D\2\2\u0477\u0478\7/\2\2\u0478"+
+		"\u0479\7U\2\2\u0479\u047a\7[\2\2\u047a\u047b\7P\2\2\u047b\u047c\7V\2\2"+
+		"\u047c\u047d\7J\2\2\u047d\u047e\7G\2\2\u047e\u047f\7U\2\2\u047f\u0480"+
+		"\7K\2\2\u0480\u0481\7\\\2\2\u0481\u0482\7G\2\2\u0482\u00b2\3\2\2\2\u0483"+
+		"\u0484\7P\2\2\u0484\u0485\7P\2\2\u0485\u0486\7/\2\2\u0486\u0487\7U\2\2"+
+		"\u0487\u0488\7[\2\2\u0488\u0489\7P\2\2\u0489\u048a\7V\2\2\u048a\u048b"+
+		"\7J\2\2\u048b\u048c\7G\2\2\u048c\u048d\7U\2\2\u048d\u048e\7K\2\2\u048e"+
+		"\u048f\7\\\2\2\u048f\u0490\7G\2\2\u0490\u00b4\3\2\2\2\u0491\u0492\7X\2"+
+		"\2\u0492\u0493\7D\2\2\u0493\u0494\7/\2\2\u0494\u0495\7Y\2\2\u0495\u0496"+
+		"\7C\2\2\u0496\u0497\7K\2\2\u0497\u0498\7V\2\2\u0498\u00b6\3\2\2\2\u0499"+
+		"\u049a\7X\2\2\u049a\u049b\7D\2\2\u049b\u049c\7/\2\2\u049c\u049d\7Y\2\2"+
+		"\u049d\u049e\7C\2\2\u049e\u049f\7U\2\2\u049f\u04a0\7J\2\2\u04a0\u00b8"+
+		"\3\2\2\2\u04a1\u04a2\7X\2\2\u04a2\u04a3\7D\2\2\u04a3\u04a4\7/\2\2\u04a4"+
+		"\u04a5\7[\2\2\u04a5\u04a6\7K\2\2\u04a6\u04a7\7G\2\2\u04a7\u04a8\7N\2\2"+
+		"\u04a8\u04a9\7F\2\2\u04a9\u00ba\3\2\2\2\u04aa\u04ab\7P\2\2\u04ab\u04ac"+
+		"\7P\2\2\u04ac\u04ad\7/\2\2\u04ad\u04ae\7[\2\2\u04ae\u04af\7K\2\2\u04af"+
+		"\u04b0\7G\2\2\u04b0\u04b1\7N\2\2\u04b1\u04b2\7F\2\2\u04b2\u00bc\3\2\2"+
+		"\2\u04b3\u04b4\7T\2\2\u04b4\u04b5\7D\2\2\u04b5\u04b6\7/\2\2\u04b6\u04b7"+
+		"\7E\2\2\u04b7\u04b8\7Q\2\2\u04b8\u04b9\7P\2\2\u04b9\u04ba\7L\2\2\u04ba"+
+		"\u00be\3\2\2\2\u04bb\u04bc\7E\2\2\u04bc\u04bd\7Q\2\2\u04bd\u04be\7N\2"+
+		"\2\u04be\u04bf\7Q\2\2\u04bf\u04c0\7P\2\2\u04c0\u00c0\3\2\2\2\u04c1\u04c2"+
+		"\7E\2\2\u04c2\u04c3\7Q\2\2\u04c3\u04c4\7O\2\2\u04c4\u04c5\7O\2\2\u04c5"+
+		"\u04c6\7C\2\2\u04c6\u00c2\3\2\2\2\u04c7\u04c8\7C\2\2\u04c8\u04c9\7R\2"+
+		"\2\u04c9\u04ca\7Q\2\2\u04ca\u04cb\7U\2\2\u04cb\u04cc\7V\2\2\u04cc\u00c4"+
+		"\3\2\2\2\u04cd\u04ce\7P\2\2\u04ce\u04cf\7G\2\2\u04cf\u04d0\7I\2\2\u04d0"+
+		"\u00c6\3\2\2\2\u04d1\u04d2\7F\2\2\u04d2\u04d3\7C\2\2\u04d3\u04d4\7U\2"+
+		"\2\u04d4\u04d5\7J\2\2\u04d5\u00c8\3\2\2\2\u04d6\u04d7\7U\2\2\u04d7\u04d8"+
+		"\7V\2\2\u04d8\u04d9\7Q\2\2\u04d9\u04da\7R\2\2\u04da\u00ca\3\2\2\2\u04db"+
+		"\u04dc\7P\2\2\u04dc\u04dd\7P\2\2\u04dd\u04de\7/\2\2\u04de\u04df\7R\2\2"+
+		"\u04df\u04e0\7G\2\2\u04e0\u04e1\7T\2\2\u04e1\u04e2\7E\2\2\u04e2\u04e3"+
+		"\7G\2\2\u04e3\u04e4\7P\2\2\u04e4\u04e5\7V\2\2\u04e5\u00cc\3\2\2\2\u04e6"+
+		"\u04e7\7N\2\2\u04e7\u04e8\7U\2\2\u04e8\u04e9\7S\2\2\u04e9\u04ea\7D\2\2"+
+		"\u04ea\u00ce\3\2\2\2\u04eb\u04ec\7T\2\2\u04ec\u04ed\7U\2\2\u04ed\u04ee"+
+		"\7S\2\2\u04ee\u04ef\7D\2\2\u04ef\u00d0\3\2\2\2\u04f0\u04f1\7P\2\2\u04f1"+
+		"\u04f2\7P\2\2\u04f2\u04f3\7/\2\2\u04f3\u04f4\7K\2\2\u04f4\u04f5\7F\2\2"+
+		"\u04f5\u04f6\7G\2\2\u04f6\u04f7\7P\2\2\u04f7\u04f8\7V\2\2\u04f8\u04f9"+
+		"\7K\2\2\u04f9\u04fa\7H\2\2\u04fa\u04fb\7K\2\2\u04fb\u04fc\7G\2\2\u04fc"+
+		"\u04fd\7T\2\2\u04fd\u00d2\3\2\2\2\u04fe\u04ff\7F\2\2\u04ff\u0500\7V\2"+
+		"\2\u0500\u0501\7/\2\2\u0501\u0502\7V\2\2\u0502\u0503\7J\2\2\u0503\u0504"+
+		"\7G\2\2\u0504\u00d4\3\2\2\2\u0505\u0506\7/\2\2\u0506\u0507\7N\2\2\u0507"+
+		"\u0508\7T\2\2\u0508\u0509\7D\2\2\u0509\u050a\7/\2\2\u050a\u00d6\3\2\2"+
+		"\2\u050b\u050c\7/\2\2\u050c\u050d\7T\2\2\u050d\u050e\7T\2\2\u050e\u050f"+
+		"\7D\2\2\u050f\u0510\7/\2\2\u0510\u00d8\3\2\2\2\u0511\u0512\7E\2\2\u0512"+
+		"\u0513\7E\2\2\u0513\u00da\3\2\2\2\u0514\u0515\7E\2\2\u0515\u0516\7F\2"+
+		"\2\u0516\u00dc\3\2\2\2\u0517\u0518\7F\2\2\u0518\u0519\7V\2\2\u0519\u00de"+
+		"\3\2\2\2\u051a\u051b\7G\2\2\u051b\u051c\7Z\2\2\u051c\u00e0\3\2\2\2\u051d"+
+		"\u051e\7H\2\2\u051e\u051f\7Y\2\2\u051f\u00e2\3\2\2\2\u0520\u0521\7K\2"+
+		"\2\u0521\u0522\7P\2\2\u0522\u00e4\3\2\2\2\u0523\u0524\7L\2\2\u0524\u0525"+
+		"\7L\2\2\u0525\u00e6\3\2\2\2\u0526\u0527\7L\2\2\u0527\u0528\7L\2\2\u0528"+
+		"\u0529\7T\2\2\u0529\u00e8\3\2\2\2\u052a\u052b\7L\2\2\u052b\u052c\7L\2"+
+		"\2\u052c\u052d\7U\2\2\u052d\u00ea\3\2\2\2\u052e\u052f\7N\2\2\u052f\u0530"+
+		"\7U\2\2\u0530\u00ec\3\2\2\2\u0531\u0532\7O\2\2\u0532\u0533\7F\2\2\u0533"+
+		"\u00ee\3\2\2\2\u0534\u0535\7P\2\2\u0535\u0536\7P\2\2\u0536\u00f0\3\2\2"+
+		"\2\u0537\u0538\7P\2\2\u0538\u0539\7P\2\2\u0539\u053a\7U\2\2\u053a\u00f2"+
+		"\3\2\2\2\u053b\u053c\7P\2\2\u053c\u053d\7P\2\2\u053d\u053e\7R\2\2\u053e"+
+		"\u00f4\3\2\2\2\u053f\u0540\7P\2\2\u0540\u0541\7P\2\2\u0541\u0542\7R\2"+
+		"\2\u0542\u0543\7U\2\2\u0543\u00f6\3\2\2\2\u0544\u0545\7R\2\2\u0545\u0546"+
+		"\7F\2\2\u0546\u0547\7V\2\2\u0547\u00f8\3\2\2\2\u0548\u0549\7R\2\2\u0549"+
+		"\u054a\7Q\2\2\u054a\u054b\7U\2\2\u054b\u00fa\3\2\2\2\u054c\u054d\7R\2"+
+		"\2\u054d\u054e\7T\2\2\u054e\u054f\7R\2\2\u054f\u00fc\3\2\2\2\u0550\u0551"+
+		"\7R\2\2\u0551\u0552\7T\2\2\u0552\u0553\7R\2\2\u0553\u0554\7&\2\2\u0554"+
+		"\u00fe\3\2\2\2\u0555\u0556\7T\2\2\u0556\u0557\7D\2\2\u0557\u0100\3\2\2"+
+		"\2\u0558\u0559\7T\2\2\u0559\u055a\7D\2\2\u055a\u055b\7T\2\2\u055b\u0102"+
+		"\3\2\2\2\u055c\u055d\7T\2\2\u055d\u055e\7D\2\2\u055e\u055f\7U\2\2\u055f"+
+		"\u0104\3\2\2\2\u0560\u0561\7T\2\2\u0561\u0562\7R\2\2\u0562\u0106\3\2\2"+
+		"\2\u0563\u0564\7U\2\2\u0564\u0565\7[\2\2\u0565\u0566\7O\2\2\u0566\u0108"+
+		"\3\2\2\2\u0567\u0568\7V\2\2\u0568\u0569\7Q\2\2\u0569\u010a\3\2\2\2\u056a"+
+		"\u056b\7W\2\2\u056b\u056c\7J\2\2\u056c\u010c\3\2\2\2\u056d\u056e\7X\2"+
+		"\2\u056e\u056f\7D\2\2\u056f\u010e\3\2\2\2\u0570\u0571\7X\2\2\u0571\u0572"+
+		"\7D\2\2\u0572\u0573\7F\2\2\u0573\u0110\3\2\2\2\u0574\u0575\7X\2\2\u0575"+
+		"\u0576\7D\2\2\u0576\u0577\7I\2\2\u0577\u0112\3\2\2\2\u0578\u0579\7X\2"+
+		"\2\u0579\u057a\7D\2\2\u057a\u057b\7P\2\2\u057b\u0114\3\2\2\2\u057c\u057d"+
+		"\7X\2\2\u057d\u057e\7D\2\2\u057e\u057f\7R\2\2\u057f\u0116\3\2\2\2\u0580"+
+		"\u0581\7X\2\2\u0581\u0582\7D\2\2\u0582\u0583\7\\\2\2\u0583\u0118\3\2\2"+
+		"\2\u0584\u0585\7Y\2\2\u0585\u0586\7F\2\2\u0586\u0587\7V\2\2\u0587\u011a"+
+		"\3\2\2\2\u0588\u0589\7Y\2\2\u0589\u058a\7R\2\2\u058a\u011c\3\2\2\2\u058b"+
+		"\u058c\7Y\2\2\u058c\u058d\7R\2\2\u058d\u058e\7&\2\2\u058e\u011e\3\2\2"+
+		"\2\u058f\u0590\7Y\2\2\u0590\u0591\7T\2\2\u0591\u0592\7D\2\2\u0592\u0120"+
+		"\3\2\2\2\u0593\u0595\t\2\2\2\u0594\u0593\3\2\2\2\u0595\u0596\3\2\2\2\u0596"+
+		"\u0594\3\2\2\2\u0596\u0597\3\2\2\2\u0597\u0598\3\2\2\2\u0598\u0599\b\u0091"+
+		"\2\2\u0599\u0122\3\2\2\2\u059a\u059c\n\3\2\2\u059b\u059a\3\2\2\2\u059c"+
+		"\u059d\3\2\2\2\u059d\u059b\3\2\2\2\u059d\u059e\3\2\2\2\u059e\u0124\3\2"+
+		"\2\2\5\2\u0596\u059d\3\b\2\2";
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+	}
+}
\ No newline at end of file
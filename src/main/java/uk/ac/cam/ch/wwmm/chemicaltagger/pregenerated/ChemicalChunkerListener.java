@@ -0,0 +1,3025 @@
+// Generated from uk/ac/cam/ch/wwmm/chemicaltagger/pregenerated/ChemicalChunker.g4 by ANTLR 4.5.3
+package uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.misc.NotNull;
+import org.antlr.v4.runtime.tree.ParseTreeListener;
+
+/**
+ * This interface defines a complete listener for a parse tree produced by
+ * {@link ChemicalChunkerParser}.
+ */
+public interface ChemicalChunkerListener extends ParseTreeListener {
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#document}.
+	 * @param ctx the parse tree
+	 */
+	void enterDocument(@NotNull ChemicalChunkerParser.DocumentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#document}.
+	 * @param ctx the parse tree
+	 */
+	void exitDocument(@NotNull ChemicalChunkerParser.DocumentContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#sentence}.
+	 * @param ctx the parse tree
+	 */
+	void enterSentence(@NotNull ChemicalChunkerParser.SentenceContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#sentence}.
+	 * @param ctx the parse tree
+	 */
+	void exitSentence(@NotNull ChemicalChunkerParser.SentenceContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#sentenceStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterSentenceStructure(@NotNull ChemicalChunkerParser.SentenceStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#sentenceStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitSentenceStructure(@NotNull ChemicalChunkerParser.SentenceStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#unmatchedPhrase}.
+	 * @param ctx the parse tree
+	 */
+	void enterUnmatchedPhrase(@NotNull ChemicalChunkerParser.UnmatchedPhraseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#unmatchedPhrase}.
+	 * @param ctx the parse tree
+	 */
+	void exitUnmatchedPhrase(@NotNull ChemicalChunkerParser.UnmatchedPhraseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#unmatchedToken}.
+	 * @param ctx the parse tree
+	 */
+	void enterUnmatchedToken(@NotNull ChemicalChunkerParser.UnmatchedTokenContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#unmatchedToken}.
+	 * @param ctx the parse tree
+	 */
+	void exitUnmatchedToken(@NotNull ChemicalChunkerParser.UnmatchedTokenContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#procedureNounPhrase}.
+	 * @param ctx the parse tree
+	 */
+	void enterProcedureNounPhrase(@NotNull ChemicalChunkerParser.ProcedureNounPhraseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#procedureNounPhrase}.
+	 * @param ctx the parse tree
+	 */
+	void exitProcedureNounPhrase(@NotNull ChemicalChunkerParser.ProcedureNounPhraseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#headingProcedure}.
+	 * @param ctx the parse tree
+	 */
+	void enterHeadingProcedure(@NotNull ChemicalChunkerParser.HeadingProcedureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#headingProcedure}.
+	 * @param ctx the parse tree
+	 */
+	void exitHeadingProcedure(@NotNull ChemicalChunkerParser.HeadingProcedureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#headingProcedureRequiringTerminator}.
+	 * @param ctx the parse tree
+	 */
+	void enterHeadingProcedureRequiringTerminator(@NotNull ChemicalChunkerParser.HeadingProcedureRequiringTerminatorContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#headingProcedureRequiringTerminator}.
+	 * @param ctx the parse tree
+	 */
+	void exitHeadingProcedureRequiringTerminator(@NotNull ChemicalChunkerParser.HeadingProcedureRequiringTerminatorContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedHeadingProcedure}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedHeadingProcedure(@NotNull ChemicalChunkerParser.BracketedHeadingProcedureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedHeadingProcedure}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedHeadingProcedure(@NotNull ChemicalChunkerParser.BracketedHeadingProcedureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#headingProcedureTerminators}.
+	 * @param ctx the parse tree
+	 */
+	void enterHeadingProcedureTerminators(@NotNull ChemicalChunkerParser.HeadingProcedureTerminatorsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#headingProcedureTerminators}.
+	 * @param ctx the parse tree
+	 */
+	void exitHeadingProcedureTerminators(@NotNull ChemicalChunkerParser.HeadingProcedureTerminatorsContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nounphrase}.
+	 * @param ctx the parse tree
+	 */
+	void enterNounphrase(@NotNull ChemicalChunkerParser.NounphraseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nounphrase}.
+	 * @param ctx the parse tree
+	 */
+	void exitNounphrase(@NotNull ChemicalChunkerParser.NounphraseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nounphraseStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterNounphraseStructure(@NotNull ChemicalChunkerParser.NounphraseStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nounphraseStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitNounphraseStructure(@NotNull ChemicalChunkerParser.NounphraseStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nounphraseStructure1}.
+	 * @param ctx the parse tree
+	 */
+	void enterNounphraseStructure1(@NotNull ChemicalChunkerParser.NounphraseStructure1Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nounphraseStructure1}.
+	 * @param ctx the parse tree
+	 */
+	void exitNounphraseStructure1(@NotNull ChemicalChunkerParser.NounphraseStructure1Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nounphraseStructure2}.
+	 * @param ctx the parse tree
+	 */
+	void enterNounphraseStructure2(@NotNull ChemicalChunkerParser.NounphraseStructure2Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nounphraseStructure2}.
+	 * @param ctx the parse tree
+	 */
+	void exitNounphraseStructure2(@NotNull ChemicalChunkerParser.NounphraseStructure2Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nounphraseContent}.
+	 * @param ctx the parse tree
+	 */
+	void enterNounphraseContent(@NotNull ChemicalChunkerParser.NounphraseContentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nounphraseContent}.
+	 * @param ctx the parse tree
+	 */
+	void exitNounphraseContent(@NotNull ChemicalChunkerParser.NounphraseContentContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#dissolvePhrase}.
+	 * @param ctx the parse tree
+	 */
+	void enterDissolvePhrase(@NotNull ChemicalChunkerParser.DissolvePhraseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#dissolvePhrase}.
+	 * @param ctx the parse tree
+	 */
+	void exitDissolvePhrase(@NotNull ChemicalChunkerParser.DissolvePhraseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#dissolveStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterDissolveStructure(@NotNull ChemicalChunkerParser.DissolveStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#dissolveStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitDissolveStructure(@NotNull ChemicalChunkerParser.DissolveStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inMolecule}.
+	 * @param ctx the parse tree
+	 */
+	void enterInMolecule(@NotNull ChemicalChunkerParser.InMoleculeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inMolecule}.
+	 * @param ctx the parse tree
+	 */
+	void exitInMolecule(@NotNull ChemicalChunkerParser.InMoleculeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#verbphrase}.
+	 * @param ctx the parse tree
+	 */
+	void enterVerbphrase(@NotNull ChemicalChunkerParser.VerbphraseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#verbphrase}.
+	 * @param ctx the parse tree
+	 */
+	void exitVerbphrase(@NotNull ChemicalChunkerParser.VerbphraseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#verbphraseStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterVerbphraseStructure(@NotNull ChemicalChunkerParser.VerbphraseStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#verbphraseStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitVerbphraseStructure(@NotNull ChemicalChunkerParser.VerbphraseStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#actionVerbStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterActionVerbStructure(@NotNull ChemicalChunkerParser.ActionVerbStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#actionVerbStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitActionVerbStructure(@NotNull ChemicalChunkerParser.ActionVerbStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#otherVerbStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterOtherVerbStructure(@NotNull ChemicalChunkerParser.OtherVerbStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#otherVerbStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitOtherVerbStructure(@NotNull ChemicalChunkerParser.OtherVerbStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#verb}.
+	 * @param ctx the parse tree
+	 */
+	void enterVerb(@NotNull ChemicalChunkerParser.VerbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#verb}.
+	 * @param ctx the parse tree
+	 */
+	void exitVerb(@NotNull ChemicalChunkerParser.VerbContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#actionVerb}.
+	 * @param ctx the parse tree
+	 */
+	void enterActionVerb(@NotNull ChemicalChunkerParser.ActionVerbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#actionVerb}.
+	 * @param ctx the parse tree
+	 */
+	void exitActionVerb(@NotNull ChemicalChunkerParser.ActionVerbContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#otherVerb}.
+	 * @param ctx the parse tree
+	 */
+	void enterOtherVerb(@NotNull ChemicalChunkerParser.OtherVerbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#otherVerb}.
+	 * @param ctx the parse tree
+	 */
+	void exitOtherVerb(@NotNull ChemicalChunkerParser.OtherVerbContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#degassMultiVerb}.
+	 * @param ctx the parse tree
+	 */
+	void enterDegassMultiVerb(@NotNull ChemicalChunkerParser.DegassMultiVerbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#degassMultiVerb}.
+	 * @param ctx the parse tree
+	 */
+	void exitDegassMultiVerb(@NotNull ChemicalChunkerParser.DegassMultiVerbContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#noun}.
+	 * @param ctx the parse tree
+	 */
+	void enterNoun(@NotNull ChemicalChunkerParser.NounContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#noun}.
+	 * @param ctx the parse tree
+	 */
+	void exitNoun(@NotNull ChemicalChunkerParser.NounContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nounStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterNounStructure(@NotNull ChemicalChunkerParser.NounStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nounStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitNounStructure(@NotNull ChemicalChunkerParser.NounStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphrase}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphrase(@NotNull ChemicalChunkerParser.PrepphraseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphrase}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphrase(@NotNull ChemicalChunkerParser.PrepphraseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphraseAtmosphere}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphraseAtmosphere(@NotNull ChemicalChunkerParser.PrepphraseAtmosphereContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphraseAtmosphere}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphraseAtmosphere(@NotNull ChemicalChunkerParser.PrepphraseAtmosphereContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphraseAtmosphereContent}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphraseAtmosphereContent(@NotNull ChemicalChunkerParser.PrepphraseAtmosphereContentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphraseAtmosphereContent}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphraseAtmosphereContent(@NotNull ChemicalChunkerParser.PrepphraseAtmosphereContentContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphraseTime}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphraseTime(@NotNull ChemicalChunkerParser.PrepphraseTimeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphraseTime}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphraseTime(@NotNull ChemicalChunkerParser.PrepphraseTimeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepPhraseTimeStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepPhraseTimeStructure(@NotNull ChemicalChunkerParser.PrepPhraseTimeStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepPhraseTimeStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepPhraseTimeStructure(@NotNull ChemicalChunkerParser.PrepPhraseTimeStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphraseTemp}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphraseTemp(@NotNull ChemicalChunkerParser.PrepphraseTempContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphraseTemp}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphraseTemp(@NotNull ChemicalChunkerParser.PrepphraseTempContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphraseTempContent}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphraseTempContent(@NotNull ChemicalChunkerParser.PrepphraseTempContentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphraseTempContent}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphraseTempContent(@NotNull ChemicalChunkerParser.PrepphraseTempContentContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphraseIN}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphraseIN(@NotNull ChemicalChunkerParser.PrepphraseINContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphraseIN}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphraseIN(@NotNull ChemicalChunkerParser.PrepphraseINContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphraseRole}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphraseRole(@NotNull ChemicalChunkerParser.PrepphraseRoleContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphraseRole}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphraseRole(@NotNull ChemicalChunkerParser.PrepphraseRoleContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphraseOther}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphraseOther(@NotNull ChemicalChunkerParser.PrepphraseOtherContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphraseOther}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphraseOther(@NotNull ChemicalChunkerParser.PrepphraseOtherContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphraseOf}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphraseOf(@NotNull ChemicalChunkerParser.PrepphraseOfContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphraseOf}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphraseOf(@NotNull ChemicalChunkerParser.PrepphraseOfContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prepphraseAfter}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrepphraseAfter(@NotNull ChemicalChunkerParser.PrepphraseAfterContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prepphraseAfter}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrepphraseAfter(@NotNull ChemicalChunkerParser.PrepphraseAfterContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#preparationphrase}.
+	 * @param ctx the parse tree
+	 */
+	void enterPreparationphrase(@NotNull ChemicalChunkerParser.PreparationphraseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#preparationphrase}.
+	 * @param ctx the parse tree
+	 */
+	void exitPreparationphrase(@NotNull ChemicalChunkerParser.PreparationphraseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#multiApparatus}.
+	 * @param ctx the parse tree
+	 */
+	void enterMultiApparatus(@NotNull ChemicalChunkerParser.MultiApparatusContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#multiApparatus}.
+	 * @param ctx the parse tree
+	 */
+	void exitMultiApparatus(@NotNull ChemicalChunkerParser.MultiApparatusContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#apparatus}.
+	 * @param ctx the parse tree
+	 */
+	void enterApparatus(@NotNull ChemicalChunkerParser.ApparatusContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#apparatus}.
+	 * @param ctx the parse tree
+	 */
+	void exitApparatus(@NotNull ChemicalChunkerParser.ApparatusContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnApp}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnApp(@NotNull ChemicalChunkerParser.NnAppContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnApp}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnApp(@NotNull ChemicalChunkerParser.NnAppContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#preapparatus}.
+	 * @param ctx the parse tree
+	 */
+	void enterPreapparatus(@NotNull ChemicalChunkerParser.PreapparatusContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#preapparatus}.
+	 * @param ctx the parse tree
+	 */
+	void exitPreapparatus(@NotNull ChemicalChunkerParser.PreapparatusContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#oscarCompound}.
+	 * @param ctx the parse tree
+	 */
+	void enterOscarCompound(@NotNull ChemicalChunkerParser.OscarCompoundContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#oscarCompound}.
+	 * @param ctx the parse tree
+	 */
+	void exitOscarCompound(@NotNull ChemicalChunkerParser.OscarCompoundContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#oscarCompoundStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterOscarCompoundStructure(@NotNull ChemicalChunkerParser.OscarCompoundStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#oscarCompoundStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitOscarCompoundStructure(@NotNull ChemicalChunkerParser.OscarCompoundStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#afterOscarCompoundStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterAfterOscarCompoundStructure(@NotNull ChemicalChunkerParser.AfterOscarCompoundStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#afterOscarCompoundStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitAfterOscarCompoundStructure(@NotNull ChemicalChunkerParser.AfterOscarCompoundStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#molecule}.
+	 * @param ctx the parse tree
+	 */
+	void enterMolecule(@NotNull ChemicalChunkerParser.MoleculeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#molecule}.
+	 * @param ctx the parse tree
+	 */
+	void exitMolecule(@NotNull ChemicalChunkerParser.MoleculeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#moleculeamount}.
+	 * @param ctx the parse tree
+	 */
+	void enterMoleculeamount(@NotNull ChemicalChunkerParser.MoleculeamountContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#moleculeamount}.
+	 * @param ctx the parse tree
+	 */
+	void exitMoleculeamount(@NotNull ChemicalChunkerParser.MoleculeamountContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#moleculeamount3}.
+	 * @param ctx the parse tree
+	 */
+	void enterMoleculeamount3(@NotNull ChemicalChunkerParser.Moleculeamount3Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#moleculeamount3}.
+	 * @param ctx the parse tree
+	 */
+	void exitMoleculeamount3(@NotNull ChemicalChunkerParser.Moleculeamount3Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#moleculeamount1}.
+	 * @param ctx the parse tree
+	 */
+	void enterMoleculeamount1(@NotNull ChemicalChunkerParser.Moleculeamount1Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#moleculeamount1}.
+	 * @param ctx the parse tree
+	 */
+	void exitMoleculeamount1(@NotNull ChemicalChunkerParser.Moleculeamount1Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#moleculeamount2}.
+	 * @param ctx the parse tree
+	 */
+	void enterMoleculeamount2(@NotNull ChemicalChunkerParser.Moleculeamount2Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#moleculeamount2}.
+	 * @param ctx the parse tree
+	 */
+	void exitMoleculeamount2(@NotNull ChemicalChunkerParser.Moleculeamount2Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#afterCompoundCitationOrQuantity}.
+	 * @param ctx the parse tree
+	 */
+	void enterAfterCompoundCitationOrQuantity(@NotNull ChemicalChunkerParser.AfterCompoundCitationOrQuantityContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#afterCompoundCitationOrQuantity}.
+	 * @param ctx the parse tree
+	 */
+	void exitAfterCompoundCitationOrQuantity(@NotNull ChemicalChunkerParser.AfterCompoundCitationOrQuantityContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#unnamedmolecule}.
+	 * @param ctx the parse tree
+	 */
+	void enterUnnamedmolecule(@NotNull ChemicalChunkerParser.UnnamedmoleculeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#unnamedmolecule}.
+	 * @param ctx the parse tree
+	 */
+	void exitUnnamedmolecule(@NotNull ChemicalChunkerParser.UnnamedmoleculeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#unnamedmoleculeDescription}.
+	 * @param ctx the parse tree
+	 */
+	void enterUnnamedmoleculeDescription(@NotNull ChemicalChunkerParser.UnnamedmoleculeDescriptionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#unnamedmoleculeDescription}.
+	 * @param ctx the parse tree
+	 */
+	void exitUnnamedmoleculeDescription(@NotNull ChemicalChunkerParser.UnnamedmoleculeDescriptionContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#unnamedmoleculeDescriptionStart}.
+	 * @param ctx the parse tree
+	 */
+	void enterUnnamedmoleculeDescriptionStart(@NotNull ChemicalChunkerParser.UnnamedmoleculeDescriptionStartContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#unnamedmoleculeDescriptionStart}.
+	 * @param ctx the parse tree
+	 */
+	void exitUnnamedmoleculeDescriptionStart(@NotNull ChemicalChunkerParser.UnnamedmoleculeDescriptionStartContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#quantityOf}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuantityOf(@NotNull ChemicalChunkerParser.QuantityOfContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#quantityOf}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuantityOf(@NotNull ChemicalChunkerParser.QuantityOfContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#potentialUnnamedMoleculeAmount1}.
+	 * @param ctx the parse tree
+	 */
+	void enterPotentialUnnamedMoleculeAmount1(@NotNull ChemicalChunkerParser.PotentialUnnamedMoleculeAmount1Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#potentialUnnamedMoleculeAmount1}.
+	 * @param ctx the parse tree
+	 */
+	void exitPotentialUnnamedMoleculeAmount1(@NotNull ChemicalChunkerParser.PotentialUnnamedMoleculeAmount1Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#potentialUnnamedMoleculeAmount2}.
+	 * @param ctx the parse tree
+	 */
+	void enterPotentialUnnamedMoleculeAmount2(@NotNull ChemicalChunkerParser.PotentialUnnamedMoleculeAmount2Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#potentialUnnamedMoleculeAmount2}.
+	 * @param ctx the parse tree
+	 */
+	void exitPotentialUnnamedMoleculeAmount2(@NotNull ChemicalChunkerParser.PotentialUnnamedMoleculeAmount2Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#definiteUnnamedMolecule}.
+	 * @param ctx the parse tree
+	 */
+	void enterDefiniteUnnamedMolecule(@NotNull ChemicalChunkerParser.DefiniteUnnamedMoleculeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#definiteUnnamedMolecule}.
+	 * @param ctx the parse tree
+	 */
+	void exitDefiniteUnnamedMolecule(@NotNull ChemicalChunkerParser.DefiniteUnnamedMoleculeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#definiteUnnamedMoleculeStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterDefiniteUnnamedMoleculeStructure(@NotNull ChemicalChunkerParser.DefiniteUnnamedMoleculeStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#definiteUnnamedMoleculeStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitDefiniteUnnamedMoleculeStructure(@NotNull ChemicalChunkerParser.DefiniteUnnamedMoleculeStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#potentialUnnamedMolecule}.
+	 * @param ctx the parse tree
+	 */
+	void enterPotentialUnnamedMolecule(@NotNull ChemicalChunkerParser.PotentialUnnamedMoleculeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#potentialUnnamedMolecule}.
+	 * @param ctx the parse tree
+	 */
+	void exitPotentialUnnamedMolecule(@NotNull ChemicalChunkerParser.PotentialUnnamedMoleculeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#potentialUnnamedMoleculeStructureNN}.
+	 * @param ctx the parse tree
+	 */
+	void enterPotentialUnnamedMoleculeStructureNN(@NotNull ChemicalChunkerParser.PotentialUnnamedMoleculeStructureNNContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#potentialUnnamedMoleculeStructureNN}.
+	 * @param ctx the parse tree
+	 */
+	void exitPotentialUnnamedMoleculeStructureNN(@NotNull ChemicalChunkerParser.PotentialUnnamedMoleculeStructureNNContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#numericReferenceOrQuantity}.
+	 * @param ctx the parse tree
+	 */
+	void enterNumericReferenceOrQuantity(@NotNull ChemicalChunkerParser.NumericReferenceOrQuantityContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#numericReferenceOrQuantity}.
+	 * @param ctx the parse tree
+	 */
+	void exitNumericReferenceOrQuantity(@NotNull ChemicalChunkerParser.NumericReferenceOrQuantityContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#asAstate}.
+	 * @param ctx the parse tree
+	 */
+	void enterAsAstate(@NotNull ChemicalChunkerParser.AsAstateContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#asAstate}.
+	 * @param ctx the parse tree
+	 */
+	void exitAsAstate(@NotNull ChemicalChunkerParser.AsAstateContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#alphanumericOrIdentifierCompoundReference}.
+	 * @param ctx the parse tree
+	 */
+	void enterAlphanumericOrIdentifierCompoundReference(@NotNull ChemicalChunkerParser.AlphanumericOrIdentifierCompoundReferenceContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#alphanumericOrIdentifierCompoundReference}.
+	 * @param ctx the parse tree
+	 */
+	void exitAlphanumericOrIdentifierCompoundReference(@NotNull ChemicalChunkerParser.AlphanumericOrIdentifierCompoundReferenceContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#numberCompoundReference}.
+	 * @param ctx the parse tree
+	 */
+	void enterNumberCompoundReference(@NotNull ChemicalChunkerParser.NumberCompoundReferenceContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#numberCompoundReference}.
+	 * @param ctx the parse tree
+	 */
+	void exitNumberCompoundReference(@NotNull ChemicalChunkerParser.NumberCompoundReferenceContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#numericOrIdentifierCompoundReference}.
+	 * @param ctx the parse tree
+	 */
+	void enterNumericOrIdentifierCompoundReference(@NotNull ChemicalChunkerParser.NumericOrIdentifierCompoundReferenceContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#numericOrIdentifierCompoundReference}.
+	 * @param ctx the parse tree
+	 */
+	void exitNumericOrIdentifierCompoundReference(@NotNull ChemicalChunkerParser.NumericOrIdentifierCompoundReferenceContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#captionLabel}.
+	 * @param ctx the parse tree
+	 */
+	void enterCaptionLabel(@NotNull ChemicalChunkerParser.CaptionLabelContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#captionLabel}.
+	 * @param ctx the parse tree
+	 */
+	void exitCaptionLabel(@NotNull ChemicalChunkerParser.CaptionLabelContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#captionLabelContent}.
+	 * @param ctx the parse tree
+	 */
+	void enterCaptionLabelContent(@NotNull ChemicalChunkerParser.CaptionLabelContentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#captionLabelContent}.
+	 * @param ctx the parse tree
+	 */
+	void exitCaptionLabelContent(@NotNull ChemicalChunkerParser.CaptionLabelContentContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#quantity}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuantity(@NotNull ChemicalChunkerParser.QuantityContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#quantity}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuantity(@NotNull ChemicalChunkerParser.QuantityContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#quantity1Node}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuantity1Node(@NotNull ChemicalChunkerParser.Quantity1NodeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#quantity1Node}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuantity1Node(@NotNull ChemicalChunkerParser.Quantity1NodeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#quantity1}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuantity1(@NotNull ChemicalChunkerParser.Quantity1Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#quantity1}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuantity1(@NotNull ChemicalChunkerParser.Quantity1Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#quantity2Node}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuantity2Node(@NotNull ChemicalChunkerParser.Quantity2NodeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#quantity2Node}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuantity2Node(@NotNull ChemicalChunkerParser.Quantity2NodeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#quantity2}.
+	 * @param ctx the parse tree
+	 */
+	void enterQuantity2(@NotNull ChemicalChunkerParser.Quantity2Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#quantity2}.
+	 * @param ctx the parse tree
+	 */
+	void exitQuantity2(@NotNull ChemicalChunkerParser.Quantity2Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#measurements}.
+	 * @param ctx the parse tree
+	 */
+	void enterMeasurements(@NotNull ChemicalChunkerParser.MeasurementsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#measurements}.
+	 * @param ctx the parse tree
+	 */
+	void exitMeasurements(@NotNull ChemicalChunkerParser.MeasurementsContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#multiple}.
+	 * @param ctx the parse tree
+	 */
+	void enterMultiple(@NotNull ChemicalChunkerParser.MultipleContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#multiple}.
+	 * @param ctx the parse tree
+	 */
+	void exitMultiple(@NotNull ChemicalChunkerParser.MultipleContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#measurementtypes}.
+	 * @param ctx the parse tree
+	 */
+	void enterMeasurementtypes(@NotNull ChemicalChunkerParser.MeasurementtypesContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#measurementtypes}.
+	 * @param ctx the parse tree
+	 */
+	void exitMeasurementtypes(@NotNull ChemicalChunkerParser.MeasurementtypesContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#molar}.
+	 * @param ctx the parse tree
+	 */
+	void enterMolar(@NotNull ChemicalChunkerParser.MolarContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#molar}.
+	 * @param ctx the parse tree
+	 */
+	void exitMolar(@NotNull ChemicalChunkerParser.MolarContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#amount}.
+	 * @param ctx the parse tree
+	 */
+	void enterAmount(@NotNull ChemicalChunkerParser.AmountContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#amount}.
+	 * @param ctx the parse tree
+	 */
+	void exitAmount(@NotNull ChemicalChunkerParser.AmountContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#mass}.
+	 * @param ctx the parse tree
+	 */
+	void enterMass(@NotNull ChemicalChunkerParser.MassContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#mass}.
+	 * @param ctx the parse tree
+	 */
+	void exitMass(@NotNull ChemicalChunkerParser.MassContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#volume}.
+	 * @param ctx the parse tree
+	 */
+	void enterVolume(@NotNull ChemicalChunkerParser.VolumeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#volume}.
+	 * @param ctx the parse tree
+	 */
+	void exitVolume(@NotNull ChemicalChunkerParser.VolumeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#logHydrogenActivity}.
+	 * @param ctx the parse tree
+	 */
+	void enterLogHydrogenActivity(@NotNull ChemicalChunkerParser.LogHydrogenActivityContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#logHydrogenActivity}.
+	 * @param ctx the parse tree
+	 */
+	void exitLogHydrogenActivity(@NotNull ChemicalChunkerParser.LogHydrogenActivityContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#equivalent}.
+	 * @param ctx the parse tree
+	 */
+	void enterEquivalent(@NotNull ChemicalChunkerParser.EquivalentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#equivalent}.
+	 * @param ctx the parse tree
+	 */
+	void exitEquivalent(@NotNull ChemicalChunkerParser.EquivalentContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#yield}.
+	 * @param ctx the parse tree
+	 */
+	void enterYield(@NotNull ChemicalChunkerParser.YieldContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#yield}.
+	 * @param ctx the parse tree
+	 */
+	void exitYield(@NotNull ChemicalChunkerParser.YieldContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#yield1}.
+	 * @param ctx the parse tree
+	 */
+	void enterYield1(@NotNull ChemicalChunkerParser.Yield1Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#yield1}.
+	 * @param ctx the parse tree
+	 */
+	void exitYield1(@NotNull ChemicalChunkerParser.Yield1Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#yield2}.
+	 * @param ctx the parse tree
+	 */
+	void enterYield2(@NotNull ChemicalChunkerParser.Yield2Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#yield2}.
+	 * @param ctx the parse tree
+	 */
+	void exitYield2(@NotNull ChemicalChunkerParser.Yield2Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#percent}.
+	 * @param ctx the parse tree
+	 */
+	void enterPercent(@NotNull ChemicalChunkerParser.PercentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#percent}.
+	 * @param ctx the parse tree
+	 */
+	void exitPercent(@NotNull ChemicalChunkerParser.PercentContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContent}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContent(@NotNull ChemicalChunkerParser.BracketedContentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContent}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContent(@NotNull ChemicalChunkerParser.BracketedContentContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContent1}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContent1(@NotNull ChemicalChunkerParser.BracketedContent1Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContent1}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContent1(@NotNull ChemicalChunkerParser.BracketedContent1Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContent2}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContent2(@NotNull ChemicalChunkerParser.BracketedContent2Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContent2}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContent2(@NotNull ChemicalChunkerParser.BracketedContent2Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContent3}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContent3(@NotNull ChemicalChunkerParser.BracketedContent3Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContent3}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContent3(@NotNull ChemicalChunkerParser.BracketedContent3Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContentContents}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContentContents(@NotNull ChemicalChunkerParser.BracketedContentContentsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContentContents}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContentContents(@NotNull ChemicalChunkerParser.BracketedContentContentsContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMol}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContentInMol(@NotNull ChemicalChunkerParser.BracketedContentInMolContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMol}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContentInMol(@NotNull ChemicalChunkerParser.BracketedContentInMolContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMolStructure1}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContentInMolStructure1(@NotNull ChemicalChunkerParser.BracketedContentInMolStructure1Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMolStructure1}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContentInMolStructure1(@NotNull ChemicalChunkerParser.BracketedContentInMolStructure1Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMolStructure2}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContentInMolStructure2(@NotNull ChemicalChunkerParser.BracketedContentInMolStructure2Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMolStructure2}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContentInMolStructure2(@NotNull ChemicalChunkerParser.BracketedContentInMolStructure2Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMolContents1}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContentInMolContents1(@NotNull ChemicalChunkerParser.BracketedContentInMolContents1Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMolContents1}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContentInMolContents1(@NotNull ChemicalChunkerParser.BracketedContentInMolContents1Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMolContents2}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContentInMolContents2(@NotNull ChemicalChunkerParser.BracketedContentInMolContents2Context ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMolContents2}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContentInMolContents2(@NotNull ChemicalChunkerParser.BracketedContentInMolContents2Context ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMolContentsAlwaysAllowed}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedContentInMolContentsAlwaysAllowed(@NotNull ChemicalChunkerParser.BracketedContentInMolContentsAlwaysAllowedContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedContentInMolContentsAlwaysAllowed}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedContentInMolContentsAlwaysAllowed(@NotNull ChemicalChunkerParser.BracketedContentInMolContentsAlwaysAllowedContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#fromProcedure}.
+	 * @param ctx the parse tree
+	 */
+	void enterFromProcedure(@NotNull ChemicalChunkerParser.FromProcedureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#fromProcedure}.
+	 * @param ctx the parse tree
+	 */
+	void exitFromProcedure(@NotNull ChemicalChunkerParser.FromProcedureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#procedureNode}.
+	 * @param ctx the parse tree
+	 */
+	void enterProcedureNode(@NotNull ChemicalChunkerParser.ProcedureNodeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#procedureNode}.
+	 * @param ctx the parse tree
+	 */
+	void exitProcedureNode(@NotNull ChemicalChunkerParser.ProcedureNodeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#method}.
+	 * @param ctx the parse tree
+	 */
+	void enterMethod(@NotNull ChemicalChunkerParser.MethodContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#method}.
+	 * @param ctx the parse tree
+	 */
+	void exitMethod(@NotNull ChemicalChunkerParser.MethodContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#submethod}.
+	 * @param ctx the parse tree
+	 */
+	void enterSubmethod(@NotNull ChemicalChunkerParser.SubmethodContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#submethod}.
+	 * @param ctx the parse tree
+	 */
+	void exitSubmethod(@NotNull ChemicalChunkerParser.SubmethodContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#referenceToExampleCompound}.
+	 * @param ctx the parse tree
+	 */
+	void enterReferenceToExampleCompound(@NotNull ChemicalChunkerParser.ReferenceToExampleCompoundContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#referenceToExampleCompound}.
+	 * @param ctx the parse tree
+	 */
+	void exitReferenceToExampleCompound(@NotNull ChemicalChunkerParser.ReferenceToExampleCompoundContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#advAdj}.
+	 * @param ctx the parse tree
+	 */
+	void enterAdvAdj(@NotNull ChemicalChunkerParser.AdvAdjContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#advAdj}.
+	 * @param ctx the parse tree
+	 */
+	void exitAdvAdj(@NotNull ChemicalChunkerParser.AdvAdjContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#range}.
+	 * @param ctx the parse tree
+	 */
+	void enterRange(@NotNull ChemicalChunkerParser.RangeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#range}.
+	 * @param ctx the parse tree
+	 */
+	void exitRange(@NotNull ChemicalChunkerParser.RangeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#cycles}.
+	 * @param ctx the parse tree
+	 */
+	void enterCycles(@NotNull ChemicalChunkerParser.CyclesContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#cycles}.
+	 * @param ctx the parse tree
+	 */
+	void exitCycles(@NotNull ChemicalChunkerParser.CyclesContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#cycleStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterCycleStructure(@NotNull ChemicalChunkerParser.CycleStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#cycleStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitCycleStructure(@NotNull ChemicalChunkerParser.CycleStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#dashNN}.
+	 * @param ctx the parse tree
+	 */
+	void enterDashNN(@NotNull ChemicalChunkerParser.DashNNContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#dashNN}.
+	 * @param ctx the parse tree
+	 */
+	void exitDashNN(@NotNull ChemicalChunkerParser.DashNNContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#ratioOrBracketedRatio}.
+	 * @param ctx the parse tree
+	 */
+	void enterRatioOrBracketedRatio(@NotNull ChemicalChunkerParser.RatioOrBracketedRatioContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#ratioOrBracketedRatio}.
+	 * @param ctx the parse tree
+	 */
+	void exitRatioOrBracketedRatio(@NotNull ChemicalChunkerParser.RatioOrBracketedRatioContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#ratio}.
+	 * @param ctx the parse tree
+	 */
+	void enterRatio(@NotNull ChemicalChunkerParser.RatioContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#ratio}.
+	 * @param ctx the parse tree
+	 */
+	void exitRatio(@NotNull ChemicalChunkerParser.RatioContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#cdRatio}.
+	 * @param ctx the parse tree
+	 */
+	void enterCdRatio(@NotNull ChemicalChunkerParser.CdRatioContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#cdRatio}.
+	 * @param ctx the parse tree
+	 */
+	void exitCdRatio(@NotNull ChemicalChunkerParser.CdRatioContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#cdNotFollowedByQuantityUnits}.
+	 * @param ctx the parse tree
+	 */
+	void enterCdNotFollowedByQuantityUnits(@NotNull ChemicalChunkerParser.CdNotFollowedByQuantityUnitsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#cdNotFollowedByQuantityUnits}.
+	 * @param ctx the parse tree
+	 */
+	void exitCdNotFollowedByQuantityUnits(@NotNull ChemicalChunkerParser.CdNotFollowedByQuantityUnitsContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#citation}.
+	 * @param ctx the parse tree
+	 */
+	void enterCitation(@NotNull ChemicalChunkerParser.CitationContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#citation}.
+	 * @param ctx the parse tree
+	 */
+	void exitCitation(@NotNull ChemicalChunkerParser.CitationContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#citationStructure}.
+	 * @param ctx the parse tree
+	 */
+	void enterCitationStructure(@NotNull ChemicalChunkerParser.CitationStructureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#citationStructure}.
+	 * @param ctx the parse tree
+	 */
+	void exitCitationStructure(@NotNull ChemicalChunkerParser.CitationStructureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#citationContent}.
+	 * @param ctx the parse tree
+	 */
+	void enterCitationContent(@NotNull ChemicalChunkerParser.CitationContentContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#citationContent}.
+	 * @param ctx the parse tree
+	 */
+	void exitCitationContent(@NotNull ChemicalChunkerParser.CitationContentContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#allIdentifierTypes}.
+	 * @param ctx the parse tree
+	 */
+	void enterAllIdentifierTypes(@NotNull ChemicalChunkerParser.AllIdentifierTypesContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#allIdentifierTypes}.
+	 * @param ctx the parse tree
+	 */
+	void exitAllIdentifierTypes(@NotNull ChemicalChunkerParser.AllIdentifierTypesContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#allIdentifierTypesOtherThanCD}.
+	 * @param ctx the parse tree
+	 */
+	void enterAllIdentifierTypesOtherThanCD(@NotNull ChemicalChunkerParser.AllIdentifierTypesOtherThanCDContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#allIdentifierTypesOtherThanCD}.
+	 * @param ctx the parse tree
+	 */
+	void exitAllIdentifierTypesOtherThanCD(@NotNull ChemicalChunkerParser.AllIdentifierTypesOtherThanCDContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#numericOrBracketedNumeric}.
+	 * @param ctx the parse tree
+	 */
+	void enterNumericOrBracketedNumeric(@NotNull ChemicalChunkerParser.NumericOrBracketedNumericContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#numericOrBracketedNumeric}.
+	 * @param ctx the parse tree
+	 */
+	void exitNumericOrBracketedNumeric(@NotNull ChemicalChunkerParser.NumericOrBracketedNumericContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedNumeric}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedNumeric(@NotNull ChemicalChunkerParser.BracketedNumericContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedNumeric}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedNumeric(@NotNull ChemicalChunkerParser.BracketedNumericContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#squareBracketedReference}.
+	 * @param ctx the parse tree
+	 */
+	void enterSquareBracketedReference(@NotNull ChemicalChunkerParser.SquareBracketedReferenceContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#squareBracketedReference}.
+	 * @param ctx the parse tree
+	 */
+	void exitSquareBracketedReference(@NotNull ChemicalChunkerParser.SquareBracketedReferenceContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#identifierOrBracketedIdentifier}.
+	 * @param ctx the parse tree
+	 */
+	void enterIdentifierOrBracketedIdentifier(@NotNull ChemicalChunkerParser.IdentifierOrBracketedIdentifierContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#identifierOrBracketedIdentifier}.
+	 * @param ctx the parse tree
+	 */
+	void exitIdentifierOrBracketedIdentifier(@NotNull ChemicalChunkerParser.IdentifierOrBracketedIdentifierContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#bracketedIdentifier}.
+	 * @param ctx the parse tree
+	 */
+	void enterBracketedIdentifier(@NotNull ChemicalChunkerParser.BracketedIdentifierContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#bracketedIdentifier}.
+	 * @param ctx the parse tree
+	 */
+	void exitBracketedIdentifier(@NotNull ChemicalChunkerParser.BracketedIdentifierContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#adj}.
+	 * @param ctx the parse tree
+	 */
+	void enterAdj(@NotNull ChemicalChunkerParser.AdjContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#adj}.
+	 * @param ctx the parse tree
+	 */
+	void exitAdj(@NotNull ChemicalChunkerParser.AdjContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#adv}.
+	 * @param ctx the parse tree
+	 */
+	void enterAdv(@NotNull ChemicalChunkerParser.AdvContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#adv}.
+	 * @param ctx the parse tree
+	 */
+	void exitAdv(@NotNull ChemicalChunkerParser.AdvContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#clause}.
+	 * @param ctx the parse tree
+	 */
+	void enterClause(@NotNull ChemicalChunkerParser.ClauseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#clause}.
+	 * @param ctx the parse tree
+	 */
+	void exitClause(@NotNull ChemicalChunkerParser.ClauseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#conjunction}.
+	 * @param ctx the parse tree
+	 */
+	void enterConjunction(@NotNull ChemicalChunkerParser.ConjunctionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#conjunction}.
+	 * @param ctx the parse tree
+	 */
+	void exitConjunction(@NotNull ChemicalChunkerParser.ConjunctionContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inAll}.
+	 * @param ctx the parse tree
+	 */
+	void enterInAll(@NotNull ChemicalChunkerParser.InAllContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inAll}.
+	 * @param ctx the parse tree
+	 */
+	void exitInAll(@NotNull ChemicalChunkerParser.InAllContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inMost}.
+	 * @param ctx the parse tree
+	 */
+	void enterInMost(@NotNull ChemicalChunkerParser.InMostContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inMost}.
+	 * @param ctx the parse tree
+	 */
+	void exitInMost(@NotNull ChemicalChunkerParser.InMostContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#numeric}.
+	 * @param ctx the parse tree
+	 */
+	void enterNumeric(@NotNull ChemicalChunkerParser.NumericContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#numeric}.
+	 * @param ctx the parse tree
+	 */
+	void exitNumeric(@NotNull ChemicalChunkerParser.NumericContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnplabel}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnplabel(@NotNull ChemicalChunkerParser.NnplabelContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnplabel}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnplabel(@NotNull ChemicalChunkerParser.NnplabelContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#cdAlphanum}.
+	 * @param ctx the parse tree
+	 */
+	void enterCdAlphanum(@NotNull ChemicalChunkerParser.CdAlphanumContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#cdAlphanum}.
+	 * @param ctx the parse tree
+	 */
+	void exitCdAlphanum(@NotNull ChemicalChunkerParser.CdAlphanumContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#oscarcj}.
+	 * @param ctx the parse tree
+	 */
+	void enterOscarcj(@NotNull ChemicalChunkerParser.OscarcjContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#oscarcj}.
+	 * @param ctx the parse tree
+	 */
+	void exitOscarcj(@NotNull ChemicalChunkerParser.OscarcjContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#oscarrn}.
+	 * @param ctx the parse tree
+	 */
+	void enterOscarrn(@NotNull ChemicalChunkerParser.OscarrnContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#oscarrn}.
+	 * @param ctx the parse tree
+	 */
+	void exitOscarrn(@NotNull ChemicalChunkerParser.OscarrnContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#oscarase}.
+	 * @param ctx the parse tree
+	 */
+	void enterOscarase(@NotNull ChemicalChunkerParser.OscaraseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#oscarase}.
+	 * @param ctx the parse tree
+	 */
+	void exitOscarase(@NotNull ChemicalChunkerParser.OscaraseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#tmunicode}.
+	 * @param ctx the parse tree
+	 */
+	void enterTmunicode(@NotNull ChemicalChunkerParser.TmunicodeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#tmunicode}.
+	 * @param ctx the parse tree
+	 */
+	void exitTmunicode(@NotNull ChemicalChunkerParser.TmunicodeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#cdunicode}.
+	 * @param ctx the parse tree
+	 */
+	void enterCdunicode(@NotNull ChemicalChunkerParser.CdunicodeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#cdunicode}.
+	 * @param ctx the parse tree
+	 */
+	void exitCdunicode(@NotNull ChemicalChunkerParser.CdunicodeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#jjchem}.
+	 * @param ctx the parse tree
+	 */
+	void enterJjchem(@NotNull ChemicalChunkerParser.JjchemContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#jjchem}.
+	 * @param ctx the parse tree
+	 */
+	void exitJjchem(@NotNull ChemicalChunkerParser.JjchemContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#jjcomp}.
+	 * @param ctx the parse tree
+	 */
+	void enterJjcomp(@NotNull ChemicalChunkerParser.JjcompContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#jjcomp}.
+	 * @param ctx the parse tree
+	 */
+	void exitJjcomp(@NotNull ChemicalChunkerParser.JjcompContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inas}.
+	 * @param ctx the parse tree
+	 */
+	void enterInas(@NotNull ChemicalChunkerParser.InasContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inas}.
+	 * @param ctx the parse tree
+	 */
+	void exitInas(@NotNull ChemicalChunkerParser.InasContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inbefore}.
+	 * @param ctx the parse tree
+	 */
+	void enterInbefore(@NotNull ChemicalChunkerParser.InbeforeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inbefore}.
+	 * @param ctx the parse tree
+	 */
+	void exitInbefore(@NotNull ChemicalChunkerParser.InbeforeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inafter}.
+	 * @param ctx the parse tree
+	 */
+	void enterInafter(@NotNull ChemicalChunkerParser.InafterContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inafter}.
+	 * @param ctx the parse tree
+	 */
+	void exitInafter(@NotNull ChemicalChunkerParser.InafterContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inin}.
+	 * @param ctx the parse tree
+	 */
+	void enterInin(@NotNull ChemicalChunkerParser.IninContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inin}.
+	 * @param ctx the parse tree
+	 */
+	void exitInin(@NotNull ChemicalChunkerParser.IninContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#ininto}.
+	 * @param ctx the parse tree
+	 */
+	void enterIninto(@NotNull ChemicalChunkerParser.InintoContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#ininto}.
+	 * @param ctx the parse tree
+	 */
+	void exitIninto(@NotNull ChemicalChunkerParser.InintoContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inwith}.
+	 * @param ctx the parse tree
+	 */
+	void enterInwith(@NotNull ChemicalChunkerParser.InwithContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inwith}.
+	 * @param ctx the parse tree
+	 */
+	void exitInwith(@NotNull ChemicalChunkerParser.InwithContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inwithout}.
+	 * @param ctx the parse tree
+	 */
+	void enterInwithout(@NotNull ChemicalChunkerParser.InwithoutContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inwithout}.
+	 * @param ctx the parse tree
+	 */
+	void exitInwithout(@NotNull ChemicalChunkerParser.InwithoutContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inby}.
+	 * @param ctx the parse tree
+	 */
+	void enterInby(@NotNull ChemicalChunkerParser.InbyContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inby}.
+	 * @param ctx the parse tree
+	 */
+	void exitInby(@NotNull ChemicalChunkerParser.InbyContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#invia}.
+	 * @param ctx the parse tree
+	 */
+	void enterInvia(@NotNull ChemicalChunkerParser.InviaContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#invia}.
+	 * @param ctx the parse tree
+	 */
+	void exitInvia(@NotNull ChemicalChunkerParser.InviaContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inof}.
+	 * @param ctx the parse tree
+	 */
+	void enterInof(@NotNull ChemicalChunkerParser.InofContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inof}.
+	 * @param ctx the parse tree
+	 */
+	void exitInof(@NotNull ChemicalChunkerParser.InofContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inon}.
+	 * @param ctx the parse tree
+	 */
+	void enterInon(@NotNull ChemicalChunkerParser.InonContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inon}.
+	 * @param ctx the parse tree
+	 */
+	void exitInon(@NotNull ChemicalChunkerParser.InonContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#infor}.
+	 * @param ctx the parse tree
+	 */
+	void enterInfor(@NotNull ChemicalChunkerParser.InforContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#infor}.
+	 * @param ctx the parse tree
+	 */
+	void exitInfor(@NotNull ChemicalChunkerParser.InforContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#infrom}.
+	 * @param ctx the parse tree
+	 */
+	void enterInfrom(@NotNull ChemicalChunkerParser.InfromContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#infrom}.
+	 * @param ctx the parse tree
+	 */
+	void exitInfrom(@NotNull ChemicalChunkerParser.InfromContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inunder}.
+	 * @param ctx the parse tree
+	 */
+	void enterInunder(@NotNull ChemicalChunkerParser.InunderContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inunder}.
+	 * @param ctx the parse tree
+	 */
+	void exitInunder(@NotNull ChemicalChunkerParser.InunderContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inover}.
+	 * @param ctx the parse tree
+	 */
+	void enterInover(@NotNull ChemicalChunkerParser.InoverContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inover}.
+	 * @param ctx the parse tree
+	 */
+	void exitInover(@NotNull ChemicalChunkerParser.InoverContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#inoff}.
+	 * @param ctx the parse tree
+	 */
+	void enterInoff(@NotNull ChemicalChunkerParser.InoffContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#inoff}.
+	 * @param ctx the parse tree
+	 */
+	void exitInoff(@NotNull ChemicalChunkerParser.InoffContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnstate}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnstate(@NotNull ChemicalChunkerParser.NnstateContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnstate}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnstate(@NotNull ChemicalChunkerParser.NnstateContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nntime}.
+	 * @param ctx the parse tree
+	 */
+	void enterNntime(@NotNull ChemicalChunkerParser.NntimeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nntime}.
+	 * @param ctx the parse tree
+	 */
+	void exitNntime(@NotNull ChemicalChunkerParser.NntimeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnmass}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnmass(@NotNull ChemicalChunkerParser.NnmassContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnmass}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnmass(@NotNull ChemicalChunkerParser.NnmassContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnamount}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnamount(@NotNull ChemicalChunkerParser.NnamountContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnamount}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnamount(@NotNull ChemicalChunkerParser.NnamountContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnmolar}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnmolar(@NotNull ChemicalChunkerParser.NnmolarContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnmolar}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnmolar(@NotNull ChemicalChunkerParser.NnmolarContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnatmosphere}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnatmosphere(@NotNull ChemicalChunkerParser.NnatmosphereContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnatmosphere}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnatmosphere(@NotNull ChemicalChunkerParser.NnatmosphereContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nneq}.
+	 * @param ctx the parse tree
+	 */
+	void enterNneq(@NotNull ChemicalChunkerParser.NneqContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nneq}.
+	 * @param ctx the parse tree
+	 */
+	void exitNneq(@NotNull ChemicalChunkerParser.NneqContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnvol}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnvol(@NotNull ChemicalChunkerParser.NnvolContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnvol}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnvol(@NotNull ChemicalChunkerParser.NnvolContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnchementity}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnchementity(@NotNull ChemicalChunkerParser.NnchementityContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnchementity}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnchementity(@NotNull ChemicalChunkerParser.NnchementityContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nntemp}.
+	 * @param ctx the parse tree
+	 */
+	void enterNntemp(@NotNull ChemicalChunkerParser.NntempContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nntemp}.
+	 * @param ctx the parse tree
+	 */
+	void exitNntemp(@NotNull ChemicalChunkerParser.NntempContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnph}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnph(@NotNull ChemicalChunkerParser.NnphContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnph}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnph(@NotNull ChemicalChunkerParser.NnphContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnflash}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnflash(@NotNull ChemicalChunkerParser.NnflashContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnflash}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnflash(@NotNull ChemicalChunkerParser.NnflashContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nngeneral}.
+	 * @param ctx the parse tree
+	 */
+	void enterNngeneral(@NotNull ChemicalChunkerParser.NngeneralContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nngeneral}.
+	 * @param ctx the parse tree
+	 */
+	void exitNngeneral(@NotNull ChemicalChunkerParser.NngeneralContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnmethod}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnmethod(@NotNull ChemicalChunkerParser.NnmethodContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnmethod}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnmethod(@NotNull ChemicalChunkerParser.NnmethodContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnpressure}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnpressure(@NotNull ChemicalChunkerParser.NnpressureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnpressure}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnpressure(@NotNull ChemicalChunkerParser.NnpressureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nncolumn}.
+	 * @param ctx the parse tree
+	 */
+	void enterNncolumn(@NotNull ChemicalChunkerParser.NncolumnContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nncolumn}.
+	 * @param ctx the parse tree
+	 */
+	void exitNncolumn(@NotNull ChemicalChunkerParser.NncolumnContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnchromatography}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnchromatography(@NotNull ChemicalChunkerParser.NnchromatographyContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnchromatography}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnchromatography(@NotNull ChemicalChunkerParser.NnchromatographyContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnvacuum}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnvacuum(@NotNull ChemicalChunkerParser.NnvacuumContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnvacuum}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnvacuum(@NotNull ChemicalChunkerParser.NnvacuumContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nncycle}.
+	 * @param ctx the parse tree
+	 */
+	void enterNncycle(@NotNull ChemicalChunkerParser.NncycleContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nncycle}.
+	 * @param ctx the parse tree
+	 */
+	void exitNncycle(@NotNull ChemicalChunkerParser.NncycleContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nntimes}.
+	 * @param ctx the parse tree
+	 */
+	void enterNntimes(@NotNull ChemicalChunkerParser.NntimesContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nntimes}.
+	 * @param ctx the parse tree
+	 */
+	void exitNntimes(@NotNull ChemicalChunkerParser.NntimesContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnexample}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnexample(@NotNull ChemicalChunkerParser.NnexampleContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnexample}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnexample(@NotNull ChemicalChunkerParser.NnexampleContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#oscarcm}.
+	 * @param ctx the parse tree
+	 */
+	void enterOscarcm(@NotNull ChemicalChunkerParser.OscarcmContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#oscarcm}.
+	 * @param ctx the parse tree
+	 */
+	void exitOscarcm(@NotNull ChemicalChunkerParser.OscarcmContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbuse}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbuse(@NotNull ChemicalChunkerParser.VbuseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbuse}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbuse(@NotNull ChemicalChunkerParser.VbuseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbchange}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbchange(@NotNull ChemicalChunkerParser.VbchangeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbchange}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbchange(@NotNull ChemicalChunkerParser.VbchangeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbsubmerge}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbsubmerge(@NotNull ChemicalChunkerParser.VbsubmergeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbsubmerge}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbsubmerge(@NotNull ChemicalChunkerParser.VbsubmergeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbsubject}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbsubject(@NotNull ChemicalChunkerParser.VbsubjectContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbsubject}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbsubject(@NotNull ChemicalChunkerParser.VbsubjectContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnadd}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnadd(@NotNull ChemicalChunkerParser.NnaddContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnadd}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnadd(@NotNull ChemicalChunkerParser.NnaddContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnmixture}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnmixture(@NotNull ChemicalChunkerParser.NnmixtureContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnmixture}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnmixture(@NotNull ChemicalChunkerParser.NnmixtureContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbdilute}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbdilute(@NotNull ChemicalChunkerParser.VbdiluteContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbdilute}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbdilute(@NotNull ChemicalChunkerParser.VbdiluteContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbadd}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbadd(@NotNull ChemicalChunkerParser.VbaddContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbadd}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbadd(@NotNull ChemicalChunkerParser.VbaddContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbcharge}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbcharge(@NotNull ChemicalChunkerParser.VbchargeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbcharge}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbcharge(@NotNull ChemicalChunkerParser.VbchargeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbcontain}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbcontain(@NotNull ChemicalChunkerParser.VbcontainContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbcontain}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbcontain(@NotNull ChemicalChunkerParser.VbcontainContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbdrop}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbdrop(@NotNull ChemicalChunkerParser.VbdropContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbdrop}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbdrop(@NotNull ChemicalChunkerParser.VbdropContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbfill}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbfill(@NotNull ChemicalChunkerParser.VbfillContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbfill}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbfill(@NotNull ChemicalChunkerParser.VbfillContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbsuspend}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbsuspend(@NotNull ChemicalChunkerParser.VbsuspendContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbsuspend}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbsuspend(@NotNull ChemicalChunkerParser.VbsuspendContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbtreat}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbtreat(@NotNull ChemicalChunkerParser.VbtreatContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbtreat}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbtreat(@NotNull ChemicalChunkerParser.VbtreatContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbapparatus}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbapparatus(@NotNull ChemicalChunkerParser.VbapparatusContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbapparatus}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbapparatus(@NotNull ChemicalChunkerParser.VbapparatusContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnapparatus}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnapparatus(@NotNull ChemicalChunkerParser.NnapparatusContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnapparatus}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnapparatus(@NotNull ChemicalChunkerParser.NnapparatusContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbconcentrate}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbconcentrate(@NotNull ChemicalChunkerParser.VbconcentrateContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbconcentrate}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbconcentrate(@NotNull ChemicalChunkerParser.VbconcentrateContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnconcentrate}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnconcentrate(@NotNull ChemicalChunkerParser.NnconcentrateContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnconcentrate}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnconcentrate(@NotNull ChemicalChunkerParser.NnconcentrateContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbcool}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbcool(@NotNull ChemicalChunkerParser.VbcoolContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbcool}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbcool(@NotNull ChemicalChunkerParser.VbcoolContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbdegass}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbdegass(@NotNull ChemicalChunkerParser.VbdegassContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbdegass}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbdegass(@NotNull ChemicalChunkerParser.VbdegassContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbdissolve}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbdissolve(@NotNull ChemicalChunkerParser.VbdissolveContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbdissolve}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbdissolve(@NotNull ChemicalChunkerParser.VbdissolveContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbdry}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbdry(@NotNull ChemicalChunkerParser.VbdryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbdry}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbdry(@NotNull ChemicalChunkerParser.VbdryContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nndry}.
+	 * @param ctx the parse tree
+	 */
+	void enterNndry(@NotNull ChemicalChunkerParser.NndryContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nndry}.
+	 * @param ctx the parse tree
+	 */
+	void exitNndry(@NotNull ChemicalChunkerParser.NndryContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbextract}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbextract(@NotNull ChemicalChunkerParser.VbextractContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbextract}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbextract(@NotNull ChemicalChunkerParser.VbextractContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnextract}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnextract(@NotNull ChemicalChunkerParser.NnextractContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnextract}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnextract(@NotNull ChemicalChunkerParser.NnextractContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbfilter}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbfilter(@NotNull ChemicalChunkerParser.VbfilterContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbfilter}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbfilter(@NotNull ChemicalChunkerParser.VbfilterContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnfilter}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnfilter(@NotNull ChemicalChunkerParser.NnfilterContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnfilter}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnfilter(@NotNull ChemicalChunkerParser.NnfilterContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbheat}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbheat(@NotNull ChemicalChunkerParser.VbheatContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbheat}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbheat(@NotNull ChemicalChunkerParser.VbheatContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbincrease}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbincrease(@NotNull ChemicalChunkerParser.VbincreaseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbincrease}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbincrease(@NotNull ChemicalChunkerParser.VbincreaseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbimmerse}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbimmerse(@NotNull ChemicalChunkerParser.VbimmerseContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbimmerse}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbimmerse(@NotNull ChemicalChunkerParser.VbimmerseContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbpartition}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbpartition(@NotNull ChemicalChunkerParser.VbpartitionContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbpartition}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbpartition(@NotNull ChemicalChunkerParser.VbpartitionContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbprecipitate}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbprecipitate(@NotNull ChemicalChunkerParser.VbprecipitateContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbprecipitate}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbprecipitate(@NotNull ChemicalChunkerParser.VbprecipitateContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnprecipitate}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnprecipitate(@NotNull ChemicalChunkerParser.NnprecipitateContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnprecipitate}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnprecipitate(@NotNull ChemicalChunkerParser.NnprecipitateContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbpurify}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbpurify(@NotNull ChemicalChunkerParser.VbpurifyContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbpurify}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbpurify(@NotNull ChemicalChunkerParser.VbpurifyContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnpurify}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnpurify(@NotNull ChemicalChunkerParser.NnpurifyContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnpurify}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnpurify(@NotNull ChemicalChunkerParser.NnpurifyContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbquench}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbquench(@NotNull ChemicalChunkerParser.VbquenchContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbquench}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbquench(@NotNull ChemicalChunkerParser.VbquenchContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbrecover}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbrecover(@NotNull ChemicalChunkerParser.VbrecoverContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbrecover}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbrecover(@NotNull ChemicalChunkerParser.VbrecoverContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbremove}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbremove(@NotNull ChemicalChunkerParser.VbremoveContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbremove}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbremove(@NotNull ChemicalChunkerParser.VbremoveContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnremove}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnremove(@NotNull ChemicalChunkerParser.NnremoveContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnremove}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnremove(@NotNull ChemicalChunkerParser.NnremoveContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbstir}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbstir(@NotNull ChemicalChunkerParser.VbstirContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbstir}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbstir(@NotNull ChemicalChunkerParser.VbstirContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbsynthesize}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbsynthesize(@NotNull ChemicalChunkerParser.VbsynthesizeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbsynthesize}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbsynthesize(@NotNull ChemicalChunkerParser.VbsynthesizeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnsynthesize}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnsynthesize(@NotNull ChemicalChunkerParser.NnsynthesizeContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnsynthesize}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnsynthesize(@NotNull ChemicalChunkerParser.NnsynthesizeContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbwait}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbwait(@NotNull ChemicalChunkerParser.VbwaitContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbwait}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbwait(@NotNull ChemicalChunkerParser.VbwaitContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbwash}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbwash(@NotNull ChemicalChunkerParser.VbwashContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbwash}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbwash(@NotNull ChemicalChunkerParser.VbwashContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbyield}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbyield(@NotNull ChemicalChunkerParser.VbyieldContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbyield}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbyield(@NotNull ChemicalChunkerParser.VbyieldContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnyield}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnyield(@NotNull ChemicalChunkerParser.NnyieldContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnyield}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnyield(@NotNull ChemicalChunkerParser.NnyieldContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#rbconj}.
+	 * @param ctx the parse tree
+	 */
+	void enterRbconj(@NotNull ChemicalChunkerParser.RbconjContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#rbconj}.
+	 * @param ctx the parse tree
+	 */
+	void exitRbconj(@NotNull ChemicalChunkerParser.RbconjContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#colon}.
+	 * @param ctx the parse tree
+	 */
+	void enterColon(@NotNull ChemicalChunkerParser.ColonContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#colon}.
+	 * @param ctx the parse tree
+	 */
+	void exitColon(@NotNull ChemicalChunkerParser.ColonContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#comma}.
+	 * @param ctx the parse tree
+	 */
+	void enterComma(@NotNull ChemicalChunkerParser.CommaContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#comma}.
+	 * @param ctx the parse tree
+	 */
+	void exitComma(@NotNull ChemicalChunkerParser.CommaContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#apost}.
+	 * @param ctx the parse tree
+	 */
+	void enterApost(@NotNull ChemicalChunkerParser.ApostContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#apost}.
+	 * @param ctx the parse tree
+	 */
+	void exitApost(@NotNull ChemicalChunkerParser.ApostContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#neg}.
+	 * @param ctx the parse tree
+	 */
+	void enterNeg(@NotNull ChemicalChunkerParser.NegContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#neg}.
+	 * @param ctx the parse tree
+	 */
+	void exitNeg(@NotNull ChemicalChunkerParser.NegContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#dash}.
+	 * @param ctx the parse tree
+	 */
+	void enterDash(@NotNull ChemicalChunkerParser.DashContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#dash}.
+	 * @param ctx the parse tree
+	 */
+	void exitDash(@NotNull ChemicalChunkerParser.DashContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#stop}.
+	 * @param ctx the parse tree
+	 */
+	void enterStop(@NotNull ChemicalChunkerParser.StopContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#stop}.
+	 * @param ctx the parse tree
+	 */
+	void exitStop(@NotNull ChemicalChunkerParser.StopContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#percentsign}.
+	 * @param ctx the parse tree
+	 */
+	void enterPercentsign(@NotNull ChemicalChunkerParser.PercentsignContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#percentsign}.
+	 * @param ctx the parse tree
+	 */
+	void exitPercentsign(@NotNull ChemicalChunkerParser.PercentsignContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#lsqb}.
+	 * @param ctx the parse tree
+	 */
+	void enterLsqb(@NotNull ChemicalChunkerParser.LsqbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#lsqb}.
+	 * @param ctx the parse tree
+	 */
+	void exitLsqb(@NotNull ChemicalChunkerParser.LsqbContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#rsqb}.
+	 * @param ctx the parse tree
+	 */
+	void enterRsqb(@NotNull ChemicalChunkerParser.RsqbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#rsqb}.
+	 * @param ctx the parse tree
+	 */
+	void exitRsqb(@NotNull ChemicalChunkerParser.RsqbContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnidentifier}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnidentifier(@NotNull ChemicalChunkerParser.NnidentifierContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnidentifier}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnidentifier(@NotNull ChemicalChunkerParser.NnidentifierContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#dtTHE}.
+	 * @param ctx the parse tree
+	 */
+	void enterDtTHE(@NotNull ChemicalChunkerParser.DtTHEContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#dtTHE}.
+	 * @param ctx the parse tree
+	 */
+	void exitDtTHE(@NotNull ChemicalChunkerParser.DtTHEContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#lrb}.
+	 * @param ctx the parse tree
+	 */
+	void enterLrb(@NotNull ChemicalChunkerParser.LrbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#lrb}.
+	 * @param ctx the parse tree
+	 */
+	void exitLrb(@NotNull ChemicalChunkerParser.LrbContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#rrb}.
+	 * @param ctx the parse tree
+	 */
+	void enterRrb(@NotNull ChemicalChunkerParser.RrbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#rrb}.
+	 * @param ctx the parse tree
+	 */
+	void exitRrb(@NotNull ChemicalChunkerParser.RrbContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#cc}.
+	 * @param ctx the parse tree
+	 */
+	void enterCc(@NotNull ChemicalChunkerParser.CcContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#cc}.
+	 * @param ctx the parse tree
+	 */
+	void exitCc(@NotNull ChemicalChunkerParser.CcContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#cd}.
+	 * @param ctx the parse tree
+	 */
+	void enterCd(@NotNull ChemicalChunkerParser.CdContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#cd}.
+	 * @param ctx the parse tree
+	 */
+	void exitCd(@NotNull ChemicalChunkerParser.CdContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#dt}.
+	 * @param ctx the parse tree
+	 */
+	void enterDt(@NotNull ChemicalChunkerParser.DtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#dt}.
+	 * @param ctx the parse tree
+	 */
+	void exitDt(@NotNull ChemicalChunkerParser.DtContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#ex}.
+	 * @param ctx the parse tree
+	 */
+	void enterEx(@NotNull ChemicalChunkerParser.ExContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#ex}.
+	 * @param ctx the parse tree
+	 */
+	void exitEx(@NotNull ChemicalChunkerParser.ExContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#fw}.
+	 * @param ctx the parse tree
+	 */
+	void enterFw(@NotNull ChemicalChunkerParser.FwContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#fw}.
+	 * @param ctx the parse tree
+	 */
+	void exitFw(@NotNull ChemicalChunkerParser.FwContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#in}.
+	 * @param ctx the parse tree
+	 */
+	void enterIn(@NotNull ChemicalChunkerParser.InContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#in}.
+	 * @param ctx the parse tree
+	 */
+	void exitIn(@NotNull ChemicalChunkerParser.InContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#jj}.
+	 * @param ctx the parse tree
+	 */
+	void enterJj(@NotNull ChemicalChunkerParser.JjContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#jj}.
+	 * @param ctx the parse tree
+	 */
+	void exitJj(@NotNull ChemicalChunkerParser.JjContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#jjr}.
+	 * @param ctx the parse tree
+	 */
+	void enterJjr(@NotNull ChemicalChunkerParser.JjrContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#jjr}.
+	 * @param ctx the parse tree
+	 */
+	void exitJjr(@NotNull ChemicalChunkerParser.JjrContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#jjs}.
+	 * @param ctx the parse tree
+	 */
+	void enterJjs(@NotNull ChemicalChunkerParser.JjsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#jjs}.
+	 * @param ctx the parse tree
+	 */
+	void exitJjs(@NotNull ChemicalChunkerParser.JjsContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#ls}.
+	 * @param ctx the parse tree
+	 */
+	void enterLs(@NotNull ChemicalChunkerParser.LsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#ls}.
+	 * @param ctx the parse tree
+	 */
+	void exitLs(@NotNull ChemicalChunkerParser.LsContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#md}.
+	 * @param ctx the parse tree
+	 */
+	void enterMd(@NotNull ChemicalChunkerParser.MdContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#md}.
+	 * @param ctx the parse tree
+	 */
+	void exitMd(@NotNull ChemicalChunkerParser.MdContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nn}.
+	 * @param ctx the parse tree
+	 */
+	void enterNn(@NotNull ChemicalChunkerParser.NnContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nn}.
+	 * @param ctx the parse tree
+	 */
+	void exitNn(@NotNull ChemicalChunkerParser.NnContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nns}.
+	 * @param ctx the parse tree
+	 */
+	void enterNns(@NotNull ChemicalChunkerParser.NnsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nns}.
+	 * @param ctx the parse tree
+	 */
+	void exitNns(@NotNull ChemicalChunkerParser.NnsContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnp}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnp(@NotNull ChemicalChunkerParser.NnpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnp}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnp(@NotNull ChemicalChunkerParser.NnpContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#nnps}.
+	 * @param ctx the parse tree
+	 */
+	void enterNnps(@NotNull ChemicalChunkerParser.NnpsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#nnps}.
+	 * @param ctx the parse tree
+	 */
+	void exitNnps(@NotNull ChemicalChunkerParser.NnpsContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#pdt}.
+	 * @param ctx the parse tree
+	 */
+	void enterPdt(@NotNull ChemicalChunkerParser.PdtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#pdt}.
+	 * @param ctx the parse tree
+	 */
+	void exitPdt(@NotNull ChemicalChunkerParser.PdtContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#pos}.
+	 * @param ctx the parse tree
+	 */
+	void enterPos(@NotNull ChemicalChunkerParser.PosContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#pos}.
+	 * @param ctx the parse tree
+	 */
+	void exitPos(@NotNull ChemicalChunkerParser.PosContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prp}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrp(@NotNull ChemicalChunkerParser.PrpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prp}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrp(@NotNull ChemicalChunkerParser.PrpContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#prp_poss}.
+	 * @param ctx the parse tree
+	 */
+	void enterPrp_poss(@NotNull ChemicalChunkerParser.Prp_possContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#prp_poss}.
+	 * @param ctx the parse tree
+	 */
+	void exitPrp_poss(@NotNull ChemicalChunkerParser.Prp_possContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#rb}.
+	 * @param ctx the parse tree
+	 */
+	void enterRb(@NotNull ChemicalChunkerParser.RbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#rb}.
+	 * @param ctx the parse tree
+	 */
+	void exitRb(@NotNull ChemicalChunkerParser.RbContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#rbr}.
+	 * @param ctx the parse tree
+	 */
+	void enterRbr(@NotNull ChemicalChunkerParser.RbrContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#rbr}.
+	 * @param ctx the parse tree
+	 */
+	void exitRbr(@NotNull ChemicalChunkerParser.RbrContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#rbs}.
+	 * @param ctx the parse tree
+	 */
+	void enterRbs(@NotNull ChemicalChunkerParser.RbsContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#rbs}.
+	 * @param ctx the parse tree
+	 */
+	void exitRbs(@NotNull ChemicalChunkerParser.RbsContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#rp}.
+	 * @param ctx the parse tree
+	 */
+	void enterRp(@NotNull ChemicalChunkerParser.RpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#rp}.
+	 * @param ctx the parse tree
+	 */
+	void exitRp(@NotNull ChemicalChunkerParser.RpContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#sym}.
+	 * @param ctx the parse tree
+	 */
+	void enterSym(@NotNull ChemicalChunkerParser.SymContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#sym}.
+	 * @param ctx the parse tree
+	 */
+	void exitSym(@NotNull ChemicalChunkerParser.SymContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#to}.
+	 * @param ctx the parse tree
+	 */
+	void enterTo(@NotNull ChemicalChunkerParser.ToContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#to}.
+	 * @param ctx the parse tree
+	 */
+	void exitTo(@NotNull ChemicalChunkerParser.ToContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#uh}.
+	 * @param ctx the parse tree
+	 */
+	void enterUh(@NotNull ChemicalChunkerParser.UhContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#uh}.
+	 * @param ctx the parse tree
+	 */
+	void exitUh(@NotNull ChemicalChunkerParser.UhContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vb}.
+	 * @param ctx the parse tree
+	 */
+	void enterVb(@NotNull ChemicalChunkerParser.VbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vb}.
+	 * @param ctx the parse tree
+	 */
+	void exitVb(@NotNull ChemicalChunkerParser.VbContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbd}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbd(@NotNull ChemicalChunkerParser.VbdContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbd}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbd(@NotNull ChemicalChunkerParser.VbdContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbg}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbg(@NotNull ChemicalChunkerParser.VbgContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbg}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbg(@NotNull ChemicalChunkerParser.VbgContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbn}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbn(@NotNull ChemicalChunkerParser.VbnContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbn}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbn(@NotNull ChemicalChunkerParser.VbnContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbp}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbp(@NotNull ChemicalChunkerParser.VbpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbp}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbp(@NotNull ChemicalChunkerParser.VbpContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#vbz}.
+	 * @param ctx the parse tree
+	 */
+	void enterVbz(@NotNull ChemicalChunkerParser.VbzContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#vbz}.
+	 * @param ctx the parse tree
+	 */
+	void exitVbz(@NotNull ChemicalChunkerParser.VbzContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#wdt}.
+	 * @param ctx the parse tree
+	 */
+	void enterWdt(@NotNull ChemicalChunkerParser.WdtContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#wdt}.
+	 * @param ctx the parse tree
+	 */
+	void exitWdt(@NotNull ChemicalChunkerParser.WdtContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#wp}.
+	 * @param ctx the parse tree
+	 */
+	void enterWp(@NotNull ChemicalChunkerParser.WpContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#wp}.
+	 * @param ctx the parse tree
+	 */
+	void exitWp(@NotNull ChemicalChunkerParser.WpContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#wp_poss}.
+	 * @param ctx the parse tree
+	 */
+	void enterWp_poss(@NotNull ChemicalChunkerParser.Wp_possContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#wp_poss}.
+	 * @param ctx the parse tree
+	 */
+	void exitWp_poss(@NotNull ChemicalChunkerParser.Wp_possContext ctx);
+
+	/**
+	 * Enter a parse tree produced by {@link ChemicalChunkerParser#wrb}.
+	 * @param ctx the parse tree
+	 */
+	void enterWrb(@NotNull ChemicalChunkerParser.WrbContext ctx);
+	/**
+	 * Exit a parse tree produced by {@link ChemicalChunkerParser#wrb}.
+	 * @param ctx the parse tree
+	 */
+	void exitWrb(@NotNull ChemicalChunkerParser.WrbContext ctx);
+}
\ No newline at end of file
@@ -0,0 +1,20388 @@
+// Generated from uk/ac/cam/ch/wwmm/chemicaltagger/pregenerated/ChemicalChunker.g4 by ANTLR 4.5.3
+package uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated;
+import org.antlr.v4.runtime.atn.*;
+import org.antlr.v4.runtime.dfa.DFA;
+import org.antlr.v4.runtime.*;
+import org.antlr.v4.runtime.misc.*;
+import org.antlr.v4.runtime.tree.*;
+import java.util.List;
+import java.util.Iterator;
+import java.util.ArrayList;
+
+public class ChemicalChunkerParser extends Parser {
+	public static final int
+		T__0=1, T__1=2, T__2=3, T__3=4, T__4=5, T__5=6, T__6=7, T__7=8, T__8=9, 
+		T__9=10, T__10=11, T__11=12, T__12=13, T__13=14, T__14=15, T__15=16, T__16=17, 
+		T__17=18, T__18=19, T__19=20, T__20=21, T__21=22, T__22=23, T__23=24, 
+		T__24=25, T__25=26, T__26=27, T__27=28, T__28=29, T__29=30, T__30=31, 
+		T__31=32, T__32=33, T__33=34, T__34=35, T__35=36, T__36=37, T__37=38, 
+		T__38=39, T__39=40, T__40=41, T__41=42, T__42=43, T__43=44, T__44=45, 
+		T__45=46, T__46=47, T__47=48, T__48=49, T__49=50, T__50=51, T__51=52, 
+		T__52=53, T__53=54, T__54=55, T__55=56, T__56=57, T__57=58, T__58=59, 
+		T__59=60, T__60=61, T__61=62, T__62=63, T__63=64, T__64=65, T__65=66, 
+		T__66=67, T__67=68, T__68=69, T__69=70, T__70=71, T__71=72, T__72=73, 
+		T__73=74, T__74=75, T__75=76, T__76=77, T__77=78, T__78=79, T__79=80, 
+		T__80=81, T__81=82, T__82=83, T__83=84, T__84=85, T__85=86, T__86=87, 
+		T__87=88, T__88=89, T__89=90, T__90=91, T__91=92, T__92=93, T__93=94, 
+		T__94=95, T__95=96, T__96=97, T__97=98, T__98=99, T__99=100, T__100=101, 
+		T__101=102, T__102=103, T__103=104, T__104=105, T__105=106, T__106=107, 
+		T__107=108, T__108=109, T__109=110, T__110=111, T__111=112, T__112=113, 
+		T__113=114, T__114=115, T__115=116, T__116=117, T__117=118, T__118=119, 
+		T__119=120, T__120=121, T__121=122, T__122=123, T__123=124, T__124=125, 
+		T__125=126, T__126=127, T__127=128, T__128=129, T__129=130, T__130=131, 
+		T__131=132, T__132=133, T__133=134, T__134=135, T__135=136, T__136=137, 
+		T__137=138, T__138=139, T__139=140, T__140=141, T__141=142, T__142=143, 
+		WS=144, TOKEN=145;
+	public static final int
+		RULE_document = 0, RULE_sentence = 1, RULE_sentenceStructure = 2, RULE_unmatchedPhrase = 3, 
+		RULE_unmatchedToken = 4, RULE_procedureNounPhrase = 5, RULE_headingProcedure = 6, 
+		RULE_headingProcedureRequiringTerminator = 7, RULE_bracketedHeadingProcedure = 8, 
+		RULE_headingProcedureTerminators = 9, RULE_nounphrase = 10, RULE_nounphraseStructure = 11, 
+		RULE_nounphraseStructure1 = 12, RULE_nounphraseStructure2 = 13, RULE_nounphraseContent = 14, 
+		RULE_dissolvePhrase = 15, RULE_dissolveStructure = 16, RULE_inMolecule = 17, 
+		RULE_verbphrase = 18, RULE_verbphraseStructure = 19, RULE_actionVerbStructure = 20, 
+		RULE_otherVerbStructure = 21, RULE_verb = 22, RULE_actionVerb = 23, RULE_otherVerb = 24, 
+		RULE_degassMultiVerb = 25, RULE_noun = 26, RULE_nounStructure = 27, RULE_prepphrase = 28, 
+		RULE_prepphraseAtmosphere = 29, RULE_prepphraseAtmosphereContent = 30, 
+		RULE_prepphraseTime = 31, RULE_prepPhraseTimeStructure = 32, RULE_prepphraseTemp = 33, 
+		RULE_prepphraseTempContent = 34, RULE_prepphraseIN = 35, RULE_prepphraseRole = 36, 
+		RULE_prepphraseOther = 37, RULE_prepphraseOf = 38, RULE_prepphraseAfter = 39, 
+		RULE_preparationphrase = 40, RULE_multiApparatus = 41, RULE_apparatus = 42, 
+		RULE_nnApp = 43, RULE_preapparatus = 44, RULE_oscarCompound = 45, RULE_oscarCompoundStructure = 46, 
+		RULE_afterOscarCompoundStructure = 47, RULE_molecule = 48, RULE_moleculeamount = 49, 
+		RULE_moleculeamount3 = 50, RULE_moleculeamount1 = 51, RULE_moleculeamount2 = 52, 
+		RULE_afterCompoundCitationOrQuantity = 53, RULE_unnamedmolecule = 54, 
+		RULE_unnamedmoleculeDescription = 55, RULE_unnamedmoleculeDescriptionStart = 56, 
+		RULE_quantityOf = 57, RULE_potentialUnnamedMoleculeAmount1 = 58, RULE_potentialUnnamedMoleculeAmount2 = 59, 
+		RULE_definiteUnnamedMolecule = 60, RULE_definiteUnnamedMoleculeStructure = 61, 
+		RULE_potentialUnnamedMolecule = 62, RULE_potentialUnnamedMoleculeStructureNN = 63, 
+		RULE_numericReferenceOrQuantity = 64, RULE_asAstate = 65, RULE_alphanumericOrIdentifierCompoundReference = 66, 
+		RULE_numberCompoundReference = 67, RULE_numericOrIdentifierCompoundReference = 68, 
+		RULE_captionLabel = 69, RULE_captionLabelContent = 70, RULE_quantity = 71, 
+		RULE_quantity1Node = 72, RULE_quantity1 = 73, RULE_quantity2Node = 74, 
+		RULE_quantity2 = 75, RULE_measurements = 76, RULE_multiple = 77, RULE_measurementtypes = 78, 
+		RULE_molar = 79, RULE_amount = 80, RULE_mass = 81, RULE_volume = 82, RULE_logHydrogenActivity = 83, 
+		RULE_equivalent = 84, RULE_yield = 85, RULE_yield1 = 86, RULE_yield2 = 87, 
+		RULE_percent = 88, RULE_bracketedContent = 89, RULE_bracketedContent1 = 90, 
+		RULE_bracketedContent2 = 91, RULE_bracketedContent3 = 92, RULE_bracketedContentContents = 93, 
+		RULE_bracketedContentInMol = 94, RULE_bracketedContentInMolStructure1 = 95, 
+		RULE_bracketedContentInMolStructure2 = 96, RULE_bracketedContentInMolContents1 = 97, 
+		RULE_bracketedContentInMolContents2 = 98, RULE_bracketedContentInMolContentsAlwaysAllowed = 99, 
+		RULE_fromProcedure = 100, RULE_procedureNode = 101, RULE_method = 102, 
+		RULE_submethod = 103, RULE_referenceToExampleCompound = 104, RULE_advAdj = 105, 
+		RULE_range = 106, RULE_cycles = 107, RULE_cycleStructure = 108, RULE_dashNN = 109, 
+		RULE_ratioOrBracketedRatio = 110, RULE_ratio = 111, RULE_cdRatio = 112, 
+		RULE_cdNotFollowedByQuantityUnits = 113, RULE_citation = 114, RULE_citationStructure = 115, 
+		RULE_citationContent = 116, RULE_allIdentifierTypes = 117, RULE_allIdentifierTypesOtherThanCD = 118, 
+		RULE_numericOrBracketedNumeric = 119, RULE_bracketedNumeric = 120, RULE_squareBracketedReference = 121, 
+		RULE_identifierOrBracketedIdentifier = 122, RULE_bracketedIdentifier = 123, 
+		RULE_adj = 124, RULE_adv = 125, RULE_clause = 126, RULE_conjunction = 127, 
+		RULE_inAll = 128, RULE_inMost = 129, RULE_numeric = 130, RULE_nnplabel = 131, 
+		RULE_cdAlphanum = 132, RULE_oscarcj = 133, RULE_oscarrn = 134, RULE_oscarase = 135, 
+		RULE_tmunicode = 136, RULE_cdunicode = 137, RULE_jjchem = 138, RULE_jjcomp = 139, 
+		RULE_inas = 140, RULE_inbefore = 141, RULE_inafter = 142, RULE_inin = 143, 
+		RULE_ininto = 144, RULE_inwith = 145, RULE_inwithout = 146, RULE_inby = 147, 
+		RULE_invia = 148, RULE_inof = 149, RULE_inon = 150, RULE_infor = 151, 
+		RULE_infrom = 152, RULE_inunder = 153, RULE_inover = 154, RULE_inoff = 155, 
+		RULE_nnstate = 156, RULE_nntime = 157, RULE_nnmass = 158, RULE_nnamount = 159, 
+		RULE_nnmolar = 160, RULE_nnatmosphere = 161, RULE_nneq = 162, RULE_nnvol = 163, 
+		RULE_nnchementity = 164, RULE_nntemp = 165, RULE_nnph = 166, RULE_nnflash = 167, 
+		RULE_nngeneral = 168, RULE_nnmethod = 169, RULE_nnpressure = 170, RULE_nncolumn = 171, 
+		RULE_nnchromatography = 172, RULE_nnvacuum = 173, RULE_nncycle = 174, 
+		RULE_nntimes = 175, RULE_nnexample = 176, RULE_oscarcm = 177, RULE_vbuse = 178, 
+		RULE_vbchange = 179, RULE_vbsubmerge = 180, RULE_vbsubject = 181, RULE_nnadd = 182, 
+		RULE_nnmixture = 183, RULE_vbdilute = 184, RULE_vbadd = 185, RULE_vbcharge = 186, 
+		RULE_vbcontain = 187, RULE_vbdrop = 188, RULE_vbfill = 189, RULE_vbsuspend = 190, 
+		RULE_vbtreat = 191, RULE_vbapparatus = 192, RULE_nnapparatus = 193, RULE_vbconcentrate = 194, 
+		RULE_nnconcentrate = 195, RULE_vbcool = 196, RULE_vbdegass = 197, RULE_vbdissolve = 198, 
+		RULE_vbdry = 199, RULE_nndry = 200, RULE_vbextract = 201, RULE_nnextract = 202, 
+		RULE_vbfilter = 203, RULE_nnfilter = 204, RULE_vbheat = 205, RULE_vbincrease = 206, 
+		RULE_vbimmerse = 207, RULE_vbpartition = 208, RULE_vbprecipitate = 209, 
+		RULE_nnprecipitate = 210, RULE_vbpurify = 211, RULE_nnpurify = 212, RULE_vbquench = 213, 
+		RULE_vbrecover = 214, RULE_vbremove = 215, RULE_nnremove = 216, RULE_vbstir = 217, 
+		RULE_vbsynthesize = 218, RULE_nnsynthesize = 219, RULE_vbwait = 220, RULE_vbwash = 221, 
+		RULE_vbyield = 222, RULE_nnyield = 223, RULE_rbconj = 224, RULE_colon = 225, 
+		RULE_comma = 226, RULE_apost = 227, RULE_neg = 228, RULE_dash = 229, RULE_stop = 230, 
+		RULE_percentsign = 231, RULE_lsqb = 232, RULE_rsqb = 233, RULE_nnidentifier = 234, 
+		RULE_dtTHE = 235, RULE_lrb = 236, RULE_rrb = 237, RULE_cc = 238, RULE_cd = 239, 
+		RULE_dt = 240, RULE_ex = 241, RULE_fw = 242, RULE_in = 243, RULE_jj = 244, 
+		RULE_jjr = 245, RULE_jjs = 246, RULE_ls = 247, RULE_md = 248, RULE_nn = 249, 
+		RULE_nns = 250, RULE_nnp = 251, RULE_nnps = 252, RULE_pdt = 253, RULE_pos = 254, 
+		RULE_prp = 255, RULE_prp_poss = 256, RULE_rb = 257, RULE_rbr = 258, RULE_rbs = 259, 
+		RULE_rp = 260, RULE_sym = 261, RULE_to = 262, RULE_uh = 263, RULE_vb = 264, 
+		RULE_vbd = 265, RULE_vbg = 266, RULE_vbn = 267, RULE_vbp = 268, RULE_vbz = 269, 
+		RULE_wdt = 270, RULE_wp = 271, RULE_wp_poss = 272, RULE_wrb = 273;
+	public static final String[] ruleNames = {
+		"document", "sentence", "sentenceStructure", "unmatchedPhrase", "unmatchedToken", 
+		"procedureNounPhrase", "headingProcedure", "headingProcedureRequiringTerminator", 
+		"bracketedHeadingProcedure", "headingProcedureTerminators", "nounphrase", 
+		"nounphraseStructure", "nounphraseStructure1", "nounphraseStructure2", 
+		"nounphraseContent", "dissolvePhrase", "dissolveStructure", "inMolecule", 
+		"verbphrase", "verbphraseStructure", "actionVerbStructure", "otherVerbStructure", 
+		"verb", "actionVerb", "otherVerb", "degassMultiVerb", "noun", "nounStructure", 
+		"prepphrase", "prepphraseAtmosphere", "prepphraseAtmosphereContent", "prepphraseTime", 
+		"prepPhraseTimeStructure", "prepphraseTemp", "prepphraseTempContent", 
+		"prepphraseIN", "prepphraseRole", "prepphraseOther", "prepphraseOf", "prepphraseAfter", 
+		"preparationphrase", "multiApparatus", "apparatus", "nnApp", "preapparatus", 
+		"oscarCompound", "oscarCompoundStructure", "afterOscarCompoundStructure", 
+		"molecule", "moleculeamount", "moleculeamount3", "moleculeamount1", "moleculeamount2", 
+		"afterCompoundCitationOrQuantity", "unnamedmolecule", "unnamedmoleculeDescription", 
+		"unnamedmoleculeDescriptionStart", "quantityOf", "potentialUnnamedMoleculeAmount1", 
+		"potentialUnnamedMoleculeAmount2", "definiteUnnamedMolecule", "definiteUnnamedMoleculeStructure", 
+		"potentialUnnamedMolecule", "potentialUnnamedMoleculeStructureNN", "numericReferenceOrQuantity", 
+		"asAstate", "alphanumericOrIdentifierCompoundReference", "numberCompoundReference", 
+		"numericOrIdentifierCompoundReference", "captionLabel", "captionLabelContent", 
+		"quantity", "quantity1Node", "quantity1", "quantity2Node", "quantity2", 
+		"measurements", "multiple", "measurementtypes", "molar", "amount", "mass", 
+		"volume", "logHydrogenActivity", "equivalent", "yield", "yield1", "yield2", 
+		"percent", "bracketedContent", "bracketedContent1", "bracketedContent2", 
+		"bracketedContent3", "bracketedContentContents", "bracketedContentInMol", 
+		"bracketedContentInMolStructure1", "bracketedContentInMolStructure2", 
+		"bracketedContentInMolContents1", "bracketedContentInMolContents2", "bracketedContentInMolContentsAlwaysAllowed", 
+		"fromProcedure", "procedureNode", "method", "submethod", "referenceToExampleCompound", 
+		"advAdj", "range", "cycles", "cycleStructure", "dashNN", "ratioOrBracketedRatio", 
+		"ratio", "cdRatio", "cdNotFollowedByQuantityUnits", "citation", "citationStructure", 
+		"citationContent", "allIdentifierTypes", "allIdentifierTypesOtherThanCD", 
+		"numericOrBracketedNumeric", "bracketedNumeric", "squareBracketedReference", 
+		"identifierOrBracketedIdentifier", "bracketedIdentifier", "adj", "adv", 
+		"clause", "conjunction", "inAll", "inMost", "numeric", "nnplabel", "cdAlphanum", 
+		"oscarcj", "oscarrn", "oscarase", "tmunicode", "cdunicode", "jjchem", 
+		"jjcomp", "inas", "inbefore", "inafter", "inin", "ininto", "inwith", "inwithout", 
+		"inby", "invia", "inof", "inon", "infor", "infrom", "inunder", "inover", 
+		"inoff", "nnstate", "nntime", "nnmass", "nnamount", "nnmolar", "nnatmosphere", 
+		"nneq", "nnvol", "nnchementity", "nntemp", "nnph", "nnflash", "nngeneral", 
+		"nnmethod", "nnpressure", "nncolumn", "nnchromatography", "nnvacuum", 
+		"nncycle", "nntimes", "nnexample", "oscarcm", "vbuse", "vbchange", "vbsubmerge", 
+		"vbsubject", "nnadd", "nnmixture", "vbdilute", "vbadd", "vbcharge", "vbcontain", 
+		"vbdrop", "vbfill", "vbsuspend", "vbtreat", "vbapparatus", "nnapparatus", 
+		"vbconcentrate", "nnconcentrate", "vbcool", "vbdegass", "vbdissolve", 
+		"vbdry", "nndry", "vbextract", "nnextract", "vbfilter", "nnfilter", "vbheat", 
+		"vbincrease", "vbimmerse", "vbpartition", "vbprecipitate", "nnprecipitate", 
+		"vbpurify", "nnpurify", "vbquench", "vbrecover", "vbremove", "nnremove", 
+		"vbstir", "vbsynthesize", "nnsynthesize", "vbwait", "vbwash", "vbyield", 
+		"nnyield", "rbconj", "colon", "comma", "apost", "neg", "dash", "stop", 
+		"percentsign", "lsqb", "rsqb", "nnidentifier", "dtTHE", "lrb", "rrb", 
+		"cc", "cd", "dt", "ex", "fw", "in", "jj", "jjr", "jjs", "ls", "md", "nn", 
+		"nns", "nnp", "nnps", "pdt", "pos", "prp", "prp_poss", "rb", "rbr", "rbs", 
+		"rp", "sym", "to", "uh", "vb", "vbd", "vbg", "vbn", "vbp", "vbz", "wdt", 
+		"wp", "wp_poss", "wrb"
+	};
+
+	private static final String[] _LITERAL_NAMES = {
+		null, "'NNP-LABEL'", "'CD-ALPHANUM'", "'OSCAR-CJ'", "'OSCAR-RN'", "'OSCAR-ASE'", 
+		"'TM-UNICODE'", "'CD-UNICODE'", "'JJ-CHEM'", "'JJ-COMPOUND'", "'IN-AS'", 
+		"'IN-BEFORE'", "'IN-AFTER'", "'IN-IN'", "'IN-INTO'", "'IN-WITH'", "'IN-WITHOUT'", 
+		"'IN-BY'", "'IN-VIA'", "'IN-OF'", "'IN-ON'", "'IN-FOR'", "'IN-FROM'", 
+		"'IN-UNDER'", "'IN-OVER'", "'IN-OFF'", "'NN-STATE'", "'NN-TIME'", "'NN-MASS'", 
+		"'NN-AMOUNT'", "'NN-MOLAR'", "'NN-ATMOSPHERE'", "'NN-EQ'", "'NN-VOL'", 
+		"'NN-CHEMENTITY'", "'NN-TEMP'", "'NN-PH'", "'NN-FLASH'", "'NN-GENERAL'", 
+		"'NN-METHOD'", "'NN-PRESSURE'", "'NN-COLUMN'", "'NN-CHROMATOGRAPHY'", 
+		"'NN-VACUUM'", "'NN-CYCLE'", "'NN-TIMES'", "'NN-EXAMPLE'", "'OSCAR-CM'", 
+		"'VB-USE'", "'VB-CHANGE'", "'VB-SUBMERGE'", "'VB-SUBJECT'", "'NN-ADD'", 
+		"'NN-MIXTURE'", "'VB-DILUTE'", "'VB-ADD'", "'VB-CHARGE'", "'VB-CONTAIN'", 
+		"'VB-DROP'", "'VB-FILL'", "'VB-SUSPEND'", "'VB-TREAT'", "'VB-APPARATUS'", 
+		"'NN-APPARATUS'", "'VB-CONCENTRATE'", "'NN-CONCENTRATE'", "'VB-COOL'", 
+		"'VB-DEGASS'", "'VB-DISSOLVE'", "'VB-DRY'", "'NN-DRY'", "'VB-EXTRACT'", 
+		"'NN-EXTRACT'", "'VB-FILTER'", "'NN-FILTER'", "'VB-HEAT'", "'VB-INCREASE'", 
+		"'VB-IMMERSE'", "'VB-PARTITION'", "'VB-PRECIPITATE'", "'NN-PRECIPITATE'", 
+		"'VB-PURIFY'", "'NN-PURIFY'", "'VB-QUENCH'", "'VB-RECOVER'", "'VB-REMOVE'", 
+		"'NN-REMOVE'", "'VB-STIR'", "'VB-SYNTHESIZE'", "'NN-SYNTHESIZE'", "'VB-WAIT'", 
+		"'VB-WASH'", "'VB-YIELD'", "'NN-YIELD'", "'RB-CONJ'", "'COLON'", "'COMMA'", 
+		"'APOST'", "'NEG'", "'DASH'", "'STOP'", "'NN-PERCENT'", "'LSQB'", "'RSQB'", 
+		"'NN-IDENTIFIER'", "'DT-THE'", "'-LRB-'", "'-RRB-'", "'CC'", "'CD'", "'DT'", 
+		"'EX'", "'FW'", "'IN'", "'JJ'", "'JJR'", "'JJS'", "'LS'", "'MD'", "'NN'", 
+		"'NNS'", "'NNP'", "'NNPS'", "'PDT'", "'POS'", "'PRP'", "'PRP$'", "'RB'", 
+		"'RBR'", "'RBS'", "'RP'", "'SYM'", "'TO'", "'UH'", "'VB'", "'VBD'", "'VBG'", 
+		"'VBN'", "'VBP'", "'VBZ'", "'WDT'", "'WP'", "'WP$'", "'WRB'"
+	};
+	private static final String[] _SYMBOLIC_NAMES = {
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		null, null, null, null, null, null, null, null, null, null, null, null, 
+		"WS", "TOKEN"
+	};
+	public static final Vocabulary VOCABULARY = new VocabularyImpl(_LITERAL_NAMES, _SYMBOLIC_NAMES);
+
+	/**
+	 * @deprecated Use {@link #VOCABULARY} instead.
+	 */
+	@Deprecated
+	public static final String[] tokenNames;
+	static {
+		tokenNames = new String[_SYMBOLIC_NAMES.length];
+		for (int i = 0; i < tokenNames.length; i++) {
+			tokenNames[i] = VOCABULARY.getLiteralName(i);
+			if (tokenNames[i] == null) {
+				tokenNames[i] = VOCABULARY.getSymbolicName(i);
+			}
+
+			if (tokenNames[i] == null) {
+				tokenNames[i] = "<INVALID>";
+			}
+		}
+	}
+
+	@Override
+	@Deprecated
+	public String[] getTokenNames() {
+		return tokenNames;
+	}
+
+	@Override
+	@NotNull
+	public Vocabulary getVocabulary() {
+		return VOCABULARY;
+	}
+
+	@Override
+	public String getGrammarFileName() { return "ChemicalChunker.g4"; }
+
+	@Override
+	public String[] getRuleNames() { return ruleNames; }
+
+	@Override
+	public String getSerializedATN() { return _serializedATN; }
+
+
+	public boolean isAtTokenPositionZero(TokenStream stream){
+		return stream.index()==0;
+	}
+
+	public boolean followedByVBDorVBZthenVBYIELDed(TokenStream stream){
+		String nextTokenTypeStr = stream.LT(1).getText();
+		if ("VBD".equals(nextTokenTypeStr) || "VBZ".equals(nextTokenTypeStr)){
+			String twoAheadTypeStr = stream.LT(3).getText();
+			if ("VB-YIELD".equals(twoAheadTypeStr)){
+				String twoAheadTokenText = stream.LT(4).getText();
+				if (twoAheadTokenText !=null && twoAheadTokenText.toLowerCase().endsWith("ed")){
+					return true;
+				}
+			}
+		}
+		return false;
+	}
+
+	public boolean isCdThatCouldBeAnIdentifier(TokenStream stream){
+		String tokenTypeStr = stream.LT(1).getText();
+		if ("CD".equals(tokenTypeStr)){
+			String nextTokenTypeStr = stream.LT(3).getText();
+			if (isQuantityUnit(nextTokenTypeStr)){
+				return false;//quantity
+			}
+			if ("NN-TIMES".equals(nextTokenTypeStr)){
+				return false;//e.g. washed with the compound 3 times
+			}
+			if ("COLON".equals(nextTokenTypeStr)){
+				String twoAheadTypeStr = stream.LT(5).getText();
+				if ("CD".equals(twoAheadTypeStr)){
+					String threeAheadTypeStr = stream.LT(7).getText();
+					if (!isQuantityUnit(threeAheadTypeStr)){
+						return false;//ratio
+					}
+				}
+			}
+			return true;
+		}
+		return false;
+	}
+
+	public boolean isCdNotfollowedByQuantityUnits(TokenStream stream){
+		String tokenTypeStr = stream.LT(1).getText();
+		if ("CD".equals(tokenTypeStr)){
+			String nextTokenTypeStr = stream.LT(3).getText();
+			if (isQuantityUnit(nextTokenTypeStr)){
+				return false;//quantity
+			}
+			return true;
+		}
+		return false;
+	}
+
+	public boolean isQuantityUnit(String tokenType){
+		return ("NN-MOLAR".equals(tokenType) || "NN-AMOUNT".equals(tokenType) ||
+				"NN-MASS".equals(tokenType) || "NN-VOL".equals(tokenType) ||
+				"NN-EQ".equals(tokenType) || "NN-PERCENT".equals(tokenType));
+	}
+
+	public boolean precededByProduct(TokenStream stream){
+		Token previousToken = stream.LT(-1);
+		if (previousToken !=null && previousToken.getText().equalsIgnoreCase("product")){
+			return true;
+		}
+		return false;
+	}
+
+	public boolean suitableVbYieldOrSynthesizeForReference(TokenStream stream){
+		Token nextTokenType = stream.LT(1);
+		if ("VB-YIELD".equals(nextTokenType.getText()) || "VB-SYNTHESIZE".equals(nextTokenType.getText())){
+			String nextTokenText = stream.LT(2).getText();
+			if (nextTokenText !=null && nextTokenText.toLowerCase().endsWith("ed")){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean nextIsSemiColon(TokenStream stream){
+		Token nextTokenType = stream.LT(1);
+		if ("STOP".equals(nextTokenType.getText())){
+			String nextTokenText = stream.LT(2).getText();
+			if (nextTokenText !=null && nextTokenText.equals(";")){
+				return true;
+			}
+		}
+		return false;
+	}
+
+	public boolean notFollowedByBracketedYear(TokenStream stream){
+		Token nextTokenType = stream.LT(1);
+		if ("-LRB-".equals(nextTokenType.getText())){
+			Token nextNextTokenType = stream.LT(3);
+			if ("CD".equals(nextNextTokenType.getText())){
+				String nextNextTokenText = stream.LT(4).getText();
+				if (nextNextTokenText !=null){
+					try{
+						int i = Integer.parseInt(nextNextTokenText);
+						if (i >1000){
+							return false;
+						}
+					}
+					catch (NumberFormatException e) {
+					}
+				}
+			}
+		}
+		return true;
+	}
+
+	public ChemicalChunkerParser(TokenStream input) {
+		super(input);
+		_interp = new ParserATNSimulator(this,_ATN);
+	}
+	public static class DocumentContext extends ParserRuleContext {
+		public List<? extends SentenceContext> sentence() {
+			return getRuleContexts(SentenceContext.class);
+		}
+		public SentenceContext sentence(int i) {
+			return getRuleContext(SentenceContext.class,i);
+		}
+		public DocumentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_document; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterDocument(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitDocument(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final DocumentContext document() throws RecognitionException {
+		DocumentContext _localctx = new DocumentContext(_ctx, getState());
+		enterRule(_localctx, 0, RULE_document);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(549); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(548);
+					sentence();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(551); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,0,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SentenceContext extends ParserRuleContext {
+		public ProcedureNounPhraseContext procedureNounPhrase() {
+			return getRuleContext(ProcedureNounPhraseContext.class,0);
+		}
+		public List<? extends StopContext> stop() {
+			return getRuleContexts(StopContext.class);
+		}
+		public StopContext stop(int i) {
+			return getRuleContext(StopContext.class,i);
+		}
+		public List<? extends SentenceStructureContext> sentenceStructure() {
+			return getRuleContexts(SentenceStructureContext.class);
+		}
+		public SentenceStructureContext sentenceStructure(int i) {
+			return getRuleContext(SentenceStructureContext.class,i);
+		}
+		public List<? extends UnmatchedPhraseContext> unmatchedPhrase() {
+			return getRuleContexts(UnmatchedPhraseContext.class);
+		}
+		public UnmatchedPhraseContext unmatchedPhrase(int i) {
+			return getRuleContext(UnmatchedPhraseContext.class,i);
+		}
+		public SentenceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sentence; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterSentence(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitSentence(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final SentenceContext sentence() throws RecognitionException {
+		SentenceContext _localctx = new SentenceContext(_ctx, getState());
+		enterRule(_localctx, 2, RULE_sentence);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(560);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,3,_ctx) ) {
+			case 1:
+				{
+				setState(553);
+				procedureNounPhrase();
+				}
+				break;
+
+			case 2:
+				{
+				setState(556); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						setState(556);
+						_errHandler.sync(this);
+						switch ( getInterpreter().adaptivePredict(_input,1,_ctx) ) {
+						case 1:
+							{
+							setState(554);
+							sentenceStructure();
+							}
+							break;
+
+						case 2:
+							{
+							setState(555);
+							unmatchedPhrase();
+							}
+							break;
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(558); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,2,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				}
+				break;
+			}
+			setState(565);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(562);
+					stop();
+					}
+					} 
+				}
+				setState(567);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,4,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SentenceStructureContext extends ParserRuleContext {
+		public List<? extends NounphraseContext> nounphrase() {
+			return getRuleContexts(NounphraseContext.class);
+		}
+		public NounphraseContext nounphrase(int i) {
+			return getRuleContext(NounphraseContext.class,i);
+		}
+		public List<? extends VerbphraseContext> verbphrase() {
+			return getRuleContexts(VerbphraseContext.class);
+		}
+		public VerbphraseContext verbphrase(int i) {
+			return getRuleContext(VerbphraseContext.class,i);
+		}
+		public List<? extends PrepphraseContext> prepphrase() {
+			return getRuleContexts(PrepphraseContext.class);
+		}
+		public PrepphraseContext prepphrase(int i) {
+			return getRuleContext(PrepphraseContext.class,i);
+		}
+		public List<? extends PrepphraseAfterContext> prepphraseAfter() {
+			return getRuleContexts(PrepphraseAfterContext.class);
+		}
+		public PrepphraseAfterContext prepphraseAfter(int i) {
+			return getRuleContext(PrepphraseAfterContext.class,i);
+		}
+		public List<? extends AdvAdjContext> advAdj() {
+			return getRuleContexts(AdvAdjContext.class);
+		}
+		public AdvAdjContext advAdj(int i) {
+			return getRuleContext(AdvAdjContext.class,i);
+		}
+		public List<? extends ColonContext> colon() {
+			return getRuleContexts(ColonContext.class);
+		}
+		public ColonContext colon(int i) {
+			return getRuleContext(ColonContext.class,i);
+		}
+		public List<? extends ConjunctionContext> conjunction() {
+			return getRuleContexts(ConjunctionContext.class);
+		}
+		public ConjunctionContext conjunction(int i) {
+			return getRuleContext(ConjunctionContext.class,i);
+		}
+		public List<? extends RbconjContext> rbconj() {
+			return getRuleContexts(RbconjContext.class);
+		}
+		public RbconjContext rbconj(int i) {
+			return getRuleContext(RbconjContext.class,i);
+		}
+		public List<? extends CommaContext> comma() {
+			return getRuleContexts(CommaContext.class);
+		}
+		public CommaContext comma(int i) {
+			return getRuleContext(CommaContext.class,i);
+		}
+		public SentenceStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sentenceStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterSentenceStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitSentenceStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final SentenceStructureContext sentenceStructure() throws RecognitionException {
+		SentenceStructureContext _localctx = new SentenceStructureContext(_ctx, getState());
+		enterRule(_localctx, 4, RULE_sentenceStructure);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(572); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					setState(572);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,5,_ctx) ) {
+					case 1:
+						{
+						setState(568);
+						nounphrase();
+						}
+						break;
+
+					case 2:
+						{
+						setState(569);
+						verbphrase();
+						}
+						break;
+
+					case 3:
+						{
+						setState(570);
+						prepphrase();
+						}
+						break;
+
+					case 4:
+						{
+						setState(571);
+						prepphraseAfter();
+						}
+						break;
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(574); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,6,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(580);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,8,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(578);
+					switch (_input.LA(1)) {
+					case T__2:
+					case T__3:
+					case T__7:
+					case T__113:
+					case T__114:
+					case T__115:
+					case T__126:
+					case T__127:
+					case T__128:
+					case T__129:
+						{
+						setState(576);
+						advAdj();
+						}
+						break;
+					case T__94:
+						{
+						setState(577);
+						colon();
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					} 
+				}
+				setState(582);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,8,_ctx);
+			}
+			setState(588);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(586);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,9,_ctx) ) {
+					case 1:
+						{
+						setState(583);
+						conjunction();
+						}
+						break;
+
+					case 2:
+						{
+						setState(584);
+						rbconj();
+						}
+						break;
+
+					case 3:
+						{
+						setState(585);
+						comma();
+						}
+						break;
+					}
+					} 
+				}
+				setState(590);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,10,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnmatchedPhraseContext extends ParserRuleContext {
+		public UnmatchedTokenContext unmatchedToken() {
+			return getRuleContext(UnmatchedTokenContext.class,0);
+		}
+		public UnmatchedPhraseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unmatchedPhrase; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterUnmatchedPhrase(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitUnmatchedPhrase(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final UnmatchedPhraseContext unmatchedPhrase() throws RecognitionException {
+		UnmatchedPhraseContext _localctx = new UnmatchedPhraseContext(_ctx, getState());
+		enterRule(_localctx, 6, RULE_unmatchedPhrase);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(591);
+			unmatchedToken();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnmatchedTokenContext extends ParserRuleContext {
+		public NumericContext numeric() {
+			return getRuleContext(NumericContext.class,0);
+		}
+		public AdvAdjContext advAdj() {
+			return getRuleContext(AdvAdjContext.class,0);
+		}
+		public TmunicodeContext tmunicode() {
+			return getRuleContext(TmunicodeContext.class,0);
+		}
+		public CdunicodeContext cdunicode() {
+			return getRuleContext(CdunicodeContext.class,0);
+		}
+		public JjcompContext jjcomp() {
+			return getRuleContext(JjcompContext.class,0);
+		}
+		public InAllContext inAll() {
+			return getRuleContext(InAllContext.class,0);
+		}
+		public NnexampleContext nnexample() {
+			return getRuleContext(NnexampleContext.class,0);
+		}
+		public NnstateContext nnstate() {
+			return getRuleContext(NnstateContext.class,0);
+		}
+		public NntimeContext nntime() {
+			return getRuleContext(NntimeContext.class,0);
+		}
+		public NnmassContext nnmass() {
+			return getRuleContext(NnmassContext.class,0);
+		}
+		public NnmolarContext nnmolar() {
+			return getRuleContext(NnmolarContext.class,0);
+		}
+		public NnamountContext nnamount() {
+			return getRuleContext(NnamountContext.class,0);
+		}
+		public NnatmosphereContext nnatmosphere() {
+			return getRuleContext(NnatmosphereContext.class,0);
+		}
+		public NneqContext nneq() {
+			return getRuleContext(NneqContext.class,0);
+		}
+		public NnvolContext nnvol() {
+			return getRuleContext(NnvolContext.class,0);
+		}
+		public NnchementityContext nnchementity() {
+			return getRuleContext(NnchementityContext.class,0);
+		}
+		public NntempContext nntemp() {
+			return getRuleContext(NntempContext.class,0);
+		}
+		public NnphContext nnph() {
+			return getRuleContext(NnphContext.class,0);
+		}
+		public NnflashContext nnflash() {
+			return getRuleContext(NnflashContext.class,0);
+		}
+		public NngeneralContext nngeneral() {
+			return getRuleContext(NngeneralContext.class,0);
+		}
+		public NnmethodContext nnmethod() {
+			return getRuleContext(NnmethodContext.class,0);
+		}
+		public NnpressureContext nnpressure() {
+			return getRuleContext(NnpressureContext.class,0);
+		}
+		public NncolumnContext nncolumn() {
+			return getRuleContext(NncolumnContext.class,0);
+		}
+		public NnchromatographyContext nnchromatography() {
+			return getRuleContext(NnchromatographyContext.class,0);
+		}
+		public NnvacuumContext nnvacuum() {
+			return getRuleContext(NnvacuumContext.class,0);
+		}
+		public NncycleContext nncycle() {
+			return getRuleContext(NncycleContext.class,0);
+		}
+		public NntimesContext nntimes() {
+			return getRuleContext(NntimesContext.class,0);
+		}
+		public OscarcmContext oscarcm() {
+			return getRuleContext(OscarcmContext.class,0);
+		}
+		public OscaraseContext oscarase() {
+			return getRuleContext(OscaraseContext.class,0);
+		}
+		public VerbContext verb() {
+			return getRuleContext(VerbContext.class,0);
+		}
+		public NnaddContext nnadd() {
+			return getRuleContext(NnaddContext.class,0);
+		}
+		public NnmixtureContext nnmixture() {
+			return getRuleContext(NnmixtureContext.class,0);
+		}
+		public NnapparatusContext nnapparatus() {
+			return getRuleContext(NnapparatusContext.class,0);
+		}
+		public NnconcentrateContext nnconcentrate() {
+			return getRuleContext(NnconcentrateContext.class,0);
+		}
+		public NndryContext nndry() {
+			return getRuleContext(NndryContext.class,0);
+		}
+		public NnextractContext nnextract() {
+			return getRuleContext(NnextractContext.class,0);
+		}
+		public NnfilterContext nnfilter() {
+			return getRuleContext(NnfilterContext.class,0);
+		}
+		public NnprecipitateContext nnprecipitate() {
+			return getRuleContext(NnprecipitateContext.class,0);
+		}
+		public NnpurifyContext nnpurify() {
+			return getRuleContext(NnpurifyContext.class,0);
+		}
+		public NnremoveContext nnremove() {
+			return getRuleContext(NnremoveContext.class,0);
+		}
+		public NnsynthesizeContext nnsynthesize() {
+			return getRuleContext(NnsynthesizeContext.class,0);
+		}
+		public NnyieldContext nnyield() {
+			return getRuleContext(NnyieldContext.class,0);
+		}
+		public ColonContext colon() {
+			return getRuleContext(ColonContext.class,0);
+		}
+		public ApostContext apost() {
+			return getRuleContext(ApostContext.class,0);
+		}
+		public NegContext neg() {
+			return getRuleContext(NegContext.class,0);
+		}
+		public DashContext dash() {
+			return getRuleContext(DashContext.class,0);
+		}
+		public PercentsignContext percentsign() {
+			return getRuleContext(PercentsignContext.class,0);
+		}
+		public LsqbContext lsqb() {
+			return getRuleContext(LsqbContext.class,0);
+		}
+		public RsqbContext rsqb() {
+			return getRuleContext(RsqbContext.class,0);
+		}
+		public LrbContext lrb() {
+			return getRuleContext(LrbContext.class,0);
+		}
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public CcContext cc() {
+			return getRuleContext(CcContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public DtTHEContext dtTHE() {
+			return getRuleContext(DtTHEContext.class,0);
+		}
+		public FwContext fw() {
+			return getRuleContext(FwContext.class,0);
+		}
+		public MdContext md() {
+			return getRuleContext(MdContext.class,0);
+		}
+		public NnContext nn() {
+			return getRuleContext(NnContext.class,0);
+		}
+		public NnsContext nns() {
+			return getRuleContext(NnsContext.class,0);
+		}
+		public NnpContext nnp() {
+			return getRuleContext(NnpContext.class,0);
+		}
+		public PrpContext prp() {
+			return getRuleContext(PrpContext.class,0);
+		}
+		public Prp_possContext prp_poss() {
+			return getRuleContext(Prp_possContext.class,0);
+		}
+		public RbconjContext rbconj() {
+			return getRuleContext(RbconjContext.class,0);
+		}
+		public SymContext sym() {
+			return getRuleContext(SymContext.class,0);
+		}
+		public UhContext uh() {
+			return getRuleContext(UhContext.class,0);
+		}
+		public ClauseContext clause() {
+			return getRuleContext(ClauseContext.class,0);
+		}
+		public CommaContext comma() {
+			return getRuleContext(CommaContext.class,0);
+		}
+		public LsContext ls() {
+			return getRuleContext(LsContext.class,0);
+		}
+		public NnpsContext nnps() {
+			return getRuleContext(NnpsContext.class,0);
+		}
+		public PosContext pos() {
+			return getRuleContext(PosContext.class,0);
+		}
+		public NnidentifierContext nnidentifier() {
+			return getRuleContext(NnidentifierContext.class,0);
+		}
+		public UnmatchedTokenContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unmatchedToken; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterUnmatchedToken(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitUnmatchedToken(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final UnmatchedTokenContext unmatchedToken() throws RecognitionException {
+		UnmatchedTokenContext _localctx = new UnmatchedTokenContext(_ctx, getState());
+		enterRule(_localctx, 8, RULE_unmatchedToken);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(663);
+			switch (_input.LA(1)) {
+			case T__1:
+			case T__108:
+				{
+				setState(593);
+				numeric();
+				}
+				break;
+			case T__2:
+			case T__3:
+			case T__7:
+			case T__113:
+			case T__114:
+			case T__115:
+			case T__126:
+			case T__127:
+			case T__128:
+			case T__129:
+				{
+				setState(594);
+				advAdj();
+				}
+				break;
+			case T__5:
+				{
+				setState(595);
+				tmunicode();
+				}
+				break;
+			case T__6:
+				{
+				setState(596);
+				cdunicode();
+				}
+				break;
+			case T__8:
+				{
+				setState(597);
+				jjcomp();
+				}
+				break;
+			case T__9:
+			case T__10:
+			case T__11:
+			case T__12:
+			case T__13:
+			case T__14:
+			case T__15:
+			case T__16:
+			case T__17:
+			case T__18:
+			case T__19:
+			case T__20:
+			case T__21:
+			case T__22:
+			case T__23:
+			case T__24:
+			case T__112:
+			case T__131:
+				{
+				setState(598);
+				inAll();
+				}
+				break;
+			case T__45:
+				{
+				setState(599);
+				nnexample();
+				}
+				break;
+			case T__25:
+				{
+				setState(600);
+				nnstate();
+				}
+				break;
+			case T__26:
+				{
+				setState(601);
+				nntime();
+				}
+				break;
+			case T__27:
+				{
+				setState(602);
+				nnmass();
+				}
+				break;
+			case T__29:
+				{
+				setState(603);
+				nnmolar();
+				}
+				break;
+			case T__28:
+				{
+				setState(604);
+				nnamount();
+				}
+				break;
+			case T__30:
+				{
+				setState(605);
+				nnatmosphere();
+				}
+				break;
+			case T__31:
+				{
+				setState(606);
+				nneq();
+				}
+				break;
+			case T__32:
+				{
+				setState(607);
+				nnvol();
+				}
+				break;
+			case T__33:
+				{
+				setState(608);
+				nnchementity();
+				}
+				break;
+			case T__34:
+				{
+				setState(609);
+				nntemp();
+				}
+				break;
+			case T__35:
+				{
+				setState(610);
+				nnph();
+				}
+				break;
+			case T__36:
+				{
+				setState(611);
+				nnflash();
+				}
+				break;
+			case T__37:
+				{
+				setState(612);
+				nngeneral();
+				}
+				break;
+			case T__38:
+				{
+				setState(613);
+				nnmethod();
+				}
+				break;
+			case T__39:
+				{
+				setState(614);
+				nnpressure();
+				}
+				break;
+			case T__40:
+				{
+				setState(615);
+				nncolumn();
+				}
+				break;
+			case T__41:
+				{
+				setState(616);
+				nnchromatography();
+				}
+				break;
+			case T__42:
+				{
+				setState(617);
+				nnvacuum();
+				}
+				break;
+			case T__43:
+				{
+				setState(618);
+				nncycle();
+				}
+				break;
+			case T__44:
+				{
+				setState(619);
+				nntimes();
+				}
+				break;
+			case T__46:
+				{
+				setState(620);
+				oscarcm();
+				}
+				break;
+			case T__4:
+				{
+				setState(621);
+				oscarase();
+				}
+				break;
+			case T__47:
+			case T__48:
+			case T__49:
+			case T__50:
+			case T__53:
+			case T__54:
+			case T__55:
+			case T__56:
+			case T__57:
+			case T__58:
+			case T__59:
+			case T__60:
+			case T__61:
+			case T__63:
+			case T__65:
+			case T__66:
+			case T__67:
+			case T__68:
+			case T__70:
+			case T__72:
+			case T__74:
+			case T__75:
+			case T__76:
+			case T__77:
+			case T__78:
+			case T__80:
+			case T__82:
+			case T__83:
+			case T__84:
+			case T__86:
+			case T__87:
+			case T__89:
+			case T__90:
+			case T__91:
+			case T__133:
+			case T__134:
+			case T__135:
+			case T__136:
+			case T__137:
+			case T__138:
+				{
+				setState(622);
+				verb();
+				}
+				break;
+			case T__51:
+				{
+				setState(623);
+				nnadd();
+				}
+				break;
+			case T__52:
+				{
+				setState(624);
+				nnmixture();
+				}
+				break;
+			case T__62:
+				{
+				setState(625);
+				nnapparatus();
+				}
+				break;
+			case T__64:
+				{
+				setState(626);
+				nnconcentrate();
+				}
+				break;
+			case T__69:
+				{
+				setState(627);
+				nndry();
+				}
+				break;
+			case T__71:
+				{
+				setState(628);
+				nnextract();
+				}
+				break;
+			case T__73:
+				{
+				setState(629);
+				nnfilter();
+				}
+				break;
+			case T__79:
+				{
+				setState(630);
+				nnprecipitate();
+				}
+				break;
+			case T__81:
+				{
+				setState(631);
+				nnpurify();
+				}
+				break;
+			case T__85:
+				{
+				setState(632);
+				nnremove();
+				}
+				break;
+			case T__88:
+				{
+				setState(633);
+				nnsynthesize();
+				}
+				break;
+			case T__92:
+				{
+				setState(634);
+				nnyield();
+				}
+				break;
+			case T__94:
+				{
+				setState(635);
+				colon();
+				}
+				break;
+			case T__96:
+				{
+				setState(636);
+				apost();
+				}
+				break;
+			case T__97:
+				{
+				setState(637);
+				neg();
+				}
+				break;
+			case T__98:
+				{
+				setState(638);
+				dash();
+				}
+				break;
+			case T__100:
+				{
+				setState(639);
+				percentsign();
+				}
+				break;
+			case T__101:
+				{
+				setState(640);
+				lsqb();
+				}
+				break;
+			case T__102:
+				{
+				setState(641);
+				rsqb();
+				}
+				break;
+			case T__105:
+				{
+				setState(642);
+				lrb();
+				}
+				break;
+			case T__106:
+				{
+				setState(643);
+				rrb();
+				}
+				break;
+			case T__107:
+				{
+				setState(644);
+				cc();
+				}
+				break;
+			case T__109:
+				{
+				setState(645);
+				dt();
+				}
+				break;
+			case T__104:
+				{
+				setState(646);
+				dtTHE();
+				}
+				break;
+			case T__111:
+				{
+				setState(647);
+				fw();
+				}
+				break;
+			case T__117:
+				{
+				setState(648);
+				md();
+				}
+				break;
+			case T__118:
+				{
+				setState(649);
+				nn();
+				}
+				break;
+			case T__119:
+				{
+				setState(650);
+				nns();
+				}
+				break;
+			case T__120:
+				{
+				setState(651);
+				nnp();
+				}
+				break;
+			case T__124:
+				{
+				setState(652);
+				prp();
+				}
+				break;
+			case T__125:
+				{
+				setState(653);
+				prp_poss();
+				}
+				break;
+			case T__93:
+				{
+				setState(654);
+				rbconj();
+				}
+				break;
+			case T__130:
+				{
+				setState(655);
+				sym();
+				}
+				break;
+			case T__132:
+				{
+				setState(656);
+				uh();
+				}
+				break;
+			case T__110:
+			case T__122:
+			case T__139:
+			case T__140:
+			case T__141:
+			case T__142:
+				{
+				setState(657);
+				clause();
+				}
+				break;
+			case T__95:
+				{
+				setState(658);
+				comma();
+				}
+				break;
+			case T__116:
+				{
+				setState(659);
+				ls();
+				}
+				break;
+			case T__121:
+				{
+				setState(660);
+				nnps();
+				}
+				break;
+			case T__123:
+				{
+				setState(661);
+				pos();
+				}
+				break;
+			case T__103:
+				{
+				setState(662);
+				nnidentifier();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ProcedureNounPhraseContext extends ParserRuleContext {
+		public HeadingProcedureContext headingProcedure() {
+			return getRuleContext(HeadingProcedureContext.class,0);
+		}
+		public ProcedureNounPhraseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_procedureNounPhrase; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterProcedureNounPhrase(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitProcedureNounPhrase(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ProcedureNounPhraseContext procedureNounPhrase() throws RecognitionException {
+		ProcedureNounPhraseContext _localctx = new ProcedureNounPhraseContext(_ctx, getState());
+		enterRule(_localctx, 10, RULE_procedureNounPhrase);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(665);
+			if (!(isAtTokenPositionZero(_input))) throw new FailedPredicateException(this, "isAtTokenPositionZero(_input)");
+			setState(666);
+			headingProcedure();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class HeadingProcedureContext extends ParserRuleContext {
+		public HeadingProcedureRequiringTerminatorContext headingProcedureRequiringTerminator() {
+			return getRuleContext(HeadingProcedureRequiringTerminatorContext.class,0);
+		}
+		public HeadingProcedureTerminatorsContext headingProcedureTerminators() {
+			return getRuleContext(HeadingProcedureTerminatorsContext.class,0);
+		}
+		public BracketedHeadingProcedureContext bracketedHeadingProcedure() {
+			return getRuleContext(BracketedHeadingProcedureContext.class,0);
+		}
+		public HeadingProcedureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_headingProcedure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterHeadingProcedure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitHeadingProcedure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final HeadingProcedureContext headingProcedure() throws RecognitionException {
+		HeadingProcedureContext _localctx = new HeadingProcedureContext(_ctx, getState());
+		enterRule(_localctx, 12, RULE_headingProcedure);
+		try {
+			setState(675);
+			switch (_input.LA(1)) {
+			case T__1:
+			case T__103:
+			case T__108:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(668);
+				headingProcedureRequiringTerminator();
+				setState(669);
+				headingProcedureTerminators();
+				}
+				break;
+			case T__101:
+			case T__105:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(671);
+				bracketedHeadingProcedure();
+				setState(673);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,12,_ctx) ) {
+				case 1:
+					{
+					setState(672);
+					headingProcedureTerminators();
+					}
+					break;
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class HeadingProcedureRequiringTerminatorContext extends ParserRuleContext {
+		public NnidentifierContext nnidentifier() {
+			return getRuleContext(NnidentifierContext.class,0);
+		}
+		public NumericContext numeric() {
+			return getRuleContext(NumericContext.class,0);
+		}
+		public HeadingProcedureRequiringTerminatorContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_headingProcedureRequiringTerminator; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterHeadingProcedureRequiringTerminator(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitHeadingProcedureRequiringTerminator(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final HeadingProcedureRequiringTerminatorContext headingProcedureRequiringTerminator() throws RecognitionException {
+		HeadingProcedureRequiringTerminatorContext _localctx = new HeadingProcedureRequiringTerminatorContext(_ctx, getState());
+		enterRule(_localctx, 14, RULE_headingProcedureRequiringTerminator);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(679);
+			switch (_input.LA(1)) {
+			case T__103:
+				{
+				setState(677);
+				nnidentifier();
+				}
+				break;
+			case T__1:
+			case T__108:
+				{
+				setState(678);
+				numeric();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedHeadingProcedureContext extends ParserRuleContext {
+		public BracketedIdentifierContext bracketedIdentifier() {
+			return getRuleContext(BracketedIdentifierContext.class,0);
+		}
+		public BracketedNumericContext bracketedNumeric() {
+			return getRuleContext(BracketedNumericContext.class,0);
+		}
+		public SquareBracketedReferenceContext squareBracketedReference() {
+			return getRuleContext(SquareBracketedReferenceContext.class,0);
+		}
+		public BracketedHeadingProcedureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedHeadingProcedure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedHeadingProcedure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedHeadingProcedure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedHeadingProcedureContext bracketedHeadingProcedure() throws RecognitionException {
+		BracketedHeadingProcedureContext _localctx = new BracketedHeadingProcedureContext(_ctx, getState());
+		enterRule(_localctx, 16, RULE_bracketedHeadingProcedure);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(684);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,15,_ctx) ) {
+			case 1:
+				{
+				setState(681);
+				bracketedIdentifier();
+				}
+				break;
+
+			case 2:
+				{
+				setState(682);
+				bracketedNumeric();
+				}
+				break;
+
+			case 3:
+				{
+				setState(683);
+				squareBracketedReference();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class HeadingProcedureTerminatorsContext extends ParserRuleContext {
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public StopContext stop() {
+			return getRuleContext(StopContext.class,0);
+		}
+		public ColonContext colon() {
+			return getRuleContext(ColonContext.class,0);
+		}
+		public HeadingProcedureTerminatorsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_headingProcedureTerminators; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterHeadingProcedureTerminators(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitHeadingProcedureTerminators(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final HeadingProcedureTerminatorsContext headingProcedureTerminators() throws RecognitionException {
+		HeadingProcedureTerminatorsContext _localctx = new HeadingProcedureTerminatorsContext(_ctx, getState());
+		enterRule(_localctx, 18, RULE_headingProcedureTerminators);
+		try {
+			setState(689);
+			switch (_input.LA(1)) {
+			case T__106:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(686);
+				rrb();
+				}
+				break;
+			case T__99:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(687);
+				stop();
+				}
+				break;
+			case T__94:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(688);
+				colon();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NounphraseContext extends ParserRuleContext {
+		public NounphraseStructureContext nounphraseStructure() {
+			return getRuleContext(NounphraseStructureContext.class,0);
+		}
+		public NounphraseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nounphrase; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNounphrase(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNounphrase(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NounphraseContext nounphrase() throws RecognitionException {
+		NounphraseContext _localctx = new NounphraseContext(_ctx, getState());
+		enterRule(_localctx, 20, RULE_nounphrase);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(691);
+			nounphraseStructure();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NounphraseStructureContext extends ParserRuleContext {
+		public NounphraseStructure1Context nounphraseStructure1() {
+			return getRuleContext(NounphraseStructure1Context.class,0);
+		}
+		public NounphraseStructure2Context nounphraseStructure2() {
+			return getRuleContext(NounphraseStructure2Context.class,0);
+		}
+		public NounphraseStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nounphraseStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNounphraseStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNounphraseStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NounphraseStructureContext nounphraseStructure() throws RecognitionException {
+		NounphraseStructureContext _localctx = new NounphraseStructureContext(_ctx, getState());
+		enterRule(_localctx, 22, RULE_nounphraseStructure);
+		try {
+			setState(695);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,17,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(693);
+				nounphraseStructure1();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(694);
+				nounphraseStructure2();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NounphraseStructure1Context extends ParserRuleContext {
+		public MultiApparatusContext multiApparatus() {
+			return getRuleContext(MultiApparatusContext.class,0);
+		}
+		public NounphraseStructure1Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nounphraseStructure1; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNounphraseStructure1(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNounphraseStructure1(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NounphraseStructure1Context nounphraseStructure1() throws RecognitionException {
+		NounphraseStructure1Context _localctx = new NounphraseStructure1Context(_ctx, getState());
+		enterRule(_localctx, 24, RULE_nounphraseStructure1);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(697);
+			multiApparatus();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NounphraseStructure2Context extends ParserRuleContext {
+		public List<? extends NounphraseContentContext> nounphraseContent() {
+			return getRuleContexts(NounphraseContentContext.class);
+		}
+		public NounphraseContentContext nounphraseContent(int i) {
+			return getRuleContext(NounphraseContentContext.class,i);
+		}
+		public DtTHEContext dtTHE() {
+			return getRuleContext(DtTHEContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public PrepphraseOfContext prepphraseOf() {
+			return getRuleContext(PrepphraseOfContext.class,0);
+		}
+		public PrepphraseINContext prepphraseIN() {
+			return getRuleContext(PrepphraseINContext.class,0);
+		}
+		public List<? extends ConjunctionContext> conjunction() {
+			return getRuleContexts(ConjunctionContext.class);
+		}
+		public ConjunctionContext conjunction(int i) {
+			return getRuleContext(ConjunctionContext.class,i);
+		}
+		public NounphraseStructure2Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nounphraseStructure2; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNounphraseStructure2(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNounphraseStructure2(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NounphraseStructure2Context nounphraseStructure2() throws RecognitionException {
+		NounphraseStructure2Context _localctx = new NounphraseStructure2Context(_ctx, getState());
+		enterRule(_localctx, 26, RULE_nounphraseStructure2);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(700);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,18,_ctx) ) {
+			case 1:
+				{
+				setState(699);
+				dtTHE();
+				}
+				break;
+			}
+			setState(703);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,19,_ctx) ) {
+			case 1:
+				{
+				setState(702);
+				dt();
+				}
+				break;
+			}
+			setState(705);
+			nounphraseContent();
+			setState(717);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(709);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
+					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+						if ( _alt==1 ) {
+							{
+							{
+							setState(706);
+							conjunction();
+							}
+							} 
+						}
+						setState(711);
+						_errHandler.sync(this);
+						_alt = getInterpreter().adaptivePredict(_input,20,_ctx);
+					}
+					setState(712);
+					nounphraseContent();
+					setState(713);
+					if (!(!followedByVBDorVBZthenVBYIELDed(_input))) throw new FailedPredicateException(this, "!followedByVBDorVBZthenVBYIELDed(_input)");
+					}
+					} 
+				}
+				setState(719);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,21,_ctx);
+			}
+			setState(722);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,22,_ctx) ) {
+			case 1:
+				{
+				setState(720);
+				prepphraseOf();
+				}
+				break;
+
+			case 2:
+				{
+				setState(721);
+				prepphraseIN();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NounphraseContentContext extends ParserRuleContext {
+		public List<? extends AdvAdjContext> advAdj() {
+			return getRuleContexts(AdvAdjContext.class);
+		}
+		public AdvAdjContext advAdj(int i) {
+			return getRuleContext(AdvAdjContext.class,i);
+		}
+		public List<? extends DissolvePhraseContext> dissolvePhrase() {
+			return getRuleContexts(DissolvePhraseContext.class);
+		}
+		public DissolvePhraseContext dissolvePhrase(int i) {
+			return getRuleContext(DissolvePhraseContext.class,i);
+		}
+		public List<? extends RatioOrBracketedRatioContext> ratioOrBracketedRatio() {
+			return getRuleContexts(RatioOrBracketedRatioContext.class);
+		}
+		public RatioOrBracketedRatioContext ratioOrBracketedRatio(int i) {
+			return getRuleContext(RatioOrBracketedRatioContext.class,i);
+		}
+		public List<? extends NounContext> noun() {
+			return getRuleContexts(NounContext.class);
+		}
+		public NounContext noun(int i) {
+			return getRuleContext(NounContext.class,i);
+		}
+		public List<? extends NumericContext> numeric() {
+			return getRuleContexts(NumericContext.class);
+		}
+		public NumericContext numeric(int i) {
+			return getRuleContext(NumericContext.class,i);
+		}
+		public List<? extends BracketedContentContext> bracketedContent() {
+			return getRuleContexts(BracketedContentContext.class);
+		}
+		public BracketedContentContext bracketedContent(int i) {
+			return getRuleContext(BracketedContentContext.class,i);
+		}
+		public NounphraseContentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nounphraseContent; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNounphraseContent(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNounphraseContent(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NounphraseContentContext nounphraseContent() throws RecognitionException {
+		NounphraseContentContext _localctx = new NounphraseContentContext(_ctx, getState());
+		enterRule(_localctx, 28, RULE_nounphraseContent);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(727);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(724);
+					advAdj();
+					}
+					} 
+				}
+				setState(729);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,23,_ctx);
+			}
+			setState(735); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					setState(735);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,24,_ctx) ) {
+					case 1:
+						{
+						setState(730);
+						dissolvePhrase();
+						}
+						break;
+
+					case 2:
+						{
+						setState(731);
+						ratioOrBracketedRatio();
+						}
+						break;
+
+					case 3:
+						{
+						setState(732);
+						noun();
+						}
+						break;
+
+					case 4:
+						{
+						setState(733);
+						numeric();
+						}
+						break;
+
+					case 5:
+						{
+						setState(734);
+						bracketedContent();
+						}
+						break;
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(737); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,25,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DissolvePhraseContext extends ParserRuleContext {
+		public DissolveStructureContext dissolveStructure() {
+			return getRuleContext(DissolveStructureContext.class,0);
+		}
+		public LrbContext lrb() {
+			return getRuleContext(LrbContext.class,0);
+		}
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public DissolvePhraseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dissolvePhrase; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterDissolvePhrase(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitDissolvePhrase(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final DissolvePhraseContext dissolvePhrase() throws RecognitionException {
+		DissolvePhraseContext _localctx = new DissolvePhraseContext(_ctx, getState());
+		enterRule(_localctx, 30, RULE_dissolvePhrase);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(744);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,26,_ctx) ) {
+			case 1:
+				{
+				setState(739);
+				dissolveStructure();
+				}
+				break;
+
+			case 2:
+				{
+				setState(740);
+				lrb();
+				setState(741);
+				dissolveStructure();
+				setState(742);
+				rrb();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DissolveStructureContext extends ParserRuleContext {
+		public InMoleculeContext inMolecule() {
+			return getRuleContext(InMoleculeContext.class,0);
+		}
+		public NnpContext nnp() {
+			return getRuleContext(NnpContext.class,0);
+		}
+		public NnchementityContext nnchementity() {
+			return getRuleContext(NnchementityContext.class,0);
+		}
+		public AdjContext adj() {
+			return getRuleContext(AdjContext.class,0);
+		}
+		public List<? extends ConjunctionContext> conjunction() {
+			return getRuleContexts(ConjunctionContext.class);
+		}
+		public ConjunctionContext conjunction(int i) {
+			return getRuleContext(ConjunctionContext.class,i);
+		}
+		public List<? extends MoleculeContext> molecule() {
+			return getRuleContexts(MoleculeContext.class);
+		}
+		public MoleculeContext molecule(int i) {
+			return getRuleContext(MoleculeContext.class,i);
+		}
+		public UnnamedmoleculeContext unnamedmolecule() {
+			return getRuleContext(UnnamedmoleculeContext.class,0);
+		}
+		public DissolveStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dissolveStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterDissolveStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitDissolveStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final DissolveStructureContext dissolveStructure() throws RecognitionException {
+		DissolveStructureContext _localctx = new DissolveStructureContext(_ctx, getState());
+		enterRule(_localctx, 32, RULE_dissolveStructure);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(747);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,27,_ctx) ) {
+			case 1:
+				{
+				setState(746);
+				adj();
+				}
+				break;
+			}
+			setState(759);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,30,_ctx) ) {
+			case 1:
+				{
+				setState(749);
+				nnp();
+				setState(750);
+				nnchementity();
+				}
+				break;
+
+			case 2:
+				{
+				setState(753);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,28,_ctx) ) {
+				case 1:
+					{
+					setState(752);
+					nnp();
+					}
+					break;
+				}
+				setState(757);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,29,_ctx) ) {
+				case 1:
+					{
+					setState(755);
+					molecule();
+					}
+					break;
+
+				case 2:
+					{
+					setState(756);
+					unnamedmolecule();
+					}
+					break;
+				}
+				}
+				break;
+			}
+			setState(761);
+			inMolecule();
+			setState(767);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(762);
+					conjunction();
+					setState(763);
+					molecule();
+					}
+					} 
+				}
+				setState(769);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,31,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InMoleculeContext extends ParserRuleContext {
+		public IninContext inin() {
+			return getRuleContext(IninContext.class,0);
+		}
+		public MoleculeContext molecule() {
+			return getRuleContext(MoleculeContext.class,0);
+		}
+		public UnnamedmoleculeContext unnamedmolecule() {
+			return getRuleContext(UnnamedmoleculeContext.class,0);
+		}
+		public DtTHEContext dtTHE() {
+			return getRuleContext(DtTHEContext.class,0);
+		}
+		public AdjContext adj() {
+			return getRuleContext(AdjContext.class,0);
+		}
+		public NnpContext nnp() {
+			return getRuleContext(NnpContext.class,0);
+		}
+		public InMoleculeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inMolecule; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInMolecule(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInMolecule(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InMoleculeContext inMolecule() throws RecognitionException {
+		InMoleculeContext _localctx = new InMoleculeContext(_ctx, getState());
+		enterRule(_localctx, 34, RULE_inMolecule);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(770);
+			inin();
+			setState(772);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,32,_ctx) ) {
+			case 1:
+				{
+				setState(771);
+				dtTHE();
+				}
+				break;
+			}
+			setState(775);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,33,_ctx) ) {
+			case 1:
+				{
+				setState(774);
+				adj();
+				}
+				break;
+			}
+			setState(778);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,34,_ctx) ) {
+			case 1:
+				{
+				setState(777);
+				nnp();
+				}
+				break;
+			}
+			setState(782);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,35,_ctx) ) {
+			case 1:
+				{
+				setState(780);
+				molecule();
+				}
+				break;
+
+			case 2:
+				{
+				setState(781);
+				unnamedmolecule();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VerbphraseContext extends ParserRuleContext {
+		public VerbphraseStructureContext verbphraseStructure() {
+			return getRuleContext(VerbphraseStructureContext.class,0);
+		}
+		public VerbphraseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_verbphrase; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVerbphrase(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVerbphrase(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VerbphraseContext verbphrase() throws RecognitionException {
+		VerbphraseContext _localctx = new VerbphraseContext(_ctx, getState());
+		enterRule(_localctx, 36, RULE_verbphrase);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(784);
+			verbphraseStructure();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VerbphraseStructureContext extends ParserRuleContext {
+		public ActionVerbContext actionVerb() {
+			return getRuleContext(ActionVerbContext.class,0);
+		}
+		public OtherVerbContext otherVerb() {
+			return getRuleContext(OtherVerbContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public ToContext to() {
+			return getRuleContext(ToContext.class,0);
+		}
+		public InAllContext inAll() {
+			return getRuleContext(InAllContext.class,0);
+		}
+		public InafterContext inafter() {
+			return getRuleContext(InafterContext.class,0);
+		}
+		public List<? extends MdContext> md() {
+			return getRuleContexts(MdContext.class);
+		}
+		public MdContext md(int i) {
+			return getRuleContext(MdContext.class,i);
+		}
+		public RbconjContext rbconj() {
+			return getRuleContext(RbconjContext.class,0);
+		}
+		public List<? extends AdvContext> adv() {
+			return getRuleContexts(AdvContext.class);
+		}
+		public AdvContext adv(int i) {
+			return getRuleContext(AdvContext.class,i);
+		}
+		public List<? extends AdjContext> adj() {
+			return getRuleContexts(AdjContext.class);
+		}
+		public AdjContext adj(int i) {
+			return getRuleContext(AdjContext.class,i);
+		}
+		public InoffContext inoff() {
+			return getRuleContext(InoffContext.class,0);
+		}
+		public List<? extends PrepphraseContext> prepphrase() {
+			return getRuleContexts(PrepphraseContext.class);
+		}
+		public PrepphraseContext prepphrase(int i) {
+			return getRuleContext(PrepphraseContext.class,i);
+		}
+		public NegContext neg() {
+			return getRuleContext(NegContext.class,0);
+		}
+		public List<? extends OtherVerbStructureContext> otherVerbStructure() {
+			return getRuleContexts(OtherVerbStructureContext.class);
+		}
+		public OtherVerbStructureContext otherVerbStructure(int i) {
+			return getRuleContext(OtherVerbStructureContext.class,i);
+		}
+		public ActionVerbStructureContext actionVerbStructure() {
+			return getRuleContext(ActionVerbStructureContext.class,0);
+		}
+		public List<? extends CcContext> cc() {
+			return getRuleContexts(CcContext.class);
+		}
+		public CcContext cc(int i) {
+			return getRuleContext(CcContext.class,i);
+		}
+		public List<? extends CommaContext> comma() {
+			return getRuleContexts(CommaContext.class);
+		}
+		public CommaContext comma(int i) {
+			return getRuleContext(CommaContext.class,i);
+		}
+		public VerbphraseStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_verbphraseStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVerbphraseStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVerbphraseStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VerbphraseStructureContext verbphraseStructure() throws RecognitionException {
+		VerbphraseStructureContext _localctx = new VerbphraseStructureContext(_ctx, getState());
+		enterRule(_localctx, 38, RULE_verbphraseStructure);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(787);
+			_la = _input.LA(1);
+			if (_la==T__109) {
+				{
+				setState(786);
+				dt();
+				}
+			}
+
+			setState(790);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,37,_ctx) ) {
+			case 1:
+				{
+				setState(789);
+				to();
+				}
+				break;
+			}
+			setState(793);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,38,_ctx) ) {
+			case 1:
+				{
+				setState(792);
+				inAll();
+				}
+				break;
+			}
+			setState(796);
+			_la = _input.LA(1);
+			if (_la==T__11) {
+				{
+				setState(795);
+				inafter();
+				}
+			}
+
+			setState(801);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__117) {
+				{
+				{
+				setState(798);
+				md();
+				}
+				}
+				setState(803);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(805);
+			_la = _input.LA(1);
+			if (_la==T__93) {
+				{
+				setState(804);
+				rbconj();
+				}
+			}
+
+			setState(810);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (((((_la - 127)) & ~0x3f) == 0 && ((1L << (_la - 127)) & ((1L << (T__126 - 127)) | (1L << (T__127 - 127)) | (1L << (T__128 - 127)) | (1L << (T__129 - 127)))) != 0)) {
+				{
+				{
+				setState(807);
+				adv();
+				}
+				}
+				setState(812);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(814);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7))) != 0) || ((((_la - 114)) & ~0x3f) == 0 && ((1L << (_la - 114)) & ((1L << (T__113 - 114)) | (1L << (T__114 - 114)) | (1L << (T__115 - 114)))) != 0)) {
+				{
+				setState(813);
+				adj();
+				}
+			}
+
+			setState(863);
+			switch (_input.LA(1)) {
+			case T__49:
+			case T__50:
+			case T__53:
+			case T__54:
+			case T__55:
+			case T__56:
+			case T__57:
+			case T__58:
+			case T__60:
+			case T__61:
+			case T__63:
+			case T__65:
+			case T__66:
+			case T__67:
+			case T__68:
+			case T__70:
+			case T__72:
+			case T__74:
+			case T__75:
+			case T__77:
+			case T__78:
+			case T__80:
+			case T__82:
+			case T__83:
+			case T__84:
+			case T__86:
+			case T__87:
+			case T__89:
+			case T__90:
+			case T__91:
+				{
+				setState(816);
+				actionVerb();
+				setState(820);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,44,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(817);
+						md();
+						}
+						} 
+					}
+					setState(822);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,44,_ctx);
+				}
+				setState(826);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,45,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(823);
+						adv();
+						}
+						} 
+					}
+					setState(828);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,45,_ctx);
+				}
+				setState(830);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,46,_ctx) ) {
+				case 1:
+					{
+					setState(829);
+					adj();
+					}
+					break;
+				}
+				setState(833);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,47,_ctx) ) {
+				case 1:
+					{
+					setState(832);
+					neg();
+					}
+					break;
+				}
+				}
+				break;
+			case T__47:
+			case T__48:
+			case T__59:
+			case T__76:
+			case T__133:
+			case T__134:
+			case T__135:
+			case T__136:
+			case T__137:
+			case T__138:
+				{
+				setState(835);
+				otherVerb();
+				setState(839);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,48,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(836);
+						md();
+						}
+						} 
+					}
+					setState(841);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,48,_ctx);
+				}
+				setState(845);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,49,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(842);
+						adv();
+						}
+						} 
+					}
+					setState(847);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,49,_ctx);
+				}
+				setState(849);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,50,_ctx) ) {
+				case 1:
+					{
+					setState(848);
+					adj();
+					}
+					break;
+				}
+				setState(852);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,51,_ctx) ) {
+				case 1:
+					{
+					setState(851);
+					neg();
+					}
+					break;
+				}
+				setState(857);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,52,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(854);
+						otherVerbStructure();
+						}
+						} 
+					}
+					setState(859);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,52,_ctx);
+				}
+				setState(861);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,53,_ctx) ) {
+				case 1:
+					{
+					setState(860);
+					actionVerbStructure();
+					}
+					break;
+				}
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(866);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,55,_ctx) ) {
+			case 1:
+				{
+				setState(865);
+				inoff();
+				}
+				break;
+			}
+			setState(877);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(869);
+					_la = _input.LA(1);
+					if (_la==T__107) {
+						{
+						setState(868);
+						cc();
+						}
+					}
+
+					setState(872);
+					_la = _input.LA(1);
+					if (_la==T__95) {
+						{
+						setState(871);
+						comma();
+						}
+					}
+
+					setState(874);
+					prepphrase();
+					}
+					} 
+				}
+				setState(879);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,58,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ActionVerbStructureContext extends ParserRuleContext {
+		public ActionVerbContext actionVerb() {
+			return getRuleContext(ActionVerbContext.class,0);
+		}
+		public List<? extends MdContext> md() {
+			return getRuleContexts(MdContext.class);
+		}
+		public MdContext md(int i) {
+			return getRuleContext(MdContext.class,i);
+		}
+		public RbconjContext rbconj() {
+			return getRuleContext(RbconjContext.class,0);
+		}
+		public List<? extends AdvContext> adv() {
+			return getRuleContexts(AdvContext.class);
+		}
+		public AdvContext adv(int i) {
+			return getRuleContext(AdvContext.class,i);
+		}
+		public List<? extends AdjContext> adj() {
+			return getRuleContexts(AdjContext.class);
+		}
+		public AdjContext adj(int i) {
+			return getRuleContext(AdjContext.class,i);
+		}
+		public NegContext neg() {
+			return getRuleContext(NegContext.class,0);
+		}
+		public ActionVerbStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_actionVerbStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterActionVerbStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitActionVerbStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ActionVerbStructureContext actionVerbStructure() throws RecognitionException {
+		ActionVerbStructureContext _localctx = new ActionVerbStructureContext(_ctx, getState());
+		enterRule(_localctx, 40, RULE_actionVerbStructure);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(883);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__117) {
+				{
+				{
+				setState(880);
+				md();
+				}
+				}
+				setState(885);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(887);
+			_la = _input.LA(1);
+			if (_la==T__93) {
+				{
+				setState(886);
+				rbconj();
+				}
+			}
+
+			setState(892);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (((((_la - 127)) & ~0x3f) == 0 && ((1L << (_la - 127)) & ((1L << (T__126 - 127)) | (1L << (T__127 - 127)) | (1L << (T__128 - 127)) | (1L << (T__129 - 127)))) != 0)) {
+				{
+				{
+				setState(889);
+				adv();
+				}
+				}
+				setState(894);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(896);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7))) != 0) || ((((_la - 114)) & ~0x3f) == 0 && ((1L << (_la - 114)) & ((1L << (T__113 - 114)) | (1L << (T__114 - 114)) | (1L << (T__115 - 114)))) != 0)) {
+				{
+				setState(895);
+				adj();
+				}
+			}
+
+			setState(898);
+			actionVerb();
+			setState(902);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(899);
+					md();
+					}
+					} 
+				}
+				setState(904);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,63,_ctx);
+			}
+			setState(908);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,64,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(905);
+					adv();
+					}
+					} 
+				}
+				setState(910);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,64,_ctx);
+			}
+			setState(912);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,65,_ctx) ) {
+			case 1:
+				{
+				setState(911);
+				adj();
+				}
+				break;
+			}
+			setState(915);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,66,_ctx) ) {
+			case 1:
+				{
+				setState(914);
+				neg();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OtherVerbStructureContext extends ParserRuleContext {
+		public OtherVerbContext otherVerb() {
+			return getRuleContext(OtherVerbContext.class,0);
+		}
+		public List<? extends MdContext> md() {
+			return getRuleContexts(MdContext.class);
+		}
+		public MdContext md(int i) {
+			return getRuleContext(MdContext.class,i);
+		}
+		public RbconjContext rbconj() {
+			return getRuleContext(RbconjContext.class,0);
+		}
+		public List<? extends AdvContext> adv() {
+			return getRuleContexts(AdvContext.class);
+		}
+		public AdvContext adv(int i) {
+			return getRuleContext(AdvContext.class,i);
+		}
+		public List<? extends AdjContext> adj() {
+			return getRuleContexts(AdjContext.class);
+		}
+		public AdjContext adj(int i) {
+			return getRuleContext(AdjContext.class,i);
+		}
+		public NegContext neg() {
+			return getRuleContext(NegContext.class,0);
+		}
+		public OtherVerbStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_otherVerbStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterOtherVerbStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitOtherVerbStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final OtherVerbStructureContext otherVerbStructure() throws RecognitionException {
+		OtherVerbStructureContext _localctx = new OtherVerbStructureContext(_ctx, getState());
+		enterRule(_localctx, 42, RULE_otherVerbStructure);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(920);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__117) {
+				{
+				{
+				setState(917);
+				md();
+				}
+				}
+				setState(922);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(924);
+			_la = _input.LA(1);
+			if (_la==T__93) {
+				{
+				setState(923);
+				rbconj();
+				}
+			}
+
+			setState(929);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (((((_la - 127)) & ~0x3f) == 0 && ((1L << (_la - 127)) & ((1L << (T__126 - 127)) | (1L << (T__127 - 127)) | (1L << (T__128 - 127)) | (1L << (T__129 - 127)))) != 0)) {
+				{
+				{
+				setState(926);
+				adv();
+				}
+				}
+				setState(931);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(933);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7))) != 0) || ((((_la - 114)) & ~0x3f) == 0 && ((1L << (_la - 114)) & ((1L << (T__113 - 114)) | (1L << (T__114 - 114)) | (1L << (T__115 - 114)))) != 0)) {
+				{
+				setState(932);
+				adj();
+				}
+			}
+
+			setState(935);
+			otherVerb();
+			setState(939);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(936);
+					md();
+					}
+					} 
+				}
+				setState(941);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,71,_ctx);
+			}
+			setState(945);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,72,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(942);
+					adv();
+					}
+					} 
+				}
+				setState(947);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,72,_ctx);
+			}
+			setState(949);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,73,_ctx) ) {
+			case 1:
+				{
+				setState(948);
+				adj();
+				}
+				break;
+			}
+			setState(952);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,74,_ctx) ) {
+			case 1:
+				{
+				setState(951);
+				neg();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VerbContext extends ParserRuleContext {
+		public ActionVerbContext actionVerb() {
+			return getRuleContext(ActionVerbContext.class,0);
+		}
+		public OtherVerbContext otherVerb() {
+			return getRuleContext(OtherVerbContext.class,0);
+		}
+		public VerbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_verb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVerb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVerb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VerbContext verb() throws RecognitionException {
+		VerbContext _localctx = new VerbContext(_ctx, getState());
+		enterRule(_localctx, 44, RULE_verb);
+		try {
+			setState(956);
+			switch (_input.LA(1)) {
+			case T__49:
+			case T__50:
+			case T__53:
+			case T__54:
+			case T__55:
+			case T__56:
+			case T__57:
+			case T__58:
+			case T__60:
+			case T__61:
+			case T__63:
+			case T__65:
+			case T__66:
+			case T__67:
+			case T__68:
+			case T__70:
+			case T__72:
+			case T__74:
+			case T__75:
+			case T__77:
+			case T__78:
+			case T__80:
+			case T__82:
+			case T__83:
+			case T__84:
+			case T__86:
+			case T__87:
+			case T__89:
+			case T__90:
+			case T__91:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(954);
+				actionVerb();
+				}
+				break;
+			case T__47:
+			case T__48:
+			case T__59:
+			case T__76:
+			case T__133:
+			case T__134:
+			case T__135:
+			case T__136:
+			case T__137:
+			case T__138:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(955);
+				otherVerb();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ActionVerbContext extends ParserRuleContext {
+		public VbaddContext vbadd() {
+			return getRuleContext(VbaddContext.class,0);
+		}
+		public VbchargeContext vbcharge() {
+			return getRuleContext(VbchargeContext.class,0);
+		}
+		public VbcontainContext vbcontain() {
+			return getRuleContext(VbcontainContext.class,0);
+		}
+		public VbdiluteContext vbdilute() {
+			return getRuleContext(VbdiluteContext.class,0);
+		}
+		public VbdropContext vbdrop() {
+			return getRuleContext(VbdropContext.class,0);
+		}
+		public VbfillContext vbfill() {
+			return getRuleContext(VbfillContext.class,0);
+		}
+		public VbtreatContext vbtreat() {
+			return getRuleContext(VbtreatContext.class,0);
+		}
+		public VbapparatusContext vbapparatus() {
+			return getRuleContext(VbapparatusContext.class,0);
+		}
+		public VbconcentrateContext vbconcentrate() {
+			return getRuleContext(VbconcentrateContext.class,0);
+		}
+		public VbcoolContext vbcool() {
+			return getRuleContext(VbcoolContext.class,0);
+		}
+		public VbdegassContext vbdegass() {
+			return getRuleContext(VbdegassContext.class,0);
+		}
+		public DegassMultiVerbContext degassMultiVerb() {
+			return getRuleContext(DegassMultiVerbContext.class,0);
+		}
+		public VbsubjectContext vbsubject() {
+			return getRuleContext(VbsubjectContext.class,0);
+		}
+		public VbdissolveContext vbdissolve() {
+			return getRuleContext(VbdissolveContext.class,0);
+		}
+		public VbdryContext vbdry() {
+			return getRuleContext(VbdryContext.class,0);
+		}
+		public VbextractContext vbextract() {
+			return getRuleContext(VbextractContext.class,0);
+		}
+		public VbfilterContext vbfilter() {
+			return getRuleContext(VbfilterContext.class,0);
+		}
+		public VbheatContext vbheat() {
+			return getRuleContext(VbheatContext.class,0);
+		}
+		public VbincreaseContext vbincrease() {
+			return getRuleContext(VbincreaseContext.class,0);
+		}
+		public VbsubmergeContext vbsubmerge() {
+			return getRuleContext(VbsubmergeContext.class,0);
+		}
+		public VbpartitionContext vbpartition() {
+			return getRuleContext(VbpartitionContext.class,0);
+		}
+		public VbprecipitateContext vbprecipitate() {
+			return getRuleContext(VbprecipitateContext.class,0);
+		}
+		public VbpurifyContext vbpurify() {
+			return getRuleContext(VbpurifyContext.class,0);
+		}
+		public VbquenchContext vbquench() {
+			return getRuleContext(VbquenchContext.class,0);
+		}
+		public VbrecoverContext vbrecover() {
+			return getRuleContext(VbrecoverContext.class,0);
+		}
+		public VbremoveContext vbremove() {
+			return getRuleContext(VbremoveContext.class,0);
+		}
+		public VbstirContext vbstir() {
+			return getRuleContext(VbstirContext.class,0);
+		}
+		public VbsynthesizeContext vbsynthesize() {
+			return getRuleContext(VbsynthesizeContext.class,0);
+		}
+		public VbwaitContext vbwait() {
+			return getRuleContext(VbwaitContext.class,0);
+		}
+		public VbwashContext vbwash() {
+			return getRuleContext(VbwashContext.class,0);
+		}
+		public VbyieldContext vbyield() {
+			return getRuleContext(VbyieldContext.class,0);
+		}
+		public ActionVerbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_actionVerb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterActionVerb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitActionVerb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ActionVerbContext actionVerb() throws RecognitionException {
+		ActionVerbContext _localctx = new ActionVerbContext(_ctx, getState());
+		enterRule(_localctx, 46, RULE_actionVerb);
+		try {
+			setState(989);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,76,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(958);
+				vbadd();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(959);
+				vbcharge();
+				}
+				break;
+
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(960);
+				vbcontain();
+				}
+				break;
+
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(961);
+				vbdilute();
+				}
+				break;
+
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(962);
+				vbdrop();
+				}
+				break;
+
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(963);
+				vbfill();
+				}
+				break;
+
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(964);
+				vbtreat();
+				}
+				break;
+
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(965);
+				vbapparatus();
+				}
+				break;
+
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(966);
+				vbconcentrate();
+				}
+				break;
+
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(967);
+				vbcool();
+				}
+				break;
+
+			case 11:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(968);
+				vbdegass();
+				}
+				break;
+
+			case 12:
+				enterOuterAlt(_localctx, 12);
+				{
+				setState(969);
+				degassMultiVerb();
+				}
+				break;
+
+			case 13:
+				enterOuterAlt(_localctx, 13);
+				{
+				setState(970);
+				vbsubject();
+				}
+				break;
+
+			case 14:
+				enterOuterAlt(_localctx, 14);
+				{
+				setState(971);
+				vbdissolve();
+				}
+				break;
+
+			case 15:
+				enterOuterAlt(_localctx, 15);
+				{
+				setState(972);
+				vbdry();
+				}
+				break;
+
+			case 16:
+				enterOuterAlt(_localctx, 16);
+				{
+				setState(973);
+				vbextract();
+				}
+				break;
+
+			case 17:
+				enterOuterAlt(_localctx, 17);
+				{
+				setState(974);
+				vbfilter();
+				}
+				break;
+
+			case 18:
+				enterOuterAlt(_localctx, 18);
+				{
+				setState(975);
+				vbheat();
+				}
+				break;
+
+			case 19:
+				enterOuterAlt(_localctx, 19);
+				{
+				setState(976);
+				vbincrease();
+				}
+				break;
+
+			case 20:
+				enterOuterAlt(_localctx, 20);
+				{
+				setState(977);
+				vbsubmerge();
+				}
+				break;
+
+			case 21:
+				enterOuterAlt(_localctx, 21);
+				{
+				setState(978);
+				vbpartition();
+				}
+				break;
+
+			case 22:
+				enterOuterAlt(_localctx, 22);
+				{
+				setState(979);
+				vbprecipitate();
+				}
+				break;
+
+			case 23:
+				enterOuterAlt(_localctx, 23);
+				{
+				setState(980);
+				vbpurify();
+				}
+				break;
+
+			case 24:
+				enterOuterAlt(_localctx, 24);
+				{
+				setState(981);
+				vbquench();
+				}
+				break;
+
+			case 25:
+				enterOuterAlt(_localctx, 25);
+				{
+				setState(982);
+				vbrecover();
+				}
+				break;
+
+			case 26:
+				enterOuterAlt(_localctx, 26);
+				{
+				setState(983);
+				vbremove();
+				}
+				break;
+
+			case 27:
+				enterOuterAlt(_localctx, 27);
+				{
+				setState(984);
+				vbstir();
+				}
+				break;
+
+			case 28:
+				enterOuterAlt(_localctx, 28);
+				{
+				setState(985);
+				vbsynthesize();
+				}
+				break;
+
+			case 29:
+				enterOuterAlt(_localctx, 29);
+				{
+				setState(986);
+				vbwait();
+				}
+				break;
+
+			case 30:
+				enterOuterAlt(_localctx, 30);
+				{
+				setState(987);
+				vbwash();
+				}
+				break;
+
+			case 31:
+				enterOuterAlt(_localctx, 31);
+				{
+				setState(988);
+				vbyield();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OtherVerbContext extends ParserRuleContext {
+		public VbContext vb() {
+			return getRuleContext(VbContext.class,0);
+		}
+		public VbdContext vbd() {
+			return getRuleContext(VbdContext.class,0);
+		}
+		public VbgContext vbg() {
+			return getRuleContext(VbgContext.class,0);
+		}
+		public VbnContext vbn() {
+			return getRuleContext(VbnContext.class,0);
+		}
+		public VbpContext vbp() {
+			return getRuleContext(VbpContext.class,0);
+		}
+		public VbzContext vbz() {
+			return getRuleContext(VbzContext.class,0);
+		}
+		public VbchangeContext vbchange() {
+			return getRuleContext(VbchangeContext.class,0);
+		}
+		public VbimmerseContext vbimmerse() {
+			return getRuleContext(VbimmerseContext.class,0);
+		}
+		public VbsuspendContext vbsuspend() {
+			return getRuleContext(VbsuspendContext.class,0);
+		}
+		public VbuseContext vbuse() {
+			return getRuleContext(VbuseContext.class,0);
+		}
+		public OtherVerbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_otherVerb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterOtherVerb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitOtherVerb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final OtherVerbContext otherVerb() throws RecognitionException {
+		OtherVerbContext _localctx = new OtherVerbContext(_ctx, getState());
+		enterRule(_localctx, 48, RULE_otherVerb);
+		try {
+			setState(1001);
+			switch (_input.LA(1)) {
+			case T__133:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(991);
+				vb();
+				}
+				break;
+			case T__134:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(992);
+				vbd();
+				}
+				break;
+			case T__135:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(993);
+				vbg();
+				}
+				break;
+			case T__136:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(994);
+				vbn();
+				}
+				break;
+			case T__137:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(995);
+				vbp();
+				}
+				break;
+			case T__138:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(996);
+				vbz();
+				}
+				break;
+			case T__48:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(997);
+				vbchange();
+				}
+				break;
+			case T__76:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(998);
+				vbimmerse();
+				}
+				break;
+			case T__59:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(999);
+				vbsuspend();
+				}
+				break;
+			case T__47:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(1000);
+				vbuse();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DegassMultiVerbContext extends ParserRuleContext {
+		public VbdegassContext vbdegass() {
+			return getRuleContext(VbdegassContext.class,0);
+		}
+		public CcContext cc() {
+			return getRuleContext(CcContext.class,0);
+		}
+		public VbfillContext vbfill() {
+			return getRuleContext(VbfillContext.class,0);
+		}
+		public DegassMultiVerbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_degassMultiVerb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterDegassMultiVerb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitDegassMultiVerb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final DegassMultiVerbContext degassMultiVerb() throws RecognitionException {
+		DegassMultiVerbContext _localctx = new DegassMultiVerbContext(_ctx, getState());
+		enterRule(_localctx, 50, RULE_degassMultiVerb);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1003);
+			vbdegass();
+			setState(1004);
+			cc();
+			setState(1005);
+			vbfill();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NounContext extends ParserRuleContext {
+		public List<? extends NounStructureContext> nounStructure() {
+			return getRuleContexts(NounStructureContext.class);
+		}
+		public NounStructureContext nounStructure(int i) {
+			return getRuleContext(NounStructureContext.class,i);
+		}
+		public List<? extends DashContext> dash() {
+			return getRuleContexts(DashContext.class);
+		}
+		public DashContext dash(int i) {
+			return getRuleContext(DashContext.class,i);
+		}
+		public NounContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_noun; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNoun(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNoun(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NounContext noun() throws RecognitionException {
+		NounContext _localctx = new NounContext(_ctx, getState());
+		enterRule(_localctx, 52, RULE_noun);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1007);
+			nounStructure();
+			setState(1013);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,78,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1008);
+					dash();
+					setState(1009);
+					nounStructure();
+					}
+					} 
+				}
+				setState(1015);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,78,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NounStructureContext extends ParserRuleContext {
+		public PrpContext prp() {
+			return getRuleContext(PrpContext.class,0);
+		}
+		public Prp_possContext prp_poss() {
+			return getRuleContext(Prp_possContext.class,0);
+		}
+		public CaptionLabelContext captionLabel() {
+			return getRuleContext(CaptionLabelContext.class,0);
+		}
+		public NnplabelContext nnplabel() {
+			return getRuleContext(NnplabelContext.class,0);
+		}
+		public CitationContext citation() {
+			return getRuleContext(CitationContext.class,0);
+		}
+		public CyclesContext cycles() {
+			return getRuleContext(CyclesContext.class,0);
+		}
+		public MoleculeContext molecule() {
+			return getRuleContext(MoleculeContext.class,0);
+		}
+		public ApparatusContext apparatus() {
+			return getRuleContext(ApparatusContext.class,0);
+		}
+		public UnnamedmoleculeContext unnamedmolecule() {
+			return getRuleContext(UnnamedmoleculeContext.class,0);
+		}
+		public NnstateContext nnstate() {
+			return getRuleContext(NnstateContext.class,0);
+		}
+		public ProcedureNodeContext procedureNode() {
+			return getRuleContext(ProcedureNodeContext.class,0);
+		}
+		public NnContext nn() {
+			return getRuleContext(NnContext.class,0);
+		}
+		public NnsContext nns() {
+			return getRuleContext(NnsContext.class,0);
+		}
+		public NnpContext nnp() {
+			return getRuleContext(NnpContext.class,0);
+		}
+		public NnaddContext nnadd() {
+			return getRuleContext(NnaddContext.class,0);
+		}
+		public PreparationphraseContext preparationphrase() {
+			return getRuleContext(PreparationphraseContext.class,0);
+		}
+		public NnexampleContext nnexample() {
+			return getRuleContext(NnexampleContext.class,0);
+		}
+		public RangeContext range() {
+			return getRuleContext(RangeContext.class,0);
+		}
+		public NntimeContext nntime() {
+			return getRuleContext(NntimeContext.class,0);
+		}
+		public NnatmosphereContext nnatmosphere() {
+			return getRuleContext(NnatmosphereContext.class,0);
+		}
+		public TmunicodeContext tmunicode() {
+			return getRuleContext(TmunicodeContext.class,0);
+		}
+		public QuantityContext quantity() {
+			return getRuleContext(QuantityContext.class,0);
+		}
+		public NnchementityContext nnchementity() {
+			return getRuleContext(NnchementityContext.class,0);
+		}
+		public NntempContext nntemp() {
+			return getRuleContext(NntempContext.class,0);
+		}
+		public NnphContext nnph() {
+			return getRuleContext(NnphContext.class,0);
+		}
+		public NnflashContext nnflash() {
+			return getRuleContext(NnflashContext.class,0);
+		}
+		public NngeneralContext nngeneral() {
+			return getRuleContext(NngeneralContext.class,0);
+		}
+		public NnamountContext nnamount() {
+			return getRuleContext(NnamountContext.class,0);
+		}
+		public NneqContext nneq() {
+			return getRuleContext(NneqContext.class,0);
+		}
+		public NnpressureContext nnpressure() {
+			return getRuleContext(NnpressureContext.class,0);
+		}
+		public NncolumnContext nncolumn() {
+			return getRuleContext(NncolumnContext.class,0);
+		}
+		public NnchromatographyContext nnchromatography() {
+			return getRuleContext(NnchromatographyContext.class,0);
+		}
+		public NnvacuumContext nnvacuum() {
+			return getRuleContext(NnvacuumContext.class,0);
+		}
+		public NncycleContext nncycle() {
+			return getRuleContext(NncycleContext.class,0);
+		}
+		public NntimesContext nntimes() {
+			return getRuleContext(NntimesContext.class,0);
+		}
+		public NnconcentrateContext nnconcentrate() {
+			return getRuleContext(NnconcentrateContext.class,0);
+		}
+		public NnvolContext nnvol() {
+			return getRuleContext(NnvolContext.class,0);
+		}
+		public NnpurifyContext nnpurify() {
+			return getRuleContext(NnpurifyContext.class,0);
+		}
+		public NnsynthesizeContext nnsynthesize() {
+			return getRuleContext(NnsynthesizeContext.class,0);
+		}
+		public NnmixtureContext nnmixture() {
+			return getRuleContext(NnmixtureContext.class,0);
+		}
+		public SquareBracketedReferenceContext squareBracketedReference() {
+			return getRuleContext(SquareBracketedReferenceContext.class,0);
+		}
+		public NndryContext nndry() {
+			return getRuleContext(NndryContext.class,0);
+		}
+		public NnextractContext nnextract() {
+			return getRuleContext(NnextractContext.class,0);
+		}
+		public NnfilterContext nnfilter() {
+			return getRuleContext(NnfilterContext.class,0);
+		}
+		public NnprecipitateContext nnprecipitate() {
+			return getRuleContext(NnprecipitateContext.class,0);
+		}
+		public NnremoveContext nnremove() {
+			return getRuleContext(NnremoveContext.class,0);
+		}
+		public NnyieldContext nnyield() {
+			return getRuleContext(NnyieldContext.class,0);
+		}
+		public FwContext fw() {
+			return getRuleContext(FwContext.class,0);
+		}
+		public SymContext sym() {
+			return getRuleContext(SymContext.class,0);
+		}
+		public ClauseContext clause() {
+			return getRuleContext(ClauseContext.class,0);
+		}
+		public LsContext ls() {
+			return getRuleContext(LsContext.class,0);
+		}
+		public NnpsContext nnps() {
+			return getRuleContext(NnpsContext.class,0);
+		}
+		public PosContext pos() {
+			return getRuleContext(PosContext.class,0);
+		}
+		public OscaraseContext oscarase() {
+			return getRuleContext(OscaraseContext.class,0);
+		}
+		public NounStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nounStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNounStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNounStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NounStructureContext nounStructure() throws RecognitionException {
+		NounStructureContext _localctx = new NounStructureContext(_ctx, getState());
+		enterRule(_localctx, 54, RULE_nounStructure);
+		try {
+			setState(1070);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,79,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1016);
+				prp();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1017);
+				prp_poss();
+				}
+				break;
+
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1018);
+				captionLabel();
+				}
+				break;
+
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1019);
+				nnplabel();
+				}
+				break;
+
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(1020);
+				citation();
+				}
+				break;
+
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(1021);
+				cycles();
+				}
+				break;
+
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(1022);
+				molecule();
+				}
+				break;
+
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(1023);
+				apparatus();
+				}
+				break;
+
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(1024);
+				unnamedmolecule();
+				}
+				break;
+
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(1025);
+				nnstate();
+				}
+				break;
+
+			case 11:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(1026);
+				procedureNode();
+				}
+				break;
+
+			case 12:
+				enterOuterAlt(_localctx, 12);
+				{
+				setState(1027);
+				nn();
+				}
+				break;
+
+			case 13:
+				enterOuterAlt(_localctx, 13);
+				{
+				setState(1028);
+				nns();
+				}
+				break;
+
+			case 14:
+				enterOuterAlt(_localctx, 14);
+				{
+				setState(1029);
+				nnp();
+				}
+				break;
+
+			case 15:
+				enterOuterAlt(_localctx, 15);
+				{
+				setState(1030);
+				nnadd();
+				}
+				break;
+
+			case 16:
+				enterOuterAlt(_localctx, 16);
+				{
+				setState(1031);
+				preparationphrase();
+				}
+				break;
+
+			case 17:
+				enterOuterAlt(_localctx, 17);
+				{
+				setState(1032);
+				nnexample();
+				}
+				break;
+
+			case 18:
+				enterOuterAlt(_localctx, 18);
+				{
+				setState(1033);
+				range();
+				}
+				break;
+
+			case 19:
+				enterOuterAlt(_localctx, 19);
+				{
+				setState(1034);
+				nntime();
+				}
+				break;
+
+			case 20:
+				enterOuterAlt(_localctx, 20);
+				{
+				setState(1035);
+				nnatmosphere();
+				}
+				break;
+
+			case 21:
+				enterOuterAlt(_localctx, 21);
+				{
+				setState(1036);
+				tmunicode();
+				}
+				break;
+
+			case 22:
+				enterOuterAlt(_localctx, 22);
+				{
+				setState(1037);
+				quantity();
+				}
+				break;
+
+			case 23:
+				enterOuterAlt(_localctx, 23);
+				{
+				setState(1038);
+				nnchementity();
+				}
+				break;
+
+			case 24:
+				enterOuterAlt(_localctx, 24);
+				{
+				setState(1039);
+				nntemp();
+				}
+				break;
+
+			case 25:
+				enterOuterAlt(_localctx, 25);
+				{
+				setState(1040);
+				nnph();
+				}
+				break;
+
+			case 26:
+				enterOuterAlt(_localctx, 26);
+				{
+				setState(1041);
+				nnflash();
+				}
+				break;
+
+			case 27:
+				enterOuterAlt(_localctx, 27);
+				{
+				setState(1042);
+				nngeneral();
+				}
+				break;
+
+			case 28:
+				enterOuterAlt(_localctx, 28);
+				{
+				setState(1043);
+				nnamount();
+				}
+				break;
+
+			case 29:
+				enterOuterAlt(_localctx, 29);
+				{
+				setState(1044);
+				nneq();
+				}
+				break;
+
+			case 30:
+				enterOuterAlt(_localctx, 30);
+				{
+				setState(1045);
+				nnpressure();
+				}
+				break;
+
+			case 31:
+				enterOuterAlt(_localctx, 31);
+				{
+				setState(1046);
+				nncolumn();
+				}
+				break;
+
+			case 32:
+				enterOuterAlt(_localctx, 32);
+				{
+				setState(1047);
+				nnchromatography();
+				}
+				break;
+
+			case 33:
+				enterOuterAlt(_localctx, 33);
+				{
+				setState(1048);
+				nnvacuum();
+				}
+				break;
+
+			case 34:
+				enterOuterAlt(_localctx, 34);
+				{
+				setState(1049);
+				nncycle();
+				}
+				break;
+
+			case 35:
+				enterOuterAlt(_localctx, 35);
+				{
+				setState(1050);
+				nntimes();
+				}
+				break;
+
+			case 36:
+				enterOuterAlt(_localctx, 36);
+				{
+				setState(1051);
+				nnconcentrate();
+				}
+				break;
+
+			case 37:
+				enterOuterAlt(_localctx, 37);
+				{
+				setState(1052);
+				nnvol();
+				}
+				break;
+
+			case 38:
+				enterOuterAlt(_localctx, 38);
+				{
+				setState(1053);
+				nnpurify();
+				}
+				break;
+
+			case 39:
+				enterOuterAlt(_localctx, 39);
+				{
+				setState(1054);
+				nnsynthesize();
+				}
+				break;
+
+			case 40:
+				enterOuterAlt(_localctx, 40);
+				{
+				setState(1055);
+				nnmixture();
+				}
+				break;
+
+			case 41:
+				enterOuterAlt(_localctx, 41);
+				{
+				setState(1056);
+				squareBracketedReference();
+				}
+				break;
+
+			case 42:
+				enterOuterAlt(_localctx, 42);
+				{
+				setState(1057);
+				nndry();
+				}
+				break;
+
+			case 43:
+				enterOuterAlt(_localctx, 43);
+				{
+				setState(1058);
+				nnextract();
+				}
+				break;
+
+			case 44:
+				enterOuterAlt(_localctx, 44);
+				{
+				setState(1059);
+				nnfilter();
+				}
+				break;
+
+			case 45:
+				enterOuterAlt(_localctx, 45);
+				{
+				setState(1060);
+				nnprecipitate();
+				}
+				break;
+
+			case 46:
+				enterOuterAlt(_localctx, 46);
+				{
+				setState(1061);
+				nnremove();
+				}
+				break;
+
+			case 47:
+				enterOuterAlt(_localctx, 47);
+				{
+				setState(1062);
+				nnyield();
+				}
+				break;
+
+			case 48:
+				enterOuterAlt(_localctx, 48);
+				{
+				setState(1063);
+				fw();
+				}
+				break;
+
+			case 49:
+				enterOuterAlt(_localctx, 49);
+				{
+				setState(1064);
+				sym();
+				}
+				break;
+
+			case 50:
+				enterOuterAlt(_localctx, 50);
+				{
+				setState(1065);
+				clause();
+				}
+				break;
+
+			case 51:
+				enterOuterAlt(_localctx, 51);
+				{
+				setState(1066);
+				ls();
+				}
+				break;
+
+			case 52:
+				enterOuterAlt(_localctx, 52);
+				{
+				setState(1067);
+				nnps();
+				}
+				break;
+
+			case 53:
+				enterOuterAlt(_localctx, 53);
+				{
+				setState(1068);
+				pos();
+				}
+				break;
+
+			case 54:
+				enterOuterAlt(_localctx, 54);
+				{
+				setState(1069);
+				oscarase();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseContext extends ParserRuleContext {
+		public PrepphraseAtmosphereContext prepphraseAtmosphere() {
+			return getRuleContext(PrepphraseAtmosphereContext.class,0);
+		}
+		public PrepphraseTimeContext prepphraseTime() {
+			return getRuleContext(PrepphraseTimeContext.class,0);
+		}
+		public PrepphraseTempContext prepphraseTemp() {
+			return getRuleContext(PrepphraseTempContext.class,0);
+		}
+		public PrepphraseINContext prepphraseIN() {
+			return getRuleContext(PrepphraseINContext.class,0);
+		}
+		public PrepphraseRoleContext prepphraseRole() {
+			return getRuleContext(PrepphraseRoleContext.class,0);
+		}
+		public PrepphraseOtherContext prepphraseOther() {
+			return getRuleContext(PrepphraseOtherContext.class,0);
+		}
+		public NegContext neg() {
+			return getRuleContext(NegContext.class,0);
+		}
+		public PrepphraseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphrase; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphrase(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphrase(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseContext prepphrase() throws RecognitionException {
+		PrepphraseContext _localctx = new PrepphraseContext(_ctx, getState());
+		enterRule(_localctx, 56, RULE_prepphrase);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1073);
+			_la = _input.LA(1);
+			if (_la==T__97) {
+				{
+				setState(1072);
+				neg();
+				}
+			}
+
+			setState(1081);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,81,_ctx) ) {
+			case 1:
+				{
+				setState(1075);
+				prepphraseAtmosphere();
+				}
+				break;
+
+			case 2:
+				{
+				setState(1076);
+				prepphraseTime();
+				}
+				break;
+
+			case 3:
+				{
+				setState(1077);
+				prepphraseTemp();
+				}
+				break;
+
+			case 4:
+				{
+				setState(1078);
+				prepphraseIN();
+				}
+				break;
+
+			case 5:
+				{
+				setState(1079);
+				prepphraseRole();
+				}
+				break;
+
+			case 6:
+				{
+				setState(1080);
+				prepphraseOther();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseAtmosphereContext extends ParserRuleContext {
+		public PrepphraseAtmosphereContentContext prepphraseAtmosphereContent() {
+			return getRuleContext(PrepphraseAtmosphereContentContext.class,0);
+		}
+		public PrepphraseAtmosphereContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphraseAtmosphere; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphraseAtmosphere(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphraseAtmosphere(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseAtmosphereContext prepphraseAtmosphere() throws RecognitionException {
+		PrepphraseAtmosphereContext _localctx = new PrepphraseAtmosphereContext(_ctx, getState());
+		enterRule(_localctx, 58, RULE_prepphraseAtmosphere);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1083);
+			prepphraseAtmosphereContent();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseAtmosphereContentContext extends ParserRuleContext {
+		public InunderContext inunder() {
+			return getRuleContext(InunderContext.class,0);
+		}
+		public MoleculeContext molecule() {
+			return getRuleContext(MoleculeContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public List<? extends AdvAdjContext> advAdj() {
+			return getRuleContexts(AdvAdjContext.class);
+		}
+		public AdvAdjContext advAdj(int i) {
+			return getRuleContext(AdvAdjContext.class,i);
+		}
+		public NnatmosphereContext nnatmosphere() {
+			return getRuleContext(NnatmosphereContext.class,0);
+		}
+		public PrepphraseAtmosphereContentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphraseAtmosphereContent; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphraseAtmosphereContent(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphraseAtmosphereContent(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseAtmosphereContentContext prepphraseAtmosphereContent() throws RecognitionException {
+		PrepphraseAtmosphereContentContext _localctx = new PrepphraseAtmosphereContentContext(_ctx, getState());
+		enterRule(_localctx, 60, RULE_prepphraseAtmosphereContent);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1085);
+			inunder();
+			setState(1087);
+			_la = _input.LA(1);
+			if (_la==T__109) {
+				{
+				setState(1086);
+				dt();
+				}
+			}
+
+			setState(1092);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1089);
+					advAdj();
+					}
+					} 
+				}
+				setState(1094);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,83,_ctx);
+			}
+			setState(1095);
+			molecule();
+			setState(1097);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,84,_ctx) ) {
+			case 1:
+				{
+				setState(1096);
+				nnatmosphere();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseTimeContext extends ParserRuleContext {
+		public PrepPhraseTimeStructureContext prepPhraseTimeStructure() {
+			return getRuleContext(PrepPhraseTimeStructureContext.class,0);
+		}
+		public PrepphraseTimeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphraseTime; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphraseTime(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphraseTime(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseTimeContext prepphraseTime() throws RecognitionException {
+		PrepphraseTimeContext _localctx = new PrepphraseTimeContext(_ctx, getState());
+		enterRule(_localctx, 62, RULE_prepphraseTime);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1099);
+			prepPhraseTimeStructure();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepPhraseTimeStructureContext extends ParserRuleContext {
+		public List<? extends AdvAdjContext> advAdj() {
+			return getRuleContexts(AdvAdjContext.class);
+		}
+		public AdvAdjContext advAdj(int i) {
+			return getRuleContext(AdvAdjContext.class,i);
+		}
+		public InAllContext inAll() {
+			return getRuleContext(InAllContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public List<? extends NntimeContext> nntime() {
+			return getRuleContexts(NntimeContext.class);
+		}
+		public NntimeContext nntime(int i) {
+			return getRuleContext(NntimeContext.class,i);
+		}
+		public PrepPhraseTimeStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepPhraseTimeStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepPhraseTimeStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepPhraseTimeStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepPhraseTimeStructureContext prepPhraseTimeStructure() throws RecognitionException {
+		PrepPhraseTimeStructureContext _localctx = new PrepPhraseTimeStructureContext(_ctx, getState());
+		enterRule(_localctx, 64, RULE_prepPhraseTimeStructure);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1104);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,85,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1101);
+					advAdj();
+					}
+					} 
+				}
+				setState(1106);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,85,_ctx);
+			}
+			setState(1108);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__18) | (1L << T__19) | (1L << T__20) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24))) != 0) || _la==T__112 || _la==T__131) {
+				{
+				setState(1107);
+				inAll();
+				}
+			}
+
+			setState(1111);
+			_la = _input.LA(1);
+			if (_la==T__109) {
+				{
+				setState(1110);
+				dt();
+				}
+			}
+
+			setState(1116);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7))) != 0) || ((((_la - 114)) & ~0x3f) == 0 && ((1L << (_la - 114)) & ((1L << (T__113 - 114)) | (1L << (T__114 - 114)) | (1L << (T__115 - 114)) | (1L << (T__126 - 114)) | (1L << (T__127 - 114)) | (1L << (T__128 - 114)) | (1L << (T__129 - 114)))) != 0)) {
+				{
+				{
+				setState(1113);
+				advAdj();
+				}
+				}
+				setState(1118);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1120);
+			_la = _input.LA(1);
+			if (_la==T__108) {
+				{
+				setState(1119);
+				cd();
+				}
+			}
+
+			setState(1123); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1122);
+					nntime();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1125); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,90,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseTempContext extends ParserRuleContext {
+		public PrepphraseTempContentContext prepphraseTempContent() {
+			return getRuleContext(PrepphraseTempContentContext.class,0);
+		}
+		public PrepphraseTempContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphraseTemp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphraseTemp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphraseTemp(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseTempContext prepphraseTemp() throws RecognitionException {
+		PrepphraseTempContext _localctx = new PrepphraseTempContext(_ctx, getState());
+		enterRule(_localctx, 66, RULE_prepphraseTemp);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1127);
+			prepphraseTempContent();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseTempContentContext extends ParserRuleContext {
+		public List<? extends AdvAdjContext> advAdj() {
+			return getRuleContexts(AdvAdjContext.class);
+		}
+		public AdvAdjContext advAdj(int i) {
+			return getRuleContext(AdvAdjContext.class,i);
+		}
+		public InAllContext inAll() {
+			return getRuleContext(InAllContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public List<? extends NntempContext> nntemp() {
+			return getRuleContexts(NntempContext.class);
+		}
+		public NntempContext nntemp(int i) {
+			return getRuleContext(NntempContext.class,i);
+		}
+		public PrepphraseTempContentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphraseTempContent; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphraseTempContent(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphraseTempContent(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseTempContentContext prepphraseTempContent() throws RecognitionException {
+		PrepphraseTempContentContext _localctx = new PrepphraseTempContentContext(_ctx, getState());
+		enterRule(_localctx, 68, RULE_prepphraseTempContent);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1130);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,91,_ctx) ) {
+			case 1:
+				{
+				setState(1129);
+				advAdj();
+				}
+				break;
+			}
+			setState(1133);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__9) | (1L << T__10) | (1L << T__11) | (1L << T__12) | (1L << T__13) | (1L << T__14) | (1L << T__15) | (1L << T__16) | (1L << T__17) | (1L << T__18) | (1L << T__19) | (1L << T__20) | (1L << T__21) | (1L << T__22) | (1L << T__23) | (1L << T__24))) != 0) || _la==T__112 || _la==T__131) {
+				{
+				setState(1132);
+				inAll();
+				}
+			}
+
+			setState(1136);
+			_la = _input.LA(1);
+			if (_la==T__109) {
+				{
+				setState(1135);
+				dt();
+				}
+			}
+
+			setState(1139);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7))) != 0) || ((((_la - 114)) & ~0x3f) == 0 && ((1L << (_la - 114)) & ((1L << (T__113 - 114)) | (1L << (T__114 - 114)) | (1L << (T__115 - 114)) | (1L << (T__126 - 114)) | (1L << (T__127 - 114)) | (1L << (T__128 - 114)) | (1L << (T__129 - 114)))) != 0)) {
+				{
+				setState(1138);
+				advAdj();
+				}
+			}
+
+			setState(1142);
+			_la = _input.LA(1);
+			if (_la==T__108) {
+				{
+				setState(1141);
+				cd();
+				}
+			}
+
+			setState(1145); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1144);
+					nntemp();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1147); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,96,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseINContext extends ParserRuleContext {
+		public IninContext inin() {
+			return getRuleContext(IninContext.class,0);
+		}
+		public MoleculeContext molecule() {
+			return getRuleContext(MoleculeContext.class,0);
+		}
+		public PrepphraseINContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphraseIN; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphraseIN(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphraseIN(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseINContext prepphraseIN() throws RecognitionException {
+		PrepphraseINContext _localctx = new PrepphraseINContext(_ctx, getState());
+		enterRule(_localctx, 70, RULE_prepphraseIN);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1149);
+			inin();
+			setState(1150);
+			molecule();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseRoleContext extends ParserRuleContext {
+		public InasContext inas() {
+			return getRuleContext(InasContext.class,0);
+		}
+		public NnchementityContext nnchementity() {
+			return getRuleContext(NnchementityContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public PrepphraseRoleContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphraseRole; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphraseRole(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphraseRole(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseRoleContext prepphraseRole() throws RecognitionException {
+		PrepphraseRoleContext _localctx = new PrepphraseRoleContext(_ctx, getState());
+		enterRule(_localctx, 72, RULE_prepphraseRole);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1152);
+			inas();
+			setState(1154);
+			_la = _input.LA(1);
+			if (_la==T__109) {
+				{
+				setState(1153);
+				dt();
+				}
+			}
+
+			setState(1156);
+			nnchementity();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseOtherContext extends ParserRuleContext {
+		public NounphraseContext nounphrase() {
+			return getRuleContext(NounphraseContext.class,0);
+		}
+		public List<? extends AdvAdjContext> advAdj() {
+			return getRuleContexts(AdvAdjContext.class);
+		}
+		public AdvAdjContext advAdj(int i) {
+			return getRuleContext(AdvAdjContext.class,i);
+		}
+		public List<? extends InMostContext> inMost() {
+			return getRuleContexts(InMostContext.class);
+		}
+		public InMostContext inMost(int i) {
+			return getRuleContext(InMostContext.class,i);
+		}
+		public PrepphraseOtherContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphraseOther; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphraseOther(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphraseOther(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseOtherContext prepphraseOther() throws RecognitionException {
+		PrepphraseOtherContext _localctx = new PrepphraseOtherContext(_ctx, getState());
+		enterRule(_localctx, 74, RULE_prepphraseOther);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1161);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7))) != 0) || ((((_la - 114)) & ~0x3f) == 0 && ((1L << (_la - 114)) & ((1L << (T__113 - 114)) | (1L << (T__114 - 114)) | (1L << (T__115 - 114)) | (1L << (T__126 - 114)) | (1L << (T__127 - 114)) | (1L << (T__128 - 114)) | (1L << (T__129 - 114)))) != 0)) {
+				{
+				{
+				setState(1158);
+				advAdj();
+				}
+				}
+				setState(1163);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1165); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1164);
+					inMost();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1167); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,99,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(1169);
+			nounphrase();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseOfContext extends ParserRuleContext {
+		public InofContext inof() {
+			return getRuleContext(InofContext.class,0);
+		}
+		public NounphraseContext nounphrase() {
+			return getRuleContext(NounphraseContext.class,0);
+		}
+		public PrepphraseOfContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphraseOf; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphraseOf(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphraseOf(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseOfContext prepphraseOf() throws RecognitionException {
+		PrepphraseOfContext _localctx = new PrepphraseOfContext(_ctx, getState());
+		enterRule(_localctx, 76, RULE_prepphraseOf);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1171);
+			inof();
+			setState(1172);
+			nounphrase();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrepphraseAfterContext extends ParserRuleContext {
+		public InafterContext inafter() {
+			return getRuleContext(InafterContext.class,0);
+		}
+		public NounphraseContext nounphrase() {
+			return getRuleContext(NounphraseContext.class,0);
+		}
+		public AdvAdjContext advAdj() {
+			return getRuleContext(AdvAdjContext.class,0);
+		}
+		public PrepphraseAfterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prepphraseAfter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrepphraseAfter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrepphraseAfter(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrepphraseAfterContext prepphraseAfter() throws RecognitionException {
+		PrepphraseAfterContext _localctx = new PrepphraseAfterContext(_ctx, getState());
+		enterRule(_localctx, 78, RULE_prepphraseAfter);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1175);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7))) != 0) || ((((_la - 114)) & ~0x3f) == 0 && ((1L << (_la - 114)) & ((1L << (T__113 - 114)) | (1L << (T__114 - 114)) | (1L << (T__115 - 114)) | (1L << (T__126 - 114)) | (1L << (T__127 - 114)) | (1L << (T__128 - 114)) | (1L << (T__129 - 114)))) != 0)) {
+				{
+				setState(1174);
+				advAdj();
+				}
+			}
+
+			setState(1177);
+			inafter();
+			setState(1178);
+			nounphrase();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PreparationphraseContext extends ParserRuleContext {
+		public VbsynthesizeContext vbsynthesize() {
+			return getRuleContext(VbsynthesizeContext.class,0);
+		}
+		public InasContext inas() {
+			return getRuleContext(InasContext.class,0);
+		}
+		public NnexampleContext nnexample() {
+			return getRuleContext(NnexampleContext.class,0);
+		}
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public PrepphraseContext prepphrase() {
+			return getRuleContext(PrepphraseContext.class,0);
+		}
+		public PreparationphraseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_preparationphrase; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPreparationphrase(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPreparationphrase(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PreparationphraseContext preparationphrase() throws RecognitionException {
+		PreparationphraseContext _localctx = new PreparationphraseContext(_ctx, getState());
+		enterRule(_localctx, 80, RULE_preparationphrase);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1180);
+			vbsynthesize();
+			setState(1181);
+			inas();
+			setState(1186);
+			switch (_input.LA(1)) {
+			case T__45:
+				{
+				setState(1182);
+				nnexample();
+				setState(1183);
+				cd();
+				}
+				break;
+			case T__2:
+			case T__3:
+			case T__7:
+			case T__9:
+			case T__10:
+			case T__11:
+			case T__12:
+			case T__13:
+			case T__14:
+			case T__15:
+			case T__16:
+			case T__17:
+			case T__18:
+			case T__19:
+			case T__20:
+			case T__21:
+			case T__22:
+			case T__23:
+			case T__24:
+			case T__26:
+			case T__34:
+			case T__97:
+			case T__108:
+			case T__109:
+			case T__112:
+			case T__113:
+			case T__114:
+			case T__115:
+			case T__126:
+			case T__127:
+			case T__128:
+			case T__129:
+			case T__131:
+				{
+				setState(1185);
+				prepphrase();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MultiApparatusContext extends ParserRuleContext {
+		public List<? extends ApparatusContext> apparatus() {
+			return getRuleContexts(ApparatusContext.class);
+		}
+		public ApparatusContext apparatus(int i) {
+			return getRuleContext(ApparatusContext.class,i);
+		}
+		public List<? extends ConjunctionContext> conjunction() {
+			return getRuleContexts(ConjunctionContext.class);
+		}
+		public ConjunctionContext conjunction(int i) {
+			return getRuleContext(ConjunctionContext.class,i);
+		}
+		public MultiApparatusContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_multiApparatus; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMultiApparatus(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMultiApparatus(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final MultiApparatusContext multiApparatus() throws RecognitionException {
+		MultiApparatusContext _localctx = new MultiApparatusContext(_ctx, getState());
+		enterRule(_localctx, 82, RULE_multiApparatus);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1188);
+			apparatus();
+			setState(1198);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,103,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1192);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,102,_ctx);
+					while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+						if ( _alt==1 ) {
+							{
+							{
+							setState(1189);
+							conjunction();
+							}
+							} 
+						}
+						setState(1194);
+						_errHandler.sync(this);
+						_alt = getInterpreter().adaptivePredict(_input,102,_ctx);
+					}
+					setState(1195);
+					apparatus();
+					}
+					} 
+				}
+				setState(1200);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,103,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ApparatusContext extends ParserRuleContext {
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public List<? extends PreapparatusContext> preapparatus() {
+			return getRuleContexts(PreapparatusContext.class);
+		}
+		public PreapparatusContext preapparatus(int i) {
+			return getRuleContext(PreapparatusContext.class,i);
+		}
+		public List<? extends NnAppContext> nnApp() {
+			return getRuleContexts(NnAppContext.class);
+		}
+		public NnAppContext nnApp(int i) {
+			return getRuleContext(NnAppContext.class,i);
+		}
+		public ApparatusContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_apparatus; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterApparatus(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitApparatus(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ApparatusContext apparatus() throws RecognitionException {
+		ApparatusContext _localctx = new ApparatusContext(_ctx, getState());
+		enterRule(_localctx, 84, RULE_apparatus);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1202);
+			_la = _input.LA(1);
+			if (_la==T__109) {
+				{
+				setState(1201);
+				dt();
+				}
+			}
+
+			setState(1207);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7) | (1L << T__8) | (1L << T__25) | (1L << T__33) | (1L << T__35) | (1L << T__39) | (1L << T__46) | (1L << T__51))) != 0) || ((((_la - 93)) & ~0x3f) == 0 && ((1L << (_la - 93)) & ((1L << (T__92 - 93)) | (1L << (T__95 - 93)) | (1L << (T__101 - 93)) | (1L << (T__105 - 93)) | (1L << (T__108 - 93)) | (1L << (T__113 - 93)) | (1L << (T__114 - 93)) | (1L << (T__115 - 93)) | (1L << (T__118 - 93)))) != 0)) {
+				{
+				{
+				setState(1204);
+				preapparatus();
+				}
+				}
+				setState(1209);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1211); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1210);
+					nnApp();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1213); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,106,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnAppContext extends ParserRuleContext {
+		public List<? extends NnapparatusContext> nnapparatus() {
+			return getRuleContexts(NnapparatusContext.class);
+		}
+		public NnapparatusContext nnapparatus(int i) {
+			return getRuleContext(NnapparatusContext.class,i);
+		}
+		public List<? extends DashContext> dash() {
+			return getRuleContexts(DashContext.class);
+		}
+		public DashContext dash(int i) {
+			return getRuleContext(DashContext.class,i);
+		}
+		public NnAppContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnApp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnApp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnApp(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnAppContext nnApp() throws RecognitionException {
+		NnAppContext _localctx = new NnAppContext(_ctx, getState());
+		enterRule(_localctx, 86, RULE_nnApp);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1216); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1215);
+					nnapparatus();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1218); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,107,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(1225);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,108,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1220);
+					dash();
+					setState(1221);
+					nnapparatus();
+					}
+					} 
+				}
+				setState(1227);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,108,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PreapparatusContext extends ParserRuleContext {
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public List<? extends AdjContext> adj() {
+			return getRuleContexts(AdjContext.class);
+		}
+		public AdjContext adj(int i) {
+			return getRuleContext(AdjContext.class,i);
+		}
+		public List<? extends NnpressureContext> nnpressure() {
+			return getRuleContexts(NnpressureContext.class);
+		}
+		public NnpressureContext nnpressure(int i) {
+			return getRuleContext(NnpressureContext.class,i);
+		}
+		public List<? extends NnaddContext> nnadd() {
+			return getRuleContexts(NnaddContext.class);
+		}
+		public NnaddContext nnadd(int i) {
+			return getRuleContext(NnaddContext.class,i);
+		}
+		public List<? extends MoleculeContext> molecule() {
+			return getRuleContexts(MoleculeContext.class);
+		}
+		public MoleculeContext molecule(int i) {
+			return getRuleContext(MoleculeContext.class,i);
+		}
+		public List<? extends NnchementityContext> nnchementity() {
+			return getRuleContexts(NnchementityContext.class);
+		}
+		public NnchementityContext nnchementity(int i) {
+			return getRuleContext(NnchementityContext.class,i);
+		}
+		public List<? extends NnstateContext> nnstate() {
+			return getRuleContexts(NnstateContext.class);
+		}
+		public NnstateContext nnstate(int i) {
+			return getRuleContext(NnstateContext.class,i);
+		}
+		public List<? extends NnContext> nn() {
+			return getRuleContexts(NnContext.class);
+		}
+		public NnContext nn(int i) {
+			return getRuleContext(NnContext.class,i);
+		}
+		public PreapparatusContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_preapparatus; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPreapparatus(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPreapparatus(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PreapparatusContext preapparatus() throws RecognitionException {
+		PreapparatusContext _localctx = new PreapparatusContext(_ctx, getState());
+		enterRule(_localctx, 88, RULE_preapparatus);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1236); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					setState(1236);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,109,_ctx) ) {
+					case 1:
+						{
+						setState(1228);
+						quantity();
+						}
+						break;
+
+					case 2:
+						{
+						setState(1229);
+						adj();
+						}
+						break;
+
+					case 3:
+						{
+						setState(1230);
+						nnpressure();
+						}
+						break;
+
+					case 4:
+						{
+						setState(1231);
+						nnadd();
+						}
+						break;
+
+					case 5:
+						{
+						setState(1232);
+						molecule();
+						}
+						break;
+
+					case 6:
+						{
+						setState(1233);
+						nnchementity();
+						}
+						break;
+
+					case 7:
+						{
+						setState(1234);
+						nnstate();
+						}
+						break;
+
+					case 8:
+						{
+						setState(1235);
+						nn();
+						}
+						break;
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1238); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,110,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OscarCompoundContext extends ParserRuleContext {
+		public OscarCompoundStructureContext oscarCompoundStructure() {
+			return getRuleContext(OscarCompoundStructureContext.class,0);
+		}
+		public List<? extends JjcompContext> jjcomp() {
+			return getRuleContexts(JjcompContext.class);
+		}
+		public JjcompContext jjcomp(int i) {
+			return getRuleContext(JjcompContext.class,i);
+		}
+		public List<? extends AdjContext> adj() {
+			return getRuleContexts(AdjContext.class);
+		}
+		public AdjContext adj(int i) {
+			return getRuleContext(AdjContext.class,i);
+		}
+		public NnstateContext nnstate() {
+			return getRuleContext(NnstateContext.class,0);
+		}
+		public NumericReferenceOrQuantityContext numericReferenceOrQuantity() {
+			return getRuleContext(NumericReferenceOrQuantityContext.class,0);
+		}
+		public NnchementityContext nnchementity() {
+			return getRuleContext(NnchementityContext.class,0);
+		}
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public FromProcedureContext fromProcedure() {
+			return getRuleContext(FromProcedureContext.class,0);
+		}
+		public OscarCompoundContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_oscarCompound; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterOscarCompound(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitOscarCompound(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final OscarCompoundContext oscarCompound() throws RecognitionException {
+		OscarCompoundContext _localctx = new OscarCompoundContext(_ctx, getState());
+		enterRule(_localctx, 90, RULE_oscarCompound);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1244);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7) | (1L << T__8))) != 0) || ((((_la - 114)) & ~0x3f) == 0 && ((1L << (_la - 114)) & ((1L << (T__113 - 114)) | (1L << (T__114 - 114)) | (1L << (T__115 - 114)))) != 0)) {
+				{
+				setState(1242);
+				switch (_input.LA(1)) {
+				case T__8:
+					{
+					setState(1240);
+					jjcomp();
+					}
+					break;
+				case T__2:
+				case T__3:
+				case T__7:
+				case T__113:
+				case T__114:
+				case T__115:
+					{
+					setState(1241);
+					adj();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				setState(1246);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1247);
+			oscarCompoundStructure();
+			setState(1249);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,113,_ctx) ) {
+			case 1:
+				{
+				setState(1248);
+				adj();
+				}
+				break;
+			}
+			setState(1252);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,114,_ctx) ) {
+			case 1:
+				{
+				setState(1251);
+				nnstate();
+				}
+				break;
+			}
+			setState(1256);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,115,_ctx) ) {
+			case 1:
+				{
+				setState(1254);
+				numericReferenceOrQuantity();
+				}
+				break;
+
+			case 2:
+				{
+				setState(1255);
+				nnchementity();
+				}
+				break;
+			}
+			setState(1261);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,116,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1258);
+					quantity();
+					}
+					} 
+				}
+				setState(1263);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,116,_ctx);
+			}
+			setState(1265);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,117,_ctx) ) {
+			case 1:
+				{
+				setState(1264);
+				fromProcedure();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OscarCompoundStructureContext extends ParserRuleContext {
+		public List<? extends OscarcmContext> oscarcm() {
+			return getRuleContexts(OscarcmContext.class);
+		}
+		public OscarcmContext oscarcm(int i) {
+			return getRuleContext(OscarcmContext.class,i);
+		}
+		public AfterOscarCompoundStructureContext afterOscarCompoundStructure() {
+			return getRuleContext(AfterOscarCompoundStructureContext.class,0);
+		}
+		public OscarCompoundStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_oscarCompoundStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterOscarCompoundStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitOscarCompoundStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final OscarCompoundStructureContext oscarCompoundStructure() throws RecognitionException {
+		OscarCompoundStructureContext _localctx = new OscarCompoundStructureContext(_ctx, getState());
+		enterRule(_localctx, 92, RULE_oscarCompoundStructure);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1268); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1267);
+					oscarcm();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1270); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,118,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(1273);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,119,_ctx) ) {
+			case 1:
+				{
+				setState(1272);
+				afterOscarCompoundStructure();
+				}
+				break;
+			}
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AfterOscarCompoundStructureContext extends ParserRuleContext {
+		public List<? extends DashContext> dash() {
+			return getRuleContexts(DashContext.class);
+		}
+		public DashContext dash(int i) {
+			return getRuleContext(DashContext.class,i);
+		}
+		public List<? extends OscarcmContext> oscarcm() {
+			return getRuleContexts(OscarcmContext.class);
+		}
+		public OscarcmContext oscarcm(int i) {
+			return getRuleContext(OscarcmContext.class,i);
+		}
+		public List<? extends ColonContext> colon() {
+			return getRuleContexts(ColonContext.class);
+		}
+		public ColonContext colon(int i) {
+			return getRuleContext(ColonContext.class,i);
+		}
+		public List<? extends ApostContext> apost() {
+			return getRuleContexts(ApostContext.class);
+		}
+		public ApostContext apost(int i) {
+			return getRuleContext(ApostContext.class,i);
+		}
+		public AfterOscarCompoundStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_afterOscarCompoundStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterAfterOscarCompoundStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitAfterOscarCompoundStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final AfterOscarCompoundStructureContext afterOscarCompoundStructure() throws RecognitionException {
+		AfterOscarCompoundStructureContext _localctx = new AfterOscarCompoundStructureContext(_ctx, getState());
+		enterRule(_localctx, 94, RULE_afterOscarCompoundStructure);
+		int _la;
+		try {
+			int _alt;
+			setState(1314);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,129,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1281); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						{
+						setState(1275);
+						dash();
+						setState(1277); 
+						_errHandler.sync(this);
+						_alt = 1;
+						do {
+							switch (_alt) {
+							case 1:
+								{
+								{
+								setState(1276);
+								oscarcm();
+								}
+								}
+								break;
+							default:
+								throw new NoViableAltException(this);
+							}
+							setState(1279); 
+							_errHandler.sync(this);
+							_alt = getInterpreter().adaptivePredict(_input,120,_ctx);
+						} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(1283); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,121,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				setState(1286);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,122,_ctx) ) {
+				case 1:
+					{
+					setState(1285);
+					dash();
+					}
+					break;
+				}
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1294); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						{
+						setState(1288);
+						colon();
+						setState(1290); 
+						_errHandler.sync(this);
+						_la = _input.LA(1);
+						do {
+							{
+							{
+							setState(1289);
+							oscarcm();
+							}
+							}
+							setState(1292); 
+							_errHandler.sync(this);
+							_la = _input.LA(1);
+						} while ( _la==T__46 );
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(1296); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,124,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				setState(1304); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						{
+						setState(1298);
+						colon();
+						setState(1300); 
+						_errHandler.sync(this);
+						_alt = 1;
+						do {
+							switch (_alt) {
+							case 1:
+								{
+								{
+								setState(1299);
+								oscarcm();
+								}
+								}
+								break;
+							default:
+								throw new NoViableAltException(this);
+							}
+							setState(1302); 
+							_errHandler.sync(this);
+							_alt = getInterpreter().adaptivePredict(_input,125,_ctx);
+						} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(1306); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,126,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				}
+				break;
+
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1310); 
+				_errHandler.sync(this);
+				_alt = 1;
+				do {
+					switch (_alt) {
+					case 1:
+						{
+						setState(1310);
+						switch (_input.LA(1)) {
+						case T__98:
+							{
+							setState(1308);
+							dash();
+							}
+							break;
+						case T__96:
+							{
+							setState(1309);
+							apost();
+							}
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					setState(1312); 
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,128,_ctx);
+				} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MoleculeContext extends ParserRuleContext {
+		public MoleculeamountContext moleculeamount() {
+			return getRuleContext(MoleculeamountContext.class,0);
+		}
+		public MoleculeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_molecule; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMolecule(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMolecule(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final MoleculeContext molecule() throws RecognitionException {
+		MoleculeContext _localctx = new MoleculeContext(_ctx, getState());
+		enterRule(_localctx, 96, RULE_molecule);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1316);
+			moleculeamount();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MoleculeamountContext extends ParserRuleContext {
+		public Moleculeamount3Context moleculeamount3() {
+			return getRuleContext(Moleculeamount3Context.class,0);
+		}
+		public Moleculeamount1Context moleculeamount1() {
+			return getRuleContext(Moleculeamount1Context.class,0);
+		}
+		public Moleculeamount2Context moleculeamount2() {
+			return getRuleContext(Moleculeamount2Context.class,0);
+		}
+		public AsAstateContext asAstate() {
+			return getRuleContext(AsAstateContext.class,0);
+		}
+		public MoleculeamountContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_moleculeamount; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMoleculeamount(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMoleculeamount(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final MoleculeamountContext moleculeamount() throws RecognitionException {
+		MoleculeamountContext _localctx = new MoleculeamountContext(_ctx, getState());
+		enterRule(_localctx, 98, RULE_moleculeamount);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1321);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,130,_ctx) ) {
+			case 1:
+				{
+				setState(1318);
+				moleculeamount3();
+				}
+				break;
+
+			case 2:
+				{
+				setState(1319);
+				moleculeamount1();
+				}
+				break;
+
+			case 3:
+				{
+				setState(1320);
+				moleculeamount2();
+				}
+				break;
+			}
+			setState(1324);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,131,_ctx) ) {
+			case 1:
+				{
+				setState(1323);
+				asAstate();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Moleculeamount3Context extends ParserRuleContext {
+		public InofContext inof() {
+			return getRuleContext(InofContext.class,0);
+		}
+		public RatioOrBracketedRatioContext ratioOrBracketedRatio() {
+			return getRuleContext(RatioOrBracketedRatioContext.class,0);
+		}
+		public OscarCompoundContext oscarCompound() {
+			return getRuleContext(OscarCompoundContext.class,0);
+		}
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public List<? extends BracketedContentInMolContext> bracketedContentInMol() {
+			return getRuleContexts(BracketedContentInMolContext.class);
+		}
+		public BracketedContentInMolContext bracketedContentInMol(int i) {
+			return getRuleContext(BracketedContentInMolContext.class,i);
+		}
+		public DtTHEContext dtTHE() {
+			return getRuleContext(DtTHEContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public Moleculeamount3Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_moleculeamount3; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMoleculeamount3(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMoleculeamount3(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Moleculeamount3Context moleculeamount3() throws RecognitionException {
+		Moleculeamount3Context _localctx = new Moleculeamount3Context(_ctx, getState());
+		enterRule(_localctx, 100, RULE_moleculeamount3);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1328); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				setState(1328);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,132,_ctx) ) {
+				case 1:
+					{
+					setState(1326);
+					quantity();
+					}
+					break;
+
+				case 2:
+					{
+					setState(1327);
+					bracketedContentInMol();
+					}
+					break;
+				}
+				}
+				setState(1330); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==T__35 || ((((_la - 93)) & ~0x3f) == 0 && ((1L << (_la - 93)) & ((1L << (T__92 - 93)) | (1L << (T__95 - 93)) | (1L << (T__101 - 93)) | (1L << (T__105 - 93)) | (1L << (T__108 - 93)))) != 0) );
+			setState(1332);
+			inof();
+			setState(1335);
+			switch (_input.LA(1)) {
+			case T__104:
+				{
+				setState(1333);
+				dtTHE();
+				}
+				break;
+			case T__109:
+				{
+				setState(1334);
+				dt();
+				}
+				break;
+			case T__105:
+			case T__108:
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(1337);
+			ratioOrBracketedRatio();
+			setState(1339);
+			_la = _input.LA(1);
+			if (((((_la - 96)) & ~0x3f) == 0 && ((1L << (_la - 96)) & ((1L << (T__95 - 96)) | (1L << (T__101 - 96)) | (1L << (T__105 - 96)) | (1L << (T__108 - 96)))) != 0)) {
+				{
+				setState(1338);
+				bracketedContentInMol();
+				}
+			}
+
+			setState(1341);
+			oscarCompound();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Moleculeamount1Context extends ParserRuleContext {
+		public List<? extends InofContext> inof() {
+			return getRuleContexts(InofContext.class);
+		}
+		public InofContext inof(int i) {
+			return getRuleContext(InofContext.class,i);
+		}
+		public AfterCompoundCitationOrQuantityContext afterCompoundCitationOrQuantity() {
+			return getRuleContext(AfterCompoundCitationOrQuantityContext.class,0);
+		}
+		public NnchementityContext nnchementity() {
+			return getRuleContext(NnchementityContext.class,0);
+		}
+		public NnstateContext nnstate() {
+			return getRuleContext(NnstateContext.class,0);
+		}
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public List<? extends BracketedContentInMolContext> bracketedContentInMol() {
+			return getRuleContexts(BracketedContentInMolContext.class);
+		}
+		public BracketedContentInMolContext bracketedContentInMol(int i) {
+			return getRuleContext(BracketedContentInMolContext.class,i);
+		}
+		public DtTHEContext dtTHE() {
+			return getRuleContext(DtTHEContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public List<? extends OscarCompoundContext> oscarCompound() {
+			return getRuleContexts(OscarCompoundContext.class);
+		}
+		public OscarCompoundContext oscarCompound(int i) {
+			return getRuleContext(OscarCompoundContext.class,i);
+		}
+		public Moleculeamount1Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_moleculeamount1; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMoleculeamount1(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMoleculeamount1(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Moleculeamount1Context moleculeamount1() throws RecognitionException {
+		Moleculeamount1Context _localctx = new Moleculeamount1Context(_ctx, getState());
+		enterRule(_localctx, 102, RULE_moleculeamount1);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1345);
+			switch (_input.LA(1)) {
+			case T__33:
+				{
+				setState(1343);
+				nnchementity();
+				}
+				break;
+			case T__25:
+				{
+				setState(1344);
+				nnstate();
+				}
+				break;
+			case T__35:
+			case T__92:
+			case T__95:
+			case T__101:
+			case T__105:
+			case T__108:
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(1349); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				setState(1349);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,137,_ctx) ) {
+				case 1:
+					{
+					setState(1347);
+					quantity();
+					}
+					break;
+
+				case 2:
+					{
+					setState(1348);
+					bracketedContentInMol();
+					}
+					break;
+				}
+				}
+				setState(1351); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( _la==T__35 || ((((_la - 93)) & ~0x3f) == 0 && ((1L << (_la - 93)) & ((1L << (T__92 - 93)) | (1L << (T__95 - 93)) | (1L << (T__101 - 93)) | (1L << (T__105 - 93)) | (1L << (T__108 - 93)))) != 0) );
+			setState(1353);
+			inof();
+			setState(1358);
+			_la = _input.LA(1);
+			if (_la==T__35 || ((((_la - 93)) & ~0x3f) == 0 && ((1L << (_la - 93)) & ((1L << (T__92 - 93)) | (1L << (T__105 - 93)) | (1L << (T__108 - 93)))) != 0)) {
+				{
+				setState(1354);
+				quantity();
+				setState(1356);
+				_la = _input.LA(1);
+				if (_la==T__18) {
+					{
+					setState(1355);
+					inof();
+					}
+				}
+
+				}
+			}
+
+			setState(1362);
+			switch (_input.LA(1)) {
+			case T__104:
+				{
+				setState(1360);
+				dtTHE();
+				}
+				break;
+			case T__109:
+				{
+				setState(1361);
+				dt();
+				}
+				break;
+			case T__2:
+			case T__3:
+			case T__7:
+			case T__8:
+			case T__46:
+			case T__113:
+			case T__114:
+			case T__115:
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(1365); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1364);
+					oscarCompound();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1367); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,142,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(1369);
+			afterCompoundCitationOrQuantity();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Moleculeamount2Context extends ParserRuleContext {
+		public AfterCompoundCitationOrQuantityContext afterCompoundCitationOrQuantity() {
+			return getRuleContext(AfterCompoundCitationOrQuantityContext.class,0);
+		}
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public List<? extends BracketedContentInMolContext> bracketedContentInMol() {
+			return getRuleContexts(BracketedContentInMolContext.class);
+		}
+		public BracketedContentInMolContext bracketedContentInMol(int i) {
+			return getRuleContext(BracketedContentInMolContext.class,i);
+		}
+		public List<? extends OscarCompoundContext> oscarCompound() {
+			return getRuleContexts(OscarCompoundContext.class);
+		}
+		public OscarCompoundContext oscarCompound(int i) {
+			return getRuleContext(OscarCompoundContext.class,i);
+		}
+		public Moleculeamount2Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_moleculeamount2; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMoleculeamount2(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMoleculeamount2(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Moleculeamount2Context moleculeamount2() throws RecognitionException {
+		Moleculeamount2Context _localctx = new Moleculeamount2Context(_ctx, getState());
+		enterRule(_localctx, 104, RULE_moleculeamount2);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1375);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__35 || ((((_la - 93)) & ~0x3f) == 0 && ((1L << (_la - 93)) & ((1L << (T__92 - 93)) | (1L << (T__95 - 93)) | (1L << (T__101 - 93)) | (1L << (T__105 - 93)) | (1L << (T__108 - 93)))) != 0)) {
+				{
+				setState(1373);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,143,_ctx) ) {
+				case 1:
+					{
+					setState(1371);
+					quantity();
+					}
+					break;
+
+				case 2:
+					{
+					setState(1372);
+					bracketedContentInMol();
+					}
+					break;
+				}
+				}
+				setState(1377);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1379); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1378);
+					oscarCompound();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1381); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,145,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(1383);
+			afterCompoundCitationOrQuantity();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AfterCompoundCitationOrQuantityContext extends ParserRuleContext {
+		public List<? extends CitationContext> citation() {
+			return getRuleContexts(CitationContext.class);
+		}
+		public CitationContext citation(int i) {
+			return getRuleContext(CitationContext.class,i);
+		}
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public List<? extends CommaContext> comma() {
+			return getRuleContexts(CommaContext.class);
+		}
+		public CommaContext comma(int i) {
+			return getRuleContext(CommaContext.class,i);
+		}
+		public List<? extends BracketedContentInMolContext> bracketedContentInMol() {
+			return getRuleContexts(BracketedContentInMolContext.class);
+		}
+		public BracketedContentInMolContext bracketedContentInMol(int i) {
+			return getRuleContext(BracketedContentInMolContext.class,i);
+		}
+		public List<? extends Quantity1NodeContext> quantity1Node() {
+			return getRuleContexts(Quantity1NodeContext.class);
+		}
+		public Quantity1NodeContext quantity1Node(int i) {
+			return getRuleContext(Quantity1NodeContext.class,i);
+		}
+		public List<? extends CitationStructureContext> citationStructure() {
+			return getRuleContexts(CitationStructureContext.class);
+		}
+		public CitationStructureContext citationStructure(int i) {
+			return getRuleContext(CitationStructureContext.class,i);
+		}
+		public AfterCompoundCitationOrQuantityContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_afterCompoundCitationOrQuantity; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterAfterCompoundCitationOrQuantity(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitAfterCompoundCitationOrQuantity(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final AfterCompoundCitationOrQuantityContext afterCompoundCitationOrQuantity() throws RecognitionException {
+		AfterCompoundCitationOrQuantityContext _localctx = new AfterCompoundCitationOrQuantityContext(_ctx, getState());
+		enterRule(_localctx, 106, RULE_afterCompoundCitationOrQuantity);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1395);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,148,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(1393);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,147,_ctx) ) {
+					case 1:
+						{
+						setState(1385);
+						citation();
+						}
+						break;
+
+					case 2:
+						{
+						setState(1386);
+						quantity();
+						}
+						break;
+
+					case 3:
+						{
+						setState(1387);
+						comma();
+						setState(1390);
+						_errHandler.sync(this);
+						switch ( getInterpreter().adaptivePredict(_input,146,_ctx) ) {
+						case 1:
+							{
+							setState(1388);
+							quantity1Node();
+							}
+							break;
+
+						case 2:
+							{
+							setState(1389);
+							citationStructure();
+							}
+							break;
+						}
+						}
+						break;
+
+					case 4:
+						{
+						setState(1392);
+						bracketedContentInMol();
+						}
+						break;
+					}
+					} 
+				}
+				setState(1397);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,148,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnnamedmoleculeContext extends ParserRuleContext {
+		public UnnamedmoleculeDescriptionContext unnamedmoleculeDescription() {
+			return getRuleContext(UnnamedmoleculeDescriptionContext.class,0);
+		}
+		public UnnamedmoleculeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unnamedmolecule; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterUnnamedmolecule(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitUnnamedmolecule(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final UnnamedmoleculeContext unnamedmolecule() throws RecognitionException {
+		UnnamedmoleculeContext _localctx = new UnnamedmoleculeContext(_ctx, getState());
+		enterRule(_localctx, 108, RULE_unnamedmolecule);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1398);
+			unnamedmoleculeDescription();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnnamedmoleculeDescriptionContext extends ParserRuleContext {
+		public UnnamedmoleculeDescriptionStartContext unnamedmoleculeDescriptionStart() {
+			return getRuleContext(UnnamedmoleculeDescriptionStartContext.class,0);
+		}
+		public AfterCompoundCitationOrQuantityContext afterCompoundCitationOrQuantity() {
+			return getRuleContext(AfterCompoundCitationOrQuantityContext.class,0);
+		}
+		public AsAstateContext asAstate() {
+			return getRuleContext(AsAstateContext.class,0);
+		}
+		public UnnamedmoleculeDescriptionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unnamedmoleculeDescription; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterUnnamedmoleculeDescription(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitUnnamedmoleculeDescription(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final UnnamedmoleculeDescriptionContext unnamedmoleculeDescription() throws RecognitionException {
+		UnnamedmoleculeDescriptionContext _localctx = new UnnamedmoleculeDescriptionContext(_ctx, getState());
+		enterRule(_localctx, 110, RULE_unnamedmoleculeDescription);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1400);
+			unnamedmoleculeDescriptionStart();
+			setState(1401);
+			afterCompoundCitationOrQuantity();
+			setState(1403);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,149,_ctx) ) {
+			case 1:
+				{
+				setState(1402);
+				asAstate();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UnnamedmoleculeDescriptionStartContext extends ParserRuleContext {
+		public QuantityOfContext quantityOf() {
+			return getRuleContext(QuantityOfContext.class,0);
+		}
+		public PotentialUnnamedMoleculeAmount1Context potentialUnnamedMoleculeAmount1() {
+			return getRuleContext(PotentialUnnamedMoleculeAmount1Context.class,0);
+		}
+		public PotentialUnnamedMoleculeAmount2Context potentialUnnamedMoleculeAmount2() {
+			return getRuleContext(PotentialUnnamedMoleculeAmount2Context.class,0);
+		}
+		public DefiniteUnnamedMoleculeContext definiteUnnamedMolecule() {
+			return getRuleContext(DefiniteUnnamedMoleculeContext.class,0);
+		}
+		public UnnamedmoleculeDescriptionStartContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_unnamedmoleculeDescriptionStart; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterUnnamedmoleculeDescriptionStart(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitUnnamedmoleculeDescriptionStart(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final UnnamedmoleculeDescriptionStartContext unnamedmoleculeDescriptionStart() throws RecognitionException {
+		UnnamedmoleculeDescriptionStartContext _localctx = new UnnamedmoleculeDescriptionStartContext(_ctx, getState());
+		enterRule(_localctx, 112, RULE_unnamedmoleculeDescriptionStart);
+		try {
+			setState(1413);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,151,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1405);
+				quantityOf();
+				setState(1409);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,150,_ctx) ) {
+				case 1:
+					{
+					setState(1406);
+					potentialUnnamedMoleculeAmount1();
+					}
+					break;
+
+				case 2:
+					{
+					setState(1407);
+					potentialUnnamedMoleculeAmount2();
+					}
+					break;
+
+				case 3:
+					{
+					setState(1408);
+					definiteUnnamedMolecule();
+					}
+					break;
+				}
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1411);
+				potentialUnnamedMoleculeAmount2();
+				}
+				break;
+
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1412);
+				definiteUnnamedMolecule();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class QuantityOfContext extends ParserRuleContext {
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public InofContext inof() {
+			return getRuleContext(InofContext.class,0);
+		}
+		public DtTHEContext dtTHE() {
+			return getRuleContext(DtTHEContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public QuantityOfContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_quantityOf; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterQuantityOf(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitQuantityOf(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final QuantityOfContext quantityOf() throws RecognitionException {
+		QuantityOfContext _localctx = new QuantityOfContext(_ctx, getState());
+		enterRule(_localctx, 114, RULE_quantityOf);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1416); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1415);
+					quantity();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1418); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,152,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(1421);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,153,_ctx) ) {
+			case 1:
+				{
+				setState(1420);
+				inof();
+				}
+				break;
+			}
+			setState(1425);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,154,_ctx) ) {
+			case 1:
+				{
+				setState(1423);
+				dtTHE();
+				}
+				break;
+
+			case 2:
+				{
+				setState(1424);
+				dt();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PotentialUnnamedMoleculeAmount1Context extends ParserRuleContext {
+		public PotentialUnnamedMoleculeContext potentialUnnamedMolecule() {
+			return getRuleContext(PotentialUnnamedMoleculeContext.class,0);
+		}
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public AsAstateContext asAstate() {
+			return getRuleContext(AsAstateContext.class,0);
+		}
+		public FromProcedureContext fromProcedure() {
+			return getRuleContext(FromProcedureContext.class,0);
+		}
+		public PotentialUnnamedMoleculeAmount1Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_potentialUnnamedMoleculeAmount1; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPotentialUnnamedMoleculeAmount1(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPotentialUnnamedMoleculeAmount1(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PotentialUnnamedMoleculeAmount1Context potentialUnnamedMoleculeAmount1() throws RecognitionException {
+		PotentialUnnamedMoleculeAmount1Context _localctx = new PotentialUnnamedMoleculeAmount1Context(_ctx, getState());
+		enterRule(_localctx, 116, RULE_potentialUnnamedMoleculeAmount1);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1427);
+			potentialUnnamedMolecule();
+			setState(1431);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,155,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1428);
+					quantity();
+					}
+					} 
+				}
+				setState(1433);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,155,_ctx);
+			}
+			setState(1435);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,156,_ctx) ) {
+			case 1:
+				{
+				setState(1434);
+				asAstate();
+				}
+				break;
+			}
+			setState(1438);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,157,_ctx) ) {
+			case 1:
+				{
+				setState(1437);
+				fromProcedure();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PotentialUnnamedMoleculeAmount2Context extends ParserRuleContext {
+		public NumberCompoundReferenceContext numberCompoundReference() {
+			return getRuleContext(NumberCompoundReferenceContext.class,0);
+		}
+		public PotentialUnnamedMoleculeStructureNNContext potentialUnnamedMoleculeStructureNN() {
+			return getRuleContext(PotentialUnnamedMoleculeStructureNNContext.class,0);
+		}
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public List<? extends AsAstateContext> asAstate() {
+			return getRuleContexts(AsAstateContext.class);
+		}
+		public AsAstateContext asAstate(int i) {
+			return getRuleContext(AsAstateContext.class,i);
+		}
+		public List<? extends FromProcedureContext> fromProcedure() {
+			return getRuleContexts(FromProcedureContext.class);
+		}
+		public FromProcedureContext fromProcedure(int i) {
+			return getRuleContext(FromProcedureContext.class,i);
+		}
+		public NumericReferenceOrQuantityContext numericReferenceOrQuantity() {
+			return getRuleContext(NumericReferenceOrQuantityContext.class,0);
+		}
+		public PotentialUnnamedMoleculeAmount2Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_potentialUnnamedMoleculeAmount2; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPotentialUnnamedMoleculeAmount2(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPotentialUnnamedMoleculeAmount2(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PotentialUnnamedMoleculeAmount2Context potentialUnnamedMoleculeAmount2() throws RecognitionException {
+		PotentialUnnamedMoleculeAmount2Context _localctx = new PotentialUnnamedMoleculeAmount2Context(_ctx, getState());
+		enterRule(_localctx, 118, RULE_potentialUnnamedMoleculeAmount2);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1451);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,160,_ctx) ) {
+			case 1:
+				{
+				setState(1440);
+				numberCompoundReference();
+				setState(1443);
+				switch (_input.LA(1)) {
+				case T__35:
+				case T__92:
+				case T__105:
+				case T__108:
+					{
+					setState(1441);
+					quantity();
+					}
+					break;
+				case T__9:
+					{
+					setState(1442);
+					asAstate();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+
+			case 2:
+				{
+				setState(1445);
+				potentialUnnamedMoleculeStructureNN();
+				setState(1449);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,159,_ctx) ) {
+				case 1:
+					{
+					setState(1446);
+					numericReferenceOrQuantity();
+					}
+					break;
+
+				case 2:
+					{
+					setState(1447);
+					asAstate();
+					}
+					break;
+
+				case 3:
+					{
+					setState(1448);
+					fromProcedure();
+					}
+					break;
+				}
+				}
+				break;
+			}
+			setState(1456);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,161,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1453);
+					quantity();
+					}
+					} 
+				}
+				setState(1458);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,161,_ctx);
+			}
+			setState(1460);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,162,_ctx) ) {
+			case 1:
+				{
+				setState(1459);
+				asAstate();
+				}
+				break;
+			}
+			setState(1463);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,163,_ctx) ) {
+			case 1:
+				{
+				setState(1462);
+				fromProcedure();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DefiniteUnnamedMoleculeContext extends ParserRuleContext {
+		public DefiniteUnnamedMoleculeStructureContext definiteUnnamedMoleculeStructure() {
+			return getRuleContext(DefiniteUnnamedMoleculeStructureContext.class,0);
+		}
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public AsAstateContext asAstate() {
+			return getRuleContext(AsAstateContext.class,0);
+		}
+		public FromProcedureContext fromProcedure() {
+			return getRuleContext(FromProcedureContext.class,0);
+		}
+		public DefiniteUnnamedMoleculeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_definiteUnnamedMolecule; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterDefiniteUnnamedMolecule(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitDefiniteUnnamedMolecule(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final DefiniteUnnamedMoleculeContext definiteUnnamedMolecule() throws RecognitionException {
+		DefiniteUnnamedMoleculeContext _localctx = new DefiniteUnnamedMoleculeContext(_ctx, getState());
+		enterRule(_localctx, 120, RULE_definiteUnnamedMolecule);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1465);
+			definiteUnnamedMoleculeStructure();
+			setState(1469);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,164,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1466);
+					quantity();
+					}
+					} 
+				}
+				setState(1471);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,164,_ctx);
+			}
+			setState(1473);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,165,_ctx) ) {
+			case 1:
+				{
+				setState(1472);
+				asAstate();
+				}
+				break;
+			}
+			setState(1476);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,166,_ctx) ) {
+			case 1:
+				{
+				setState(1475);
+				fromProcedure();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DefiniteUnnamedMoleculeStructureContext extends ParserRuleContext {
+		public NnchementityContext nnchementity() {
+			return getRuleContext(NnchementityContext.class,0);
+		}
+		public NumericOrIdentifierCompoundReferenceContext numericOrIdentifierCompoundReference() {
+			return getRuleContext(NumericOrIdentifierCompoundReferenceContext.class,0);
+		}
+		public JjcompContext jjcomp() {
+			return getRuleContext(JjcompContext.class,0);
+		}
+		public List<? extends AdjContext> adj() {
+			return getRuleContexts(AdjContext.class);
+		}
+		public AdjContext adj(int i) {
+			return getRuleContext(AdjContext.class,i);
+		}
+		public NumericReferenceOrQuantityContext numericReferenceOrQuantity() {
+			return getRuleContext(NumericReferenceOrQuantityContext.class,0);
+		}
+		public AlphanumericOrIdentifierCompoundReferenceContext alphanumericOrIdentifierCompoundReference() {
+			return getRuleContext(AlphanumericOrIdentifierCompoundReferenceContext.class,0);
+		}
+		public DefiniteUnnamedMoleculeStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_definiteUnnamedMoleculeStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterDefiniteUnnamedMoleculeStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitDefiniteUnnamedMoleculeStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final DefiniteUnnamedMoleculeStructureContext definiteUnnamedMoleculeStructure() throws RecognitionException {
+		DefiniteUnnamedMoleculeStructureContext _localctx = new DefiniteUnnamedMoleculeStructureContext(_ctx, getState());
+		enterRule(_localctx, 122, RULE_definiteUnnamedMoleculeStructure);
+		int _la;
+		try {
+			setState(1495);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,170,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1481);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7))) != 0) || ((((_la - 114)) & ~0x3f) == 0 && ((1L << (_la - 114)) & ((1L << (T__113 - 114)) | (1L << (T__114 - 114)) | (1L << (T__115 - 114)))) != 0)) {
+					{
+					{
+					setState(1478);
+					adj();
+					}
+					}
+					setState(1483);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1492);
+				switch (_input.LA(1)) {
+				case T__33:
+					{
+					setState(1484);
+					nnchementity();
+					setState(1485);
+					numericOrIdentifierCompoundReference();
+					}
+					break;
+				case T__8:
+					{
+					setState(1487);
+					jjcomp();
+					setState(1488);
+					nnchementity();
+					setState(1490);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,168,_ctx) ) {
+					case 1:
+						{
+						setState(1489);
+						numericReferenceOrQuantity();
+						}
+						break;
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1494);
+				alphanumericOrIdentifierCompoundReference();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PotentialUnnamedMoleculeContext extends ParserRuleContext {
+		public NumberCompoundReferenceContext numberCompoundReference() {
+			return getRuleContext(NumberCompoundReferenceContext.class,0);
+		}
+		public PotentialUnnamedMoleculeStructureNNContext potentialUnnamedMoleculeStructureNN() {
+			return getRuleContext(PotentialUnnamedMoleculeStructureNNContext.class,0);
+		}
+		public NumericReferenceOrQuantityContext numericReferenceOrQuantity() {
+			return getRuleContext(NumericReferenceOrQuantityContext.class,0);
+		}
+		public PotentialUnnamedMoleculeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_potentialUnnamedMolecule; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPotentialUnnamedMolecule(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPotentialUnnamedMolecule(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PotentialUnnamedMoleculeContext potentialUnnamedMolecule() throws RecognitionException {
+		PotentialUnnamedMoleculeContext _localctx = new PotentialUnnamedMoleculeContext(_ctx, getState());
+		enterRule(_localctx, 124, RULE_potentialUnnamedMolecule);
+		try {
+			setState(1502);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,172,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1497);
+				numberCompoundReference();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1498);
+				potentialUnnamedMoleculeStructureNN();
+				setState(1500);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,171,_ctx) ) {
+				case 1:
+					{
+					setState(1499);
+					numericReferenceOrQuantity();
+					}
+					break;
+				}
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PotentialUnnamedMoleculeStructureNNContext extends ParserRuleContext {
+		public NnstateContext nnstate() {
+			return getRuleContext(NnstateContext.class,0);
+		}
+		public ReferenceToExampleCompoundContext referenceToExampleCompound() {
+			return getRuleContext(ReferenceToExampleCompoundContext.class,0);
+		}
+		public NnatmosphereContext nnatmosphere() {
+			return getRuleContext(NnatmosphereContext.class,0);
+		}
+		public NnmixtureContext nnmixture() {
+			return getRuleContext(NnmixtureContext.class,0);
+		}
+		public OscaraseContext oscarase() {
+			return getRuleContext(OscaraseContext.class,0);
+		}
+		public List<? extends JjContext> jj() {
+			return getRuleContexts(JjContext.class);
+		}
+		public JjContext jj(int i) {
+			return getRuleContext(JjContext.class,i);
+		}
+		public List<? extends JjchemContext> jjchem() {
+			return getRuleContexts(JjchemContext.class);
+		}
+		public JjchemContext jjchem(int i) {
+			return getRuleContext(JjchemContext.class,i);
+		}
+		public List<? extends OscarcjContext> oscarcj() {
+			return getRuleContexts(OscarcjContext.class);
+		}
+		public OscarcjContext oscarcj(int i) {
+			return getRuleContext(OscarcjContext.class,i);
+		}
+		public List<? extends JjcompContext> jjcomp() {
+			return getRuleContexts(JjcompContext.class);
+		}
+		public JjcompContext jjcomp(int i) {
+			return getRuleContext(JjcompContext.class,i);
+		}
+		public NnchementityContext nnchementity() {
+			return getRuleContext(NnchementityContext.class,0);
+		}
+		public PotentialUnnamedMoleculeStructureNNContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_potentialUnnamedMoleculeStructureNN; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPotentialUnnamedMoleculeStructureNN(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPotentialUnnamedMoleculeStructureNN(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PotentialUnnamedMoleculeStructureNNContext potentialUnnamedMoleculeStructureNN() throws RecognitionException {
+		PotentialUnnamedMoleculeStructureNNContext _localctx = new PotentialUnnamedMoleculeStructureNNContext(_ctx, getState());
+		enterRule(_localctx, 126, RULE_potentialUnnamedMoleculeStructureNN);
+		int _la;
+		try {
+			setState(1529);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,178,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1510);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__7) | (1L << T__8))) != 0) || _la==T__113) {
+					{
+					setState(1508);
+					switch (_input.LA(1)) {
+					case T__113:
+						{
+						setState(1504);
+						jj();
+						}
+						break;
+					case T__7:
+						{
+						setState(1505);
+						jjchem();
+						}
+						break;
+					case T__2:
+						{
+						setState(1506);
+						oscarcj();
+						}
+						break;
+					case T__8:
+						{
+						setState(1507);
+						jjcomp();
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					}
+					setState(1512);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1518);
+				switch (_input.LA(1)) {
+				case T__25:
+					{
+					setState(1513);
+					nnstate();
+					}
+					break;
+				case T__45:
+					{
+					setState(1514);
+					referenceToExampleCompound();
+					}
+					break;
+				case T__30:
+					{
+					setState(1515);
+					nnatmosphere();
+					}
+					break;
+				case T__52:
+					{
+					setState(1516);
+					nnmixture();
+					}
+					break;
+				case T__4:
+					{
+					setState(1517);
+					oscarase();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1525);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+				while (_la==T__2 || _la==T__7 || _la==T__113) {
+					{
+					setState(1523);
+					switch (_input.LA(1)) {
+					case T__113:
+						{
+						setState(1520);
+						jj();
+						}
+						break;
+					case T__7:
+						{
+						setState(1521);
+						jjchem();
+						}
+						break;
+					case T__2:
+						{
+						setState(1522);
+						oscarcj();
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					}
+					setState(1527);
+					_errHandler.sync(this);
+					_la = _input.LA(1);
+				}
+				setState(1528);
+				nnchementity();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NumericReferenceOrQuantityContext extends ParserRuleContext {
+		public QuantityContext quantity() {
+			return getRuleContext(QuantityContext.class,0);
+		}
+		public NumericOrIdentifierCompoundReferenceContext numericOrIdentifierCompoundReference() {
+			return getRuleContext(NumericOrIdentifierCompoundReferenceContext.class,0);
+		}
+		public NumericReferenceOrQuantityContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_numericReferenceOrQuantity; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNumericReferenceOrQuantity(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNumericReferenceOrQuantity(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NumericReferenceOrQuantityContext numericReferenceOrQuantity() throws RecognitionException {
+		NumericReferenceOrQuantityContext _localctx = new NumericReferenceOrQuantityContext(_ctx, getState());
+		enterRule(_localctx, 128, RULE_numericReferenceOrQuantity);
+		try {
+			setState(1533);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,179,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1531);
+				quantity();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1532);
+				numericOrIdentifierCompoundReference();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AsAstateContext extends ParserRuleContext {
+		public InasContext inas() {
+			return getRuleContext(InasContext.class,0);
+		}
+		public NnstateContext nnstate() {
+			return getRuleContext(NnstateContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public List<? extends JjContext> jj() {
+			return getRuleContexts(JjContext.class);
+		}
+		public JjContext jj(int i) {
+			return getRuleContext(JjContext.class,i);
+		}
+		public List<? extends JjchemContext> jjchem() {
+			return getRuleContexts(JjchemContext.class);
+		}
+		public JjchemContext jjchem(int i) {
+			return getRuleContext(JjchemContext.class,i);
+		}
+		public List<? extends OscarcjContext> oscarcj() {
+			return getRuleContexts(OscarcjContext.class);
+		}
+		public OscarcjContext oscarcj(int i) {
+			return getRuleContext(OscarcjContext.class,i);
+		}
+		public List<? extends QuantityContext> quantity() {
+			return getRuleContexts(QuantityContext.class);
+		}
+		public QuantityContext quantity(int i) {
+			return getRuleContext(QuantityContext.class,i);
+		}
+		public AsAstateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_asAstate; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterAsAstate(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitAsAstate(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final AsAstateContext asAstate() throws RecognitionException {
+		AsAstateContext _localctx = new AsAstateContext(_ctx, getState());
+		enterRule(_localctx, 130, RULE_asAstate);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1535);
+			inas();
+			setState(1537);
+			_la = _input.LA(1);
+			if (_la==T__109) {
+				{
+				setState(1536);
+				dt();
+				}
+			}
+
+			setState(1544);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__2 || _la==T__7 || _la==T__113) {
+				{
+				setState(1542);
+				switch (_input.LA(1)) {
+				case T__113:
+					{
+					setState(1539);
+					jj();
+					}
+					break;
+				case T__7:
+					{
+					setState(1540);
+					jjchem();
+					}
+					break;
+				case T__2:
+					{
+					setState(1541);
+					oscarcj();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				setState(1546);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1547);
+			nnstate();
+			setState(1551);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,183,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1548);
+					quantity();
+					}
+					} 
+				}
+				setState(1553);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,183,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AlphanumericOrIdentifierCompoundReferenceContext extends ParserRuleContext {
+		public AllIdentifierTypesOtherThanCDContext allIdentifierTypesOtherThanCD() {
+			return getRuleContext(AllIdentifierTypesOtherThanCDContext.class,0);
+		}
+		public AlphanumericOrIdentifierCompoundReferenceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_alphanumericOrIdentifierCompoundReference; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterAlphanumericOrIdentifierCompoundReference(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitAlphanumericOrIdentifierCompoundReference(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final AlphanumericOrIdentifierCompoundReferenceContext alphanumericOrIdentifierCompoundReference() throws RecognitionException {
+		AlphanumericOrIdentifierCompoundReferenceContext _localctx = new AlphanumericOrIdentifierCompoundReferenceContext(_ctx, getState());
+		enterRule(_localctx, 132, RULE_alphanumericOrIdentifierCompoundReference);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1554);
+			allIdentifierTypesOtherThanCD();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NumberCompoundReferenceContext extends ParserRuleContext {
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public NumberCompoundReferenceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_numberCompoundReference; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNumberCompoundReference(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNumberCompoundReference(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NumberCompoundReferenceContext numberCompoundReference() throws RecognitionException {
+		NumberCompoundReferenceContext _localctx = new NumberCompoundReferenceContext(_ctx, getState());
+		enterRule(_localctx, 134, RULE_numberCompoundReference);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1556);
+			if (!(isCdThatCouldBeAnIdentifier(_input))) throw new FailedPredicateException(this, "isCdThatCouldBeAnIdentifier(_input)");
+			setState(1557);
+			cd();
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NumericOrIdentifierCompoundReferenceContext extends ParserRuleContext {
+		public AllIdentifierTypesContext allIdentifierTypes() {
+			return getRuleContext(AllIdentifierTypesContext.class,0);
+		}
+		public NumericOrIdentifierCompoundReferenceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_numericOrIdentifierCompoundReference; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNumericOrIdentifierCompoundReference(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNumericOrIdentifierCompoundReference(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NumericOrIdentifierCompoundReferenceContext numericOrIdentifierCompoundReference() throws RecognitionException {
+		NumericOrIdentifierCompoundReferenceContext _localctx = new NumericOrIdentifierCompoundReferenceContext(_ctx, getState());
+		enterRule(_localctx, 136, RULE_numericOrIdentifierCompoundReference);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1559);
+			allIdentifierTypes();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CaptionLabelContext extends ParserRuleContext {
+		public List<? extends CaptionLabelContentContext> captionLabelContent() {
+			return getRuleContexts(CaptionLabelContentContext.class);
+		}
+		public CaptionLabelContentContext captionLabelContent(int i) {
+			return getRuleContext(CaptionLabelContentContext.class,i);
+		}
+		public CaptionLabelContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_captionLabel; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCaptionLabel(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCaptionLabel(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CaptionLabelContext captionLabel() throws RecognitionException {
+		CaptionLabelContext _localctx = new CaptionLabelContext(_ctx, getState());
+		enterRule(_localctx, 138, RULE_captionLabel);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1562); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1561);
+					captionLabelContent();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1564); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,184,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CaptionLabelContentContext extends ParserRuleContext {
+		public NnplabelContext nnplabel() {
+			return getRuleContext(NnplabelContext.class,0);
+		}
+		public List<? extends AllIdentifierTypesContext> allIdentifierTypes() {
+			return getRuleContexts(AllIdentifierTypesContext.class);
+		}
+		public AllIdentifierTypesContext allIdentifierTypes(int i) {
+			return getRuleContext(AllIdentifierTypesContext.class,i);
+		}
+		public List<? extends ConjunctionContext> conjunction() {
+			return getRuleContexts(ConjunctionContext.class);
+		}
+		public ConjunctionContext conjunction(int i) {
+			return getRuleContext(ConjunctionContext.class,i);
+		}
+		public CaptionLabelContentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_captionLabelContent; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCaptionLabelContent(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCaptionLabelContent(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CaptionLabelContentContext captionLabelContent() throws RecognitionException {
+		CaptionLabelContentContext _localctx = new CaptionLabelContentContext(_ctx, getState());
+		enterRule(_localctx, 140, RULE_captionLabelContent);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			{
+			setState(1566);
+			nnplabel();
+			setState(1567);
+			allIdentifierTypes();
+			setState(1573);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,185,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1568);
+					conjunction();
+					setState(1569);
+					allIdentifierTypes();
+					}
+					} 
+				}
+				setState(1575);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,185,_ctx);
+			}
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class QuantityContext extends ParserRuleContext {
+		public Quantity1NodeContext quantity1Node() {
+			return getRuleContext(Quantity1NodeContext.class,0);
+		}
+		public Quantity2NodeContext quantity2Node() {
+			return getRuleContext(Quantity2NodeContext.class,0);
+		}
+		public QuantityContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_quantity; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterQuantity(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitQuantity(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final QuantityContext quantity() throws RecognitionException {
+		QuantityContext _localctx = new QuantityContext(_ctx, getState());
+		enterRule(_localctx, 142, RULE_quantity);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1578);
+			switch (_input.LA(1)) {
+			case T__105:
+				{
+				setState(1576);
+				quantity1Node();
+				}
+				break;
+			case T__35:
+			case T__92:
+			case T__108:
+				{
+				setState(1577);
+				quantity2Node();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Quantity1NodeContext extends ParserRuleContext {
+		public Quantity1Context quantity1() {
+			return getRuleContext(Quantity1Context.class,0);
+		}
+		public Quantity1NodeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_quantity1Node; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterQuantity1Node(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitQuantity1Node(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Quantity1NodeContext quantity1Node() throws RecognitionException {
+		Quantity1NodeContext _localctx = new Quantity1NodeContext(_ctx, getState());
+		enterRule(_localctx, 144, RULE_quantity1Node);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1580);
+			quantity1();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Quantity1Context extends ParserRuleContext {
+		public LrbContext lrb() {
+			return getRuleContext(LrbContext.class,0);
+		}
+		public List<? extends MeasurementsContext> measurements() {
+			return getRuleContexts(MeasurementsContext.class);
+		}
+		public MeasurementsContext measurements(int i) {
+			return getRuleContext(MeasurementsContext.class,i);
+		}
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public List<? extends CommaContext> comma() {
+			return getRuleContexts(CommaContext.class);
+		}
+		public CommaContext comma(int i) {
+			return getRuleContext(CommaContext.class,i);
+		}
+		public List<? extends PreparationphraseContext> preparationphrase() {
+			return getRuleContexts(PreparationphraseContext.class);
+		}
+		public PreparationphraseContext preparationphrase(int i) {
+			return getRuleContext(PreparationphraseContext.class,i);
+		}
+		public List<? extends StopContext> stop() {
+			return getRuleContexts(StopContext.class);
+		}
+		public StopContext stop(int i) {
+			return getRuleContext(StopContext.class,i);
+		}
+		public Quantity1Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_quantity1; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterQuantity1(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitQuantity1(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Quantity1Context quantity1() throws RecognitionException {
+		Quantity1Context _localctx = new Quantity1Context(_ctx, getState());
+		enterRule(_localctx, 146, RULE_quantity1);
+		int _la;
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1582);
+			lrb();
+			setState(1583);
+			measurements();
+			setState(1589);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,187,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1584);
+					comma();
+					setState(1585);
+					measurements();
+					}
+					} 
+				}
+				setState(1591);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,187,_ctx);
+			}
+			setState(1597);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__95) {
+				{
+				{
+				setState(1592);
+				comma();
+				setState(1593);
+				preparationphrase();
+				}
+				}
+				setState(1599);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1605);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__99) {
+				{
+				{
+				setState(1600);
+				stop();
+				setState(1601);
+				preparationphrase();
+				}
+				}
+				setState(1607);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			setState(1608);
+			rrb();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Quantity2NodeContext extends ParserRuleContext {
+		public Quantity2Context quantity2() {
+			return getRuleContext(Quantity2Context.class,0);
+		}
+		public Quantity2NodeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_quantity2Node; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterQuantity2Node(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitQuantity2Node(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Quantity2NodeContext quantity2Node() throws RecognitionException {
+		Quantity2NodeContext _localctx = new Quantity2NodeContext(_ctx, getState());
+		enterRule(_localctx, 148, RULE_quantity2Node);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1610);
+			quantity2();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Quantity2Context extends ParserRuleContext {
+		public List<? extends MeasurementsContext> measurements() {
+			return getRuleContexts(MeasurementsContext.class);
+		}
+		public MeasurementsContext measurements(int i) {
+			return getRuleContext(MeasurementsContext.class,i);
+		}
+		public List<? extends CommaContext> comma() {
+			return getRuleContexts(CommaContext.class);
+		}
+		public CommaContext comma(int i) {
+			return getRuleContext(CommaContext.class,i);
+		}
+		public Quantity2Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_quantity2; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterQuantity2(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitQuantity2(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Quantity2Context quantity2() throws RecognitionException {
+		Quantity2Context _localctx = new Quantity2Context(_ctx, getState());
+		enterRule(_localctx, 150, RULE_quantity2);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1612);
+			measurements();
+			setState(1618);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,190,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					{
+					setState(1613);
+					comma();
+					setState(1614);
+					measurements();
+					}
+					} 
+				}
+				setState(1620);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,190,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MeasurementsContext extends ParserRuleContext {
+		public MultipleContext multiple() {
+			return getRuleContext(MultipleContext.class,0);
+		}
+		public MeasurementtypesContext measurementtypes() {
+			return getRuleContext(MeasurementtypesContext.class,0);
+		}
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public NnContext nn() {
+			return getRuleContext(NnContext.class,0);
+		}
+		public DtContext dt() {
+			return getRuleContext(DtContext.class,0);
+		}
+		public MeasurementsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_measurements; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMeasurements(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMeasurements(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final MeasurementsContext measurements() throws RecognitionException {
+		MeasurementsContext _localctx = new MeasurementsContext(_ctx, getState());
+		enterRule(_localctx, 152, RULE_measurements);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1624);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,191,_ctx) ) {
+			case 1:
+				{
+				setState(1621);
+				cd();
+				setState(1622);
+				nn();
+				}
+				break;
+			}
+			setState(1628);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,192,_ctx) ) {
+			case 1:
+				{
+				setState(1626);
+				multiple();
+				}
+				break;
+
+			case 2:
+				{
+				setState(1627);
+				measurementtypes();
+				}
+				break;
+			}
+			setState(1631);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,193,_ctx) ) {
+			case 1:
+				{
+				setState(1630);
+				dt();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MultipleContext extends ParserRuleContext {
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public CdunicodeContext cdunicode() {
+			return getRuleContext(CdunicodeContext.class,0);
+		}
+		public MeasurementtypesContext measurementtypes() {
+			return getRuleContext(MeasurementtypesContext.class,0);
+		}
+		public MultipleContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_multiple; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMultiple(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMultiple(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final MultipleContext multiple() throws RecognitionException {
+		MultipleContext _localctx = new MultipleContext(_ctx, getState());
+		enterRule(_localctx, 154, RULE_multiple);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1633);
+			cd();
+			setState(1634);
+			cdunicode();
+			setState(1636);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,194,_ctx) ) {
+			case 1:
+				{
+				setState(1635);
+				measurementtypes();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MeasurementtypesContext extends ParserRuleContext {
+		public MolarContext molar() {
+			return getRuleContext(MolarContext.class,0);
+		}
+		public AmountContext amount() {
+			return getRuleContext(AmountContext.class,0);
+		}
+		public MassContext mass() {
+			return getRuleContext(MassContext.class,0);
+		}
+		public VolumeContext volume() {
+			return getRuleContext(VolumeContext.class,0);
+		}
+		public LogHydrogenActivityContext logHydrogenActivity() {
+			return getRuleContext(LogHydrogenActivityContext.class,0);
+		}
+		public EquivalentContext equivalent() {
+			return getRuleContext(EquivalentContext.class,0);
+		}
+		public YieldContext yield() {
+			return getRuleContext(YieldContext.class,0);
+		}
+		public PercentContext percent() {
+			return getRuleContext(PercentContext.class,0);
+		}
+		public MeasurementtypesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_measurementtypes; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMeasurementtypes(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMeasurementtypes(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final MeasurementtypesContext measurementtypes() throws RecognitionException {
+		MeasurementtypesContext _localctx = new MeasurementtypesContext(_ctx, getState());
+		enterRule(_localctx, 156, RULE_measurementtypes);
+		try {
+			setState(1646);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,195,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1638);
+				molar();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1639);
+				amount();
+				}
+				break;
+
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1640);
+				mass();
+				}
+				break;
+
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1641);
+				volume();
+				}
+				break;
+
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(1642);
+				logHydrogenActivity();
+				}
+				break;
+
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(1643);
+				equivalent();
+				}
+				break;
+
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(1644);
+				yield();
+				}
+				break;
+
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(1645);
+				percent();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MolarContext extends ParserRuleContext {
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public NnmolarContext nnmolar() {
+			return getRuleContext(NnmolarContext.class,0);
+		}
+		public MolarContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_molar; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMolar(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMolar(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final MolarContext molar() throws RecognitionException {
+		MolarContext _localctx = new MolarContext(_ctx, getState());
+		enterRule(_localctx, 158, RULE_molar);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1648);
+			cd();
+			setState(1649);
+			nnmolar();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AmountContext extends ParserRuleContext {
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public NnamountContext nnamount() {
+			return getRuleContext(NnamountContext.class,0);
+		}
+		public AmountContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_amount; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterAmount(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitAmount(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final AmountContext amount() throws RecognitionException {
+		AmountContext _localctx = new AmountContext(_ctx, getState());
+		enterRule(_localctx, 160, RULE_amount);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1651);
+			cd();
+			setState(1652);
+			nnamount();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MassContext extends ParserRuleContext {
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public NnmassContext nnmass() {
+			return getRuleContext(NnmassContext.class,0);
+		}
+		public MassContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_mass; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMass(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMass(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final MassContext mass() throws RecognitionException {
+		MassContext _localctx = new MassContext(_ctx, getState());
+		enterRule(_localctx, 162, RULE_mass);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1654);
+			cd();
+			setState(1655);
+			nnmass();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VolumeContext extends ParserRuleContext {
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public NnvolContext nnvol() {
+			return getRuleContext(NnvolContext.class,0);
+		}
+		public VolumeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_volume; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVolume(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVolume(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VolumeContext volume() throws RecognitionException {
+		VolumeContext _localctx = new VolumeContext(_ctx, getState());
+		enterRule(_localctx, 164, RULE_volume);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1657);
+			cd();
+			setState(1658);
+			nnvol();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LogHydrogenActivityContext extends ParserRuleContext {
+		public NnphContext nnph() {
+			return getRuleContext(NnphContext.class,0);
+		}
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public SymContext sym() {
+			return getRuleContext(SymContext.class,0);
+		}
+		public LogHydrogenActivityContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_logHydrogenActivity; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterLogHydrogenActivity(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitLogHydrogenActivity(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final LogHydrogenActivityContext logHydrogenActivity() throws RecognitionException {
+		LogHydrogenActivityContext _localctx = new LogHydrogenActivityContext(_ctx, getState());
+		enterRule(_localctx, 166, RULE_logHydrogenActivity);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1660);
+			nnph();
+			setState(1662);
+			_la = _input.LA(1);
+			if (_la==T__130) {
+				{
+				setState(1661);
+				sym();
+				}
+			}
+
+			setState(1664);
+			cd();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class EquivalentContext extends ParserRuleContext {
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public NneqContext nneq() {
+			return getRuleContext(NneqContext.class,0);
+		}
+		public EquivalentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_equivalent; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterEquivalent(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitEquivalent(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final EquivalentContext equivalent() throws RecognitionException {
+		EquivalentContext _localctx = new EquivalentContext(_ctx, getState());
+		enterRule(_localctx, 168, RULE_equivalent);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1666);
+			cd();
+			setState(1667);
+			nneq();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class YieldContext extends ParserRuleContext {
+		public Yield1Context yield1() {
+			return getRuleContext(Yield1Context.class,0);
+		}
+		public Yield2Context yield2() {
+			return getRuleContext(Yield2Context.class,0);
+		}
+		public YieldContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_yield; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterYield(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitYield(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final YieldContext yield() throws RecognitionException {
+		YieldContext _localctx = new YieldContext(_ctx, getState());
+		enterRule(_localctx, 170, RULE_yield);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1671);
+			switch (_input.LA(1)) {
+			case T__92:
+				{
+				setState(1669);
+				yield1();
+				}
+				break;
+			case T__108:
+				{
+				setState(1670);
+				yield2();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Yield1Context extends ParserRuleContext {
+		public NnyieldContext nnyield() {
+			return getRuleContext(NnyieldContext.class,0);
+		}
+		public PercentContext percent() {
+			return getRuleContext(PercentContext.class,0);
+		}
+		public InofContext inof() {
+			return getRuleContext(InofContext.class,0);
+		}
+		public ColonContext colon() {
+			return getRuleContext(ColonContext.class,0);
+		}
+		public Yield1Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_yield1; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterYield1(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitYield1(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Yield1Context yield1() throws RecognitionException {
+		Yield1Context _localctx = new Yield1Context(_ctx, getState());
+		enterRule(_localctx, 172, RULE_yield1);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1673);
+			nnyield();
+			setState(1676);
+			switch (_input.LA(1)) {
+			case T__18:
+				{
+				setState(1674);
+				inof();
+				}
+				break;
+			case T__94:
+				{
+				setState(1675);
+				colon();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(1678);
+			percent();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Yield2Context extends ParserRuleContext {
+		public PercentContext percent() {
+			return getRuleContext(PercentContext.class,0);
+		}
+		public NnyieldContext nnyield() {
+			return getRuleContext(NnyieldContext.class,0);
+		}
+		public Yield2Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_yield2; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterYield2(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitYield2(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Yield2Context yield2() throws RecognitionException {
+		Yield2Context _localctx = new Yield2Context(_ctx, getState());
+		enterRule(_localctx, 174, RULE_yield2);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1680);
+			percent();
+			setState(1681);
+			nnyield();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PercentContext extends ParserRuleContext {
+		public List<? extends CdContext> cd() {
+			return getRuleContexts(CdContext.class);
+		}
+		public CdContext cd(int i) {
+			return getRuleContext(CdContext.class,i);
+		}
+		public List<? extends PercentsignContext> percentsign() {
+			return getRuleContexts(PercentsignContext.class);
+		}
+		public PercentsignContext percentsign(int i) {
+			return getRuleContext(PercentsignContext.class,i);
+		}
+		public NnContext nn() {
+			return getRuleContext(NnContext.class,0);
+		}
+		public DashContext dash() {
+			return getRuleContext(DashContext.class,0);
+		}
+		public PercentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_percent; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPercent(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPercent(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PercentContext percent() throws RecognitionException {
+		PercentContext _localctx = new PercentContext(_ctx, getState());
+		enterRule(_localctx, 176, RULE_percent);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1683);
+			cd();
+			setState(1685);
+			_la = _input.LA(1);
+			if (_la==T__118) {
+				{
+				setState(1684);
+				nn();
+				}
+			}
+
+			setState(1687);
+			percentsign();
+			setState(1692);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,200,_ctx) ) {
+			case 1:
+				{
+				setState(1688);
+				dash();
+				setState(1689);
+				cd();
+				setState(1690);
+				percentsign();
+				}
+				break;
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContentContext extends ParserRuleContext {
+		public BracketedContent1Context bracketedContent1() {
+			return getRuleContext(BracketedContent1Context.class,0);
+		}
+		public BracketedContent2Context bracketedContent2() {
+			return getRuleContext(BracketedContent2Context.class,0);
+		}
+		public BracketedContent3Context bracketedContent3() {
+			return getRuleContext(BracketedContent3Context.class,0);
+		}
+		public RatioContext ratio() {
+			return getRuleContext(RatioContext.class,0);
+		}
+		public BracketedContentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContent; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContent(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContent(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContentContext bracketedContent() throws RecognitionException {
+		BracketedContentContext _localctx = new BracketedContentContext(_ctx, getState());
+		enterRule(_localctx, 178, RULE_bracketedContent);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1695);
+			_la = _input.LA(1);
+			if (_la==T__108) {
+				{
+				setState(1694);
+				ratio();
+				}
+			}
+
+			setState(1700);
+			switch (_input.LA(1)) {
+			case T__95:
+				{
+				setState(1697);
+				bracketedContent1();
+				}
+				break;
+			case T__105:
+				{
+				setState(1698);
+				bracketedContent2();
+				}
+				break;
+			case T__101:
+				{
+				setState(1699);
+				bracketedContent3();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContent1Context extends ParserRuleContext {
+		public List<? extends CommaContext> comma() {
+			return getRuleContexts(CommaContext.class);
+		}
+		public CommaContext comma(int i) {
+			return getRuleContext(CommaContext.class,i);
+		}
+		public LrbContext lrb() {
+			return getRuleContext(LrbContext.class,0);
+		}
+		public BracketedContentContentsContext bracketedContentContents() {
+			return getRuleContext(BracketedContentContentsContext.class,0);
+		}
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public BracketedContent1Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContent1; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContent1(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContent1(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContent1Context bracketedContent1() throws RecognitionException {
+		BracketedContent1Context _localctx = new BracketedContent1Context(_ctx, getState());
+		enterRule(_localctx, 180, RULE_bracketedContent1);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1702);
+			comma();
+			setState(1703);
+			lrb();
+			setState(1704);
+			bracketedContentContents();
+			setState(1705);
+			rrb();
+			setState(1706);
+			comma();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContent2Context extends ParserRuleContext {
+		public LrbContext lrb() {
+			return getRuleContext(LrbContext.class,0);
+		}
+		public BracketedContentContentsContext bracketedContentContents() {
+			return getRuleContext(BracketedContentContentsContext.class,0);
+		}
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public BracketedContent2Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContent2; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContent2(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContent2(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContent2Context bracketedContent2() throws RecognitionException {
+		BracketedContent2Context _localctx = new BracketedContent2Context(_ctx, getState());
+		enterRule(_localctx, 182, RULE_bracketedContent2);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1708);
+			lrb();
+			setState(1709);
+			bracketedContentContents();
+			setState(1710);
+			rrb();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContent3Context extends ParserRuleContext {
+		public LsqbContext lsqb() {
+			return getRuleContext(LsqbContext.class,0);
+		}
+		public BracketedContentContentsContext bracketedContentContents() {
+			return getRuleContext(BracketedContentContentsContext.class,0);
+		}
+		public RsqbContext rsqb() {
+			return getRuleContext(RsqbContext.class,0);
+		}
+		public BracketedContent3Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContent3; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContent3(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContent3(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContent3Context bracketedContent3() throws RecognitionException {
+		BracketedContent3Context _localctx = new BracketedContent3Context(_ctx, getState());
+		enterRule(_localctx, 184, RULE_bracketedContent3);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1712);
+			lsqb();
+			setState(1713);
+			bracketedContentContents();
+			setState(1714);
+			rsqb();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContentContentsContext extends ParserRuleContext {
+		public List<? extends VerbContext> verb() {
+			return getRuleContexts(VerbContext.class);
+		}
+		public VerbContext verb(int i) {
+			return getRuleContext(VerbContext.class,i);
+		}
+		public List<? extends NounContext> noun() {
+			return getRuleContexts(NounContext.class);
+		}
+		public NounContext noun(int i) {
+			return getRuleContext(NounContext.class,i);
+		}
+		public List<? extends BracketedContentContext> bracketedContent() {
+			return getRuleContexts(BracketedContentContext.class);
+		}
+		public BracketedContentContext bracketedContent(int i) {
+			return getRuleContext(BracketedContentContext.class,i);
+		}
+		public List<? extends MdContext> md() {
+			return getRuleContexts(MdContext.class);
+		}
+		public MdContext md(int i) {
+			return getRuleContext(MdContext.class,i);
+		}
+		public List<? extends PercentsignContext> percentsign() {
+			return getRuleContexts(PercentsignContext.class);
+		}
+		public PercentsignContext percentsign(int i) {
+			return getRuleContext(PercentsignContext.class,i);
+		}
+		public List<? extends DashContext> dash() {
+			return getRuleContexts(DashContext.class);
+		}
+		public DashContext dash(int i) {
+			return getRuleContext(DashContext.class,i);
+		}
+		public List<? extends InAllContext> inAll() {
+			return getRuleContexts(InAllContext.class);
+		}
+		public InAllContext inAll(int i) {
+			return getRuleContext(InAllContext.class,i);
+		}
+		public List<? extends RatioContext> ratio() {
+			return getRuleContexts(RatioContext.class);
+		}
+		public RatioContext ratio(int i) {
+			return getRuleContext(RatioContext.class,i);
+		}
+		public List<? extends ConjunctionContext> conjunction() {
+			return getRuleContexts(ConjunctionContext.class);
+		}
+		public ConjunctionContext conjunction(int i) {
+			return getRuleContext(ConjunctionContext.class,i);
+		}
+		public List<? extends AdjContext> adj() {
+			return getRuleContexts(AdjContext.class);
+		}
+		public AdjContext adj(int i) {
+			return getRuleContext(AdjContext.class,i);
+		}
+		public List<? extends ColonContext> colon() {
+			return getRuleContexts(ColonContext.class);
+		}
+		public ColonContext colon(int i) {
+			return getRuleContext(ColonContext.class,i);
+		}
+		public List<? extends StopContext> stop() {
+			return getRuleContexts(StopContext.class);
+		}
+		public StopContext stop(int i) {
+			return getRuleContext(StopContext.class,i);
+		}
+		public List<? extends NumericContext> numeric() {
+			return getRuleContexts(NumericContext.class);
+		}
+		public NumericContext numeric(int i) {
+			return getRuleContext(NumericContext.class,i);
+		}
+		public BracketedContentContentsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContentContents; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContentContents(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContentContents(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContentContentsContext bracketedContentContents() throws RecognitionException {
+		BracketedContentContentsContext _localctx = new BracketedContentContentsContext(_ctx, getState());
+		enterRule(_localctx, 186, RULE_bracketedContentContents);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1729); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					setState(1729);
+					_errHandler.sync(this);
+					switch ( getInterpreter().adaptivePredict(_input,203,_ctx) ) {
+					case 1:
+						{
+						setState(1716);
+						verb();
+						}
+						break;
+
+					case 2:
+						{
+						setState(1717);
+						noun();
+						}
+						break;
+
+					case 3:
+						{
+						setState(1718);
+						bracketedContent();
+						}
+						break;
+
+					case 4:
+						{
+						setState(1719);
+						md();
+						}
+						break;
+
+					case 5:
+						{
+						setState(1720);
+						percentsign();
+						}
+						break;
+
+					case 6:
+						{
+						setState(1721);
+						dash();
+						}
+						break;
+
+					case 7:
+						{
+						setState(1722);
+						inAll();
+						}
+						break;
+
+					case 8:
+						{
+						setState(1723);
+						ratio();
+						}
+						break;
+
+					case 9:
+						{
+						setState(1724);
+						conjunction();
+						}
+						break;
+
+					case 10:
+						{
+						setState(1725);
+						adj();
+						}
+						break;
+
+					case 11:
+						{
+						setState(1726);
+						colon();
+						}
+						break;
+
+					case 12:
+						{
+						setState(1727);
+						stop();
+						}
+						break;
+
+					case 13:
+						{
+						setState(1728);
+						numeric();
+						}
+						break;
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1731); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,204,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContentInMolContext extends ParserRuleContext {
+		public BracketedContentInMolStructure1Context bracketedContentInMolStructure1() {
+			return getRuleContext(BracketedContentInMolStructure1Context.class,0);
+		}
+		public BracketedContentInMolStructure2Context bracketedContentInMolStructure2() {
+			return getRuleContext(BracketedContentInMolStructure2Context.class,0);
+		}
+		public RatioContext ratio() {
+			return getRuleContext(RatioContext.class,0);
+		}
+		public BracketedContentInMolContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContentInMol; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContentInMol(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContentInMol(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContentInMolContext bracketedContentInMol() throws RecognitionException {
+		BracketedContentInMolContext _localctx = new BracketedContentInMolContext(_ctx, getState());
+		enterRule(_localctx, 188, RULE_bracketedContentInMol);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1734);
+			_la = _input.LA(1);
+			if (_la==T__108) {
+				{
+				setState(1733);
+				ratio();
+				}
+			}
+
+			setState(1738);
+			switch (_input.LA(1)) {
+			case T__95:
+				{
+				setState(1736);
+				bracketedContentInMolStructure1();
+				}
+				break;
+			case T__101:
+			case T__105:
+				{
+				setState(1737);
+				bracketedContentInMolStructure2();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContentInMolStructure1Context extends ParserRuleContext {
+		public List<? extends CommaContext> comma() {
+			return getRuleContexts(CommaContext.class);
+		}
+		public CommaContext comma(int i) {
+			return getRuleContext(CommaContext.class,i);
+		}
+		public BracketedContentInMolStructure2Context bracketedContentInMolStructure2() {
+			return getRuleContext(BracketedContentInMolStructure2Context.class,0);
+		}
+		public BracketedContentInMolStructure1Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContentInMolStructure1; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContentInMolStructure1(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContentInMolStructure1(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContentInMolStructure1Context bracketedContentInMolStructure1() throws RecognitionException {
+		BracketedContentInMolStructure1Context _localctx = new BracketedContentInMolStructure1Context(_ctx, getState());
+		enterRule(_localctx, 190, RULE_bracketedContentInMolStructure1);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1740);
+			comma();
+			setState(1741);
+			bracketedContentInMolStructure2();
+			setState(1742);
+			comma();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContentInMolStructure2Context extends ParserRuleContext {
+		public LrbContext lrb() {
+			return getRuleContext(LrbContext.class,0);
+		}
+		public BracketedContentInMolContents1Context bracketedContentInMolContents1() {
+			return getRuleContext(BracketedContentInMolContents1Context.class,0);
+		}
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public List<? extends BracketedContentInMolContents2Context> bracketedContentInMolContents2() {
+			return getRuleContexts(BracketedContentInMolContents2Context.class);
+		}
+		public BracketedContentInMolContents2Context bracketedContentInMolContents2(int i) {
+			return getRuleContext(BracketedContentInMolContents2Context.class,i);
+		}
+		public LsqbContext lsqb() {
+			return getRuleContext(LsqbContext.class,0);
+		}
+		public RsqbContext rsqb() {
+			return getRuleContext(RsqbContext.class,0);
+		}
+		public BracketedContentInMolStructure2Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContentInMolStructure2; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContentInMolStructure2(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContentInMolStructure2(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContentInMolStructure2Context bracketedContentInMolStructure2() throws RecognitionException {
+		BracketedContentInMolStructure2Context _localctx = new BracketedContentInMolStructure2Context(_ctx, getState());
+		enterRule(_localctx, 192, RULE_bracketedContentInMolStructure2);
+		try {
+			int _alt;
+			setState(1764);
+			switch (_input.LA(1)) {
+			case T__105:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1744);
+				lrb();
+				setState(1745);
+				bracketedContentInMolContents1();
+				setState(1749);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,207,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(1746);
+						bracketedContentInMolContents2();
+						}
+						} 
+					}
+					setState(1751);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,207,_ctx);
+				}
+				setState(1752);
+				rrb();
+				}
+				break;
+			case T__101:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1754);
+				lsqb();
+				setState(1755);
+				bracketedContentInMolContents1();
+				setState(1759);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,208,_ctx);
+				while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+					if ( _alt==1 ) {
+						{
+						{
+						setState(1756);
+						bracketedContentInMolContents2();
+						}
+						} 
+					}
+					setState(1761);
+					_errHandler.sync(this);
+					_alt = getInterpreter().adaptivePredict(_input,208,_ctx);
+				}
+				setState(1762);
+				rsqb();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContentInMolContents1Context extends ParserRuleContext {
+		public NumberCompoundReferenceContext numberCompoundReference() {
+			return getRuleContext(NumberCompoundReferenceContext.class,0);
+		}
+		public CommaContext comma() {
+			return getRuleContext(CommaContext.class,0);
+		}
+		public ColonContext colon() {
+			return getRuleContext(ColonContext.class,0);
+		}
+		public StopContext stop() {
+			return getRuleContext(StopContext.class,0);
+		}
+		public BracketedContentInMolContentsAlwaysAllowedContext bracketedContentInMolContentsAlwaysAllowed() {
+			return getRuleContext(BracketedContentInMolContentsAlwaysAllowedContext.class,0);
+		}
+		public BracketedContentInMolContents1Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContentInMolContents1; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContentInMolContents1(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContentInMolContents1(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContentInMolContents1Context bracketedContentInMolContents1() throws RecognitionException {
+		BracketedContentInMolContents1Context _localctx = new BracketedContentInMolContents1Context(_ctx, getState());
+		enterRule(_localctx, 194, RULE_bracketedContentInMolContents1);
+		try {
+			setState(1774);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,211,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1766);
+				numberCompoundReference();
+				setState(1771);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,210,_ctx) ) {
+				case 1:
+					{
+					setState(1767);
+					comma();
+					}
+					break;
+
+				case 2:
+					{
+					setState(1768);
+					colon();
+					}
+					break;
+
+				case 3:
+					{
+					setState(1769);
+					if (!(nextIsSemiColon(_input))) throw new FailedPredicateException(this, "nextIsSemiColon(_input)");
+					setState(1770);
+					stop();
+					}
+					break;
+				}
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1773);
+				bracketedContentInMolContentsAlwaysAllowed();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContentInMolContents2Context extends ParserRuleContext {
+		public CcContext cc() {
+			return getRuleContext(CcContext.class,0);
+		}
+		public BracketedContentInMolContentsAlwaysAllowedContext bracketedContentInMolContentsAlwaysAllowed() {
+			return getRuleContext(BracketedContentInMolContentsAlwaysAllowedContext.class,0);
+		}
+		public BracketedContentInMolContents2Context(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContentInMolContents2; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContentInMolContents2(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContentInMolContents2(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContentInMolContents2Context bracketedContentInMolContents2() throws RecognitionException {
+		BracketedContentInMolContents2Context _localctx = new BracketedContentInMolContents2Context(_ctx, getState());
+		enterRule(_localctx, 196, RULE_bracketedContentInMolContents2);
+		try {
+			setState(1778);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,212,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1776);
+				cc();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1777);
+				bracketedContentInMolContentsAlwaysAllowed();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedContentInMolContentsAlwaysAllowedContext extends ParserRuleContext {
+		public VerbContext verb() {
+			return getRuleContext(VerbContext.class,0);
+		}
+		public Quantity2NodeContext quantity2Node() {
+			return getRuleContext(Quantity2NodeContext.class,0);
+		}
+		public OscarCompoundContext oscarCompound() {
+			return getRuleContext(OscarCompoundContext.class,0);
+		}
+		public AlphanumericOrIdentifierCompoundReferenceContext alphanumericOrIdentifierCompoundReference() {
+			return getRuleContext(AlphanumericOrIdentifierCompoundReferenceContext.class,0);
+		}
+		public RatioContext ratio() {
+			return getRuleContext(RatioContext.class,0);
+		}
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public MdContext md() {
+			return getRuleContext(MdContext.class,0);
+		}
+		public PercentsignContext percentsign() {
+			return getRuleContext(PercentsignContext.class,0);
+		}
+		public DashContext dash() {
+			return getRuleContext(DashContext.class,0);
+		}
+		public InAllContext inAll() {
+			return getRuleContext(InAllContext.class,0);
+		}
+		public CommaContext comma() {
+			return getRuleContext(CommaContext.class,0);
+		}
+		public AdjContext adj() {
+			return getRuleContext(AdjContext.class,0);
+		}
+		public ColonContext colon() {
+			return getRuleContext(ColonContext.class,0);
+		}
+		public StopContext stop() {
+			return getRuleContext(StopContext.class,0);
+		}
+		public NounContext noun() {
+			return getRuleContext(NounContext.class,0);
+		}
+		public BracketedContentInMolContext bracketedContentInMol() {
+			return getRuleContext(BracketedContentInMolContext.class,0);
+		}
+		public BracketedContentInMolContentsAlwaysAllowedContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedContentInMolContentsAlwaysAllowed; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedContentInMolContentsAlwaysAllowed(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedContentInMolContentsAlwaysAllowed(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedContentInMolContentsAlwaysAllowedContext bracketedContentInMolContentsAlwaysAllowed() throws RecognitionException {
+		BracketedContentInMolContentsAlwaysAllowedContext _localctx = new BracketedContentInMolContentsAlwaysAllowedContext(_ctx, getState());
+		enterRule(_localctx, 198, RULE_bracketedContentInMolContentsAlwaysAllowed);
+		try {
+			setState(1796);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,213,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1780);
+				verb();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1781);
+				quantity2Node();
+				}
+				break;
+
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1782);
+				oscarCompound();
+				}
+				break;
+
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1783);
+				alphanumericOrIdentifierCompoundReference();
+				}
+				break;
+
+			case 5:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(1784);
+				ratio();
+				}
+				break;
+
+			case 6:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(1785);
+				cd();
+				}
+				break;
+
+			case 7:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(1786);
+				md();
+				}
+				break;
+
+			case 8:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(1787);
+				percentsign();
+				}
+				break;
+
+			case 9:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(1788);
+				dash();
+				}
+				break;
+
+			case 10:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(1789);
+				inAll();
+				}
+				break;
+
+			case 11:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(1790);
+				comma();
+				}
+				break;
+
+			case 12:
+				enterOuterAlt(_localctx, 12);
+				{
+				setState(1791);
+				adj();
+				}
+				break;
+
+			case 13:
+				enterOuterAlt(_localctx, 13);
+				{
+				setState(1792);
+				colon();
+				}
+				break;
+
+			case 14:
+				enterOuterAlt(_localctx, 14);
+				{
+				setState(1793);
+				stop();
+				}
+				break;
+
+			case 15:
+				enterOuterAlt(_localctx, 15);
+				{
+				setState(1794);
+				noun();
+				}
+				break;
+
+			case 16:
+				enterOuterAlt(_localctx, 16);
+				{
+				setState(1795);
+				bracketedContentInMol();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FromProcedureContext extends ParserRuleContext {
+		public ProcedureNodeContext procedureNode() {
+			return getRuleContext(ProcedureNodeContext.class,0);
+		}
+		public InfromContext infrom() {
+			return getRuleContext(InfromContext.class,0);
+		}
+		public InofContext inof() {
+			return getRuleContext(InofContext.class,0);
+		}
+		public VbyieldContext vbyield() {
+			return getRuleContext(VbyieldContext.class,0);
+		}
+		public VbsynthesizeContext vbsynthesize() {
+			return getRuleContext(VbsynthesizeContext.class,0);
+		}
+		public IninContext inin() {
+			return getRuleContext(IninContext.class,0);
+		}
+		public InbyContext inby() {
+			return getRuleContext(InbyContext.class,0);
+		}
+		public FromProcedureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fromProcedure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterFromProcedure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitFromProcedure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final FromProcedureContext fromProcedure() throws RecognitionException {
+		FromProcedureContext _localctx = new FromProcedureContext(_ctx, getState());
+		enterRule(_localctx, 200, RULE_fromProcedure);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1811);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,216,_ctx) ) {
+			case 1:
+				{
+				setState(1798);
+				infrom();
+				}
+				break;
+
+			case 2:
+				{
+				setState(1799);
+				if (!(precededByProduct(_input))) throw new FailedPredicateException(this, "precededByProduct(_input)");
+				setState(1800);
+				inof();
+				}
+				break;
+
+			case 3:
+				{
+				setState(1801);
+				if (!(suitableVbYieldOrSynthesizeForReference(_input))) throw new FailedPredicateException(this, "suitableVbYieldOrSynthesizeForReference(_input)");
+				setState(1804);
+				switch (_input.LA(1)) {
+				case T__91:
+					{
+					setState(1802);
+					vbyield();
+					}
+					break;
+				case T__87:
+					{
+					setState(1803);
+					vbsynthesize();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1809);
+				switch (_input.LA(1)) {
+				case T__12:
+					{
+					setState(1806);
+					inin();
+					}
+					break;
+				case T__16:
+					{
+					setState(1807);
+					inby();
+					}
+					break;
+				case T__21:
+					{
+					setState(1808);
+					infrom();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				break;
+			}
+			setState(1813);
+			procedureNode();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ProcedureNodeContext extends ParserRuleContext {
+		public MethodContext method() {
+			return getRuleContext(MethodContext.class,0);
+		}
+		public ProcedureNodeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_procedureNode; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterProcedureNode(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitProcedureNode(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ProcedureNodeContext procedureNode() throws RecognitionException {
+		ProcedureNodeContext _localctx = new ProcedureNodeContext(_ctx, getState());
+		enterRule(_localctx, 202, RULE_procedureNode);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1815);
+			method();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MethodContext extends ParserRuleContext {
+		public NnmethodContext nnmethod() {
+			return getRuleContext(NnmethodContext.class,0);
+		}
+		public NnexampleContext nnexample() {
+			return getRuleContext(NnexampleContext.class,0);
+		}
+		public AllIdentifierTypesContext allIdentifierTypes() {
+			return getRuleContext(AllIdentifierTypesContext.class,0);
+		}
+		public List<? extends SubmethodContext> submethod() {
+			return getRuleContexts(SubmethodContext.class);
+		}
+		public SubmethodContext submethod(int i) {
+			return getRuleContext(SubmethodContext.class,i);
+		}
+		public List<? extends LrbContext> lrb() {
+			return getRuleContexts(LrbContext.class);
+		}
+		public LrbContext lrb(int i) {
+			return getRuleContext(LrbContext.class,i);
+		}
+		public List<? extends RrbContext> rrb() {
+			return getRuleContexts(RrbContext.class);
+		}
+		public RrbContext rrb(int i) {
+			return getRuleContext(RrbContext.class,i);
+		}
+		public NngeneralContext nngeneral() {
+			return getRuleContext(NngeneralContext.class,0);
+		}
+		public NnContext nn() {
+			return getRuleContext(NnContext.class,0);
+		}
+		public List<? extends CommaContext> comma() {
+			return getRuleContexts(CommaContext.class);
+		}
+		public CommaContext comma(int i) {
+			return getRuleContext(CommaContext.class,i);
+		}
+		public List<? extends ColonContext> colon() {
+			return getRuleContexts(ColonContext.class);
+		}
+		public ColonContext colon(int i) {
+			return getRuleContext(ColonContext.class,i);
+		}
+		public List<? extends InofContext> inof() {
+			return getRuleContexts(InofContext.class);
+		}
+		public InofContext inof(int i) {
+			return getRuleContext(InofContext.class,i);
+		}
+		public List<? extends InfromContext> infrom() {
+			return getRuleContexts(InfromContext.class);
+		}
+		public InfromContext infrom(int i) {
+			return getRuleContext(InfromContext.class,i);
+		}
+		public MethodContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_method; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMethod(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMethod(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final MethodContext method() throws RecognitionException {
+		MethodContext _localctx = new MethodContext(_ctx, getState());
+		enterRule(_localctx, 204, RULE_method);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1828);
+			switch (_input.LA(1)) {
+			case T__37:
+			case T__38:
+			case T__118:
+				{
+				setState(1819);
+				switch (_input.LA(1)) {
+				case T__37:
+					{
+					setState(1817);
+					nngeneral();
+					}
+					break;
+				case T__118:
+					{
+					setState(1818);
+					nn();
+					}
+					break;
+				case T__38:
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1821);
+				nnmethod();
+				setState(1823);
+				_errHandler.sync(this);
+				switch ( getInterpreter().adaptivePredict(_input,218,_ctx) ) {
+				case 1:
+					{
+					setState(1822);
+					allIdentifierTypes();
+					}
+					break;
+				}
+				}
+				break;
+			case T__45:
+				{
+				setState(1825);
+				nnexample();
+				setState(1826);
+				allIdentifierTypes();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(1843);
+			_errHandler.sync(this);
+			_alt = getInterpreter().adaptivePredict(_input,222,_ctx);
+			while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER ) {
+				if ( _alt==1 ) {
+					{
+					setState(1841);
+					switch (_input.LA(1)) {
+					case T__18:
+					case T__21:
+					case T__38:
+					case T__45:
+					case T__94:
+					case T__95:
+						{
+						setState(1834);
+						switch (_input.LA(1)) {
+						case T__95:
+							{
+							setState(1830);
+							comma();
+							}
+							break;
+						case T__94:
+							{
+							setState(1831);
+							colon();
+							}
+							break;
+						case T__18:
+							{
+							setState(1832);
+							inof();
+							}
+							break;
+						case T__21:
+							{
+							setState(1833);
+							infrom();
+							}
+							break;
+						case T__38:
+						case T__45:
+							break;
+						default:
+							throw new NoViableAltException(this);
+						}
+						setState(1836);
+						submethod();
+						}
+						break;
+					case T__105:
+						{
+						setState(1837);
+						lrb();
+						setState(1838);
+						submethod();
+						setState(1839);
+						rrb();
+						}
+						break;
+					default:
+						throw new NoViableAltException(this);
+					}
+					} 
+				}
+				setState(1845);
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,222,_ctx);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SubmethodContext extends ParserRuleContext {
+		public AllIdentifierTypesContext allIdentifierTypes() {
+			return getRuleContext(AllIdentifierTypesContext.class,0);
+		}
+		public NnmethodContext nnmethod() {
+			return getRuleContext(NnmethodContext.class,0);
+		}
+		public NnexampleContext nnexample() {
+			return getRuleContext(NnexampleContext.class,0);
+		}
+		public SubmethodContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_submethod; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterSubmethod(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitSubmethod(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final SubmethodContext submethod() throws RecognitionException {
+		SubmethodContext _localctx = new SubmethodContext(_ctx, getState());
+		enterRule(_localctx, 206, RULE_submethod);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1848);
+			switch (_input.LA(1)) {
+			case T__38:
+				{
+				setState(1846);
+				nnmethod();
+				}
+				break;
+			case T__45:
+				{
+				setState(1847);
+				nnexample();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(1850);
+			allIdentifierTypes();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ReferenceToExampleCompoundContext extends ParserRuleContext {
+		public NnexampleContext nnexample() {
+			return getRuleContext(NnexampleContext.class,0);
+		}
+		public AllIdentifierTypesContext allIdentifierTypes() {
+			return getRuleContext(AllIdentifierTypesContext.class,0);
+		}
+		public ReferenceToExampleCompoundContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_referenceToExampleCompound; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterReferenceToExampleCompound(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitReferenceToExampleCompound(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ReferenceToExampleCompoundContext referenceToExampleCompound() throws RecognitionException {
+		ReferenceToExampleCompoundContext _localctx = new ReferenceToExampleCompoundContext(_ctx, getState());
+		enterRule(_localctx, 208, RULE_referenceToExampleCompound);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1852);
+			nnexample();
+			setState(1853);
+			allIdentifierTypes();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AdvAdjContext extends ParserRuleContext {
+		public AdvContext adv() {
+			return getRuleContext(AdvContext.class,0);
+		}
+		public AdjContext adj() {
+			return getRuleContext(AdjContext.class,0);
+		}
+		public AdvAdjContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_advAdj; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterAdvAdj(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitAdvAdj(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final AdvAdjContext advAdj() throws RecognitionException {
+		AdvAdjContext _localctx = new AdvAdjContext(_ctx, getState());
+		enterRule(_localctx, 210, RULE_advAdj);
+		try {
+			setState(1857);
+			switch (_input.LA(1)) {
+			case T__126:
+			case T__127:
+			case T__128:
+			case T__129:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1855);
+				adv();
+				}
+				break;
+			case T__2:
+			case T__3:
+			case T__7:
+			case T__113:
+			case T__114:
+			case T__115:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1856);
+				adj();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RangeContext extends ParserRuleContext {
+		public List<? extends NumericContext> numeric() {
+			return getRuleContexts(NumericContext.class);
+		}
+		public NumericContext numeric(int i) {
+			return getRuleContext(NumericContext.class,i);
+		}
+		public DashContext dash() {
+			return getRuleContext(DashContext.class,0);
+		}
+		public RangeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_range; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterRange(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitRange(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final RangeContext range() throws RecognitionException {
+		RangeContext _localctx = new RangeContext(_ctx, getState());
+		enterRule(_localctx, 212, RULE_range);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1859);
+			numeric();
+			setState(1860);
+			dash();
+			setState(1861);
+			numeric();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CyclesContext extends ParserRuleContext {
+		public CycleStructureContext cycleStructure() {
+			return getRuleContext(CycleStructureContext.class,0);
+		}
+		public CyclesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cycles; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCycles(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCycles(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CyclesContext cycles() throws RecognitionException {
+		CyclesContext _localctx = new CyclesContext(_ctx, getState());
+		enterRule(_localctx, 214, RULE_cycles);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1863);
+			cycleStructure();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CycleStructureContext extends ParserRuleContext {
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public NncycleContext nncycle() {
+			return getRuleContext(NncycleContext.class,0);
+		}
+		public DashNNContext dashNN() {
+			return getRuleContext(DashNNContext.class,0);
+		}
+		public CycleStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cycleStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCycleStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCycleStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CycleStructureContext cycleStructure() throws RecognitionException {
+		CycleStructureContext _localctx = new CycleStructureContext(_ctx, getState());
+		enterRule(_localctx, 216, RULE_cycleStructure);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1865);
+			cd();
+			setState(1867);
+			_la = _input.LA(1);
+			if ((((_la) & ~0x3f) == 0 && ((1L << _la) & ((1L << T__2) | (1L << T__3) | (1L << T__7))) != 0) || ((((_la - 109)) & ~0x3f) == 0 && ((1L << (_la - 109)) & ((1L << (T__108 - 109)) | (1L << (T__113 - 109)) | (1L << (T__114 - 109)) | (1L << (T__115 - 109)) | (1L << (T__118 - 109)))) != 0)) {
+				{
+				setState(1866);
+				dashNN();
+				}
+			}
+
+			setState(1869);
+			nncycle();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DashNNContext extends ParserRuleContext {
+		public List<? extends AdjContext> adj() {
+			return getRuleContexts(AdjContext.class);
+		}
+		public AdjContext adj(int i) {
+			return getRuleContext(AdjContext.class,i);
+		}
+		public List<? extends NnContext> nn() {
+			return getRuleContexts(NnContext.class);
+		}
+		public NnContext nn(int i) {
+			return getRuleContext(NnContext.class,i);
+		}
+		public List<? extends CdContext> cd() {
+			return getRuleContexts(CdContext.class);
+		}
+		public CdContext cd(int i) {
+			return getRuleContext(CdContext.class,i);
+		}
+		public List<? extends DashContext> dash() {
+			return getRuleContexts(DashContext.class);
+		}
+		public DashContext dash(int i) {
+			return getRuleContext(DashContext.class,i);
+		}
+		public DashNNContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dashNN; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterDashNN(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitDashNN(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final DashNNContext dashNN() throws RecognitionException {
+		DashNNContext _localctx = new DashNNContext(_ctx, getState());
+		enterRule(_localctx, 218, RULE_dashNN);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1874);
+			switch (_input.LA(1)) {
+			case T__2:
+			case T__3:
+			case T__7:
+			case T__113:
+			case T__114:
+			case T__115:
+				{
+				setState(1871);
+				adj();
+				}
+				break;
+			case T__118:
+				{
+				setState(1872);
+				nn();
+				}
+				break;
+			case T__108:
+				{
+				setState(1873);
+				cd();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(1884);
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			while (_la==T__98) {
+				{
+				{
+				setState(1876);
+				dash();
+				setState(1880);
+				switch (_input.LA(1)) {
+				case T__2:
+				case T__3:
+				case T__7:
+				case T__113:
+				case T__114:
+				case T__115:
+					{
+					setState(1877);
+					adj();
+					}
+					break;
+				case T__118:
+					{
+					setState(1878);
+					nn();
+					}
+					break;
+				case T__108:
+					{
+					setState(1879);
+					cd();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				}
+				setState(1886);
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			}
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RatioOrBracketedRatioContext extends ParserRuleContext {
+		public LrbContext lrb() {
+			return getRuleContext(LrbContext.class,0);
+		}
+		public RatioContext ratio() {
+			return getRuleContext(RatioContext.class,0);
+		}
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public RatioOrBracketedRatioContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ratioOrBracketedRatio; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterRatioOrBracketedRatio(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitRatioOrBracketedRatio(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final RatioOrBracketedRatioContext ratioOrBracketedRatio() throws RecognitionException {
+		RatioOrBracketedRatioContext _localctx = new RatioOrBracketedRatioContext(_ctx, getState());
+		enterRule(_localctx, 220, RULE_ratioOrBracketedRatio);
+		try {
+			setState(1892);
+			switch (_input.LA(1)) {
+			case T__105:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1887);
+				lrb();
+				setState(1888);
+				ratio();
+				setState(1889);
+				rrb();
+				}
+				break;
+			case T__108:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1891);
+				ratio();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RatioContext extends ParserRuleContext {
+		public CdRatioContext cdRatio() {
+			return getRuleContext(CdRatioContext.class,0);
+		}
+		public RatioContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ratio; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterRatio(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitRatio(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final RatioContext ratio() throws RecognitionException {
+		RatioContext _localctx = new RatioContext(_ctx, getState());
+		enterRule(_localctx, 222, RULE_ratio);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1894);
+			cdRatio();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CdRatioContext extends ParserRuleContext {
+		public CdNotFollowedByQuantityUnitsContext cdNotFollowedByQuantityUnits() {
+			return getRuleContext(CdNotFollowedByQuantityUnitsContext.class,0);
+		}
+		public List<? extends CdContext> cd() {
+			return getRuleContexts(CdContext.class);
+		}
+		public CdContext cd(int i) {
+			return getRuleContext(CdContext.class,i);
+		}
+		public List<? extends ColonContext> colon() {
+			return getRuleContexts(ColonContext.class);
+		}
+		public ColonContext colon(int i) {
+			return getRuleContext(ColonContext.class,i);
+		}
+		public CdRatioContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cdRatio; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCdRatio(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCdRatio(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CdRatioContext cdRatio() throws RecognitionException {
+		CdRatioContext _localctx = new CdRatioContext(_ctx, getState());
+		enterRule(_localctx, 224, RULE_cdRatio);
+		try {
+			int _alt;
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1899); 
+			_errHandler.sync(this);
+			_alt = 1;
+			do {
+				switch (_alt) {
+				case 1:
+					{
+					{
+					setState(1896);
+					cd();
+					setState(1897);
+					colon();
+					}
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				setState(1901); 
+				_errHandler.sync(this);
+				_alt = getInterpreter().adaptivePredict(_input,230,_ctx);
+			} while ( _alt!=2 && _alt!=org.antlr.v4.runtime.atn.ATN.INVALID_ALT_NUMBER );
+			setState(1903);
+			cdNotFollowedByQuantityUnits();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CdNotFollowedByQuantityUnitsContext extends ParserRuleContext {
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public CdNotFollowedByQuantityUnitsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cdNotFollowedByQuantityUnits; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCdNotFollowedByQuantityUnits(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCdNotFollowedByQuantityUnits(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CdNotFollowedByQuantityUnitsContext cdNotFollowedByQuantityUnits() throws RecognitionException {
+		CdNotFollowedByQuantityUnitsContext _localctx = new CdNotFollowedByQuantityUnitsContext(_ctx, getState());
+		enterRule(_localctx, 226, RULE_cdNotFollowedByQuantityUnits);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1905);
+			if (!(isCdNotfollowedByQuantityUnits(_input))) throw new FailedPredicateException(this, "isCdNotfollowedByQuantityUnits(_input)");
+			setState(1906);
+			cd();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CitationContext extends ParserRuleContext {
+		public CitationStructureContext citationStructure() {
+			return getRuleContext(CitationStructureContext.class,0);
+		}
+		public List<? extends CommaContext> comma() {
+			return getRuleContexts(CommaContext.class);
+		}
+		public CommaContext comma(int i) {
+			return getRuleContext(CommaContext.class,i);
+		}
+		public CitationContentContext citationContent() {
+			return getRuleContext(CitationContentContext.class,0);
+		}
+		public CitationContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_citation; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCitation(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCitation(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CitationContext citation() throws RecognitionException {
+		CitationContext _localctx = new CitationContext(_ctx, getState());
+		enterRule(_localctx, 228, RULE_citation);
+		try {
+			setState(1913);
+			switch (_input.LA(1)) {
+			case T__105:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1908);
+				citationStructure();
+				}
+				break;
+			case T__95:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1909);
+				comma();
+				setState(1910);
+				citationContent();
+				setState(1911);
+				comma();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CitationStructureContext extends ParserRuleContext {
+		public CitationContentContext citationContent() {
+			return getRuleContext(CitationContentContext.class,0);
+		}
+		public CitationStructureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_citationStructure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCitationStructure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCitationStructure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CitationStructureContext citationStructure() throws RecognitionException {
+		CitationStructureContext _localctx = new CitationStructureContext(_ctx, getState());
+		enterRule(_localctx, 230, RULE_citationStructure);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1915);
+			citationContent();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CitationContentContext extends ParserRuleContext {
+		public LrbContext lrb() {
+			return getRuleContext(LrbContext.class,0);
+		}
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public List<? extends NnpContext> nnp() {
+			return getRuleContexts(NnpContext.class);
+		}
+		public NnpContext nnp(int i) {
+			return getRuleContext(NnpContext.class,i);
+		}
+		public List<? extends FwContext> fw() {
+			return getRuleContexts(FwContext.class);
+		}
+		public FwContext fw(int i) {
+			return getRuleContext(FwContext.class,i);
+		}
+		public List<? extends CdContext> cd() {
+			return getRuleContexts(CdContext.class);
+		}
+		public CdContext cd(int i) {
+			return getRuleContext(CdContext.class,i);
+		}
+		public List<? extends ConjunctionContext> conjunction() {
+			return getRuleContexts(ConjunctionContext.class);
+		}
+		public ConjunctionContext conjunction(int i) {
+			return getRuleContext(ConjunctionContext.class,i);
+		}
+		public CitationContentContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_citationContent; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCitationContent(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCitationContent(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CitationContentContext citationContent() throws RecognitionException {
+		CitationContentContext _localctx = new CitationContentContext(_ctx, getState());
+		enterRule(_localctx, 232, RULE_citationContent);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1917);
+			lrb();
+			setState(1922);
+			switch (_input.LA(1)) {
+			case T__120:
+				{
+				setState(1918);
+				nnp();
+				}
+				break;
+			case T__111:
+				{
+				setState(1919);
+				fw();
+				}
+				break;
+			case T__108:
+				{
+				setState(1920);
+				cd();
+				}
+				break;
+			case T__95:
+			case T__107:
+				{
+				setState(1921);
+				conjunction();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+			setState(1928); 
+			_errHandler.sync(this);
+			_la = _input.LA(1);
+			do {
+				{
+				setState(1928);
+				switch (_input.LA(1)) {
+				case T__120:
+					{
+					setState(1924);
+					nnp();
+					}
+					break;
+				case T__111:
+					{
+					setState(1925);
+					fw();
+					}
+					break;
+				case T__108:
+					{
+					setState(1926);
+					cd();
+					}
+					break;
+				case T__95:
+				case T__107:
+					{
+					setState(1927);
+					conjunction();
+					}
+					break;
+				default:
+					throw new NoViableAltException(this);
+				}
+				}
+				setState(1930); 
+				_errHandler.sync(this);
+				_la = _input.LA(1);
+			} while ( ((((_la - 96)) & ~0x3f) == 0 && ((1L << (_la - 96)) & ((1L << (T__95 - 96)) | (1L << (T__107 - 96)) | (1L << (T__108 - 96)) | (1L << (T__111 - 96)) | (1L << (T__120 - 96)))) != 0) );
+			setState(1932);
+			rrb();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AllIdentifierTypesContext extends ParserRuleContext {
+		public AllIdentifierTypesOtherThanCDContext allIdentifierTypesOtherThanCD() {
+			return getRuleContext(AllIdentifierTypesOtherThanCDContext.class,0);
+		}
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public AllIdentifierTypesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_allIdentifierTypes; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterAllIdentifierTypes(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitAllIdentifierTypes(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final AllIdentifierTypesContext allIdentifierTypes() throws RecognitionException {
+		AllIdentifierTypesContext _localctx = new AllIdentifierTypesContext(_ctx, getState());
+		enterRule(_localctx, 234, RULE_allIdentifierTypes);
+		try {
+			setState(1937);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,235,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1934);
+				allIdentifierTypesOtherThanCD();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1935);
+				if (!(isCdThatCouldBeAnIdentifier(_input))) throw new FailedPredicateException(this, "isCdThatCouldBeAnIdentifier(_input)");
+				setState(1936);
+				cd();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AllIdentifierTypesOtherThanCDContext extends ParserRuleContext {
+		public SquareBracketedReferenceContext squareBracketedReference() {
+			return getRuleContext(SquareBracketedReferenceContext.class,0);
+		}
+		public IdentifierOrBracketedIdentifierContext identifierOrBracketedIdentifier() {
+			return getRuleContext(IdentifierOrBracketedIdentifierContext.class,0);
+		}
+		public CdAlphanumContext cdAlphanum() {
+			return getRuleContext(CdAlphanumContext.class,0);
+		}
+		public BracketedNumericContext bracketedNumeric() {
+			return getRuleContext(BracketedNumericContext.class,0);
+		}
+		public AllIdentifierTypesOtherThanCDContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_allIdentifierTypesOtherThanCD; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterAllIdentifierTypesOtherThanCD(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitAllIdentifierTypesOtherThanCD(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final AllIdentifierTypesOtherThanCDContext allIdentifierTypesOtherThanCD() throws RecognitionException {
+		AllIdentifierTypesOtherThanCDContext _localctx = new AllIdentifierTypesOtherThanCDContext(_ctx, getState());
+		enterRule(_localctx, 236, RULE_allIdentifierTypesOtherThanCD);
+		try {
+			setState(1944);
+			_errHandler.sync(this);
+			switch ( getInterpreter().adaptivePredict(_input,236,_ctx) ) {
+			case 1:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1939);
+				squareBracketedReference();
+				}
+				break;
+
+			case 2:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1940);
+				identifierOrBracketedIdentifier();
+				}
+				break;
+
+			case 3:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1941);
+				cdAlphanum();
+				}
+				break;
+
+			case 4:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1942);
+				if (!(notFollowedByBracketedYear(_input))) throw new FailedPredicateException(this, "notFollowedByBracketedYear(_input)");
+				setState(1943);
+				bracketedNumeric();
+				}
+				break;
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NumericOrBracketedNumericContext extends ParserRuleContext {
+		public NumericContext numeric() {
+			return getRuleContext(NumericContext.class,0);
+		}
+		public BracketedNumericContext bracketedNumeric() {
+			return getRuleContext(BracketedNumericContext.class,0);
+		}
+		public NumericOrBracketedNumericContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_numericOrBracketedNumeric; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNumericOrBracketedNumeric(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNumericOrBracketedNumeric(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NumericOrBracketedNumericContext numericOrBracketedNumeric() throws RecognitionException {
+		NumericOrBracketedNumericContext _localctx = new NumericOrBracketedNumericContext(_ctx, getState());
+		enterRule(_localctx, 238, RULE_numericOrBracketedNumeric);
+		try {
+			setState(1948);
+			switch (_input.LA(1)) {
+			case T__1:
+			case T__108:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1946);
+				numeric();
+				}
+				break;
+			case T__105:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1947);
+				bracketedNumeric();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedNumericContext extends ParserRuleContext {
+		public LrbContext lrb() {
+			return getRuleContext(LrbContext.class,0);
+		}
+		public NumericContext numeric() {
+			return getRuleContext(NumericContext.class,0);
+		}
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public BracketedNumericContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedNumeric; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedNumeric(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedNumeric(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedNumericContext bracketedNumeric() throws RecognitionException {
+		BracketedNumericContext _localctx = new BracketedNumericContext(_ctx, getState());
+		enterRule(_localctx, 240, RULE_bracketedNumeric);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1950);
+			lrb();
+			setState(1951);
+			numeric();
+			setState(1952);
+			rrb();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SquareBracketedReferenceContext extends ParserRuleContext {
+		public LsqbContext lsqb() {
+			return getRuleContext(LsqbContext.class,0);
+		}
+		public NumericContext numeric() {
+			return getRuleContext(NumericContext.class,0);
+		}
+		public RsqbContext rsqb() {
+			return getRuleContext(RsqbContext.class,0);
+		}
+		public SquareBracketedReferenceContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_squareBracketedReference; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterSquareBracketedReference(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitSquareBracketedReference(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final SquareBracketedReferenceContext squareBracketedReference() throws RecognitionException {
+		SquareBracketedReferenceContext _localctx = new SquareBracketedReferenceContext(_ctx, getState());
+		enterRule(_localctx, 242, RULE_squareBracketedReference);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1954);
+			lsqb();
+			setState(1955);
+			numeric();
+			setState(1956);
+			rsqb();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IdentifierOrBracketedIdentifierContext extends ParserRuleContext {
+		public NnidentifierContext nnidentifier() {
+			return getRuleContext(NnidentifierContext.class,0);
+		}
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public BracketedIdentifierContext bracketedIdentifier() {
+			return getRuleContext(BracketedIdentifierContext.class,0);
+		}
+		public IdentifierOrBracketedIdentifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_identifierOrBracketedIdentifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterIdentifierOrBracketedIdentifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitIdentifierOrBracketedIdentifier(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final IdentifierOrBracketedIdentifierContext identifierOrBracketedIdentifier() throws RecognitionException {
+		IdentifierOrBracketedIdentifierContext _localctx = new IdentifierOrBracketedIdentifierContext(_ctx, getState());
+		enterRule(_localctx, 244, RULE_identifierOrBracketedIdentifier);
+		int _la;
+		try {
+			setState(1963);
+			switch (_input.LA(1)) {
+			case T__103:
+			case T__108:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1959);
+				_la = _input.LA(1);
+				if (_la==T__108) {
+					{
+					setState(1958);
+					cd();
+					}
+				}
+
+				setState(1961);
+				nnidentifier();
+				}
+				break;
+			case T__105:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1962);
+				bracketedIdentifier();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class BracketedIdentifierContext extends ParserRuleContext {
+		public LrbContext lrb() {
+			return getRuleContext(LrbContext.class,0);
+		}
+		public NnidentifierContext nnidentifier() {
+			return getRuleContext(NnidentifierContext.class,0);
+		}
+		public RrbContext rrb() {
+			return getRuleContext(RrbContext.class,0);
+		}
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public BracketedIdentifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_bracketedIdentifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterBracketedIdentifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitBracketedIdentifier(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final BracketedIdentifierContext bracketedIdentifier() throws RecognitionException {
+		BracketedIdentifierContext _localctx = new BracketedIdentifierContext(_ctx, getState());
+		enterRule(_localctx, 246, RULE_bracketedIdentifier);
+		int _la;
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(1965);
+			lrb();
+			setState(1967);
+			_la = _input.LA(1);
+			if (_la==T__108) {
+				{
+				setState(1966);
+				cd();
+				}
+			}
+
+			setState(1969);
+			nnidentifier();
+			setState(1970);
+			rrb();
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AdjContext extends ParserRuleContext {
+		public JjContext jj() {
+			return getRuleContext(JjContext.class,0);
+		}
+		public JjrContext jjr() {
+			return getRuleContext(JjrContext.class,0);
+		}
+		public JjsContext jjs() {
+			return getRuleContext(JjsContext.class,0);
+		}
+		public JjchemContext jjchem() {
+			return getRuleContext(JjchemContext.class,0);
+		}
+		public OscarcjContext oscarcj() {
+			return getRuleContext(OscarcjContext.class,0);
+		}
+		public OscarrnContext oscarrn() {
+			return getRuleContext(OscarrnContext.class,0);
+		}
+		public AdjContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_adj; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterAdj(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitAdj(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final AdjContext adj() throws RecognitionException {
+		AdjContext _localctx = new AdjContext(_ctx, getState());
+		enterRule(_localctx, 248, RULE_adj);
+		try {
+			setState(1978);
+			switch (_input.LA(1)) {
+			case T__113:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1972);
+				jj();
+				}
+				break;
+			case T__114:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1973);
+				jjr();
+				}
+				break;
+			case T__115:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1974);
+				jjs();
+				}
+				break;
+			case T__7:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1975);
+				jjchem();
+				}
+				break;
+			case T__2:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(1976);
+				oscarcj();
+				}
+				break;
+			case T__3:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(1977);
+				oscarrn();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class AdvContext extends ParserRuleContext {
+		public RbContext rb() {
+			return getRuleContext(RbContext.class,0);
+		}
+		public RbrContext rbr() {
+			return getRuleContext(RbrContext.class,0);
+		}
+		public RpContext rp() {
+			return getRuleContext(RpContext.class,0);
+		}
+		public RbsContext rbs() {
+			return getRuleContext(RbsContext.class,0);
+		}
+		public AdvContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_adv; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterAdv(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitAdv(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final AdvContext adv() throws RecognitionException {
+		AdvContext _localctx = new AdvContext(_ctx, getState());
+		enterRule(_localctx, 250, RULE_adv);
+		try {
+			setState(1984);
+			switch (_input.LA(1)) {
+			case T__126:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1980);
+				rb();
+				}
+				break;
+			case T__127:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1981);
+				rbr();
+				}
+				break;
+			case T__129:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1982);
+				rp();
+				}
+				break;
+			case T__128:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1983);
+				rbs();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ClauseContext extends ParserRuleContext {
+		public WdtContext wdt() {
+			return getRuleContext(WdtContext.class,0);
+		}
+		public Wp_possContext wp_poss() {
+			return getRuleContext(Wp_possContext.class,0);
+		}
+		public WrbContext wrb() {
+			return getRuleContext(WrbContext.class,0);
+		}
+		public ExContext ex() {
+			return getRuleContext(ExContext.class,0);
+		}
+		public PdtContext pdt() {
+			return getRuleContext(PdtContext.class,0);
+		}
+		public WpContext wp() {
+			return getRuleContext(WpContext.class,0);
+		}
+		public ClauseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_clause; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterClause(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitClause(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ClauseContext clause() throws RecognitionException {
+		ClauseContext _localctx = new ClauseContext(_ctx, getState());
+		enterRule(_localctx, 252, RULE_clause);
+		try {
+			setState(1992);
+			switch (_input.LA(1)) {
+			case T__139:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1986);
+				wdt();
+				}
+				break;
+			case T__141:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1987);
+				wp_poss();
+				}
+				break;
+			case T__142:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(1988);
+				wrb();
+				}
+				break;
+			case T__110:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(1989);
+				ex();
+				}
+				break;
+			case T__122:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(1990);
+				pdt();
+				}
+				break;
+			case T__140:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(1991);
+				wp();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ConjunctionContext extends ParserRuleContext {
+		public CcContext cc() {
+			return getRuleContext(CcContext.class,0);
+		}
+		public CommaContext comma() {
+			return getRuleContext(CommaContext.class,0);
+		}
+		public ConjunctionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_conjunction; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterConjunction(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitConjunction(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ConjunctionContext conjunction() throws RecognitionException {
+		ConjunctionContext _localctx = new ConjunctionContext(_ctx, getState());
+		enterRule(_localctx, 254, RULE_conjunction);
+		try {
+			setState(1996);
+			switch (_input.LA(1)) {
+			case T__107:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1994);
+				cc();
+				}
+				break;
+			case T__95:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1995);
+				comma();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InAllContext extends ParserRuleContext {
+		public InContext in() {
+			return getRuleContext(InContext.class,0);
+		}
+		public InafterContext inafter() {
+			return getRuleContext(InafterContext.class,0);
+		}
+		public InasContext inas() {
+			return getRuleContext(InasContext.class,0);
+		}
+		public InbeforeContext inbefore() {
+			return getRuleContext(InbeforeContext.class,0);
+		}
+		public InbyContext inby() {
+			return getRuleContext(InbyContext.class,0);
+		}
+		public InforContext infor() {
+			return getRuleContext(InforContext.class,0);
+		}
+		public InfromContext infrom() {
+			return getRuleContext(InfromContext.class,0);
+		}
+		public IninContext inin() {
+			return getRuleContext(IninContext.class,0);
+		}
+		public InintoContext ininto() {
+			return getRuleContext(InintoContext.class,0);
+		}
+		public InofContext inof() {
+			return getRuleContext(InofContext.class,0);
+		}
+		public InoffContext inoff() {
+			return getRuleContext(InoffContext.class,0);
+		}
+		public InonContext inon() {
+			return getRuleContext(InonContext.class,0);
+		}
+		public InoverContext inover() {
+			return getRuleContext(InoverContext.class,0);
+		}
+		public InunderContext inunder() {
+			return getRuleContext(InunderContext.class,0);
+		}
+		public InviaContext invia() {
+			return getRuleContext(InviaContext.class,0);
+		}
+		public InwithContext inwith() {
+			return getRuleContext(InwithContext.class,0);
+		}
+		public InwithoutContext inwithout() {
+			return getRuleContext(InwithoutContext.class,0);
+		}
+		public ToContext to() {
+			return getRuleContext(ToContext.class,0);
+		}
+		public InAllContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inAll; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInAll(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInAll(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InAllContext inAll() throws RecognitionException {
+		InAllContext _localctx = new InAllContext(_ctx, getState());
+		enterRule(_localctx, 256, RULE_inAll);
+		try {
+			setState(2016);
+			switch (_input.LA(1)) {
+			case T__112:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(1998);
+				in();
+				}
+				break;
+			case T__11:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(1999);
+				inafter();
+				}
+				break;
+			case T__9:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(2000);
+				inas();
+				}
+				break;
+			case T__10:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(2001);
+				inbefore();
+				}
+				break;
+			case T__16:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(2002);
+				inby();
+				}
+				break;
+			case T__20:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(2003);
+				infor();
+				}
+				break;
+			case T__21:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(2004);
+				infrom();
+				}
+				break;
+			case T__12:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(2005);
+				inin();
+				}
+				break;
+			case T__13:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(2006);
+				ininto();
+				}
+				break;
+			case T__18:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(2007);
+				inof();
+				}
+				break;
+			case T__24:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(2008);
+				inoff();
+				}
+				break;
+			case T__19:
+				enterOuterAlt(_localctx, 12);
+				{
+				setState(2009);
+				inon();
+				}
+				break;
+			case T__23:
+				enterOuterAlt(_localctx, 13);
+				{
+				setState(2010);
+				inover();
+				}
+				break;
+			case T__22:
+				enterOuterAlt(_localctx, 14);
+				{
+				setState(2011);
+				inunder();
+				}
+				break;
+			case T__17:
+				enterOuterAlt(_localctx, 15);
+				{
+				setState(2012);
+				invia();
+				}
+				break;
+			case T__14:
+				enterOuterAlt(_localctx, 16);
+				{
+				setState(2013);
+				inwith();
+				}
+				break;
+			case T__15:
+				enterOuterAlt(_localctx, 17);
+				{
+				setState(2014);
+				inwithout();
+				}
+				break;
+			case T__131:
+				enterOuterAlt(_localctx, 18);
+				{
+				setState(2015);
+				to();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InMostContext extends ParserRuleContext {
+		public InContext in() {
+			return getRuleContext(InContext.class,0);
+		}
+		public InasContext inas() {
+			return getRuleContext(InasContext.class,0);
+		}
+		public InbeforeContext inbefore() {
+			return getRuleContext(InbeforeContext.class,0);
+		}
+		public InbyContext inby() {
+			return getRuleContext(InbyContext.class,0);
+		}
+		public InforContext infor() {
+			return getRuleContext(InforContext.class,0);
+		}
+		public InfromContext infrom() {
+			return getRuleContext(InfromContext.class,0);
+		}
+		public IninContext inin() {
+			return getRuleContext(IninContext.class,0);
+		}
+		public InintoContext ininto() {
+			return getRuleContext(InintoContext.class,0);
+		}
+		public InofContext inof() {
+			return getRuleContext(InofContext.class,0);
+		}
+		public InoffContext inoff() {
+			return getRuleContext(InoffContext.class,0);
+		}
+		public InonContext inon() {
+			return getRuleContext(InonContext.class,0);
+		}
+		public InoverContext inover() {
+			return getRuleContext(InoverContext.class,0);
+		}
+		public InunderContext inunder() {
+			return getRuleContext(InunderContext.class,0);
+		}
+		public InviaContext invia() {
+			return getRuleContext(InviaContext.class,0);
+		}
+		public InwithContext inwith() {
+			return getRuleContext(InwithContext.class,0);
+		}
+		public InwithoutContext inwithout() {
+			return getRuleContext(InwithoutContext.class,0);
+		}
+		public ToContext to() {
+			return getRuleContext(ToContext.class,0);
+		}
+		public InMostContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inMost; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInMost(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInMost(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InMostContext inMost() throws RecognitionException {
+		InMostContext _localctx = new InMostContext(_ctx, getState());
+		enterRule(_localctx, 258, RULE_inMost);
+		try {
+			setState(2035);
+			switch (_input.LA(1)) {
+			case T__112:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(2018);
+				in();
+				}
+				break;
+			case T__9:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(2019);
+				inas();
+				}
+				break;
+			case T__10:
+				enterOuterAlt(_localctx, 3);
+				{
+				setState(2020);
+				inbefore();
+				}
+				break;
+			case T__16:
+				enterOuterAlt(_localctx, 4);
+				{
+				setState(2021);
+				inby();
+				}
+				break;
+			case T__20:
+				enterOuterAlt(_localctx, 5);
+				{
+				setState(2022);
+				infor();
+				}
+				break;
+			case T__21:
+				enterOuterAlt(_localctx, 6);
+				{
+				setState(2023);
+				infrom();
+				}
+				break;
+			case T__12:
+				enterOuterAlt(_localctx, 7);
+				{
+				setState(2024);
+				inin();
+				}
+				break;
+			case T__13:
+				enterOuterAlt(_localctx, 8);
+				{
+				setState(2025);
+				ininto();
+				}
+				break;
+			case T__18:
+				enterOuterAlt(_localctx, 9);
+				{
+				setState(2026);
+				inof();
+				}
+				break;
+			case T__24:
+				enterOuterAlt(_localctx, 10);
+				{
+				setState(2027);
+				inoff();
+				}
+				break;
+			case T__19:
+				enterOuterAlt(_localctx, 11);
+				{
+				setState(2028);
+				inon();
+				}
+				break;
+			case T__23:
+				enterOuterAlt(_localctx, 12);
+				{
+				setState(2029);
+				inover();
+				}
+				break;
+			case T__22:
+				enterOuterAlt(_localctx, 13);
+				{
+				setState(2030);
+				inunder();
+				}
+				break;
+			case T__17:
+				enterOuterAlt(_localctx, 14);
+				{
+				setState(2031);
+				invia();
+				}
+				break;
+			case T__14:
+				enterOuterAlt(_localctx, 15);
+				{
+				setState(2032);
+				inwith();
+				}
+				break;
+			case T__15:
+				enterOuterAlt(_localctx, 16);
+				{
+				setState(2033);
+				inwithout();
+				}
+				break;
+			case T__131:
+				enterOuterAlt(_localctx, 17);
+				{
+				setState(2034);
+				to();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NumericContext extends ParserRuleContext {
+		public CdContext cd() {
+			return getRuleContext(CdContext.class,0);
+		}
+		public CdAlphanumContext cdAlphanum() {
+			return getRuleContext(CdAlphanumContext.class,0);
+		}
+		public NumericContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_numeric; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNumeric(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNumeric(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NumericContext numeric() throws RecognitionException {
+		NumericContext _localctx = new NumericContext(_ctx, getState());
+		enterRule(_localctx, 260, RULE_numeric);
+		try {
+			setState(2039);
+			switch (_input.LA(1)) {
+			case T__108:
+				enterOuterAlt(_localctx, 1);
+				{
+				setState(2037);
+				cd();
+				}
+				break;
+			case T__1:
+				enterOuterAlt(_localctx, 2);
+				{
+				setState(2038);
+				cdAlphanum();
+				}
+				break;
+			default:
+				throw new NoViableAltException(this);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnplabelContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnplabelContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnplabel; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnplabel(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnplabel(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnplabelContext nnplabel() throws RecognitionException {
+		NnplabelContext _localctx = new NnplabelContext(_ctx, getState());
+		enterRule(_localctx, 262, RULE_nnplabel);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2041);
+			match(T__0);
+			setState(2042);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CdAlphanumContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public CdAlphanumContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cdAlphanum; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCdAlphanum(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCdAlphanum(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CdAlphanumContext cdAlphanum() throws RecognitionException {
+		CdAlphanumContext _localctx = new CdAlphanumContext(_ctx, getState());
+		enterRule(_localctx, 264, RULE_cdAlphanum);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2044);
+			match(T__1);
+			setState(2045);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OscarcjContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public OscarcjContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_oscarcj; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterOscarcj(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitOscarcj(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final OscarcjContext oscarcj() throws RecognitionException {
+		OscarcjContext _localctx = new OscarcjContext(_ctx, getState());
+		enterRule(_localctx, 266, RULE_oscarcj);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2047);
+			match(T__2);
+			setState(2048);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OscarrnContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public OscarrnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_oscarrn; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterOscarrn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitOscarrn(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final OscarrnContext oscarrn() throws RecognitionException {
+		OscarrnContext _localctx = new OscarrnContext(_ctx, getState());
+		enterRule(_localctx, 268, RULE_oscarrn);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2050);
+			match(T__3);
+			setState(2051);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OscaraseContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public OscaraseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_oscarase; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterOscarase(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitOscarase(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final OscaraseContext oscarase() throws RecognitionException {
+		OscaraseContext _localctx = new OscaraseContext(_ctx, getState());
+		enterRule(_localctx, 270, RULE_oscarase);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2053);
+			match(T__4);
+			setState(2054);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class TmunicodeContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public TmunicodeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_tmunicode; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterTmunicode(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitTmunicode(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final TmunicodeContext tmunicode() throws RecognitionException {
+		TmunicodeContext _localctx = new TmunicodeContext(_ctx, getState());
+		enterRule(_localctx, 272, RULE_tmunicode);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2056);
+			match(T__5);
+			setState(2057);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CdunicodeContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public CdunicodeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cdunicode; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCdunicode(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCdunicode(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CdunicodeContext cdunicode() throws RecognitionException {
+		CdunicodeContext _localctx = new CdunicodeContext(_ctx, getState());
+		enterRule(_localctx, 274, RULE_cdunicode);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2059);
+			match(T__6);
+			setState(2060);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class JjchemContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public JjchemContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_jjchem; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterJjchem(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitJjchem(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final JjchemContext jjchem() throws RecognitionException {
+		JjchemContext _localctx = new JjchemContext(_ctx, getState());
+		enterRule(_localctx, 276, RULE_jjchem);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2062);
+			match(T__7);
+			setState(2063);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class JjcompContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public JjcompContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_jjcomp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterJjcomp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitJjcomp(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final JjcompContext jjcomp() throws RecognitionException {
+		JjcompContext _localctx = new JjcompContext(_ctx, getState());
+		enterRule(_localctx, 278, RULE_jjcomp);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2065);
+			match(T__8);
+			setState(2066);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InasContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InasContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inas; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInas(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInas(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InasContext inas() throws RecognitionException {
+		InasContext _localctx = new InasContext(_ctx, getState());
+		enterRule(_localctx, 280, RULE_inas);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2068);
+			match(T__9);
+			setState(2069);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InbeforeContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InbeforeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inbefore; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInbefore(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInbefore(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InbeforeContext inbefore() throws RecognitionException {
+		InbeforeContext _localctx = new InbeforeContext(_ctx, getState());
+		enterRule(_localctx, 282, RULE_inbefore);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2071);
+			match(T__10);
+			setState(2072);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InafterContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InafterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inafter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInafter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInafter(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InafterContext inafter() throws RecognitionException {
+		InafterContext _localctx = new InafterContext(_ctx, getState());
+		enterRule(_localctx, 284, RULE_inafter);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2074);
+			match(T__11);
+			setState(2075);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class IninContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public IninContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inin; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInin(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInin(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final IninContext inin() throws RecognitionException {
+		IninContext _localctx = new IninContext(_ctx, getState());
+		enterRule(_localctx, 286, RULE_inin);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2077);
+			match(T__12);
+			setState(2078);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InintoContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InintoContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ininto; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterIninto(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitIninto(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InintoContext ininto() throws RecognitionException {
+		InintoContext _localctx = new InintoContext(_ctx, getState());
+		enterRule(_localctx, 288, RULE_ininto);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2080);
+			match(T__13);
+			setState(2081);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InwithContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InwithContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inwith; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInwith(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInwith(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InwithContext inwith() throws RecognitionException {
+		InwithContext _localctx = new InwithContext(_ctx, getState());
+		enterRule(_localctx, 290, RULE_inwith);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2083);
+			match(T__14);
+			setState(2084);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InwithoutContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InwithoutContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inwithout; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInwithout(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInwithout(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InwithoutContext inwithout() throws RecognitionException {
+		InwithoutContext _localctx = new InwithoutContext(_ctx, getState());
+		enterRule(_localctx, 292, RULE_inwithout);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2086);
+			match(T__15);
+			setState(2087);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InbyContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InbyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inby; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInby(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInby(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InbyContext inby() throws RecognitionException {
+		InbyContext _localctx = new InbyContext(_ctx, getState());
+		enterRule(_localctx, 294, RULE_inby);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2089);
+			match(T__16);
+			setState(2090);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InviaContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InviaContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_invia; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInvia(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInvia(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InviaContext invia() throws RecognitionException {
+		InviaContext _localctx = new InviaContext(_ctx, getState());
+		enterRule(_localctx, 296, RULE_invia);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2092);
+			match(T__17);
+			setState(2093);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InofContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InofContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inof; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInof(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInof(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InofContext inof() throws RecognitionException {
+		InofContext _localctx = new InofContext(_ctx, getState());
+		enterRule(_localctx, 298, RULE_inof);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2095);
+			match(T__18);
+			setState(2096);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InonContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InonContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inon; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInon(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInon(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InonContext inon() throws RecognitionException {
+		InonContext _localctx = new InonContext(_ctx, getState());
+		enterRule(_localctx, 300, RULE_inon);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2098);
+			match(T__19);
+			setState(2099);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InforContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InforContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_infor; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInfor(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInfor(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InforContext infor() throws RecognitionException {
+		InforContext _localctx = new InforContext(_ctx, getState());
+		enterRule(_localctx, 302, RULE_infor);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2101);
+			match(T__20);
+			setState(2102);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InfromContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InfromContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_infrom; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInfrom(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInfrom(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InfromContext infrom() throws RecognitionException {
+		InfromContext _localctx = new InfromContext(_ctx, getState());
+		enterRule(_localctx, 304, RULE_infrom);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2104);
+			match(T__21);
+			setState(2105);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InunderContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InunderContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inunder; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInunder(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInunder(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InunderContext inunder() throws RecognitionException {
+		InunderContext _localctx = new InunderContext(_ctx, getState());
+		enterRule(_localctx, 306, RULE_inunder);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2107);
+			match(T__22);
+			setState(2108);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InoverContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InoverContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inover; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInover(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInover(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InoverContext inover() throws RecognitionException {
+		InoverContext _localctx = new InoverContext(_ctx, getState());
+		enterRule(_localctx, 308, RULE_inover);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2110);
+			match(T__23);
+			setState(2111);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InoffContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InoffContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_inoff; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterInoff(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitInoff(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InoffContext inoff() throws RecognitionException {
+		InoffContext _localctx = new InoffContext(_ctx, getState());
+		enterRule(_localctx, 310, RULE_inoff);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2113);
+			match(T__24);
+			setState(2114);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnstateContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnstateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnstate; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnstate(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnstate(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnstateContext nnstate() throws RecognitionException {
+		NnstateContext _localctx = new NnstateContext(_ctx, getState());
+		enterRule(_localctx, 312, RULE_nnstate);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2116);
+			match(T__25);
+			setState(2117);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NntimeContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NntimeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nntime; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNntime(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNntime(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NntimeContext nntime() throws RecognitionException {
+		NntimeContext _localctx = new NntimeContext(_ctx, getState());
+		enterRule(_localctx, 314, RULE_nntime);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2119);
+			match(T__26);
+			setState(2120);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnmassContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnmassContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnmass; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnmass(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnmass(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnmassContext nnmass() throws RecognitionException {
+		NnmassContext _localctx = new NnmassContext(_ctx, getState());
+		enterRule(_localctx, 316, RULE_nnmass);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2122);
+			match(T__27);
+			setState(2123);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnamountContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnamountContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnamount; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnamount(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnamount(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnamountContext nnamount() throws RecognitionException {
+		NnamountContext _localctx = new NnamountContext(_ctx, getState());
+		enterRule(_localctx, 318, RULE_nnamount);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2125);
+			match(T__28);
+			setState(2126);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnmolarContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnmolarContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnmolar; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnmolar(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnmolar(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnmolarContext nnmolar() throws RecognitionException {
+		NnmolarContext _localctx = new NnmolarContext(_ctx, getState());
+		enterRule(_localctx, 320, RULE_nnmolar);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2128);
+			match(T__29);
+			setState(2129);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnatmosphereContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnatmosphereContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnatmosphere; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnatmosphere(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnatmosphere(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnatmosphereContext nnatmosphere() throws RecognitionException {
+		NnatmosphereContext _localctx = new NnatmosphereContext(_ctx, getState());
+		enterRule(_localctx, 322, RULE_nnatmosphere);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2131);
+			match(T__30);
+			setState(2132);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NneqContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NneqContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nneq; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNneq(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNneq(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NneqContext nneq() throws RecognitionException {
+		NneqContext _localctx = new NneqContext(_ctx, getState());
+		enterRule(_localctx, 324, RULE_nneq);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2134);
+			match(T__31);
+			setState(2135);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnvolContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnvolContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnvol; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnvol(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnvol(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnvolContext nnvol() throws RecognitionException {
+		NnvolContext _localctx = new NnvolContext(_ctx, getState());
+		enterRule(_localctx, 326, RULE_nnvol);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2137);
+			match(T__32);
+			setState(2138);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnchementityContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnchementityContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnchementity; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnchementity(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnchementity(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnchementityContext nnchementity() throws RecognitionException {
+		NnchementityContext _localctx = new NnchementityContext(_ctx, getState());
+		enterRule(_localctx, 328, RULE_nnchementity);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2140);
+			match(T__33);
+			setState(2141);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NntempContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NntempContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nntemp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNntemp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNntemp(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NntempContext nntemp() throws RecognitionException {
+		NntempContext _localctx = new NntempContext(_ctx, getState());
+		enterRule(_localctx, 330, RULE_nntemp);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2143);
+			match(T__34);
+			setState(2144);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnphContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnphContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnph; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnph(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnph(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnphContext nnph() throws RecognitionException {
+		NnphContext _localctx = new NnphContext(_ctx, getState());
+		enterRule(_localctx, 332, RULE_nnph);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2146);
+			match(T__35);
+			setState(2147);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnflashContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnflashContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnflash; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnflash(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnflash(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnflashContext nnflash() throws RecognitionException {
+		NnflashContext _localctx = new NnflashContext(_ctx, getState());
+		enterRule(_localctx, 334, RULE_nnflash);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2149);
+			match(T__36);
+			setState(2150);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NngeneralContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NngeneralContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nngeneral; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNngeneral(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNngeneral(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NngeneralContext nngeneral() throws RecognitionException {
+		NngeneralContext _localctx = new NngeneralContext(_ctx, getState());
+		enterRule(_localctx, 336, RULE_nngeneral);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2152);
+			match(T__37);
+			setState(2153);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnmethodContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnmethodContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnmethod; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnmethod(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnmethod(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnmethodContext nnmethod() throws RecognitionException {
+		NnmethodContext _localctx = new NnmethodContext(_ctx, getState());
+		enterRule(_localctx, 338, RULE_nnmethod);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2155);
+			match(T__38);
+			setState(2156);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnpressureContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnpressureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnpressure; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnpressure(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnpressure(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnpressureContext nnpressure() throws RecognitionException {
+		NnpressureContext _localctx = new NnpressureContext(_ctx, getState());
+		enterRule(_localctx, 340, RULE_nnpressure);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2158);
+			match(T__39);
+			setState(2159);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NncolumnContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NncolumnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nncolumn; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNncolumn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNncolumn(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NncolumnContext nncolumn() throws RecognitionException {
+		NncolumnContext _localctx = new NncolumnContext(_ctx, getState());
+		enterRule(_localctx, 342, RULE_nncolumn);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2161);
+			match(T__40);
+			setState(2162);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnchromatographyContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnchromatographyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnchromatography; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnchromatography(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnchromatography(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnchromatographyContext nnchromatography() throws RecognitionException {
+		NnchromatographyContext _localctx = new NnchromatographyContext(_ctx, getState());
+		enterRule(_localctx, 344, RULE_nnchromatography);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2164);
+			match(T__41);
+			setState(2165);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnvacuumContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnvacuumContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnvacuum; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnvacuum(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnvacuum(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnvacuumContext nnvacuum() throws RecognitionException {
+		NnvacuumContext _localctx = new NnvacuumContext(_ctx, getState());
+		enterRule(_localctx, 346, RULE_nnvacuum);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2167);
+			match(T__42);
+			setState(2168);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NncycleContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NncycleContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nncycle; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNncycle(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNncycle(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NncycleContext nncycle() throws RecognitionException {
+		NncycleContext _localctx = new NncycleContext(_ctx, getState());
+		enterRule(_localctx, 348, RULE_nncycle);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2170);
+			match(T__43);
+			setState(2171);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NntimesContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NntimesContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nntimes; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNntimes(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNntimes(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NntimesContext nntimes() throws RecognitionException {
+		NntimesContext _localctx = new NntimesContext(_ctx, getState());
+		enterRule(_localctx, 350, RULE_nntimes);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2173);
+			match(T__44);
+			setState(2174);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnexampleContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnexampleContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnexample; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnexample(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnexample(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnexampleContext nnexample() throws RecognitionException {
+		NnexampleContext _localctx = new NnexampleContext(_ctx, getState());
+		enterRule(_localctx, 352, RULE_nnexample);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2176);
+			match(T__45);
+			setState(2177);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class OscarcmContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public OscarcmContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_oscarcm; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterOscarcm(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitOscarcm(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final OscarcmContext oscarcm() throws RecognitionException {
+		OscarcmContext _localctx = new OscarcmContext(_ctx, getState());
+		enterRule(_localctx, 354, RULE_oscarcm);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2179);
+			match(T__46);
+			setState(2180);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbuseContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbuseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbuse; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbuse(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbuse(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbuseContext vbuse() throws RecognitionException {
+		VbuseContext _localctx = new VbuseContext(_ctx, getState());
+		enterRule(_localctx, 356, RULE_vbuse);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2182);
+			match(T__47);
+			setState(2183);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbchangeContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbchangeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbchange; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbchange(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbchange(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbchangeContext vbchange() throws RecognitionException {
+		VbchangeContext _localctx = new VbchangeContext(_ctx, getState());
+		enterRule(_localctx, 358, RULE_vbchange);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2185);
+			match(T__48);
+			setState(2186);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbsubmergeContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbsubmergeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbsubmerge; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbsubmerge(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbsubmerge(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbsubmergeContext vbsubmerge() throws RecognitionException {
+		VbsubmergeContext _localctx = new VbsubmergeContext(_ctx, getState());
+		enterRule(_localctx, 360, RULE_vbsubmerge);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2188);
+			match(T__49);
+			setState(2189);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbsubjectContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbsubjectContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbsubject; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbsubject(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbsubject(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbsubjectContext vbsubject() throws RecognitionException {
+		VbsubjectContext _localctx = new VbsubjectContext(_ctx, getState());
+		enterRule(_localctx, 362, RULE_vbsubject);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2191);
+			match(T__50);
+			setState(2192);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnaddContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnaddContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnadd; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnadd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnadd(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnaddContext nnadd() throws RecognitionException {
+		NnaddContext _localctx = new NnaddContext(_ctx, getState());
+		enterRule(_localctx, 364, RULE_nnadd);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2194);
+			match(T__51);
+			setState(2195);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnmixtureContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnmixtureContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnmixture; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnmixture(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnmixture(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnmixtureContext nnmixture() throws RecognitionException {
+		NnmixtureContext _localctx = new NnmixtureContext(_ctx, getState());
+		enterRule(_localctx, 366, RULE_nnmixture);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2197);
+			match(T__52);
+			setState(2198);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbdiluteContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbdiluteContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbdilute; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbdilute(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbdilute(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbdiluteContext vbdilute() throws RecognitionException {
+		VbdiluteContext _localctx = new VbdiluteContext(_ctx, getState());
+		enterRule(_localctx, 368, RULE_vbdilute);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2200);
+			match(T__53);
+			setState(2201);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbaddContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbaddContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbadd; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbadd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbadd(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbaddContext vbadd() throws RecognitionException {
+		VbaddContext _localctx = new VbaddContext(_ctx, getState());
+		enterRule(_localctx, 370, RULE_vbadd);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2203);
+			match(T__54);
+			setState(2204);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbchargeContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbchargeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbcharge; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbcharge(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbcharge(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbchargeContext vbcharge() throws RecognitionException {
+		VbchargeContext _localctx = new VbchargeContext(_ctx, getState());
+		enterRule(_localctx, 372, RULE_vbcharge);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2206);
+			match(T__55);
+			setState(2207);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbcontainContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbcontainContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbcontain; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbcontain(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbcontain(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbcontainContext vbcontain() throws RecognitionException {
+		VbcontainContext _localctx = new VbcontainContext(_ctx, getState());
+		enterRule(_localctx, 374, RULE_vbcontain);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2209);
+			match(T__56);
+			setState(2210);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbdropContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbdropContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbdrop; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbdrop(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbdrop(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbdropContext vbdrop() throws RecognitionException {
+		VbdropContext _localctx = new VbdropContext(_ctx, getState());
+		enterRule(_localctx, 376, RULE_vbdrop);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2212);
+			match(T__57);
+			setState(2213);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbfillContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbfillContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbfill; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbfill(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbfill(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbfillContext vbfill() throws RecognitionException {
+		VbfillContext _localctx = new VbfillContext(_ctx, getState());
+		enterRule(_localctx, 378, RULE_vbfill);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2215);
+			match(T__58);
+			setState(2216);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbsuspendContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbsuspendContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbsuspend; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbsuspend(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbsuspend(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbsuspendContext vbsuspend() throws RecognitionException {
+		VbsuspendContext _localctx = new VbsuspendContext(_ctx, getState());
+		enterRule(_localctx, 380, RULE_vbsuspend);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2218);
+			match(T__59);
+			setState(2219);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbtreatContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbtreatContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbtreat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbtreat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbtreat(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbtreatContext vbtreat() throws RecognitionException {
+		VbtreatContext _localctx = new VbtreatContext(_ctx, getState());
+		enterRule(_localctx, 382, RULE_vbtreat);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2221);
+			match(T__60);
+			setState(2222);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbapparatusContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbapparatusContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbapparatus; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbapparatus(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbapparatus(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbapparatusContext vbapparatus() throws RecognitionException {
+		VbapparatusContext _localctx = new VbapparatusContext(_ctx, getState());
+		enterRule(_localctx, 384, RULE_vbapparatus);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2224);
+			match(T__61);
+			setState(2225);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnapparatusContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnapparatusContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnapparatus; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnapparatus(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnapparatus(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnapparatusContext nnapparatus() throws RecognitionException {
+		NnapparatusContext _localctx = new NnapparatusContext(_ctx, getState());
+		enterRule(_localctx, 386, RULE_nnapparatus);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2227);
+			match(T__62);
+			setState(2228);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbconcentrateContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbconcentrateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbconcentrate; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbconcentrate(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbconcentrate(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbconcentrateContext vbconcentrate() throws RecognitionException {
+		VbconcentrateContext _localctx = new VbconcentrateContext(_ctx, getState());
+		enterRule(_localctx, 388, RULE_vbconcentrate);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2230);
+			match(T__63);
+			setState(2231);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnconcentrateContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnconcentrateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnconcentrate; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnconcentrate(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnconcentrate(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnconcentrateContext nnconcentrate() throws RecognitionException {
+		NnconcentrateContext _localctx = new NnconcentrateContext(_ctx, getState());
+		enterRule(_localctx, 390, RULE_nnconcentrate);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2233);
+			match(T__64);
+			setState(2234);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbcoolContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbcoolContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbcool; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbcool(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbcool(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbcoolContext vbcool() throws RecognitionException {
+		VbcoolContext _localctx = new VbcoolContext(_ctx, getState());
+		enterRule(_localctx, 392, RULE_vbcool);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2236);
+			match(T__65);
+			setState(2237);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbdegassContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbdegassContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbdegass; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbdegass(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbdegass(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbdegassContext vbdegass() throws RecognitionException {
+		VbdegassContext _localctx = new VbdegassContext(_ctx, getState());
+		enterRule(_localctx, 394, RULE_vbdegass);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2239);
+			match(T__66);
+			setState(2240);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbdissolveContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbdissolveContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbdissolve; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbdissolve(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbdissolve(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbdissolveContext vbdissolve() throws RecognitionException {
+		VbdissolveContext _localctx = new VbdissolveContext(_ctx, getState());
+		enterRule(_localctx, 396, RULE_vbdissolve);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2242);
+			match(T__67);
+			setState(2243);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbdryContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbdryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbdry; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbdry(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbdry(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbdryContext vbdry() throws RecognitionException {
+		VbdryContext _localctx = new VbdryContext(_ctx, getState());
+		enterRule(_localctx, 398, RULE_vbdry);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2245);
+			match(T__68);
+			setState(2246);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NndryContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NndryContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nndry; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNndry(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNndry(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NndryContext nndry() throws RecognitionException {
+		NndryContext _localctx = new NndryContext(_ctx, getState());
+		enterRule(_localctx, 400, RULE_nndry);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2248);
+			match(T__69);
+			setState(2249);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbextractContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbextractContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbextract; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbextract(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbextract(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbextractContext vbextract() throws RecognitionException {
+		VbextractContext _localctx = new VbextractContext(_ctx, getState());
+		enterRule(_localctx, 402, RULE_vbextract);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2251);
+			match(T__70);
+			setState(2252);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnextractContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnextractContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnextract; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnextract(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnextract(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnextractContext nnextract() throws RecognitionException {
+		NnextractContext _localctx = new NnextractContext(_ctx, getState());
+		enterRule(_localctx, 404, RULE_nnextract);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2254);
+			match(T__71);
+			setState(2255);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbfilterContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbfilterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbfilter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbfilter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbfilter(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbfilterContext vbfilter() throws RecognitionException {
+		VbfilterContext _localctx = new VbfilterContext(_ctx, getState());
+		enterRule(_localctx, 406, RULE_vbfilter);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2257);
+			match(T__72);
+			setState(2258);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnfilterContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnfilterContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnfilter; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnfilter(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnfilter(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnfilterContext nnfilter() throws RecognitionException {
+		NnfilterContext _localctx = new NnfilterContext(_ctx, getState());
+		enterRule(_localctx, 408, RULE_nnfilter);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2260);
+			match(T__73);
+			setState(2261);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbheatContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbheatContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbheat; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbheat(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbheat(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbheatContext vbheat() throws RecognitionException {
+		VbheatContext _localctx = new VbheatContext(_ctx, getState());
+		enterRule(_localctx, 410, RULE_vbheat);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2263);
+			match(T__74);
+			setState(2264);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbincreaseContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbincreaseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbincrease; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbincrease(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbincrease(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbincreaseContext vbincrease() throws RecognitionException {
+		VbincreaseContext _localctx = new VbincreaseContext(_ctx, getState());
+		enterRule(_localctx, 412, RULE_vbincrease);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2266);
+			match(T__75);
+			setState(2267);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbimmerseContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbimmerseContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbimmerse; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbimmerse(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbimmerse(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbimmerseContext vbimmerse() throws RecognitionException {
+		VbimmerseContext _localctx = new VbimmerseContext(_ctx, getState());
+		enterRule(_localctx, 414, RULE_vbimmerse);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2269);
+			match(T__76);
+			setState(2270);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbpartitionContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbpartitionContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbpartition; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbpartition(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbpartition(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbpartitionContext vbpartition() throws RecognitionException {
+		VbpartitionContext _localctx = new VbpartitionContext(_ctx, getState());
+		enterRule(_localctx, 416, RULE_vbpartition);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2272);
+			match(T__77);
+			setState(2273);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbprecipitateContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbprecipitateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbprecipitate; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbprecipitate(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbprecipitate(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbprecipitateContext vbprecipitate() throws RecognitionException {
+		VbprecipitateContext _localctx = new VbprecipitateContext(_ctx, getState());
+		enterRule(_localctx, 418, RULE_vbprecipitate);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2275);
+			match(T__78);
+			setState(2276);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnprecipitateContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnprecipitateContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnprecipitate; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnprecipitate(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnprecipitate(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnprecipitateContext nnprecipitate() throws RecognitionException {
+		NnprecipitateContext _localctx = new NnprecipitateContext(_ctx, getState());
+		enterRule(_localctx, 420, RULE_nnprecipitate);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2278);
+			match(T__79);
+			setState(2279);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbpurifyContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbpurifyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbpurify; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbpurify(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbpurify(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbpurifyContext vbpurify() throws RecognitionException {
+		VbpurifyContext _localctx = new VbpurifyContext(_ctx, getState());
+		enterRule(_localctx, 422, RULE_vbpurify);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2281);
+			match(T__80);
+			setState(2282);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnpurifyContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnpurifyContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnpurify; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnpurify(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnpurify(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnpurifyContext nnpurify() throws RecognitionException {
+		NnpurifyContext _localctx = new NnpurifyContext(_ctx, getState());
+		enterRule(_localctx, 424, RULE_nnpurify);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2284);
+			match(T__81);
+			setState(2285);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbquenchContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbquenchContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbquench; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbquench(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbquench(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbquenchContext vbquench() throws RecognitionException {
+		VbquenchContext _localctx = new VbquenchContext(_ctx, getState());
+		enterRule(_localctx, 426, RULE_vbquench);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2287);
+			match(T__82);
+			setState(2288);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbrecoverContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbrecoverContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbrecover; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbrecover(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbrecover(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbrecoverContext vbrecover() throws RecognitionException {
+		VbrecoverContext _localctx = new VbrecoverContext(_ctx, getState());
+		enterRule(_localctx, 428, RULE_vbrecover);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2290);
+			match(T__83);
+			setState(2291);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbremoveContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbremoveContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbremove; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbremove(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbremove(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbremoveContext vbremove() throws RecognitionException {
+		VbremoveContext _localctx = new VbremoveContext(_ctx, getState());
+		enterRule(_localctx, 430, RULE_vbremove);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2293);
+			match(T__84);
+			setState(2294);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnremoveContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnremoveContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnremove; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnremove(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnremove(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnremoveContext nnremove() throws RecognitionException {
+		NnremoveContext _localctx = new NnremoveContext(_ctx, getState());
+		enterRule(_localctx, 432, RULE_nnremove);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2296);
+			match(T__85);
+			setState(2297);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbstirContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbstirContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbstir; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbstir(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbstir(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbstirContext vbstir() throws RecognitionException {
+		VbstirContext _localctx = new VbstirContext(_ctx, getState());
+		enterRule(_localctx, 434, RULE_vbstir);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2299);
+			match(T__86);
+			setState(2300);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbsynthesizeContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbsynthesizeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbsynthesize; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbsynthesize(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbsynthesize(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbsynthesizeContext vbsynthesize() throws RecognitionException {
+		VbsynthesizeContext _localctx = new VbsynthesizeContext(_ctx, getState());
+		enterRule(_localctx, 436, RULE_vbsynthesize);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2302);
+			match(T__87);
+			setState(2303);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnsynthesizeContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnsynthesizeContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnsynthesize; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnsynthesize(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnsynthesize(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnsynthesizeContext nnsynthesize() throws RecognitionException {
+		NnsynthesizeContext _localctx = new NnsynthesizeContext(_ctx, getState());
+		enterRule(_localctx, 438, RULE_nnsynthesize);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2305);
+			match(T__88);
+			setState(2306);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbwaitContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbwaitContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbwait; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbwait(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbwait(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbwaitContext vbwait() throws RecognitionException {
+		VbwaitContext _localctx = new VbwaitContext(_ctx, getState());
+		enterRule(_localctx, 440, RULE_vbwait);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2308);
+			match(T__89);
+			setState(2309);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbwashContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbwashContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbwash; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbwash(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbwash(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbwashContext vbwash() throws RecognitionException {
+		VbwashContext _localctx = new VbwashContext(_ctx, getState());
+		enterRule(_localctx, 442, RULE_vbwash);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2311);
+			match(T__90);
+			setState(2312);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbyieldContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbyieldContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbyield; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbyield(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbyield(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbyieldContext vbyield() throws RecognitionException {
+		VbyieldContext _localctx = new VbyieldContext(_ctx, getState());
+		enterRule(_localctx, 444, RULE_vbyield);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2314);
+			match(T__91);
+			setState(2315);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnyieldContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnyieldContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnyield; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnyield(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnyield(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnyieldContext nnyield() throws RecognitionException {
+		NnyieldContext _localctx = new NnyieldContext(_ctx, getState());
+		enterRule(_localctx, 446, RULE_nnyield);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2317);
+			match(T__92);
+			setState(2318);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RbconjContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public RbconjContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_rbconj; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterRbconj(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitRbconj(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final RbconjContext rbconj() throws RecognitionException {
+		RbconjContext _localctx = new RbconjContext(_ctx, getState());
+		enterRule(_localctx, 448, RULE_rbconj);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2320);
+			match(T__93);
+			setState(2321);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ColonContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public ColonContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_colon; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterColon(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitColon(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ColonContext colon() throws RecognitionException {
+		ColonContext _localctx = new ColonContext(_ctx, getState());
+		enterRule(_localctx, 450, RULE_colon);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2323);
+			match(T__94);
+			setState(2324);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CommaContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public CommaContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_comma; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterComma(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitComma(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CommaContext comma() throws RecognitionException {
+		CommaContext _localctx = new CommaContext(_ctx, getState());
+		enterRule(_localctx, 452, RULE_comma);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2326);
+			match(T__95);
+			setState(2327);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ApostContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public ApostContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_apost; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterApost(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitApost(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ApostContext apost() throws RecognitionException {
+		ApostContext _localctx = new ApostContext(_ctx, getState());
+		enterRule(_localctx, 454, RULE_apost);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2329);
+			match(T__96);
+			setState(2330);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NegContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NegContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_neg; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNeg(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNeg(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NegContext neg() throws RecognitionException {
+		NegContext _localctx = new NegContext(_ctx, getState());
+		enterRule(_localctx, 456, RULE_neg);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2332);
+			match(T__97);
+			setState(2333);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DashContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public DashContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dash; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterDash(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitDash(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final DashContext dash() throws RecognitionException {
+		DashContext _localctx = new DashContext(_ctx, getState());
+		enterRule(_localctx, 458, RULE_dash);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2335);
+			match(T__98);
+			setState(2336);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class StopContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public StopContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_stop; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterStop(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitStop(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final StopContext stop() throws RecognitionException {
+		StopContext _localctx = new StopContext(_ctx, getState());
+		enterRule(_localctx, 460, RULE_stop);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2338);
+			match(T__99);
+			setState(2339);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PercentsignContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public PercentsignContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_percentsign; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPercentsign(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPercentsign(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PercentsignContext percentsign() throws RecognitionException {
+		PercentsignContext _localctx = new PercentsignContext(_ctx, getState());
+		enterRule(_localctx, 462, RULE_percentsign);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2341);
+			match(T__100);
+			setState(2342);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LsqbContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public LsqbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lsqb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterLsqb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitLsqb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final LsqbContext lsqb() throws RecognitionException {
+		LsqbContext _localctx = new LsqbContext(_ctx, getState());
+		enterRule(_localctx, 464, RULE_lsqb);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2344);
+			match(T__101);
+			setState(2345);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RsqbContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public RsqbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_rsqb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterRsqb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitRsqb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final RsqbContext rsqb() throws RecognitionException {
+		RsqbContext _localctx = new RsqbContext(_ctx, getState());
+		enterRule(_localctx, 466, RULE_rsqb);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2347);
+			match(T__102);
+			setState(2348);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnidentifierContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnidentifierContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnidentifier; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnidentifier(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnidentifier(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnidentifierContext nnidentifier() throws RecognitionException {
+		NnidentifierContext _localctx = new NnidentifierContext(_ctx, getState());
+		enterRule(_localctx, 468, RULE_nnidentifier);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2350);
+			match(T__103);
+			setState(2351);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DtTHEContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public DtTHEContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dtTHE; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterDtTHE(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitDtTHE(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final DtTHEContext dtTHE() throws RecognitionException {
+		DtTHEContext _localctx = new DtTHEContext(_ctx, getState());
+		enterRule(_localctx, 470, RULE_dtTHE);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2353);
+			match(T__104);
+			setState(2354);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LrbContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public LrbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_lrb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterLrb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitLrb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final LrbContext lrb() throws RecognitionException {
+		LrbContext _localctx = new LrbContext(_ctx, getState());
+		enterRule(_localctx, 472, RULE_lrb);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2356);
+			match(T__105);
+			setState(2357);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RrbContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public RrbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_rrb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterRrb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitRrb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final RrbContext rrb() throws RecognitionException {
+		RrbContext _localctx = new RrbContext(_ctx, getState());
+		enterRule(_localctx, 474, RULE_rrb);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2359);
+			match(T__106);
+			setState(2360);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CcContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public CcContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cc; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCc(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCc(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CcContext cc() throws RecognitionException {
+		CcContext _localctx = new CcContext(_ctx, getState());
+		enterRule(_localctx, 476, RULE_cc);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2362);
+			match(T__107);
+			setState(2363);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class CdContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public CdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_cd; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterCd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitCd(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final CdContext cd() throws RecognitionException {
+		CdContext _localctx = new CdContext(_ctx, getState());
+		enterRule(_localctx, 478, RULE_cd);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2365);
+			match(T__108);
+			setState(2366);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class DtContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public DtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_dt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterDt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitDt(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final DtContext dt() throws RecognitionException {
+		DtContext _localctx = new DtContext(_ctx, getState());
+		enterRule(_localctx, 480, RULE_dt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2368);
+			match(T__109);
+			setState(2369);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ExContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public ExContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ex; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterEx(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitEx(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ExContext ex() throws RecognitionException {
+		ExContext _localctx = new ExContext(_ctx, getState());
+		enterRule(_localctx, 482, RULE_ex);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2371);
+			match(T__110);
+			setState(2372);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class FwContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public FwContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_fw; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterFw(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitFw(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final FwContext fw() throws RecognitionException {
+		FwContext _localctx = new FwContext(_ctx, getState());
+		enterRule(_localctx, 484, RULE_fw);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2374);
+			match(T__111);
+			setState(2375);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class InContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public InContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_in; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterIn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitIn(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final InContext in() throws RecognitionException {
+		InContext _localctx = new InContext(_ctx, getState());
+		enterRule(_localctx, 486, RULE_in);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2377);
+			match(T__112);
+			setState(2378);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class JjContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public JjContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_jj; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterJj(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitJj(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final JjContext jj() throws RecognitionException {
+		JjContext _localctx = new JjContext(_ctx, getState());
+		enterRule(_localctx, 488, RULE_jj);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2380);
+			match(T__113);
+			setState(2381);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class JjrContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public JjrContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_jjr; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterJjr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitJjr(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final JjrContext jjr() throws RecognitionException {
+		JjrContext _localctx = new JjrContext(_ctx, getState());
+		enterRule(_localctx, 490, RULE_jjr);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2383);
+			match(T__114);
+			setState(2384);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class JjsContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public JjsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_jjs; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterJjs(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitJjs(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final JjsContext jjs() throws RecognitionException {
+		JjsContext _localctx = new JjsContext(_ctx, getState());
+		enterRule(_localctx, 492, RULE_jjs);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2386);
+			match(T__115);
+			setState(2387);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class LsContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public LsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_ls; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterLs(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitLs(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final LsContext ls() throws RecognitionException {
+		LsContext _localctx = new LsContext(_ctx, getState());
+		enterRule(_localctx, 494, RULE_ls);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2389);
+			match(T__116);
+			setState(2390);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class MdContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public MdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_md; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterMd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitMd(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final MdContext md() throws RecognitionException {
+		MdContext _localctx = new MdContext(_ctx, getState());
+		enterRule(_localctx, 496, RULE_md);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2392);
+			match(T__117);
+			setState(2393);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nn; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNn(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnContext nn() throws RecognitionException {
+		NnContext _localctx = new NnContext(_ctx, getState());
+		enterRule(_localctx, 498, RULE_nn);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2395);
+			match(T__118);
+			setState(2396);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnsContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nns; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNns(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNns(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnsContext nns() throws RecognitionException {
+		NnsContext _localctx = new NnsContext(_ctx, getState());
+		enterRule(_localctx, 500, RULE_nns);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2398);
+			match(T__119);
+			setState(2399);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnpContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnp(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnpContext nnp() throws RecognitionException {
+		NnpContext _localctx = new NnpContext(_ctx, getState());
+		enterRule(_localctx, 502, RULE_nnp);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2401);
+			match(T__120);
+			setState(2402);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class NnpsContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public NnpsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_nnps; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterNnps(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitNnps(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final NnpsContext nnps() throws RecognitionException {
+		NnpsContext _localctx = new NnpsContext(_ctx, getState());
+		enterRule(_localctx, 504, RULE_nnps);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2404);
+			match(T__121);
+			setState(2405);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PdtContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public PdtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pdt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPdt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPdt(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PdtContext pdt() throws RecognitionException {
+		PdtContext _localctx = new PdtContext(_ctx, getState());
+		enterRule(_localctx, 506, RULE_pdt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2407);
+			match(T__122);
+			setState(2408);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PosContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public PosContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_pos; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPos(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPos(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PosContext pos() throws RecognitionException {
+		PosContext _localctx = new PosContext(_ctx, getState());
+		enterRule(_localctx, 508, RULE_pos);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2410);
+			match(T__123);
+			setState(2411);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class PrpContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public PrpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrp(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final PrpContext prp() throws RecognitionException {
+		PrpContext _localctx = new PrpContext(_ctx, getState());
+		enterRule(_localctx, 510, RULE_prp);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2413);
+			match(T__124);
+			setState(2414);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Prp_possContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public Prp_possContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_prp_poss; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterPrp_poss(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitPrp_poss(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Prp_possContext prp_poss() throws RecognitionException {
+		Prp_possContext _localctx = new Prp_possContext(_ctx, getState());
+		enterRule(_localctx, 512, RULE_prp_poss);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2416);
+			match(T__125);
+			setState(2417);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RbContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public RbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_rb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterRb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitRb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final RbContext rb() throws RecognitionException {
+		RbContext _localctx = new RbContext(_ctx, getState());
+		enterRule(_localctx, 514, RULE_rb);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2419);
+			match(T__126);
+			setState(2420);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RbrContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public RbrContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_rbr; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterRbr(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitRbr(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final RbrContext rbr() throws RecognitionException {
+		RbrContext _localctx = new RbrContext(_ctx, getState());
+		enterRule(_localctx, 516, RULE_rbr);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2422);
+			match(T__127);
+			setState(2423);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RbsContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public RbsContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_rbs; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterRbs(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitRbs(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final RbsContext rbs() throws RecognitionException {
+		RbsContext _localctx = new RbsContext(_ctx, getState());
+		enterRule(_localctx, 518, RULE_rbs);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2425);
+			match(T__128);
+			setState(2426);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class RpContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public RpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_rp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterRp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitRp(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final RpContext rp() throws RecognitionException {
+		RpContext _localctx = new RpContext(_ctx, getState());
+		enterRule(_localctx, 520, RULE_rp);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2428);
+			match(T__129);
+			setState(2429);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class SymContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public SymContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_sym; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterSym(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitSym(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final SymContext sym() throws RecognitionException {
+		SymContext _localctx = new SymContext(_ctx, getState());
+		enterRule(_localctx, 522, RULE_sym);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2431);
+			match(T__130);
+			setState(2432);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class ToContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public ToContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_to; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterTo(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitTo(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final ToContext to() throws RecognitionException {
+		ToContext _localctx = new ToContext(_ctx, getState());
+		enterRule(_localctx, 524, RULE_to);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2434);
+			match(T__131);
+			setState(2435);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class UhContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public UhContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_uh; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterUh(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitUh(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final UhContext uh() throws RecognitionException {
+		UhContext _localctx = new UhContext(_ctx, getState());
+		enterRule(_localctx, 526, RULE_uh);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2437);
+			match(T__132);
+			setState(2438);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbContext vb() throws RecognitionException {
+		VbContext _localctx = new VbContext(_ctx, getState());
+		enterRule(_localctx, 528, RULE_vb);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2440);
+			match(T__133);
+			setState(2441);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbdContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbdContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbd; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbd(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbd(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbdContext vbd() throws RecognitionException {
+		VbdContext _localctx = new VbdContext(_ctx, getState());
+		enterRule(_localctx, 530, RULE_vbd);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2443);
+			match(T__134);
+			setState(2444);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbgContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbgContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbg; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbg(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbg(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbgContext vbg() throws RecognitionException {
+		VbgContext _localctx = new VbgContext(_ctx, getState());
+		enterRule(_localctx, 532, RULE_vbg);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2446);
+			match(T__135);
+			setState(2447);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbnContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbnContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbn; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbn(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbn(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbnContext vbn() throws RecognitionException {
+		VbnContext _localctx = new VbnContext(_ctx, getState());
+		enterRule(_localctx, 534, RULE_vbn);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2449);
+			match(T__136);
+			setState(2450);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbpContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbp(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbpContext vbp() throws RecognitionException {
+		VbpContext _localctx = new VbpContext(_ctx, getState());
+		enterRule(_localctx, 536, RULE_vbp);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2452);
+			match(T__137);
+			setState(2453);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class VbzContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public VbzContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_vbz; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterVbz(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitVbz(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final VbzContext vbz() throws RecognitionException {
+		VbzContext _localctx = new VbzContext(_ctx, getState());
+		enterRule(_localctx, 538, RULE_vbz);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2455);
+			match(T__138);
+			setState(2456);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WdtContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public WdtContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_wdt; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterWdt(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitWdt(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final WdtContext wdt() throws RecognitionException {
+		WdtContext _localctx = new WdtContext(_ctx, getState());
+		enterRule(_localctx, 540, RULE_wdt);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2458);
+			match(T__139);
+			setState(2459);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WpContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public WpContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_wp; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterWp(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitWp(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final WpContext wp() throws RecognitionException {
+		WpContext _localctx = new WpContext(_ctx, getState());
+		enterRule(_localctx, 542, RULE_wp);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2461);
+			match(T__140);
+			setState(2462);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class Wp_possContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public Wp_possContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_wp_poss; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterWp_poss(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitWp_poss(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final Wp_possContext wp_poss() throws RecognitionException {
+		Wp_possContext _localctx = new Wp_possContext(_ctx, getState());
+		enterRule(_localctx, 544, RULE_wp_poss);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2464);
+			match(T__141);
+			setState(2465);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public static class WrbContext extends ParserRuleContext {
+		public TerminalNode TOKEN() { return getToken(ChemicalChunkerParser.TOKEN, 0); }
+		public WrbContext(ParserRuleContext parent, int invokingState) {
+			super(parent, invokingState);
+		}
+		@Override public int getRuleIndex() { return RULE_wrb; }
+		@Override
+		public void enterRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).enterWrb(this);
+		}
+		@Override
+		public void exitRule(ParseTreeListener listener) {
+			if ( listener instanceof ChemicalChunkerListener ) ((ChemicalChunkerListener)listener).exitWrb(this);
+		}
+	}
+
+	@RuleVersion(0)
+	public final WrbContext wrb() throws RecognitionException {
+		WrbContext _localctx = new WrbContext(_ctx, getState());
+		enterRule(_localctx, 546, RULE_wrb);
+		try {
+			enterOuterAlt(_localctx, 1);
+			{
+			setState(2467);
+			match(T__142);
+			setState(2468);
+			match(TOKEN);
+			}
+		}
+		catch (RecognitionException re) {
+			_localctx.exception = re;
+			_errHandler.reportError(this, re);
+			_errHandler.recover(this, re);
+		}
+		finally {
+			exitRule();
+		}
+		return _localctx;
+	}
+
+	public boolean sempred(RuleContext _localctx, int ruleIndex, int predIndex) {
+		switch (ruleIndex) {
+		case 5:
+			return procedureNounPhrase_sempred((ProcedureNounPhraseContext)_localctx, predIndex);
+
+		case 13:
+			return nounphraseStructure2_sempred((NounphraseStructure2Context)_localctx, predIndex);
+
+		case 67:
+			return numberCompoundReference_sempred((NumberCompoundReferenceContext)_localctx, predIndex);
+
+		case 97:
+			return bracketedContentInMolContents1_sempred((BracketedContentInMolContents1Context)_localctx, predIndex);
+
+		case 100:
+			return fromProcedure_sempred((FromProcedureContext)_localctx, predIndex);
+
+		case 113:
+			return cdNotFollowedByQuantityUnits_sempred((CdNotFollowedByQuantityUnitsContext)_localctx, predIndex);
+
+		case 117:
+			return allIdentifierTypes_sempred((AllIdentifierTypesContext)_localctx, predIndex);
+
+		case 118:
+			return allIdentifierTypesOtherThanCD_sempred((AllIdentifierTypesOtherThanCDContext)_localctx, predIndex);
+		}
+		return true;
+	}
+	private boolean procedureNounPhrase_sempred(ProcedureNounPhraseContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 0:
+			return isAtTokenPositionZero(_input);
+		}
+		return true;
+	}
+	private boolean nounphraseStructure2_sempred(NounphraseStructure2Context _localctx, int predIndex) {
+		switch (predIndex) {
+		case 1:
+			return !followedByVBDorVBZthenVBYIELDed(_input);
+		}
+		return true;
+	}
+	private boolean numberCompoundReference_sempred(NumberCompoundReferenceContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 2:
+			return isCdThatCouldBeAnIdentifier(_input);
+		}
+		return true;
+	}
+	private boolean bracketedContentInMolContents1_sempred(BracketedContentInMolContents1Context _localctx, int predIndex) {
+		switch (predIndex) {
+		case 3:
+			return nextIsSemiColon(_input);
+		}
+		return true;
+	}
+	private boolean fromProcedure_sempred(FromProcedureContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 4:
+			return precededByProduct(_input);
+
+		case 5:
+			return suitableVbYieldOrSynthesizeForReference(_input);
+		}
+		return true;
+	}
+	private boolean cdNotFollowedByQuantityUnits_sempred(CdNotFollowedByQuantityUnitsContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 6:
+			return isCdNotfollowedByQuantityUnits(_input);
+		}
+		return true;
+	}
+	private boolean allIdentifierTypes_sempred(AllIdentifierTypesContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 7:
+			return isCdThatCouldBeAnIdentifier(_input);
+		}
+		return true;
+	}
+	private boolean allIdentifierTypesOtherThanCD_sempred(AllIdentifierTypesOtherThanCDContext _localctx, int predIndex) {
+		switch (predIndex) {
+		case 8:
+			return notFollowedByBracketedYear(_input);
+		}
+		return true;
+	}
+
+	private static final int _serializedATNSegments = 2;
+	private static final String _serializedATNSegment0 =
+		"\3\uaf6f\u8320\u479d\ub75c\u4880\u1605\u191c\uab37\3\u0093\u09a9\4\2\t"+
+		"\2\4\3\t\3\4\4\t\4\4\5\t\5\4\6\t\6\4\7\t\7\4\b\t\b\4\t\t\t\4\n\t\n\4\13"+
+		"\t\13\4\f\t\f\4\r\t\r\4\16\t\16\4\17\t\17\4\20\t\20\4\21\t\21\4\22\t\22"+
+		"\4\23\t\23\4\24\t\24\4\25\t\25\4\26\t\26\4\27\t\27\4\30\t\30\4\31\t\31"+
+		"\4\32\t\32\4\33\t\33\4\34\t\34\4\35\t\35\4\36\t\36\4\37\t\37\4 \t \4!"+
+		"\t!\4\"\t\"\4#\t#\4$\t$\4%\t%\4&\t&\4\'\t\'\4(\t(\4)\t)\4*\t*\4+\t+\4"+
+		",\t,\4-\t-\4.\t.\4/\t/\4\60\t\60\4\61\t\61\4\62\t\62\4\63\t\63\4\64\t"+
+		"\64\4\65\t\65\4\66\t\66\4\67\t\67\48\t8\49\t9\4:\t:\4;\t;\4<\t<\4=\t="+
+		"\4>\t>\4?\t?\4@\t@\4A\tA\4B\tB\4C\tC\4D\tD\4E\tE\4F\tF\4G\tG\4H\tH\4I"+
+		"\tI\4J\tJ\4K\tK\4L\tL\4M\tM\4N\tN\4O\tO\4P\tP\4Q\tQ\4R\tR\4S\tS\4T\tT"+
+		"\4U\tU\4V\tV\4W\tW\4X\tX\4Y\tY\4Z\tZ\4[\t[\4\\\t\\\4]\t]\4^\t^\4_\t_\4"+
+		"`\t`\4a\ta\4b\tb\4c\tc\4d\td\4e\te\4f\tf\4g\tg\4h\th\4i\ti\4j\tj\4k\t"+
+		"k\4l\tl\4m\tm\4n\tn\4o\to\4p\tp\4q\tq\4r\tr\4s\ts\4t\tt\4u\tu\4v\tv\4"+
+		"w\tw\4x\tx\4y\ty\4z\tz\4{\t{\4|\t|\4}\t}\4~\t~\4\177\t\177\4\u0080\t\u0080"+
+		"\4\u0081\t\u0081\4\u0082\t\u0082\4\u0083\t\u0083\4\u0084\t\u0084\4\u0085"+
+		"\t\u0085\4\u0086\t\u0086\4\u0087\t\u0087\4\u0088\t\u0088\4\u0089\t\u0089"+
+		"\4\u008a\t\u008a\4\u008b\t\u008b\4\u008c\t\u008c\4\u008d\t\u008d\4\u008e"+
+		"\t\u008e\4\u008f\t\u008f\4\u0090\t\u0090\4\u0091\t\u0091\4\u0092\t\u0092"+
+		"\4\u0093\t\u0093\4\u0094\t\u0094\4\u0095\t\u0095\4\u0096\t\u0096\4\u0097"+
+		"\t\u0097\4\u0098\t\u0098\4\u0099\t\u0099\4\u009a\t\u009a\4\u009b\t\u009b"+
+		"\4\u009c\t\u009c\4\u009d\t\u009d\4\u009e\t\u009e\4\u009f\t\u009f\4\u00a0"+
+		"\t\u00a0\4\u00a1\t\u00a1\4\u00a2\t\u00a2\4\u00a3\t\u00a3\4\u00a4\t\u00a4"+
+		"\4\u00a5\t\u00a5\4\u00a6\t\u00a6\4\u00a7\t\u00a7\4\u00a8\t\u00a8\4\u00a9"+
+		"\t\u00a9\4\u00aa\t\u00aa\4\u00ab\t\u00ab\4\u00ac\t\u00ac\4\u00ad\t\u00ad"+
+		"\4\u00ae\t\u00ae\4\u00af\t\u00af\4\u00b0\t\u00b0\4\u00b1\t\u00b1\4\u00b2"+
+		"\t\u00b2\4\u00b3\t\u00b3\4\u00b4\t\u00b4\4\u00b5\t\u00b5\4\u00b6\t\u00b6"+
+		"\4\u00b7\t\u00b7\4\u00b8\t\u00b8\4\u00b9\t\u00b9\4\u00ba\t\u00ba\4\u00bb"+
+		"\t\u00bb\4\u00bc\t\u00bc\4\u00bd\t\u00bd\4\u00be\t\u00be\4\u00bf\t\u00bf"+
+		"\4\u00c0\t\u00c0\4\u00c1\t\u00c1\4\u00c2\t\u00c2\4\u00c3\t\u00c3\4\u00c4"+
+		"\t\u00c4\4\u00c5\t\u00c5\4\u00c6\t\u00c6\4\u00c7\t\u00c7\4\u00c8\t\u00c8"+
+		"\4\u00c9\t\u00c9\4\u00ca\t\u00ca\4\u00cb\t\u00cb\4\u00cc\t\u00cc\4\u00cd"+
+		"\t\u00cd\4\u00ce\t\u00ce\4\u00cf\t\u00cf\4\u00d0\t\u00d0\4\u00d1\t\u00d1"+
+		"\4\u00d2\t\u00d2\4\u00d3\t\u00d3\4\u00d4\t\u00d4\4\u00d5\t\u00d5\4\u00d6"+
+		"\t\u00d6\4\u00d7\t\u00d7\4\u00d8\t\u00d8\4\u00d9\t\u00d9\4\u00da\t\u00da"+
+		"\4\u00db\t\u00db\4\u00dc\t\u00dc\4\u00dd\t\u00dd\4\u00de\t\u00de\4\u00df"+
+		"\t\u00df\4\u00e0\t\u00e0\4\u00e1\t\u00e1\4\u00e2\t\u00e2\4\u00e3\t\u00e3"+
+		"\4\u00e4\t\u00e4\4\u00e5\t\u00e5\4\u00e6\t\u00e6\4\u00e7\t\u00e7\4\u00e8"+
+		"\t\u00e8\4\u00e9\t\u00e9\4\u00ea\t\u00ea\4\u00eb\t\u00eb\4\u00ec\t\u00ec"+
+		"\4\u00ed\t\u00ed\4\u00ee\t\u00ee\4\u00ef\t\u00ef\4\u00f0\t\u00f0\4\u00f1"+
+		"\t\u00f1\4\u00f2\t\u00f2\4\u00f3\t\u00f3\4\u00f4\t\u00f4\4\u00f5\t\u00f5"+
+		"\4\u00f6\t\u00f6\4\u00f7\t\u00f7\4\u00f8\t\u00f8\4\u00f9\t\u00f9\4\u00fa"+
+		"\t\u00fa\4\u00fb\t\u00fb\4\u00fc\t\u00fc\4\u00fd\t\u00fd\4\u00fe\t\u00fe"+
+		"\4\u00ff\t\u00ff\4\u0100\t\u0100\4\u0101\t\u0101\4\u0102\t\u0102\4\u0103"+
+		"\t\u0103\4\u0104\t\u0104\4\u0105\t\u0105\4\u0106\t\u0106\4\u0107\t\u0107"+
+		"\4\u0108\t\u0108\4\u0109\t\u0109\4\u010a\t\u010a\4\u010b\t\u010b\4\u010c"+
+		"\t\u010c\4\u010d\t\u010d\4\u010e\t\u010e\4\u010f\t\u010f\4\u0110\t\u0110"+
+		"\4\u0111\t\u0111\4\u0112\t\u0112\4\u0113\t\u0113\3\2\6\2\u0228\n\2\r\2"+
+		"\16\2\u0229\3\3\3\3\3\3\6\3\u022f\n\3\r\3\16\3\u0230\5\3\u0233\n\3\3\3"+
+		"\7\3\u0236\n\3\f\3\16\3\u0239\13\3\3\4\3\4\3\4\3\4\6\4\u023f\n\4\r\4\16"+
+		"\4\u0240\3\4\3\4\7\4\u0245\n\4\f\4\16\4\u0248\13\4\3\4\3\4\3\4\7\4\u024d"+
+		"\n\4\f\4\16\4\u0250\13\4\3\5\3\5\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6"+
+		"\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3"+
+		"\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6"+
+		"\3\6\3\6\3\6\3\6\3\6\3\6\3\6\3\6\5\6\u029a\n\6\3\7\3\7\3\7\3\b\3\b\3\b"+
+		"\3\b\3\b\5\b\u02a4\n\b\5\b\u02a6\n\b\3\t\3\t\5\t\u02aa\n\t\3\n\3\n\3\n"+
+		"\5\n\u02af\n\n\3\13\3\13\3\13\5\13\u02b4\n\13\3\f\3\f\3\r\3\r\5\r\u02ba"+
+		"\n\r\3\16\3\16\3\17\5\17\u02bf\n\17\3\17\5\17\u02c2\n\17\3\17\3\17\7\17"+
+		"\u02c6\n\17\f\17\16\17\u02c9\13\17\3\17\3\17\3\17\7\17\u02ce\n\17\f\17"+
+		"\16\17\u02d1\13\17\3\17\3\17\5\17\u02d5\n\17\3\20\7\20\u02d8\n\20\f\20"+
+		"\16\20\u02db\13\20\3\20\3\20\3\20\3\20\3\20\6\20\u02e2\n\20\r\20\16\20"+
+		"\u02e3\3\21\3\21\3\21\3\21\3\21\5\21\u02eb\n\21\3\22\5\22\u02ee\n\22\3"+
+		"\22\3\22\3\22\3\22\5\22\u02f4\n\22\3\22\3\22\5\22\u02f8\n\22\5\22\u02fa"+
+		"\n\22\3\22\3\22\3\22\3\22\7\22\u0300\n\22\f\22\16\22\u0303\13\22\3\23"+
+		"\3\23\5\23\u0307\n\23\3\23\5\23\u030a\n\23\3\23\5\23\u030d\n\23\3\23\3"+
+		"\23\5\23\u0311\n\23\3\24\3\24\3\25\5\25\u0316\n\25\3\25\5\25\u0319\n\25"+
+		"\3\25\5\25\u031c\n\25\3\25\5\25\u031f\n\25\3\25\7\25\u0322\n\25\f\25\16"+
+		"\25\u0325\13\25\3\25\5\25\u0328\n\25\3\25\7\25\u032b\n\25\f\25\16\25\u032e"+
+		"\13\25\3\25\5\25\u0331\n\25\3\25\3\25\7\25\u0335\n\25\f\25\16\25\u0338"+
+		"\13\25\3\25\7\25\u033b\n\25\f\25\16\25\u033e\13\25\3\25\5\25\u0341\n\25"+
+		"\3\25\5\25\u0344\n\25\3\25\3\25\7\25\u0348\n\25\f\25\16\25\u034b\13\25"+
+		"\3\25\7\25\u034e\n\25\f\25\16\25\u0351\13\25\3\25\5\25\u0354\n\25\3\25"+
+		"\5\25\u0357\n\25\3\25\7\25\u035a\n\25\f\25\16\25\u035d\13\25\3\25\5\25"+
+		"\u0360\n\25\5\25\u0362\n\25\3\25\5\25\u0365\n\25\3\25\5\25\u0368\n\25"+
+		"\3\25\5\25\u036b\n\25\3\25\7\25\u036e\n\25\f\25\16\25\u0371\13\25\3\26"+
+		"\7\26\u0374\n\26\f\26\16\26\u0377\13\26\3\26\5\26\u037a\n\26\3\26\7\26"+
+		"\u037d\n\26\f\26\16\26\u0380\13\26\3\26\5\26\u0383\n\26\3\26\3\26\7\26"+
+		"\u0387\n\26\f\26\16\26\u038a\13\26\3\26\7\26\u038d\n\26\f\26\16\26\u0390"+
+		"\13\26\3\26\5\26\u0393\n\26\3\26\5\26\u0396\n\26\3\27\7\27\u0399\n\27"+
+		"\f\27\16\27\u039c\13\27\3\27\5\27\u039f\n\27\3\27\7\27\u03a2\n\27\f\27"+
+		"\16\27\u03a5\13\27\3\27\5\27\u03a8\n\27\3\27\3\27\7\27\u03ac\n\27\f\27"+
+		"\16\27\u03af\13\27\3\27\7\27\u03b2\n\27\f\27\16\27\u03b5\13\27\3\27\5"+
+		"\27\u03b8\n\27\3\27\5\27\u03bb\n\27\3\30\3\30\5\30\u03bf\n\30\3\31\3\31"+
+		"\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31"+
+		"\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31\3\31"+
+		"\3\31\5\31\u03e0\n\31\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32\3\32"+
+		"\5\32\u03ec\n\32\3\33\3\33\3\33\3\33\3\34\3\34\3\34\3\34\7\34\u03f6\n"+
+		"\34\f\34\16\34\u03f9\13\34\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35"+
+		"\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35"+
+		"\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35"+
+		"\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35\3\35"+
+		"\3\35\3\35\3\35\5\35\u0431\n\35\3\36\5\36\u0434\n\36\3\36\3\36\3\36\3"+
+		"\36\3\36\3\36\5\36\u043c\n\36\3\37\3\37\3 \3 \5 \u0442\n \3 \7 \u0445"+
+		"\n \f \16 \u0448\13 \3 \3 \5 \u044c\n \3!\3!\3\"\7\"\u0451\n\"\f\"\16"+
+		"\"\u0454\13\"\3\"\5\"\u0457\n\"\3\"\5\"\u045a\n\"\3\"\7\"\u045d\n\"\f"+
+		"\"\16\"\u0460\13\"\3\"\5\"\u0463\n\"\3\"\6\"\u0466\n\"\r\"\16\"\u0467"+
+		"\3#\3#\3$\5$\u046d\n$\3$\5$\u0470\n$\3$\5$\u0473\n$\3$\5$\u0476\n$\3$"+
+		"\5$\u0479\n$\3$\6$\u047c\n$\r$\16$\u047d\3%\3%\3%\3&\3&\5&\u0485\n&\3"+
+		"&\3&\3\'\7\'\u048a\n\'\f\'\16\'\u048d\13\'\3\'\6\'\u0490\n\'\r\'\16\'"+
+		"\u0491\3\'\3\'\3(\3(\3(\3)\5)\u049a\n)\3)\3)\3)\3*\3*\3*\3*\3*\3*\5*\u04a5"+
+		"\n*\3+\3+\7+\u04a9\n+\f+\16+\u04ac\13+\3+\7+\u04af\n+\f+\16+\u04b2\13"+
+		"+\3,\5,\u04b5\n,\3,\7,\u04b8\n,\f,\16,\u04bb\13,\3,\6,\u04be\n,\r,\16"+
+		",\u04bf\3-\6-\u04c3\n-\r-\16-\u04c4\3-\3-\3-\7-\u04ca\n-\f-\16-\u04cd"+
+		"\13-\3.\3.\3.\3.\3.\3.\3.\3.\6.\u04d7\n.\r.\16.\u04d8\3/\3/\7/\u04dd\n"+
+		"/\f/\16/\u04e0\13/\3/\3/\5/\u04e4\n/\3/\5/\u04e7\n/\3/\3/\5/\u04eb\n/"+
+		"\3/\7/\u04ee\n/\f/\16/\u04f1\13/\3/\5/\u04f4\n/\3\60\6\60\u04f7\n\60\r"+
+		"\60\16\60\u04f8\3\60\5\60\u04fc\n\60\3\61\3\61\6\61\u0500\n\61\r\61\16"+
+		"\61\u0501\6\61\u0504\n\61\r\61\16\61\u0505\3\61\5\61\u0509\n\61\3\61\3"+
+		"\61\6\61\u050d\n\61\r\61\16\61\u050e\6\61\u0511\n\61\r\61\16\61\u0512"+
+		"\3\61\3\61\6\61\u0517\n\61\r\61\16\61\u0518\6\61\u051b\n\61\r\61\16\61"+
+		"\u051c\3\61\3\61\6\61\u0521\n\61\r\61\16\61\u0522\5\61\u0525\n\61\3\62"+
+		"\3\62\3\63\3\63\3\63\5\63\u052c\n\63\3\63\5\63\u052f\n\63\3\64\3\64\6"+
+		"\64\u0533\n\64\r\64\16\64\u0534\3\64\3\64\3\64\5\64\u053a\n\64\3\64\3"+
+		"\64\5\64\u053e\n\64\3\64\3\64\3\65\3\65\5\65\u0544\n\65\3\65\3\65\6\65"+
+		"\u0548\n\65\r\65\16\65\u0549\3\65\3\65\3\65\5\65\u054f\n\65\5\65\u0551"+
+		"\n\65\3\65\3\65\5\65\u0555\n\65\3\65\6\65\u0558\n\65\r\65\16\65\u0559"+
+		"\3\65\3\65\3\66\3\66\7\66\u0560\n\66\f\66\16\66\u0563\13\66\3\66\6\66"+
+		"\u0566\n\66\r\66\16\66\u0567\3\66\3\66\3\67\3\67\3\67\3\67\3\67\5\67\u0571"+
+		"\n\67\3\67\7\67\u0574\n\67\f\67\16\67\u0577\13\67\38\38\39\39\39\59\u057e"+
+		"\n9\3:\3:\3:\3:\5:\u0584\n:\3:\3:\5:\u0588\n:\3;\6;\u058b\n;\r;\16;\u058c"+
+		"\3;\5;\u0590\n;\3;\3;\5;\u0594\n;\3<\3<\7<\u0598\n<\f<\16<\u059b\13<\3"+
+		"<\5<\u059e\n<\3<\5<\u05a1\n<\3=\3=\3=\5=\u05a6\n=\3=\3=\3=\3=\5=\u05ac"+
+		"\n=\5=\u05ae\n=\3=\7=\u05b1\n=\f=\16=\u05b4\13=\3=\5=\u05b7\n=\3=\5=\u05ba"+
+		"\n=\3>\3>\7>\u05be\n>\f>\16>\u05c1\13>\3>\5>\u05c4\n>\3>\5>\u05c7\n>\3"+
+		"?\7?\u05ca\n?\f?\16?\u05cd\13?\3?\3?\3?\3?\3?\3?\5?\u05d5\n?\5?\u05d7"+
+		"\n?\3?\5?\u05da\n?\3@\3@\3@\5@\u05df\n@\5@\u05e1\n@\3A\3A\3A\3A\7A\u05e7"+
+		"\nA\fA\16A\u05ea\13A\3A\3A\3A\3A\3A\5A\u05f1\nA\3A\3A\3A\7A\u05f6\nA\f"+
+		"A\16A\u05f9\13A\3A\5A\u05fc\nA\3B\3B\5B\u0600\nB\3C\3C\5C\u0604\nC\3C"+
+		"\3C\3C\7C\u0609\nC\fC\16C\u060c\13C\3C\3C\7C\u0610\nC\fC\16C\u0613\13"+
+		"C\3D\3D\3E\3E\3E\3F\3F\3G\6G\u061d\nG\rG\16G\u061e\3H\3H\3H\3H\3H\7H\u0626"+
+		"\nH\fH\16H\u0629\13H\3I\3I\5I\u062d\nI\3J\3J\3K\3K\3K\3K\3K\7K\u0636\n"+
+		"K\fK\16K\u0639\13K\3K\3K\3K\7K\u063e\nK\fK\16K\u0641\13K\3K\3K\3K\7K\u0646"+
+		"\nK\fK\16K\u0649\13K\3K\3K\3L\3L\3M\3M\3M\3M\7M\u0653\nM\fM\16M\u0656"+
+		"\13M\3N\3N\3N\5N\u065b\nN\3N\3N\5N\u065f\nN\3N\5N\u0662\nN\3O\3O\3O\5"+
+		"O\u0667\nO\3P\3P\3P\3P\3P\3P\3P\3P\5P\u0671\nP\3Q\3Q\3Q\3R\3R\3R\3S\3"+
+		"S\3S\3T\3T\3T\3U\3U\5U\u0681\nU\3U\3U\3V\3V\3V\3W\3W\5W\u068a\nW\3X\3"+
+		"X\3X\5X\u068f\nX\3X\3X\3Y\3Y\3Y\3Z\3Z\5Z\u0698\nZ\3Z\3Z\3Z\3Z\3Z\5Z\u069f"+
+		"\nZ\3[\5[\u06a2\n[\3[\3[\3[\5[\u06a7\n[\3\\\3\\\3\\\3\\\3\\\3\\\3]\3]"+
+		"\3]\3]\3^\3^\3^\3^\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\3_\6_\u06c4\n_"+
+		"\r_\16_\u06c5\3`\5`\u06c9\n`\3`\3`\5`\u06cd\n`\3a\3a\3a\3a\3b\3b\3b\7"+
+		"b\u06d6\nb\fb\16b\u06d9\13b\3b\3b\3b\3b\3b\7b\u06e0\nb\fb\16b\u06e3\13"+
+		"b\3b\3b\5b\u06e7\nb\3c\3c\3c\3c\3c\5c\u06ee\nc\3c\5c\u06f1\nc\3d\3d\5"+
+		"d\u06f5\nd\3e\3e\3e\3e\3e\3e\3e\3e\3e\3e\3e\3e\3e\3e\3e\3e\5e\u0707\n"+
+		"e\3f\3f\3f\3f\3f\3f\5f\u070f\nf\3f\3f\3f\5f\u0714\nf\5f\u0716\nf\3f\3"+
+		"f\3g\3g\3h\3h\5h\u071e\nh\3h\3h\5h\u0722\nh\3h\3h\3h\5h\u0727\nh\3h\3"+
+		"h\3h\3h\5h\u072d\nh\3h\3h\3h\3h\3h\7h\u0734\nh\fh\16h\u0737\13h\3i\3i"+
+		"\5i\u073b\ni\3i\3i\3j\3j\3j\3k\3k\5k\u0744\nk\3l\3l\3l\3l\3m\3m\3n\3n"+
+		"\5n\u074e\nn\3n\3n\3o\3o\3o\5o\u0755\no\3o\3o\3o\3o\5o\u075b\no\7o\u075d"+
+		"\no\fo\16o\u0760\13o\3p\3p\3p\3p\3p\5p\u0767\np\3q\3q\3r\3r\3r\6r\u076e"+
+		"\nr\rr\16r\u076f\3r\3r\3s\3s\3s\3t\3t\3t\3t\3t\5t\u077c\nt\3u\3u\3v\3"+
+		"v\3v\3v\3v\5v\u0785\nv\3v\3v\3v\3v\6v\u078b\nv\rv\16v\u078c\3v\3v\3w\3"+
+		"w\3w\5w\u0794\nw\3x\3x\3x\3x\3x\5x\u079b\nx\3y\3y\5y\u079f\ny\3z\3z\3"+
+		"z\3z\3{\3{\3{\3{\3|\5|\u07aa\n|\3|\3|\5|\u07ae\n|\3}\3}\5}\u07b2\n}\3"+
+		"}\3}\3}\3~\3~\3~\3~\3~\3~\5~\u07bd\n~\3\177\3\177\3\177\3\177\5\177\u07c3"+
+		"\n\177\3\u0080\3\u0080\3\u0080\3\u0080\3\u0080\3\u0080\5\u0080\u07cb\n"+
+		"\u0080\3\u0081\3\u0081\5\u0081\u07cf\n\u0081\3\u0082\3\u0082\3\u0082\3"+
+		"\u0082\3\u0082\3\u0082\3\u0082\3\u0082\3\u0082\3\u0082\3\u0082\3\u0082"+
+		"\3\u0082\3\u0082\3\u0082\3\u0082\3\u0082\3\u0082\5\u0082\u07e3\n\u0082"+
+		"\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083"+
+		"\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083\3\u0083\5\u0083"+
+		"\u07f6\n\u0083\3\u0084\3\u0084\5\u0084\u07fa\n\u0084\3\u0085\3\u0085\3"+
+		"\u0085\3\u0086\3\u0086\3\u0086\3\u0087\3\u0087\3\u0087\3\u0088\3\u0088"+
+		"\3\u0088\3\u0089\3\u0089\3\u0089\3\u008a\3\u008a\3\u008a\3\u008b\3\u008b"+
+		"\3\u008b\3\u008c\3\u008c\3\u008c\3\u008d\3\u008d\3\u008d\3\u008e\3\u008e"+
+		"\3\u008e\3\u008f\3\u008f\3\u008f\3\u0090\3\u0090\3\u0090\3\u0091\3\u0091"+
+		"\3\u0091\3\u0092\3\u0092\3\u0092\3\u0093\3\u0093\3\u0093\3\u0094\3\u0094"+
+		"\3\u0094\3\u0095\3\u0095\3\u0095\3\u0096\3\u0096\3\u0096\3\u0097\3\u0097"+
+		"\3\u0097\3\u0098\3\u0098\3\u0098\3\u0099\3\u0099\3\u0099\3\u009a\3\u009a"+
+		"\3\u009a\3\u009b\3\u009b\3\u009b\3\u009c\3\u009c\3\u009c\3\u009d\3\u009d"+
+		"\3\u009d\3\u009e\3\u009e\3\u009e\3\u009f\3\u009f\3\u009f\3\u00a0\3\u00a0"+
+		"\3\u00a0\3\u00a1\3\u00a1\3\u00a1\3\u00a2\3\u00a2\3\u00a2\3\u00a3\3\u00a3"+
+		"\3\u00a3\3\u00a4\3\u00a4\3\u00a4\3\u00a5\3\u00a5\3\u00a5\3\u00a6\3\u00a6"+
+		"\3\u00a6\3\u00a7\3\u00a7\3\u00a7\3\u00a8\3\u00a8\3\u00a8\3\u00a9\3\u00a9"+
+		"\3\u00a9\3\u00aa\3\u00aa\3\u00aa\3\u00ab\3\u00ab\3\u00ab\3\u00ac\3\u00ac"+
+		"\3\u00ac\3\u00ad\3\u00ad\3\u00ad\3\u00ae\3\u00ae\3\u00ae\3\u00af\3\u00af"+
+		"\3\u00af\3\u00b0\3\u00b0\3\u00b0\3\u00b1\3\u00b1\3\u00b1\3\u00b2\3\u00b2"+
+		"\3\u00b2\3\u00b3\3\u00b3\3\u00b3\3\u00b4\3\u00b4\3\u00b4\3\u00b5\3\u00b5"+
+		"\3\u00b5\3\u00b6\3\u00b6\3\u00b6\3\u00b7\3\u00b7\3\u00b7\3\u00b8\3\u00b8"+
+		"\3\u00b8\3\u00b9\3\u00b9\3\u00b9\3\u00ba\3\u00ba\3\u00ba\3\u00bb\3\u00bb"+
+		"\3\u00bb\3\u00bc\3\u00bc\3\u00bc\3\u00bd\3\u00bd\3\u00bd\3\u00be\3\u00be"+
+		"\3\u00be\3\u00bf\3\u00bf\3\u00bf\3\u00c0\3\u00c0\3\u00c0\3\u00c1\3\u00c1"+
+		"\3\u00c1\3\u00c2\3\u00c2\3\u00c2\3\u00c3\3\u00c3\3\u00c3\3\u00c4\3\u00c4"+
+		"\3\u00c4\3\u00c5\3\u00c5\3\u00c5\3\u00c6\3\u00c6\3\u00c6\3\u00c7\3\u00c7"+
+		"\3\u00c7\3\u00c8\3\u00c8\3\u00c8\3\u00c9\3\u00c9\3\u00c9\3\u00ca\3\u00ca"+
+		"\3\u00ca\3\u00cb\3\u00cb\3\u00cb\3\u00cc\3\u00cc\3\u00cc\3\u00cd\3\u00cd"+
+		"\3\u00cd\3\u00ce\3\u00ce\3\u00ce\3\u00cf\3\u00cf\3\u00cf\3\u00d0\3\u00d0"+
+		"\3\u00d0\3\u00d1\3\u00d1\3\u00d1\3\u00d2\3\u00d2\3\u00d2\3\u00d3\3\u00d3"+
+		"\3\u00d3\3\u00d4\3\u00d4\3\u00d4\3\u00d5\3\u00d5\3\u00d5\3\u00d6\3\u00d6"+
+		"\3\u00d6\3\u00d7\3\u00d7\3\u00d7\3\u00d8\3\u00d8\3\u00d8\3\u00d9\3\u00d9"+
+		"\3\u00d9\3\u00da\3\u00da\3\u00da\3\u00db\3\u00db\3\u00db\3\u00dc\3\u00dc"+
+		"\3\u00dc\3\u00dd\3\u00dd\3\u00dd\3\u00de\3\u00de\3\u00de\3\u00df\3\u00df"+
+		"\3\u00df\3\u00e0\3\u00e0\3\u00e0\3\u00e1\3\u00e1\3\u00e1\3\u00e2\3\u00e2"+
+		"\3\u00e2\3\u00e3\3\u00e3\3\u00e3\3\u00e4\3\u00e4\3\u00e4\3\u00e5\3\u00e5"+
+		"\3\u00e5\3\u00e6\3\u00e6\3\u00e6\3\u00e7\3\u00e7\3\u00e7\3\u00e8\3\u00e8"+
+		"\3\u00e8\3\u00e9\3\u00e9\3\u00e9\3\u00ea\3\u00ea\3\u00ea\3\u00eb\3\u00eb"+
+		"\3\u00eb\3\u00ec\3\u00ec\3\u00ec\3\u00ed\3\u00ed\3\u00ed\3\u00ee\3\u00ee"+
+		"\3\u00ee\3\u00ef\3\u00ef\3\u00ef\3\u00f0\3\u00f0\3\u00f0\3\u00f1\3\u00f1"+
+		"\3\u00f1\3\u00f2\3\u00f2\3\u00f2\3\u00f3\3\u00f3\3\u00f3\3\u00f4\3\u00f4"+
+		"\3\u00f4\3\u00f5\3\u00f5\3\u00f5\3\u00f6\3\u00f6\3\u00f6\3\u00f7\3\u00f7"+
+		"\3\u00f7\3\u00f8\3\u00f8\3\u00f8\3\u00f9\3\u00f9\3\u00f9\3\u00fa\3\u00fa"+
+		"\3\u00fa\3\u00fb\3\u00fb\3\u00fb\3\u00fc\3\u00fc\3\u00fc\3\u00fd\3\u00fd"+
+		"\3\u00fd\3\u00fe\3\u00fe\3\u00fe\3\u00ff\3\u00ff\3\u00ff\3\u0100\3\u0100"+
+		"\3\u0100\3\u0101\3\u0101\3\u0101\3\u0102\3\u0102\3\u0102\3\u0103\3\u0103"+
+		"\3\u0103\3\u0104\3\u0104\3\u0104\3\u0105\3\u0105\3\u0105\3\u0106\3\u0106"+
+		"\3\u0106\3\u0107\3\u0107\3\u0107\3\u0108\3\u0108\3\u0108\3\u0109\3\u0109"+
+		"\3\u0109\3\u010a\3\u010a\3\u010a\3\u010b\3\u010b\3\u010b\3\u010c\3\u010c"+
+		"\3\u010c\3\u010d\3\u010d\3\u010d\3\u010e\3\u010e\3\u010e\3\u010f\3\u010f"+
+		"\3\u010f\3\u0110\3\u0110\3\u0110\3\u0111\3\u0111\3\u0111\3\u0112\3\u0112"+
+		"\3\u0112\3\u0113\3\u0113\3\u0113\3\u0113\2\2\2\u0114\2\2\4\2\6\2\b\2\n"+
+		"\2\f\2\16\2\20\2\22\2\24\2\26\2\30\2\32\2\34\2\36\2 \2\"\2$\2&\2(\2*\2"+
+		",\2.\2\60\2\62\2\64\2\66\28\2:\2<\2>\2@\2B\2D\2F\2H\2J\2L\2N\2P\2R\2T"+
+		"\2V\2X\2Z\2\\\2^\2`\2b\2d\2f\2h\2j\2l\2n\2p\2r\2t\2v\2x\2z\2|\2~\2\u0080"+
+		"\2\u0082\2\u0084\2\u0086\2\u0088\2\u008a\2\u008c\2\u008e\2\u0090\2\u0092"+
+		"\2\u0094\2\u0096\2\u0098\2\u009a\2\u009c\2\u009e\2\u00a0\2\u00a2\2\u00a4"+
+		"\2\u00a6\2\u00a8\2\u00aa\2\u00ac\2\u00ae\2\u00b0\2\u00b2\2\u00b4\2\u00b6"+
+		"\2\u00b8\2\u00ba\2\u00bc\2\u00be\2\u00c0\2\u00c2\2\u00c4\2\u00c6\2\u00c8"+
+		"\2\u00ca\2\u00cc\2\u00ce\2\u00d0\2\u00d2\2\u00d4\2\u00d6\2\u00d8\2\u00da"+
+		"\2\u00dc\2\u00de\2\u00e0\2\u00e2\2\u00e4\2\u00e6\2\u00e8\2\u00ea\2\u00ec"+
+		"\2\u00ee\2\u00f0\2\u00f2\2\u00f4\2\u00f6\2\u00f8\2\u00fa\2\u00fc\2\u00fe"+
+		"\2\u0100\2\u0102\2\u0104\2\u0106\2\u0108\2\u010a\2\u010c\2\u010e\2\u0110"+
+		"\2\u0112\2\u0114\2\u0116\2\u0118\2\u011a\2\u011c\2\u011e\2\u0120\2\u0122"+
+		"\2\u0124\2\u0126\2\u0128\2\u012a\2\u012c\2\u012e\2\u0130\2\u0132\2\u0134"+
+		"\2\u0136\2\u0138\2\u013a\2\u013c\2\u013e\2\u0140\2\u0142\2\u0144\2\u0146"+
+		"\2\u0148\2\u014a\2\u014c\2\u014e\2\u0150\2\u0152\2\u0154\2\u0156\2\u0158"+
+		"\2\u015a\2\u015c\2\u015e\2\u0160\2\u0162\2\u0164\2\u0166\2\u0168\2\u016a"+
+		"\2\u016c\2\u016e\2\u0170\2\u0172\2\u0174\2\u0176\2\u0178\2\u017a\2\u017c"+
+		"\2\u017e\2\u0180\2\u0182\2\u0184\2\u0186\2\u0188\2\u018a\2\u018c\2\u018e"+
+		"\2\u0190\2\u0192\2\u0194\2\u0196\2\u0198\2\u019a\2\u019c\2\u019e\2\u01a0"+
+		"\2\u01a2\2\u01a4\2\u01a6\2\u01a8\2\u01aa\2\u01ac\2\u01ae\2\u01b0\2\u01b2"+
+		"\2\u01b4\2\u01b6\2\u01b8\2\u01ba\2\u01bc\2\u01be\2\u01c0\2\u01c2\2\u01c4"+
+		"\2\u01c6\2\u01c8\2\u01ca\2\u01cc\2\u01ce\2\u01d0\2\u01d2\2\u01d4\2\u01d6"+
+		"\2\u01d8\2\u01da\2\u01dc\2\u01de\2\u01e0\2\u01e2\2\u01e4\2\u01e6\2\u01e8"+
+		"\2\u01ea\2\u01ec\2\u01ee\2\u01f0\2\u01f2\2\u01f4\2\u01f6\2\u01f8\2\u01fa"+
+		"\2\u01fc\2\u01fe\2\u0200\2\u0202\2\u0204\2\u0206\2\u0208\2\u020a\2\u020c"+
+		"\2\u020e\2\u0210\2\u0212\2\u0214\2\u0216\2\u0218\2\u021a\2\u021c\2\u021e"+
+		"\2\u0220\2\u0222\2\u0224\2\2\2\u0aa9\2\u0227\3\2\2\2\4\u0232\3\2\2\2\6"+
+		"\u023e\3\2\2\2\b\u0251\3\2\2\2\n\u0299\3\2\2\2\f\u029b\3\2\2\2\16\u02a5"+
+		"\3\2\2\2\20\u02a9\3\2\2\2\22\u02ae\3\2\2\2\24\u02b3\3\2\2\2\26\u02b5\3"+
+		"\2\2\2\30\u02b9\3\2\2\2\32\u02bb\3\2\2\2\34\u02be\3\2\2\2\36\u02d9\3\2"+
+		"\2\2 \u02ea\3\2\2\2\"\u02ed\3\2\2\2$\u0304\3\2\2\2&\u0312\3\2\2\2(\u0315"+
+		"\3\2\2\2*\u0375\3\2\2\2,\u039a\3\2\2\2.\u03be\3\2\2\2\60\u03df\3\2\2\2"+
+		"\62\u03eb\3\2\2\2\64\u03ed\3\2\2\2\66\u03f1\3\2\2\28\u0430\3\2\2\2:\u0433"+
+		"\3\2\2\2<\u043d\3\2\2\2>\u043f\3\2\2\2@\u044d\3\2\2\2B\u0452\3\2\2\2D"+
+		"\u0469\3\2\2\2F\u046c\3\2\2\2H\u047f\3\2\2\2J\u0482\3\2\2\2L\u048b\3\2"+
+		"\2\2N\u0495\3\2\2\2P\u0499\3\2\2\2R\u049e\3\2\2\2T\u04a6\3\2\2\2V\u04b4"+
+		"\3\2\2\2X\u04c2\3\2\2\2Z\u04d6\3\2\2\2\\\u04de\3\2\2\2^\u04f6\3\2\2\2"+
+		"`\u0524\3\2\2\2b\u0526\3\2\2\2d\u052b\3\2\2\2f\u0532\3\2\2\2h\u0543\3"+
+		"\2\2\2j\u0561\3\2\2\2l\u0575\3\2\2\2n\u0578\3\2\2\2p\u057a\3\2\2\2r\u0587"+
+		"\3\2\2\2t\u058a\3\2\2\2v\u0595\3\2\2\2x\u05ad\3\2\2\2z\u05bb\3\2\2\2|"+
+		"\u05d9\3\2\2\2~\u05e0\3\2\2\2\u0080\u05fb\3\2\2\2\u0082\u05ff\3\2\2\2"+
+		"\u0084\u0601\3\2\2\2\u0086\u0614\3\2\2\2\u0088\u0616\3\2\2\2\u008a\u0619"+
+		"\3\2\2\2\u008c\u061c\3\2\2\2\u008e\u0620\3\2\2\2\u0090\u062c\3\2\2\2\u0092"+
+		"\u062e\3\2\2\2\u0094\u0630\3\2\2\2\u0096\u064c\3\2\2\2\u0098\u064e\3\2"+
+		"\2\2\u009a\u065a\3\2\2\2\u009c\u0663\3\2\2\2\u009e\u0670\3\2\2\2\u00a0"+
+		"\u0672\3\2\2\2\u00a2\u0675\3\2\2\2\u00a4\u0678\3\2\2\2\u00a6\u067b\3\2"+
+		"\2\2\u00a8\u067e\3\2\2\2\u00aa\u0684\3\2\2\2\u00ac\u0689\3\2\2\2\u00ae"+
+		"\u068b\3\2\2\2\u00b0\u0692\3\2\2\2\u00b2\u0695\3\2\2\2\u00b4\u06a1\3\2"+
+		"\2\2\u00b6\u06a8\3\2\2\2\u00b8\u06ae\3\2\2\2\u00ba\u06b2\3\2\2\2\u00bc"+
+		"\u06c3\3\2\2\2\u00be\u06c8\3\2\2\2\u00c0\u06ce\3\2\2\2\u00c2\u06e6\3\2"+
+		"\2\2\u00c4\u06f0\3\2\2\2\u00c6\u06f4\3\2\2\2\u00c8\u0706\3\2\2\2\u00ca"+
+		"\u0715\3\2\2\2\u00cc\u0719\3\2\2\2\u00ce\u0726\3\2\2\2\u00d0\u073a\3\2"+
+		"\2\2\u00d2\u073e\3\2\2\2\u00d4\u0743\3\2\2\2\u00d6\u0745\3\2\2\2\u00d8"+
+		"\u0749\3\2\2\2\u00da\u074b\3\2\2\2\u00dc\u0754\3\2\2\2\u00de\u0766\3\2"+
+		"\2\2\u00e0\u0768\3\2\2\2\u00e2\u076d\3\2\2\2\u00e4\u0773\3\2\2\2\u00e6"+
+		"\u077b\3\2\2\2\u00e8\u077d\3\2\2\2\u00ea\u077f\3\2\2\2\u00ec\u0793\3\2"+
+		"\2\2\u00ee\u079a\3\2\2\2\u00f0\u079e\3\2\2\2\u00f2\u07a0\3\2\2\2\u00f4"+
+		"\u07a4\3\2\2\2\u00f6\u07ad\3\2\2\2\u00f8\u07af\3\2\2\2\u00fa\u07bc\3\2"+
+		"\2\2\u00fc\u07c2\3\2\2\2\u00fe\u07ca\3\2\2\2\u0100\u07ce\3\2\2\2\u0102"+
+		"\u07e2\3\2\2\2\u0104\u07f5\3\2\2\2\u0106\u07f9\3\2\2\2\u0108\u07fb\3\2"+
+		"\2\2\u010a\u07fe\3\2\2\2\u010c\u0801\3\2\2\2\u010e\u0804\3\2\2\2\u0110"+
+		"\u0807\3\2\2\2\u0112\u080a\3\2\2\2\u0114\u080d\3\2\2\2\u0116\u0810\3\2"+
+		"\2\2\u0118\u0813\3\2\2\2\u011a\u0816\3\2\2\2\u011c\u0819\3\2\2\2\u011e"+
+		"\u081c\3\2\2\2\u0120\u081f\3\2\2\2\u0122\u0822\3\2\2\2\u0124\u0825\3\2"+
+		"\2\2\u0126\u0828\3\2\2\2\u0128\u082b\3\2\2\2\u012a\u082e\3\2\2\2\u012c"+
+		"\u0831\3\2\2\2\u012e\u0834\3\2\2\2\u0130\u0837\3\2\2\2\u0132\u083a\3\2"+
+		"\2\2\u0134\u083d\3\2\2\2\u0136\u0840\3\2\2\2\u0138\u0843\3\2\2\2\u013a"+
+		"\u0846\3\2\2\2\u013c\u0849\3\2\2\2\u013e\u084c\3\2\2\2\u0140\u084f\3\2"+
+		"\2\2\u0142\u0852\3\2\2\2\u0144\u0855\3\2\2\2\u0146\u0858\3\2\2\2\u0148"+
+		"\u085b\3\2\2\2\u014a\u085e\3\2\2\2\u014c\u0861\3\2\2\2\u014e\u0864\3\2"+
+		"\2\2\u0150\u0867\3\2\2\2\u0152\u086a\3\2\2\2\u0154\u086d\3\2\2\2\u0156"+
+		"\u0870\3\2\2\2\u0158\u0873\3\2\2\2\u015a\u0876\3\2\2\2\u015c\u0879\3\2"+
+		"\2\2\u015e\u087c\3\2\2\2\u0160\u087f\3\2\2\2\u0162\u0882\3\2\2\2\u0164"+
+		"\u0885\3\2\2\2\u0166\u0888\3\2\2\2\u0168\u088b\3\2\2\2\u016a\u088e\3\2"+
+		"\2\2\u016c\u0891\3\2\2\2\u016e\u0894\3\2\2\2\u0170\u0897\3\2\2\2\u0172"+
+		"\u089a\3\2\2\2\u0174\u089d\3\2\2\2\u0176\u08a0\3\2\2\2\u0178\u08a3\3\2"+
+		"\2\2\u017a\u08a6\3\2\2\2\u017c\u08a9\3\2\2\2\u017e\u08ac\3\2\2\2\u0180"+
+		"\u08af\3\2\2\2\u0182\u08b2\3\2\2\2\u0184\u08b5\3\2\2\2\u0186\u08b8\3\2"+
+		"\2\2\u0188\u08bb\3\2\2\2\u018a\u08be\3\2\2\2\u018c\u08c1\3\2\2\2\u018e"+
+		"\u08c4\3\2\2\2\u0190\u08c7\3\2\2\2\u0192\u08ca\3\2\2\2\u0194\u08cd\3\2"+
+		"\2\2\u0196\u08d0\3\2\2\2\u0198\u08d3\3\2\2\2\u019a\u08d6\3\2\2\2\u019c"+
+		"\u08d9\3\2\2\2\u019e\u08dc\3\2\2\2\u01a0\u08df\3\2\2\2\u01a2\u08e2\3\2"+
+		"\2\2\u01a4\u08e5\3\2\2\2\u01a6\u08e8\3\2\2\2\u01a8\u08eb\3\2\2\2\u01aa"+
+		"\u08ee\3\2\2\2\u01ac\u08f1\3\2\2\2\u01ae\u08f4\3\2\2\2\u01b0\u08f7\3\2"+
+		"\2\2\u01b2\u08fa\3\2\2\2\u01b4\u08fd\3\2\2\2\u01b6\u0900\3\2\2\2\u01b8"+
+		"\u0903\3\2\2\2\u01ba\u0906\3\2\2\2\u01bc\u0909\3\2\2\2\u01be\u090c\3\2"+
+		"\2\2\u01c0\u090f\3\2\2\2\u01c2\u0912\3\2\2\2\u01c4\u0915\3\2\2\2\u01c6"+
+		"\u0918\3\2\2\2\u01c8\u091b\3\2\2\2\u01ca\u091e\3\2\2\2\u01cc\u0921\3\2"+
+		"\2\2\u01ce\u0924\3\2\2\2\u01d0\u0927\3\2\2\2\u01d2\u092a\3\2\2\2\u01d4"+
+		"\u092d\3\2\2\2\u01d6\u0930\3\2\2\2\u01d8\u0933\3\2\2\2\u01da\u0936\3\2"+
+		"\2\2\u01dc\u0939\3\2\2\2\u01de\u093c\3\2\2\2\u01e0\u093f\3\2\2\2\u01e2"+
+		"\u0942\3\2\2\2\u01e4\u0945\3\2\2\2\u01e6\u0948\3\2\2\2\u01e8\u094b\3\2"+
+		"\2\2\u01ea\u094e\3\2\2\2\u01ec\u0951\3\2\2\2\u01ee\u0954\3\2\2\2\u01f0"+
+		"\u0957\3\2\2\2\u01f2\u095a\3\2\2\2\u01f4\u095d\3\2\2\2\u01f6\u0960\3\2"+
+		"\2\2\u01f8\u0963\3\2\2\2\u01fa\u0966\3\2\2\2\u01fc\u0969\3\2\2\2\u01fe"+
+		"\u096c\3\2\2\2\u0200\u096f\3\2\2\2\u0202\u0972\3\2\2\2\u0204\u0975\3\2"+
+		"\2\2\u0206\u0978\3\2\2\2\u0208\u097b\3\2\2\2\u020a\u097e\3\2\2\2\u020c"+
+		"\u0981\3\2\2\2\u020e\u0984\3\2\2\2\u0210\u0987\3\2\2\2\u0212\u098a\3\2"+
+		"\2\2\u0214\u098d\3\2\2\2\u0216\u0990\3\2\2\2\u0218\u0993\3\2\2\2\u021a"+
+		"\u0996\3\2\2\2\u021c\u0999\3\2\2\2\u021e\u099c\3\2\2\2\u0220\u099f\3\2"+
+		"\2\2\u0222\u09a2\3\2\2\2\u0224\u09a5\3\2\2\2\u0226\u0228\5\4\3\2\u0227"+
+		"\u0226\3\2\2\2\u0228\u0229\3\2\2\2\u0229\u0227\3\2\2\2\u0229\u022a\3\2"+
+		"\2\2\u022a\3\3\2\2\2\u022b\u0233\5\f\7\2\u022c\u022f\5\6\4\2\u022d\u022f"+
+		"\5\b\5\2\u022e\u022c\3\2\2\2\u022e\u022d\3\2\2\2\u022f\u0230\3\2\2\2\u0230"+
+		"\u022e\3\2\2\2\u0230\u0231\3\2\2\2\u0231\u0233\3\2\2\2\u0232\u022b\3\2"+
+		"\2\2\u0232\u022e\3\2\2\2\u0233\u0237\3\2\2\2\u0234\u0236\5\u01ce\u00e8"+
+		"\2\u0235\u0234\3\2\2\2\u0236\u0239\3\2\2\2\u0237\u0235\3\2\2\2\u0237\u0238"+
+		"\3\2\2\2\u0238\5\3\2\2\2\u0239\u0237\3\2\2\2\u023a\u023f\5\26\f\2\u023b"+
+		"\u023f\5&\24\2\u023c\u023f\5:\36\2\u023d\u023f\5P)\2\u023e\u023a\3\2\2"+
+		"\2\u023e\u023b\3\2\2\2\u023e\u023c\3\2\2\2\u023e\u023d\3\2\2\2\u023f\u0240"+
+		"\3\2\2\2\u0240\u023e\3\2\2\2\u0240\u0241\3\2\2\2\u0241\u0246\3\2\2\2\u0242"+
+		"\u0245\5\u00d4k\2\u0243\u0245\5\u01c4\u00e3\2\u0244\u0242\3\2\2\2\u0244"+
+		"\u0243\3\2\2\2\u0245\u0248\3\2\2\2\u0246\u0244\3\2\2\2\u0246\u0247\3\2"+
+		"\2\2\u0247\u024e\3\2\2\2\u0248\u0246\3\2\2\2\u0249\u024d\5\u0100\u0081"+
+		"\2\u024a\u024d\5\u01c2\u00e2\2\u024b\u024d\5\u01c6\u00e4\2\u024c\u0249"+
+		"\3\2\2\2\u024c\u024a\3\2\2\2\u024c\u024b\3\2\2\2\u024d\u0250\3\2\2\2\u024e"+
+		"\u024c\3\2\2\2\u024e\u024f\3\2\2\2\u024f\7\3\2\2\2\u0250\u024e\3\2\2\2"+
+		"\u0251\u0252\5\n\6\2\u0252\t\3\2\2\2\u0253\u029a\5\u0106\u0084\2\u0254"+
+		"\u029a\5\u00d4k\2\u0255\u029a\5\u0112\u008a\2\u0256\u029a\5\u0114\u008b"+
+		"\2\u0257\u029a\5\u0118\u008d\2\u0258\u029a\5\u0102\u0082\2\u0259\u029a"+
+		"\5\u0162\u00b2\2\u025a\u029a\5\u013a\u009e\2\u025b\u029a\5\u013c\u009f"+
+		"\2\u025c\u029a\5\u013e\u00a0\2\u025d\u029a\5\u0142\u00a2\2\u025e\u029a"+
+		"\5\u0140\u00a1\2\u025f\u029a\5\u0144\u00a3\2\u0260\u029a\5\u0146\u00a4"+
+		"\2\u0261\u029a\5\u0148\u00a5\2\u0262\u029a\5\u014a\u00a6\2\u0263\u029a"+
+		"\5\u014c\u00a7\2\u0264\u029a\5\u014e\u00a8\2\u0265\u029a\5\u0150\u00a9"+
+		"\2\u0266\u029a\5\u0152\u00aa\2\u0267\u029a\5\u0154\u00ab\2\u0268\u029a"+
+		"\5\u0156\u00ac\2\u0269\u029a\5\u0158\u00ad\2\u026a\u029a\5\u015a\u00ae"+
+		"\2\u026b\u029a\5\u015c\u00af\2\u026c\u029a\5\u015e\u00b0\2\u026d\u029a"+
+		"\5\u0160\u00b1\2\u026e\u029a\5\u0164\u00b3\2\u026f\u029a\5\u0110\u0089"+
+		"\2\u0270\u029a\5.\30\2\u0271\u029a\5\u016e\u00b8\2\u0272\u029a\5\u0170"+
+		"\u00b9\2\u0273\u029a\5\u0184\u00c3\2\u0274\u029a\5\u0188\u00c5\2\u0275"+
+		"\u029a\5\u0192\u00ca\2\u0276\u029a\5\u0196\u00cc\2\u0277\u029a\5\u019a"+
+		"\u00ce\2\u0278\u029a\5\u01a6\u00d4\2\u0279\u029a\5\u01aa\u00d6\2\u027a"+
+		"\u029a\5\u01b2\u00da\2\u027b\u029a\5\u01b8\u00dd\2\u027c\u029a\5\u01c0"+
+		"\u00e1\2\u027d\u029a\5\u01c4\u00e3\2\u027e\u029a\5\u01c8\u00e5\2\u027f"+
+		"\u029a\5\u01ca\u00e6\2\u0280\u029a\5\u01cc\u00e7\2\u0281\u029a\5\u01d0"+
+		"\u00e9\2\u0282\u029a\5\u01d2\u00ea\2\u0283\u029a\5\u01d4\u00eb\2\u0284"+
+		"\u029a\5\u01da\u00ee\2\u0285\u029a\5\u01dc\u00ef\2\u0286\u029a\5\u01de"+
+		"\u00f0\2\u0287\u029a\5\u01e2\u00f2\2\u0288\u029a\5\u01d8\u00ed\2\u0289"+
+		"\u029a\5\u01e6\u00f4\2\u028a\u029a\5\u01f2\u00fa\2\u028b\u029a\5\u01f4"+
+		"\u00fb\2\u028c\u029a\5\u01f6\u00fc\2\u028d\u029a\5\u01f8\u00fd\2\u028e"+
+		"\u029a\5\u0200\u0101\2\u028f\u029a\5\u0202\u0102\2\u0290\u029a\5\u01c2"+
+		"\u00e2\2\u0291\u029a\5\u020c\u0107\2\u0292\u029a\5\u0210\u0109\2\u0293"+
+		"\u029a\5\u00fe\u0080\2\u0294\u029a\5\u01c6\u00e4\2\u0295\u029a\5\u01f0"+
+		"\u00f9\2\u0296\u029a\5\u01fa\u00fe\2\u0297\u029a\5\u01fe\u0100\2\u0298"+
+		"\u029a\5\u01d6\u00ec\2\u0299\u0253\3\2\2\2\u0299\u0254\3\2\2\2\u0299\u0255"+
+		"\3\2\2\2\u0299\u0256\3\2\2\2\u0299\u0257\3\2\2\2\u0299\u0258\3\2\2\2\u0299"+
+		"\u0259\3\2\2\2\u0299\u025a\3\2\2\2\u0299\u025b\3\2\2\2\u0299\u025c\3\2"+
+		"\2\2\u0299\u025d\3\2\2\2\u0299\u025e\3\2\2\2\u0299\u025f\3\2\2\2\u0299"+
+		"\u0260\3\2\2\2\u0299\u0261\3\2\2\2\u0299\u0262\3\2\2\2\u0299\u0263\3\2"+
+		"\2\2\u0299\u0264\3\2\2\2\u0299\u0265\3\2\2\2\u0299\u0266\3\2\2\2\u0299"+
+		"\u0267\3\2\2\2\u0299\u0268\3\2\2\2\u0299\u0269\3\2\2\2\u0299\u026a\3\2"+
+		"\2\2\u0299\u026b\3\2\2\2\u0299\u026c\3\2\2\2\u0299\u026d\3\2\2\2\u0299"+
+		"\u026e\3\2\2\2\u0299\u026f\3\2\2\2\u0299\u0270\3\2\2\2\u0299\u0271\3\2"+
+		"\2\2\u0299\u0272\3\2\2\2\u0299\u0273\3\2\2\2\u0299\u0274\3\2\2\2\u0299"+
+		"\u0275\3\2\2\2\u0299\u0276\3\2\2\2\u0299\u0277\3\2\2\2\u0299\u0278\3\2"+
+		"\2\2\u0299\u0279\3\2\2\2\u0299\u027a\3\2\2\2\u0299\u027b\3\2\2\2\u0299"+
+		"\u027c\3\2\2\2\u0299\u027d\3\2\2\2\u0299\u027e\3\2\2\2\u0299\u027f\3\2"+
+		"\2\2\u0299\u0280\3\2\2\2\u0299\u0281\3\2\2\2\u0299\u0282\3\2\2\2\u0299"+
+		"\u0283\3\2\2\2\u0299\u0284\3\2\2\2\u0299\u0285\3\2\2\2\u0299\u0286\3\2"+
+		"\2\2\u0299\u0287\3\2\2\2\u0299\u0288\3\2\2\2\u0299\u0289\3\2\2\2\u0299"+
+		"\u028a\3\2\2\2\u0299\u028b\3\2\2\2\u0299\u028c\3\2\2\2\u0299\u028d\3\2"+
+		"\2\2\u0299\u028e\3\2\2\2\u0299\u028f\3\2\2\2\u0299\u0290\3\2\2\2\u0299"+
+		"\u0291\3\2\2\2\u0299\u0292\3\2\2\2\u0299\u0293\3\2\2\2\u0299\u0294\3\2"+
+		"\2\2\u0299\u0295\3\2\2\2\u0299\u0296\3\2\2\2\u0299\u0297\3\2\2\2\u0299"+
+		"\u0298\3\2\2\2\u029a\13\3\2\2\2\u029b\u029c\6\7\2\2\u029c\u029d\5\16\b"+
+		"\2\u029d\r\3\2\2\2\u029e\u029f\5\20\t\2\u029f\u02a0\5\24\13\2\u02a0\u02a6"+
+		"\3\2\2\2\u02a1\u02a3\5\22\n\2\u02a2\u02a4\5\24\13\2\u02a3\u02a2\3\2\2"+
+		"\2\u02a3\u02a4\3\2\2\2\u02a4\u02a6\3\2\2\2\u02a5\u029e\3\2\2\2\u02a5\u02a1"+
+		"\3\2\2\2\u02a6\17\3\2\2\2\u02a7\u02aa\5\u01d6\u00ec\2\u02a8\u02aa\5\u0106"+
+		"\u0084\2\u02a9\u02a7\3\2\2\2\u02a9\u02a8\3\2\2\2\u02aa\21\3\2\2\2\u02ab"+
+		"\u02af\5\u00f8}\2\u02ac\u02af\5\u00f2z\2\u02ad\u02af\5\u00f4{\2\u02ae"+
+		"\u02ab\3\2\2\2\u02ae\u02ac\3\2\2\2\u02ae\u02ad\3\2\2\2\u02af\23\3\2\2"+
+		"\2\u02b0\u02b4\5\u01dc\u00ef\2\u02b1\u02b4\5\u01ce\u00e8\2\u02b2\u02b4"+
+		"\5\u01c4\u00e3\2\u02b3\u02b0\3\2\2\2\u02b3\u02b1\3\2\2\2\u02b3\u02b2\3"+
+		"\2\2\2\u02b4\25\3\2\2\2\u02b5\u02b6\5\30\r\2\u02b6\27\3\2\2\2\u02b7\u02ba"+
+		"\5\32\16\2\u02b8\u02ba\5\34\17\2\u02b9\u02b7\3\2\2\2\u02b9\u02b8\3\2\2"+
+		"\2\u02ba\31\3\2\2\2\u02bb\u02bc\5T+\2\u02bc\33\3\2\2\2\u02bd\u02bf\5\u01d8"+
+		"\u00ed\2\u02be\u02bd\3\2\2\2\u02be\u02bf\3\2\2\2\u02bf\u02c1\3\2\2\2\u02c0"+
+		"\u02c2\5\u01e2\u00f2\2\u02c1\u02c0\3\2\2\2\u02c1\u02c2\3\2\2\2\u02c2\u02c3"+
+		"\3\2\2\2\u02c3\u02cf\5\36\20\2\u02c4\u02c6\5\u0100\u0081\2\u02c5\u02c4"+
+		"\3\2\2\2\u02c6\u02c9\3\2\2\2\u02c7\u02c5\3\2\2\2\u02c7\u02c8\3\2\2\2\u02c8"+
+		"\u02ca\3\2\2\2\u02c9\u02c7\3\2\2\2\u02ca\u02cb\5\36\20\2\u02cb\u02cc\6"+
+		"\17\3\2\u02cc\u02ce\3\2\2\2\u02cd\u02c7\3\2\2\2\u02ce\u02d1\3\2\2\2\u02cf"+
+		"\u02cd\3\2\2\2\u02cf\u02d0\3\2\2\2\u02d0\u02d4\3\2\2\2\u02d1\u02cf\3\2"+
+		"\2\2\u02d2\u02d5\5N(\2\u02d3\u02d5\5H%\2\u02d4\u02d2\3\2\2\2\u02d4\u02d3"+
+		"\3\2\2\2\u02d4\u02d5\3\2\2\2\u02d5\35\3\2\2\2\u02d6\u02d8\5\u00d4k\2\u02d7"+
+		"\u02d6\3\2\2\2\u02d8\u02db\3\2\2\2\u02d9\u02d7\3\2\2\2\u02d9\u02da\3\2"+
+		"\2\2\u02da\u02e1\3\2\2\2\u02db\u02d9\3\2\2\2\u02dc\u02e2\5 \21\2\u02dd"+
+		"\u02e2\5\u00dep\2\u02de\u02e2\5\66\34\2\u02df\u02e2\5\u0106\u0084\2\u02e0"+
+		"\u02e2\5\u00b4[\2\u02e1\u02dc\3\2\2\2\u02e1\u02dd\3\2\2\2\u02e1\u02de"+
+		"\3\2\2\2\u02e1\u02df\3\2\2\2\u02e1\u02e0\3\2\2\2\u02e2\u02e3\3\2\2\2\u02e3"+
+		"\u02e1\3\2\2\2\u02e3\u02e4\3\2\2\2\u02e4\37\3\2\2\2\u02e5\u02eb\5\"\22"+
+		"\2\u02e6\u02e7\5\u01da\u00ee\2\u02e7\u02e8\5\"\22\2\u02e8\u02e9\5\u01dc"+
+		"\u00ef\2\u02e9\u02eb\3\2\2\2\u02ea\u02e5\3\2\2\2\u02ea\u02e6\3\2\2\2\u02eb"+
+		"!\3\2\2\2\u02ec\u02ee\5\u00fa~\2\u02ed\u02ec\3\2\2\2\u02ed\u02ee\3\2\2"+
+		"\2\u02ee\u02f9\3\2\2\2\u02ef\u02f0\5\u01f8\u00fd\2\u02f0\u02f1\5\u014a"+
+		"\u00a6\2\u02f1\u02fa\3\2\2\2\u02f2\u02f4\5\u01f8\u00fd\2\u02f3\u02f2\3"+
+		"\2\2\2\u02f3\u02f4\3\2\2\2\u02f4\u02f7\3\2\2\2\u02f5\u02f8\5b\62\2\u02f6"+
+		"\u02f8\5n8\2\u02f7\u02f5\3\2\2\2\u02f7\u02f6\3\2\2\2\u02f8\u02fa\3\2\2"+
+		"\2\u02f9\u02ef\3\2\2\2\u02f9\u02f3\3\2\2\2\u02fa\u02fb\3\2\2\2\u02fb\u0301"+
+		"\5$\23\2\u02fc\u02fd\5\u0100\u0081\2\u02fd\u02fe\5b\62\2\u02fe\u0300\3"+
+		"\2\2\2\u02ff\u02fc\3\2\2\2\u0300\u0303\3\2\2\2\u0301\u02ff\3\2\2\2\u0301"+
+		"\u0302\3\2\2\2\u0302#\3\2\2\2\u0303\u0301\3\2\2\2\u0304\u0306\5\u0120"+
+		"\u0091\2\u0305\u0307\5\u01d8\u00ed\2\u0306\u0305\3\2\2\2\u0306\u0307\3"+
+		"\2\2\2\u0307\u0309\3\2\2\2\u0308\u030a\5\u00fa~\2\u0309\u0308\3\2\2\2"+
+		"\u0309\u030a\3\2\2\2\u030a\u030c\3\2\2\2\u030b\u030d\5\u01f8\u00fd\2\u030c"+
+		"\u030b\3\2\2\2\u030c\u030d\3\2\2\2\u030d\u0310\3\2\2\2\u030e\u0311\5b"+
+		"\62\2\u030f\u0311\5n8\2\u0310\u030e\3\2\2\2\u0310\u030f\3\2\2\2\u0311"+
+		"%\3\2\2\2\u0312\u0313\5(\25\2\u0313\'\3\2\2\2\u0314\u0316\5\u01e2\u00f2"+
+		"\2\u0315\u0314\3\2\2\2\u0315\u0316\3\2\2\2\u0316\u0318\3\2\2\2\u0317\u0319"+
+		"\5\u020e\u0108\2\u0318\u0317\3\2\2\2\u0318\u0319\3\2\2\2\u0319\u031b\3"+
+		"\2\2\2\u031a\u031c\5\u0102\u0082\2\u031b\u031a\3\2\2\2\u031b\u031c\3\2"+
+		"\2\2\u031c\u031e\3\2\2\2\u031d\u031f\5\u011e\u0090\2\u031e\u031d\3\2\2"+
+		"\2\u031e\u031f\3\2\2\2\u031f\u0323\3\2\2\2\u0320\u0322\5\u01f2\u00fa\2"+
+		"\u0321\u0320\3\2\2\2\u0322\u0325\3\2\2\2\u0323\u0321\3\2\2\2\u0323\u0324"+
+		"\3\2\2\2\u0324\u0327\3\2\2\2\u0325\u0323\3\2\2\2\u0326\u0328\5\u01c2\u00e2"+
+		"\2\u0327\u0326\3\2\2\2\u0327\u0328\3\2\2\2\u0328\u032c\3\2\2\2\u0329\u032b"+
+		"\5\u00fc\177\2\u032a\u0329\3\2\2\2\u032b\u032e\3\2\2\2\u032c\u032a\3\2"+
+		"\2\2\u032c\u032d\3\2\2\2\u032d\u0330\3\2\2\2\u032e\u032c\3\2\2\2\u032f"+
+		"\u0331\5\u00fa~\2\u0330\u032f\3\2\2\2\u0330\u0331\3\2\2\2\u0331\u0361"+
+		"\3\2\2\2\u0332\u0336\5\60\31\2\u0333\u0335\5\u01f2\u00fa\2\u0334\u0333"+
+		"\3\2\2\2\u0335\u0338\3\2\2\2\u0336\u0334\3\2\2\2\u0336\u0337\3\2\2\2\u0337"+
+		"\u033c\3\2\2\2\u0338\u0336\3\2\2\2\u0339\u033b\5\u00fc\177\2\u033a\u0339"+
+		"\3\2\2\2\u033b\u033e\3\2\2\2\u033c\u033a\3\2\2\2\u033c\u033d\3\2\2\2\u033d"+
+		"\u0340\3\2\2\2\u033e\u033c\3\2\2\2\u033f\u0341\5\u00fa~\2\u0340\u033f"+
+		"\3\2\2\2\u0340\u0341\3\2\2\2\u0341\u0343\3\2\2\2\u0342\u0344\5\u01ca\u00e6"+
+		"\2\u0343\u0342\3\2\2\2\u0343\u0344\3\2\2\2\u0344\u0362\3\2\2\2\u0345\u0349"+
+		"\5\62\32\2\u0346\u0348\5\u01f2\u00fa\2\u0347\u0346\3\2\2\2\u0348\u034b"+
+		"\3\2\2\2\u0349\u0347\3\2\2\2\u0349\u034a\3\2\2\2\u034a\u034f\3\2\2\2\u034b"+
+		"\u0349\3\2\2\2\u034c\u034e\5\u00fc\177\2\u034d\u034c\3\2\2\2\u034e\u0351"+
+		"\3\2\2\2\u034f\u034d\3\2\2\2\u034f\u0350\3\2\2\2\u0350\u0353\3\2\2\2\u0351"+
+		"\u034f\3\2\2\2\u0352\u0354\5\u00fa~\2\u0353\u0352\3\2\2\2\u0353\u0354"+
+		"\3\2\2\2\u0354\u0356\3\2\2\2\u0355\u0357\5\u01ca\u00e6\2\u0356\u0355\3"+
+		"\2\2\2\u0356\u0357\3\2\2\2\u0357\u035b\3\2\2\2\u0358\u035a\5,\27\2\u0359"+
+		"\u0358\3\2\2\2\u035a\u035d\3\2\2\2\u035b\u0359\3\2\2\2\u035b\u035c\3\2"+
+		"\2\2\u035c\u035f\3\2\2\2\u035d\u035b\3\2\2\2\u035e\u0360\5*\26\2\u035f"+
+		"\u035e\3\2\2\2\u035f\u0360\3\2\2\2\u0360\u0362\3\2\2\2\u0361\u0332\3\2"+
+		"\2\2\u0361\u0345\3\2\2\2\u0362\u0364\3\2\2\2\u0363\u0365\5\u0138\u009d"+
+		"\2\u0364\u0363\3\2\2\2\u0364\u0365\3\2\2\2\u0365\u036f\3\2\2\2\u0366\u0368"+
+		"\5\u01de\u00f0\2\u0367\u0366\3\2\2\2\u0367\u0368\3\2\2\2\u0368\u036a\3"+
+		"\2\2\2\u0369\u036b\5\u01c6\u00e4\2\u036a\u0369\3\2\2\2\u036a\u036b\3\2"+
+		"\2\2\u036b\u036c\3\2\2\2\u036c\u036e\5:\36\2\u036d\u0367\3\2\2\2\u036e"+
+		"\u0371\3\2\2\2\u036f\u036d\3\2\2\2\u036f\u0370\3\2\2\2\u0370)\3\2\2\2"+
+		"\u0371\u036f\3\2\2\2\u0372\u0374\5\u01f2\u00fa\2\u0373\u0372\3\2\2\2\u0374"+
+		"\u0377\3\2\2\2\u0375\u0373\3\2\2\2\u0375\u0376\3\2\2\2\u0376\u0379\3\2"+
+		"\2\2\u0377\u0375\3\2\2\2\u0378\u037a\5\u01c2\u00e2\2\u0379\u0378\3\2\2"+
+		"\2\u0379\u037a\3\2\2\2\u037a\u037e\3\2\2\2\u037b\u037d\5\u00fc\177\2\u037c"+
+		"\u037b\3\2\2\2\u037d\u0380\3\2\2\2\u037e\u037c\3\2\2\2\u037e\u037f\3\2"+
+		"\2\2\u037f\u0382\3\2\2\2\u0380\u037e\3\2\2\2\u0381\u0383\5\u00fa~\2\u0382"+
+		"\u0381\3\2\2\2\u0382\u0383\3\2\2\2\u0383\u0384\3\2\2\2\u0384\u0388\5\60"+
+		"\31\2\u0385\u0387\5\u01f2\u00fa\2\u0386\u0385\3\2\2\2\u0387\u038a\3\2"+
+		"\2\2\u0388\u0386\3\2\2\2\u0388\u0389\3\2\2\2\u0389\u038e\3\2\2\2\u038a"+
+		"\u0388\3\2\2\2\u038b\u038d\5\u00fc\177\2\u038c\u038b\3\2\2\2\u038d\u0390"+
+		"\3\2\2\2\u038e\u038c\3\2\2\2\u038e\u038f\3\2\2\2\u038f\u0392\3\2\2\2\u0390"+
+		"\u038e\3\2\2\2\u0391\u0393\5\u00fa~\2\u0392\u0391\3\2\2\2\u0392\u0393"+
+		"\3\2\2\2\u0393\u0395\3\2\2\2\u0394\u0396\5\u01ca\u00e6\2\u0395\u0394\3"+
+		"\2\2\2\u0395\u0396\3\2\2\2\u0396+\3\2\2\2\u0397\u0399\5\u01f2\u00fa\2"+
+		"\u0398\u0397\3\2\2\2\u0399\u039c\3\2\2\2\u039a\u0398\3\2\2\2\u039a\u039b"+
+		"\3\2\2\2\u039b\u039e\3\2\2\2\u039c\u039a\3\2\2\2\u039d\u039f\5\u01c2\u00e2"+
+		"\2\u039e\u039d\3\2\2\2\u039e\u039f\3\2\2\2\u039f\u03a3\3\2\2\2\u03a0\u03a2"+
+		"\5\u00fc\177\2\u03a1\u03a0\3\2\2\2\u03a2\u03a5\3\2\2\2\u03a3\u03a1\3\2"+
+		"\2\2\u03a3\u03a4\3\2\2\2\u03a4\u03a7\3\2\2\2\u03a5\u03a3\3\2\2\2\u03a6"+
+		"\u03a8\5\u00fa~\2\u03a7\u03a6\3\2\2\2\u03a7\u03a8\3\2\2\2\u03a8\u03a9"+
+		"\3\2\2\2\u03a9\u03ad\5\62\32\2\u03aa\u03ac\5\u01f2\u00fa\2\u03ab\u03aa"+
+		"\3\2\2\2\u03ac\u03af\3\2\2\2\u03ad\u03ab\3\2\2\2\u03ad\u03ae\3\2\2\2\u03ae"+
+		"\u03b3\3\2\2\2\u03af\u03ad\3\2\2\2\u03b0\u03b2\5\u00fc\177\2\u03b1\u03b0"+
+		"\3\2\2\2\u03b2\u03b5\3\2\2\2\u03b3\u03b1\3\2\2\2\u03b3\u03b4\3\2\2\2\u03b4"+
+		"\u03b7\3\2\2\2\u03b5\u03b3\3\2\2\2\u03b6\u03b8\5\u00fa~\2\u03b7\u03b6"+
+		"\3\2\2\2\u03b7\u03b8\3\2\2\2\u03b8\u03ba\3\2\2\2\u03b9\u03bb\5\u01ca\u00e6"+
+		"\2\u03ba\u03b9\3\2\2\2\u03ba\u03bb\3\2\2\2\u03bb-\3\2\2\2\u03bc\u03bf"+
+		"\5\60\31\2\u03bd\u03bf\5\62\32\2\u03be\u03bc\3\2\2\2\u03be\u03bd\3\2\2"+
+		"\2\u03bf/\3\2\2\2\u03c0\u03e0\5\u0174\u00bb\2\u03c1\u03e0\5\u0176\u00bc"+
+		"\2\u03c2\u03e0\5\u0178\u00bd\2\u03c3\u03e0\5\u0172\u00ba\2\u03c4\u03e0"+
+		"\5\u017a\u00be\2\u03c5\u03e0\5\u017c\u00bf\2\u03c6\u03e0\5\u0180\u00c1"+
+		"\2\u03c7\u03e0\5\u0182\u00c2\2\u03c8\u03e0\5\u0186\u00c4\2\u03c9\u03e0"+
+		"\5\u018a\u00c6\2\u03ca\u03e0\5\u018c\u00c7\2\u03cb\u03e0\5\64\33\2\u03cc"+
+		"\u03e0\5\u016c\u00b7\2\u03cd\u03e0\5\u018e\u00c8\2\u03ce\u03e0\5\u0190"+
+		"\u00c9\2\u03cf\u03e0\5\u0194\u00cb\2\u03d0\u03e0\5\u0198\u00cd\2\u03d1"+
+		"\u03e0\5\u019c\u00cf\2\u03d2\u03e0\5\u019e\u00d0\2\u03d3\u03e0\5\u016a"+
+		"\u00b6\2\u03d4\u03e0\5\u01a2\u00d2\2\u03d5\u03e0\5\u01a4\u00d3\2\u03d6"+
+		"\u03e0\5\u01a8\u00d5\2\u03d7\u03e0\5\u01ac\u00d7\2\u03d8\u03e0\5\u01ae"+
+		"\u00d8\2\u03d9\u03e0\5\u01b0\u00d9\2\u03da\u03e0\5\u01b4\u00db\2\u03db"+
+		"\u03e0\5\u01b6\u00dc\2\u03dc\u03e0\5\u01ba\u00de\2\u03dd\u03e0\5\u01bc"+
+		"\u00df\2\u03de\u03e0\5\u01be\u00e0\2\u03df\u03c0\3\2\2\2\u03df\u03c1\3"+
+		"\2\2\2\u03df\u03c2\3\2\2\2\u03df\u03c3\3\2\2\2\u03df\u03c4\3\2\2\2\u03df"+
+		"\u03c5\3\2\2\2\u03df\u03c6\3\2\2\2\u03df\u03c7\3\2\2\2\u03df\u03c8\3\2"+
+		"\2\2\u03df\u03c9\3\2\2\2\u03df\u03ca\3\2\2\2\u03df\u03cb\3\2\2\2\u03df"+
+		"\u03cc\3\2\2\2\u03df\u03cd\3\2\2\2\u03df\u03ce\3\2\2\2\u03df\u03cf\3\2"+
+		"\2\2\u03df\u03d0\3\2\2\2\u03df\u03d1\3\2\2\2\u03df\u03d2\3\2\2\2\u03df"+
+		"\u03d3\3\2\2\2\u03df\u03d4\3\2\2\2\u03df\u03d5\3\2\2\2\u03df\u03d6\3\2"+
+		"\2\2\u03df\u03d7\3\2\2\2\u03df\u03d8\3\2\2\2\u03df\u03d9\3\2\2\2\u03df"+
+		"\u03da\3\2\2\2\u03df\u03db\3\2\2\2\u03df\u03dc\3\2\2\2\u03df\u03dd\3\2"+
+		"\2\2\u03df\u03de\3\2\2\2\u03e0\61\3\2\2\2\u03e1\u03ec\5\u0212\u010a\2"+
+		"\u03e2\u03ec\5\u0214\u010b\2\u03e3\u03ec\5\u0216\u010c\2\u03e4\u03ec\5"+
+		"\u0218\u010d\2\u03e5\u03ec\5\u021a\u010e\2\u03e6\u03ec\5\u021c\u010f\2"+
+		"\u03e7\u03ec\5\u0168\u00b5\2\u03e8\u03ec\5\u01a0\u00d1\2\u03e9\u03ec\5"+
+		"\u017e\u00c0\2\u03ea\u03ec\5\u0166\u00b4\2\u03eb\u03e1\3\2\2\2\u03eb\u03e2"+
+		"\3\2\2\2\u03eb\u03e3\3\2\2\2\u03eb\u03e4\3\2\2\2\u03eb\u03e5\3\2\2\2\u03eb"+
+		"\u03e6\3\2\2\2\u03eb\u03e7\3\2\2\2\u03eb\u03e8\3\2\2\2\u03eb\u03e9\3\2"+
+		"\2\2\u03eb\u03ea\3\2\2\2\u03ec\63\3\2\2\2\u03ed\u03ee\5\u018c\u00c7\2"+
+		"\u03ee\u03ef\5\u01de\u00f0\2\u03ef\u03f0\5\u017c\u00bf\2\u03f0\65\3\2"+
+		"\2\2\u03f1\u03f7\58\35\2\u03f2\u03f3\5\u01cc\u00e7\2\u03f3\u03f4\58\35"+
+		"\2\u03f4\u03f6\3\2\2\2\u03f5\u03f2\3\2\2\2\u03f6\u03f9\3\2\2\2\u03f7\u03f5"+
+		"\3\2\2\2\u03f7\u03f8\3\2\2\2\u03f8\67\3\2\2\2\u03f9\u03f7\3\2\2\2\u03fa"+
+		"\u0431\5\u0200\u0101\2\u03fb\u0431\5\u0202\u0102\2\u03fc\u0431\5\u008c"+
+		"G\2\u03fd\u0431\5\u0108\u0085\2\u03fe\u0431\5\u00e6t\2\u03ff\u0431\5\u00d8"+
+		"m\2\u0400\u0431\5b\62\2\u0401\u0431\5V,\2\u0402\u0431\5n8\2\u0403\u0431"+
+		"\5\u013a\u009e\2\u0404\u0431\5\u00ccg\2\u0405\u0431\5\u01f4\u00fb\2\u0406"+
+		"\u0431\5\u01f6\u00fc\2\u0407\u0431\5\u01f8\u00fd\2\u0408\u0431\5\u016e"+
+		"\u00b8\2\u0409\u0431\5R*\2\u040a\u0431\5\u0162\u00b2\2\u040b\u0431\5\u00d6"+
+		"l\2\u040c\u0431\5\u013c\u009f\2\u040d\u0431\5\u0144\u00a3\2\u040e\u0431"+
+		"\5\u0112\u008a\2\u040f\u0431\5\u0090I\2\u0410\u0431\5\u014a\u00a6\2\u0411"+
+		"\u0431\5\u014c\u00a7\2\u0412\u0431\5\u014e\u00a8\2\u0413\u0431\5\u0150"+
+		"\u00a9\2\u0414\u0431\5\u0152\u00aa\2\u0415\u0431\5\u0140\u00a1\2\u0416"+
+		"\u0431\5\u0146\u00a4\2\u0417\u0431\5\u0156\u00ac\2\u0418\u0431\5\u0158"+
+		"\u00ad\2\u0419\u0431\5\u015a\u00ae\2\u041a\u0431\5\u015c\u00af\2\u041b"+
+		"\u0431\5\u015e\u00b0\2\u041c\u0431\5\u0160\u00b1\2\u041d\u0431\5\u0188"+
+		"\u00c5\2\u041e\u0431\5\u0148\u00a5\2\u041f\u0431\5\u01aa\u00d6\2\u0420"+
+		"\u0431\5\u01b8\u00dd\2\u0421\u0431\5\u0170\u00b9\2\u0422\u0431\5\u00f4"+
+		"{\2\u0423\u0431\5\u0192\u00ca\2\u0424\u0431\5\u0196\u00cc\2\u0425\u0431"+
+		"\5\u019a\u00ce\2\u0426\u0431\5\u01a6\u00d4\2\u0427\u0431\5\u01b2\u00da"+
+		"\2\u0428\u0431\5\u01c0\u00e1\2\u0429\u0431\5\u01e6\u00f4\2\u042a\u0431"+
+		"\5\u020c\u0107\2\u042b\u0431\5\u00fe\u0080\2\u042c\u0431\5\u01f0\u00f9"+
+		"\2\u042d\u0431\5\u01fa\u00fe\2\u042e\u0431\5\u01fe\u0100\2\u042f\u0431"+
+		"\5\u0110\u0089\2\u0430\u03fa\3\2\2\2\u0430\u03fb\3\2\2\2\u0430\u03fc\3"+
+		"\2\2\2\u0430\u03fd\3\2\2\2\u0430\u03fe\3\2\2\2\u0430\u03ff\3\2\2\2\u0430"+
+		"\u0400\3\2\2\2\u0430\u0401\3\2\2\2\u0430\u0402\3\2\2\2\u0430\u0403\3\2"+
+		"\2\2\u0430\u0404\3\2\2\2\u0430\u0405\3\2\2\2\u0430\u0406\3\2\2\2\u0430"+
+		"\u0407\3\2\2\2\u0430\u0408\3\2\2\2\u0430\u0409\3\2\2\2\u0430\u040a\3\2"+
+		"\2\2\u0430\u040b\3\2\2\2\u0430\u040c\3\2\2\2\u0430\u040d\3\2\2\2\u0430"+
+		"\u040e\3\2\2\2\u0430\u040f\3\2\2\2\u0430\u0410\3\2\2\2\u0430\u0411\3\2"+
+		"\2\2\u0430\u0412\3\2\2\2\u0430\u0413\3\2\2\2\u0430\u0414\3\2\2\2\u0430"+
+		"\u0415\3\2\2\2\u0430\u0416\3\2\2\2\u0430\u0417\3\2\2\2\u0430\u0418\3\2"+
+		"\2\2\u0430\u0419\3\2\2\2\u0430\u041a\3\2\2\2\u0430\u041b\3\2\2\2\u0430"+
+		"\u041c\3\2\2\2\u0430\u041d\3\2\2\2\u0430\u041e\3\2\2\2\u0430\u041f\3\2"+
+		"\2\2\u0430\u0420\3\2\2\2\u0430\u0421\3\2\2\2\u0430\u0422\3\2\2\2\u0430"+
+		"\u0423\3\2\2\2\u0430\u0424\3\2\2\2\u0430\u0425\3\2\2\2\u0430\u0426\3\2"+
+		"\2\2\u0430\u0427\3\2\2\2\u0430\u0428\3\2\2\2\u0430\u0429\3\2\2\2\u0430"+
+		"\u042a\3\2\2\2\u0430\u042b\3\2\2\2\u0430\u042c\3\2\2\2\u0430\u042d\3\2"+
+		"\2\2\u0430\u042e\3\2\2\2\u0430\u042f\3\2\2\2\u04319\3\2\2\2\u0432\u0434"+
+		"\5\u01ca\u00e6\2\u0433\u0432\3\2\2\2\u0433\u0434\3\2\2\2\u0434\u043b\3"+
+		"\2\2\2\u0435\u043c\5<\37\2\u0436\u043c\5@!\2\u0437\u043c\5D#\2\u0438\u043c"+
+		"\5H%\2\u0439\u043c\5J&\2\u043a\u043c\5L\'\2\u043b\u0435\3\2\2\2\u043b"+
+		"\u0436\3\2\2\2\u043b\u0437\3\2\2\2\u043b\u0438\3\2\2\2\u043b\u0439\3\2"+
+		"\2\2\u043b\u043a\3\2\2\2\u043c;\3\2\2\2\u043d\u043e\5> \2\u043e=\3\2\2"+
+		"\2\u043f\u0441\5\u0134\u009b\2\u0440\u0442\5\u01e2\u00f2\2\u0441\u0440"+
+		"\3\2\2\2\u0441\u0442\3\2\2\2\u0442\u0446\3\2\2\2\u0443\u0445\5\u00d4k"+
+		"\2\u0444\u0443\3\2\2\2\u0445\u0448\3\2\2\2\u0446\u0444\3\2\2\2\u0446\u0447"+
+		"\3\2\2\2\u0447\u0449\3\2\2\2\u0448\u0446\3\2\2\2\u0449\u044b\5b\62\2\u044a"+
+		"\u044c\5\u0144\u00a3\2\u044b\u044a\3\2\2\2\u044b\u044c\3\2\2\2\u044c?"+
+		"\3\2\2\2\u044d\u044e\5B\"\2\u044eA\3\2\2\2\u044f\u0451\5\u00d4k\2\u0450"+
+		"\u044f\3\2\2\2\u0451\u0454\3\2\2\2\u0452\u0450\3\2\2\2\u0452\u0453\3\2"+
+		"\2\2\u0453\u0456\3\2\2\2\u0454\u0452\3\2\2\2\u0455\u0457\5\u0102\u0082"+
+		"\2\u0456\u0455\3\2\2\2\u0456\u0457\3\2\2\2\u0457\u0459\3\2\2\2\u0458\u045a"+
+		"\5\u01e2\u00f2\2\u0459\u0458\3\2\2\2\u0459\u045a\3\2\2\2\u045a\u045e\3"+
+		"\2\2\2\u045b\u045d\5\u00d4k\2\u045c\u045b\3\2\2\2\u045d\u0460\3\2\2\2"+
+		"\u045e\u045c\3\2\2\2\u045e\u045f\3\2\2\2\u045f\u0462\3\2\2\2\u0460\u045e"+
+		"\3\2\2\2\u0461\u0463\5\u01e0\u00f1\2\u0462\u0461\3\2\2\2\u0462\u0463\3"+
+		"\2\2\2\u0463\u0465\3\2\2\2\u0464\u0466\5\u013c\u009f\2\u0465\u0464\3\2"+
+		"\2\2\u0466\u0467\3\2\2\2\u0467\u0465\3\2\2\2\u0467\u0468\3\2\2\2\u0468"+
+		"C\3\2\2\2\u0469\u046a\5F$\2\u046aE\3\2\2\2\u046b\u046d\5\u00d4k\2\u046c"+
+		"\u046b\3\2\2\2\u046c\u046d\3\2\2\2\u046d\u046f\3\2\2\2\u046e\u0470\5\u0102"+
+		"\u0082\2\u046f\u046e\3\2\2\2\u046f\u0470\3\2\2\2\u0470\u0472\3\2\2\2\u0471"+
+		"\u0473\5\u01e2\u00f2\2\u0472\u0471\3\2\2\2\u0472\u0473\3\2\2\2\u0473\u0475"+
+		"\3\2\2\2\u0474\u0476\5\u00d4k\2\u0475\u0474\3\2\2\2\u0475\u0476\3\2\2"+
+		"\2\u0476\u0478\3\2\2\2\u0477\u0479\5\u01e0\u00f1\2\u0478\u0477\3\2\2\2"+
+		"\u0478\u0479\3\2\2\2\u0479\u047b\3\2\2\2\u047a\u047c\5\u014c\u00a7\2\u047b"+
+		"\u047a\3\2\2\2\u047c\u047d\3\2\2\2\u047d\u047b\3\2\2\2\u047d\u047e\3\2"+
+		"\2\2\u047eG\3\2\2\2\u047f\u0480\5\u0120\u0091\2\u0480\u0481\5b\62\2\u0481"+
+		"I\3\2\2\2\u0482\u0484\5\u011a\u008e\2\u0483\u0485\5\u01e2\u00f2\2\u0484"+
+		"\u0483\3\2\2\2\u0484\u0485\3\2\2\2\u0485\u0486\3\2\2\2\u0486\u0487\5\u014a"+
+		"\u00a6\2\u0487K\3\2\2\2\u0488\u048a\5\u00d4k\2\u0489\u0488\3\2\2\2\u048a"+
+		"\u048d\3\2\2\2\u048b\u0489\3\2\2\2\u048b\u048c\3\2\2\2\u048c\u048f\3\2"+
+		"\2\2\u048d\u048b\3\2\2\2\u048e\u0490\5\u0104\u0083\2\u048f\u048e\3\2\2"+
+		"\2\u0490\u0491\3\2\2\2\u0491\u048f\3\2\2\2\u0491\u0492\3\2\2\2\u0492\u0493"+
+		"\3\2\2\2\u0493\u0494\5\26\f\2\u0494M\3\2\2\2\u0495\u0496\5\u012c\u0097"+
+		"\2\u0496\u0497\5\26\f\2\u0497O\3\2\2\2\u0498\u049a\5\u00d4k\2\u0499\u0498"+
+		"\3\2\2\2\u0499\u049a\3\2\2\2\u049a\u049b\3\2\2\2\u049b\u049c\5\u011e\u0090"+
+		"\2\u049c\u049d\5\26\f\2\u049dQ\3\2\2\2\u049e\u049f\5\u01b6\u00dc\2\u049f"+
+		"\u04a4\5\u011a\u008e\2\u04a0\u04a1\5\u0162\u00b2\2\u04a1\u04a2\5\u01e0"+
+		"\u00f1\2\u04a2\u04a5\3\2\2\2\u04a3\u04a5\5:\36\2\u04a4\u04a0\3\2\2\2\u04a4"+
+		"\u04a3\3\2\2\2\u04a5S\3\2\2\2\u04a6\u04b0\5V,\2\u04a7\u04a9\5\u0100\u0081"+
+		"\2\u04a8\u04a7\3\2\2\2\u04a9\u04ac\3\2\2\2\u04aa\u04a8\3\2\2\2\u04aa\u04ab"+
+		"\3\2\2\2\u04ab\u04ad\3\2\2\2\u04ac\u04aa\3\2\2\2\u04ad\u04af\5V,\2\u04ae"+
+		"\u04aa\3\2\2\2\u04af\u04b2\3\2\2\2\u04b0\u04ae\3\2\2\2\u04b0\u04b1\3\2"+
+		"\2\2\u04b1U\3\2\2\2\u04b2\u04b0\3\2\2\2\u04b3\u04b5\5\u01e2\u00f2\2\u04b4"+
+		"\u04b3\3\2\2\2\u04b4\u04b5\3\2\2\2\u04b5\u04b9\3\2\2\2\u04b6\u04b8\5Z"+
+		".\2\u04b7\u04b6\3\2\2\2\u04b8\u04bb\3\2\2\2\u04b9\u04b7\3\2\2\2\u04b9"+
+		"\u04ba\3\2\2\2\u04ba\u04bd\3\2\2\2\u04bb\u04b9\3\2\2\2\u04bc\u04be\5X"+
+		"-\2\u04bd\u04bc\3\2\2\2\u04be\u04bf\3\2\2\2\u04bf\u04bd\3\2\2\2\u04bf"+
+		"\u04c0\3\2\2\2\u04c0W\3\2\2\2\u04c1\u04c3\5\u0184\u00c3\2\u04c2\u04c1"+
+		"\3\2\2\2\u04c3\u04c4\3\2\2\2\u04c4\u04c2\3\2\2\2\u04c4\u04c5\3\2\2\2\u04c5"+
+		"\u04cb\3\2\2\2\u04c6\u04c7\5\u01cc\u00e7\2\u04c7\u04c8\5\u0184\u00c3\2"+
+		"\u04c8\u04ca\3\2\2\2\u04c9\u04c6\3\2\2\2\u04ca\u04cd\3\2\2\2\u04cb\u04c9"+
+		"\3\2\2\2\u04cb\u04cc\3\2\2\2\u04ccY\3\2\2\2\u04cd\u04cb\3\2\2\2\u04ce"+
+		"\u04d7\5\u0090I\2\u04cf\u04d7\5\u00fa~\2\u04d0\u04d7\5\u0156\u00ac\2\u04d1"+
+		"\u04d7\5\u016e\u00b8\2\u04d2\u04d7\5b\62\2\u04d3\u04d7\5\u014a\u00a6\2"+
+		"\u04d4\u04d7\5\u013a\u009e\2\u04d5\u04d7\5\u01f4\u00fb\2\u04d6\u04ce\3"+
+		"\2\2\2\u04d6\u04cf\3\2\2\2\u04d6\u04d0\3\2\2\2\u04d6\u04d1\3\2\2\2\u04d6"+
+		"\u04d2\3\2\2\2\u04d6\u04d3\3\2\2\2\u04d6\u04d4\3\2\2\2\u04d6\u04d5\3\2"+
+		"\2\2\u04d7\u04d8\3\2\2\2\u04d8\u04d6\3\2\2\2\u04d8\u04d9\3\2\2\2\u04d9"+
+		"[\3\2\2\2\u04da\u04dd\5\u0118\u008d\2\u04db\u04dd\5\u00fa~\2\u04dc\u04da"+
+		"\3\2\2\2\u04dc\u04db\3\2\2\2\u04dd\u04e0\3\2\2\2\u04de\u04dc\3\2\2\2\u04de"+
+		"\u04df\3\2\2\2\u04df\u04e1\3\2\2\2\u04e0\u04de\3\2\2\2\u04e1\u04e3\5^"+
+		"\60\2\u04e2\u04e4\5\u00fa~\2\u04e3\u04e2\3\2\2\2\u04e3\u04e4\3\2\2\2\u04e4"+
+		"\u04e6\3\2\2\2\u04e5\u04e7\5\u013a\u009e\2\u04e6\u04e5\3\2\2\2\u04e6\u04e7"+
+		"\3\2\2\2\u04e7\u04ea\3\2\2\2\u04e8\u04eb\5\u0082B\2\u04e9\u04eb\5\u014a"+
+		"\u00a6\2\u04ea\u04e8\3\2\2\2\u04ea\u04e9\3\2\2\2\u04ea\u04eb\3\2\2\2\u04eb"+
+		"\u04ef\3\2\2\2\u04ec\u04ee\5\u0090I\2\u04ed\u04ec\3\2\2\2\u04ee\u04f1"+
+		"\3\2\2\2\u04ef\u04ed\3\2\2\2\u04ef\u04f0\3\2\2\2\u04f0\u04f3\3\2\2\2\u04f1"+
+		"\u04ef\3\2\2\2\u04f2\u04f4\5\u00caf\2\u04f3\u04f2\3\2\2\2\u04f3\u04f4"+
+		"\3\2\2\2\u04f4]\3\2\2\2\u04f5\u04f7\5\u0164\u00b3\2\u04f6\u04f5\3\2\2"+
+		"\2\u04f7\u04f8\3\2\2\2\u04f8\u04f6\3\2\2\2\u04f8\u04f9\3\2\2\2\u04f9\u04fb"+
+		"\3\2\2\2\u04fa\u04fc\5`\61\2\u04fb\u04fa\3\2\2\2\u04fb\u04fc\3\2\2\2\u04fc"+
+		"_\3\2\2\2\u04fd\u04ff\5\u01cc\u00e7\2\u04fe\u0500\5\u0164\u00b3\2\u04ff"+
+		"\u04fe\3\2\2\2\u0500\u0501\3\2\2\2\u0501\u04ff\3\2\2\2\u0501\u0502\3\2"+
+		"\2\2\u0502\u0504\3\2\2\2\u0503\u04fd\3\2\2\2\u0504\u0505\3\2\2\2\u0505"+
+		"\u0503\3\2\2\2\u0505\u0506\3\2\2\2\u0506\u0508\3\2\2\2\u0507\u0509\5\u01cc"+
+		"\u00e7\2\u0508\u0507\3\2\2\2\u0508\u0509\3\2\2\2\u0509\u0525\3\2\2\2\u050a"+
+		"\u050c\5\u01c4\u00e3\2\u050b\u050d\5\u0164\u00b3\2\u050c\u050b\3\2\2\2"+
+		"\u050d\u050e\3\2\2\2\u050e\u050c\3\2\2\2\u050e\u050f\3\2\2\2\u050f\u0511"+
+		"\3\2\2\2\u0510\u050a\3\2\2\2\u0511\u0512\3\2\2\2\u0512\u0510\3\2\2\2\u0512"+
+		"\u0513\3\2\2\2\u0513\u051a\3\2\2\2\u0514\u0516\5\u01c4\u00e3\2\u0515\u0517"+
+		"\5\u0164\u00b3\2\u0516\u0515\3\2\2\2\u0517\u0518\3\2\2\2\u0518\u0516\3"+
+		"\2\2\2\u0518\u0519\3\2\2\2\u0519\u051b\3\2\2\2\u051a\u0514\3\2\2\2\u051b"+
+		"\u051c\3\2\2\2\u051c\u051a\3\2\2\2\u051c\u051d\3\2\2\2\u051d\u0525\3\2"+
+		"\2\2\u051e\u0521\5\u01cc\u00e7\2\u051f\u0521\5\u01c8\u00e5\2\u0520\u051e"+
+		"\3\2\2\2\u0520\u051f\3\2\2\2\u0521\u0522\3\2\2\2\u0522\u0520\3\2\2\2\u0522"+
+		"\u0523\3\2\2\2\u0523\u0525\3\2\2\2\u0524\u0503\3\2\2\2\u0524\u0510\3\2"+
+		"\2\2\u0524\u0520\3\2\2\2\u0525a\3\2\2\2\u0526\u0527\5d\63\2\u0527c\3\2"+
+		"\2\2\u0528\u052c\5f\64\2\u0529\u052c\5h\65\2\u052a\u052c\5j\66\2\u052b"+
+		"\u0528\3\2\2\2\u052b\u0529\3\2\2\2\u052b\u052a\3\2\2\2\u052c\u052e\3\2"+
+		"\2\2\u052d\u052f\5\u0084C\2\u052e\u052d\3\2\2\2\u052e\u052f\3\2\2\2\u052f"+
+		"e\3\2\2\2\u0530\u0533\5\u0090I\2\u0531\u0533\5\u00be`\2\u0532\u0530\3"+
+		"\2\2\2\u0532\u0531\3\2\2\2\u0533\u0534\3\2\2\2\u0534\u0532\3\2\2\2\u0534"+
+		"\u0535\3\2\2\2\u0535\u0536\3\2\2\2\u0536\u0539\5\u012c\u0097\2\u0537\u053a"+
+		"\5\u01d8\u00ed\2\u0538\u053a\5\u01e2\u00f2\2\u0539\u0537\3\2\2\2\u0539"+
+		"\u0538\3\2\2\2\u0539\u053a\3\2\2\2\u053a\u053b\3\2\2\2\u053b\u053d\5\u00de"+
+		"p\2\u053c\u053e\5\u00be`\2\u053d\u053c\3\2\2\2\u053d\u053e\3\2\2\2\u053e"+
+		"\u053f\3\2\2\2\u053f\u0540\5\\/\2\u0540g\3\2\2\2\u0541\u0544\5\u014a\u00a6"+
+		"\2\u0542\u0544\5\u013a\u009e\2\u0543\u0541\3\2\2\2\u0543\u0542\3\2\2\2"+
+		"\u0543\u0544\3\2\2\2\u0544\u0547\3\2\2\2\u0545\u0548\5\u0090I\2\u0546"+
+		"\u0548\5\u00be`\2\u0547\u0545\3\2\2\2\u0547\u0546\3\2\2\2\u0548\u0549"+
+		"\3\2\2\2\u0549\u0547\3\2\2\2\u0549\u054a\3\2\2\2\u054a\u054b\3\2\2\2\u054b"+
+		"\u0550\5\u012c\u0097\2\u054c\u054e\5\u0090I\2\u054d\u054f\5\u012c\u0097"+
+		"\2\u054e\u054d\3\2\2\2\u054e\u054f\3\2\2\2\u054f\u0551\3\2\2\2\u0550\u054c"+
+		"\3\2\2\2\u0550\u0551\3\2\2\2\u0551\u0554\3\2\2\2\u0552\u0555\5\u01d8\u00ed"+
+		"\2\u0553\u0555\5\u01e2\u00f2\2\u0554\u0552\3\2\2\2\u0554\u0553\3\2\2\2"+
+		"\u0554\u0555\3\2\2\2\u0555\u0557\3\2\2\2\u0556\u0558\5\\/\2\u0557\u0556"+
+		"\3\2\2\2\u0558\u0559\3\2\2\2\u0559\u0557\3\2\2\2\u0559\u055a\3\2\2\2\u055a"+
+		"\u055b\3\2\2\2\u055b\u055c\5l\67\2\u055ci\3\2\2\2\u055d\u0560\5\u0090"+
+		"I\2\u055e\u0560\5\u00be`\2\u055f\u055d\3\2\2\2\u055f\u055e\3\2\2\2\u0560"+
+		"\u0563\3\2\2\2\u0561\u055f\3\2\2\2\u0561\u0562\3\2\2\2\u0562\u0565\3\2"+
+		"\2\2\u0563\u0561\3\2\2\2\u0564\u0566\5\\/\2\u0565\u0564\3\2\2\2\u0566"+
+		"\u0567\3\2\2\2\u0567\u0565\3\2\2\2\u0567\u0568\3\2\2\2\u0568\u0569\3\2"+
+		"\2\2\u0569\u056a\5l\67\2\u056ak\3\2\2\2\u056b\u0574\5\u00e6t\2\u056c\u0574"+
+		"\5\u0090I\2\u056d\u0570\5\u01c6\u00e4\2\u056e\u0571\5\u0092J\2\u056f\u0571"+
+		"\5\u00e8u\2\u0570\u056e\3\2\2\2\u0570\u056f\3\2\2\2\u0571\u0574\3\2\2"+
+		"\2\u0572\u0574\5\u00be`\2\u0573\u056b\3\2\2\2\u0573\u056c\3\2\2\2\u0573"+
+		"\u056d\3\2\2\2\u0573\u0572\3\2\2\2\u0574\u0577\3\2\2\2\u0575\u0573\3\2"+
+		"\2\2\u0575\u0576\3\2\2\2\u0576m\3\2\2\2\u0577\u0575\3\2\2\2\u0578\u0579"+
+		"\5p9\2\u0579o\3\2\2\2\u057a\u057b\5r:\2\u057b\u057d\5l\67\2\u057c\u057e"+
+		"\5\u0084C\2\u057d\u057c\3\2\2\2\u057d\u057e\3\2\2\2\u057eq\3\2\2\2\u057f"+
+		"\u0583\5t;\2\u0580\u0584\5v<\2\u0581\u0584\5x=\2\u0582\u0584\5z>\2\u0583"+
+		"\u0580\3\2\2\2\u0583\u0581\3\2\2\2\u0583\u0582\3\2\2\2\u0584\u0588\3\2"+
+		"\2\2\u0585\u0588\5x=\2\u0586\u0588\5z>\2\u0587\u057f\3\2\2\2\u0587\u0585"+
+		"\3\2\2\2\u0587\u0586\3\2\2\2\u0588s\3\2\2\2\u0589\u058b\5\u0090I\2\u058a"+
+		"\u0589\3\2\2\2\u058b\u058c\3\2\2\2\u058c\u058a\3\2\2\2\u058c\u058d\3\2"+
+		"\2\2\u058d\u058f\3\2\2\2\u058e\u0590\5\u012c\u0097\2\u058f\u058e\3\2\2"+
+		"\2\u058f\u0590\3\2\2\2\u0590\u0593\3\2\2\2\u0591\u0594\5\u01d8\u00ed\2"+
+		"\u0592\u0594\5\u01e2\u00f2\2\u0593\u0591\3\2\2\2\u0593\u0592\3\2\2\2\u0593"+
+		"\u0594\3\2\2\2\u0594u\3\2\2\2\u0595\u0599\5~@\2\u0596\u0598\5\u0090I\2"+
+		"\u0597\u0596\3\2\2\2\u0598\u059b\3\2\2\2\u0599\u0597\3\2\2\2\u0599\u059a"+
+		"\3\2\2\2\u059a\u059d\3\2\2\2\u059b\u0599\3\2\2\2\u059c\u059e\5\u0084C"+
+		"\2\u059d\u059c\3\2\2\2\u059d\u059e\3\2\2\2\u059e\u05a0\3\2\2\2\u059f\u05a1"+
+		"\5\u00caf\2\u05a0\u059f\3\2\2\2\u05a0\u05a1\3\2\2\2\u05a1w\3\2\2\2\u05a2"+
+		"\u05a5\5\u0088E\2\u05a3\u05a6\5\u0090I\2\u05a4\u05a6\5\u0084C\2\u05a5"+
+		"\u05a3\3\2\2\2\u05a5\u05a4\3\2\2\2\u05a6\u05ae\3\2\2\2\u05a7\u05ab\5\u0080"+
+		"A\2\u05a8\u05ac\5\u0082B\2\u05a9\u05ac\5\u0084C\2\u05aa\u05ac\5\u00ca"+
+		"f\2\u05ab\u05a8\3\2\2\2\u05ab\u05a9\3\2\2\2\u05ab\u05aa\3\2\2\2\u05ac"+
+		"\u05ae\3\2\2\2\u05ad\u05a2\3\2\2\2\u05ad\u05a7\3\2\2\2\u05ae\u05b2\3\2"+
+		"\2\2\u05af\u05b1\5\u0090I\2\u05b0\u05af\3\2\2\2\u05b1\u05b4\3\2\2\2\u05b2"+
+		"\u05b0\3\2\2\2\u05b2\u05b3\3\2\2\2\u05b3\u05b6\3\2\2\2\u05b4\u05b2\3\2"+
+		"\2\2\u05b5\u05b7\5\u0084C\2\u05b6\u05b5\3\2\2\2\u05b6\u05b7\3\2\2\2\u05b7"+
+		"\u05b9\3\2\2\2\u05b8\u05ba\5\u00caf\2\u05b9\u05b8\3\2\2\2\u05b9\u05ba"+
+		"\3\2\2\2\u05bay\3\2\2\2\u05bb\u05bf\5|?\2\u05bc\u05be\5\u0090I\2\u05bd"+
+		"\u05bc\3\2\2\2\u05be\u05c1\3\2\2\2\u05bf\u05bd\3\2\2\2\u05bf\u05c0\3\2"+
+		"\2\2\u05c0\u05c3\3\2\2\2\u05c1\u05bf\3\2\2\2\u05c2\u05c4\5\u0084C\2\u05c3"+
+		"\u05c2\3\2\2\2\u05c3\u05c4\3\2\2\2\u05c4\u05c6\3\2\2\2\u05c5\u05c7\5\u00ca"+
+		"f\2\u05c6\u05c5\3\2\2\2\u05c6\u05c7\3\2\2\2\u05c7{\3\2\2\2\u05c8\u05ca"+
+		"\5\u00fa~\2\u05c9\u05c8\3\2\2\2\u05ca\u05cd\3\2\2\2\u05cb\u05c9\3\2\2"+
+		"\2\u05cb\u05cc\3\2\2\2\u05cc\u05d6\3\2\2\2\u05cd\u05cb\3\2\2\2\u05ce\u05cf"+
+		"\5\u014a\u00a6\2\u05cf\u05d0\5\u008aF\2\u05d0\u05d7\3\2\2\2\u05d1\u05d2"+
+		"\5\u0118\u008d\2\u05d2\u05d4\5\u014a\u00a6\2\u05d3\u05d5\5\u0082B\2\u05d4"+
+		"\u05d3\3\2\2\2\u05d4\u05d5\3\2\2\2\u05d5\u05d7\3\2\2\2\u05d6\u05ce\3\2"+
+		"\2\2\u05d6\u05d1\3\2\2\2\u05d7\u05da\3\2\2\2\u05d8\u05da\5\u0086D\2\u05d9"+
+		"\u05cb\3\2\2\2\u05d9\u05d8\3\2\2\2\u05da}\3\2\2\2\u05db\u05e1\5\u0088"+
+		"E\2\u05dc\u05de\5\u0080A\2\u05dd\u05df\5\u0082B\2\u05de\u05dd\3\2\2\2"+
+		"\u05de\u05df\3\2\2\2\u05df\u05e1\3\2\2\2\u05e0\u05db\3\2\2\2\u05e0\u05dc"+
+		"\3\2\2\2\u05e1\177\3\2\2\2\u05e2\u05e7\5\u01ea\u00f6\2\u05e3\u05e7\5\u0116"+
+		"\u008c\2\u05e4\u05e7\5\u010c\u0087\2\u05e5\u05e7\5\u0118\u008d\2\u05e6"+
+		"\u05e2\3\2\2\2\u05e6\u05e3\3\2\2\2\u05e6\u05e4\3\2\2\2\u05e6\u05e5\3\2"+
+		"\2\2\u05e7\u05ea\3\2\2\2\u05e8\u05e6\3\2\2\2\u05e8\u05e9\3\2\2\2\u05e9"+
+		"\u05f0\3\2\2\2\u05ea\u05e8\3\2\2\2\u05eb\u05f1\5\u013a\u009e\2\u05ec\u05f1"+
+		"\5\u00d2j\2\u05ed\u05f1\5\u0144\u00a3\2\u05ee\u05f1\5\u0170\u00b9\2\u05ef"+
+		"\u05f1\5\u0110\u0089\2\u05f0\u05eb\3\2\2\2\u05f0\u05ec\3\2\2\2\u05f0\u05ed"+
+		"\3\2\2\2\u05f0\u05ee\3\2\2\2\u05f0\u05ef\3\2\2\2\u05f1\u05fc\3\2\2\2\u05f2"+
+		"\u05f6\5\u01ea\u00f6\2\u05f3\u05f6\5\u0116\u008c\2\u05f4\u05f6\5\u010c"+
+		"\u0087\2\u05f5\u05f2\3\2\2\2\u05f5\u05f3\3\2\2\2\u05f5\u05f4\3\2\2\2\u05f6"+
+		"\u05f9\3\2\2\2\u05f7\u05f5\3\2\2\2\u05f7\u05f8\3\2\2\2\u05f8\u05fa\3\2"+
+		"\2\2\u05f9\u05f7\3\2\2\2\u05fa\u05fc\5\u014a\u00a6\2\u05fb\u05e8\3\2\2"+
+		"\2\u05fb\u05f7\3\2\2\2\u05fc\u0081\3\2\2\2\u05fd\u0600\5\u0090I\2\u05fe"+
+		"\u0600\5\u008aF\2\u05ff\u05fd\3\2\2\2\u05ff\u05fe\3\2\2\2\u0600\u0083"+
+		"\3\2\2\2\u0601\u0603\5\u011a\u008e\2\u0602\u0604\5\u01e2\u00f2\2\u0603"+
+		"\u0602\3\2\2\2\u0603\u0604\3\2\2\2\u0604\u060a\3\2\2\2\u0605\u0609\5\u01ea"+
+		"\u00f6\2\u0606\u0609\5\u0116\u008c\2\u0607\u0609\5\u010c\u0087\2\u0608"+
+		"\u0605\3\2\2\2\u0608\u0606\3\2\2\2\u0608\u0607\3\2\2\2\u0609\u060c\3\2"+
+		"\2\2\u060a\u0608\3\2\2\2\u060a\u060b\3\2\2\2\u060b\u060d\3\2\2\2\u060c"+
+		"\u060a\3\2\2\2\u060d\u0611\5\u013a\u009e\2\u060e\u0610\5\u0090I\2\u060f"+
+		"\u060e\3\2\2\2\u0610\u0613\3\2\2\2\u0611\u060f\3\2\2\2\u0611\u0612\3\2"+
+		"\2\2\u0612\u0085\3\2\2\2\u0613\u0611\3\2\2\2\u0614\u0615\5\u00eex\2\u0615"+
+		"\u0087\3\2\2\2\u0616\u0617\6E\4\2\u0617\u0618\5\u01e0\u00f1\2\u0618\u0089"+
+		"\3\2\2\2\u0619\u061a\5\u00ecw\2\u061a\u008b\3\2\2\2\u061b\u061d\5\u008e"+
+		"H\2\u061c\u061b\3\2\2\2\u061d\u061e\3\2\2\2\u061e\u061c\3\2\2\2\u061e"+
+		"\u061f\3\2\2\2\u061f\u008d\3\2\2\2\u0620\u0621\5\u0108\u0085\2\u0621\u0627"+
+		"\5\u00ecw\2\u0622\u0623\5\u0100\u0081\2\u0623\u0624\5\u00ecw\2\u0624\u0626"+
+		"\3\2\2\2\u0625\u0622\3\2\2\2\u0626\u0629\3\2\2\2\u0627\u0625\3\2\2\2\u0627"+
+		"\u0628\3\2\2\2\u0628\u008f\3\2\2\2\u0629\u0627\3\2\2\2\u062a\u062d\5\u0092"+
+		"J\2\u062b\u062d\5\u0096L\2\u062c\u062a\3\2\2\2\u062c\u062b\3\2\2\2\u062d"+
+		"\u0091\3\2\2\2\u062e\u062f\5\u0094K\2\u062f\u0093\3\2\2\2\u0630\u0631"+
+		"\5\u01da\u00ee\2\u0631\u0637\5\u009aN\2\u0632\u0633\5\u01c6\u00e4\2\u0633"+
+		"\u0634\5\u009aN\2\u0634\u0636\3\2\2\2\u0635\u0632\3\2\2\2\u0636\u0639"+
+		"\3\2\2\2\u0637\u0635\3\2\2\2\u0637\u0638\3\2\2\2\u0638\u063f\3\2\2\2\u0639"+
+		"\u0637\3\2\2\2\u063a\u063b\5\u01c6\u00e4\2\u063b\u063c\5R*\2\u063c\u063e"+
+		"\3\2\2\2\u063d\u063a\3\2\2\2\u063e\u0641\3\2\2\2\u063f\u063d\3\2\2\2\u063f"+
+		"\u0640\3\2\2\2\u0640\u0647\3\2\2\2\u0641\u063f\3\2\2\2\u0642\u0643\5\u01ce"+
+		"\u00e8\2\u0643\u0644\5R*\2\u0644\u0646\3\2\2\2\u0645\u0642\3\2\2\2\u0646"+
+		"\u0649\3\2\2\2\u0647\u0645\3\2\2\2\u0647\u0648\3\2\2\2\u0648\u064a\3\2"+
+		"\2\2\u0649\u0647\3\2\2\2\u064a\u064b\5\u01dc\u00ef\2\u064b\u0095\3\2\2"+
+		"\2\u064c\u064d\5\u0098M\2\u064d\u0097\3\2\2\2\u064e\u0654\5\u009aN\2\u064f"+
+		"\u0650\5\u01c6\u00e4\2\u0650\u0651\5\u009aN\2\u0651\u0653\3\2\2\2\u0652"+
+		"\u064f\3\2\2\2\u0653\u0656\3\2\2\2\u0654\u0652\3\2\2\2\u0654\u0655\3\2"+
+		"\2\2\u0655\u0099\3\2\2\2\u0656\u0654\3\2\2\2\u0657\u0658\5\u01e0\u00f1"+
+		"\2\u0658\u0659\5\u01f4\u00fb\2\u0659\u065b\3\2\2\2\u065a\u0657\3\2\2\2"+
+		"\u065a\u065b\3\2\2\2\u065b\u065e\3\2\2\2\u065c\u065f\5\u009cO\2\u065d"+
+		"\u065f\5\u009eP\2\u065e\u065c\3\2\2\2\u065e\u065d\3\2\2\2\u065f\u0661"+
+		"\3\2\2\2\u0660\u0662\5\u01e2\u00f2\2\u0661\u0660\3\2\2\2\u0661\u0662\3"+
+		"\2\2\2\u0662\u009b\3\2\2\2\u0663\u0664\5\u01e0\u00f1\2\u0664\u0666\5\u0114"+
+		"\u008b\2\u0665\u0667\5\u009eP\2\u0666\u0665\3\2\2\2\u0666\u0667\3\2\2"+
+		"\2\u0667\u009d\3\2\2\2\u0668\u0671\5\u00a0Q\2\u0669\u0671\5\u00a2R\2\u066a"+
+		"\u0671\5\u00a4S\2\u066b\u0671\5\u00a6T\2\u066c\u0671\5\u00a8U\2\u066d"+
+		"\u0671\5\u00aaV\2\u066e\u0671\5\u00acW\2\u066f\u0671\5\u00b2Z\2\u0670"+
+		"\u0668\3\2\2\2\u0670\u0669\3\2\2\2\u0670\u066a\3\2\2\2\u0670\u066b\3\2"+
+		"\2\2\u0670\u066c\3\2\2\2\u0670\u066d\3\2\2\2\u0670\u066e\3\2\2\2\u0670"+
+		"\u066f\3\2\2\2\u0671\u009f\3\2\2\2\u0672\u0673\5\u01e0\u00f1\2\u0673\u0674"+
+		"\5\u0142\u00a2\2\u0674\u00a1\3\2\2\2\u0675\u0676\5\u01e0\u00f1\2\u0676"+
+		"\u0677\5\u0140\u00a1\2\u0677\u00a3\3\2\2\2\u0678\u0679\5\u01e0\u00f1\2"+
+		"\u0679\u067a\5\u013e\u00a0\2\u067a\u00a5\3\2\2\2\u067b\u067c\5\u01e0\u00f1"+
+		"\2\u067c\u067d\5\u0148\u00a5\2\u067d\u00a7\3\2\2\2\u067e\u0680\5\u014e"+
+		"\u00a8\2\u067f\u0681\5\u020c\u0107\2\u0680\u067f\3\2\2\2\u0680\u0681\3"+
+		"\2\2\2\u0681\u0682\3\2\2\2\u0682\u0683\5\u01e0\u00f1\2\u0683\u00a9\3\2"+
+		"\2\2\u0684\u0685\5\u01e0\u00f1\2\u0685\u0686\5\u0146\u00a4\2\u0686\u00ab"+
+		"\3\2\2\2\u0687\u068a\5\u00aeX\2\u0688\u068a\5\u00b0Y\2\u0689\u0687\3\2"+
+		"\2\2\u0689\u0688\3\2\2\2\u068a\u00ad\3\2\2\2\u068b\u068e\5\u01c0\u00e1"+
+		"\2\u068c\u068f\5\u012c\u0097\2\u068d\u068f\5\u01c4\u00e3\2\u068e\u068c"+
+		"\3\2\2\2\u068e\u068d\3\2\2\2\u068f\u0690\3\2\2\2\u0690\u0691\5\u00b2Z"+
+		"\2\u0691\u00af\3\2\2\2\u0692\u0693\5\u00b2Z\2\u0693\u0694\5\u01c0\u00e1"+
+		"\2\u0694\u00b1\3\2\2\2\u0695\u0697\5\u01e0\u00f1\2\u0696\u0698\5\u01f4"+
+		"\u00fb\2\u0697\u0696\3\2\2\2\u0697\u0698\3\2\2\2\u0698\u0699\3\2\2\2\u0699"+
+		"\u069e\5\u01d0\u00e9\2\u069a\u069b\5\u01cc\u00e7\2\u069b\u069c\5\u01e0"+
+		"\u00f1\2\u069c\u069d\5\u01d0\u00e9\2\u069d\u069f\3\2\2\2\u069e\u069a\3"+
+		"\2\2\2\u069e\u069f\3\2\2\2\u069f\u00b3\3\2\2\2\u06a0\u06a2\5\u00e0q\2"+
+		"\u06a1\u06a0\3\2\2\2\u06a1\u06a2\3\2\2\2\u06a2\u06a6\3\2\2\2\u06a3\u06a7"+
+		"\5\u00b6\\\2\u06a4\u06a7\5\u00b8]\2\u06a5\u06a7\5\u00ba^\2\u06a6\u06a3"+
+		"\3\2\2\2\u06a6\u06a4\3\2\2\2\u06a6\u06a5\3\2\2\2\u06a7\u00b5\3\2\2\2\u06a8"+
+		"\u06a9\5\u01c6\u00e4\2\u06a9\u06aa\5\u01da\u00ee\2\u06aa\u06ab\5\u00bc"+
+		"_\2\u06ab\u06ac\5\u01dc\u00ef\2\u06ac\u06ad\5\u01c6\u00e4\2\u06ad\u00b7"+
+		"\3\2\2\2\u06ae\u06af\5\u01da\u00ee\2\u06af\u06b0\5\u00bc_\2\u06b0\u06b1"+
+		"\5\u01dc\u00ef\2\u06b1\u00b9\3\2\2\2\u06b2\u06b3\5\u01d2\u00ea\2\u06b3"+
+		"\u06b4\5\u00bc_\2\u06b4\u06b5\5\u01d4\u00eb\2\u06b5\u00bb\3\2\2\2\u06b6"+
+		"\u06c4\5.\30\2\u06b7\u06c4\5\66\34\2\u06b8\u06c4\5\u00b4[\2\u06b9\u06c4"+
+		"\5\u01f2\u00fa\2\u06ba\u06c4\5\u01d0\u00e9\2\u06bb\u06c4\5\u01cc\u00e7"+
+		"\2\u06bc\u06c4\5\u0102\u0082\2\u06bd\u06c4\5\u00e0q\2\u06be\u06c4\5\u0100"+
+		"\u0081\2\u06bf\u06c4\5\u00fa~\2\u06c0\u06c4\5\u01c4\u00e3\2\u06c1\u06c4"+
+		"\5\u01ce\u00e8\2\u06c2\u06c4\5\u0106\u0084\2\u06c3\u06b6\3\2\2\2\u06c3"+
+		"\u06b7\3\2\2\2\u06c3\u06b8\3\2\2\2\u06c3\u06b9\3\2\2\2\u06c3\u06ba\3\2"+
+		"\2\2\u06c3\u06bb\3\2\2\2\u06c3\u06bc\3\2\2\2\u06c3\u06bd\3\2\2\2\u06c3"+
+		"\u06be\3\2\2\2\u06c3\u06bf\3\2\2\2\u06c3\u06c0\3\2\2\2\u06c3\u06c1\3\2"+
+		"\2\2\u06c3\u06c2\3\2\2\2\u06c4\u06c5\3\2\2\2\u06c5\u06c3\3\2\2\2\u06c5"+
+		"\u06c6\3\2\2\2\u06c6\u00bd\3\2\2\2\u06c7\u06c9\5\u00e0q\2\u06c8\u06c7"+
+		"\3\2\2\2\u06c8\u06c9\3\2\2\2\u06c9\u06cc\3\2\2\2\u06ca\u06cd\5\u00c0a"+
+		"\2\u06cb\u06cd\5\u00c2b\2\u06cc\u06ca\3\2\2\2\u06cc\u06cb\3\2\2\2\u06cd"+
+		"\u00bf\3\2\2\2\u06ce\u06cf\5\u01c6\u00e4\2\u06cf\u06d0\5\u00c2b\2\u06d0"+
+		"\u06d1\5\u01c6\u00e4\2\u06d1\u00c1\3\2\2\2\u06d2\u06d3\5\u01da\u00ee\2"+
+		"\u06d3\u06d7\5\u00c4c\2\u06d4\u06d6\5\u00c6d\2\u06d5\u06d4\3\2\2\2\u06d6"+
+		"\u06d9\3\2\2\2\u06d7\u06d5\3\2\2\2\u06d7\u06d8\3\2\2\2\u06d8\u06da\3\2"+
+		"\2\2\u06d9\u06d7\3\2\2\2\u06da\u06db\5\u01dc\u00ef\2\u06db\u06e7\3\2\2"+
+		"\2\u06dc\u06dd\5\u01d2\u00ea\2\u06dd\u06e1\5\u00c4c\2\u06de\u06e0\5\u00c6"+
+		"d\2\u06df\u06de\3\2\2\2\u06e0\u06e3\3\2\2\2\u06e1\u06df\3\2\2\2\u06e1"+
+		"\u06e2\3\2\2\2\u06e2\u06e4\3\2\2\2\u06e3\u06e1\3\2\2\2\u06e4\u06e5\5\u01d4"+
+		"\u00eb\2\u06e5\u06e7\3\2\2\2\u06e6\u06d2\3\2\2\2\u06e6\u06dc\3\2\2\2\u06e7"+
+		"\u00c3\3\2\2\2\u06e8\u06ed\5\u0088E\2\u06e9\u06ee\5\u01c6\u00e4\2\u06ea"+
+		"\u06ee\5\u01c4\u00e3\2\u06eb\u06ec\6c\5\2\u06ec\u06ee\5\u01ce\u00e8\2"+
+		"\u06ed\u06e9\3\2\2\2\u06ed\u06ea\3\2\2\2\u06ed\u06eb\3\2\2\2\u06ee\u06f1"+
+		"\3\2\2\2\u06ef\u06f1\5\u00c8e\2\u06f0\u06e8\3\2\2\2\u06f0\u06ef\3\2\2"+
+		"\2\u06f1\u00c5\3\2\2\2\u06f2\u06f5\5\u01de\u00f0\2\u06f3\u06f5\5\u00c8"+
+		"e\2\u06f4\u06f2\3\2\2\2\u06f4\u06f3\3\2\2\2\u06f5\u00c7\3\2\2\2\u06f6"+
+		"\u0707\5.\30\2\u06f7\u0707\5\u0096L\2\u06f8\u0707\5\\/\2\u06f9\u0707\5"+
+		"\u0086D\2\u06fa\u0707\5\u00e0q\2\u06fb\u0707\5\u01e0\u00f1\2\u06fc\u0707"+
+		"\5\u01f2\u00fa\2\u06fd\u0707\5\u01d0\u00e9\2\u06fe\u0707\5\u01cc\u00e7"+
+		"\2\u06ff\u0707\5\u0102\u0082\2\u0700\u0707\5\u01c6\u00e4\2\u0701\u0707"+
+		"\5\u00fa~\2\u0702\u0707\5\u01c4\u00e3\2\u0703\u0707\5\u01ce\u00e8\2\u0704"+
+		"\u0707\5\66\34\2\u0705\u0707\5\u00be`\2\u0706\u06f6\3\2\2\2\u0706\u06f7"+
+		"\3\2\2\2\u0706\u06f8\3\2\2\2\u0706\u06f9\3\2\2\2\u0706\u06fa\3\2\2\2\u0706"+
+		"\u06fb\3\2\2\2\u0706\u06fc\3\2\2\2\u0706\u06fd\3\2\2\2\u0706\u06fe\3\2"+
+		"\2\2\u0706\u06ff\3\2\2\2\u0706\u0700\3\2\2\2\u0706\u0701\3\2\2\2\u0706"+
+		"\u0702\3\2\2\2\u0706\u0703\3\2\2\2\u0706\u0704\3\2\2\2\u0706\u0705\3\2"+
+		"\2\2\u0707\u00c9\3\2\2\2\u0708\u0716\5\u0132\u009a\2\u0709\u070a\6f\6"+
+		"\2\u070a\u0716\5\u012c\u0097\2\u070b\u070e\6f\7\2\u070c\u070f\5\u01be"+
+		"\u00e0\2\u070d\u070f\5\u01b6\u00dc\2\u070e\u070c\3\2\2\2\u070e\u070d\3"+
+		"\2\2\2\u070f\u0713\3\2\2\2\u0710\u0714\5\u0120\u0091\2\u0711\u0714\5\u0128"+
+		"\u0095\2\u0712\u0714\5\u0132\u009a\2\u0713\u0710\3\2\2\2\u0713\u0711\3"+
+		"\2\2\2\u0713\u0712\3\2\2\2\u0714\u0716\3\2\2\2\u0715\u0708\3\2\2\2\u0715"+
+		"\u0709\3\2\2\2\u0715\u070b\3\2\2\2\u0716\u0717\3\2\2\2\u0717\u0718\5\u00cc"+
+		"g\2\u0718\u00cb\3\2\2\2\u0719\u071a\5\u00ceh\2\u071a\u00cd\3\2\2\2\u071b"+
+		"\u071e\5\u0152\u00aa\2\u071c\u071e\5\u01f4\u00fb\2\u071d\u071b\3\2\2\2"+
+		"\u071d\u071c\3\2\2\2\u071d\u071e\3\2\2\2\u071e\u071f\3\2\2\2\u071f\u0721"+
+		"\5\u0154\u00ab\2\u0720\u0722\5\u00ecw\2\u0721\u0720\3\2\2\2\u0721\u0722"+
+		"\3\2\2\2\u0722\u0727\3\2\2\2\u0723\u0724\5\u0162\u00b2\2\u0724\u0725\5"+
+		"\u00ecw\2\u0725\u0727\3\2\2\2\u0726\u071d\3\2\2\2\u0726\u0723\3\2\2\2"+
+		"\u0727\u0735\3\2\2\2\u0728\u072d\5\u01c6\u00e4\2\u0729\u072d\5\u01c4\u00e3"+
+		"\2\u072a\u072d\5\u012c\u0097\2\u072b\u072d\5\u0132\u009a\2\u072c\u0728"+
+		"\3\2\2\2\u072c\u0729\3\2\2\2\u072c\u072a\3\2\2\2\u072c\u072b\3\2\2\2\u072c"+
+		"\u072d\3\2\2\2\u072d\u072e\3\2\2\2\u072e\u0734\5\u00d0i\2\u072f\u0730"+
+		"\5\u01da\u00ee\2\u0730\u0731\5\u00d0i\2\u0731\u0732\5\u01dc\u00ef\2\u0732"+
+		"\u0734\3\2\2\2\u0733\u072c\3\2\2\2\u0733\u072f\3\2\2\2\u0734\u0737\3\2"+
+		"\2\2\u0735\u0733\3\2\2\2\u0735\u0736\3\2\2\2\u0736\u00cf\3\2\2\2\u0737"+
+		"\u0735\3\2\2\2\u0738\u073b\5\u0154\u00ab\2\u0739\u073b\5\u0162\u00b2\2"+
+		"\u073a\u0738\3\2\2\2\u073a\u0739\3\2\2\2\u073b\u073c\3\2\2\2\u073c\u073d"+
+		"\5\u00ecw\2\u073d\u00d1\3\2\2\2\u073e\u073f\5\u0162\u00b2\2\u073f\u0740"+
+		"\5\u00ecw\2\u0740\u00d3\3\2\2\2\u0741\u0744\5\u00fc\177\2\u0742\u0744"+
+		"\5\u00fa~\2\u0743\u0741\3\2\2\2\u0743\u0742\3\2\2\2\u0744\u00d5\3\2\2"+
+		"\2\u0745\u0746\5\u0106\u0084\2\u0746\u0747\5\u01cc\u00e7\2\u0747\u0748"+
+		"\5\u0106\u0084\2\u0748\u00d7\3\2\2\2\u0749\u074a\5\u00dan\2\u074a\u00d9"+
+		"\3\2\2\2\u074b\u074d\5\u01e0\u00f1\2\u074c\u074e\5\u00dco\2\u074d\u074c"+
+		"\3\2\2\2\u074d\u074e\3\2\2\2\u074e\u074f\3\2\2\2\u074f\u0750\5\u015e\u00b0"+
+		"\2\u0750\u00db\3\2\2\2\u0751\u0755\5\u00fa~\2\u0752\u0755\5\u01f4\u00fb"+
+		"\2\u0753\u0755\5\u01e0\u00f1\2\u0754\u0751\3\2\2\2\u0754\u0752\3\2\2\2"+
+		"\u0754\u0753\3\2\2\2\u0755\u075e\3\2\2\2\u0756\u075a\5\u01cc\u00e7\2\u0757"+
+		"\u075b\5\u00fa~\2\u0758\u075b\5\u01f4\u00fb\2\u0759\u075b\5\u01e0\u00f1"+
+		"\2\u075a\u0757\3\2\2\2\u075a\u0758\3\2\2\2\u075a\u0759\3\2\2\2\u075b\u075d"+
+		"\3\2\2\2\u075c\u0756\3\2\2\2\u075d\u0760\3\2\2\2\u075e\u075c\3\2\2\2\u075e"+
+		"\u075f\3\2\2\2\u075f\u00dd\3\2\2\2\u0760\u075e\3\2\2\2\u0761\u0762\5\u01da"+
+		"\u00ee\2\u0762\u0763\5\u00e0q\2\u0763\u0764\5\u01dc\u00ef\2\u0764\u0767"+
+		"\3\2\2\2\u0765\u0767\5\u00e0q\2\u0766\u0761\3\2\2\2\u0766\u0765\3\2\2"+
+		"\2\u0767\u00df\3\2\2\2\u0768\u0769\5\u00e2r\2\u0769\u00e1\3\2\2\2\u076a"+
+		"\u076b\5\u01e0\u00f1\2\u076b\u076c\5\u01c4\u00e3\2\u076c\u076e\3\2\2\2"+
+		"\u076d\u076a\3\2\2\2\u076e\u076f\3\2\2\2\u076f\u076d\3\2\2\2\u076f\u0770"+
+		"\3\2\2\2\u0770\u0771\3\2\2\2\u0771\u0772\5\u00e4s\2\u0772\u00e3\3\2\2"+
+		"\2\u0773\u0774\6s\b\2\u0774\u0775\5\u01e0\u00f1\2\u0775\u00e5\3\2\2\2"+
+		"\u0776\u077c\5\u00e8u\2\u0777\u0778\5\u01c6\u00e4\2\u0778\u0779\5\u00ea"+
+		"v\2\u0779\u077a\5\u01c6\u00e4\2\u077a\u077c\3\2\2\2\u077b\u0776\3\2\2"+
+		"\2\u077b\u0777\3\2\2\2\u077c\u00e7\3\2\2\2\u077d\u077e\5\u00eav\2\u077e"+
+		"\u00e9\3\2\2\2\u077f\u0784\5\u01da\u00ee\2\u0780\u0785\5\u01f8\u00fd\2"+
+		"\u0781\u0785\5\u01e6\u00f4\2\u0782\u0785\5\u01e0\u00f1\2\u0783\u0785\5"+
+		"\u0100\u0081\2\u0784\u0780\3\2\2\2\u0784\u0781\3\2\2\2\u0784\u0782\3\2"+
+		"\2\2\u0784\u0783\3\2\2\2\u0785\u078a\3\2\2\2\u0786\u078b\5\u01f8\u00fd"+
+		"\2\u0787\u078b\5\u01e6\u00f4\2\u0788\u078b\5\u01e0\u00f1\2\u0789\u078b"+
+		"\5\u0100\u0081\2\u078a\u0786\3\2\2\2\u078a\u0787\3\2\2\2\u078a\u0788\3"+
+		"\2\2\2\u078a\u0789\3\2\2\2\u078b\u078c\3\2\2\2\u078c\u078a\3\2\2\2\u078c"+
+		"\u078d\3\2\2\2\u078d\u078e\3\2\2\2\u078e\u078f\5\u01dc\u00ef\2\u078f\u00eb"+
+		"\3\2\2\2\u0790\u0794\5\u00eex\2\u0791\u0792\6w\t\2\u0792\u0794\5\u01e0"+
+		"\u00f1\2\u0793\u0790\3\2\2\2\u0793\u0791\3\2\2\2\u0794\u00ed\3\2\2\2\u0795"+
+		"\u079b\5\u00f4{\2\u0796\u079b\5\u00f6|\2\u0797\u079b\5\u010a\u0086\2\u0798"+
+		"\u0799\6x\n\2\u0799\u079b\5\u00f2z\2\u079a\u0795\3\2\2\2\u079a\u0796\3"+
+		"\2\2\2\u079a\u0797\3\2\2\2\u079a\u0798\3\2\2\2\u079b\u00ef\3\2\2\2\u079c"+
+		"\u079f\5\u0106\u0084\2\u079d\u079f\5\u00f2z\2\u079e\u079c\3\2\2\2\u079e"+
+		"\u079d\3\2\2\2\u079f\u00f1\3\2\2\2\u07a0\u07a1\5\u01da\u00ee\2\u07a1\u07a2"+
+		"\5\u0106\u0084\2\u07a2\u07a3\5\u01dc\u00ef\2\u07a3\u00f3\3\2\2\2\u07a4"+
+		"\u07a5\5\u01d2\u00ea\2\u07a5\u07a6\5\u0106\u0084\2\u07a6\u07a7\5\u01d4"+
+		"\u00eb\2\u07a7\u00f5\3\2\2\2\u07a8\u07aa\5\u01e0\u00f1\2\u07a9\u07a8\3"+
+		"\2\2\2\u07a9\u07aa\3\2\2\2\u07aa\u07ab\3\2\2\2\u07ab\u07ae\5\u01d6\u00ec"+
+		"\2\u07ac\u07ae\5\u00f8}\2\u07ad\u07a9\3\2\2\2\u07ad\u07ac\3\2\2\2\u07ae"+
+		"\u00f7\3\2\2\2\u07af\u07b1\5\u01da\u00ee\2\u07b0\u07b2\5\u01e0\u00f1\2"+
+		"\u07b1\u07b0\3\2\2\2\u07b1\u07b2\3\2\2\2\u07b2\u07b3\3\2\2\2\u07b3\u07b4"+
+		"\5\u01d6\u00ec\2\u07b4\u07b5\5\u01dc\u00ef\2\u07b5\u00f9\3\2\2\2\u07b6"+
+		"\u07bd\5\u01ea\u00f6\2\u07b7\u07bd\5\u01ec\u00f7\2\u07b8\u07bd\5\u01ee"+
+		"\u00f8\2\u07b9\u07bd\5\u0116\u008c\2\u07ba\u07bd\5\u010c\u0087\2\u07bb"+
+		"\u07bd\5\u010e\u0088\2\u07bc\u07b6\3\2\2\2\u07bc\u07b7\3\2\2\2\u07bc\u07b8"+
+		"\3\2\2\2\u07bc\u07b9\3\2\2\2\u07bc\u07ba\3\2\2\2\u07bc\u07bb\3\2\2\2\u07bd"+
+		"\u00fb\3\2\2\2\u07be\u07c3\5\u0204\u0103\2\u07bf\u07c3\5\u0206\u0104\2"+
+		"\u07c0\u07c3\5\u020a\u0106\2\u07c1\u07c3\5\u0208\u0105\2\u07c2\u07be\3"+
+		"\2\2\2\u07c2\u07bf\3\2\2\2\u07c2\u07c0\3\2\2\2\u07c2\u07c1\3\2\2\2\u07c3"+
+		"\u00fd\3\2\2\2\u07c4\u07cb\5\u021e\u0110\2\u07c5\u07cb\5\u0222\u0112\2"+
+		"\u07c6\u07cb\5\u0224\u0113\2\u07c7\u07cb\5\u01e4\u00f3\2\u07c8\u07cb\5"+
+		"\u01fc\u00ff\2\u07c9\u07cb\5\u0220\u0111\2\u07ca\u07c4\3\2\2\2\u07ca\u07c5"+
+		"\3\2\2\2\u07ca\u07c6\3\2\2\2\u07ca\u07c7\3\2\2\2\u07ca\u07c8\3\2\2\2\u07ca"+
+		"\u07c9\3\2\2\2\u07cb\u00ff\3\2\2\2\u07cc\u07cf\5\u01de\u00f0\2\u07cd\u07cf"+
+		"\5\u01c6\u00e4\2\u07ce\u07cc\3\2\2\2\u07ce\u07cd\3\2\2\2\u07cf\u0101\3"+
+		"\2\2\2\u07d0\u07e3\5\u01e8\u00f5\2\u07d1\u07e3\5\u011e\u0090\2\u07d2\u07e3"+
+		"\5\u011a\u008e\2\u07d3\u07e3\5\u011c\u008f\2\u07d4\u07e3\5\u0128\u0095"+
+		"\2\u07d5\u07e3\5\u0130\u0099\2\u07d6\u07e3\5\u0132\u009a\2\u07d7\u07e3"+
+		"\5\u0120\u0091\2\u07d8\u07e3\5\u0122\u0092\2\u07d9\u07e3\5\u012c\u0097"+
+		"\2\u07da\u07e3\5\u0138\u009d\2\u07db\u07e3\5\u012e\u0098\2\u07dc\u07e3"+
+		"\5\u0136\u009c\2\u07dd\u07e3\5\u0134\u009b\2\u07de\u07e3\5\u012a\u0096"+
+		"\2\u07df\u07e3\5\u0124\u0093\2\u07e0\u07e3\5\u0126\u0094\2\u07e1\u07e3"+
+		"\5\u020e\u0108\2\u07e2\u07d0\3\2\2\2\u07e2\u07d1\3\2\2\2\u07e2\u07d2\3"+
+		"\2\2\2\u07e2\u07d3\3\2\2\2\u07e2\u07d4\3\2\2\2\u07e2\u07d5\3\2\2\2\u07e2"+
+		"\u07d6\3\2\2\2\u07e2\u07d7\3\2\2\2\u07e2\u07d8\3\2\2\2\u07e2\u07d9\3\2"+
+		"\2\2\u07e2\u07da\3\2\2\2\u07e2\u07db\3\2\2\2\u07e2\u07dc\3\2\2\2\u07e2"+
+		"\u07dd\3\2\2\2\u07e2\u07de\3\2\2\2\u07e2\u07df\3\2\2\2\u07e2\u07e0\3\2"+
+		"\2\2\u07e2\u07e1\3\2\2\2\u07e3\u0103\3\2\2\2\u07e4\u07f6\5\u01e8\u00f5"+
+		"\2\u07e5\u07f6\5\u011a\u008e\2\u07e6\u07f6\5\u011c\u008f\2\u07e7\u07f6"+
+		"\5\u0128\u0095\2\u07e8\u07f6\5\u0130\u0099\2\u07e9\u07f6\5\u0132\u009a"+
+		"\2\u07ea\u07f6\5\u0120\u0091\2\u07eb\u07f6\5\u0122\u0092\2\u07ec\u07f6"+
+		"\5\u012c\u0097\2\u07ed\u07f6\5\u0138\u009d\2\u07ee\u07f6\5\u012e\u0098"+
+		"\2\u07ef\u07f6\5\u0136\u009c\2\u07f0\u07f6\5\u0134\u009b\2\u07f1\u07f6"+
+		"\5\u012a\u0096\2\u07f2\u07f6\5\u0124\u0093\2\u07f3\u07f6\5\u0126\u0094"+
+		"\2\u07f4\u07f6\5\u020e\u0108\2\u07f5\u07e4\3\2\2\2\u07f5\u07e5\3\2\2\2"+
+		"\u07f5\u07e6\3\2\2\2\u07f5\u07e7\3\2\2\2\u07f5\u07e8\3\2\2\2\u07f5\u07e9"+
+		"\3\2\2\2\u07f5\u07ea\3\2\2\2\u07f5\u07eb\3\2\2\2\u07f5\u07ec\3\2\2\2\u07f5"+
+		"\u07ed\3\2\2\2\u07f5\u07ee\3\2\2\2\u07f5\u07ef\3\2\2\2\u07f5\u07f0\3\2"+
+		"\2\2\u07f5\u07f1\3\2\2\2\u07f5\u07f2\3\2\2\2\u07f5\u07f3\3\2\2\2\u07f5"+
+		"\u07f4\3\2\2\2\u07f6\u0105\3\2\2\2\u07f7\u07fa\5\u01e0\u00f1\2\u07f8\u07fa"+
+		"\5\u010a\u0086\2\u07f9\u07f7\3\2\2\2\u07f9\u07f8\3\2\2\2\u07fa\u0107\3"+
+		"\2\2\2\u07fb\u07fc\7\3\2\2\u07fc\u07fd\7\u0093\2\2\u07fd\u0109\3\2\2\2"+
+		"\u07fe\u07ff\7\4\2\2\u07ff\u0800\7\u0093\2\2\u0800\u010b\3\2\2\2\u0801"+
+		"\u0802\7\5\2\2\u0802\u0803\7\u0093\2\2\u0803\u010d\3\2\2\2\u0804\u0805"+
+		"\7\6\2\2\u0805\u0806\7\u0093\2\2\u0806\u010f\3\2\2\2\u0807\u0808\7\7\2"+
+		"\2\u0808\u0809\7\u0093\2\2\u0809\u0111\3\2\2\2\u080a\u080b\7\b\2\2\u080b"+
+		"\u080c\7\u0093\2\2\u080c\u0113\3\2\2\2\u080d\u080e\7\t\2\2\u080e\u080f"+
+		"\7\u0093\2\2\u080f\u0115\3\2\2\2\u0810\u0811\7\n\2\2\u0811\u0812\7\u0093"+
+		"\2\2\u0812\u0117\3\2\2\2\u0813\u0814\7\13\2\2\u0814\u0815\7\u0093\2\2"+
+		"\u0815\u0119\3\2\2\2\u0816\u0817\7\f\2\2\u0817\u0818\7\u0093\2\2\u0818"+
+		"\u011b\3\2\2\2\u0819\u081a\7\r\2\2\u081a\u081b\7\u0093\2\2\u081b\u011d"+
+		"\3\2\2\2\u081c\u081d\7\16\2\2\u081d\u081e\7\u0093\2\2\u081e\u011f\3\2"+
+		"\2\2\u081f\u0820\7\17\2\2\u0820\u0821\7\u0093\2\2\u0821\u0121\3\2\2\2"+
+		"\u0822\u0823\7\20\2\2\u0823\u0824\7\u0093\2\2\u0824\u0123\3\2\2\2\u0825"+
+		"\u0826\7\21\2\2\u0826\u0827\7\u0093\2\2\u0827\u0125\3\2\2\2\u0828\u0829"+
+		"\7\22\2\2\u0829\u082a\7\u0093\2\2\u082a\u0127\3\2\2\2\u082b\u082c\7\23"+
+		"\2\2\u082c\u082d\7\u0093\2\2\u082d\u0129\3\2\2\2\u082e\u082f\7\24\2\2"+
+		"\u082f\u0830\7\u0093\2\2\u0830\u012b\3\2\2\2\u0831\u0832\7\25\2\2\u0832"+
+		"\u0833\7\u0093\2\2\u0833\u012d\3\2\2\2\u0834\u0835\7\26\2\2\u0835\u0836"+
+		"\7\u0093\2\2\u0836\u012f\3\2\2\2\u0837\u0838\7\27\2\2\u0838\u0839\7\u0093"+
+		"\2\2\u0839\u0131\3\2\2\2\u083a\u083b\7\30\2\2\u083b\u083c\7\u0093\2\2"+
+		"\u083c\u0133\3\2\2\2\u083d\u083e\7\31\2\2\u083e\u083f\7\u0093\2\2\u083f"+
+		"\u0135\3\2\2\2\u0840\u0841\7\32\2\2\u0841\u0842\7\u0093\2\2\u0842\u0137"+
+		"\3\2\2\2\u0843\u0844\7\33\2\2\u0844\u0845\7\u0093\2\2\u0845\u0139\3\2"+
+		"\2\2\u0846\u0847\7\34\2\2\u0847\u0848\7\u0093\2\2\u0848\u013b\3\2\2\2"+
+		"\u0849\u084a\7\35\2\2\u084a\u084b\7\u0093\2\2\u084b\u013d\3\2\2\2\u084c"+
+		"\u084d\7\36\2\2\u084d\u084e\7\u0093\2\2\u084e\u013f\3\2\2\2\u084f\u0850"+
+		"\7\37\2\2\u0850\u0851\7\u0093\2\2\u0851\u0141\3\2\2\2\u0852\u0853\7 \2"+
+		"\2\u0853\u0854\7\u0093\2\2\u0854\u0143\3\2\2\2\u0855\u0856\7!\2\2\u0856"+
+		"\u0857\7\u0093\2\2\u0857\u0145\3\2\2\2\u0858\u0859\7\"\2\2\u0859\u085a"+
+		"\7\u0093\2\2\u085a\u0147\3\2\2\2\u085b\u085c\7#\2\2\u085c\u085d\7\u0093"+
+		"\2\2\u085d\u0149\3\2\2\2\u085e\u085f\7$\2\2\u085f\u0860\7\u0093\2\2\u0860"+
+		"\u014b\3\2\2\2\u0861\u0862\7%\2\2\u0862\u0863\7\u0093\2\2\u0863\u014d"+
+		"\3\2\2\2\u0864\u0865\7&\2\2\u0865\u0866\7\u0093\2\2\u0866\u014f\3\2\2"+
+		"\2\u0867\u0868\7\'\2\2\u0868\u0869\7\u0093\2\2\u0869\u0151\3\2\2\2\u086a"+
+		"\u086b\7(\2\2\u086b\u086c\7\u0093\2\2\u086c\u0153\3\2\2\2\u086d\u086e"+
+		"\7)\2\2\u086e\u086f\7\u0093\2\2\u086f\u0155\3\2\2\2\u0870\u0871\7*\2\2"+
+		"\u0871\u0872\7\u0093\2\2\u0872\u0157\3\2\2\2\u0873\u0874\7+\2\2\u0874"+
+		"\u0875\7\u0093\2\2\u0875\u0159\3\2\2\2\u0876\u0877\7,\2\2\u0877\u0878"+
+		"\7\u0093\2\2\u0878\u015b\3\2\2\2\u0879\u087a\7-\2\2\u087a\u087b\7\u0093"+
+		"\2\2\u087b\u015d\3\2\2\2\u087c\u087d\7.\2\2\u087d\u087e\7\u0093\2\2\u087e"+
+		"\u015f\3\2\2\2\u087f\u0880\7/\2\2\u0880\u0881\7\u0093\2\2\u0881\u0161"+
+		"\3\2\2\2\u0882\u0883\7\60\2\2\u0883\u0884\7\u0093\2\2\u0884\u0163\3\2"+
+		"\2\2\u0885\u0886\7\61\2\2\u0886\u0887\7\u0093\2\2\u0887\u0165\3\2\2\2"+
+		"\u0888\u0889\7\62\2\2\u0889\u088a\7\u0093\2\2\u088a\u0167\3\2\2\2\u088b"+
+		"\u088c\7\63\2\2\u088c\u088d\7\u0093\2\2\u088d\u0169\3\2\2\2\u088e\u088f"+
+		"\7\64\2\2\u088f\u0890\7\u0093\2\2\u0890\u016b\3\2\2\2\u0891\u0892\7\65"+
+		"\2\2\u0892\u0893\7\u0093\2\2\u0893\u016d\3\2\2\2\u0894\u0895\7\66\2\2"+
+		"\u0895\u0896\7\u0093\2\2\u0896\u016f\3\2\2\2\u0897\u0898\7\67\2\2\u0898"+
+		"\u0899\7\u0093\2\2\u0899\u0171\3\2\2\2\u089a\u089b\78\2\2\u089b\u089c"+
+		"\7\u0093\2\2\u089c\u0173\3\2\2\2\u089d\u089e\79\2\2\u089e\u089f\7\u0093"+
+		"\2\2\u089f\u0175\3\2\2\2\u08a0\u08a1\7:\2\2\u08a1\u08a2\7\u0093\2\2\u08a2"+
+		"\u0177\3\2\2\2\u08a3\u08a4\7;\2\2\u08a4\u08a5\7\u0093\2\2\u08a5\u0179"+
+		"\3\2\2\2\u08a6\u08a7\7<\2\2\u08a7\u08a8\7\u0093\2\2\u08a8\u017b\3\2\2"+
+		"\2\u08a9\u08aa\7=\2\2\u08aa\u08ab\7\u0093\2\2\u08ab\u017d\3\2\2\2\u08ac"+
+		"\u08ad\7>\2\2\u08ad\u08ae\7\u0093\2\2\u08ae\u017f\3\2\2\2\u08af\u08b0"+
+		"\7?\2\2\u08b0\u08b1\7\u0093\2\2\u08b1\u0181\3\2\2\2\u08b2\u08b3\7@\2\2"+
+		"\u08b3\u08b4\7\u0093\2\2\u08b4\u0183\3\2\2\2\u08b5\u08b6\7A\2\2\u08b6"+
+		"\u08b7\7\u0093\2\2\u08b7\u0185\3\2\2\2\u08b8\u08b9\7B\2\2\u08b9\u08ba"+
+		"\7\u0093\2\2\u08ba\u0187\3\2\2\2\u08bb\u08bc\7C\2\2\u08bc\u08bd\7\u0093"+
+		"\2\2\u08bd\u0189\3\2\2\2\u08be\u08bf\7D\2\2\u08bf\u08c0\7\u0093\2\2\u08c0"+
+		"\u018b\3\2\2\2\u08c1\u08c2\7E\2\2\u08c2\u08c3\7\u0093\2\2\u08c3\u018d"+
+		"\3\2\2\2\u08c4\u08c5\7F\2\2\u08c5\u08c6\7\u0093\2\2\u08c6\u018f\3\2\2"+
+		"\2\u08c7\u08c8\7G\2\2\u08c8\u08c9\7\u0093\2\2\u08c9\u0191\3\2\2\2\u08ca"+
+		"\u08cb\7H\2\2\u08cb\u08cc\7\u0093\2\2\u08cc\u0193\3\2\2\2\u08cd\u08ce"+
+		"\7I\2\2\u08ce\u08cf\7\u0093\2\2\u08cf\u0195\3\2\2\2\u08d0\u08d1\7J\2\2"+
+		"\u08d1\u08d2\7\u0093\2\2\u08d2\u0197\3\2\2\2\u08d3\u08d4\7K\2\2\u08d4"+
+		"\u08d5\7\u0093\2\2\u08d5\u0199\3\2\2\2\u08d6\u08d7\7L\2\2\u08d7\u08d8"+
+		"\7\u0093\2\2\u08d8\u019b\3\2\2\2\u08d9\u08da\7M\2\2\u08da\u08db\7\u0093"+
+		"\2\2\u08db\u019d\3\2\2\2\u08dc\u08dd\7N\2\2\u08dd\u08de\7\u0093\2\2\u08de"+
+		"\u019f\3\2\2\2\u08df\u08e0\7O\2\2\u08e0\u08e1\7\u0093\2\2\u08e1\u01a1"+
+		"\3\2\2\2\u08e2\u08e3\7P\2\2\u08e3\u08e4\7\u0093\2\2\u08e4\u01a3\3\2\2"+
+		"\2\u08e5\u08e6\7Q\2\2\u08e6\u08e7\7\u0093\2\2\u08e7\u01a5\3\2\2\2\u08e8"+
+		"\u08e9\7R\2\2\u08e9\u08ea\7\u0093\2\2\u08ea\u01a7\3\2\2\2\u08eb\u08ec"+
+		"\7S\2\2\u08ec\u08ed\7\u0093\2\2\u08ed\u01a9\3\2\2\2\u08ee\u08ef\7T\2\2"+
+		"\u08ef\u08f0\7\u0093\2\2\u08f0\u01ab\3\2\2\2\u08f1\u08f2\7U\2\2\u08f2"+
+		"\u08f3\7\u0093\2\2\u08f3\u01ad\3\2\2\2\u08f4\u08f5\7V\2\2\u08f5\u08f6"+
+		"\7\u0093\2\2\u08f6\u01af\3\2\2\2\u08f7\u08f8\7W\2\2\u08f8\u08f9\7\u0093"+
+		"\2\2\u08f9\u01b1\3\2\2\2\u08fa\u08fb\7X\2\2\u08fb\u08fc\7\u0093\2\2\u08fc"+
+		"\u01b3\3\2\2\2\u08fd\u08fe\7Y\2\2\u08fe\u08ff\7\u0093\2\2\u08ff\u01b5"+
+		"\3\2\2\2\u0900\u0901\7Z\2\2\u0901\u0902\7\u0093\2\2\u0902\u01b7\3\2\2"+
+		"\2\u0903\u0904\7[\2\2\u0904\u0905\7\u0093\2\2\u0905\u01b9\3\2\2\2\u0906"+
+		"\u0907\7\\\2\2\u0907\u0908\7\u0093\2\2\u0908\u01bb\3\2\2\2\u0909\u090a"+
+		"\7]\2\2\u090a\u090b\7\u0093\2\2\u090b\u01bd\3\2\2\2\u090c\u090d\7^\2\2"+
+		"\u090d\u090e\7\u0093\2\2\u090e\u01bf\3\2\2\2\u090f\u0910\7_\2\2\u0910"+
+		"\u0911\7\u0093\2\2\u0911\u01c1\3\2\2\2\u0912\u0913\7`\2\2\u0913\u0914"+
+		"\7\u0093\2\2\u0914\u01c3\3\2\2\2\u0915\u0916\7a\2\2\u0916\u0917\7\u0093"+
+		"\2\2\u0917\u01c5\3\2\2\2\u0918\u0919\7b\2\2\u0919\u091a\7\u0093\2\2\u091a"+
+		"\u01c7\3\2\2\2\u091b\u091c\7c\2\2\u091c\u091d\7\u0093\2\2\u091d\u01c9"+
+		"\3\2\2\2\u091e\u091f\7d\2\2\u091f\u0920\7\u0093\2\2\u0920\u01cb\3\2\2"+
+		"\2\u0921\u0922\7e\2\2\u0922\u0923\7\u0093\2\2\u0923\u01cd\3\2\2\2\u0924"+
+		"\u0925\7f\2\2\u0925\u0926\7\u0093\2\2\u0926\u01cf\3\2\2\2\u0927\u0928"+
+		"\7g\2\2\u0928\u0929\7\u0093\2\2\u0929\u01d1\3\2\2\2\u092a\u092b\7h\2\2"+
+		"\u092b\u092c\7\u0093\2\2\u092c\u01d3\3\2\2\2\u092d\u092e\7i\2\2\u092e"+
+		"\u092f\7\u0093\2\2\u092f\u01d5\3\2\2\2\u0930\u0931\7j\2\2\u0931\u0932"+
+		"\7\u0093\2\2\u0932\u01d7\3\2\2\2\u0933\u0934\7k\2\2\u0934\u0935\7\u0093"+
+		"\2\2\u0935\u01d9\3\2\2\2\u0936\u0937\7l\2\2\u0937\u0938\7\u0093\2\2\u0938"+
+		"\u01db\3\2\2\2\u0939\u093a\7m\2\2\u093a\u093b\7\u0093\2\2\u093b\u01dd"+
+		"\3\2\2\2\u093c\u093d\7n\2\2\u093d\u093e\7\u0093\2\2\u093e\u01df\3\2\2"+
+		"\2\u093f\u0940\7o\2\2\u0940\u0941\7\u0093\2\2\u0941\u01e1\3\2\2\2\u0942"+
+		"\u0943\7p\2\2\u0943\u0944\7\u0093\2\2\u0944\u01e3\3\2\2\2\u0945\u0946"+
+		"\7q\2\2\u0946\u0947\7\u0093\2\2\u0947\u01e5\3\2\2\2\u0948\u0949\7r\2\2"+
+		"\u0949\u094a\7\u0093\2\2\u094a\u01e7\3\2\2\2\u094b\u094c\7s\2\2\u094c"+
+		"\u094d\7\u0093\2\2\u094d\u01e9\3\2\2\2\u094e\u094f\7t\2\2\u094f\u0950"+
+		"\7\u0093\2\2\u0950\u01eb\3\2\2\2\u0951\u0952\7u\2\2\u0952\u0953\7\u0093"+
+		"\2\2\u0953\u01ed\3\2\2\2\u0954\u0955\7v\2\2\u0955\u0956\7\u0093\2\2\u0956"+
+		"\u01ef\3\2\2\2\u0957\u0958\7w\2\2\u0958\u0959\7\u0093\2\2\u0959\u01f1"+
+		"\3\2\2\2\u095a\u095b\7x\2\2\u095b\u095c\7\u0093\2\2\u095c\u01f3\3\2\2"+
+		"\2\u095d\u095e\7y\2\2\u095e\u095f\7\u0093\2\2\u095f\u01f5\3\2\2\2\u0960"+
+		"\u0961\7z\2\2\u0961\u0962\7\u0093\2\2\u0962\u01f7\3\2\2\2\u0963\u0964"+
+		"\7{\2\2\u0964\u0965\7\u0093\2\2\u0965\u01f9\3\2\2\2\u0966\u0967\7|\2\2"+
+		"\u0967\u0968\7\u0093\2\2\u0968\u01fb\3\2\2\2\u0969\u096a\7}\2\2\u096a"+
+		"\u096b\7\u0093\2\2\u096b\u01fd\3\2\2\2\u096c\u096d\7~\2\2\u096d\u096e"+
+		"\7\u0093\2\2\u096e\u01ff\3\2\2\2\u096f\u0970\7\177\2\2";
+	private static final String _serializedATNSegment1 =
+		"\u0970\u0971\7\u0093\2\2\u0971\u0201\3\2\2\2\u0972\u0973\7\u0080\2\2\u0973"+
+		"\u0974\7\u0093\2\2\u0974\u0203\3\2\2\2\u0975\u0976\7\u0081\2\2\u0976\u0977"+
+		"\7\u0093\2\2\u0977\u0205\3\2\2\2\u0978\u0979\7\u0082\2\2\u0979\u097a\7"+
+		"\u0093\2\2\u097a\u0207\3\2\2\2\u097b\u097c\7\u0083\2\2\u097c\u097d\7\u0093"+
+		"\2\2\u097d\u0209\3\2\2\2\u097e\u097f\7\u0084\2\2\u097f\u0980\7\u0093\2"+
+		"\2\u0980\u020b\3\2\2\2\u0981\u0982\7\u0085\2\2\u0982\u0983\7\u0093\2\2"+
+		"\u0983\u020d\3\2\2\2\u0984\u0985\7\u0086\2\2\u0985\u0986\7\u0093\2\2\u0986"+
+		"\u020f\3\2\2\2\u0987\u0988\7\u0087\2\2\u0988\u0989\7\u0093\2\2\u0989\u0211"+
+		"\3\2\2\2\u098a\u098b\7\u0088\2\2\u098b\u098c\7\u0093\2\2\u098c\u0213\3"+
+		"\2\2\2\u098d\u098e\7\u0089\2\2\u098e\u098f\7\u0093\2\2\u098f\u0215\3\2"+
+		"\2\2\u0990\u0991\7\u008a\2\2\u0991\u0992\7\u0093\2\2\u0992\u0217\3\2\2"+
+		"\2\u0993\u0994\7\u008b\2\2\u0994\u0995\7\u0093\2\2\u0995\u0219\3\2\2\2"+
+		"\u0996\u0997\7\u008c\2\2\u0997\u0998\7\u0093\2\2\u0998\u021b\3\2\2\2\u0999"+
+		"\u099a\7\u008d\2\2\u099a\u099b\7\u0093\2\2\u099b\u021d\3\2\2\2\u099c\u099d"+
+		"\7\u008e\2\2\u099d\u099e\7\u0093\2\2\u099e\u021f\3\2\2\2\u099f\u09a0\7"+
+		"\u008f\2\2\u09a0\u09a1\7\u0093\2\2\u09a1\u0221\3\2\2\2\u09a2\u09a3\7\u0090"+
+		"\2\2\u09a3\u09a4\7\u0093\2\2\u09a4\u0223\3\2\2\2\u09a5\u09a6\7\u0091\2"+
+		"\2\u09a6\u09a7\7\u0093\2\2\u09a7\u0225\3\2\2\2\u00fa\u0229\u022e\u0230"+
+		"\u0232\u0237\u023e\u0240\u0244\u0246\u024c\u024e\u0299\u02a3\u02a5\u02a9"+
+		"\u02ae\u02b3\u02b9\u02be\u02c1\u02c7\u02cf\u02d4\u02d9\u02e1\u02e3\u02ea"+
+		"\u02ed\u02f3\u02f7\u02f9\u0301\u0306\u0309\u030c\u0310\u0315\u0318\u031b"+
+		"\u031e\u0323\u0327\u032c\u0330\u0336\u033c\u0340\u0343\u0349\u034f\u0353"+
+		"\u0356\u035b\u035f\u0361\u0364\u0367\u036a\u036f\u0375\u0379\u037e\u0382"+
+		"\u0388\u038e\u0392\u0395\u039a\u039e\u03a3\u03a7\u03ad\u03b3\u03b7\u03ba"+
+		"\u03be\u03df\u03eb\u03f7\u0430\u0433\u043b\u0441\u0446\u044b\u0452\u0456"+
+		"\u0459\u045e\u0462\u0467\u046c\u046f\u0472\u0475\u0478\u047d\u0484\u048b"+
+		"\u0491\u0499\u04a4\u04aa\u04b0\u04b4\u04b9\u04bf\u04c4\u04cb\u04d6\u04d8"+
+		"\u04dc\u04de\u04e3\u04e6\u04ea\u04ef\u04f3\u04f8\u04fb\u0501\u0505\u0508"+
+		"\u050e\u0512\u0518\u051c\u0520\u0522\u0524\u052b\u052e\u0532\u0534\u0539"+
+		"\u053d\u0543\u0547\u0549\u054e\u0550\u0554\u0559\u055f\u0561\u0567\u0570"+
+		"\u0573\u0575\u057d\u0583\u0587\u058c\u058f\u0593\u0599\u059d\u05a0\u05a5"+
+		"\u05ab\u05ad\u05b2\u05b6\u05b9\u05bf\u05c3\u05c6\u05cb\u05d4\u05d6\u05d9"+
+		"\u05de\u05e0\u05e6\u05e8\u05f0\u05f5\u05f7\u05fb\u05ff\u0603\u0608\u060a"+
+		"\u0611\u061e\u0627\u062c\u0637\u063f\u0647\u0654\u065a\u065e\u0661\u0666"+
+		"\u0670\u0680\u0689\u068e\u0697\u069e\u06a1\u06a6\u06c3\u06c5\u06c8\u06cc"+
+		"\u06d7\u06e1\u06e6\u06ed\u06f0\u06f4\u0706\u070e\u0713\u0715\u071d\u0721"+
+		"\u0726\u072c\u0733\u0735\u073a\u0743\u074d\u0754\u075a\u075e\u0766\u076f"+
+		"\u077b\u0784\u078a\u078c\u0793\u079a\u079e\u07a9\u07ad\u07b1\u07bc\u07c2"+
+		"\u07ca\u07ce\u07e2\u07f5\u07f9";
+	public static final String _serializedATN = Utils.join(
+		new String[] {
+			_serializedATNSegment0,
+			_serializedATNSegment1
+		},
+		""
+	);
+	public static final ATN _ATN =
+		new ATNDeserializer().deserialize(_serializedATN.toCharArray());
+	static {
+	}
+}
\ No newline at end of file
@@ -0,0 +1,90 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import static uk.ac.cam.ch.wwmm.chemicaltagger.Utils.readSentence;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import nu.xom.Document;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+/*****************************
+ * Tests that batch processing gives the same results, in the same order,
+ * as processing each text on its own.
+ *****************************/
+public class ChemicalTaggerPipelineTest {
+
+	private static List<String> loadParagraphs() {
+		List<String> paragraphs = new ArrayList<String>();
+		for (int i = 1; i <= 9; i++) {
+			paragraphs.add(readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/tagTest/test" + i + ".txt"));
+		}
+		for (int i = 1; i <= 16; i++) {
+			paragraphs.add(readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph" + i + ".txt"));
+		}
+		return paragraphs;
+	}
+
+	@Test
+	public void testProcessAllMatchesSequential() {
+		List<String> paragraphs = loadParagraphs();
+		ChemicalTaggerPipeline pipeline = new ChemicalTaggerPipeline(4);
+		try {
+			List<Document> docs = pipeline.processAll(paragraphs);
+			Assert.assertEquals(paragraphs.size(), docs.size());
+			for (int i = 0; i < paragraphs.size(); i++) {
+				Assert.assertEquals(Utils.runChemicalTagger(paragraphs.get(i)).toXML(), docs.get(i).toXML());
+			}
+		}
+		finally {
+			pipeline.shutdown();
+		}
+	}
+
+	@Test
+	public void testBatchRunTaggersMatchesSequential() {
+		List<String> paragraphs = loadParagraphs();
+		ChemistryPOSTagger posTagger = ChemistryPOSTagger.getDefaultInstance();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			List<POSContainer> posContainers = posTagger.runTaggers(paragraphs, executor);
+			Assert.assertEquals(paragraphs.size(), posContainers.size());
+			for (int i = 0; i < paragraphs.size(); i++) {
+				Assert.assertEquals(posTagger.runTaggers(paragraphs.get(i)).getTokenTagTupleAsString(), posContainers.get(i).getTokenTagTupleAsString());
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testEmptyBatch() {
+		ChemicalTaggerPipeline pipeline = new ChemicalTaggerPipeline(1);
+		try {
+			Assert.assertEquals(0, pipeline.processAll(new ArrayList<String>()).size());
+		}
+		finally {
+			pipeline.shutdown();
+		}
+	}
+}
@@ -18,6 +18,8 @@ package uk.ac.cam.ch.wwmm.chemicaltagger;
 import static uk.ac.cam.ch.wwmm.chemicaltagger.Utils.readSentence;
 
 import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import org.junit.Assert;
 import org.junit.Test;
@@ -128,6 +130,30 @@ public class ChemistryPOSTaggerTest {
 		Assert.assertEquals("", posContainer.getTokenTagTupleAsString());
 	}
 
+	@Test
+	public void concurrentTaggersGiveSameTags() {
+		ChemistryPOSTagger defaultTagger = ChemistryPOSTagger.getDefaultInstance();
+		ChemistryPOSTagger concurrentTagger = new ChemistryPOSTagger(defaultTagger.getCTTokeniser(), defaultTagger.getTaggersOrderedInDescendingPriority());
+		ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			concurrentTagger.setTaggerExecutor(executor);
+			for (int i = 1; i <= 9; i++) {
+				String sentence = readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/tagTest/test" + i + ".txt");
+				posContainer = concurrentTagger.runTaggers(sentence);
+				String ref = defaultTagger.runTaggers(sentence).getTokenTagTupleAsString();
+				Assert.assertEquals(ref, posContainer.getTokenTagTupleAsString());
+				checkLengthofTags();
+			}
+		}
+		finally {
+			executor.shutdown();
+		}
+		//taggers the executor refuses are run on the calling thread
+		String sentence = readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/tagTest/test1.txt");
+		posContainer = concurrentTagger.runTaggers(sentence);
+		Assert.assertEquals(readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/tagTest/ref1.txt"), posContainer.getTokenTagTupleAsString());
+	}
+
 	private void checkLengthofTags() {
 		int size = posContainer.getTagListContainer().get(0).size();
 		for (List<String> tagList : posContainer.getTagListContainer()) {
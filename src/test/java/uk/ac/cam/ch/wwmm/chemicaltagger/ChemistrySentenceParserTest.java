@@ -15,16 +15,52 @@
  */
 package uk.ac.cam.ch.wwmm.chemicaltagger;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamWriter;
 
 import org.junit.Assert;
+import nu.xom.Builder;
 import nu.xom.Document;
+import nu.xom.Element;
+import nu.xom.Nodes;
 
+import org.antlr.v4.runtime.ANTLRInputStream;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.atn.PredictionMode;
+import org.antlr.v4.runtime.misc.ParseCancellationException;
 import org.antlr.v4.runtime.tree.Tree;
 import org.apache.commons.io.IOUtils;
 import org.junit.Test;
 
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerBaseListener;
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerLexer;
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser;
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser.DocumentContext;
+import uk.ac.cam.ch.wwmm.chemicaltagger.pregenerated.ChemicalChunkerParser.SentenceContext;
+import uk.ac.cam.ch.wwmm.oscar.types.BioTag;
+import uk.ac.cam.ch.wwmm.oscar.types.BioType;
+
 /*****************************
  * Passes Tagged Sentences to the antlr chunker. Then checks the output of the
  * AST tree using the checkNodes(astTree) module.
@@ -125,4 +161,324 @@ public class ChemistrySentenceParserTest {
 
 	}
 
+	@Test
+	public void testTokenSourceGivesSameTokensAsLexer() {
+		for (int i = 1; i <= 16; i++) {
+			String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph" + i + ".txt");
+			checkSameTokensAsLexer(ChemistryPOSTagger.getDefaultInstance().runTaggers(paragraph));
+		}
+		checkSameTokensAsLexer(new POSContainer());
+		checkSameTokensAsLexer(createPOSContainer(Arrays.asList("NN", "DT", "", "CD"), "NN", "the", "ignored", "1"));
+		checkSameTokensAsLexer(createPOSContainer(Arrays.asList("NN", "NN", "NN", "NN", "NN"), "\na", "b\n", "\r\t", "c d", "e  \nf"));
+		checkSameTokensAsLexer(createPOSContainer(Arrays.asList("NN", "nn", "NN-UNKNOWN"), "\u0001x", "y\n", "\u0001"));
+		checkSameTokensAsLexer(createPOSContainer(Arrays.asList(" NN", "NN "), " ", "x"));
+	}
+
+	@Test
+	public void testPOSContainerGivesSameParseAsTaggedString() {
+		for (int i = 1; i <= 16; i++) {
+			String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph" + i + ".txt");
+			POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(paragraph);
+			ChemistrySentenceParser containerParser = new ChemistrySentenceParser(posContainer);
+			containerParser.parseTags();
+			ChemistrySentenceParser stringParser = new ChemistrySentenceParser(posContainer.getTokenTagTupleAsString());
+			stringParser.parseTags();
+			Assert.assertEquals(stringParser.getParseTree().toStringTree(), containerParser.getParseTree().toStringTree());
+			Assert.assertEquals(stringParser.makeXMLDocument().toXML(), containerParser.makeXMLDocument().toXML());
+		}
+	}
+
+	@Test
+	public void testReusedParserGivesSameParse() {
+		ChemicalChunkerParserPool parserPool = ChemicalChunkerParserPool.getInstance();
+		for (int i = 1; i <= 8; i++) {
+			String input = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/sentenceParserTest/sentence" + i + ".txt");
+			parserPool.clearParserPool();
+			String newParserTree = parse(input).toStringTree();
+			Assert.assertEquals(1, parserPool.getPooledParserCount());
+			Assert.assertEquals(newParserTree, parse(input).toStringTree());
+			Assert.assertEquals(1, parserPool.getPooledParserCount());
+		}
+	}
+
+	@Test
+	public void testClearDFA() {
+		ChemicalChunkerParserPool parserPool = ChemicalChunkerParserPool.getInstance();
+		String input = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/sentenceParserTest/sentence1.txt");
+		String tree = parse(input).toStringTree();
+		Assert.assertTrue(parserPool.getParserDFAStateCount() > 0);
+		Assert.assertTrue(parserPool.getLexerDFAStateCount() > 0);
+
+		parserPool.clearDFA();
+		Assert.assertEquals(0, parserPool.getParserDFAStateCount());
+		Assert.assertEquals(0, parserPool.getLexerDFAStateCount());
+
+		Assert.assertEquals(tree, parse(input).toStringTree());
+		Assert.assertTrue(parserPool.getParserDFAStateCount() > 0);
+	}
+
+	@Test
+	public void testSentenceAtATimeGivesSameParseAsDocumentRule() {
+		ChemicalChunkerParserPool parserPool = ChemicalChunkerParserPool.getInstance();
+		for (int i = 1; i <= 16; i++) {
+			String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph" + i + ".txt");
+			POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(paragraph);
+			ChemicalChunkerParser documentParser = createSLLParser(posContainer);
+			String expected = documentParser.document().toStringTree(documentParser);
+
+			long sllSentenceCount = parserPool.getSLLSentenceCount();
+			ChemicalChunkerParser sentenceParser = createSLLParser(posContainer);
+			DocumentContext documentContext = ChemistrySentenceParser.parseDocument(sentenceParser);
+			Assert.assertEquals(expected, documentContext.toStringTree(sentenceParser));
+			Assert.assertTrue(parserPool.getSLLSentenceCount() >= sllSentenceCount + documentContext.getChildCount());
+		}
+	}
+
+	@Test
+	public void testOnlyFailingSentenceIsParsedWithLL() {
+		ChemicalChunkerParserPool parserPool = ChemicalChunkerParserPool.getInstance();
+		String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph1.txt");
+		POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(paragraph);
+		ChemicalChunkerParser documentParser = createSLLParser(posContainer);
+		String expected = documentParser.document().toStringTree(documentParser);
+
+		final ChemicalChunkerParser sentenceParser = createSLLParser(posContainer);
+		//fail the first SLL parse of the second sentence
+		sentenceParser.addParseListener(new ChemicalChunkerBaseListener() {
+			private int sentenceCount = 0;
+			@Override
+			public void enterSentence(SentenceContext ctx) {
+				if (++sentenceCount == 2) {
+					Assert.assertEquals(PredictionMode.SLL, sentenceParser.getInterpreter().getPredictionMode());
+					throw new RuntimeException("SLL failure");
+				}
+			}
+		});
+		long llSentenceCount = parserPool.getLLSentenceCount();
+		DocumentContext documentContext = ChemistrySentenceParser.parseDocument(sentenceParser);
+		Assert.assertEquals(expected, documentContext.toStringTree(sentenceParser));
+		Assert.assertTrue(documentContext.getChildCount() > 2);
+		Assert.assertTrue(parserPool.getLLSentenceCount() >= llSentenceCount + 1);
+		Assert.assertEquals(PredictionMode.SLL, sentenceParser.getInterpreter().getPredictionMode());
+	}
+
+	@Test
+	public void testParseAsync() throws Exception {
+		String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph1.txt");
+		POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(paragraph);
+		ChemistrySentenceParser chemChunkParser = new ChemistrySentenceParser(posContainer);
+		chemChunkParser.parseTags();
+		String expected = chemChunkParser.makeXMLDocument().toXML();
+
+		ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			Future<Document> future = ChemistrySentenceParser.parseAsync(posContainer, executor);
+			Assert.assertEquals(expected, future.get(60, TimeUnit.SECONDS).toXML());
+		}
+		finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void testInterruptCancelsParse() {
+		String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph1.txt");
+		POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(paragraph);
+		ChemistrySentenceParser chemChunkParser = new ChemistrySentenceParser(posContainer);
+		Thread.currentThread().interrupt();
+		try {
+			chemChunkParser.parseTags();
+			Assert.fail("Parsing should have been cancelled");
+		} catch (ParseCancellationException e) {
+			Assert.assertNull(chemChunkParser.getParseTree());
+		} finally {
+			Thread.interrupted();
+		}
+		chemChunkParser.parseTags();
+		Assert.assertNotNull(chemChunkParser.getParseTree());
+	}
+
+	@Test
+	public void testSentenceOverTokenBudgetIsNotParsed() {
+		String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph1.txt");
+		POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(paragraph);
+		ChemistrySentenceParser unlimitedParser = new ChemistrySentenceParser(posContainer);
+		unlimitedParser.parseTags();
+		Nodes expectedSentences = unlimitedParser.makeXMLDocument(false).query("//Sentence");
+
+		ChemistrySentenceParser chemChunkParser = new ChemistrySentenceParser(posContainer);
+		chemChunkParser.setMaxSentenceTokens(20);
+		chemChunkParser.parseTags();
+		UtilityMethods.checkTreeText(chemChunkParser.getParseTree(), posContainer.getTokenTagTupleAsString());
+		Nodes sentences = chemChunkParser.makeXMLDocument(false).query("//Sentence");
+		Assert.assertEquals(expectedSentences.size(), sentences.size());
+		int unparsedCount = 0;
+		for (int i = 0; i < sentences.size(); i++) {
+			Element sentence = (Element) sentences.get(i);
+			Assert.assertEquals(expectedSentences.get(i).getValue(), sentence.getValue());
+			if (sentence.getAttribute("unparsed") != null) {
+				Assert.assertEquals("tokenBudget", sentence.getAttributeValue("unparsed"));
+				Assert.assertEquals(0, sentence.query("*[not(self::Unmatched or self::STOP)]").size());
+				unparsedCount++;
+			}
+			else {
+				Assert.assertEquals(expectedSentences.get(i).toXML(), sentence.toXML());
+			}
+		}
+		Assert.assertTrue(unparsedCount > 0);
+		Assert.assertTrue(unparsedCount < sentences.size());
+		Assert.assertEquals(unparsedCount, chemChunkParser.makeXMLDocument().query("//Sentence[@unparsed='tokenBudget']").size());
+	}
+
+	@Test
+	public void testSentencePastTimeoutIsNotParsed() {
+		List<String> tags = new ArrayList<String>();
+		List<String> surfaces = new ArrayList<String>();
+		for (int i = 0; i < 20000; i++) {
+			tags.add(i % 2 == 0 ? "NN" : "CD");
+			surfaces.add("x" + i);
+		}
+		tags.add("STOP");
+		surfaces.add(".");
+		POSContainer posContainer = createPOSContainer(tags, surfaces.toArray(new String[surfaces.size()]));
+		ChemistrySentenceParser chemChunkParser = new ChemistrySentenceParser(posContainer);
+		chemChunkParser.setSentenceTimeout(1);
+		chemChunkParser.parseTags();
+		Document doc = chemChunkParser.makeXMLDocument(false);
+		Nodes sentences = doc.query("//Sentence");
+		Assert.assertEquals(1, sentences.size());
+		Element sentence = (Element) sentences.get(0);
+		Assert.assertEquals("deadline", sentence.getAttributeValue("unparsed"));
+		Assert.assertEquals(20000, sentence.getChildElements("Unmatched").size());
+		Assert.assertEquals(1, sentence.getChildElements("STOP").size());
+	}
+
+	@Test
+	public void testWriteXMLGivesSameXMLAsMakeXMLDocument() throws Exception {
+		for (int i = 1; i <= 16; i++) {
+			String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph" + i + ".txt");
+			POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(paragraph);
+			ChemistrySentenceParser chemChunkParser = new ChemistrySentenceParser(posContainer);
+			chemChunkParser.parseTags();
+			String expectedWithoutActionPhrases = chemChunkParser.makeXMLDocument(false).toXML();
+			String expected = chemChunkParser.makeXMLDocument(true).toXML();
+
+			ByteArrayOutputStream out = new ByteArrayOutputStream();
+			ChemistrySentenceParser streamingParser = new ChemistrySentenceParser(posContainer);
+			streamingParser.writeXML(out);
+			Assert.assertNull(streamingParser.getParseTree());
+			Document streamed = new Builder().build(new ByteArrayInputStream(out.toByteArray()));
+			Assert.assertEquals(expected, streamed.toXML());
+
+			StringWriter stringWriter = new StringWriter();
+			XMLStreamWriter writer = XMLOutputFactory.newInstance().createXMLStreamWriter(stringWriter);
+			new ChemistrySentenceParser(posContainer).writeXML(writer, false);
+			writer.close();
+			streamed = new Builder().build(new StringReader(stringWriter.toString()));
+			Assert.assertEquals(expectedWithoutActionPhrases, streamed.toXML());
+		}
+	}
+
+	@Test
+	public void testWriteFailureIsNotParsedAgain() throws Exception {
+		POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers("The acid was dissolved in ethanol.");
+		final XMLStreamWriter delegate = XMLOutputFactory.newInstance().createXMLStreamWriter(new StringWriter());
+		XMLStreamWriter failingWriter = (XMLStreamWriter) Proxy.newProxyInstance(getClass().getClassLoader(),
+				new Class<?>[] {XMLStreamWriter.class}, new InvocationHandler() {
+			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+				if (method.getName().equals("writeStartElement") && args.length == 1 && args[0].equals("Sentence")) {
+					throw new XMLStreamException("Output closed");
+				}
+				try {
+					return method.invoke(delegate, args);
+				} catch (InvocationTargetException e) {
+					throw e.getCause();
+				}
+			}
+		});
+		ChemicalChunkerParserPool parserPool = ChemicalChunkerParserPool.getInstance();
+		long llDocumentCount = parserPool.getLLDocumentCount();
+		try {
+			new ChemistrySentenceParser(posContainer).writeXML(failingWriter, false);
+			Assert.fail("Writing should have failed");
+		} catch (RuntimeException e) {
+			Assert.assertTrue(e.getCause() instanceof XMLStreamException);
+		}
+		Assert.assertEquals(llDocumentCount, parserPool.getLLDocumentCount());
+	}
+
+	@Test
+	public void testPhraseTreeGivesSameXMLAsMakeXMLDocument() throws Exception {
+		for (int i = 1; i <= 16; i++) {
+			String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph" + i + ".txt");
+			POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(paragraph);
+			ChemistrySentenceParser chemChunkParser = new ChemistrySentenceParser(posContainer);
+			chemChunkParser.parseTags();
+			String expected = chemChunkParser.makeXMLDocument().toXML();
+			Assert.assertEquals(expected, chemChunkParser.makeXMLDocument().toXML());
+
+			ChemistrySentenceParser treeParser = new ChemistrySentenceParser(posContainer);
+			treeParser.parseTags();
+			PhraseNode root = treeParser.getPhraseTree(true);
+			Assert.assertEquals(expected, new Document(root.toXML()).toXML());
+			Assert.assertSame(root, treeParser.getPhraseTree(true));
+			Assert.assertEquals(0, root.getStart());
+			int terminalCount = 0;
+			List<PhraseNode> nodes = new ArrayList<PhraseNode>();
+			nodes.add(root);
+			while (!nodes.isEmpty()) {
+				PhraseNode node = nodes.remove(nodes.size() - 1);
+				if (node.isTerminal()) {
+					terminalCount++;
+				}
+				for (int j = 0; j < node.getChildCount(); j++) {
+					nodes.add(node.getChild(j));
+				}
+			}
+			Assert.assertEquals(terminalCount, root.getEnd());
+		}
+	}
+
+	private ChemicalChunkerParser createSLLParser(POSContainer posContainer) {
+		ChemicalChunkerParser parser = new ChemicalChunkerParser(new CommonTokenStream(new POSContainerTokenSource(posContainer)));
+		parser.getInterpreter().setPredictionMode(PredictionMode.SLL);
+		return parser;
+	}
+
+	private Tree parse(String input) {
+		ChemistrySentenceParser chemChunkParser = new ChemistrySentenceParser(input);
+		chemChunkParser.parseTags();
+		return chemChunkParser.getParseTree();
+	}
+
+	private void checkSameTokensAsLexer(POSContainer posContainer) {
+		String tuples = posContainer.getTokenTagTupleAsString();
+		TokenSource lexer = new ChemicalChunkerLexer(new ANTLRInputStream(tuples));
+		TokenSource tokenSource = new POSContainerTokenSource(posContainer);
+		while (true) {
+			Token expected = lexer.nextToken();
+			Token actual = tokenSource.nextToken();
+			String message = tuples + " at " + expected;
+			Assert.assertEquals(message, expected.getType(), actual.getType());
+			Assert.assertEquals(message, expected.getText(), actual.getText());
+			Assert.assertEquals(message, expected.getStartIndex(), actual.getStartIndex());
+			Assert.assertEquals(message, expected.getStopIndex(), actual.getStopIndex());
+			Assert.assertEquals(message, expected.getLine(), actual.getLine());
+			Assert.assertEquals(message, expected.getCharPositionInLine(), actual.getCharPositionInLine());
+			if (expected.getType() == Token.EOF) {
+				break;
+			}
+		}
+	}
+
+	private POSContainer createPOSContainer(List<String> tags, String... surfaces) {
+		POSContainer posContainer = new POSContainer();
+		List<uk.ac.cam.ch.wwmm.oscar.document.Token> tokens = new ArrayList<uk.ac.cam.ch.wwmm.oscar.document.Token>();
+		for (String surface : surfaces) {
+			tokens.add(new uk.ac.cam.ch.wwmm.oscar.document.Token(surface, 0, surface.length(), null, new BioType(BioTag.O), null));
+		}
+		posContainer.setWordTokenList(tokens);
+		posContainer.setCombinedTagsList(tags);
+		return posContainer;
+	}
 }
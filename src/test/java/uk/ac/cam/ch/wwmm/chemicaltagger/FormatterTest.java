@@ -88,6 +88,12 @@ public class FormatterTest {
 		assertEquals("The compound copper(1+) chloride is normally misrecognised.", normalisedText);
 	}
 
+	@Test
+	public void testNormalisationsTogether(){
+		String normalisedText = Formatter.normaliseText("Sulphur  (IV) oxide and iron (2\u2212) at 25\u00b0 \tC.");
+		assertEquals("sulfur(IV) oxide and iron(2-) at 25 \u00b0C.", normalisedText);
+	}
+
 	@Test
 	public void testCompoundReference(){
 		String normalisedText = Formatter.normaliseText("This reference to compound (I) should be untouched.");
@@ -143,6 +149,18 @@ public class FormatterTest {
 		assertEquals("( V )", whiteSpaceTokeniseAndSubtokenise("(V)"));
 	}
 
+	@Test
+	public void testSubTokensAreDividedFurther() {
+		List<Token> tokens = new WhiteSpaceTokeniser().tokenise("add (4.5kg) now");
+		List<Token> subTokens = Formatter.subTokeniseTokens(tokens);
+		assertEquals(3, tokens.size());
+		assertEquals("add ( 4.5 kg ) now", Utils.tokensToSpaceDelimitedStr(subTokens));
+		Token kg = subTokens.get(3);
+		assertEquals(3, kg.getIndex());
+		assertEquals(8, kg.getStart());
+		assertEquals(10, kg.getEnd());
+	}
+
 	private static String whiteSpaceTokeniseAndSubtokenise(String str) {
 		List<Token> tokens = new WhiteSpaceTokeniser().tokenise(str);
 		tokens = Formatter.subTokeniseTokens(tokens);
@@ -0,0 +1,79 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import uk.ac.cam.ch.wwmm.chemicaltagger.ModelRegistry.Component;
+
+public class ModelRegistryTest {
+
+	@Test
+	public void testComponentsAreShared() {
+		ModelRegistry models = ModelRegistry.getInstance();
+		Assert.assertSame(OpenNLPTagger.getInstance(), models.getOpenNLPTagger());
+		Assert.assertSame(models.getRegexTagger(), models.getRegexTagger());
+		ChemistryPOSTagger posTagger = ChemistryPOSTagger.getDefaultInstance();
+		Assert.assertSame(models.getOscarTagger(), posTagger.getOscarTagger());
+		Assert.assertSame(models.getRegexTagger(), posTagger.getRegexTagger());
+	}
+
+	@Test
+	public void testReadyOnceLoaded() {
+		ModelRegistry models = ModelRegistry.getInstance();
+		models.warmUp();
+		for (Component<?> component : models.getComponents()) {
+			Assert.assertNotNull(component.get());
+			Assert.assertTrue(component.isStarted());
+			Assert.assertTrue(component.isLoaded());
+			Assert.assertTrue(component.getLoadTimeMillis() >= 0);
+		}
+		Assert.assertTrue(models.isReady());
+		String report = models.getLoadReport();
+		Assert.assertEquals(models.getComponents().size(), report.split("\n").length);
+		Assert.assertTrue(report.contains("OSCAR tagger: loaded in "));
+	}
+
+	@Test
+	public void testFailedLoadIsRetried() {
+		final AtomicInteger attempts = new AtomicInteger();
+		Component<String> component = new Component<String>("Test model", new Callable<String>() {
+			public String call() {
+				if (attempts.incrementAndGet() == 1) {
+					throw new IllegalStateException("missing resource");
+				}
+				return "model";
+			}
+		});
+		try {
+			component.get();
+			Assert.fail("Expected the first load to fail");
+		} catch (IllegalStateException e) {
+			Assert.assertEquals("missing resource", e.getMessage());
+		}
+		Assert.assertFalse(component.isLoaded());
+		Assert.assertFalse(component.isStarted());
+		Assert.assertEquals("Test model: failed to load, will be retried", component.toString());
+		Assert.assertEquals("model", component.get());
+		Assert.assertTrue(component.isLoaded());
+		Assert.assertEquals("model", component.get());
+		Assert.assertEquals(2, attempts.get());
+	}
+}
@@ -15,8 +15,10 @@
  */
 package uk.ac.cam.ch.wwmm.chemicaltagger;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 
 import org.junit.Test;
 
@@ -83,5 +85,21 @@ public class OpenNLPTaggerTest {
 		}
 	}
 	
+	@Test
+	public void pooledTaggerGivesSameTags() {
+		OpenNLPTagger tagger = OpenNLPTagger.getInstance();
+		String[] first = "the cat sat on the mat".split("\\s");
+		String[] second = "time flies like an arrow".split("\\s");
+		String[] expectedFirst = tagger.getTagger().tag(first);
+		String[] expectedSecond = tagger.getTagger().tag(second);
+		for (int i = 0; i < 3; i++) {
+			assertArrayEquals(expectedFirst, tagger.tag(first));
+			assertArrayEquals(expectedSecond, tagger.tag(second));
+		}
+		assertTrue(tagger.getPooledTaggerCount() >= 1);
+		tagger.clearTaggerPool();
+		assertEquals(0, tagger.getPooledTaggerCount());
+		assertArrayEquals(expectedFirst, tagger.tag(first));
+	}
 
 }
@@ -0,0 +1,60 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import static uk.ac.cam.ch.wwmm.chemicaltagger.Utils.readSentence;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import uk.ac.cam.ch.wwmm.oscar.document.Token;
+
+/***********************************************
+ * Tests the OscarTagger Class
+ ***********************************************/
+public class OscarTaggerTest {
+
+	@Test
+	public void batchGivesSameTagsAsOneSentenceAtATime() {
+		OscarTagger oscarTagger = ChemistryPOSTagger.getDefaultInstance().getOscarTagger();
+		List<String> sentences = new ArrayList<String>();
+		for (int i = 1; i <= 16; i++) {
+			sentences.add(Formatter.normaliseText(readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph" + i + ".txt")));
+		}
+		//the same text twice in a row gives named entities at the same offsets within each sentence
+		sentences.add(sentences.get(0));
+		sentences.add("");
+
+		List<List<Token>> tokenLists = new ArrayList<List<Token>>();
+		List<List<String>> expectedTagLists = new ArrayList<List<String>>();
+		for (String sentence : sentences) {
+			List<Token> tokens = Formatter.subTokeniseTokens(new OscarTokeniser().tokenise(sentence));
+			tokenLists.add(tokens);
+			expectedTagLists.add(oscarTagger.runTagger(tokens, sentence));
+		}
+		List<List<String>> tagLists = oscarTagger.runTagger(tokenLists, sentences);
+		Assert.assertEquals(expectedTagLists, tagLists);
+	}
+
+	@Test
+	public void emptyBatch() {
+		OscarTagger oscarTagger = ChemistryPOSTagger.getDefaultInstance().getOscarTagger();
+		Assert.assertTrue(oscarTagger.runTagger(new ArrayList<List<Token>>(), new ArrayList<String>()).isEmpty());
+	}
+}
@@ -16,6 +16,9 @@
 package uk.ac.cam.ch.wwmm.chemicaltagger;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
 
 import java.util.Arrays;
 import java.util.List;
@@ -79,4 +82,49 @@ public class POSContainerTest {
 		assertEquals("OSCAR-ASE", combinedTagList.get(2));
 		assertEquals("RBR", combinedTagList.get(3));
 	}
+
+	@Test
+	public void testCombinedTagsAreTagIds() {
+		POSContainer posContainer = new POSContainer();
+		posContainer.registerTagList(Arrays.asList(new String[]{"nil", "OSCAR-CM", "nil"}));
+		posContainer.registerTagList(Arrays.asList(new String[]{"CC", "NN", "SOME-NEW-TAG"}));
+		posContainer.combineTaggers();
+		TagRegistry registry = TagRegistry.getInstance();
+		TagList combinedTags = posContainer.getCombinedTags();
+		assertEquals(registry.getId("CC"), combinedTags.getId(0));
+		assertEquals(registry.getId("OSCAR-CM"), combinedTags.getId(1));
+		assertEquals("SOME-NEW-TAG", combinedTags.get(2));
+		assertEquals(Arrays.asList("CC", "OSCAR-CM", "SOME-NEW-TAG"), posContainer.getCombinedTagsList());
+		assertTrue(registry.isGrammarTag(combinedTags.getId(1)));
+		assertFalse(registry.isGrammarTag(combinedTags.getId(2)));
+	}
+
+	@Test
+	public void testTagRegistry() {
+		TagRegistry registry = TagRegistry.getInstance();
+		assertEquals(TagRegistry.NIL, registry.getId("nil"));
+		assertEquals(TagRegistry.NULL, registry.getId(null));
+		assertNull(registry.getTag(TagRegistry.NULL));
+		assertEquals(1, registry.getId("NNP-LABEL"));
+		assertEquals("NNP-LABEL", registry.getTag(1));
+		int id = registry.getId("ANOTHER-NEW-TAG");
+		assertEquals(id, registry.getId("ANOTHER-NEW-TAG"));
+		assertEquals("ANOTHER-NEW-TAG", registry.getTag(id));
+		assertTrue(id < registry.size());
+	}
+
+	@Test
+	public void testTagList() {
+		TagList tagList = TagList.createNilTagList(2);
+		assertEquals(Arrays.asList("nil", "nil"), tagList);
+		tagList.set(1, "NN");
+		tagList.add("CD");
+		tagList.add(0, "DT");
+		assertEquals(Arrays.asList("DT", "nil", "NN", "CD"), tagList);
+		assertEquals("nil", tagList.remove(1));
+		assertEquals(Arrays.asList("DT", "NN", "CD"), tagList);
+		tagList.setId(2, TagRegistry.NIL);
+		assertEquals("nil", tagList.get(2));
+		assertEquals(3, tagList.toIdArray().length);
+	}
 }
@@ -0,0 +1,116 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import nu.xom.Attribute;
+import nu.xom.Builder;
+import nu.xom.Element;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class PhraseNodeTest {
+
+	private static final String XML = "<Sentence><NounPhrase><MOLECULE role=\"Solvent\"><OSCARCM><OSCAR-CM>ethanol</OSCAR-CM></OSCARCM></MOLECULE></NounPhrase>" +
+			"<VerbPhrase><VBD>was</VBD><VB-STIR>stirred</VB-STIR></VerbPhrase><STOP>.</STOP></Sentence>";
+
+	@Test
+	public void testXMLRoundTrip() throws Exception {
+		Element sentence = new Builder().build(XML, null).getRootElement();
+		PhraseNode root = PhraseNode.fromXML(sentence);
+		Assert.assertEquals(sentence.toXML(), root.toXML().toXML());
+		Assert.assertEquals("Sentence", root.getName());
+		Assert.assertEquals(0, root.getStart());
+		Assert.assertEquals(4, root.getEnd());
+		Assert.assertEquals("ethanolwasstirred.", root.getValue());
+
+		PhraseNode verbPhrase = root.getChild(1);
+		Assert.assertEquals(1, verbPhrase.getStart());
+		Assert.assertEquals(3, verbPhrase.getEnd());
+		Assert.assertTrue(verbPhrase.getChild(1).isTerminal());
+		Assert.assertEquals(2, verbPhrase.getChild(1).getToken());
+		Assert.assertEquals("stirred", verbPhrase.getChild(1).getText());
+
+		TagRegistry registry = TagRegistry.getInstance();
+		Assert.assertEquals(1, root.getDescendants(registry.getId("OSCAR-CM")).size());
+		Assert.assertTrue(root.hasDescendant(registry.getId("MOLECULE")));
+		Assert.assertFalse(verbPhrase.hasDescendant(registry.getId("MOLECULE")));
+		Assert.assertEquals("Solvent", root.getFirstDescendant(registry.getId("MOLECULE")).getAttributeValue("role"));
+	}
+
+	@Test
+	public void testMovingNodes() throws Exception {
+		PhraseNode root = PhraseNode.fromXML(new Builder().build(XML, null).getRootElement());
+		PhraseNode nounPhrase = root.getChild(0);
+		PhraseNode actionPhrase = new PhraseNode("ActionPhrase");
+		actionPhrase.appendChild(nounPhrase);
+		Assert.assertSame(actionPhrase, nounPhrase.getParent());
+		Assert.assertEquals(2, root.getChildCount());
+		Assert.assertEquals(-1, root.indexOf(nounPhrase));
+
+		PhraseNode[] children = root.removeChildren();
+		Assert.assertEquals(2, children.length);
+		Assert.assertEquals(0, root.getChildCount());
+		Assert.assertNull(children[0].getParent());
+		Assert.assertEquals(PhraseNode.NO_TOKEN, root.getStart());
+	}
+
+	@Test
+	public void testAddAttributeReplacesLikeXOM() {
+		PhraseNode node = new PhraseNode("ActionPhrase");
+		node.addAttribute("type", "Stir");
+		node.addAttribute("role", "Solvent");
+		node.addAttribute("type", "Dissolve");
+		Element element = new Element("ActionPhrase");
+		element.addAttribute(new Attribute("type", "Stir"));
+		element.addAttribute(new Attribute("role", "Solvent"));
+		element.addAttribute(new Attribute("type", "Dissolve"));
+		Assert.assertEquals(element.toXML(), node.toXML().toXML());
+		Assert.assertEquals(2, node.getAttributeCount());
+	}
+
+	@Test(expected = RuntimeException.class)
+	public void testTerminalsHaveNoChildren() {
+		PhraseNode terminal = new PhraseNode(TagRegistry.getInstance().getId("NN"), 0, "flask");
+		terminal.appendChild(new PhraseNode("NounPhrase"));
+	}
+
+	@Test
+	public void testUnknownNamesAreNotRegistered() throws Exception {
+		TagRegistry registry = TagRegistry.getInstance();
+		String xml = "<Document><ExternalWrapper kind=\"x\"><ExternalTerminal>word</ExternalTerminal><NN>flask</NN></ExternalWrapper></Document>";
+		Element document = new Builder().build(xml, null).getRootElement();
+		//registers the names these classes use themselves
+		new PostProcessTrees();
+		ReactionResult.fromPhraseTree(new PhraseNode("Document"));
+		int size = registry.size();
+		PhraseNode root = PhraseNode.fromXML(document);
+		Assert.assertEquals(size, registry.size());
+		Assert.assertEquals(TagRegistry.NULL, registry.lookupId("ExternalWrapper"));
+
+		PhraseNode wrapper = root.getChild(0);
+		Assert.assertEquals(TagRegistry.NULL, wrapper.getKind());
+		Assert.assertEquals("ExternalWrapper", wrapper.getName());
+		Assert.assertEquals("externalwrapper", wrapper.getLowerCaseName());
+		Assert.assertEquals("ExternalTerminal", wrapper.getChild(0).getName());
+		Assert.assertEquals(registry.getId("NN"), wrapper.getChild(1).getKind());
+		Assert.assertEquals(document.toXML(), root.toXML().toXML());
+
+		new PostProcessTrees().process(new nu.xom.Document((Element) document.copy()));
+		ReactionResult.fromDocument(new nu.xom.Document((Element) document.copy()));
+		Assert.assertEquals(size, registry.size());
+	}
+}
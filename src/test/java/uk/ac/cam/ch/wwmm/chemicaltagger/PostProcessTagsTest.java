@@ -382,6 +382,28 @@ public class PostProcessTagsTest {
         Assert.assertEquals("OSCAR-CM ethanol VB-USE using OSCAR-CM palladium", posContainer.getTokenTagTupleAsString());
     }
 	
+	@Test
+	public void testIgnoredTagsAreNotCreated() {
+        POSContainer posContainer = new POSContainer();
+        List<String> tags = Arrays.asList("DT-THE", "VB-YIELD", "NN-CHEMENTITY");
+        List<Token> tokens = toTokens("The", "yielded", "product");
+        posContainer.setCombinedTagsList(tags);
+        posContainer.setWordTokenList(tokens);
+        new PostProcessTags(posContainer).correctCombinedTagsList(Arrays.asList("JJ-CHEM"));
+        Assert.assertEquals("DT-THE The VB-YIELD yielded NN-CHEMENTITY product", posContainer.getTokenTagTupleAsString());
+	}
+
+	@Test
+	public void testNeighbouringTagsAreComparedIgnoringCase() {
+        POSContainer posContainer = new POSContainer();
+        List<String> tags = Arrays.asList("dt-the", "VB-YIELD", "nn-chementity");
+        List<Token> tokens = toTokens("The", "yielded", "product");
+        posContainer.setCombinedTagsList(tags);
+        posContainer.setWordTokenList(tokens);
+        new PostProcessTags(posContainer).correctCombinedTagsList();
+        Assert.assertEquals("dt-the The JJ-CHEM yielded nn-chementity product", posContainer.getTokenTagTupleAsString());
+	}
+
 	private List<Token> toTokens(String... tokenSurfaces){
 		List<Token> tokens = new ArrayList<Token>();
 		int pos = 0;
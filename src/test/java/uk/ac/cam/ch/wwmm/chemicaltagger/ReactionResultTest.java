@@ -0,0 +1,88 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.List;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ReactionResultTest {
+
+	private static final String TEXT = "To a solution of benzaldehyde (2.0 g, 18.8 mmol) in dry THF (20 mL) was added sodium hydride (0.5 g). " +
+			"The mixture was stirred at room temperature for 2 h. The product was obtained as a white solid (1.5 g, 75% yield).";
+
+	@Test
+	public void testActionPhrasesAndMolecules() {
+		ReactionResult result = Utils.runChemicalTaggerForReactions(TEXT);
+		List<ActionPhrase> actionPhrases = result.getActionPhrases();
+		Assert.assertEquals(4, actionPhrases.size());
+		Assert.assertEquals("Add", actionPhrases.get(0).getType());
+		Assert.assertEquals("sodium hydride", actionPhrases.get(0).getMolecules().get(0).getName());
+
+		ActionPhrase dissolve = actionPhrases.get(1);
+		Assert.assertEquals("Dissolve", dissolve.getType());
+		Assert.assertEquals(2, dissolve.getMolecules().size());
+		Molecule benzaldehyde = dissolve.getMolecules().get(0);
+		Assert.assertEquals("benzaldehyde", benzaldehyde.getName());
+		Assert.assertTrue(benzaldehyde.isNamed());
+		Assert.assertNull(benzaldehyde.getRole());
+		Quantity mass = benzaldehyde.getQuantity("MASS");
+		Assert.assertEquals("2.0", mass.getValue());
+		Assert.assertEquals(2.0, mass.getNumericValue(), 0);
+		Assert.assertEquals("g", mass.getUnit());
+		Assert.assertEquals("mmol", benzaldehyde.getQuantity("AMOUNT").getUnit());
+		Molecule thf = dissolve.getMolecules().get(1);
+		Assert.assertEquals("THF", thf.getName());
+		Assert.assertEquals("Solvent", thf.getRole());
+		Assert.assertEquals("20", thf.getQuantity("VOLUME").getValue());
+		Assert.assertEquals("mL", thf.getQuantity("VOLUME").getUnit());
+
+		ActionPhrase stir = actionPhrases.get(2);
+		Assert.assertEquals("Stir", stir.getType());
+		Assert.assertEquals(1, stir.getTempPhrases().size());
+		TempPhrase temperature = stir.getTempPhrases().get(0);
+		Assert.assertEquals("at room temperature", temperature.getText());
+		Assert.assertNull(temperature.getValue());
+		Assert.assertEquals("room temperature", temperature.getUnit());
+		TimePhrase time = stir.getTimePhrases().get(0);
+		Assert.assertEquals("2", time.getValue());
+		Assert.assertEquals("h", time.getUnit());
+
+		ActionPhrase yieldPhrase = actionPhrases.get(3);
+		Assert.assertEquals("Yield", yieldPhrase.getType());
+		Molecule product = yieldPhrase.getMolecules().get(0);
+		Assert.assertFalse(product.isNamed());
+		Assert.assertEquals("solid", product.getName());
+		Yield yield = product.getYield();
+		Assert.assertEquals("75", yield.getValue());
+		Assert.assertEquals("%", yield.getUnit());
+		Assert.assertEquals("1.5", product.getQuantity("MASS").getValue());
+
+		Assert.assertEquals(4, result.getMolecules().size());
+	}
+
+	@Test
+	public void testSameResultFromDocument() {
+		POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(TEXT);
+		ChemistrySentenceParser chemistrySentenceParser = new ChemistrySentenceParser(posContainer);
+		chemistrySentenceParser.parseTags();
+		ReactionResult fromDocument = ReactionResult.fromDocument(chemistrySentenceParser.makeXMLDocument());
+		ReactionResult fromTree = chemistrySentenceParser.makeReactionResult();
+		Assert.assertEquals(fromTree.getActionPhrases().toString(), fromDocument.getActionPhrases().toString());
+		Assert.assertEquals(fromTree.getMolecules().toString(), fromDocument.getMolecules().toString());
+	}
+}
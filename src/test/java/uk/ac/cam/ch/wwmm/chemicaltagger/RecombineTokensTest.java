@@ -255,4 +255,29 @@ public class RecombineTokensTest {
 		}
 		return sb.toString();
 	}
+
+	@Test
+	public void testRecombineChainedHyphensAndMolarUnits() {
+		POSContainer posContainer = makeContainer(new String[]{"tert", "-", "butyl", "-", "amine", "(", "2", "mmol", "/", "L", ")"},
+				new String[]{"NN", "DASH", "NN", "DASH", "NN", "-LRB-", "CD", "NN-AMOUNT", "DASH", "NN-VOL", "-RRB-"});
+		posContainer = RecombineTokens.recombineTokens(posContainer);
+		Assert.assertEquals("NN tert-butyl-amine -LRB- ( CD 2 NN-MOLAR mmol/L -RRB- )", posContainer.getTokenTagTupleAsString());
+		Token combined = posContainer.getWordTokenList().get(3);
+		Assert.assertEquals(3, combined.getIndex());
+		Assert.assertEquals(25, combined.getStart());
+		Assert.assertEquals(33, combined.getEnd());
+	}
+
+	private static POSContainer makeContainer(String[] surfaces, String[] tags) {
+		POSContainer posContainer = new POSContainer();
+		int start = 0;
+		for (int i = 0; i < surfaces.length; i++) {
+			Token token = new Token(surfaces[i], start, start + surfaces[i].length(), null, null, null);
+			token.setIndex(i);
+			posContainer.addToTokenList(token);
+			start += surfaces[i].length() + 1;
+		}
+		posContainer.setCombinedTagsList(Arrays.asList(tags));
+		return posContainer;
+	}
 }
@@ -17,7 +17,11 @@ package uk.ac.cam.ch.wwmm.chemicaltagger;
 
 import static uk.ac.cam.ch.wwmm.chemicaltagger.Utils.readSentence;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.regex.Pattern;
 
 import org.junit.Assert;
 import org.junit.Before;
@@ -57,6 +61,147 @@ public class RegexTaggerTest {
         Assert.assertEquals(ref, regexTaggedSentence);
     }
 
+	@Test
+	public void ruleIndexGivesSameTagsAsTryingEveryRule() {
+		List<String> sentences = new ArrayList<String>();
+		sentences.add(readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/regexTest/sentence1.txt"));
+		sentences.add(readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/regexTest/sentence2.txt"));
+		for (int i = 1; i <= 16; i++) {
+			sentences.add(readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph" + i + ".txt"));
+		}
+		sentences.add("\u212Aelvin \u00B0C \u00C5 -78 .5 (+)-camphor [2] 0.5M \u00BD- h hrs. mins ");
+		RegexTagger indexedTagger = new RegexTagger();
+		StringBuilder literalTokens = new StringBuilder();
+		for (Rule rule : indexedTagger.getRules()) {
+			Set<String> literals = RuleIndex.findLiterals(rule.getPattern());
+			if (literals != null) {
+				for (String literal : literals) {
+					literalTokens.append(literal).append(' ').append(literal.toUpperCase()).append(' ');
+					if (literal.length() > 1) {
+						literalTokens.append(literal).append("s ").append(literal.substring(1)).append(' ');
+					}
+				}
+			}
+		}
+		sentences.add(literalTokens.toString());
+		RegexTagger linearTagger = new RegexTagger();
+		linearTagger.setUseRuleIndex(false);
+		linearTagger.setTagCacheSize(0);
+		for (String sentence : sentences) {
+			List<Token> tokens = new WhiteSpaceTokeniser().tokenise(sentence);
+			Assert.assertEquals(linearTagger.runTagger(tokens, sentence), indexedTagger.runTagger(tokens, sentence));
+		}
+	}
+
+	@Test
+	public void ruleIndexFirstChars() {
+		Set<Character> firstChars = RuleIndex.findFirstChars(Pattern.compile("^(in|at)$", Pattern.CASE_INSENSITIVE));
+		Assert.assertEquals(4, firstChars.size());
+		Assert.assertTrue(firstChars.containsAll(Arrays.asList('i', 'I', 'a', 'A')));
+		Assert.assertEquals(11, RuleIndex.findFirstChars(Pattern.compile("^-?\\d+")).size());
+		Assert.assertEquals(1, RuleIndex.findFirstChars(Pattern.compile("^(?-i:M)$")).size());
+		Assert.assertNull(RuleIndex.findFirstChars(Pattern.compile("(re)?.*ly$")));
+		Assert.assertEquals(10, RuleIndex.findFirstChars(Pattern.compile("[0-9]+")).size());
+	}
+
+	@Test
+	public void ruleIndexLiterals() {
+		Set<String> literals = RuleIndex.findLiterals(Pattern.compile("^(re)?filled?$", Pattern.CASE_INSENSITIVE));
+		Assert.assertEquals(4, literals.size());
+		Assert.assertTrue(literals.containsAll(Arrays.asList("filled", "fille", "refilled", "refille")));
+		Assert.assertNull(RuleIndex.findLiterals(Pattern.compile("^(?-i:h)$", Pattern.CASE_INSENSITIVE)));
+		Assert.assertNull(RuleIndex.findLiterals(Pattern.compile("^using", Pattern.CASE_INSENSITIVE)));
+		Assert.assertNull(RuleIndex.findLiterals(Pattern.compile("^in$")));
+		Assert.assertEquals("in", RuleIndex.asciiLowerCase("In"));
+		Assert.assertEquals("\u212Aelvin", RuleIndex.asciiLowerCase("\u212AELVIN"));
+	}
+
+	@Test
+	public void tagCache() {
+		RegexTagger tagger = new RegexTagger();
+		String sentence = readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/regexTest/sentence1.txt");
+		List<Token> tokens = new WhiteSpaceTokeniser().tokenise(sentence);
+		List<String> firstTags = tagger.runTagger(tokens, sentence);
+		long misses = tagger.getTagCacheMisses();
+		Assert.assertEquals(tokens.size(), tagger.getTagCacheHits() + misses);
+		Assert.assertEquals(firstTags, tagger.runTagger(tokens, sentence));
+		Assert.assertEquals(misses, tagger.getTagCacheMisses());
+		Assert.assertEquals(2 * tokens.size() - misses, tagger.getTagCacheHits());
+
+		tagger.setRules(new ArrayList<Rule>());
+		for (String tag : tagger.runTagger(tokens, sentence)) {
+			Assert.assertEquals("nil", tag);
+		}
+	}
+
+	@Test
+	public void tagCacheEvictsLeastRecentlyUsed() {
+		LRUCache<String, String> cache = new LRUCache<String, String>(2);
+		cache.put("a", "A");
+		cache.put("b", "B");
+		cache.get("a");
+		cache.put("c", "C");
+		Assert.assertEquals(2, cache.size());
+		Assert.assertEquals("A", cache.get("a"));
+		Assert.assertNull(cache.get("b"));
+		Assert.assertEquals(2, cache.getHits());
+		Assert.assertEquals(1, cache.getMisses());
+	}
+
+	@Test
+	public void tagCacheStaysWithinCapacityFromManyThreads() throws Exception {
+		final LRUCache<String, String> cache = new LRUCache<String, String>(100);
+		cache.put("kept", "KEPT");
+		Thread[] threads = new Thread[4];
+		for (int t = 0; t < threads.length; t++) {
+			final int offset = t * 1000;
+			threads[t] = new Thread() {
+				public void run() {
+					for (int i = 0; i < 1000; i++) {
+						cache.put(Integer.toString(offset + i), "V");
+						cache.get("kept");
+					}
+				}
+			};
+			threads[t].start();
+		}
+		for (Thread thread : threads) {
+			thread.join();
+		}
+		Assert.assertTrue(cache.size() <= cache.getCapacity());
+		Assert.assertEquals("KEPT", cache.get("kept"));
+		cache.clear();
+		Assert.assertEquals(0, cache.size());
+	}
+
+	@Test
+	public void ruleIndexFollowsSetRules() {
+		RegexTagger tagger = new RegexTagger();
+		List<Rule> rules = new ArrayList<Rule>();
+		rules.add(new Rule("TEST", "^zz"));
+		tagger.setRules(rules);
+		List<Token> tokens = new WhiteSpaceTokeniser().tokenise("zzz in");
+		Assert.assertEquals(Arrays.asList("TEST", "nil"), tagger.runTagger(tokens, "zzz in"));
+	}
+
+	@Test
+	public void indexAndTagCacheFollowRulesChangedInPlace() {
+		RegexTagger tagger = new RegexTagger();
+		List<Rule> rules = new ArrayList<Rule>();
+		rules.add(new Rule("TEST", "^zz"));
+		tagger.setRules(rules);
+		List<Token> tokens = new WhiteSpaceTokeniser().tokenise("zzz in");
+		Assert.assertEquals(Arrays.asList("TEST", "nil"), tagger.runTagger(tokens, "zzz in"));
+
+		tagger.getRules().add(new Rule("IN", "^in$"));
+		Assert.assertEquals(Arrays.asList("TEST", "IN"), tagger.runTagger(tokens, "zzz in"));
+		tagger.getRules().set(0, new Rule("OTHER", "^zzz$"));
+		Assert.assertEquals(Arrays.asList("OTHER", "IN"), tagger.runTagger(tokens, "zzz in"));
+		tagger.setUseRuleIndex(false);
+		tagger.getRules().remove(1);
+		Assert.assertEquals(Arrays.asList("OTHER", "nil"), tagger.runTagger(tokens, "zzz in"));
+	}
+
 	private String regexTag(String sentence) {
 		List<Token> tokens = new WhiteSpaceTokeniser().tokenise(sentence);
         List<String> regexTagList = regexTagger.runTagger(tokens, sentence);
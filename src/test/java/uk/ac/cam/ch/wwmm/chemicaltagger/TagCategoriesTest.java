@@ -0,0 +1,84 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import uk.ac.cam.ch.wwmm.chemicaltagger.TagCategories.Category;
+
+public class TagCategoriesTest {
+
+	private static final TagRegistry REGISTRY = TagRegistry.getInstance();
+
+	@Test
+	public void testGrammarTags() {
+		Assert.assertTrue(TagCategories.isQuantityUnit(REGISTRY.getId("NN-VOL")));
+		Assert.assertTrue(TagCategories.isQuantityUnit(REGISTRY.getId("NN-MASS")));
+		Assert.assertFalse(TagCategories.isQuantityUnit(REGISTRY.getId("NN-TEMP")));
+		Assert.assertTrue(TagCategories.isVerbAction(REGISTRY.getId("VB-STIR")));
+		Assert.assertFalse(TagCategories.isVerbAction(REGISTRY.getId("VBD")));
+		Assert.assertTrue(TagCategories.isClauseSeparator(REGISTRY.getId("COMMA")));
+		Assert.assertFalse(TagCategories.isClauseSeparator(REGISTRY.getId("DASH")));
+		Assert.assertFalse(TagCategories.isClauseSeparator(TagRegistry.NULL));
+		Assert.assertFalse(TagCategories.isClauseSeparator(TagRegistry.NIL));
+	}
+
+	@Test
+	public void testTagsRegisteredLater() {
+		Category category = TagCategories.of("xx-categorytest");
+		Category prefixCategory = TagCategories.withPrefix("xx-");
+		int id = REGISTRY.getId("XX-CATEGORYTEST");
+		int otherId = REGISTRY.getId("XX-OTHERCATEGORYTEST");
+		Assert.assertTrue(category.contains(id));
+		Assert.assertFalse(category.contains(otherId));
+		Assert.assertTrue(prefixCategory.contains(otherId));
+		Assert.assertTrue(category.contains("xx-categorytest"));
+		Assert.assertFalse(category.contains(REGISTRY.getId("NN")));
+	}
+
+	@Test
+	public void testNamedCategoriesAreInGrammarVocabulary() {
+		Set<String> grammarTags = new HashSet<String>();
+		for (int id = 0; id < REGISTRY.size(); id++) {
+			if (REGISTRY.isGrammarTag(id)) {
+				grammarTags.add(REGISTRY.getLowerCaseTag(id));
+			}
+		}
+		for (Category category : new Category[]{TagCategories.QUANTITY_UNITS, TagCategories.CLAUSE_SEPARATORS}) {
+			for (String tag : category.getLowerCaseTags()) {
+				Assert.assertTrue(tag + " is not a tag of the grammar", grammarTags.contains(tag));
+			}
+		}
+		boolean hasActionVerb = false;
+		for (String tag : grammarTags) {
+			hasActionVerb |= tag.startsWith("vb-");
+		}
+		Assert.assertTrue(hasActionVerb);
+	}
+
+	@Test
+	public void testUnknownTagsAreNotRegistered() {
+		int size = REGISTRY.size();
+		Assert.assertTrue(TagCategories.ACTION_VERBS.contains("VB-NEVERSEENBEFORE"));
+		Assert.assertFalse(TagCategories.CLAUSE_SEPARATORS.contains("NEVERSEENBEFORE"));
+		Assert.assertTrue(TagCategories.CLAUSE_SEPARATORS.contains("Comma"));
+		Assert.assertEquals(size, REGISTRY.size());
+	}
+}
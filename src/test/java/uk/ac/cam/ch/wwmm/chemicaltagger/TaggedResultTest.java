@@ -0,0 +1,200 @@
+/**
+ * Copyright 2012 Lezan Hawizy, David M. Jessop, Daniel Lowe and Peter Murray-Rust
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package uk.ac.cam.ch.wwmm.chemicaltagger;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import nu.xom.Attribute;
+import nu.xom.Document;
+import nu.xom.Element;
+
+import org.junit.Assert;
+import org.junit.Test;
+
+import uk.ac.cam.ch.wwmm.oscar.document.Token;
+
+public class TaggedResultTest {
+
+	@Test
+	public void testBinaryAndJsonLinesRoundTrip() throws Exception {
+		List<TaggedResult> expected = new ArrayList<TaggedResult>();
+		for (int i = 1; i <= 16; i++) {
+			String paragraph = Utils.readSentence("uk/ac/cam/ch/wwmm/chemicaltagger/fullParseTest/paragraph" + i + ".txt");
+			POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(paragraph);
+			ChemistrySentenceParser chemChunkParser = new ChemistrySentenceParser(posContainer);
+			chemChunkParser.parseTags();
+			expected.add(new DocumentTaggedResult(posContainer, chemChunkParser.makeXMLDocument()));
+		}
+		checkRoundTrip(expected);
+	}
+
+	@Test
+	public void testRoundTripOfStringsThatNeedEscaping() throws Exception {
+		String[] surfaces = {"\"quoted\"", "back\\slash", "tab\tand\nnewline", "°C", "Å", ""};
+		POSContainer posContainer = new POSContainer();
+		int start = 0;
+		for (String surface : surfaces) {
+			posContainer.addToTokenList(new Token(surface, start, start + surface.length(), null, null, null));
+			start += surface.length() + 1;
+		}
+		posContainer.setCombinedTagsList(Arrays.asList("NN", "NN", "NN", "NN-TEMP", null, "nil"));
+		Element root = new Element("Document");
+		Element sentence = new Element("Sentence");
+		sentence.addAttribute(new Attribute("unparsed", "a \"value\" with \\ and \t"));
+		root.appendChild(sentence);
+		Element nn = new Element("NN");
+		nn.appendChild("\"quoted\"");
+		sentence.appendChild(nn);
+		sentence.appendChild(new Element("NN"));
+
+		TaggedResult result = new DocumentTaggedResult(posContainer, new Document(root));
+		Assert.assertEquals(6, result.getTokenCount());
+		Assert.assertNull(result.getTokenTag(4));
+		Assert.assertEquals(4, result.getNodeCount());
+		Assert.assertEquals(1, result.getNodeParent(2));
+		Assert.assertNull(result.getNodeText(1));
+		Assert.assertNull(result.getNodeText(3));
+		checkRoundTrip(Arrays.asList(result));
+	}
+
+	@Test
+	public void testTruncatedBinaryRecordThrowsIOException() throws Exception {
+		POSContainer posContainer = new POSContainer();
+		posContainer.addToTokenList(new Token("acid", 0, 4, null, null, null));
+		posContainer.setCombinedTagsList(Arrays.asList("NN"));
+		Element root = new Element("Document");
+		root.appendChild(new Element("NN"));
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		BinaryTaggedResultWriter writer = new BinaryTaggedResultWriter(bytes);
+		writer.write(new DocumentTaggedResult(posContainer, new Document(root)));
+		writer.flush();
+		byte[] record = bytes.toByteArray();
+
+		for (int remaining = 1; remaining <= 3; remaining++) {
+			//a whole record then part of the next one's length
+			byte[] truncated = Arrays.copyOf(record, record.length + remaining);
+			ByteBuffer buffer = ByteBuffer.wrap(truncated);
+			Assert.assertEquals(1, BinaryTaggedResult.read(buffer).getTokenCount());
+			assertTruncated(buffer);
+		}
+		assertTruncated(ByteBuffer.wrap(Arrays.copyOf(record, record.length - 1)));
+
+		//a record whose length is right but whose sections run past its end
+		ByteBuffer corrupt = ByteBuffer.wrap(record.clone());
+		corrupt.putInt(8, Integer.MAX_VALUE);
+		assertTruncated(corrupt);
+		ByteBuffer shortRecord = ByteBuffer.wrap(Arrays.copyOf(record, 16));
+		shortRecord.putInt(0, 12);
+		assertTruncated(shortRecord);
+	}
+
+	@Test
+	public void testActionPhrasesAndRolesAreKept() throws Exception {
+		String sentence = "The acid (2 g) was dissolved in ethanol (10 mL) and the mixture was stirred.";
+		POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(sentence);
+		ChemistrySentenceParser chemChunkParser = new ChemistrySentenceParser(posContainer);
+		chemChunkParser.parseTags();
+		TaggedResult result = new DocumentTaggedResult(posContainer, chemChunkParser.makeXMLDocument());
+		StringWriter out = new StringWriter();
+		new JsonLinesTaggedResultWriter(out).write(result);
+		TaggedResult read = new JsonLinesTaggedResult(out.toString());
+		List<String> actionPhraseTypes = new ArrayList<String>();
+		boolean hasRole = false;
+		for (int i = 0; i < read.getNodeCount(); i++) {
+			for (int j = 0; j < read.getNodeAttributeCount(i); j++) {
+				if ("ActionPhrase".equals(read.getNodeName(i)) && "type".equals(read.getNodeAttributeName(i, j))) {
+					actionPhraseTypes.add(read.getNodeAttributeValue(i, j));
+				}
+				if ("MOLECULE".equals(read.getNodeName(i)) && "role".equals(read.getNodeAttributeName(i, j))) {
+					hasRole = true;
+				}
+			}
+		}
+		Assert.assertEquals(Arrays.asList("Dissolve", "Stir"), actionPhraseTypes);
+		Assert.assertTrue(hasRole);
+		Assert.assertEquals(posContainer.getWordTokenList().get(1).getEnd(), read.getTokenEnd(1));
+	}
+
+	@Test
+	public void testPhraseTreeGivesSameResultAsDocument() throws Exception {
+		String sentence = "The acid (2 g) was dissolved in ethanol (10 mL) and the mixture was stirred.";
+		POSContainer posContainer = ChemistryPOSTagger.getDefaultInstance().runTaggers(sentence);
+		ChemistrySentenceParser chemChunkParser = new ChemistrySentenceParser(posContainer);
+		chemChunkParser.parseTags();
+		TaggedResult expected = new DocumentTaggedResult(posContainer, chemChunkParser.makeXMLDocument());
+		assertSameResult(expected, new DocumentTaggedResult(posContainer, chemChunkParser.getPhraseTree(true)));
+	}
+
+	private void checkRoundTrip(List<TaggedResult> expected) throws Exception {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		BinaryTaggedResultWriter binaryWriter = new BinaryTaggedResultWriter(bytes);
+		StringWriter lines = new StringWriter();
+		JsonLinesTaggedResultWriter jsonLinesWriter = new JsonLinesTaggedResultWriter(lines);
+		for (TaggedResult result : expected) {
+			binaryWriter.write(result);
+			jsonLinesWriter.write(result);
+		}
+		binaryWriter.flush();
+		jsonLinesWriter.flush();
+
+		ByteBuffer buffer = ByteBuffer.wrap(bytes.toByteArray());
+		BufferedReader reader = new BufferedReader(new StringReader(lines.toString()));
+		for (TaggedResult result : expected) {
+			assertSameResult(result, BinaryTaggedResult.read(buffer));
+			assertSameResult(result, JsonLinesTaggedResult.read(reader));
+		}
+		Assert.assertNull(BinaryTaggedResult.read(buffer));
+		Assert.assertNull(JsonLinesTaggedResult.read(reader));
+	}
+
+	private void assertTruncated(ByteBuffer buffer) {
+		try {
+			BinaryTaggedResult.read(buffer);
+			Assert.fail("Expected an IOException for a truncated record");
+		} catch (IOException e) {
+			Assert.assertTrue(e.getMessage().contains("truncated"));
+		}
+	}
+
+	private void assertSameResult(TaggedResult expected, TaggedResult actual) {
+		Assert.assertEquals(expected.getTokenCount(), actual.getTokenCount());
+		for (int i = 0; i < expected.getTokenCount(); i++) {
+			Assert.assertEquals(expected.getTokenSurface(i), actual.getTokenSurface(i));
+			Assert.assertEquals(expected.getTokenStart(i), actual.getTokenStart(i));
+			Assert.assertEquals(expected.getTokenEnd(i), actual.getTokenEnd(i));
+			Assert.assertEquals(expected.getTokenTag(i), actual.getTokenTag(i));
+		}
+		Assert.assertEquals(expected.getNodeCount(), actual.getNodeCount());
+		for (int i = 0; i < expected.getNodeCount(); i++) {
+			Assert.assertEquals(expected.getNodeName(i), actual.getNodeName(i));
+			Assert.assertEquals(expected.getNodeParent(i), actual.getNodeParent(i));
+			Assert.assertEquals(expected.getNodeText(i), actual.getNodeText(i));
+			Assert.assertEquals(expected.getNodeAttributeCount(i), actual.getNodeAttributeCount(i));
+			for (int j = 0; j < expected.getNodeAttributeCount(i); j++) {
+				Assert.assertEquals(expected.getNodeAttributeName(i, j), actual.getNodeAttributeName(i, j));
+				Assert.assertEquals(expected.getNodeAttributeValue(i, j), actual.getNodeAttributeValue(i, j));
+			}
+		}
+	}
+}